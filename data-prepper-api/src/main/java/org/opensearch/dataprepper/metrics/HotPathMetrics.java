@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.metrics;
+
+import io.micrometer.core.instrument.Counter;
+
+/**
+ * Creates the counters and timers which buffers, processors and sinks update on every call, according to the
+ * {@link MetricsMode} of their {@link PluginMetrics}.
+ *
+ * @since 2.2
+ */
+public final class HotPathMetrics {
+    static final int LOW_OVERHEAD_SAMPLING_INTERVAL = 16;
+
+    private HotPathMetrics() {
+    }
+
+    /**
+     * Creates a counter, which is striped in {@link MetricsMode#LOW_OVERHEAD} mode.
+     *
+     * @param pluginMetrics the {@link PluginMetrics} of the component
+     * @param name the name of the counter
+     * @return the {@link Counter}
+     */
+    public static Counter counter(final PluginMetrics pluginMetrics, final String name) {
+        if (pluginMetrics.getMetricsMode() == MetricsMode.LOW_OVERHEAD) {
+            return new StripedCounter(pluginMetrics.getMeterName(name));
+        }
+        return pluginMetrics.counter(name);
+    }
+
+    /**
+     * Creates a timer, which times only a sample of the calls in {@link MetricsMode#LOW_OVERHEAD} mode.
+     *
+     * @param pluginMetrics the {@link PluginMetrics} of the component
+     * @param name the name of the timer
+     * @return the {@link SampledTimer}
+     */
+    public static SampledTimer timer(final PluginMetrics pluginMetrics, final String name) {
+        if (pluginMetrics.getMetricsMode() == MetricsMode.LOW_OVERHEAD) {
+            return new StripedSampledTimer(pluginMetrics.getMeterName(name), LOW_OVERHEAD_SAMPLING_INTERVAL);
+        }
+        return new StandardSampledTimer(pluginMetrics.timer(name));
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.metrics;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * How the counters and timers on the hot paths of buffers, processors and sinks are recorded.
+ *
+ * @since 2.2
+ */
+public enum MetricsMode {
+    /**
+     * Records every call with Micrometer counters and timers.
+     */
+    STANDARD("standard"),
+
+    /**
+     * Accumulates counts in striped adders which the registries read when they publish, and times a sample of
+     * the calls.
+     */
+    LOW_OVERHEAD("low_overhead");
+
+    private static final Map<String, MetricsMode> MODES_MAP = Arrays.stream(MetricsMode.values())
+            .collect(Collectors.toMap(
+                    value -> value.name,
+                    value -> value
+            ));
+
+    private final String name;
+
+    MetricsMode(final String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    @JsonCreator
+    static MetricsMode fromOptionValue(final String option) {
+        final MetricsMode metricsMode = MODES_MAP.get(option.toLowerCase());
+        if (metricsMode == null) {
+            throw new IllegalArgumentException("Unknown metrics mode: " + option);
+        }
+        return metricsMode;
+    }
+}
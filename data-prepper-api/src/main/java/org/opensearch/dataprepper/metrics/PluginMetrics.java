@@ -12,6 +12,7 @@ import java.util.function.ToDoubleFunction;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Timer;
 
 /**
@@ -21,12 +22,14 @@ import io.micrometer.core.instrument.Timer;
 public class PluginMetrics {
 
     private final String metricsPrefix;
+    private final MetricsMode metricsMode;
 
     public static PluginMetrics fromPluginSetting(final PluginSetting pluginSetting) {
         if(pluginSetting.getPipelineName() == null) {
             throw new IllegalArgumentException("PluginSetting.pipelineName must not be null");
         }
-        return PluginMetrics.fromNames(pluginSetting.getName(), pluginSetting.getPipelineName());
+        return new PluginMetrics(getMetricsPrefix(pluginSetting.getName(), pluginSetting.getPipelineName()),
+                pluginSetting.getMetricsMode());
     }
 
     /**
@@ -37,13 +40,42 @@ public class PluginMetrics {
      * @return The {@link PluginMetrics}
      */
     public static PluginMetrics fromNames(final String componentId, final String componentScope) {
-        return new PluginMetrics(new StringJoiner(MetricNames.DELIMITER)
+        return fromNames(componentId, componentScope, MetricsMode.STANDARD);
+    }
+
+    /**
+     * Provides reference to APIs that register timer, counter, gauge into global registry, with the counters and
+     * timers of {@link HotPathMetrics} recorded according to the given mode.
+     *
+     * @param componentId It can be either pluginId or Data Prepper core component id
+     * @param componentScope It can be pipeline name or Data Prepper core component
+     * @param metricsMode how the counters and timers of {@link HotPathMetrics} are recorded
+     * @return The {@link PluginMetrics}
+     * @since 2.2
+     */
+    public static PluginMetrics fromNames(final String componentId, final String componentScope, final MetricsMode metricsMode) {
+        return new PluginMetrics(getMetricsPrefix(componentId, componentScope), metricsMode);
+    }
+
+    private static String getMetricsPrefix(final String componentId, final String componentScope) {
+        return new StringJoiner(MetricNames.DELIMITER)
                 .add(componentScope)
-                .add(componentId).toString());
+                .add(componentId).toString();
     }
 
-    private  PluginMetrics(final String metricsPrefix) {
+    private  PluginMetrics(final String metricsPrefix, final MetricsMode metricsMode) {
         this.metricsPrefix = metricsPrefix;
+        this.metricsMode = metricsMode;
+    }
+
+    /**
+     * Returns how the counters and timers which {@link HotPathMetrics} creates for the component are recorded.
+     *
+     * @return the {@link MetricsMode}
+     * @since 2.2
+     */
+    public MetricsMode getMetricsMode() {
+        return metricsMode;
     }
 
     public Counter counter(final String name) {
@@ -66,6 +98,19 @@ public class PluginMetrics {
         return Metrics.timer(getMeterName(name), tags);
     }
 
+    /**
+     * Registers a timer which also publishes a percentile histogram, for latencies whose distribution matters.
+     *
+     * @param name the name of the timer
+     * @return the {@link Timer}
+     * @since 2.2
+     */
+    public Timer timerWithHistogram(final String name) {
+        return Timer.builder(getMeterName(name))
+                .publishPercentileHistogram()
+                .register(Metrics.globalRegistry);
+    }
+
     public DistributionSummary summary(final String name) {
         return Metrics.summary(getMeterName(name));
     }
@@ -78,7 +123,11 @@ public class PluginMetrics {
         return Metrics.gauge(getMeterName(name), obj, valueFunction);
     }
 
-    private String getMeterName(final String name) {
+    public <T> T gaugeWithTags(final String name, final Iterable<Tag> tags, final T obj, final ToDoubleFunction<T> valueFunction) {
+        return Metrics.gauge(getMeterName(name), tags, obj, valueFunction);
+    }
+
+    String getMeterName(final String name) {
         return new StringJoiner(MetricNames.DELIMITER).add(metricsPrefix).add(name).toString();
     }
 
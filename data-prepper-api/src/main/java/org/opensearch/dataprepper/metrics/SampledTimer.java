@@ -0,0 +1,69 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A timer for hot paths which may time only a sample of the calls, depending on the {@link MetricsMode}.
+ * Every call is counted, whether or not it is timed.
+ *
+ * @since 2.2
+ */
+public interface SampledTimer {
+    /**
+     * Starts a call.
+     *
+     * @return the start time to pass to {@link #stop(long)}
+     */
+    long start();
+
+    /**
+     * Stops a call, recording its duration if it was sampled.
+     *
+     * @param startTime the start time returned by {@link #start()}
+     */
+    void stop(long startTime);
+
+    /**
+     * Records a call of the given duration, which was measured by the caller.
+     *
+     * @param duration the duration of the call
+     * @param unit the unit of the duration
+     */
+    void record(long duration, TimeUnit unit);
+
+    /**
+     * Executes the supplier and records the call.
+     *
+     * @param supplier the supplier to time
+     * @param <T> the type of the result of the supplier
+     * @return the result of the supplier
+     */
+    default <T> T record(final Supplier<T> supplier) {
+        final long startTime = start();
+        try {
+            return supplier.get();
+        } finally {
+            stop(startTime);
+        }
+    }
+
+    /**
+     * Executes the runnable and records the call.
+     *
+     * @param runnable the runnable to time
+     */
+    default void record(final Runnable runnable) {
+        final long startTime = start();
+        try {
+            runnable.run();
+        } finally {
+            stop(startTime);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.metrics;
+
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link SampledTimer} which times every call with a Micrometer {@link Timer}.
+ */
+class StandardSampledTimer implements SampledTimer {
+    private final Timer timer;
+
+    StandardSampledTimer(final Timer timer) {
+        this.timer = timer;
+    }
+
+    @Override
+    public long start() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public void stop(final long startTime) {
+        timer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void record(final long duration, final TimeUnit unit) {
+        timer.record(duration, unit);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * A {@link Counter} which accumulates increments in a {@link DoubleAdder}, so that threads incrementing it do not
+ * contend. The registries read the adder when they publish, instead of every increment updating every registry.
+ * <p>
+ * All counters with the same meter name share one adder, as the registries publish only the first meter registered
+ * with a name, in the way that Micrometer counters with the same name are the same counter.
+ */
+class StripedCounter implements Counter {
+    private static final Map<String, DoubleAdder> ADDERS = new ConcurrentHashMap<>();
+
+    private final DoubleAdder adder;
+    private final FunctionCounter functionCounter;
+
+    StripedCounter(final String meterName) {
+        adder = ADDERS.computeIfAbsent(meterName, name -> new DoubleAdder());
+        functionCounter = FunctionCounter.builder(meterName, adder, DoubleAdder::sum)
+                .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public void increment(final double amount) {
+        adder.add(amount);
+    }
+
+    @Override
+    public double count() {
+        return adder.sum();
+    }
+
+    @Override
+    public Id getId() {
+        return functionCounter.getId();
+    }
+}
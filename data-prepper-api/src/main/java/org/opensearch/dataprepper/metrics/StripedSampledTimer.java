@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.metrics;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link SampledTimer} which counts every call in a {@link LongAdder} and times one in every
+ * {@code samplingInterval} calls. Sampled durations are scaled by the interval, so that the total time estimates
+ * the time of all calls. The registries read the adders when they publish.
+ * <p>
+ * All timers with the same meter name share their adders, as the registries publish only the first meter registered
+ * with a name.
+ */
+class StripedSampledTimer implements SampledTimer {
+    static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    private static final Map<String, Accumulator> ACCUMULATORS = new ConcurrentHashMap<>();
+
+    private final LongAdder count;
+    private final LongAdder totalTimeNanos;
+    private final int samplingInterval;
+
+    StripedSampledTimer(final String meterName, final int samplingInterval) {
+        if (samplingInterval < 1) {
+            throw new IllegalArgumentException("The sampling interval must be positive.");
+        }
+        this.samplingInterval = samplingInterval;
+        final Accumulator accumulator = ACCUMULATORS.computeIfAbsent(meterName, name -> new Accumulator());
+        count = accumulator.count;
+        totalTimeNanos = accumulator.totalTimeNanos;
+        FunctionTimer.builder(meterName, accumulator, a -> a.count.sum(),
+                        a -> a.totalTimeNanos.sum(), TimeUnit.NANOSECONDS)
+                .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public long start() {
+        if (ThreadLocalRandom.current().nextInt(samplingInterval) == 0) {
+            return System.nanoTime();
+        }
+        return NOT_SAMPLED;
+    }
+
+    @Override
+    public void stop(final long startTime) {
+        count.increment();
+        if (startTime != NOT_SAMPLED) {
+            totalTimeNanos.add((System.nanoTime() - startTime) * samplingInterval);
+        }
+    }
+
+    /**
+     * Records the call with its exact duration, since the caller measured it already.
+     */
+    @Override
+    public void record(final long duration, final TimeUnit unit) {
+        count.increment();
+        totalTimeNanos.add(unit.toNanos(duration));
+    }
+
+    long count() {
+        return count.sum();
+    }
+
+    double totalTimeNanos() {
+        return totalTimeNanos.sum();
+    }
+
+    private static class Accumulator {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalTimeNanos = new LongAdder();
+    }
+}
@@ -10,12 +10,27 @@ package org.opensearch.dataprepper.model;
  */
 public class CheckpointState {
     private final int numRecordsToBeChecked;
+    private final long numBytesToBeChecked;
 
     public CheckpointState(final int numRecordsToBeChecked) {
+        this(numRecordsToBeChecked, 0);
+    }
+
+    /**
+     * @param numRecordsToBeChecked the number of records to be checked
+     * @param numBytesToBeChecked   the estimated size in bytes of the records, for buffers which limit their capacity in bytes
+     * @since 2.2
+     */
+    public CheckpointState(final int numRecordsToBeChecked, final long numBytesToBeChecked) {
         this.numRecordsToBeChecked = numRecordsToBeChecked;
+        this.numBytesToBeChecked = numBytesToBeChecked;
     }
 
     public int getNumRecordsToBeChecked() {
         return numRecordsToBeChecked;
     }
+
+    public long getNumBytesToBeChecked() {
+        return numBytesToBeChecked;
+    }
 }
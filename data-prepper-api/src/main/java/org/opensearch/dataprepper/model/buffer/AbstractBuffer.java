@@ -6,18 +6,20 @@
 package org.opensearch.dataprepper.model.buffer;
 
 import io.micrometer.core.instrument.Counter;
-import io.micrometer.core.instrument.Timer;
+import org.opensearch.dataprepper.metrics.HotPathMetrics;
 import org.opensearch.dataprepper.metrics.MetricNames;
+import org.opensearch.dataprepper.metrics.MetricsMode;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.metrics.SampledTimer;
 import org.opensearch.dataprepper.model.CheckpointState;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
 
 import java.util.Collection;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Abstract implementation of the Buffer interface to record boilerplate metrics
@@ -26,35 +28,45 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
     protected final PluginMetrics pluginMetrics;
     private final Counter recordsWrittenCounter;
     private final Counter recordsReadCounter;
-    private final AtomicLong recordsInFlight;
-    private final AtomicLong recordsInBuffer;
+    private final LongAdder recordsInFlight;
+    private final LongAdder recordsInBuffer;
     private final Counter recordsProcessedCounter;
     private final Counter writeTimeoutCounter;
     private final Counter recordsWriteFailed;
-    private final Timer writeTimer;
-    private final Timer readTimer;
-    private final Timer checkpointTimer;
+    private final SampledTimer writeTimer;
+    private final SampledTimer readTimer;
+    private final SampledTimer checkpointTimer;
 
     public AbstractBuffer(final PluginSetting pluginSetting) {
         this(PluginMetrics.fromPluginSetting(pluginSetting), pluginSetting.getPipelineName());
     }
 
     public AbstractBuffer(final String bufferName, final String pipelineName) {
-        this(PluginMetrics.fromNames(bufferName, pipelineName), pipelineName);
+        this(bufferName, pipelineName, MetricsMode.STANDARD);
+    }
+
+    /**
+     * @param bufferName the name of the buffer in its metrics
+     * @param pipelineName the name of the pipeline
+     * @param metricsMode how the metrics which are updated on every call are recorded
+     * @since 2.2
+     */
+    public AbstractBuffer(final String bufferName, final String pipelineName, final MetricsMode metricsMode) {
+        this(PluginMetrics.fromNames(bufferName, pipelineName, metricsMode), pipelineName);
     }
 
     private AbstractBuffer(final PluginMetrics pluginMetrics, final String pipelineName) {
         this.pluginMetrics = pluginMetrics;
-        this.recordsWrittenCounter = pluginMetrics.counter(MetricNames.RECORDS_WRITTEN);
-        this.recordsReadCounter = pluginMetrics.counter(MetricNames.RECORDS_READ);
-        this.recordsInFlight = pluginMetrics.gauge(MetricNames.RECORDS_INFLIGHT, new AtomicLong());
-        this.recordsInBuffer = pluginMetrics.gauge(MetricNames.RECORDS_IN_BUFFER, new AtomicLong());
+        this.recordsWrittenCounter = HotPathMetrics.counter(pluginMetrics, MetricNames.RECORDS_WRITTEN);
+        this.recordsReadCounter = HotPathMetrics.counter(pluginMetrics, MetricNames.RECORDS_READ);
+        this.recordsInFlight = pluginMetrics.gauge(MetricNames.RECORDS_INFLIGHT, new LongAdder(), LongAdder::sum);
+        this.recordsInBuffer = pluginMetrics.gauge(MetricNames.RECORDS_IN_BUFFER, new LongAdder(), LongAdder::sum);
         this.recordsProcessedCounter = pluginMetrics.counter(MetricNames.RECORDS_PROCESSED, pipelineName);
         this.recordsWriteFailed = pluginMetrics.counter(MetricNames.RECORDS_WRITE_FAILED);
         this.writeTimeoutCounter = pluginMetrics.counter(MetricNames.WRITE_TIMEOUTS);
-        this.writeTimer = pluginMetrics.timer(MetricNames.WRITE_TIME_ELAPSED);
-        this.readTimer = pluginMetrics.timer(MetricNames.READ_TIME_ELAPSED);
-        this.checkpointTimer = pluginMetrics.timer(MetricNames.CHECKPOINT_TIME_ELAPSED);
+        this.writeTimer = HotPathMetrics.timer(pluginMetrics, MetricNames.WRITE_TIME_ELAPSED);
+        this.readTimer = HotPathMetrics.timer(pluginMetrics, MetricNames.READ_TIME_ELAPSED);
+        this.checkpointTimer = HotPathMetrics.timer(pluginMetrics, MetricNames.CHECKPOINT_TIME_ELAPSED);
     }
 
     /**
@@ -67,19 +79,20 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
      */
     @Override
     public void write(T record, int timeoutInMillis) throws TimeoutException {
-        long startTime = System.nanoTime();
+        final long startTime = writeTimer.start();
 
+        markWrittenToBuffer(record);
         try {
             doWrite(record, timeoutInMillis);
             recordsWrittenCounter.increment();
-            recordsInBuffer.incrementAndGet();
-            postProcess(recordsInBuffer.get());
+            recordsInBuffer.increment();
+            postProcess(recordsInBuffer.sum());
         } catch (TimeoutException e) {
             recordsWriteFailed.increment();
             writeTimeoutCounter.increment();
             throw e;
         } finally {
-            writeTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            writeTimer.stop(startTime);
         }
     }
 
@@ -93,14 +106,15 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
      */
     @Override
     public void writeAll(Collection<T> records, int timeoutInMillis) throws Exception {
-        long startTime = System.nanoTime();
+        final long startTime = writeTimer.start();
 
         final int size = records.size();
+        markWrittenToBuffer(records);
         try {
             doWriteAll(records, timeoutInMillis);
             recordsWrittenCounter.increment(size);
-            recordsInBuffer.addAndGet(size);
-            postProcess(recordsInBuffer.get());
+            recordsInBuffer.add(size);
+            postProcess(recordsInBuffer.sum());
         } catch (Exception e) {
             recordsWriteFailed.increment(size);
             if (e instanceof TimeoutException) {
@@ -108,7 +122,7 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
             }
             throw e;
         } finally {
-            writeTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            writeTimer.stop(startTime);
         }
     }
 
@@ -121,11 +135,27 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
      */
     @Override
     public Map.Entry<Collection<T>, CheckpointState> read(int timeoutInMillis) {
-        final Map.Entry<Collection<T>, CheckpointState> readResult = readTimer.record(() -> doRead(timeoutInMillis));
+        return recordRead(readTimer.record(() -> doRead(timeoutInMillis)));
+    }
+
+    /**
+     * Records egress and time elapsed metrics, while calling the doRead function to
+     * do the actual read of at most maxBatchSize records
+     *
+     * @param timeoutInMillis how long to wait before giving up
+     * @param maxBatchSize    the maximum number of records to read
+     * @return Records collection and checkpoint state read from the buffer
+     */
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> read(final int timeoutInMillis, final int maxBatchSize) {
+        return recordRead(readTimer.record(() -> doRead(timeoutInMillis, maxBatchSize)));
+    }
+
+    private Map.Entry<Collection<T>, CheckpointState> recordRead(final Map.Entry<Collection<T>, CheckpointState> readResult) {
         recordsReadCounter.increment(readResult.getKey().size() * 1.0);
-        recordsInFlight.addAndGet(readResult.getValue().getNumRecordsToBeChecked());
-        recordsInBuffer.addAndGet(-1 * readResult.getValue().getNumRecordsToBeChecked());
-        postProcess(recordsInBuffer.get());
+        recordsInFlight.add(readResult.getValue().getNumRecordsToBeChecked());
+        recordsInBuffer.add(-1 * readResult.getValue().getNumRecordsToBeChecked());
+        postProcess(recordsInBuffer.sum());
         return readResult;
     }
 
@@ -133,10 +163,39 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
     public void checkpoint(final CheckpointState checkpointState) {
         checkpointTimer.record(() -> doCheckpoint(checkpointState));
         final int numRecordsToBeChecked = checkpointState.getNumRecordsToBeChecked();
-        recordsInFlight.addAndGet(-numRecordsToBeChecked);
+        recordsInFlight.add(-numRecordsToBeChecked);
         recordsProcessedCounter.increment(numRecordsToBeChecked);
     }
 
+    /**
+     * Marks the time an event is written into the buffer, so that readers can measure how long it waited.
+     */
+    private static void markWrittenToBuffer(final Record<?> record) {
+        final Object data = record.getData();
+        if (data instanceof Event) {
+            ((Event) data).getMetadata().setTimeWrittenToBufferNanos(System.nanoTime());
+        }
+    }
+
+    /**
+     * Marks the time events are written into the buffer with a single read of the clock, which is only read if
+     * there are events to mark.
+     */
+    private static void markWrittenToBuffer(final Collection<? extends Record<?>> records) {
+        boolean isTimeRead = false;
+        long timeNanos = 0;
+        for (final Record<?> record : records) {
+            final Object data = record.getData();
+            if (data instanceof Event) {
+                if (!isTimeRead) {
+                    timeNanos = System.nanoTime();
+                    isTimeRead = true;
+                }
+                ((Event) data).getMetadata().setTimeWrittenToBufferNanos(timeNanos);
+            }
+        }
+    }
+
     protected int getRecordsInFlight() {
         return recordsInFlight.intValue();
     }
@@ -167,6 +226,18 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
      */
     public abstract Map.Entry<Collection<T>, CheckpointState> doRead(int timeoutInMillis);
 
+    /**
+     * This method should implement the logic for reading at most maxBatchSize records from the buffer. The default
+     * implementation ignores the batch size and reads the batch of {@link #doRead(int)}.
+     *
+     * @param timeoutInMillis Timeout in millis
+     * @param maxBatchSize    the maximum number of records to read
+     * @return Records collection and checkpoint state read from the buffer
+     */
+    public Map.Entry<Collection<T>, CheckpointState> doRead(final int timeoutInMillis, final int maxBatchSize) {
+        return doRead(timeoutInMillis);
+    }
+
     public abstract void doCheckpoint(CheckpointState checkpointState);
 
     public abstract boolean isEmpty();
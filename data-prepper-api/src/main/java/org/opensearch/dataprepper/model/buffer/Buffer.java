@@ -10,6 +10,7 @@ import org.opensearch.dataprepper.model.CheckpointState;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -45,6 +46,19 @@ public interface Buffer<T extends Record<?>> {
      */
     Map.Entry<Collection<T>, CheckpointState> read(int timeoutInMillis);
 
+    /**
+     * Retrieves and removes a batch of at most maxBatchSize records from the head of the queue, so that the batch size
+     * can be tuned while the pipeline runs. Buffers which do not support it read the batch of {@link #read(int)}.
+     *
+     * @param timeoutInMillis how long to wait before giving up
+     * @param maxBatchSize the maximum number of records to read
+     * @return The earliest batch of records in the buffer which are still not read and its corresponding checkpoint state.
+     * @since 2.2
+     */
+    default Map.Entry<Collection<T>, CheckpointState> read(int timeoutInMillis, int maxBatchSize) {
+        return read(timeoutInMillis);
+    }
+
     /**
      * Check summary of records processed by data-prepper downstreams(processors, sinks, pipelines).
      *
@@ -53,4 +67,14 @@ public interface Buffer<T extends Record<?>> {
     void checkpoint(CheckpointState checkpointState);
 
     boolean isEmpty();
+
+    /**
+     * Gets how full the buffer is.
+     *
+     * @return the fraction of the capacity of the buffer in use, from 0 to 1, or empty if the buffer does not know it
+     * @since 2.2
+     */
+    default Optional<Double> getFillRatio() {
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.buffer;
+
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Limits the capacity of a {@link Buffer} by the estimated size of its records in bytes, in addition to the number
+ * of records. A buffer acquires the size of the records it writes and releases it when the records are checkpointed.
+ * <p>
+ * The size of a record is estimated with {@link Event#getEstimatedSizeInBytes()}. A record which is larger than the
+ * whole capacity is admitted once no other bytes are in use, so it cannot block the buffer forever. Buffers acquire
+ * the capacity for the number of records before the bytes, and release the capacity for the number of records if the
+ * bytes cannot be acquired.
+ *
+ * @since 2.2
+ */
+public class BufferByteCapacity {
+    private final long maxBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition bytesReleased = lock.newCondition();
+    private volatile long bytesInUse;
+
+    public BufferByteCapacity(final long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("The maximum number of bytes must be positive.");
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Estimates the size of a record. Records of events and strings are estimated, other records count no bytes.
+     *
+     * @param record the record
+     * @return the estimated size of the record in bytes
+     */
+    public static long estimateSize(final Record<?> record) {
+        final Object data = record.getData();
+        if (data instanceof Event) {
+            return ((Event) data).getEstimatedSizeInBytes();
+        }
+        if (data instanceof String) {
+            return ((String) data).length();
+        }
+        return 0;
+    }
+
+    /**
+     * Estimates the total size of the records.
+     *
+     * @param records the records
+     * @return the estimated size of the records in bytes
+     */
+    public static long estimateSize(final Collection<? extends Record<?>> records) {
+        long size = 0;
+        for (final Record<?> record : records) {
+            size += estimateSize(record);
+        }
+        return size;
+    }
+
+    /**
+     * Acquires the given number of bytes, waiting up to the timeout for other records to release theirs.
+     *
+     * @param bytes           the number of bytes to acquire
+     * @param timeoutInMillis how long to wait before giving up
+     * @return true if the bytes were acquired, false if the timeout elapsed
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public boolean tryAcquire(final long bytes, final long timeoutInMillis) throws InterruptedException {
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        lock.lockInterruptibly();
+        try {
+            while (bytesInUse > 0 && bytesInUse + bytes > maxBytes) {
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                remainingNanos = bytesReleased.awaitNanos(remainingNanos);
+            }
+            bytesInUse += bytes;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases the given number of bytes.
+     *
+     * @param bytes the number of bytes to release
+     */
+    public void release(final long bytes) {
+        release(bytes, () -> false);
+    }
+
+    /**
+     * Releases the given number of bytes, or all bytes if the buffer holds no records, so that differences between
+     * the sizes acquired and the sizes released cannot accumulate. The buffer is checked while no bytes can be
+     * acquired, so a record which a writer is adding at the same time keeps its bytes.
+     *
+     * @param bytes          the number of bytes to release
+     * @param holdsNoRecords whether the buffer holds no records, including records being written
+     */
+    public void release(final long bytes, final BooleanSupplier holdsNoRecords) {
+        lock.lock();
+        try {
+            bytesInUse = holdsNoRecords.getAsBoolean() ? 0 : Math.max(0, bytesInUse - bytes);
+            bytesReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param bytes the number of bytes
+     * @return true if the number of bytes can be acquired when no other bytes are in use
+     */
+    public boolean fits(final long bytes) {
+        return bytes <= maxBytes;
+    }
+
+    public long getBytesInUse() {
+        return bytesInUse;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * @return the percentage of the capacity in use, which can exceed 100 with a record larger than the capacity
+     */
+    public double getUsage() {
+        return (double) bytesInUse / maxBytes * 100;
+    }
+}
@@ -5,6 +5,8 @@
 
 package org.opensearch.dataprepper.model.configuration;
 
+import org.opensearch.dataprepper.metrics.MetricsMode;
+
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -17,6 +19,7 @@ public class PluginSetting implements PipelineDescription {
     private final Map<String, Object> settings;
     private int processWorkers;
     private String pipelineName;
+    private MetricsMode metricsMode = MetricsMode.STANDARD;
 
     public PluginSetting(final String name, final Map<String, Object> settings) {
         this.name = name;
@@ -67,6 +70,24 @@ public class PluginSetting implements PipelineDescription {
         this.pipelineName = pipelineName;
     }
 
+    /**
+     * Returns how the counters and timers on the hot paths of the plugin are recorded.
+     * @return the metrics mode of Data Prepper
+     * @since 2.2
+     */
+    public MetricsMode getMetricsMode() {
+        return metricsMode;
+    }
+
+    /**
+     * This method is solely for pipeline execution to set the metrics mode of Data Prepper and it is recommended not
+     * to be used.
+     * @param metricsMode the metrics mode
+     */
+    public void setMetricsMode(final MetricsMode metricsMode) {
+        this.metricsMode = metricsMode;
+    }
+
     /**
      * Returns the value of the specified attribute, or null if this settings contains no value for the attribute.
      *
@@ -27,6 +27,8 @@ public class DefaultEventMetadata implements EventMetadata {
 
     private final ImmutableMap<String, Object> attributes;
 
+    private transient long timeWrittenToBufferNanos;
+
     private DefaultEventMetadata(final Builder builder) {
 
         checkNotNull(builder.eventType, "eventType cannot be null");
@@ -60,6 +62,16 @@ public class DefaultEventMetadata implements EventMetadata {
         return attributes;
     }
 
+    @Override
+    public long getTimeWrittenToBufferNanos() {
+        return timeWrittenToBufferNanos;
+    }
+
+    @Override
+    public void setTimeWrittenToBufferNanos(final long timeWrittenToBufferNanos) {
+        this.timeWrittenToBufferNanos = timeWrittenToBufferNanos;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
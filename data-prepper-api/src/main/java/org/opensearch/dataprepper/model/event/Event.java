@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.model.event;
 
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -31,6 +32,37 @@ public interface Event extends Serializable {
      */
     void put(String key, Object value);
 
+    /**
+     * Parses JSON and adds the parsed value to the Event without converting it to other objects first. The default
+     * implementation converts the parsed value to Java objects and adds them with {@link #put(String, Object)}.
+     *
+     * @param key where the parsed value will be set. If null, each field of the parsed JSON object is added to the root of
+     *            the Event, as if with {@link #put(String, Object)}.
+     * @param json the JSON to parse, which must be a JSON object
+     * @param jsonParseOptions the options of the parsing. If the options have a pointer, only the value at the pointer is
+     *                         set at the key, and the key cannot be null.
+     * @return false if the pointer of the options is not found in the JSON, in which case the Event is not modified, true otherwise
+     * @throws InvalidJsonException if the JSON is not a valid JSON object or exceeds the limits of the options
+     * @since 2.2
+     */
+    default boolean putJson(final String key, final String json, final JsonParseOptions jsonParseOptions) {
+        return EventJsonParser.putJson(this, key, json, jsonParseOptions);
+    }
+
+    /**
+     * Parses UTF-8 encoded JSON and adds the parsed value to the Event without converting it to other objects first.
+     *
+     * @param key where the parsed value will be set, as in {@link #putJson(String, String, JsonParseOptions)}
+     * @param json the UTF-8 encoded JSON to parse, which must be a JSON object
+     * @param jsonParseOptions the options of the parsing
+     * @return false if the pointer of the options is not found in the JSON, in which case the Event is not modified, true otherwise
+     * @throws InvalidJsonException if the JSON is not a valid JSON object or exceeds the limits of the options
+     * @since 2.2
+     */
+    default boolean putJson(final String key, final byte[] json, final JsonParseOptions jsonParseOptions) {
+        return EventJsonParser.putJson(this, key, json, jsonParseOptions);
+    }
+
     /**
      * Retrieves the given key from the Event
      *
@@ -67,6 +99,17 @@ public interface Event extends Serializable {
      */
     String toJsonString();
 
+    /**
+     * Estimates the size of the Event in bytes without serializing it. The estimate is close to the length of
+     * {@link #toJsonString()} and is cheap enough to compute for every Event written into a buffer.
+     * The default implementation serializes the Event, so implementations should override it with a cheaper estimate.
+     * @return the estimated size of the Event in bytes
+     * @since 2.2
+     */
+    default long getEstimatedSizeInBytes() {
+        return toJsonString().getBytes(StandardCharsets.UTF_8).length;
+    }
+
     /**
      * Retrieves the EventMetadata
      * @return EventMetadata for the event
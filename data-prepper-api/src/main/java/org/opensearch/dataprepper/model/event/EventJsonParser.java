@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Parses JSON into any {@link Event} through {@link Event#put(String, Object)}. This backs the default
+ * {@link Event#putJson} methods of Event implementations which cannot add parsed nodes directly.
+ */
+class EventJsonParser {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final JsonNodeParser JSON_NODE_PARSER = new JsonNodeParser(OBJECT_MAPPER.getNodeFactory());
+
+    private EventJsonParser() {
+    }
+
+    static boolean putJson(final Event event, final String key, final String json, final JsonParseOptions jsonParseOptions) {
+        Objects.requireNonNull(json, "json cannot be null");
+        checkJsonLength(json.length(), jsonParseOptions);
+        try (final JsonParser parser = OBJECT_MAPPER.getFactory().createParser(json)) {
+            return putParsedJson(event, key, parser, jsonParseOptions);
+        } catch (final IOException e) {
+            throw new InvalidJsonException("Unable to parse the JSON.", e);
+        }
+    }
+
+    static boolean putJson(final Event event, final String key, final byte[] json, final JsonParseOptions jsonParseOptions) {
+        Objects.requireNonNull(json, "json cannot be null");
+        checkJsonLength(json.length, jsonParseOptions);
+        try (final JsonParser parser = OBJECT_MAPPER.getFactory().createParser(json)) {
+            return putParsedJson(event, key, parser, jsonParseOptions);
+        } catch (final IOException e) {
+            throw new InvalidJsonException("Unable to parse the JSON.", e);
+        }
+    }
+
+    private static void checkJsonLength(final int length, final JsonParseOptions jsonParseOptions) {
+        if (length > jsonParseOptions.getMaxLength()) {
+            throw new InvalidJsonException("The JSON is longer than the maximum length of " + jsonParseOptions.getMaxLength() + ".");
+        }
+    }
+
+    private static boolean putParsedJson(final Event event, final String key, final JsonParser parser,
+                                         final JsonParseOptions jsonParseOptions) throws IOException {
+        if (key == null && jsonParseOptions.getPointer() != null) {
+            throw new IllegalArgumentException("key cannot be null when the options have a pointer");
+        }
+
+        final JsonNode parsedNode = JSON_NODE_PARSER.parse(parser, jsonParseOptions);
+        if (parsedNode == null) {
+            return false;
+        }
+
+        if (key != null) {
+            event.put(key, OBJECT_MAPPER.convertValue(parsedNode, Object.class));
+        } else {
+            final Iterator<Map.Entry<String, JsonNode>> fields = parsedNode.fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                event.put(field.getKey(), OBJECT_MAPPER.convertValue(field.getValue(), Object.class));
+            }
+        }
+        return true;
+    }
+}
@@ -35,4 +35,23 @@ public interface EventMetadata extends Serializable {
      * @since 1.2
      */
     Map<String, Object> getAttributes();
+
+    /**
+     * Returns the time the event was last written into a buffer, as a {@link System#nanoTime()} value of this JVM.
+     * @return the time written into a buffer, or 0 if the event was not written into a buffer of this JVM or the
+     * metadata does not keep it
+     * @since 2.2
+     */
+    default long getTimeWrittenToBufferNanos() {
+        return 0;
+    }
+
+    /**
+     * Sets the time the event was written into a buffer. Buffers set this to measure how long events wait in them.
+     * The default implementation does not keep the time, so events with such metadata are not measured.
+     * @param timeWrittenToBufferNanos a {@link System#nanoTime()} value
+     * @since 2.2
+     */
+    default void setTimeWrittenToBufferNanos(long timeWrittenToBufferNanos) {
+    }
 }
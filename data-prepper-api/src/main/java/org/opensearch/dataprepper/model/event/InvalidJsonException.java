@@ -0,0 +1,22 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+/**
+ * Thrown when JSON added to an {@link Event} with {@link Event#putJson(String, String, JsonParseOptions)} is not valid
+ * or exceeds the limits of its {@link JsonParseOptions}.
+ *
+ * @since 2.2
+ */
+public class InvalidJsonException extends RuntimeException {
+    public InvalidJsonException(final String message) {
+        super(message);
+    }
+
+    public InvalidJsonException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.model.event;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -25,6 +26,7 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -54,6 +56,12 @@ public class JacksonEvent implements Event {
 
     private static final String SEPARATOR = "/";
 
+    private static final int ESTIMATED_STRUCTURE_SIZE = 2;
+
+    private static final int ESTIMATED_FIELD_OVERHEAD_SIZE = 4;
+
+    private static final int ESTIMATED_VALUE_SIZE = 8;
+
     private static final ObjectMapper mapper = new ObjectMapper()
             .registerModule(new JavaTimeModule())
             .registerModule(new Jdk8Module()); // required for using Optional with Jackson. Ref: https://github.com/FasterXML/jackson-modules-java8
@@ -61,6 +69,8 @@ public class JacksonEvent implements Event {
     private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<Map<String, Object>>() {
     };
 
+    private static final JsonNodeParser jsonNodeParser = new JsonNodeParser(mapper.getNodeFactory());
+
     private final EventMetadata eventMetadata;
 
     private EventHandle eventHandle;
@@ -130,13 +140,87 @@ public class JacksonEvent implements Event {
 
         final String trimmedKey = checkAndTrimKey(key);
 
+        putNode(trimmedKey, mapper.valueToTree(value));
+    }
+
+    /**
+     * Parses JSON and adds the parsed value to the Event. The tokens of the JSON are read directly into the nodes of the
+     * Event, and with a pointer only the value at the pointer is built.
+     *
+     * @param key              where the parsed value will be set, or null to add each field of the JSON object to the root
+     * @param json             the JSON object to parse
+     * @param jsonParseOptions the pointer and limits
+     * @return false if the pointer is not found in the JSON, true otherwise
+     * @throws InvalidJsonException if the JSON is not a valid JSON object or exceeds the limits of the options
+     * @since 2.2
+     */
+    @Override
+    public boolean putJson(final String key, final String json, final JsonParseOptions jsonParseOptions) {
+        checkNotNull(json, "json cannot be null");
+        checkJsonLength(json.length(), jsonParseOptions);
+        try (final JsonParser parser = mapper.getFactory().createParser(json)) {
+            return putParsedJson(key, parser, jsonParseOptions);
+        } catch (final IOException e) {
+            throw new InvalidJsonException("Unable to parse the JSON.", e);
+        }
+    }
+
+    /**
+     * Parses UTF-8 encoded JSON and adds the parsed value to the Event.
+     *
+     * @param key              where the parsed value will be set, or null to add each field of the JSON object to the root
+     * @param json             the UTF-8 encoded JSON object to parse
+     * @param jsonParseOptions the pointer and limits
+     * @return false if the pointer is not found in the JSON, true otherwise
+     * @throws InvalidJsonException if the JSON is not a valid JSON object or exceeds the limits of the options
+     * @since 2.2
+     */
+    @Override
+    public boolean putJson(final String key, final byte[] json, final JsonParseOptions jsonParseOptions) {
+        checkNotNull(json, "json cannot be null");
+        checkJsonLength(json.length, jsonParseOptions);
+        try (final JsonParser parser = mapper.getFactory().createParser(json)) {
+            return putParsedJson(key, parser, jsonParseOptions);
+        } catch (final IOException e) {
+            throw new InvalidJsonException("Unable to parse the JSON.", e);
+        }
+    }
+
+    private void checkJsonLength(final int length, final JsonParseOptions jsonParseOptions) {
+        if (length > jsonParseOptions.getMaxLength()) {
+            throw new InvalidJsonException("The JSON is longer than the maximum length of " + jsonParseOptions.getMaxLength() + ".");
+        }
+    }
+
+    private boolean putParsedJson(final String key, final JsonParser parser, final JsonParseOptions jsonParseOptions) throws IOException {
+        checkArgument(key != null || jsonParseOptions.getPointer() == null, "key cannot be null when the options have a pointer");
+        final String trimmedKey = key == null ? null : checkAndTrimKey(key);
+
+        final JsonNode parsedNode = jsonNodeParser.parse(parser, jsonParseOptions);
+        if (parsedNode == null) {
+            return false;
+        }
+
+        if (trimmedKey != null) {
+            putNode(trimmedKey, parsedNode);
+        } else {
+            final Iterator<Map.Entry<String, JsonNode>> fields = parsedNode.fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                putNode(checkAndTrimKey(field.getKey()), field.getValue());
+            }
+        }
+        return true;
+    }
+
+    private void putNode(final String trimmedKey, final JsonNode valueNode) {
         final LinkedList<String> keys = new LinkedList<>(Arrays.asList(trimmedKey.split(SEPARATOR)));
 
         JsonNode parentNode = jsonNode;
 
         while (!keys.isEmpty()) {
             if (keys.size() == 1) {
-                setNode(parentNode, keys.removeFirst(), value);
+                setNode(parentNode, keys.removeFirst(), valueNode);
             } else {
                 final String childKey = keys.removeFirst();
                 if (!childKey.isEmpty()) {
@@ -155,8 +239,7 @@ public class JacksonEvent implements Event {
         return eventHandle;
     }
 
-    private void setNode(final JsonNode parentNode, final String leafKey, final Object value) {
-        final JsonNode valueNode = mapper.valueToTree(value);
+    private void setNode(final JsonNode parentNode, final String leafKey, final JsonNode valueNode) {
         if (StringUtils.isNumeric(leafKey)) {
             ((ArrayNode) parentNode).set(Integer.parseInt(leafKey), valueNode);
         } else {
@@ -276,6 +359,38 @@ public class JacksonEvent implements Event {
         return jsonNode.toString();
     }
 
+    /**
+     * Estimates the size from the JSON tree of the event. Strings count their length, field names count their length
+     * plus quotes and separators, and all other values count a fixed size.
+     */
+    @Override
+    public long getEstimatedSizeInBytes() {
+        return estimateSize(jsonNode);
+    }
+
+    private static long estimateSize(final JsonNode node) {
+        if (node.isTextual()) {
+            return node.textValue().length() + ESTIMATED_STRUCTURE_SIZE;
+        }
+        if (node.isObject()) {
+            long size = ESTIMATED_STRUCTURE_SIZE;
+            final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                size += field.getKey().length() + ESTIMATED_FIELD_OVERHEAD_SIZE + estimateSize(field.getValue());
+            }
+            return size;
+        }
+        if (node.isArray()) {
+            long size = ESTIMATED_STRUCTURE_SIZE;
+            for (final JsonNode element : node) {
+                size += estimateSize(element) + 1;
+            }
+            return size;
+        }
+        return ESTIMATED_VALUE_SIZE;
+    }
+
     /**
      * returns a string with formatted parts replaced by their values. The input
      * string may contain parts with format "${.../.../...}" which are replaced
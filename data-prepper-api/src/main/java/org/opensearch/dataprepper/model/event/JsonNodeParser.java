@@ -0,0 +1,148 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+
+/**
+ * Builds {@link JsonNode}s directly from the tokens of a {@link JsonParser}.
+ * <p>
+ * With a JSON Pointer, only the value at the pointer is built. The other values are still read, so that invalid JSON
+ * and the depth limit are detected anywhere in the input, but they are skipped without creating nodes.
+ */
+class JsonNodeParser {
+    private final JsonNodeFactory jsonNodeFactory;
+
+    JsonNodeParser(final JsonNodeFactory jsonNodeFactory) {
+        this.jsonNodeFactory = jsonNodeFactory;
+    }
+
+    /**
+     * @param parser A parser which has not read any tokens yet
+     * @param jsonParseOptions The pointer and limits
+     * @return The root object, or the value at the pointer of the options, or null if the pointer is not found
+     * @throws InvalidJsonException if the root value is not an object or exceeds the maximum depth
+     * @throws IOException if the JSON is not valid
+     */
+    JsonNode parse(final JsonParser parser, final JsonParseOptions jsonParseOptions) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new InvalidJsonException("The JSON must be an object.");
+        }
+        return readAtPointer(parser, jsonParseOptions.getJsonPointer(), 1, jsonParseOptions.getMaxDepth());
+    }
+
+    private JsonNode readAtPointer(final JsonParser parser, final JsonPointer pointer, final int depth, final int maxDepth) throws IOException {
+        if (pointer.matches()) {
+            return readValue(parser, depth, maxDepth);
+        }
+
+        JsonNode valueAtPointer = null;
+        final JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            checkDepth(depth, maxDepth);
+            final String property = pointer.getMatchingProperty();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                // A later duplicate field replaces an earlier one, as it does when the whole object is read
+                if (fieldName.equals(property)) {
+                    valueAtPointer = readAtPointer(parser, pointer.tail(), depth + 1, maxDepth);
+                } else {
+                    skipValue(parser, depth + 1, maxDepth);
+                }
+            }
+        } else if (token == JsonToken.START_ARRAY) {
+            checkDepth(depth, maxDepth);
+            final int index = pointer.getMatchingIndex();
+            int elementIndex = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (elementIndex == index) {
+                    valueAtPointer = readAtPointer(parser, pointer.tail(), depth + 1, maxDepth);
+                } else {
+                    skipValue(parser, depth + 1, maxDepth);
+                }
+                elementIndex++;
+            }
+        }
+        return valueAtPointer;
+    }
+
+    private JsonNode readValue(final JsonParser parser, final int depth, final int maxDepth) throws IOException {
+        switch (parser.currentToken()) {
+            case START_OBJECT:
+                checkDepth(depth, maxDepth);
+                final ObjectNode objectNode = jsonNodeFactory.objectNode();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    final String fieldName = parser.getCurrentName();
+                    parser.nextToken();
+                    objectNode.set(fieldName, readValue(parser, depth + 1, maxDepth));
+                }
+                return objectNode;
+            case START_ARRAY:
+                checkDepth(depth, maxDepth);
+                final ArrayNode arrayNode = jsonNodeFactory.arrayNode();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    arrayNode.add(readValue(parser, depth + 1, maxDepth));
+                }
+                return arrayNode;
+            case VALUE_STRING:
+                return jsonNodeFactory.textNode(parser.getText());
+            case VALUE_NUMBER_INT:
+                switch (parser.getNumberType()) {
+                    case INT:
+                        return jsonNodeFactory.numberNode(parser.getIntValue());
+                    case LONG:
+                        return jsonNodeFactory.numberNode(parser.getLongValue());
+                    default:
+                        return jsonNodeFactory.numberNode(parser.getBigIntegerValue());
+                }
+            case VALUE_NUMBER_FLOAT:
+                return jsonNodeFactory.numberNode(parser.getDoubleValue());
+            case VALUE_TRUE:
+                return jsonNodeFactory.booleanNode(true);
+            case VALUE_FALSE:
+                return jsonNodeFactory.booleanNode(false);
+            case VALUE_NULL:
+                return jsonNodeFactory.nullNode();
+            default:
+                throw new InvalidJsonException("Unexpected JSON token " + parser.currentToken());
+        }
+    }
+
+    private void skipValue(final JsonParser parser, final int depth, final int maxDepth) throws IOException {
+        int nesting = 0;
+        JsonToken token = parser.currentToken();
+        while (true) {
+            if (token.isStructStart()) {
+                checkDepth(depth + nesting, maxDepth);
+                nesting++;
+            } else if (token.isStructEnd()) {
+                nesting--;
+            }
+            if (nesting == 0) {
+                return;
+            }
+            token = parser.nextToken();
+            if (token == null) {
+                throw new InvalidJsonException("Unexpected end of JSON.");
+            }
+        }
+    }
+
+    private static void checkDepth(final int depth, final int maxDepth) {
+        if (depth > maxDepth) {
+            throw new InvalidJsonException("The JSON is nested deeper than the maximum depth of " + maxDepth + ".");
+        }
+    }
+}
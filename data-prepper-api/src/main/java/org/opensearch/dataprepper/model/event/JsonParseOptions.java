@@ -0,0 +1,140 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.core.JsonPointer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Options for adding JSON to an {@link Event} with {@link Event#putJson(String, String, JsonParseOptions)}.
+ *
+ * @since 2.2
+ */
+public class JsonParseOptions {
+    public static final int DEFAULT_MAX_DEPTH = 1000;
+
+    private static final JsonParseOptions DEFAULT_OPTIONS = builder().build();
+
+    private final String pointer;
+    private final JsonPointer jsonPointer;
+    private final int maxDepth;
+    private final int maxLength;
+
+    private JsonParseOptions(final Builder builder) {
+        checkArgument(builder.maxDepth > 0, "maxDepth must be greater than 0");
+        checkArgument(builder.maxLength > 0, "maxLength must be greater than 0");
+
+        this.pointer = builder.pointer;
+        this.jsonPointer = builder.pointer == null ? JsonPointer.empty() : JsonPointer.compile(builder.pointer);
+        this.maxDepth = builder.maxDepth;
+        this.maxLength = builder.maxLength;
+    }
+
+    /**
+     * Returns the options without a pointer and with the default limits.
+     * @return the default options
+     * @since 2.2
+     */
+    public static JsonParseOptions defaultOptions() {
+        return DEFAULT_OPTIONS;
+    }
+
+    /**
+     * Returns the JSON Pointer to the value which is added to the Event, or null if the entire JSON is added.
+     * @return the JSON Pointer
+     * @since 2.2
+     */
+    public String getPointer() {
+        return pointer;
+    }
+
+    JsonPointer getJsonPointer() {
+        return jsonPointer;
+    }
+
+    /**
+     * Returns the maximum nesting depth of objects and arrays, counting the root object as 1.
+     * @return the maximum depth
+     * @since 2.2
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Returns the maximum length of the JSON, in characters for a String and in bytes for a byte array.
+     * @return the maximum length
+     * @since 2.2
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Constructs an empty builder.
+     * @return a builder
+     * @since 2.2
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * A Builder for creating {@link JsonParseOptions} instances.
+     *
+     * @since 2.2
+     */
+    public static class Builder {
+        private String pointer;
+        private int maxDepth = DEFAULT_MAX_DEPTH;
+        private int maxLength = Integer.MAX_VALUE;
+
+        /**
+         * Sets a JSON Pointer, such as "/log/entries/0". Only the value at the pointer is parsed into the Event and the rest of
+         * the JSON is skipped. There is no pointer by default.
+         * @param pointer the JSON Pointer
+         * @return returns the builder
+         * @throws IllegalArgumentException if the pointer is not a valid JSON Pointer, which is checked by {@link #build()}
+         * @since 2.2
+         */
+        public Builder withPointer(final String pointer) {
+            this.pointer = pointer;
+            return this;
+        }
+
+        /**
+         * Sets the maximum nesting depth of objects and arrays. Defaults to {@link #DEFAULT_MAX_DEPTH}.
+         * @param maxDepth the maximum depth
+         * @return returns the builder
+         * @since 2.2
+         */
+        public Builder withMaxDepth(final int maxDepth) {
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        /**
+         * Sets the maximum length of the JSON. JSON which is longer is rejected before it is parsed. There is no limit by default.
+         * @param maxLength the maximum length
+         * @return returns the builder
+         * @since 2.2
+         */
+        public Builder withMaxLength(final int maxLength) {
+            this.maxLength = maxLength;
+            return this;
+        }
+
+        /**
+         * Returns newly created {@link JsonParseOptions}.
+         * @return the options
+         * @since 2.2
+         */
+        public JsonParseOptions build() {
+            return new JsonParseOptions(this);
+        }
+    }
+}
@@ -18,4 +18,44 @@ public interface RequiresPeerForwarding {
      * @return A set of keys
      */
     Collection<String> getIdentificationKeys();
+
+    /**
+     * Indicates whether the processor does not need peer forwarding in its current configuration, such as when it
+     * only partitions Events by optional identification keys and none are configured. Processors which return true
+     * are not decorated with Peer Forwarder, while processors which need peer forwarding must return non-empty
+     * identification keys.
+     *
+     * @return True if Events need not be forwarded to other Data Prepper nodes; false by default
+     * @since 2.2
+     */
+    default boolean isPeerForwardingDisabled() {
+        return false;
+    }
+
+    /**
+     * Indicates whether Peer Forwarder may spread the Events of a very frequent combination of identification key
+     * values over several Data Prepper nodes, instead of sending them all to one node. Each node then processes part
+     * of those Events, so only processors whose per-node results remain valid, or can be combined downstream, should
+     * allow this.
+     *
+     * @return True if hot identification keys may be split across nodes; false by default
+     * @since 2.2
+     */
+    default boolean allowsHotKeySplitting() {
+        return false;
+    }
+
+    /**
+     * Indicates whether Peer Forwarder may send Events to another Data Prepper node than the one owning the hash of
+     * their identification key values, when that node is overloaded and the {@code bounded_load} routing mode is
+     * configured. The Events of one combination of identification key values can then be processed on several nodes,
+     * so processors which need all of them on one node, such as to detect duplicates or to build traces, must not
+     * allow this.
+     *
+     * @return True if Events may be routed away from the node owning their hash; false by default
+     * @since 2.2
+     */
+    default boolean allowsBoundedLoadRouting() {
+        return false;
+    }
 }
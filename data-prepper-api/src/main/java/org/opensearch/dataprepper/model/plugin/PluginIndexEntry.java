@@ -0,0 +1,105 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.plugin;
+
+import java.util.Objects;
+
+/**
+ * A plugin in a plugin index. The {@link PluginIndexProcessor} writes an index of the
+ * {@link org.opensearch.dataprepper.model.annotations.DataPrepperPlugin} classes of a jar to the
+ * {@link #RESOURCE_NAME} resource, with one entry per line, so that plugins can be found without scanning the
+ * classpath.
+ *
+ * @since 2.2
+ */
+public class PluginIndexEntry {
+    /**
+     * The name of the plugin index resource in each jar.
+     */
+    public static final String RESOURCE_NAME = "META-INF/data-prepper/plugins.index";
+
+    private static final String SEPARATOR = "\t";
+    private static final int FIELDS = 4;
+
+    private final String name;
+    private final String pluginType;
+    private final String pluginClass;
+    private final String pluginConfigurationType;
+
+    /**
+     * @param name The name of the plugin
+     * @param pluginType The binary name of the plugin type, for example {@code org.opensearch.dataprepper.model.sink.Sink}
+     * @param pluginClass The binary name of the plugin class
+     * @param pluginConfigurationType The binary name of the plugin configuration type
+     */
+    public PluginIndexEntry(final String name, final String pluginType, final String pluginClass, final String pluginConfigurationType) {
+        this.name = Objects.requireNonNull(name);
+        this.pluginType = Objects.requireNonNull(pluginType);
+        this.pluginClass = Objects.requireNonNull(pluginClass);
+        this.pluginConfigurationType = Objects.requireNonNull(pluginConfigurationType);
+    }
+
+    /**
+     * Parses a line of a plugin index.
+     *
+     * @param line The line, as written by {@link #toLine()}
+     * @return The entry
+     * @throws IllegalArgumentException if the line is not a plugin index entry
+     */
+    public static PluginIndexEntry fromLine(final String line) {
+        final String[] fields = line.split(SEPARATOR, -1);
+        if (fields.length != FIELDS) {
+            throw new IllegalArgumentException("Invalid plugin index entry: " + line);
+        }
+        return new PluginIndexEntry(fields[0], fields[1], fields[2], fields[3]);
+    }
+
+    /**
+     * @return The entry as a line of a plugin index, without a line terminator
+     */
+    public String toLine() {
+        return String.join(SEPARATOR, name, pluginType, pluginClass, pluginConfigurationType);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPluginType() {
+        return pluginType;
+    }
+
+    public String getPluginClass() {
+        return pluginClass;
+    }
+
+    public String getPluginConfigurationType() {
+        return pluginConfigurationType;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        final PluginIndexEntry that = (PluginIndexEntry) other;
+        return name.equals(that.name) && pluginType.equals(that.pluginType)
+                && pluginClass.equals(that.pluginClass) && pluginConfigurationType.equals(that.pluginConfigurationType);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, pluginType, pluginClass, pluginConfigurationType);
+    }
+
+    @Override
+    public String toString() {
+        return toLine();
+    }
+}
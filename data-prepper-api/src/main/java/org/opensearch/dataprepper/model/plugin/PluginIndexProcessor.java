@@ -0,0 +1,113 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.plugin;
+
+import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * An annotation processor which writes the {@link DataPrepperPlugin} classes being compiled to the
+ * {@link PluginIndexEntry#RESOURCE_NAME} plugin index, so that Data Prepper can find them at startup without scanning
+ * the classpath.
+ * <p>
+ * Gradle builds enable it with {@code annotationProcessor 'org.opensearch.dataprepper:data-prepper-api'}.
+ *
+ * @since 2.2
+ */
+@SupportedAnnotationTypes("org.opensearch.dataprepper.model.annotations.DataPrepperPlugin")
+public class PluginIndexProcessor extends AbstractProcessor {
+    private static final String PLUGIN_ANNOTATION = DataPrepperPlugin.class.getName();
+
+    // Sorted, so that the index of the same classes is always the same
+    private final Set<String> indexLines = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnvironment) {
+        if (roundEnvironment.processingOver()) {
+            writeIndex();
+            return false;
+        }
+
+        for (final Element element : roundEnvironment.getElementsAnnotatedWith(DataPrepperPlugin.class)) {
+            indexLines.add(createEntry((TypeElement) element).toLine());
+        }
+        return false;
+    }
+
+    private PluginIndexEntry createEntry(final TypeElement pluginElement) {
+        final Elements elements = processingEnv.getElementUtils();
+        String name = null;
+        String pluginType = null;
+        String pluginConfigurationType = null;
+        for (final AnnotationMirror annotationMirror : pluginElement.getAnnotationMirrors()) {
+            final TypeElement annotationElement = (TypeElement) annotationMirror.getAnnotationType().asElement();
+            if (!annotationElement.getQualifiedName().contentEquals(PLUGIN_ANNOTATION)) {
+                continue;
+            }
+            for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value :
+                    elements.getElementValuesWithDefaults(annotationMirror).entrySet()) {
+                final String attribute = value.getKey().getSimpleName().toString();
+                if ("name".equals(attribute)) {
+                    name = (String) value.getValue().getValue();
+                } else if ("pluginType".equals(attribute)) {
+                    pluginType = getBinaryName(value.getValue());
+                } else if ("pluginConfigurationType".equals(attribute)) {
+                    pluginConfigurationType = getBinaryName(value.getValue());
+                }
+            }
+        }
+        return new PluginIndexEntry(name, pluginType, elements.getBinaryName(pluginElement).toString(), pluginConfigurationType);
+    }
+
+    private String getBinaryName(final AnnotationValue classValue) {
+        final DeclaredType declaredType = (DeclaredType) classValue.getValue();
+        return processingEnv.getElementUtils().getBinaryName((TypeElement) declaredType.asElement()).toString();
+    }
+
+    /**
+     * Writes the index in the last round. Processing is only over for this processor if it processed a plugin in an
+     * earlier round, so the index is never empty.
+     */
+    private void writeIndex() {
+        try {
+            final FileObject indexFile = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", PluginIndexEntry.RESOURCE_NAME);
+            try (final Writer writer = indexFile.openWriter()) {
+                for (final String indexLine : indexLines) {
+                    writer.write(indexLine);
+                    writer.write('\n');
+                }
+            }
+        } catch (final IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write the plugin index " + PluginIndexEntry.RESOURCE_NAME + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.processor;
+
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.Collection;
+
+/**
+ * Abstract implementation of {@link FusibleProcessor}. Extensions implement {@link #processEvent(Event)}, which this
+ * class calls for each record when the processor is executed on its own. The metrics of {@link AbstractProcessor}
+ * are recorded in both cases.
+ *
+ * @since 2.2
+ */
+public abstract class AbstractFusibleProcessor extends AbstractProcessor<Record<Event>, Record<Event>>
+        implements FusibleProcessor {
+
+    public AbstractFusibleProcessor(final PluginSetting pluginSetting) {
+        super(pluginSetting);
+    }
+
+    protected AbstractFusibleProcessor(final PluginMetrics pluginMetrics) {
+        super(pluginMetrics);
+    }
+
+    @Override
+    public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
+        for (final Record<Event> record : records) {
+            processEvent(record.getData());
+        }
+        return records;
+    }
+
+    @Override
+    public void recordFusedExecution(final int recordCount, final long elapsedNanos) {
+        recordExecution(recordCount, recordCount, elapsedNanos);
+    }
+}
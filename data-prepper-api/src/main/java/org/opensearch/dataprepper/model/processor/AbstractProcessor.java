@@ -5,14 +5,16 @@
 
 package org.opensearch.dataprepper.model.processor;
 
+import org.opensearch.dataprepper.metrics.HotPathMetrics;
 import org.opensearch.dataprepper.metrics.MetricNames;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.metrics.SampledTimer;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.record.Record;
 import io.micrometer.core.instrument.Counter;
-import io.micrometer.core.instrument.Timer;
 
 import java.util.Collection;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @since 1.2
@@ -25,20 +27,20 @@ public abstract class AbstractProcessor<InputRecord extends Record<?>, OutputRec
     protected final PluginMetrics pluginMetrics;
     private final Counter recordsInCounter;
     private final Counter recordsOutCounter;
-    private final Timer timeElapsedTimer;
+    private final SampledTimer timeElapsedTimer;
 
     public AbstractProcessor(final PluginSetting pluginSetting) {
         pluginMetrics = PluginMetrics.fromPluginSetting(pluginSetting);
-        recordsInCounter = pluginMetrics.counter(MetricNames.RECORDS_IN);
-        recordsOutCounter = pluginMetrics.counter(MetricNames.RECORDS_OUT);
-        timeElapsedTimer = pluginMetrics.timer(MetricNames.TIME_ELAPSED);
+        recordsInCounter = HotPathMetrics.counter(pluginMetrics, MetricNames.RECORDS_IN);
+        recordsOutCounter = HotPathMetrics.counter(pluginMetrics, MetricNames.RECORDS_OUT);
+        timeElapsedTimer = HotPathMetrics.timer(pluginMetrics, MetricNames.TIME_ELAPSED);
     }
 
     protected AbstractProcessor(final PluginMetrics pluginMetrics) {
         this.pluginMetrics = pluginMetrics;
-        recordsInCounter = pluginMetrics.counter(MetricNames.RECORDS_IN);
-        recordsOutCounter = pluginMetrics.counter(MetricNames.RECORDS_OUT);
-        timeElapsedTimer = pluginMetrics.timer(MetricNames.TIME_ELAPSED);
+        recordsInCounter = HotPathMetrics.counter(pluginMetrics, MetricNames.RECORDS_IN);
+        recordsOutCounter = HotPathMetrics.counter(pluginMetrics, MetricNames.RECORDS_OUT);
+        timeElapsedTimer = HotPathMetrics.timer(pluginMetrics, MetricNames.TIME_ELAPSED);
     }
 
     /**
@@ -56,6 +58,16 @@ public abstract class AbstractProcessor<InputRecord extends Record<?>, OutputRec
         return result;
     }
 
+    /**
+     * Records the metrics of an execution which was timed by the caller, such as the execution of a
+     * {@link FusibleProcessor} in a fused loop.
+     */
+    void recordExecution(final int recordsIn, final int recordsOut, final long elapsedNanos) {
+        recordsInCounter.increment(recordsIn);
+        timeElapsedTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        recordsOutCounter.increment(recordsOut);
+    }
+
     /**
      * @since 1.2
      * This function should implement the processing logic of the processor
@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.processor;
+
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.Collection;
+
+/**
+ * A {@link Processor} which processes each event on its own, in place, and keeps no state between events. It returns
+ * the records it receives, without dropping or adding any.
+ * <p>
+ * When processor fusion is enabled, Data Prepper runs adjacent fusible processors in one loop over a batch, passing
+ * each event through all of them in turn, instead of calling {@link Processor#execute(Collection)} of each processor.
+ *
+ * @since 2.2
+ */
+public interface FusibleProcessor extends Processor<Record<Event>, Record<Event>> {
+    /**
+     * Processes a single event.
+     *
+     * @param event the event to process in place
+     */
+    void processEvent(Event event);
+
+    /**
+     * Records the metrics of the processor for a batch which was processed in a fused loop.
+     *
+     * @param recordCount the number of records in the batch
+     * @param elapsedNanos the time which this processor spent on the batch
+     */
+    void recordFusedExecution(int recordCount, long elapsedNanos);
+}
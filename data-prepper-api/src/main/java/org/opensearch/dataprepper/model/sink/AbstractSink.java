@@ -6,12 +6,13 @@
 package org.opensearch.dataprepper.model.sink;
 
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.metrics.HotPathMetrics;
 import org.opensearch.dataprepper.metrics.MetricNames;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.metrics.SampledTimer;
 import org.opensearch.dataprepper.model.record.Record;
 import java.util.Collection;
 import io.micrometer.core.instrument.Counter;
-import io.micrometer.core.instrument.Timer;
 
 /**
  * This class implements the Sink interface and records boilerplate metrics
@@ -20,13 +21,13 @@ public abstract class AbstractSink<T extends Record<?>> implements Sink<T> {
     protected static final int NUMBER_OF_RETRIES = 600;
     protected final PluginMetrics pluginMetrics;
     private final Counter recordsInCounter;
-    private final Timer timeElapsedTimer;
+    private final SampledTimer timeElapsedTimer;
     private Thread retryThread;
 
     public AbstractSink(final PluginSetting pluginSetting) {
         this.pluginMetrics = PluginMetrics.fromPluginSetting(pluginSetting);
-        recordsInCounter = pluginMetrics.counter(MetricNames.RECORDS_IN);
-        timeElapsedTimer = pluginMetrics.timer(MetricNames.TIME_ELAPSED);
+        recordsInCounter = HotPathMetrics.counter(pluginMetrics, MetricNames.RECORDS_IN);
+        timeElapsedTimer = HotPathMetrics.timer(pluginMetrics, MetricNames.TIME_ELAPSED);
         retryThread = null;
     }
 
@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Metrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+
+import java.util.Collections;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class HotPathMetricsTest {
+    private static final String PLUGIN_NAME = "testPlugin";
+    private static final String PIPELINE_NAME = "pipelineName";
+
+    private PluginMetrics pluginMetrics;
+
+    @BeforeEach
+    void setUp() {
+        MetricsTestUtil.initMetrics();
+        pluginMetrics = PluginMetrics.fromNames(PLUGIN_NAME, PIPELINE_NAME);
+    }
+
+    private static String meterName(final String name) {
+        return meterName(PIPELINE_NAME, name);
+    }
+
+    private static String meterName(final String pipelineName, final String name) {
+        return new StringJoiner(MetricNames.DELIMITER).add(pipelineName).add(PLUGIN_NAME).add(name).toString();
+    }
+
+    @Test
+    void fromNames_uses_standard_metricsMode() {
+        assertThat(pluginMetrics.getMetricsMode(), equalTo(MetricsMode.STANDARD));
+    }
+
+    @Test
+    void fromPluginSetting_uses_standard_metricsMode_by_default() {
+        final PluginSetting pluginSetting = new PluginSetting(PLUGIN_NAME, Collections.emptyMap());
+        pluginSetting.setPipelineName(PIPELINE_NAME);
+
+        assertThat(PluginMetrics.fromPluginSetting(pluginSetting).getMetricsMode(), equalTo(MetricsMode.STANDARD));
+    }
+
+    @Test
+    void standard_mode_creates_micrometer_counters_and_timers() {
+        final Counter counter = HotPathMetrics.counter(pluginMetrics, "counter");
+        final SampledTimer timer = HotPathMetrics.timer(pluginMetrics, "timer");
+
+        counter.increment(2);
+        timer.record(() -> { });
+
+        assertThat(counter.getId().getName(), equalTo(meterName("counter")));
+        assertThat(timer, instanceOf(StandardSampledTimer.class));
+        assertThat(Metrics.globalRegistry.find(meterName("counter")).counter().count(), equalTo(2.0));
+        assertThat(Metrics.globalRegistry.find(meterName("timer")).timer().count(), equalTo(1L));
+    }
+
+    @Test
+    void low_overhead_mode_creates_striped_counters_and_sampled_timers() {
+        final String pipelineName = UUID.randomUUID().toString();
+        final PluginSetting pluginSetting = new PluginSetting(PLUGIN_NAME, Collections.emptyMap());
+        pluginSetting.setPipelineName(pipelineName);
+        pluginSetting.setMetricsMode(MetricsMode.LOW_OVERHEAD);
+        pluginMetrics = PluginMetrics.fromPluginSetting(pluginSetting);
+
+        final Counter counter = HotPathMetrics.counter(pluginMetrics, "counter");
+        final SampledTimer timer = HotPathMetrics.timer(pluginMetrics, "timer");
+
+        counter.increment(2);
+        for (int i = 0; i < HotPathMetrics.LOW_OVERHEAD_SAMPLING_INTERVAL * 2; i++) {
+            timer.record(() -> { });
+        }
+
+        assertThat(counter, instanceOf(StripedCounter.class));
+        assertThat(timer, instanceOf(StripedSampledTimer.class));
+        final FunctionCounter functionCounter = Metrics.globalRegistry.find(meterName(pipelineName, "counter")).functionCounter();
+        assertThat(functionCounter, notNullValue());
+        assertThat(functionCounter.count(), equalTo(2.0));
+        final FunctionTimer functionTimer = Metrics.globalRegistry.find(meterName(pipelineName, "timer")).functionTimer();
+        assertThat(functionTimer, notNullValue());
+        assertThat(functionTimer.count(), equalTo((double) HotPathMetrics.LOW_OVERHEAD_SAMPLING_INTERVAL * 2));
+        assertThat(Metrics.globalRegistry.find(meterName(pipelineName, "timer")).timer(), nullValue());
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MetricsModeTest {
+
+    @ParameterizedTest
+    @EnumSource(MetricsMode.class)
+    void fromOptionValue(final MetricsMode value) {
+        assertThat(MetricsMode.fromOptionValue(value.toString()), is(value));
+        assertThat(MetricsMode.fromOptionValue(value.name()), is(value));
+    }
+
+    @Test
+    void fromOptionValue_throws_for_an_unknown_mode() {
+        assertThrows(IllegalArgumentException.class, () -> MetricsMode.fromOptionValue("unknown"));
+    }
+}
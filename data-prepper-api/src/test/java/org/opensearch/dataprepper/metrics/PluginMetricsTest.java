@@ -10,7 +10,9 @@ import org.junit.jupiter.api.Test;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 
 import java.util.Collections;
@@ -93,6 +95,16 @@ public class PluginMetricsTest {
         assertEquals(TAG_VALUE, timer.getId().getTag(TAG_KEY));
     }
 
+    @Test
+    public void testTimerWithHistogram() {
+        final Timer timer = objectUnderTest.timerWithHistogram("histogramTimer");
+        assertEquals(
+                new StringJoiner(MetricNames.DELIMITER)
+                        .add(PIPELINE_NAME).add(PLUGIN_NAME)
+                        .add("histogramTimer").toString(),
+                timer.getId().getName());
+    }
+
     @Test
     public void testSummary() {
         final DistributionSummary summary = objectUnderTest.summary("summary");
@@ -125,6 +137,19 @@ public class PluginMetricsTest {
         assertEquals(3, gauge.length());
     }
 
+    @Test
+    public void testGaugeWithTags() {
+        final String testString = "abc";
+        final String gauge = objectUnderTest.gaugeWithTags("taggedGauge", Tags.of(TAG_KEY, TAG_VALUE), testString, String::length);
+        final Gauge meter = Metrics.globalRegistry.get(new StringJoiner(MetricNames.DELIMITER)
+                        .add(PIPELINE_NAME).add(PLUGIN_NAME)
+                        .add("taggedGauge").toString())
+                .tag(TAG_KEY, TAG_VALUE)
+                .gauge();
+        assertEquals(3.0, meter.value());
+        assertEquals(testString, gauge);
+    }
+
     @Test
     public void testEmptyPipelineName() {
         assertThrows(
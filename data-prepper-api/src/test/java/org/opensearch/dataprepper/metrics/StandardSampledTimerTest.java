@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class StandardSampledTimerTest {
+    @Mock
+    private Timer timer;
+
+    @Test
+    void every_call_is_recorded_with_the_timer() {
+        final StandardSampledTimer objectUnderTest = new StandardSampledTimer(timer);
+
+        objectUnderTest.stop(objectUnderTest.start());
+        objectUnderTest.record(() -> { });
+
+        verify(timer, times(2)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    void record_with_a_duration_records_the_duration_with_the_timer() {
+        final StandardSampledTimer objectUnderTest = new StandardSampledTimer(timer);
+
+        objectUnderTest.record(42, TimeUnit.MILLISECONDS);
+
+        verify(timer).record(42, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Metrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class StripedCounterTest {
+    private String meterName;
+
+    @BeforeEach
+    void setUp() {
+        MetricsTestUtil.initMetrics();
+        meterName = UUID.randomUUID().toString();
+    }
+
+    @Test
+    void increments_are_published_as_a_function_counter() {
+        final StripedCounter objectUnderTest = new StripedCounter(meterName);
+
+        IntStream.range(0, 1000).parallel().forEach(i -> objectUnderTest.increment());
+        objectUnderTest.increment(0.5);
+
+        assertThat(objectUnderTest.count(), equalTo(1000.5));
+        assertThat(objectUnderTest.getId().getName(), equalTo(meterName));
+        final FunctionCounter functionCounter = Metrics.globalRegistry.find(meterName).functionCounter();
+        assertThat(functionCounter.count(), equalTo(1000.5));
+    }
+
+    @Test
+    void counters_with_the_same_meter_name_share_their_count() {
+        final StripedCounter firstCounter = new StripedCounter(meterName);
+        final StripedCounter secondCounter = new StripedCounter(meterName);
+
+        firstCounter.increment(2);
+        secondCounter.increment(3);
+
+        assertThat(firstCounter.count(), equalTo(5.0));
+        assertThat(secondCounter.count(), equalTo(5.0));
+        final FunctionCounter functionCounter = Metrics.globalRegistry.find(meterName).functionCounter();
+        assertThat(functionCounter.count(), equalTo(5.0));
+    }
+}
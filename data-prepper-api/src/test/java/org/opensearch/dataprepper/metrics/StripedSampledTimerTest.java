@@ -0,0 +1,116 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.metrics;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Metrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StripedSampledTimerTest {
+    private String meterName;
+
+    @BeforeEach
+    void setUp() {
+        MetricsTestUtil.initMetrics();
+        meterName = UUID.randomUUID().toString();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void constructor_throws_for_non_positive_sampling_interval(final int samplingInterval) {
+        assertThrows(IllegalArgumentException.class, () -> new StripedSampledTimer(meterName, samplingInterval));
+    }
+
+    @Test
+    void every_call_is_timed_with_a_sampling_interval_of_one() throws InterruptedException {
+        final StripedSampledTimer objectUnderTest = new StripedSampledTimer(meterName, 1);
+
+        final long startTime = objectUnderTest.start();
+        assertThat(startTime, not(equalTo(StripedSampledTimer.NOT_SAMPLED)));
+        Thread.sleep(10);
+        objectUnderTest.stop(startTime);
+
+        assertThat(objectUnderTest.count(), equalTo(1L));
+        assertThat(objectUnderTest.totalTimeNanos(), greaterThanOrEqualTo((double) TimeUnit.MILLISECONDS.toNanos(10)));
+        final FunctionTimer functionTimer = Metrics.globalRegistry.find(meterName).functionTimer();
+        assertThat(functionTimer.count(), equalTo(1.0));
+        assertThat(functionTimer.totalTime(TimeUnit.MILLISECONDS), greaterThanOrEqualTo(10.0));
+    }
+
+    @Test
+    void every_call_is_counted_and_a_sample_is_timed() {
+        final int samplingInterval = 8;
+        final StripedSampledTimer objectUnderTest = new StripedSampledTimer(meterName, samplingInterval);
+
+        int sampledCalls = 0;
+        for (int i = 0; i < 10_000; i++) {
+            final long startTime = objectUnderTest.start();
+            if (startTime != StripedSampledTimer.NOT_SAMPLED) {
+                sampledCalls++;
+            }
+            objectUnderTest.stop(startTime);
+        }
+
+        assertThat(objectUnderTest.count(), equalTo(10_000L));
+        assertThat(sampledCalls, greaterThan(10_000 / samplingInterval / 2));
+        assertThat(sampledCalls, lessThan(10_000 / samplingInterval * 2));
+    }
+
+    @Test
+    void record_counts_calls_which_throw() {
+        final StripedSampledTimer objectUnderTest = new StripedSampledTimer(meterName, 1);
+
+        assertThrows(IllegalStateException.class, () -> objectUnderTest.record(() -> {
+            throw new IllegalStateException();
+        }));
+        assertThrows(IllegalStateException.class, () -> objectUnderTest.record((Runnable) () -> {
+            throw new IllegalStateException();
+        }));
+        assertThat(objectUnderTest.record(() -> "result"), equalTo("result"));
+
+        assertThat(objectUnderTest.count(), equalTo(3L));
+    }
+
+    @Test
+    void record_with_a_duration_records_the_exact_duration() {
+        final StripedSampledTimer objectUnderTest = new StripedSampledTimer(meterName, 16);
+
+        objectUnderTest.record(3, TimeUnit.MILLISECONDS);
+        objectUnderTest.record(500, TimeUnit.MICROSECONDS);
+
+        assertThat(objectUnderTest.count(), equalTo(2L));
+        assertThat(objectUnderTest.totalTimeNanos(), equalTo((double) TimeUnit.MICROSECONDS.toNanos(3_500)));
+    }
+
+    @Test
+    void timers_with_the_same_meter_name_share_their_count_and_total_time() {
+        final StripedSampledTimer firstTimer = new StripedSampledTimer(meterName, 16);
+        final StripedSampledTimer secondTimer = new StripedSampledTimer(meterName, 16);
+
+        firstTimer.record(3, TimeUnit.MILLISECONDS);
+        secondTimer.record(2, TimeUnit.MILLISECONDS);
+
+        assertThat(firstTimer.count(), equalTo(2L));
+        assertThat(secondTimer.count(), equalTo(2L));
+        final FunctionTimer functionTimer = Metrics.globalRegistry.find(meterName).functionTimer();
+        assertThat(functionTimer.count(), equalTo(2.0));
+        assertThat(functionTimer.totalTime(TimeUnit.MILLISECONDS), equalTo(5.0));
+    }
+}
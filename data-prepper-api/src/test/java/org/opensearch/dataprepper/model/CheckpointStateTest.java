@@ -11,10 +11,19 @@ import static org.junit.Assert.assertEquals;
 
 public class CheckpointStateTest {
     private static final int TEST_NUM_CHECKED_RECORDS = 3;
+    private static final long TEST_NUM_CHECKED_BYTES = 1024;
 
     @Test
     public void testSimple() {
         final CheckpointState checkpointState = new CheckpointState(TEST_NUM_CHECKED_RECORDS);
         assertEquals(TEST_NUM_CHECKED_RECORDS, checkpointState.getNumRecordsToBeChecked());
+        assertEquals(0, checkpointState.getNumBytesToBeChecked());
+    }
+
+    @Test
+    public void testWithBytes() {
+        final CheckpointState checkpointState = new CheckpointState(TEST_NUM_CHECKED_RECORDS, TEST_NUM_CHECKED_BYTES);
+        assertEquals(TEST_NUM_CHECKED_RECORDS, checkpointState.getNumRecordsToBeChecked());
+        assertEquals(TEST_NUM_CHECKED_BYTES, checkpointState.getNumBytesToBeChecked());
     }
 }
\ No newline at end of file
@@ -11,9 +11,12 @@ import org.junit.Assert;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opensearch.dataprepper.metrics.MetricNames;
+import org.opensearch.dataprepper.metrics.MetricsMode;
 import org.opensearch.dataprepper.metrics.MetricsTestUtil;
 import org.opensearch.dataprepper.model.CheckpointState;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.record.Record;
 
 import java.util.AbstractMap;
@@ -25,6 +28,7 @@ import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Queue;
 import java.util.StringJoiner;
 import java.util.UUID;
@@ -95,6 +99,34 @@ public class AbstractBufferTest {
                         0.25));
     }
 
+    @Test
+    public void testLowOverheadMetrics() throws Exception {
+        // Given
+        testPluginSetting.setMetricsMode(MetricsMode.LOW_OVERHEAD);
+        final AbstractBuffer<Record<String>> abstractBuffer = new AbstractBufferImpl(testPluginSetting);
+
+        // When
+        for(int i=0; i<5; i++) {
+            abstractBuffer.write(new Record<>(UUID.randomUUID().toString()), 1000);
+        }
+        abstractBuffer.checkpoint(abstractBuffer.read(1000).getValue());
+
+        // Then
+        final List<Measurement> recordsWrittenMeasurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(BUFFER_NAME).add(MetricNames.RECORDS_WRITTEN).toString());
+        final List<Measurement> recordsReadMeasurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(BUFFER_NAME).add(MetricNames.RECORDS_READ).toString());
+        final List<Measurement> writeTimeMeasurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(BUFFER_NAME).add(MetricNames.WRITE_TIME_ELAPSED).toString());
+        final List<Measurement> checkpointTimeMeasurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(BUFFER_NAME).add(MetricNames.CHECKPOINT_TIME_ELAPSED).toString());
+        Assert.assertEquals(5.0, recordsWrittenMeasurements.get(0).getValue(), 0);
+        Assert.assertEquals(5.0, recordsReadMeasurements.get(0).getValue(), 0);
+        Assert.assertEquals(5.0, MetricsTestUtil.getMeasurementFromList(writeTimeMeasurements, Statistic.COUNT).getValue(), 0);
+        Assert.assertEquals(1.0, MetricsTestUtil.getMeasurementFromList(checkpointTimeMeasurements, Statistic.COUNT).getValue(), 0);
+        Assert.assertEquals(0, abstractBuffer.getRecordsInFlight());
+    }
+
     @Test
     public void testReadMetrics() throws Exception {
         // Given
@@ -133,6 +165,31 @@ public class AbstractBufferTest {
                 0.25));
     }
 
+    @Test
+    public void testReadWithMaxBatchSizeMetrics() throws Exception {
+        // Given
+        final AbstractBuffer<Record<String>> abstractBuffer = new AbstractBufferImpl(testPluginSetting);
+        final Collection<Record<String>> testRecords = new ArrayList<>();
+        for(int i=0; i<5; i++) {
+            testRecords.add(new Record<>(UUID.randomUUID().toString()));
+        }
+        abstractBuffer.writeAll(testRecords, 1000);
+
+        // When
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = abstractBuffer.read(1000, 3);
+
+        // Then
+        Assert.assertEquals(5, readResult.getKey().size());
+        final List<Measurement> recordsReadMeasurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(BUFFER_NAME).add(MetricNames.RECORDS_READ).toString());
+        final List<Measurement> readTimeMeasurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(BUFFER_NAME).add(MetricNames.READ_TIME_ELAPSED).toString());
+        Assert.assertEquals(5.0, recordsReadMeasurements.get(0).getValue(), 0);
+        Assert.assertEquals(5, abstractBuffer.getRecordsInFlight());
+        Assert.assertEquals(1.0, MetricsTestUtil.getMeasurementFromList(readTimeMeasurements, Statistic.COUNT).getValue(), 0);
+        Assert.assertEquals(Optional.empty(), abstractBuffer.getFillRatio());
+    }
+
     @Test
     public void testCheckpointMetrics() throws Exception {
         // Given
@@ -259,6 +316,50 @@ public class AbstractBufferTest {
         Assert.assertThrows(NullPointerException.class, () -> abstractBuffer.writeAll(testRecords, 1000));
     }
 
+    @Test
+    public void testWriteMarksTheTimeEventsAreWrittenToBuffer() throws Exception {
+        final AbstractBuffer<Record<Event>> abstractBuffer = new EventBufferImpl(BUFFER_NAME, PIPELINE_NAME);
+        final Event event = JacksonEvent.fromMessage(UUID.randomUUID().toString());
+        final Event otherEvent = JacksonEvent.fromMessage(UUID.randomUUID().toString());
+
+        final long timeBeforeWrite = System.nanoTime();
+        abstractBuffer.write(new Record<>(event), 1000);
+        Assert.assertTrue(event.getMetadata().getTimeWrittenToBufferNanos() - timeBeforeWrite >= 0);
+
+        final long timeBeforeWriteAll = System.nanoTime();
+        abstractBuffer.writeAll(Arrays.asList(new Record<>(event), new Record<>(otherEvent)), 1000);
+        Assert.assertTrue(event.getMetadata().getTimeWrittenToBufferNanos() - timeBeforeWriteAll >= 0);
+        Assert.assertEquals(event.getMetadata().getTimeWrittenToBufferNanos(), otherEvent.getMetadata().getTimeWrittenToBufferNanos());
+    }
+
+    public static class EventBufferImpl extends AbstractBuffer<Record<Event>> {
+        public EventBufferImpl(final String name, final String pipelineName) {
+            super(name, pipelineName);
+        }
+
+        @Override
+        public void doWrite(final Record<Event> record, final int timeoutInMillis) {
+        }
+
+        @Override
+        public void doWriteAll(final Collection<Record<Event>> records, final int timeoutInMillis) {
+        }
+
+        @Override
+        public Map.Entry<Collection<Record<Event>>, CheckpointState> doRead(final int timeoutInMillis) {
+            return new AbstractMap.SimpleEntry<>(Collections.emptyList(), new CheckpointState(0));
+        }
+
+        @Override
+        public void doCheckpoint(final CheckpointState checkpointState) {
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return true;
+        }
+    }
+
     public static class AbstractBufferImpl extends AbstractBuffer<Record<String>> {
         private final Queue<Record<String>> queue;
         public AbstractBufferImpl(PluginSetting pluginSetting) {
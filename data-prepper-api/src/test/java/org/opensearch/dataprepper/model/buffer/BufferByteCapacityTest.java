@@ -0,0 +1,113 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.buffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BufferByteCapacityTest {
+    private static final long MAX_BYTES = 100;
+
+    private BufferByteCapacity createObjectUnderTest() {
+        return new BufferByteCapacity(MAX_BYTES);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, -1})
+    void constructor_throws_for_non_positive_max_bytes(final long maxBytes) {
+        assertThrows(IllegalArgumentException.class, () -> new BufferByteCapacity(maxBytes));
+    }
+
+    @Test
+    void estimateSize_uses_the_estimated_size_of_events_and_the_length_of_strings() {
+        final Event event = mock(Event.class);
+        when(event.getEstimatedSizeInBytes()).thenReturn(42L);
+
+        assertThat(BufferByteCapacity.estimateSize(new Record<>(event)), equalTo(42L));
+        assertThat(BufferByteCapacity.estimateSize(new Record<>("abc")), equalTo(3L));
+        assertThat(BufferByteCapacity.estimateSize(new Record<>(7)), equalTo(0L));
+        assertThat(BufferByteCapacity.estimateSize(
+                Arrays.asList(new Record<>(event), new Record<>("abc"), new Record<>(7))), equalTo(45L));
+    }
+
+    @Test
+    void tryAcquire_acquires_bytes_up_to_the_capacity() throws InterruptedException {
+        final BufferByteCapacity objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.tryAcquire(60, 0), equalTo(true));
+        assertThat(objectUnderTest.tryAcquire(40, 0), equalTo(true));
+        assertThat(objectUnderTest.getBytesInUse(), equalTo(MAX_BYTES));
+        assertThat(objectUnderTest.getUsage(), equalTo(100.0));
+
+        assertThat(objectUnderTest.tryAcquire(1, 0), equalTo(false));
+        assertThat(objectUnderTest.tryAcquire(1, 10), equalTo(false));
+        assertThat(objectUnderTest.getBytesInUse(), equalTo(MAX_BYTES));
+    }
+
+    @Test
+    void tryAcquire_admits_a_record_larger_than_the_capacity_when_empty() throws InterruptedException {
+        final BufferByteCapacity objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.fits(MAX_BYTES), equalTo(true));
+        assertThat(objectUnderTest.fits(MAX_BYTES + 1), equalTo(false));
+        assertThat(objectUnderTest.tryAcquire(MAX_BYTES * 2, 0), equalTo(true));
+        assertThat(objectUnderTest.getUsage(), equalTo(200.0));
+    }
+
+    @Test
+    void tryAcquire_waits_for_released_bytes() throws Exception {
+        final BufferByteCapacity objectUnderTest = createObjectUnderTest();
+        assertThat(objectUnderTest.tryAcquire(MAX_BYTES, 0), equalTo(true));
+
+        final CompletableFuture<Boolean> acquired = CompletableFuture.supplyAsync(() -> {
+            try {
+                return objectUnderTest.tryAcquire(50, 10_000);
+            } catch (final InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        objectUnderTest.release(50);
+
+        assertThat(acquired.get(10, TimeUnit.SECONDS), equalTo(true));
+        assertThat(objectUnderTest.getBytesInUse(), equalTo(MAX_BYTES));
+    }
+
+    @Test
+    void release_does_not_go_below_zero() throws InterruptedException {
+        final BufferByteCapacity objectUnderTest = createObjectUnderTest();
+        assertThat(objectUnderTest.tryAcquire(30, 0), equalTo(true));
+
+        objectUnderTest.release(50);
+        assertThat(objectUnderTest.getBytesInUse(), equalTo(0L));
+
+        assertThat(objectUnderTest.getMaxBytes(), equalTo(MAX_BYTES));
+    }
+
+    @Test
+    void release_releases_all_bytes_only_if_the_buffer_holds_no_records() throws InterruptedException {
+        final BufferByteCapacity objectUnderTest = createObjectUnderTest();
+        assertThat(objectUnderTest.tryAcquire(60, 0), equalTo(true));
+
+        objectUnderTest.release(20, () -> false);
+        assertThat(objectUnderTest.getBytesInUse(), equalTo(40L));
+
+        objectUnderTest.release(20, () -> true);
+        assertThat(objectUnderTest.getBytesInUse(), equalTo(0L));
+    }
+}
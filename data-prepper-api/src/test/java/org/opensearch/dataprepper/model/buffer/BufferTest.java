@@ -0,0 +1,43 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.buffer;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BufferTest {
+    @Test
+    void read_with_maxBatchSize_reads_the_batch_of_read_by_default() {
+        final Buffer<Record<String>> buffer = mock(Buffer.class);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = mock(Map.Entry.class);
+        when(buffer.read(anyInt(), anyInt())).thenCallRealMethod();
+        when(buffer.read(100)).thenReturn(readResult);
+
+        assertThat(buffer.read(100, 10), sameInstance(readResult));
+        verify(buffer).read(100);
+    }
+
+    @Test
+    void getFillRatio_is_empty_by_default() {
+        final Buffer<Record<String>> buffer = mock(Buffer.class);
+        when(buffer.getFillRatio()).thenCallRealMethod();
+
+        assertThat(buffer.getFillRatio(), equalTo(Optional.empty()));
+    }
+}
@@ -72,6 +72,16 @@ public class DefaultEventMetadataTest {
         assertThat(timeReceived, is(equalTo(testTimeReceived)));
     }
 
+    @Test
+    public void testTimeWrittenToBufferNanos() {
+        assertThat(eventMetadata.getTimeWrittenToBufferNanos(), is(equalTo(0L)));
+
+        final long timeWrittenToBufferNanos = System.nanoTime();
+        eventMetadata.setTimeWrittenToBufferNanos(timeWrittenToBufferNanos);
+
+        assertThat(eventMetadata.getTimeWrittenToBufferNanos(), is(equalTo(timeWrittenToBufferNanos)));
+    }
+
     @Test
     public void testGetAttributes() {
         final Map<String, Object> attributes = eventMetadata.getAttributes();
@@ -0,0 +1,35 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventMetadataTest {
+    private EventMetadata eventMetadata;
+
+    @BeforeEach
+    void setUp() {
+        eventMetadata = mock(EventMetadata.class);
+    }
+
+    @Test
+    void timeWrittenToBufferNanos_is_not_kept_by_default() {
+        doCallRealMethod().when(eventMetadata).setTimeWrittenToBufferNanos(anyLong());
+        when(eventMetadata.getTimeWrittenToBufferNanos()).thenCallRealMethod();
+
+        eventMetadata.setTimeWrittenToBufferNanos(System.nanoTime());
+
+        assertThat(eventMetadata.getTimeWrittenToBufferNanos(), equalTo(0L));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventTest {
+    private static final String JSON = "{\"message\":\"hello\",\"nested\":{\"count\":2,\"tags\":[\"a\",\"b\"]}}";
+
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        event = mock(Event.class);
+    }
+
+    @Test
+    void putJson_with_String_puts_each_field_by_default() {
+        when(event.putJson(any(), any(String.class), any())).thenCallRealMethod();
+
+        assertThat(event.putJson(null, JSON, JsonParseOptions.defaultOptions()), equalTo(true));
+
+        verify(event).put("message", "hello");
+        verify(event).put("nested", Map.of("count", 2, "tags", List.of("a", "b")));
+    }
+
+    @Test
+    void putJson_with_bytes_puts_value_at_pointer_by_default() {
+        when(event.putJson(any(), any(byte[].class), any())).thenCallRealMethod();
+        final JsonParseOptions jsonParseOptions = JsonParseOptions.builder().withPointer("/nested/tags").build();
+
+        assertThat(event.putJson("tags", JSON.getBytes(StandardCharsets.UTF_8), jsonParseOptions), equalTo(true));
+
+        verify(event).put("tags", List.of("a", "b"));
+    }
+
+    @Test
+    void putJson_returns_false_if_pointer_is_not_found_by_default() {
+        when(event.putJson(any(), any(String.class), any())).thenCallRealMethod();
+        final JsonParseOptions jsonParseOptions = JsonParseOptions.builder().withPointer("/missing").build();
+
+        assertThat(event.putJson("key", JSON, jsonParseOptions), equalTo(false));
+
+        verify(event, never()).put(anyString(), any());
+    }
+
+    @Test
+    void putJson_throws_for_invalid_json_by_default() {
+        when(event.putJson(any(), any(String.class), any())).thenCallRealMethod();
+
+        assertThrows(InvalidJsonException.class, () -> event.putJson(null, "[1, 2]", JsonParseOptions.defaultOptions()));
+        assertThrows(InvalidJsonException.class, () -> event.putJson(null, "{\"message\":", JsonParseOptions.defaultOptions()));
+    }
+
+    @Test
+    void putJson_throws_for_json_longer_than_max_length_by_default() {
+        when(event.putJson(any(), any(byte[].class), any())).thenCallRealMethod();
+        final JsonParseOptions jsonParseOptions = JsonParseOptions.builder().withMaxLength(10).build();
+
+        assertThrows(InvalidJsonException.class, () -> event.putJson(null, JSON.getBytes(StandardCharsets.UTF_8), jsonParseOptions));
+    }
+
+    @Test
+    void putJson_throws_for_pointer_without_key_by_default() {
+        when(event.putJson(any(), any(String.class), any())).thenCallRealMethod();
+        final JsonParseOptions jsonParseOptions = JsonParseOptions.builder().withPointer("/message").build();
+
+        assertThrows(IllegalArgumentException.class, () -> event.putJson(null, JSON, jsonParseOptions));
+    }
+
+    @Test
+    void getEstimatedSizeInBytes_returns_length_of_json_by_default() {
+        when(event.getEstimatedSizeInBytes()).thenCallRealMethod();
+        when(event.toJsonString()).thenReturn("{\"message\":\"h\u00e9llo\"}");
+
+        assertThat(event.getEstimatedSizeInBytes(), equalTo(20L));
+    }
+}
@@ -12,6 +12,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
@@ -309,6 +310,116 @@ public class JacksonEventTest {
         assertThrows(expectedThrowable, () -> event.delete(key));
     }
 
+    @Test
+    void testPutJson_withNullKey_addsFieldsToRoot() {
+        event.put("existing", "value");
+
+        final boolean result = event.putJson(null, "{\"key\":\"value\",\"nested\":{\"inner\":[1,2.5,true,null]}}",
+                JsonParseOptions.defaultOptions());
+
+        assertThat(result, equalTo(true));
+        assertThat(event.get("existing", String.class), equalTo("value"));
+        assertThat(event.get("key", String.class), equalTo("value"));
+        assertThat(event.get("nested/inner", List.class), equalTo(Arrays.asList(1, 2.5, true, null)));
+    }
+
+    @Test
+    void testPutJson_withKey_addsObjectAtKey() {
+        final boolean result = event.putJson("a/b", "{\"key\":12345678901}", JsonParseOptions.defaultOptions());
+
+        assertThat(result, equalTo(true));
+        assertThat(event.get("a/b/key", Long.class), equalTo(12345678901L));
+    }
+
+    @Test
+    void testPutJson_withBytes_addsObjectAtKey() {
+        final byte[] json = "{\"key\":\"\u00e4\"}".getBytes(StandardCharsets.UTF_8);
+
+        final boolean result = event.putJson("a", json, JsonParseOptions.defaultOptions());
+
+        assertThat(result, equalTo(true));
+        assertThat(event.get("a/key", String.class), equalTo("\u00e4"));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "/a/b|{\"b\":[1,2]}|2",
+            "/a/b/1|{\"b\":[1,2]}|2",
+            "/a/b|{\"b\":{\"c\":\"first\"},\"b\":\"last\"}|last",
+            "/a/b|{\"x\":[{\"b\":1}],\"b\":\"value\"}|value"
+    }, delimiter = '|')
+    void testPutJson_withPointer_addsValueAtPointer(final String pointer, final String jsonInA, final String expectedValue) {
+        final String json = "{\"a\":" + jsonInA + "}";
+
+        final boolean result = event.putJson("result", json, JsonParseOptions.builder().withPointer(pointer).build());
+
+        assertThat(result, equalTo(true));
+        final Object value = event.get("result", Object.class);
+        if (value instanceof List) {
+            assertThat(((List<?>) value).size(), equalTo(Integer.parseInt(expectedValue)));
+        } else {
+            assertThat(value.toString(), equalTo(expectedValue));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/missing", "/a/missing", "/a/b/5", "/a/b/x"})
+    void testPutJson_withMissingPointer_returnsFalse(final String pointer) {
+        final boolean result = event.putJson("result", "{\"a\":{\"b\":[1,2]}}", JsonParseOptions.builder().withPointer(pointer).build());
+
+        assertThat(result, equalTo(false));
+        assertThat(event.containsKey("result"), equalTo(false));
+    }
+
+    @Test
+    void testPutJson_withPointerAndNullKey_throwsIllegalArgumentException() {
+        final JsonParseOptions jsonParseOptions = JsonParseOptions.builder().withPointer("/a").build();
+
+        assertThrows(IllegalArgumentException.class, () -> event.putJson(null, "{\"a\":1}", jsonParseOptions));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"key\":}", "{\"key\":\"value\"", "[1,2]", "\"value\"", "123", ""})
+    void testPutJson_withInvalidJsonObject_throwsInvalidJsonException(final String json) {
+        event.put("existing", "value");
+
+        assertThrows(InvalidJsonException.class, () -> event.putJson(null, json, JsonParseOptions.defaultOptions()));
+        assertThat(event.toMap(), equalTo(Collections.singletonMap("existing", "value")));
+    }
+
+    @Test
+    void testPutJson_withNullJson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> event.putJson("key", (String) null, JsonParseOptions.defaultOptions()));
+    }
+
+    @Test
+    void testPutJson_deeperThanMaxDepth_throwsInvalidJsonException() {
+        final JsonParseOptions jsonParseOptions = JsonParseOptions.builder().withMaxDepth(2).build();
+
+        event.putJson("shallow", "{\"a\":{\"b\":1}}", jsonParseOptions);
+        assertThat(event.get("shallow/a/b", Integer.class), equalTo(1));
+        assertThrows(InvalidJsonException.class, () -> event.putJson("deep", "{\"a\":{\"b\":[1]}}", jsonParseOptions));
+        assertThat(event.containsKey("deep"), equalTo(false));
+    }
+
+    @Test
+    void testPutJson_deeperThanMaxDepthOutsideOfPointer_throwsInvalidJsonException() {
+        final JsonParseOptions jsonParseOptions = JsonParseOptions.builder().withPointer("/a").withMaxDepth(2).build();
+
+        assertThrows(InvalidJsonException.class, () -> event.putJson("result", "{\"b\":[[1]],\"a\":1}", jsonParseOptions));
+    }
+
+    @Test
+    void testPutJson_longerThanMaxLength_throwsInvalidJsonException() {
+        final JsonParseOptions jsonParseOptions = JsonParseOptions.builder().withMaxLength(10).build();
+
+        event.putJson("short", "{\"a\":1}", jsonParseOptions);
+        assertThat(event.get("short/a", Integer.class), equalTo(1));
+        assertThrows(InvalidJsonException.class, () -> event.putJson("long", "{\"a\":\"long\"}", jsonParseOptions));
+        assertThrows(InvalidJsonException.class,
+                () -> event.putJson("long", "{\"a\":\"long\"}".getBytes(StandardCharsets.UTF_8), jsonParseOptions));
+    }
+
     @Test
     public void testToString_withEmptyData() {
         final String result = event.toJsonString();
@@ -327,6 +438,29 @@ public class JacksonEventTest {
         assertThat(result, is(equalTo(String.format("{\"foo\":\"bar\",\"testObject\":{\"field1\":\"%s\"},\"list\":[1,4,5]}", value))));
     }
 
+    @Test
+    public void testGetEstimatedSizeInBytes_withEmptyData() {
+        assertThat(event.getEstimatedSizeInBytes(), equalTo(2L));
+    }
+
+    @Test
+    public void testGetEstimatedSizeInBytes_withSimpleObject() {
+        event.put("foo", "bar");
+        event.put("testObject", new TestObject(UUID.randomUUID().toString()));
+        event.put("list", Arrays.asList(1, 4, 5));
+
+        assertThat(event.getEstimatedSizeInBytes(), equalTo(115L));
+        assertThat(event.toJsonString().length(), equalTo(91));
+    }
+
+    @Test
+    public void testGetEstimatedSizeInBytes_countsTheLengthOfStrings() {
+        final long emptySize = event.getEstimatedSizeInBytes();
+        event.put("message", RandomStringUtils.randomAlphabetic(1000));
+
+        assertThat(event.getEstimatedSizeInBytes() - emptySize, equalTo(1000L + "message".length() + 6));
+    }
+
     @Test
     public void testGetAsMap_with_EmptyData() {
         final Map<String, Object> eventAsMap = event.toMap();
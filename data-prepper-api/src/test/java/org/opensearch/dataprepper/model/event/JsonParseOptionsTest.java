@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonParseOptionsTest {
+
+    @Test
+    void defaultOptions_has_no_pointer_and_default_limits() {
+        final JsonParseOptions jsonParseOptions = JsonParseOptions.defaultOptions();
+
+        assertThat(jsonParseOptions.getPointer(), nullValue());
+        assertThat(jsonParseOptions.getJsonPointer().matches(), equalTo(true));
+        assertThat(jsonParseOptions.getMaxDepth(), equalTo(JsonParseOptions.DEFAULT_MAX_DEPTH));
+        assertThat(jsonParseOptions.getMaxLength(), equalTo(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void build_with_all_options_returns_those_options() {
+        final JsonParseOptions jsonParseOptions = JsonParseOptions.builder()
+                .withPointer("/a/0")
+                .withMaxDepth(10)
+                .withMaxLength(100)
+                .build();
+
+        assertThat(jsonParseOptions.getPointer(), equalTo("/a/0"));
+        assertThat(jsonParseOptions.getJsonPointer().getMatchingProperty(), equalTo("a"));
+        assertThat(jsonParseOptions.getMaxDepth(), equalTo(10));
+        assertThat(jsonParseOptions.getMaxLength(), equalTo(100));
+    }
+
+    @Test
+    void build_with_invalid_pointer_throws() {
+        assertThrows(IllegalArgumentException.class, () -> JsonParseOptions.builder().withPointer("a").build());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void build_with_non_positive_limits_throws(final int limit) {
+        assertThrows(IllegalArgumentException.class, () -> JsonParseOptions.builder().withMaxDepth(limit).build());
+        assertThrows(IllegalArgumentException.class, () -> JsonParseOptions.builder().withMaxLength(limit).build());
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.plugin;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PluginIndexEntryTest {
+    private String name;
+    private String pluginType;
+    private String pluginClass;
+    private String pluginConfigurationType;
+
+    @BeforeEach
+    void setUp() {
+        name = UUID.randomUUID().toString();
+        pluginType = UUID.randomUUID().toString();
+        pluginClass = UUID.randomUUID().toString();
+        pluginConfigurationType = UUID.randomUUID().toString();
+    }
+
+    private PluginIndexEntry createObjectUnderTest() {
+        return new PluginIndexEntry(name, pluginType, pluginClass, pluginConfigurationType);
+    }
+
+    @Test
+    void getters_return_the_fields() {
+        final PluginIndexEntry objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.getName(), equalTo(name));
+        assertThat(objectUnderTest.getPluginType(), equalTo(pluginType));
+        assertThat(objectUnderTest.getPluginClass(), equalTo(pluginClass));
+        assertThat(objectUnderTest.getPluginConfigurationType(), equalTo(pluginConfigurationType));
+    }
+
+    @Test
+    void constructor_throws_for_null_fields() {
+        assertThrows(NullPointerException.class, () -> new PluginIndexEntry(null, pluginType, pluginClass, pluginConfigurationType));
+    }
+
+    @Test
+    void fromLine_returns_the_entry_of_toLine() {
+        final PluginIndexEntry objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.toLine(), equalTo(String.join("\t", name, pluginType, pluginClass, pluginConfigurationType)));
+        assertThat(objectUnderTest.toString(), equalTo(objectUnderTest.toLine()));
+        assertThat(PluginIndexEntry.fromLine(objectUnderTest.toLine()), equalTo(objectUnderTest));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "name", "name\ttype\tclass", "name\ttype\tclass\tconfig\textra"})
+    void fromLine_throws_for_invalid_lines(final String line) {
+        assertThrows(IllegalArgumentException.class, () -> PluginIndexEntry.fromLine(line));
+    }
+
+    @Test
+    void equals_and_hashCode_compare_all_fields() {
+        final PluginIndexEntry objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest, equalTo(objectUnderTest));
+        assertThat(objectUnderTest, equalTo(createObjectUnderTest()));
+        assertThat(objectUnderTest.hashCode(), equalTo(createObjectUnderTest().hashCode()));
+        assertThat(objectUnderTest.equals(null), equalTo(false));
+        assertThat(objectUnderTest, not(equalTo(pluginClass)));
+        assertThat(objectUnderTest, not(equalTo(new PluginIndexEntry("other", pluginType, pluginClass, pluginConfigurationType))));
+        assertThat(objectUnderTest, not(equalTo(new PluginIndexEntry(name, "other", pluginClass, pluginConfigurationType))));
+        assertThat(objectUnderTest, not(equalTo(new PluginIndexEntry(name, pluginType, "other", pluginConfigurationType))));
+        assertThat(objectUnderTest, not(equalTo(new PluginIndexEntry(name, pluginType, pluginClass, "other"))));
+    }
+}
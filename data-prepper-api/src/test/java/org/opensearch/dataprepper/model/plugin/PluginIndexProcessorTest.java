@@ -0,0 +1,144 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.plugin;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.sink.Sink;
+import org.opensearch.dataprepper.model.source.Source;
+
+import javax.lang.model.SourceVersion;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class PluginIndexProcessorTest {
+    private static final String PLUGINS_SOURCE = "package org.example;\n"
+            + "import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;\n"
+            + "import org.opensearch.dataprepper.model.sink.Sink;\n"
+            + "import org.opensearch.dataprepper.model.source.Source;\n"
+            + "@Deprecated\n"
+            + "@DataPrepperPlugin(name = \"example_sink\", pluginType = Sink.class, pluginConfigurationType = ExamplePlugins.Config.class)\n"
+            + "public abstract class ExamplePlugins implements Sink {\n"
+            + "    public static class Config {}\n"
+            + "    @DataPrepperPlugin(name = \"example_source\", pluginType = Source.class)\n"
+            + "    public abstract static class ExampleSource implements Source {}\n"
+            + "}\n";
+    private static final String NON_PLUGIN_SOURCE = "package org.example;\n"
+            + "public class ExamplePlugins {}\n";
+
+    @TempDir
+    Path outputDirectory;
+
+    @Test
+    void getSupportedSourceVersion_returns_the_latest_version() {
+        assertThat(new PluginIndexProcessor().getSupportedSourceVersion(), equalTo(SourceVersion.latestSupported()));
+    }
+
+    @Test
+    void process_writes_an_index_of_the_plugins() throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null);
+
+        assertThat(compile(compiler, fileManager, PLUGINS_SOURCE, new DiagnosticCollector<>()), equalTo(true));
+
+        final List<String> indexLines = Files.readAllLines(outputDirectory.resolve(PluginIndexEntry.RESOURCE_NAME));
+        assertThat(indexLines, equalTo(Arrays.asList(
+                new PluginIndexEntry("example_sink", Sink.class.getName(), "org.example.ExamplePlugins",
+                        "org.example.ExamplePlugins$Config").toLine(),
+                new PluginIndexEntry("example_source", Source.class.getName(), "org.example.ExamplePlugins$ExampleSource",
+                        PluginSetting.class.getName()).toLine())));
+    }
+
+    @Test
+    void process_does_not_write_an_index_without_plugins() {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null);
+
+        assertThat(compile(compiler, fileManager, NON_PLUGIN_SOURCE, new DiagnosticCollector<>()), equalTo(true));
+
+        assertThat(Files.exists(outputDirectory.resolve(PluginIndexEntry.RESOURCE_NAME)), equalTo(false));
+    }
+
+    @Test
+    void process_reports_an_error_if_the_index_cannot_be_written() {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final JavaFileManager fileManager = new ForwardingJavaFileManager<>(compiler.getStandardFileManager(null, null, null)) {
+            @Override
+            public FileObject getFileForOutput(final Location location, final String packageName, final String relativeName,
+                                               final FileObject sibling) throws IOException {
+                throw new IOException("test");
+            }
+        };
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+        assertThat(compile(compiler, fileManager, PLUGINS_SOURCE, diagnostics), equalTo(false));
+
+        final List<String> errors = diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .collect(Collectors.toList());
+        assertThat(errors, hasItem(containsString("Unable to write the plugin index")));
+    }
+
+    private boolean compile(final JavaCompiler compiler, final JavaFileManager fileManager, final String source,
+                            final DiagnosticCollector<JavaFileObject> diagnostics) {
+        final List<String> options = Arrays.asList(
+                "-classpath", getClassesLocation(),
+                "-d", outputDirectory.toString(),
+                "-proc:only");
+        final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                Collections.singletonList(new SourceFile(source)));
+        task.setProcessors(Collections.singletonList(new PluginIndexProcessor()));
+        return task.call();
+    }
+
+    private static String getClassesLocation() {
+        try {
+            return Paths.get(DataPrepperPlugin.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        } catch (final URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class SourceFile extends SimpleJavaFileObject {
+        private final String source;
+
+        SourceFile(final String source) {
+            super(URI.create("string:///org/example/ExamplePlugins" + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
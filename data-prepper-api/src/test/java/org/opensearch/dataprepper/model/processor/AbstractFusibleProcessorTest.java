@@ -0,0 +1,109 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.processor;
+
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Statistic;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.metrics.MetricNames;
+import org.opensearch.dataprepper.metrics.MetricsTestUtil;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+
+class AbstractFusibleProcessorTest {
+    private static final String PROCESSOR_NAME = "testFusibleProcessor";
+    private static final String PIPELINE_NAME = "testPipeline";
+
+    @BeforeEach
+    void setUp() {
+        MetricsTestUtil.initMetrics();
+    }
+
+    private static List<Record<Event>> createRecords() {
+        return Arrays.asList(
+                new Record<>(JacksonEvent.builder().withEventType("event").build()),
+                new Record<>(JacksonEvent.builder().withEventType("event").build()));
+    }
+
+    private static List<Measurement> getMeasurements(final String metricName) {
+        return MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(PROCESSOR_NAME).add(metricName).toString());
+    }
+
+    @Test
+    void execute_processes_each_event_and_returns_the_records() {
+        final PluginSetting pluginSetting = new PluginSetting(PROCESSOR_NAME, Collections.emptyMap());
+        pluginSetting.setPipelineName(PIPELINE_NAME);
+        final FusibleProcessorImpl objectUnderTest = new FusibleProcessorImpl(pluginSetting);
+        final List<Record<Event>> records = createRecords();
+
+        final Collection<Record<Event>> result = objectUnderTest.execute(records);
+
+        assertThat(result, sameInstance(records));
+        for (final Record<Event> record : records) {
+            assertThat(record.getData().get("processed", Boolean.class), equalTo(true));
+        }
+        assertThat(getMeasurements(MetricNames.RECORDS_IN).get(0).getValue(), equalTo(2.0));
+        assertThat(getMeasurements(MetricNames.RECORDS_OUT).get(0).getValue(), equalTo(2.0));
+    }
+
+    @Test
+    void recordFusedExecution_records_the_metrics_of_the_processor() {
+        final FusibleProcessorImpl objectUnderTest = new FusibleProcessorImpl(PluginMetrics.fromNames(PROCESSOR_NAME, PIPELINE_NAME));
+
+        objectUnderTest.recordFusedExecution(5, TimeUnit.MILLISECONDS.toNanos(20));
+
+        assertThat(getMeasurements(MetricNames.RECORDS_IN).get(0).getValue(), equalTo(5.0));
+        assertThat(getMeasurements(MetricNames.RECORDS_OUT).get(0).getValue(), equalTo(5.0));
+        final List<Measurement> elapsedTimeMeasurements = getMeasurements(MetricNames.TIME_ELAPSED);
+        assertThat(MetricsTestUtil.getMeasurementFromList(elapsedTimeMeasurements, Statistic.COUNT).getValue(), equalTo(1.0));
+        assertThat(MetricsTestUtil.getMeasurementFromList(elapsedTimeMeasurements, Statistic.TOTAL_TIME).getValue(), closeTo(0.02, 0.0001));
+    }
+
+    private static class FusibleProcessorImpl extends AbstractFusibleProcessor {
+        FusibleProcessorImpl(final PluginSetting pluginSetting) {
+            super(pluginSetting);
+        }
+
+        FusibleProcessorImpl(final PluginMetrics pluginMetrics) {
+            super(pluginMetrics);
+        }
+
+        @Override
+        public void processEvent(final Event event) {
+            event.put("processed", true);
+        }
+
+        @Override
+        public void prepareForShutdown() {
+        }
+
+        @Override
+        public boolean isReadyForShutdown() {
+            return true;
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.benchmarks;
+
+import com.google.protobuf.ByteString;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.InstrumentationScope;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.resource.v1.Resource;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.ScopeSpans;
+import io.opentelemetry.proto.trace.v1.Span;
+import io.opentelemetry.proto.trace.v1.Status;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Provides the fixtures of the benchmarks: Apache access logs and VPC flow logs from the resources of this module, and
+ * OTLP trace requests with the spans of a small web service.
+ */
+final class BenchmarkFixtures {
+    static final String APACHE_LOGS = "apache_logs.log";
+    static final String VPC_FLOW_LOGS = "vpc_flow_logs.log";
+
+    private static final Pattern APACHE_COMMON_LOG_PATTERN = Pattern.compile(
+            "^(\\S+) (\\S+) (\\S+) \\[([^\\]]+)] \"(\\S+) (\\S+) (\\S+)\" (\\d{3}) (\\d+) \"([^\"]*)\" \"([^\"]*)\"$");
+    private static final String[] SERVICE_NAMES = {"frontend", "checkout", "inventory", "payment"};
+    private static final String[] ROUTES = {"/api/v1/orders", "/api/v1/cart", "/api/v1/items/{id}", "/checkout"};
+    private static final long START_TIME_NANOS = 1_666_166_400_000_000_000L;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * @param resourceName the name of the resource
+     * @return the lines of the resource, without the header line of VPC flow logs
+     */
+    static List<String> readLines(final String resourceName) {
+        final List<String> lines = readAllLines(resourceName);
+        return VPC_FLOW_LOGS.equals(resourceName) ? lines.subList(1, lines.size()) : lines;
+    }
+
+    /**
+     * Repeats the lines of the resource until the given number of lines is reached.
+     *
+     * @param resourceName the name of the resource
+     * @param lineCount the number of lines
+     * @return the content, in UTF-8
+     */
+    static byte[] repeatLines(final String resourceName, final int lineCount) {
+        final List<String> lines = readAllLines(resourceName);
+        final StringBuilder content = new StringBuilder();
+        int firstLine = 0;
+        if (VPC_FLOW_LOGS.equals(resourceName)) {
+            content.append(lines.get(0)).append('\n');
+            firstLine = 1;
+        }
+        for (int i = 0; i < lineCount; i++) {
+            content.append(lines.get(firstLine + i % (lines.size() - firstLine))).append('\n');
+        }
+        return content.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return the Apache access logs, parsed into the fields which the grok pattern COMBINEDAPACHELOG extracts
+     */
+    static List<Map<String, Object>> apacheLogRecords() {
+        return readLines(APACHE_LOGS).stream()
+                .map(BenchmarkFixtures::parseApacheLog)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return the VPC flow logs, parsed into their fields
+     */
+    static List<Map<String, Object>> vpcFlowLogRecords() {
+        final List<String> lines = readAllLines(VPC_FLOW_LOGS);
+        final String[] header = lines.get(0).split(" ");
+        final List<Map<String, Object>> records = new ArrayList<>();
+        for (final String line : lines.subList(1, lines.size())) {
+            final String[] values = line.split(" ");
+            final Map<String, Object> record = new LinkedHashMap<>();
+            for (int i = 0; i < header.length; i++) {
+                record.put(header[i], values[i]);
+            }
+            records.add(record);
+        }
+        return records;
+    }
+
+    /**
+     * @param data the data of the events
+     * @return log events with the given data
+     */
+    static List<Event> createEvents(final List<Map<String, Object>> data) {
+        return data.stream()
+                .map(BenchmarkFixtures::createEvent)
+                .collect(Collectors.toList());
+    }
+
+    static Event createEvent(final Map<String, Object> data) {
+        return JacksonEvent.builder()
+                .withEventType("event")
+                .withData(data)
+                .build();
+    }
+
+    /**
+     * Creates an OTLP request with traces of a request to the frontend service, which calls the other services. Each
+     * resource span holds the spans of one service.
+     *
+     * @param spanCount the number of spans in the request
+     * @return the request
+     */
+    static ExportTraceServiceRequest createExportTraceServiceRequest(final int spanCount) {
+        final Random random = new Random(spanCount);
+        final Map<String, List<Span>> spansByService = new LinkedHashMap<>();
+        byte[] traceId = null;
+        byte[] rootSpanId = null;
+        for (int i = 0; i < spanCount; i++) {
+            final int spanInTrace = i % SERVICE_NAMES.length;
+            if (spanInTrace == 0) {
+                traceId = randomBytes(random, 16);
+                rootSpanId = randomBytes(random, 8);
+            }
+            final byte[] spanId = spanInTrace == 0 ? rootSpanId : randomBytes(random, 8);
+            final String route = ROUTES[random.nextInt(ROUTES.length)];
+            final long startTimeNanos = START_TIME_NANOS + i * 1_000_000L;
+            final boolean error = random.nextInt(20) == 0;
+
+            final Span.Builder span = Span.newBuilder()
+                    .setTraceId(ByteString.copyFrom(traceId))
+                    .setSpanId(ByteString.copyFrom(spanId))
+                    .setName((spanInTrace == 0 ? "GET " : "POST ") + route)
+                    .setKind(spanInTrace == 0 ? Span.SpanKind.SPAN_KIND_SERVER : Span.SpanKind.SPAN_KIND_CLIENT)
+                    .setStartTimeUnixNano(startTimeNanos)
+                    .setEndTimeUnixNano(startTimeNanos + 1_000_000L + random.nextInt(50_000_000))
+                    .addAttributes(stringAttribute("http.method", spanInTrace == 0 ? "GET" : "POST"))
+                    .addAttributes(stringAttribute("http.route", route))
+                    .addAttributes(stringAttribute("http.url", "https://shop.example.com" + route))
+                    .addAttributes(intAttribute("http.status_code", error ? 500 : 200))
+                    .addAttributes(stringAttribute("net.peer.ip", "10.0." + random.nextInt(16) + "." + (1 + random.nextInt(254))))
+                    .setStatus(Status.newBuilder()
+                            .setCode(error ? Status.StatusCode.STATUS_CODE_ERROR : Status.StatusCode.STATUS_CODE_OK));
+            if (spanInTrace != 0) {
+                span.setParentSpanId(ByteString.copyFrom(rootSpanId));
+            }
+            spansByService.computeIfAbsent(SERVICE_NAMES[spanInTrace], serviceName -> new ArrayList<>()).add(span.build());
+        }
+
+        final ExportTraceServiceRequest.Builder request = ExportTraceServiceRequest.newBuilder();
+        spansByService.forEach((serviceName, spans) -> request.addResourceSpans(ResourceSpans.newBuilder()
+                .setResource(Resource.newBuilder()
+                        .addAttributes(stringAttribute("service.name", serviceName))
+                        .addAttributes(stringAttribute("host.name", serviceName + "-7d9f8b6c5-x2k4q"))
+                        .addAttributes(stringAttribute("telemetry.sdk.language", "java")))
+                .addScopeSpans(ScopeSpans.newBuilder()
+                        .setScope(InstrumentationScope.newBuilder()
+                                .setName("io.opentelemetry.armeria-1.3")
+                                .setVersion("1.19.2-alpha"))
+                        .addAllSpans(spans))));
+        return request.build();
+    }
+
+    private static Map<String, Object> parseApacheLog(final String line) {
+        final Matcher matcher = APACHE_COMMON_LOG_PATTERN.matcher(line);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Not an Apache access log: " + line);
+        }
+        final Map<String, Object> record = new LinkedHashMap<>();
+        record.put("message", line);
+        record.put("clientip", matcher.group(1));
+        record.put("ident", matcher.group(2));
+        record.put("auth", matcher.group(3));
+        record.put("timestamp", matcher.group(4));
+        record.put("verb", matcher.group(5));
+        record.put("request", matcher.group(6));
+        record.put("httpversion", matcher.group(7));
+        record.put("response", Integer.parseInt(matcher.group(8)));
+        record.put("bytes", Integer.parseInt(matcher.group(9)));
+        record.put("referrer", matcher.group(10));
+        record.put("agent", matcher.group(11));
+        return record;
+    }
+
+    private static List<String> readAllLines(final String resourceName) {
+        try (final InputStream inputStream = BenchmarkFixtures.class.getClassLoader().getResourceAsStream(resourceName)) {
+            if (inputStream == null) {
+                throw new IllegalArgumentException("Unknown fixture: " + resourceName);
+            }
+            final BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+            return reader.lines()
+                    .filter(line -> !line.isEmpty())
+                    .collect(Collectors.toList());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] randomBytes(final Random random, final int length) {
+        final byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+
+    private static KeyValue stringAttribute(final String key, final String value) {
+        return KeyValue.newBuilder()
+                .setKey(key)
+                .setValue(AnyValue.newBuilder().setStringValue(value))
+                .build();
+    }
+
+    private static KeyValue intAttribute(final String key, final long value) {
+        return KeyValue.newBuilder()
+                .setKey(key)
+                .setValue(AnyValue.newBuilder().setIntValue(value))
+                .build();
+    }
+}
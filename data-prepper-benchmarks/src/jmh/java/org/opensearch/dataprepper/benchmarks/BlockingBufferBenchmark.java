@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.benchmarks;
+
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Measures writing batches of events to a {@link BlockingBuffer} while other threads read and checkpoint them. The
+ * benchmark runs a group of writers and readers which share one buffer; the number of groups follows the thread count
+ * of the run, so more threads mean more contention on the buffer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BlockingBufferBenchmark {
+    private static final int TIMEOUT_MILLIS = 100;
+
+    @Param({"12800"})
+    private int bufferSize;
+
+    @Param({"1", "200"})
+    private int batchSize;
+
+    private BlockingBuffer<Record<Event>> buffer;
+    private List<Record<Event>> batch;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        buffer = new BlockingBuffer<>(bufferSize, batchSize, "benchmark");
+        final List<Event> events = BenchmarkFixtures.createEvents(BenchmarkFixtures.apacheLogRecords());
+        batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(new Record<>(events.get(i % events.size())));
+        }
+    }
+
+    @Benchmark
+    @Group("writeAndRead")
+    @GroupThreads(1)
+    public boolean write() throws Exception {
+        try {
+            if (batchSize == 1) {
+                buffer.write(batch.get(0), TIMEOUT_MILLIS);
+            } else {
+                buffer.writeAll(batch, TIMEOUT_MILLIS);
+            }
+            return true;
+        } catch (final TimeoutException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    @Group("writeAndRead")
+    @GroupThreads(1)
+    public int readAndCheckpoint() {
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> readResult = buffer.read(0);
+        buffer.checkpoint(readResult.getValue());
+        return readResult.getKey().size();
+    }
+}
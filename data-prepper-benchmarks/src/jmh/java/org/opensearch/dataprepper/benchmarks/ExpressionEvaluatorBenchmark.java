@@ -0,0 +1,70 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.benchmarks;
+
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.model.event.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures evaluating conditional expressions, as in the routes and the when conditions of processors, against events
+ * of parsed Apache access logs. The evaluator is created by Spring, as in Data Prepper, and shared by all threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ExpressionEvaluatorBenchmark {
+    @Param({
+            "/response == 200",
+            "/response >= 400 and /verb == \"POST\"",
+            "/request =~ \"/api/v1/.*\"",
+            "/response in {500, 502, 503} or (/bytes > 50000 and /verb != \"GET\")"
+    })
+    private String statement;
+
+    private AnnotationConfigApplicationContext applicationContext;
+    private ExpressionEvaluator<Boolean> expressionEvaluator;
+    private List<Event> events;
+
+    @State(Scope.Thread)
+    public static class EventIndex {
+        private int index;
+    }
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        applicationContext = new AnnotationConfigApplicationContext();
+        applicationContext.scan("org.opensearch.dataprepper.expression");
+        applicationContext.refresh();
+        expressionEvaluator = applicationContext.getBean(ExpressionEvaluator.class);
+        events = BenchmarkFixtures.createEvents(BenchmarkFixtures.apacheLogRecords());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public Boolean evaluate(final EventIndex eventIndex) {
+        eventIndex.index = (eventIndex.index + 1) % events.size();
+        return expressionEvaluator.evaluate(statement, events.get(eventIndex.index));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.benchmarks;
+
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.peerforwarder.HashRing;
+import org.opensearch.dataprepper.peerforwarder.discovery.StaticPeerListProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures choosing the peer of events with {@link HashRing#getServerIp(List)}, as the peer forwarder does for every
+ * event. The identification keys are the client IPs of Apache access logs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HashRingBenchmark {
+    private static final int VIRTUAL_NODES = 128;
+
+    @Param({"3", "20"})
+    private int peerCount;
+
+    private HashRing hashRing;
+    private List<List<String>> identificationKeyValues;
+
+    @State(Scope.Thread)
+    public static class KeyIndex {
+        private int index;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final List<String> peers = new ArrayList<>();
+        for (int i = 0; i < peerCount; i++) {
+            peers.add("10.0.0." + (i + 1));
+        }
+        hashRing = new HashRing(new StaticPeerListProvider(peers, PluginMetrics.fromNames("peerForwarder", "benchmark")), VIRTUAL_NODES);
+
+        identificationKeyValues = new ArrayList<>();
+        for (final Map<String, Object> record : BenchmarkFixtures.apacheLogRecords()) {
+            identificationKeyValues.add(Collections.singletonList((String) record.get("clientip")));
+        }
+    }
+
+    @Benchmark
+    public Optional<String> getServerIp(final KeyIndex keyIndex) {
+        keyIndex.index = (keyIndex.index + 1) % identificationKeyValues.size();
+        return hashRing.getServerIp(identificationKeyValues.get(keyIndex.index));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.benchmarks;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.opensearch.dataprepper.metrics.MetricsMode;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.processor.AbstractProcessor;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of the metrics which buffers and processors record on every call, in each
+ * {@link MetricsMode}, with the meters registered in a Prometheus registry as in Data Prepper. The buffer is the
+ * default {@link BlockingBuffer}, which each iteration writes a batch to, reads a batch from and checkpoints. The
+ * processor does no work of its own, so its results are the cost of the metrics of {@link AbstractProcessor}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class HotPathMetricsBenchmark {
+    private static final int BATCH_SIZE = 8;
+    private static final int WRITE_TIMEOUT_MILLIS = 1_000;
+
+    @Param({"STANDARD", "LOW_OVERHEAD"})
+    private String metricsMode;
+
+    private PrometheusMeterRegistry meterRegistry;
+    private BlockingBuffer<Record<String>> buffer;
+    private NoOpProcessor processor;
+    private List<Record<String>> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        Metrics.addRegistry(meterRegistry);
+        buffer = new BlockingBuffer<>(createPluginSetting("bounded_blocking"));
+        processor = new NoOpProcessor(PluginMetrics.fromPluginSetting(createPluginSetting("processor")));
+
+        batch = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(new Record<>("message" + i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Metrics.removeRegistry(meterRegistry);
+        meterRegistry.close();
+    }
+
+    private PluginSetting createPluginSetting(final String pluginName) {
+        final PluginSetting pluginSetting = new PluginSetting(pluginName, Collections.emptyMap());
+        pluginSetting.setPipelineName("benchmark");
+        pluginSetting.setMetricsMode(MetricsMode.valueOf(metricsMode));
+        return pluginSetting;
+    }
+
+    @Benchmark
+    public Collection<Record<String>> bufferWriteReadCheckpoint() throws Exception {
+        buffer.writeAll(batch, WRITE_TIMEOUT_MILLIS);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = buffer.read(0);
+        buffer.checkpoint(readResult.getValue());
+        return readResult.getKey();
+    }
+
+    @Benchmark
+    public Collection<Record<String>> processorExecute() {
+        return processor.execute(batch);
+    }
+
+    private static class NoOpProcessor extends AbstractProcessor<Record<String>, Record<String>> {
+        NoOpProcessor(final PluginMetrics pluginMetrics) {
+            super(pluginMetrics);
+        }
+
+        @Override
+        public Collection<Record<String>> doExecute(final Collection<Record<String>> records) {
+            return records;
+        }
+
+        @Override
+        public void prepareForShutdown() {
+        }
+
+        @Override
+        public boolean isReadyForShutdown() {
+            return true;
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.opensearch.dataprepper.model.codec.InputCodec;
+import org.opensearch.dataprepper.plugins.codec.csv.CsvInputCodec;
+import org.opensearch.dataprepper.plugins.codec.csv.CsvInputCodecConfig;
+import org.opensearch.dataprepper.plugins.codec.json.JsonInputCodec;
+import org.opensearch.dataprepper.plugins.codec.newline.NewlineDelimitedInputCodec;
+import org.opensearch.dataprepper.plugins.codec.newline.NewlineDelimitedInputConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing an object of logs into events with the input codecs, as the S3 source does. The newline codecs
+ * parse Apache access logs, and the JSON and CSV codecs parse VPC flow logs. Each operation parses the whole object.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class InputCodecBenchmark {
+    @Param({"newline", "newline_byte_scanning", "json", "csv"})
+    private String codec;
+
+    @Param({"1000"})
+    private int lineCount;
+
+    private InputCodec inputCodec;
+    private byte[] content;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        switch (codec) {
+            case "newline":
+            case "newline_byte_scanning":
+                inputCodec = new NewlineDelimitedInputCodec(objectMapper.convertValue(
+                        Collections.singletonMap("byte_scanning", "newline_byte_scanning".equals(codec)),
+                        NewlineDelimitedInputConfig.class));
+                content = BenchmarkFixtures.repeatLines(BenchmarkFixtures.APACHE_LOGS, lineCount);
+                break;
+            case "json":
+                inputCodec = new JsonInputCodec();
+                final List<Map<String, Object>> vpcFlowLogRecords = BenchmarkFixtures.vpcFlowLogRecords();
+                final List<Map<String, Object>> records = new ArrayList<>(lineCount);
+                for (int i = 0; i < lineCount; i++) {
+                    records.add(vpcFlowLogRecords.get(i % vpcFlowLogRecords.size()));
+                }
+                content = objectMapper.writeValueAsBytes(Collections.singletonMap("Records", records));
+                break;
+            case "csv":
+                inputCodec = new CsvInputCodec(objectMapper.convertValue(
+                        Map.of("delimiter", " ", "detect_header", true),
+                        CsvInputCodecConfig.class));
+                content = BenchmarkFixtures.repeatLines(BenchmarkFixtures.VPC_FLOW_LOGS, lineCount);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown codec: " + codec);
+        }
+    }
+
+    @Benchmark
+    public void parse(final Blackhole blackhole) throws IOException {
+        inputCodec.parse(new ByteArrayInputStream(content), blackhole::consume);
+    }
+}
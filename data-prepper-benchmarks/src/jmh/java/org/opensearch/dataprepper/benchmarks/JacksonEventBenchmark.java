@@ -0,0 +1,83 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.benchmarks;
+
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading, writing and serializing the fields of a {@link JacksonEvent}, for events of parsed Apache access
+ * logs and VPC flow logs. Each thread uses its own events, as the threads of a pipeline do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JacksonEventBenchmark {
+    private static final String NESTED_KEY = "/http/response/status_code";
+
+    @Param({"apache", "vpc_flow"})
+    private String logType;
+
+    private List<Event> events;
+    private String topLevelKey;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final List<Map<String, Object>> records;
+        if ("apache".equals(logType)) {
+            records = BenchmarkFixtures.apacheLogRecords();
+            topLevelKey = "response";
+        } else {
+            records = BenchmarkFixtures.vpcFlowLogRecords();
+            topLevelKey = "dstport";
+        }
+        events = BenchmarkFixtures.createEvents(records);
+        for (final Event event : events) {
+            event.put(NESTED_KEY, 200);
+        }
+    }
+
+    private Event nextEvent() {
+        index = (index + 1) % events.size();
+        return events.get(index);
+    }
+
+    @Benchmark
+    public Object getTopLevelField() {
+        return nextEvent().get(topLevelKey, Object.class);
+    }
+
+    @Benchmark
+    public Integer getNestedField() {
+        return nextEvent().get(NESTED_KEY, Integer.class);
+    }
+
+    @Benchmark
+    public Event putNestedField() {
+        final Event event = nextEvent();
+        event.put("/enrichment/geo/country", "US");
+        return event;
+    }
+
+    @Benchmark
+    public String toJsonString() {
+        return nextEvent().toJsonString();
+    }
+}
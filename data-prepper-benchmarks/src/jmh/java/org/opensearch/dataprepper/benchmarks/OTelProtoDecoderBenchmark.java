@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.benchmarks;
+
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import org.opensearch.dataprepper.model.trace.Span;
+import org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding OTLP trace requests into Data Prepper spans, as the OTel trace source does for every request:
+ * parsing the protobuf bytes and then converting the spans with {@link OTelProtoCodec.OTelProtoDecoder}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OTelProtoDecoderBenchmark {
+    @Param({"8", "512"})
+    private int spansPerRequest;
+
+    private OTelProtoCodec.OTelProtoDecoder decoder;
+    private ExportTraceServiceRequest request;
+    private byte[] requestBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        decoder = new OTelProtoCodec.OTelProtoDecoder();
+        request = BenchmarkFixtures.createExportTraceServiceRequest(spansPerRequest);
+        requestBytes = request.toByteArray();
+    }
+
+    @Benchmark
+    public List<Span> parseExportTraceServiceRequest() {
+        return decoder.parseExportTraceServiceRequest(request);
+    }
+
+    @Benchmark
+    public List<Span> parseAndDecodeRequestBytes() throws Exception {
+        return decoder.parseExportTraceServiceRequest(ExportTraceServiceRequest.parseFrom(requestBytes));
+    }
+}
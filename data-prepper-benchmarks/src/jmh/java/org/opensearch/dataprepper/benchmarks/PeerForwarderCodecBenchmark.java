@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.benchmarks;
+
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.peerforwarder.codec.JacksonPeerForwarderCodec;
+import org.opensearch.dataprepper.peerforwarder.codec.JavaPeerForwarderCodec;
+import org.opensearch.dataprepper.peerforwarder.codec.PeerForwarderCodec;
+import org.opensearch.dataprepper.peerforwarder.codec.PeerForwarderCodecAppConfig;
+import org.opensearch.dataprepper.peerforwarder.model.PeerForwardingEvents;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures serializing and deserializing the batches which the peer forwarder sends to its peers, with each
+ * {@link PeerForwarderCodec}. The codecs are configured as in {@link PeerForwarderCodecAppConfig}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PeerForwarderCodecBenchmark {
+    @Param({"java", "jackson"})
+    private String codec;
+
+    @Param({"apache", "vpc_flow"})
+    private String logType;
+
+    @Param({"48"})
+    private int batchSize;
+
+    private PeerForwarderCodec peerForwarderCodec;
+    private PeerForwardingEvents peerForwardingEvents;
+    private byte[] serializedEvents;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        final PeerForwarderCodecAppConfig appConfig = new PeerForwarderCodecAppConfig();
+        peerForwarderCodec = "java".equals(codec)
+                ? new JavaPeerForwarderCodec(appConfig.objectInputFilter())
+                : new JacksonPeerForwarderCodec(appConfig.objectMapper());
+
+        final List<Event> fixtureEvents = BenchmarkFixtures.createEvents("apache".equals(logType)
+                ? BenchmarkFixtures.apacheLogRecords()
+                : BenchmarkFixtures.vpcFlowLogRecords());
+        final List<Event> events = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            events.add(fixtureEvents.get(i % fixtureEvents.size()));
+        }
+        peerForwardingEvents = new PeerForwardingEvents(events, "aggregate", "benchmark-pipeline");
+        serializedEvents = peerForwarderCodec.serialize(peerForwardingEvents);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return peerForwarderCodec.serialize(peerForwardingEvents);
+    }
+
+    @Benchmark
+    public PeerForwardingEvents deserialize() throws Exception {
+        return peerForwarderCodec.deserialize(serializedEvents);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.benchmarks;
+
+import org.opensearch.dataprepper.model.sink.Sink;
+import org.opensearch.dataprepper.plugin.ClasspathPluginProvider;
+import org.opensearch.dataprepper.plugin.IndexedClasspathPluginProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time for a new JVM to find its first plugin, as at Data Prepper startup, by scanning the classpath
+ * with a {@link ClasspathPluginProvider} and by reading the plugin indexes with an
+ * {@link IndexedClasspathPluginProvider}. Each fork measures a single cold lookup.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(10)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class PluginProviderStartupBenchmark {
+    private static final String PLUGIN_NAME = "file";
+
+    @Benchmark
+    public Optional<Class<? extends Sink>> classpathScan() {
+        return new ClasspathPluginProvider().findPluginClass(Sink.class, PLUGIN_NAME);
+    }
+
+    @Benchmark
+    public Optional<Class<? extends Sink>> pluginIndex() {
+        return new IndexedClasspathPluginProvider().findPluginClass(Sink.class, PLUGIN_NAME);
+    }
+}
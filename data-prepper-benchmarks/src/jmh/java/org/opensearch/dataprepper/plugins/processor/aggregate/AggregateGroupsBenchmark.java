@@ -0,0 +1,94 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.plugins.processor.aggregate.actions.CountAggregateAction;
+import org.opensearch.dataprepper.plugins.processor.aggregate.actions.CountAggregateActionConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares handling Events with the default group state of the {@link AggregateProcessor} against the
+ * high cardinality mode for a large number of distinct groups.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class AggregateGroupsBenchmark {
+    private static final List<String> IDENTIFICATION_KEYS = Arrays.asList("sourceIp", "destinationIp");
+    private static final int EVENTS = 1 << 16;
+
+    @Param({"1000000"})
+    private int groups;
+
+    private Event[] events;
+    private AggregateIdentificationKeysHasher aggregateIdentificationKeysHasher;
+    private AggregateGroupManager aggregateGroupManager;
+    private AggregateActionSynchronizer aggregateActionSynchronizer;
+    private PrimitiveAggregateGroupManager primitiveAggregateGroupManager;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        events = new Event[EVENTS];
+        for (int i = 0; i < EVENTS; i++) {
+            final int group = ThreadLocalRandom.current().nextInt(groups);
+            final Map<String, Object> data = new HashMap<>();
+            data.put("sourceIp", "10.0." + (group >>> 8 & 0xFF) + "." + (group & 0xFF));
+            data.put("destinationIp", "192.168.0." + (group >>> 16));
+            events[i] = JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(data)
+                    .build();
+        }
+
+        final CountAggregateAction countAggregateAction = new CountAggregateAction(new CountAggregateActionConfig());
+        final Duration groupDuration = Duration.ofHours(1);
+        aggregateIdentificationKeysHasher = new AggregateIdentificationKeysHasher(IDENTIFICATION_KEYS);
+        aggregateGroupManager = new AggregateGroupManager(groupDuration);
+        aggregateActionSynchronizer = new AggregateActionSynchronizer.AggregateActionSynchronizerProvider()
+                .provide(countAggregateAction, aggregateGroupManager, PluginMetrics.fromNames("aggregate", "benchmark"));
+        primitiveAggregateGroupManager = new PrimitiveAggregateGroupManager(groupDuration, aggregateIdentificationKeysHasher,
+                countAggregateAction, PrimitiveAggregateGroupManager.DEFAULT_LOCK_STRIPES);
+    }
+
+    @Benchmark
+    public AggregateActionResponse defaultGroups() {
+        final Event event = nextEvent();
+        final AggregateIdentificationKeysHasher.IdentificationKeysMap identificationKeysMap =
+                aggregateIdentificationKeysHasher.createIdentificationKeysMapFromEvent(event);
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+        return aggregateActionSynchronizer.handleEventForGroup(event, identificationKeysMap, aggregateGroup);
+    }
+
+    @Benchmark
+    public boolean highCardinalityGroups() {
+        return primitiveAggregateGroupManager.handleEvent(nextEvent(), System.nanoTime());
+    }
+
+    private Event nextEvent() {
+        return events[ThreadLocalRandom.current().nextInt(EVENTS)];
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.csv;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parsing a row and its header the way the {@link CsvProcessor} used to, with a new Jackson reader for
+ * every row and header, against a shared {@link CsvLineParser} and a {@link CsvHeaderCache}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CsvParsingBenchmark {
+    private static final String VPC_FLOW_LOG_HEADER = "version account-id interface-id srcaddr dstaddr srcport dstport "
+            + "protocol packets bytes start end action log-status";
+    private static final String VPC_FLOW_LOG = "2 123456789010 eni-1235b8ca123456789 172.31.16.139 172.31.16.21 20641 22 "
+            + "6 20 4249 1418530010 1418530070 ACCEPT OK";
+    private static final String CLOUDFRONT_LOG_HEADER = String.join("\t", "date", "time", "x-edge-location", "sc-bytes",
+            "c-ip", "cs-method", "cs(Host)", "cs-uri-stem", "sc-status", "cs(Referer)", "cs(User-Agent)", "cs-uri-query",
+            "cs(Cookie)", "x-edge-result-type", "x-edge-request-id", "x-host-header", "cs-protocol", "cs-bytes",
+            "time-taken");
+    private static final String CLOUDFRONT_LOG = String.join("\t", "2019-12-04", "21:02:31", "LAX1", "392", "192.0.2.100",
+            "GET", "d111111abcdef8.cloudfront.net", "/index.html", "200", "-",
+            "Mozilla/5.0%20(Windows%20NT%2010.0;%20Win64;%20x64)", "-", "-", "Hit",
+            "RAC_kDSRxz86r6ZsKDh8t6yz5n6CR5H4rwlDQ1C6X5Xc5EXAMPLE==", "d111111abcdef8.cloudfront.net", "https", "23",
+            "0.001");
+
+    @Param({"vpc_flow", "cloudfront"})
+    private String logType;
+
+    private String header;
+    private String line;
+    private char delimiter;
+    private CsvLineParser csvLineParser;
+    private CsvHeaderCache csvHeaderCache;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("vpc_flow".equals(logType)) {
+            header = VPC_FLOW_LOG_HEADER;
+            line = VPC_FLOW_LOG;
+            delimiter = ' ';
+        } else {
+            header = CLOUDFRONT_LOG_HEADER;
+            line = CLOUDFRONT_LOG;
+            delimiter = '\t';
+        }
+        csvLineParser = new CsvLineParser(delimiter, '"');
+        csvHeaderCache = new CsvHeaderCache(CsvProcessor.MAXIMUM_CACHED_HEADERS);
+    }
+
+    @Benchmark
+    public List<String> readerPerRow() throws IOException {
+        final CsvMapper mapper = new CsvMapper();
+        mapper.enable(CsvParser.Feature.WRAP_AS_ARRAY);
+        final CsvSchema schema = CsvSchema.emptySchema().withColumnSeparator(delimiter).withQuoteChar('"');
+        final ObjectReader objectReader = mapper.readerFor(List.class).with(schema);
+
+        final MappingIterator<List<String>> rowIterator = objectReader.readValues(line);
+        final List<String> row = rowIterator.nextValue();
+        final MappingIterator<List<String>> headerIterator = objectReader.readValues(header);
+        final List<String> parsedHeader = headerIterator.nextValue();
+        return parsedHeader.size() > row.size() ? parsedHeader : row;
+    }
+
+    @Benchmark
+    public List<String> sharedParserAndHeaderCache() throws IOException {
+        final List<String> row = csvLineParser.parseFirstRow(line);
+        final List<String> parsedHeader = csvHeaderCache.getParsedHeader(header, this::parseHeader);
+        return parsedHeader.size() > row.size() ? parsedHeader : row;
+    }
+
+    private List<String> parseHeader(final String header) {
+        try {
+            return csvLineParser.parseFirstRow(header);
+        } catch (final IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
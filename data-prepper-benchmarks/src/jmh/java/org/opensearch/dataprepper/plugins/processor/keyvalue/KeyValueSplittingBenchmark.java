@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.keyvalue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares splitting a message into key/value pairs the way the {@link KeyValueProcessor} does for regex delimiters,
+ * with a regex split per message and per pair, against the {@link CharacterKeyValueSplitter} it uses for plain
+ * split characters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class KeyValueSplittingBenchmark {
+    private static final String QUERY_STRING = "action=search&query=data%20prepper&page=2&per_page=50&sort=relevance"
+            + "&lang=en&session=8f14e45fceea167a5a36dedd4bea2543&source=header";
+    private static final String LOGFMT = "time=2023-01-01T12:00:00.000Z level=info service=checkout method=POST "
+            + "path=/api/orders status=201 duration=35ms bytes=1234 request_id=b1f6c7e2";
+
+    @Param({"query_string", "logfmt"})
+    private String inputType;
+
+    private String message;
+    private Pattern fieldDelimiterPattern;
+    private Pattern keyValueDelimiterPattern;
+    private CharacterKeyValueSplitter characterKeyValueSplitter;
+    private Map<String, Object> parsedMap;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final String fieldSplitCharacters;
+        if ("query_string".equals(inputType)) {
+            message = QUERY_STRING;
+            fieldSplitCharacters = "&";
+        } else {
+            message = LOGFMT;
+            fieldSplitCharacters = " ";
+        }
+        fieldDelimiterPattern = Pattern.compile(fieldSplitCharacters);
+        keyValueDelimiterPattern = Pattern.compile("=");
+        characterKeyValueSplitter = new CharacterKeyValueSplitter(fieldSplitCharacters, "=");
+        parsedMap = new HashMap<>();
+    }
+
+    @Benchmark
+    public Map<String, Object> regexSplit() {
+        final Map<String, Object> regexParsedMap = new HashMap<>();
+        for (final String group : fieldDelimiterPattern.split(message, 0)) {
+            final String[] terms = keyValueDelimiterPattern.split(group, 2);
+            regexParsedMap.put(terms[0], terms.length == 2 ? terms[1] : null);
+        }
+        return regexParsedMap;
+    }
+
+    @Benchmark
+    public Map<String, Object> characterSplit() {
+        parsedMap.clear();
+        characterKeyValueSplitter.split(message, parsedMap::put);
+        return parsedMap;
+    }
+}
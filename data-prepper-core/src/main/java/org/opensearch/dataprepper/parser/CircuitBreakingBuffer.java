@@ -12,6 +12,7 @@ import org.opensearch.dataprepper.model.record.Record;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeoutException;
 
 import static java.util.Objects.requireNonNull;
@@ -62,6 +63,11 @@ class CircuitBreakingBuffer<T extends Record<?>> implements Buffer<T> {
         return buffer.read(timeoutInMillis);
     }
 
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> read(final int timeoutInMillis, final int maxBatchSize) {
+        return buffer.read(timeoutInMillis, maxBatchSize);
+    }
+
     @Override
     public void checkpoint(final CheckpointState checkpointState) {
         buffer.checkpoint(checkpointState);
@@ -71,4 +77,9 @@ class CircuitBreakingBuffer<T extends Record<?>> implements Buffer<T> {
     public boolean isEmpty() {
         return buffer.isEmpty();
     }
+
+    @Override
+    public Optional<Double> getFillRatio() {
+        return buffer.getFillRatio();
+    }
 }
@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.parser;
 
 import org.opensearch.dataprepper.breaker.CircuitBreakerManager;
+import org.opensearch.dataprepper.metrics.MetricsMode;
 import org.opensearch.dataprepper.model.annotations.SingleThread;
 import org.opensearch.dataprepper.model.buffer.Buffer;
 import org.opensearch.dataprepper.model.configuration.DataPrepperVersion;
@@ -25,8 +26,10 @@ import org.opensearch.dataprepper.parser.model.RoutedPluginSetting;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderProvider;
 import org.opensearch.dataprepper.peerforwarder.PeerForwardingProcessorDecorator;
+import org.opensearch.dataprepper.pipeline.FusedProcessor;
 import org.opensearch.dataprepper.pipeline.Pipeline;
 import org.opensearch.dataprepper.pipeline.PipelineConnector;
+import org.opensearch.dataprepper.pipeline.SharedWorkerPool;
 import org.opensearch.dataprepper.plugins.MultiBufferDecorator;
 import org.opensearch.dataprepper.pipeline.router.Router;
 import org.opensearch.dataprepper.pipeline.router.RouterFactory;
@@ -60,6 +63,8 @@ public class PipelineParser {
             .enable(DeserializationFeature.FAIL_ON_READING_DUP_TREE_KEY);
     private static final String PIPELINE_TYPE = "pipeline";
     private static final String ATTRIBUTE_NAME = "name";
+    private static final String ATTRIBUTE_BATCH_WRITES = "batch_writes";
+    private static final String ATTRIBUTE_SHARE_RECORDS = "share_records";
     private final String pipelineConfigurationFileLocation;
     private final RouterFactory routerFactory;
     private final DataPrepperConfiguration dataPrepperConfiguration;
@@ -67,6 +72,8 @@ public class PipelineParser {
     private final Map<String, PipelineConnector> sourceConnectorMap = new HashMap<>(); //TODO Remove this and rely only on pipelineMap
     private final PluginFactory pluginFactory;
     private final PeerForwarderProvider peerForwarderProvider;
+    private final SharedWorkerPool sharedWorkerPool;
+    private final MetricsMode metricsMode;
 
     public PipelineParser(final String pipelineConfigurationFileLocation,
                           final PluginFactory pluginFactory,
@@ -74,12 +81,30 @@ public class PipelineParser {
                           final RouterFactory routerFactory,
                           final DataPrepperConfiguration dataPrepperConfiguration,
                           final CircuitBreakerManager circuitBreakerManager) {
+        this(pipelineConfigurationFileLocation, pluginFactory, peerForwarderProvider, routerFactory,
+                dataPrepperConfiguration, circuitBreakerManager, null, MetricsMode.STANDARD);
+    }
+
+    /**
+     * @param sharedWorkerPool the pool of threads to run all pipelines on, or null for each pipeline to run its own
+     * @param metricsMode how the hot path metrics of the plugins are recorded
+     */
+    public PipelineParser(final String pipelineConfigurationFileLocation,
+                          final PluginFactory pluginFactory,
+                          final PeerForwarderProvider peerForwarderProvider,
+                          final RouterFactory routerFactory,
+                          final DataPrepperConfiguration dataPrepperConfiguration,
+                          final CircuitBreakerManager circuitBreakerManager,
+                          final SharedWorkerPool sharedWorkerPool,
+                          final MetricsMode metricsMode) {
         this.pipelineConfigurationFileLocation = pipelineConfigurationFileLocation;
         this.pluginFactory = Objects.requireNonNull(pluginFactory);
         this.peerForwarderProvider = Objects.requireNonNull(peerForwarderProvider);
         this.routerFactory = routerFactory;
         this.dataPrepperConfiguration = Objects.requireNonNull(dataPrepperConfiguration);
         this.circuitBreakerManager = circuitBreakerManager;
+        this.sharedWorkerPool = sharedWorkerPool;
+        this.metricsMode = metricsMode;
     }
 
     /**
@@ -104,7 +129,7 @@ public class PipelineParser {
             // LinkedHashMap to preserve insertion order
             final Map<String, Pipeline> pipelineMap = new LinkedHashMap<>();
             pipelineConfigurationMap.forEach((pipelineName, configuration) ->
-                    configuration.updateCommonPipelineConfiguration(pipelineName));
+                    configuration.updateCommonPipelineConfiguration(pipelineName, metricsMode));
             for (String pipelineName : allPipelineNames) {
                 if (!pipelineMap.containsKey(pipelineName) && pipelineConfigurationMap.containsKey(pipelineName)) {
                     buildPipelineFromConfiguration(pipelineName, pipelineConfigurationMap, pipelineMap);
@@ -179,6 +204,9 @@ public class PipelineParser {
             LOG.info("Building processors for the pipeline [{}]", pipelineName);
             final int processorThreads = pipelineConfiguration.getWorkers();
 
+            final List<Boolean> processorFusionAllowed = pipelineConfiguration.getProcessorPluginSettings().stream()
+                    .map(FusedProcessor::removeFusionSetting)
+                    .collect(Collectors.toList());
             final List<List<IdentifiedComponent<Processor>>> processorSets = pipelineConfiguration.getProcessorPluginSettings().stream()
                     .map(this::newProcessor)
                     .collect(Collectors.toList());
@@ -218,9 +246,13 @@ public class PipelineParser {
 
             final Router router = routerFactory.createRouter(pipelineConfiguration.getRoutes());
 
-            final Pipeline pipeline = new Pipeline(pipelineName, source, buffer, decoratedProcessorSets, sinks, router, processorThreads, readBatchDelay,
+            final List<List<Processor>> pipelineProcessorSets = dataPrepperConfiguration.isProcessorFusionEnabled()
+                    ? FusedProcessor.fuseProcessorSets(decoratedProcessorSets, processorFusionAllowed)
+                    : decoratedProcessorSets;
+            final Pipeline pipeline = new Pipeline(pipelineName, source, buffer, pipelineProcessorSets, sinks, router, processorThreads, readBatchDelay,
                     dataPrepperConfiguration.getProcessorShutdownTimeout(), dataPrepperConfiguration.getSinkShutdownTimeout(),
-                    getPeerForwarderDrainTimeout(dataPrepperConfiguration));
+                    getPeerForwarderDrainTimeout(dataPrepperConfiguration), dataPrepperConfiguration.getLatencySamplingRate(),
+                    dataPrepperConfiguration.getAdaptiveBatchingConfig(), sharedWorkerPool);
             pipelineMap.put(pipelineName, pipeline);
         } catch (Exception ex) {
             //If pipeline construction errors out, we will skip that pipeline and proceed
@@ -284,7 +316,9 @@ public class PipelineParser {
         final Optional<String> pipelineNameOptional = getPipelineNameIfPipelineType(pluginSetting);
         if (pipelineNameOptional.isPresent()) { //update to ifPresentOrElse when using JDK9
             final String pipelineName = pipelineNameOptional.get();
-            final PipelineConnector pipelineConnector = new PipelineConnector(pipelineName);
+            final PipelineConnector pipelineConnector = new PipelineConnector(pipelineName,
+                    pluginSetting.getBooleanOrDefault(ATTRIBUTE_BATCH_WRITES, false),
+                    pluginSetting.getBooleanOrDefault(ATTRIBUTE_SHARE_RECORDS, false));
             sourceConnectorMap.put(pipelineName, pipelineConnector); //TODO retrieve from parent Pipeline using name
             return pipelineConnector;
         } else {
@@ -10,6 +10,7 @@ import org.opensearch.dataprepper.model.plugin.PluginFactory;
 import org.opensearch.dataprepper.parser.model.DataPrepperConfiguration;
 import org.opensearch.dataprepper.parser.PipelineParser;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderProvider;
+import org.opensearch.dataprepper.pipeline.SharedWorkerPool;
 import org.opensearch.dataprepper.pipeline.router.RouterFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -26,11 +27,16 @@ public class PipelineParserConfiguration {
             final DataPrepperConfiguration dataPrepperConfiguration,
             final CircuitBreakerManager circuitBreakerManager
             ) {
+        final SharedWorkerPool sharedWorkerPool = dataPrepperConfiguration.getSharedWorkerPoolConfig() != null
+                ? new SharedWorkerPool(dataPrepperConfiguration.getSharedWorkerPoolConfig())
+                : null;
         return new PipelineParser(fileStructurePathProvider.getPipelineConfigFileLocation(),
                 pluginFactory,
                 peerForwarderProvider,
                 routerFactory,
                 dataPrepperConfiguration,
-                circuitBreakerManager);
+                circuitBreakerManager,
+                sharedWorkerPool,
+                dataPrepperConfiguration.getMetricsMode());
     }
 }
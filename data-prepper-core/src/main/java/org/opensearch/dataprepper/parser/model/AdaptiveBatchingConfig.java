@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.parser.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The Data Prepper configuration for tuning the read batch size and the read batch delay of each pipeline while it
+ * runs.
+ *
+ * @since 2.2
+ */
+public class AdaptiveBatchingConfig {
+    static final Duration DEFAULT_TARGET_LATENCY = Duration.ofSeconds(1);
+    static final int DEFAULT_MIN_BATCH_SIZE = 8;
+    static final int DEFAULT_MAX_BATCH_SIZE = 4_096;
+
+    private final Goal goal;
+    private final Duration targetLatency;
+    private final int minBatchSize;
+    private final int maxBatchSize;
+
+    @JsonCreator
+    public AdaptiveBatchingConfig(
+            @JsonProperty("goal") final Goal goal,
+            @JsonProperty("target_latency") final Duration targetLatency,
+            @JsonProperty("min_batch_size") final Integer minBatchSize,
+            @JsonProperty("max_batch_size") final Integer maxBatchSize) {
+        this.goal = goal != null ? goal : Goal.LATENCY;
+        this.targetLatency = targetLatency != null ? targetLatency : DEFAULT_TARGET_LATENCY;
+        if (this.targetLatency.isNegative() || this.targetLatency.isZero()) {
+            throw new IllegalArgumentException("targetLatency must be positive.");
+        }
+        this.minBatchSize = minBatchSize != null ? minBatchSize : DEFAULT_MIN_BATCH_SIZE;
+        this.maxBatchSize = maxBatchSize != null ? maxBatchSize : DEFAULT_MAX_BATCH_SIZE;
+        if (this.minBatchSize <= 0 || this.maxBatchSize < this.minBatchSize) {
+            throw new IllegalArgumentException("minBatchSize must be positive and no greater than maxBatchSize.");
+        }
+    }
+
+    /**
+     * Gets what the tuning optimizes for.
+     *
+     * @return The goal
+     * @since 2.2
+     */
+    public Goal getGoal() {
+        return goal;
+    }
+
+    /**
+     * Gets the target for the time the sinks take to output a batch. Batches shrink when the sinks are slower.
+     *
+     * @return The target latency
+     * @since 2.2
+     */
+    public Duration getTargetLatency() {
+        return targetLatency;
+    }
+
+    /**
+     * @return The smallest batch size to read
+     * @since 2.2
+     */
+    public int getMinBatchSize() {
+        return minBatchSize;
+    }
+
+    /**
+     * @return The largest batch size to read
+     * @since 2.2
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * What the tuning optimizes for while the sinks keep within the target latency.
+     */
+    public enum Goal {
+        /**
+         * Reads without waiting for batches to fill up, so that events reach the sinks as soon as possible.
+         */
+        LATENCY("latency"),
+
+        /**
+         * Waits for batches to fill up, so that the sinks output fewer, larger batches.
+         */
+        THROUGHPUT("throughput");
+
+        private static final Map<String, Goal> GOALS_MAP = Arrays.stream(Goal.values())
+                .collect(Collectors.toMap(
+                        value -> value.name,
+                        value -> value
+                ));
+
+        private final String name;
+
+        Goal(final String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+
+        @JsonCreator
+        static Goal fromOptionValue(final String option) {
+            final Goal goal = GOALS_MAP.get(option.toLowerCase());
+            if (goal == null) {
+                throw new IllegalArgumentException("Unknown adaptive batching goal: " + option);
+            }
+            return goal;
+        }
+    }
+}
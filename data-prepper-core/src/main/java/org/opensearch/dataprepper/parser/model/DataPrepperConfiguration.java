@@ -8,6 +8,7 @@ package org.opensearch.dataprepper.parser.model;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonAlias;
+import org.opensearch.dataprepper.metrics.MetricsMode;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
 import org.opensearch.dataprepper.parser.config.MetricTagFilter;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration;
@@ -24,6 +25,7 @@ import java.util.Map;
  */
 public class DataPrepperConfiguration {
     static final Duration DEFAULT_SHUTDOWN_DURATION = Duration.ofSeconds(30L);
+    static final double DEFAULT_LATENCY_SAMPLING_RATE = 0.01;
 
     static final int MAX_TAGS_NUMBER = 3;
     private static final List<MetricRegistryType> DEFAULT_METRIC_REGISTRY_TYPE = Collections.singletonList(MetricRegistryType.Prometheus);
@@ -40,6 +42,11 @@ public class DataPrepperConfiguration {
     private PeerForwarderConfiguration peerForwarderConfiguration;
     private Duration processorShutdownTimeout;
     private Duration sinkShutdownTimeout;
+    private double latencySamplingRate = DEFAULT_LATENCY_SAMPLING_RATE;
+    private MetricsMode metricsMode = MetricsMode.STANDARD;
+    private boolean processorFusion = false;
+    private AdaptiveBatchingConfig adaptiveBatchingConfig;
+    private SharedWorkerPoolConfig sharedWorkerPoolConfig;
 
     public static final DataPrepperConfiguration DEFAULT_CONFIG = new DataPrepperConfiguration();
 
@@ -76,7 +83,12 @@ public class DataPrepperConfiguration {
             @JsonProperty("sink_shutdown_timeout")
             @JsonAlias("sinkShutdownTimeout")
             final Duration sinkShutdownTimeout,
-            @JsonProperty("circuit_breakers") final CircuitBreakerConfig circuitBreakerConfig
+            @JsonProperty("circuit_breakers") final CircuitBreakerConfig circuitBreakerConfig,
+            @JsonProperty("latency_sampling_rate") final Double latencySamplingRate,
+            @JsonProperty("metrics_mode") final MetricsMode metricsMode,
+            @JsonProperty("processor_fusion") final Boolean processorFusion,
+            @JsonProperty("adaptive_batching") final AdaptiveBatchingConfig adaptiveBatchingConfig,
+            @JsonProperty("shared_worker_pool") final SharedWorkerPoolConfig sharedWorkerPoolConfig
             ) {
         this.authentication = authentication;
         this.circuitBreakerConfig = circuitBreakerConfig;
@@ -99,6 +111,16 @@ public class DataPrepperConfiguration {
         if (this.sinkShutdownTimeout.isNegative()) {
             throw new IllegalArgumentException("sinkShutdownTimeout must be non-negative.");
         }
+
+        this.latencySamplingRate = latencySamplingRate != null ? latencySamplingRate : DEFAULT_LATENCY_SAMPLING_RATE;
+        if (this.latencySamplingRate < 0 || this.latencySamplingRate > 1) {
+            throw new IllegalArgumentException("latencySamplingRate must be between 0 and 1.");
+        }
+
+        this.metricsMode = metricsMode != null ? metricsMode : MetricsMode.STANDARD;
+        this.processorFusion = processorFusion != null ? processorFusion : false;
+        this.adaptiveBatchingConfig = adaptiveBatchingConfig;
+        this.sharedWorkerPoolConfig = sharedWorkerPoolConfig;
     }
 
     public int getServerPort() {
@@ -193,6 +215,39 @@ public class DataPrepperConfiguration {
         return sinkShutdownTimeout;
     }
 
+    /**
+     * @return the fraction of events for which the pipelines record the buffer dwell time and the event age
+     */
+    public double getLatencySamplingRate() {
+        return latencySamplingRate;
+    }
+
+    public MetricsMode getMetricsMode() {
+        return metricsMode;
+    }
+
+    /**
+     * @return true if the pipelines run adjacent fusible processors in one loop over each batch
+     */
+    public boolean isProcessorFusionEnabled() {
+        return processorFusion;
+    }
+
+    /**
+     * @return the configuration for tuning the read batches of the pipelines, or null if they read fixed batches
+     */
+    public AdaptiveBatchingConfig getAdaptiveBatchingConfig() {
+        return adaptiveBatchingConfig;
+    }
+
+    /**
+     * @return the configuration for running the workers of all pipelines on one shared pool of threads, or null if each
+     * pipeline runs its own threads
+     */
+    public SharedWorkerPoolConfig getSharedWorkerPoolConfig() {
+        return sharedWorkerPoolConfig;
+    }
+
     public CircuitBreakerConfig getCircuitBreakerConfig() {
         return circuitBreakerConfig;
     }
@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.parser.model;
 
+import org.opensearch.dataprepper.metrics.MetricsMode;
 import org.opensearch.dataprepper.model.configuration.ConditionalRoute;
 import org.opensearch.dataprepper.model.configuration.PipelineModel;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
@@ -74,19 +75,20 @@ public class PipelineConfiguration {
         return readBatchDelay;
     }
 
-    public void updateCommonPipelineConfiguration(final String pipelineName) {
-        updatePluginSetting(sourcePluginSetting, pipelineName);
-        updatePluginSetting(bufferPluginSetting, pipelineName);
+    public void updateCommonPipelineConfiguration(final String pipelineName, final MetricsMode metricsMode) {
+        updatePluginSetting(sourcePluginSetting, pipelineName, metricsMode);
+        updatePluginSetting(bufferPluginSetting, pipelineName, metricsMode);
         processorPluginSettings.forEach(processorPluginSettings ->
-                updatePluginSetting(processorPluginSettings, pipelineName));
+                updatePluginSetting(processorPluginSettings, pipelineName, metricsMode));
         sinkPluginSettings.forEach(sinkPluginSettings ->
-                updatePluginSetting(sinkPluginSettings, pipelineName));
+                updatePluginSetting(sinkPluginSettings, pipelineName, metricsMode));
     }
 
     private void updatePluginSetting(
-            final PluginSetting pluginSetting, final String pipelineName) {
+            final PluginSetting pluginSetting, final String pipelineName, final MetricsMode metricsMode) {
         pluginSetting.setPipelineName(pipelineName);
         pluginSetting.setProcessWorkers(this.workers);
+        pluginSetting.setMetricsMode(metricsMode);
     }
 
     private PluginSetting getSourceFromPluginModel(final PluginModel pluginModel) {
@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.parser.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The Data Prepper configuration for running the workers of all pipelines on one process-wide pool of threads, in which
+ * each pipeline gets a share of the threads in proportion to its weight.
+ *
+ * @since 2.2
+ */
+public class SharedWorkerPoolConfig {
+    static final int DEFAULT_WEIGHT = 1;
+
+    private final int threads;
+    private final Map<String, Integer> pipelineWeights;
+
+    @JsonCreator
+    public SharedWorkerPoolConfig(
+            @JsonProperty("threads") final Integer threads,
+            @JsonProperty("pipeline_weights") final Map<String, Integer> pipelineWeights) {
+        this.threads = threads != null ? threads : Runtime.getRuntime().availableProcessors();
+        if (this.threads <= 0) {
+            throw new IllegalArgumentException("threads must be positive.");
+        }
+        this.pipelineWeights = pipelineWeights != null ? pipelineWeights : Collections.emptyMap();
+        if (this.pipelineWeights.values().stream().anyMatch(weight -> weight == null || weight <= 0)) {
+            throw new IllegalArgumentException("pipelineWeights must all be positive.");
+        }
+    }
+
+    /**
+     * Gets the number of threads of the pool. Defaults to the number of available processors.
+     *
+     * @return The number of threads
+     * @since 2.2
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Gets the weight of a pipeline. A pipeline with twice the weight of another gets twice its share of the threads
+     * while both have work.
+     *
+     * @param pipelineName the name of the pipeline
+     * @return The configured weight of the pipeline, or 1 if it has none
+     * @since 2.2
+     */
+    public int getWeight(final String pipelineName) {
+        return pipelineWeights.getOrDefault(pipelineName, DEFAULT_WEIGHT);
+    }
+}
@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.peerforwarder;
 
+import com.google.common.collect.Iterators;
 import com.linecorp.armeria.client.Endpoint;
 import org.opensearch.dataprepper.peerforwarder.discovery.PeerListProvider;
 import org.slf4j.Logger;
@@ -15,12 +16,16 @@ import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.TreeMap;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Consistent hashing implementation used to map identification keys to Data Prepper hosts.
@@ -38,6 +43,7 @@ public class HashRing implements Consumer<List<Endpoint>> {
     private final PeerListProvider peerListProvider;
 
     private TreeMap<BigInteger, String> hashServerMap = new TreeMap<>();
+    private List<String> servers = Collections.emptyList();
 
     public HashRing(final PeerListProvider peerListProvider, final int numVirtualNodes) {
         Objects.requireNonNull(peerListProvider);
@@ -54,17 +60,7 @@ public class HashRing implements Consumer<List<Endpoint>> {
             return Optional.empty();
         }
 
-        final byte[] identificationKeysInBytes = String.join(DELIMITER, identificationKeyValues).getBytes();
-
-        final MessageDigest md;
-        try {
-            md = MessageDigest.getInstance(MD5);
-        } catch (NoSuchAlgorithmException e) {
-            throw new AssertionError("unreachable", e);
-        }
-
-        md.update(identificationKeysInBytes);
-        final BigInteger hashcode = new BigInteger(md.digest());
+        final BigInteger hashcode = hashIdentificationKeyValues(identificationKeyValues);
 
         // obtain Map.Entry with key greater than the hashcode
         final Map.Entry<BigInteger, String> entry = hashServerMap.higherEntry(hashcode);
@@ -77,11 +73,64 @@ public class HashRing implements Consumer<List<Endpoint>> {
         }
     }
 
+    /**
+     * Gets the first server clockwise from the hash of the identification key values which is accepted, as used by
+     * consistent hashing with bounded loads. The walk starts at the server which {@link #getServerIp(List)} returns.
+     *
+     * @param identificationKeyValues the identification key values to hash
+     * @param isAccepted whether a server can take the identification key values
+     * @return The first accepted server, the server which {@link #getServerIp(List)} returns if none is accepted, or
+     * empty if there are no servers
+     */
+    public Optional<String> getServerIp(final List<String> identificationKeyValues, final Predicate<String> isAccepted) {
+        if (hashServerMap.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final BigInteger hashcode = hashIdentificationKeyValues(identificationKeyValues);
+
+        String firstServer = null;
+        final Iterator<String> clockwiseServers = Iterators.concat(
+                hashServerMap.tailMap(hashcode, false).values().iterator(),
+                hashServerMap.headMap(hashcode, true).values().iterator());
+        while (clockwiseServers.hasNext()) {
+            final String server = clockwiseServers.next();
+            if (firstServer == null) {
+                firstServer = server;
+            }
+            if (isAccepted.test(server)) {
+                return Optional.of(server);
+            }
+        }
+        return Optional.of(firstServer);
+    }
+
+    /**
+     * @return The distinct servers on the hash ring
+     */
+    public List<String> getServerIps() {
+        return servers;
+    }
+
     @Override
     public void accept(final List<Endpoint> endpoints) {
         buildHashServerMap();
     }
 
+    private BigInteger hashIdentificationKeyValues(final List<String> identificationKeyValues) {
+        final byte[] identificationKeysInBytes = String.join(DELIMITER, identificationKeyValues).getBytes();
+
+        final MessageDigest md;
+        try {
+            md = MessageDigest.getInstance(MD5);
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("unreachable", e);
+        }
+
+        md.update(identificationKeysInBytes);
+        return new BigInteger(md.digest());
+    }
+
     private void buildHashServerMap() {
         final TreeMap<BigInteger, String> newHashValueMap = new TreeMap<>();
         final List<String> endpoints = peerListProvider.getPeerList();
@@ -92,6 +141,7 @@ public class HashRing implements Consumer<List<Endpoint>> {
         }
 
         this.hashServerMap = newHashValueMap;
+        this.servers = List.copyOf(new LinkedHashSet<>(newHashValueMap.values()));
     }
 
     private void addServerIpToHashMap(final String serverIp, final Map<BigInteger, String> targetMap) {
@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.peerforwarder;
 
+import org.opensearch.dataprepper.metrics.MetricsMode;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.parser.model.DataPrepperConfiguration;
 import org.opensearch.dataprepper.peerforwarder.certificate.CertificateProviderFactory;
@@ -74,8 +75,10 @@ class PeerForwarderAppConfig {
     public PeerForwarderProvider peerForwarderProvider(final PeerForwarderClientFactory peerForwarderClientFactory,
                                                        final PeerForwarderClient peerForwarderClient,
                                                        final PeerForwarderConfiguration peerForwarderConfiguration,
-                                                       @Qualifier("peerForwarderMetrics") final PluginMetrics pluginMetrics) {
-        return new PeerForwarderProvider(peerForwarderClientFactory, peerForwarderClient, peerForwarderConfiguration, pluginMetrics);
+                                                       @Qualifier("peerForwarderMetrics") final PluginMetrics pluginMetrics,
+                                                       @Autowired(required = false) final DataPrepperConfiguration dataPrepperConfiguration) {
+        final MetricsMode metricsMode = dataPrepperConfiguration != null ? dataPrepperConfiguration.getMetricsMode() : MetricsMode.STANDARD;
+        return new PeerForwarderProvider(peerForwarderClientFactory, peerForwarderClient, peerForwarderConfiguration, pluginMetrics, metricsMode);
     }
 
     @Bean
@@ -23,6 +23,7 @@ import java.util.Map;
  */
 public class PeerForwarderConfiguration {
     public static final String DEFAULT_PEER_FORWARDING_URI = "/event/forward";
+    public static final String PEER_BACKLOG_HEADER = "x-data-prepper-peer-backlog";
     public static final Duration DEFAULT_DRAIN_TIMEOUT = Duration.ofSeconds(10L);
     public static final Duration DEFAULT_FORWARDING_BATCH_TIMEOUT = Duration.ofSeconds(3L);
     public static final String DEFAULT_CERTIFICATE_FILE_PATH = "config/default_certificate.pem";
@@ -57,6 +58,7 @@ public class PeerForwarderConfiguration {
     private Integer batchSize = 48;
     private Integer batchDelay = 3_000;
     private Integer bufferSize = 512;
+    private long maxBufferBytes = 0;
     private boolean sslCertAndKeyFileInS3 = false;
     private Duration drainTimeout = DEFAULT_DRAIN_TIMEOUT;
     private Integer failedForwardingRequestLocalWriteTimeout = 500;
@@ -64,6 +66,9 @@ public class PeerForwarderConfiguration {
     private Integer forwardingBatchQueueDepth = 1;
     private Duration forwardingBatchTimeout = DEFAULT_FORWARDING_BATCH_TIMEOUT;
     private boolean binaryCodec = true;
+    private RoutingMode routingMode = RoutingMode.CONSISTENT_HASH;
+    private double boundedLoadFactor = 1.25;
+    private int hotKeySplitThreshold = 1000;
 
     public PeerForwarderConfiguration() {}
 
@@ -96,12 +101,16 @@ public class PeerForwarderConfiguration {
             @JsonProperty("batch_size") final Integer batchSize,
             @JsonProperty("batch_delay") final Integer batchDelay,
             @JsonProperty("buffer_size") final Integer bufferSize,
+            @JsonProperty("max_buffer_bytes") final Long maxBufferBytes,
             @JsonProperty("drain_timeout") final Duration drainTimeout,
             @JsonProperty("failed_forwarding_requests_local_write_timeout") final Integer failedForwardingRequestLocalWriteTimeout,
             @JsonProperty("forwarding_batch_size") final Integer forwardingBatchSize,
             @JsonProperty("forwarding_batch_queue_depth") final Integer forwardingBatchQueueDepth,
             @JsonProperty("forwarding_batch_timeout") final Duration forwardingBatchTimeout,
-            @JsonProperty("binary_codec") final Boolean binaryCodec
+            @JsonProperty("binary_codec") final Boolean binaryCodec,
+            @JsonProperty("routing_mode") final String routingMode,
+            @JsonProperty("bounded_load_factor") final Double boundedLoadFactor,
+            @JsonProperty("hot_key_split_threshold") final Integer hotKeySplitThreshold
     ) {
         setServerPort(serverPort);
         setRequestTimeout(requestTimeout);
@@ -130,12 +139,16 @@ public class PeerForwarderConfiguration {
         setBatchSize(batchSize);
         setBatchDelay(batchDelay);
         setBufferSize(bufferSize);
+        setMaxBufferBytes(maxBufferBytes);
         setDrainTimeout(drainTimeout);
         setFailedForwardingRequestLocalWriteTimeout(failedForwardingRequestLocalWriteTimeout);
         setForwardingBatchSize(forwardingBatchSize);
         setForwardingBatchQueueDepth(forwardingBatchQueueDepth);
         setForwardingBatchTimeout(forwardingBatchTimeout);
         setBinaryCodec(binaryCodec == null || binaryCodec);
+        setRoutingMode(routingMode);
+        setBoundedLoadFactor(boundedLoadFactor);
+        setHotKeySplitThreshold(hotKeySplitThreshold);
         checkForCertAndKeyFileInS3();
         validateSslAndAuthentication();
     }
@@ -236,6 +249,10 @@ public class PeerForwarderConfiguration {
         return bufferSize;
     }
 
+    public long getMaxBufferBytes() {
+        return maxBufferBytes;
+    }
+
     public Duration getDrainTimeout() {
         return drainTimeout;
     }
@@ -260,6 +277,18 @@ public class PeerForwarderConfiguration {
         return binaryCodec;
     }
 
+    public RoutingMode getRoutingMode() {
+        return routingMode;
+    }
+
+    public double getBoundedLoadFactor() {
+        return boundedLoadFactor;
+    }
+
+    public int getHotKeySplitThreshold() {
+        return hotKeySplitThreshold;
+    }
+
     private void setServerPort(final Integer serverPort) {
         if (serverPort != null) {
             if (serverPort < 0 || serverPort > 65535) {
@@ -489,6 +518,39 @@ public class PeerForwarderConfiguration {
         }
     }
 
+    private void setMaxBufferBytes(final Long maxBufferBytes) {
+        if (maxBufferBytes != null) {
+            if (maxBufferBytes < 0) {
+                throw new IllegalArgumentException("Max buffer bytes must be a non-negative number.");
+            }
+            this.maxBufferBytes = maxBufferBytes;
+        }
+    }
+
+    private void setRoutingMode(final String routingMode) {
+        if (routingMode != null) {
+            this.routingMode = RoutingMode.valueOf(routingMode.toUpperCase());
+        }
+    }
+
+    private void setBoundedLoadFactor(final Double boundedLoadFactor) {
+        if (boundedLoadFactor != null) {
+            if (boundedLoadFactor < 1.0) {
+                throw new IllegalArgumentException("Bounded load factor must be at least 1.");
+            }
+            this.boundedLoadFactor = boundedLoadFactor;
+        }
+    }
+
+    private void setHotKeySplitThreshold(final Integer hotKeySplitThreshold) {
+        if (hotKeySplitThreshold != null) {
+            if (hotKeySplitThreshold <= 0) {
+                throw new IllegalArgumentException("Hot key split threshold must be a positive number.");
+            }
+            this.hotKeySplitThreshold = hotKeySplitThreshold;
+        }
+    }
+
     private void checkForCertAndKeyFileInS3() {
         if (ssl && !useAcmCertificateForSsl && sslCertificateFile.toLowerCase().startsWith(S3_PREFIX) &&
                     sslKeyFile.toLowerCase().startsWith(S3_PREFIX)) {
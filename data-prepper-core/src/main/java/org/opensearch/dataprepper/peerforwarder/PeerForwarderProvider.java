@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.peerforwarder;
 
+import org.opensearch.dataprepper.metrics.MetricsMode;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
@@ -21,6 +22,7 @@ public class PeerForwarderProvider {
     private final PeerForwarderClient peerForwarderClient;
     private final PeerForwarderConfiguration peerForwarderConfiguration;
     private final PluginMetrics pluginMetrics;
+    private final MetricsMode metricsMode;
     private final Map<String, Map<String, PeerForwarderReceiveBuffer<Record<Event>>>> pipelinePeerForwarderReceiveBufferMap = new HashMap<>();
     private HashRing hashRing;
 
@@ -28,14 +30,34 @@ public class PeerForwarderProvider {
                           final PeerForwarderClient peerForwarderClient,
                           final PeerForwarderConfiguration peerForwarderConfiguration,
                           final PluginMetrics pluginMetrics) {
+        this(peerForwarderClientFactory, peerForwarderClient, peerForwarderConfiguration, pluginMetrics, MetricsMode.STANDARD);
+    }
+
+    PeerForwarderProvider(final PeerForwarderClientFactory peerForwarderClientFactory,
+                          final PeerForwarderClient peerForwarderClient,
+                          final PeerForwarderConfiguration peerForwarderConfiguration,
+                          final PluginMetrics pluginMetrics,
+                          final MetricsMode metricsMode) {
         this.peerForwarderClientFactory = peerForwarderClientFactory;
         this.peerForwarderClient = peerForwarderClient;
         this.peerForwarderConfiguration = peerForwarderConfiguration;
         this.pluginMetrics = pluginMetrics;
+        this.metricsMode = metricsMode;
     }
 
     public PeerForwarder register(final String pipelineName, final String pluginId, final Set<String> identificationKeys,
                                   final Integer pipelineWorkerThreads) {
+        return register(pipelineName, pluginId, identificationKeys, pipelineWorkerThreads, false);
+    }
+
+    public PeerForwarder register(final String pipelineName, final String pluginId, final Set<String> identificationKeys,
+                                  final Integer pipelineWorkerThreads, final boolean allowsHotKeySplitting) {
+        return register(pipelineName, pluginId, identificationKeys, pipelineWorkerThreads, allowsHotKeySplitting, false);
+    }
+
+    public PeerForwarder register(final String pipelineName, final String pluginId, final Set<String> identificationKeys,
+                                  final Integer pipelineWorkerThreads, final boolean allowsHotKeySplitting,
+                                  final boolean allowsBoundedLoadRouting) {
         if (pipelinePeerForwarderReceiveBufferMap.containsKey(pipelineName) &&
                 pipelinePeerForwarderReceiveBufferMap.get(pipelineName).containsKey(pluginId)) {
             throw new RuntimeException("Data Prepper 2.0 will only support a single peer-forwarder per pipeline/plugin type");
@@ -60,7 +82,11 @@ public class PeerForwarderProvider {
                     peerForwarderConfiguration.getForwardingBatchSize(),
                     peerForwarderConfiguration.getForwardingBatchQueueDepth(),
                     peerForwarderConfiguration.getForwardingBatchTimeout(),
-                    pipelineWorkerThreads
+                    pipelineWorkerThreads,
+                    allowsBoundedLoadRouting ? peerForwarderConfiguration.getRoutingMode() : RoutingMode.CONSISTENT_HASH,
+                    peerForwarderConfiguration.getBoundedLoadFactor(),
+                    peerForwarderConfiguration.getHotKeySplitThreshold(),
+                    allowsHotKeySplitting
             );
         }
         else {
@@ -70,7 +96,8 @@ public class PeerForwarderProvider {
 
     private PeerForwarderReceiveBuffer<Record<Event>> createBufferPerPipelineProcessor(final String pipelineName, final String pluginId) {
         final PeerForwarderReceiveBuffer<Record<Event>> peerForwarderReceiveBuffer = new
-                PeerForwarderReceiveBuffer<>(peerForwarderConfiguration.getBufferSize(), peerForwarderConfiguration.getBatchSize(), pipelineName, pluginId);
+                PeerForwarderReceiveBuffer<>(peerForwarderConfiguration.getBufferSize(), peerForwarderConfiguration.getBatchSize(),
+                peerForwarderConfiguration.getMaxBufferBytes(), pipelineName, pluginId, metricsMode);
 
         final Map<String, PeerForwarderReceiveBuffer<Record<Event>>> pluginsBufferMap =
                 pipelinePeerForwarderReceiveBufferMap.computeIfAbsent(pipelineName, k -> new HashMap<>());
@@ -6,8 +6,10 @@
 package org.opensearch.dataprepper.peerforwarder;
 
 import com.google.common.util.concurrent.AtomicDouble;
+import org.opensearch.dataprepper.metrics.MetricsMode;
 import org.opensearch.dataprepper.model.CheckpointState;
 import org.opensearch.dataprepper.model.buffer.AbstractBuffer;
+import org.opensearch.dataprepper.model.buffer.BufferByteCapacity;
 import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
 import org.opensearch.dataprepper.model.record.Record;
 import com.google.common.base.Stopwatch;
@@ -28,7 +30,8 @@ import static java.lang.String.format;
 
 /**
  * Buffer created for each stateful processor which implements {@link org.opensearch.dataprepper.model.peerforwarder.RequiresPeerForwarding}
- * interface.
+ * interface. The buffer is bounded by the number of records and optionally by the estimated size of the records in
+ * bytes, see {@link BufferByteCapacity}.
  *
  * @since 2.0
  */
@@ -38,6 +41,8 @@ public class PeerForwarderReceiveBuffer<T extends Record<?>> extends AbstractBuf
     private static final String CORE_PEER_FORWARDER_COMPONENT = "core.peerForwarder";
     private static final String BUFFER_ID_FORMAT = "%s.%s";
     private static final String BUFFER_USAGE_METRIC = "bufferUsage";
+    private static final String BYTES_IN_BUFFER_METRIC = "bytesInBuffer";
+    private static final String BUFFER_BYTES_USAGE_METRIC = "bufferBytesUsage";
 
     private final int bufferSize;
     private final int batchSize;
@@ -45,24 +50,46 @@ public class PeerForwarderReceiveBuffer<T extends Record<?>> extends AbstractBuf
     private final LinkedBlockingQueue<T> blockingQueue;
     private int recordsInFlight = 0;
     private final AtomicDouble bufferUsage;
+    private final BufferByteCapacity byteCapacity;
 
     public PeerForwarderReceiveBuffer(final int bufferSize, final int batchSize, final String pipelineName, final String pluginId) {
-        super(String.format(BUFFER_ID_FORMAT, pipelineName, pluginId), CORE_PEER_FORWARDER_COMPONENT);
+        this(bufferSize, batchSize, 0, pipelineName, pluginId);
+    }
+
+    public PeerForwarderReceiveBuffer(final int bufferSize, final int batchSize, final long maxBufferBytes,
+                                      final String pipelineName, final String pluginId) {
+        this(bufferSize, batchSize, maxBufferBytes, pipelineName, pluginId, MetricsMode.STANDARD);
+    }
+
+    public PeerForwarderReceiveBuffer(final int bufferSize, final int batchSize, final long maxBufferBytes,
+                                      final String pipelineName, final String pluginId, final MetricsMode metricsMode) {
+        super(String.format(BUFFER_ID_FORMAT, pipelineName, pluginId), CORE_PEER_FORWARDER_COMPONENT, metricsMode);
         this.bufferSize = bufferSize;
         this.batchSize = batchSize;
         this.blockingQueue = new LinkedBlockingQueue<>(bufferSize);
         this.capacitySemaphore = new Semaphore(bufferSize);
 
         bufferUsage = pluginMetrics.gauge(BUFFER_USAGE_METRIC, new AtomicDouble());
+        if (maxBufferBytes > 0) {
+            byteCapacity = new BufferByteCapacity(maxBufferBytes);
+            pluginMetrics.gauge(BYTES_IN_BUFFER_METRIC, byteCapacity, BufferByteCapacity::getBytesInUse);
+            pluginMetrics.gauge(BUFFER_BYTES_USAGE_METRIC, byteCapacity, BufferByteCapacity::getUsage);
+        } else {
+            byteCapacity = null;
+        }
     }
 
     @Override
     public void doWrite(final T record, final int timeoutInMillis) throws TimeoutException {
+        final long startNanos = System.nanoTime();
         try {
             final boolean permitAcquired = capacitySemaphore.tryAcquire(timeoutInMillis, TimeUnit.MILLISECONDS);
             if (!permitAcquired) {
                 throw new TimeoutException("Peer forwarder buffer is full, timed out waiting for a slot");
             }
+            if (byteCapacity != null && !tryAcquireBytes(BufferByteCapacity.estimateSize(record), 1, startNanos, timeoutInMillis)) {
+                throw new TimeoutException("Peer forwarder buffer is full, timed out waiting for bytes");
+            }
             blockingQueue.offer(record);
         } catch (InterruptedException ex) {
             LOG.error("Peer forwarder buffer is full, interrupted while waiting to write the record", ex);
@@ -76,6 +103,11 @@ public class PeerForwarderReceiveBuffer<T extends Record<?>> extends AbstractBuf
         if (size > bufferSize) {
             throw new SizeOverflowException(format("Peer forwarder buffer capacity too small for the size of records: %d", size));
         }
+        final long bytes = byteCapacity != null ? BufferByteCapacity.estimateSize(records) : 0;
+        if (byteCapacity != null && !byteCapacity.fits(bytes)) {
+            throw new SizeOverflowException(format("Peer forwarder buffer capacity too small for the bytes of records: %d", bytes));
+        }
+        final long startNanos = System.nanoTime();
         try {
             final boolean permitAcquired = capacitySemaphore.tryAcquire(size, timeoutInMillis, TimeUnit.MILLISECONDS);
             if (!permitAcquired) {
@@ -83,6 +115,11 @@ public class PeerForwarderReceiveBuffer<T extends Record<?>> extends AbstractBuf
                         format("Peer forwarder buffer does not have enough capacity left for the size of records: %d, " +
                                         "timed out waiting for slots.", size));
             }
+            if (byteCapacity != null && !tryAcquireBytes(bytes, size, startNanos, timeoutInMillis)) {
+                throw new TimeoutException(
+                        format("Peer forwarder buffer does not have enough capacity left for the bytes of records: %d, " +
+                                        "timed out waiting for bytes.", bytes));
+            }
             blockingQueue.addAll(records);
         } catch (InterruptedException ex) {
             LOG.error("Peer forwarder buffer does not have enough capacity left for the size of records: {}, " +
@@ -93,6 +130,24 @@ public class PeerForwarderReceiveBuffer<T extends Record<?>> extends AbstractBuf
         }
     }
 
+    /**
+     * Acquires the bytes of records whose slots were acquired, waiting for what is left of the timeout of the write.
+     * The slots are released if the bytes are not acquired, also when the thread is interrupted.
+     */
+    private boolean tryAcquireBytes(final long bytes, final int slots, final long startNanos, final int timeoutInMillis)
+            throws InterruptedException {
+        boolean bytesAcquired = false;
+        try {
+            final long remainingMillis = timeoutInMillis - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            bytesAcquired = byteCapacity.tryAcquire(bytes, remainingMillis);
+            return bytesAcquired;
+        } finally {
+            if (!bytesAcquired) {
+                capacitySemaphore.release(slots);
+            }
+        }
+    }
+
     // TODO - consolidate duplicate logic in BlockingBuffer
     @Override
     public Map.Entry<Collection<T>, CheckpointState> doRead(final int timeoutInMillis) {
@@ -122,7 +177,9 @@ public class PeerForwarderReceiveBuffer<T extends Record<?>> extends AbstractBuf
             }
         }
 
-        final CheckpointState checkpointState = new CheckpointState(recordsRead);
+        final CheckpointState checkpointState = byteCapacity != null
+                ? new CheckpointState(recordsRead, BufferByteCapacity.estimateSize(records))
+                : new CheckpointState(recordsRead);
         recordsInFlight += checkpointState.getNumRecordsToBeChecked();
         return new AbstractMap.SimpleEntry<>(records, checkpointState);
     }
@@ -150,6 +207,20 @@ public class PeerForwarderReceiveBuffer<T extends Record<?>> extends AbstractBuf
         final int numCheckedRecords = checkpointState.getNumRecordsToBeChecked();
         capacitySemaphore.release(numCheckedRecords);
         recordsInFlight -= checkpointState.getNumRecordsToBeChecked();
+        if (byteCapacity != null) {
+            byteCapacity.release(checkpointState.getNumBytesToBeChecked(),
+                    () -> capacitySemaphore.availablePermits() == bufferSize);
+        }
+    }
+
+    /**
+     * Gets the number of records waiting in the buffer to be read. Peer forwarder servers report it to the peers
+     * which forward to them, which route with bounded loads by it.
+     *
+     * @return The number of records in the buffer
+     */
+    public int getBacklog() {
+        return blockingQueue.size();
     }
 
     @Override
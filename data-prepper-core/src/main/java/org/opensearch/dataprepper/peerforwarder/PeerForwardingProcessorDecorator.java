@@ -41,6 +41,9 @@ public class PeerForwardingProcessorDecorator implements Processor<Record<Event>
         }
 
         if (firstInnerProcessor instanceof RequiresPeerForwarding) {
+            if (((RequiresPeerForwarding) firstInnerProcessor).isPeerForwardingDisabled()) {
+                return processors;
+            }
             identificationKeys = new HashSet<> (((RequiresPeerForwarding) firstInnerProcessor).getIdentificationKeys());
         }
         else {
@@ -66,7 +69,10 @@ public class PeerForwardingProcessorDecorator implements Processor<Record<Event>
                     "Peer Forwarder Plugin: %s cannot have empty identification keys." + pluginId);
         }
 
-        final PeerForwarder peerForwarder = peerForwarderProvider.register(pipelineName, pluginId, identificationKeys, pipelineWorkerThreads);
+        final boolean allowsHotKeySplitting = ((RequiresPeerForwarding) firstInnerProcessor).allowsHotKeySplitting();
+        final boolean allowsBoundedLoadRouting = ((RequiresPeerForwarding) firstInnerProcessor).allowsBoundedLoadRouting();
+        final PeerForwarder peerForwarder = peerForwarderProvider.register(pipelineName, pluginId, identificationKeys,
+                pipelineWorkerThreads, allowsHotKeySplitting, allowsBoundedLoadRouting);
 
         return processors.stream().map(processor -> new PeerForwardingProcessorDecorator(peerForwarder, processor))
                 .collect(Collectors.toList());
@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+import io.micrometer.core.instrument.Tags;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks the backlog of the peer forwarder receive buffer of each peer, as the peers report it in their responses
+ * to forwarding requests. A report expires after a while, so that a peer which receives no requests because it
+ * reported a large backlog is considered again.
+ */
+class PeerLoadTracker {
+    static final String PEER_BACKLOG = "peerBacklog";
+    static final Duration DEFAULT_REPORT_TTL = Duration.ofSeconds(5);
+
+    private final Map<String, BacklogReport> backlogReports = new ConcurrentHashMap<>();
+    private final PluginMetrics pluginMetrics;
+    private final String pipelineName;
+    private final String pluginId;
+    private final long reportTtlNanos;
+    private final LongSupplier nanoClock;
+
+    PeerLoadTracker(final PluginMetrics pluginMetrics, final String pipelineName, final String pluginId) {
+        this(pluginMetrics, pipelineName, pluginId, DEFAULT_REPORT_TTL, System::nanoTime);
+    }
+
+    PeerLoadTracker(final PluginMetrics pluginMetrics,
+                    final String pipelineName,
+                    final String pluginId,
+                    final Duration reportTtl,
+                    final LongSupplier nanoClock) {
+        this.pluginMetrics = pluginMetrics;
+        this.pipelineName = pipelineName;
+        this.pluginId = pluginId;
+        this.reportTtlNanos = reportTtl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    void recordBacklog(final String peer, final long backlog) {
+        final BacklogReport previousReport = backlogReports.put(peer, new BacklogReport(backlog, nanoClock.getAsLong()));
+        if (previousReport == null) {
+            pluginMetrics.gaugeWithTags(PEER_BACKLOG, Tags.of("peer", peer, "pipeline", pipelineName, "pluginId", pluginId),
+                    this, peerLoadTracker -> peerLoadTracker.getBacklog(peer));
+        }
+    }
+
+    /**
+     * @param peer the address of the peer
+     * @return The backlog which the peer last reported, or 0 if it has not reported a backlog recently
+     */
+    long getBacklog(final String peer) {
+        final BacklogReport backlogReport = backlogReports.get(peer);
+        if (backlogReport == null || nanoClock.getAsLong() - backlogReport.reportedNanos >= reportTtlNanos) {
+            return 0;
+        }
+        return backlogReport.backlog;
+    }
+
+    private static class BacklogReport {
+        private final long backlog;
+        private final long reportedNanos;
+
+        private BacklogReport(final long backlog, final long reportedNanos) {
+            this.backlog = backlog;
+            this.reportedNanos = reportedNanos;
+        }
+    }
+}
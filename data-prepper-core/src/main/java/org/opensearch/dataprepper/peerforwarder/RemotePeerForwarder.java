@@ -27,9 +27,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -47,6 +48,8 @@ class RemotePeerForwarder implements PeerForwarder {
     static final String RECORDS_MISSING_IDENTIFICATION_KEYS = "recordsMissingIdentificationKeys";
     static final String REQUESTS_FAILED = "requestsFailed";
     static final String REQUESTS_SUCCESSFUL = "requestsSuccessful";
+    static final String RECORDS_ROUTED_FOR_BOUNDED_LOAD = "recordsRoutedForBoundedLoad";
+    static final String HOT_KEYS_SPLIT = "hotKeysSplit";
 
     private final PeerForwarderClient peerForwarderClient;
     private final HashRing hashRing;
@@ -71,6 +74,13 @@ class RemotePeerForwarder implements PeerForwarder {
     private final Integer forwardingBatchQueueDepth;
     private final Duration forwardingBatchTimeout;
     private final Integer pipelineWorkerThreads;
+    private final RoutingMode routingMode;
+    private final double boundedLoadFactor;
+    private final int hotKeySplitThreshold;
+    private final boolean splitHotKeys;
+    private final PeerLoadTracker peerLoadTracker;
+    private final Counter recordsRoutedForBoundedLoadCounter;
+    private final Counter hotKeysSplitCounter;
 
     RemotePeerForwarder(final PeerForwarderClient peerForwarderClient,
                         final HashRing hashRing,
@@ -84,7 +94,11 @@ class RemotePeerForwarder implements PeerForwarder {
                         final Integer forwardingBatchSize,
                         final Integer forwardingBatchQueueDepth,
                         final Duration forwardingBatchTimeout,
-                        final Integer pipelineWorkerThreads) {
+                        final Integer pipelineWorkerThreads,
+                        final RoutingMode routingMode,
+                        final double boundedLoadFactor,
+                        final int hotKeySplitThreshold,
+                        final boolean splitHotKeys) {
         this.peerForwarderClient = peerForwarderClient;
         this.hashRing = hashRing;
         this.peerForwarderReceiveBuffer = peerForwarderReceiveBuffer;
@@ -97,6 +111,11 @@ class RemotePeerForwarder implements PeerForwarder {
         this.forwardingBatchQueueDepth = forwardingBatchQueueDepth;
         this.forwardingBatchTimeout = forwardingBatchTimeout;
         this.pipelineWorkerThreads = pipelineWorkerThreads;
+        this.routingMode = routingMode;
+        this.boundedLoadFactor = boundedLoadFactor;
+        this.hotKeySplitThreshold = hotKeySplitThreshold;
+        this.splitHotKeys = splitHotKeys;
+        peerLoadTracker = new PeerLoadTracker(pluginMetrics, pipelineName, pluginId);
         peerBatchingQueueMap = new ConcurrentHashMap<>();
         peerBatchingLastFlushTimeMap = new ConcurrentHashMap<>();
         
@@ -108,6 +127,8 @@ class RemotePeerForwarder implements PeerForwarder {
         recordsMissingIdentificationKeys = pluginMetrics.counter(RECORDS_MISSING_IDENTIFICATION_KEYS);
         requestsFailedCounter = pluginMetrics.counter(REQUESTS_FAILED);
         requestsSuccessfulCounter = pluginMetrics.counter(REQUESTS_SUCCESSFUL);
+        recordsRoutedForBoundedLoadCounter = pluginMetrics.counter(RECORDS_ROUTED_FOR_BOUNDED_LOAD);
+        hotKeysSplitCounter = pluginMetrics.counter(HOT_KEYS_SPLIT);
     }
 
     public Collection<Record<Event>> forwardRecords(final Collection<Record<Event>> records) {
@@ -149,34 +170,133 @@ class RemotePeerForwarder implements PeerForwarder {
             final Collection<Record<Event>> records,
             final Set<String> identificationKeys
     ) {
-        final Map<String, List<Record<Event>>> groupedRecords = new HashMap<>();
+        final List<List<String>> recordsIdentificationKeyValues = new ArrayList<>(records.size());
+        final Map<List<String>, IdentificationKeyValuesRoute> routes = new HashMap<>();
+        for (final Record<Event> record : records) {
+            final List<String> identificationKeyValues = getIdentificationKeyValues(record.getData(), identificationKeys);
+            recordsIdentificationKeyValues.add(identificationKeyValues);
+            routes.computeIfAbsent(identificationKeyValues, x -> new IdentificationKeyValuesRoute()).recordCount++;
+        }
 
-        // group records based on IP address calculated by HashRing
+        final Map<String, Long> peerLoads = routingMode == RoutingMode.BOUNDED_LOAD ? getPeerLoads() : null;
+        final long loadBound = peerLoads != null ? getLoadBound(peerLoads, records.size()) : 0;
+
+        // group records based on IP address calculated by HashRing, routing each identification key values only once
+        final Map<String, List<Record<Event>>> groupedRecords = new HashMap<>();
+        final Iterator<List<String>> identificationKeyValuesIterator = recordsIdentificationKeyValues.iterator();
         for (final Record<Event> record : records) {
-            final Event event = record.getData();
-
-            final List<String> identificationKeyValues = new LinkedList<>();
-            int numMissingIdentificationKeys = 0;
-            for (final String identificationKey : identificationKeys) {
-                final Object identificationKeyValue = event.get(identificationKey, Object.class);
-                if (identificationKeyValue == null) {
-                    identificationKeyValues.add(null);
-                    numMissingIdentificationKeys++;
-                } else {
-                    identificationKeyValues.add(identificationKeyValue.toString());
+            final List<String> identificationKeyValues = identificationKeyValuesIterator.next();
+            final IdentificationKeyValuesRoute route = routes.get(identificationKeyValues);
+            if (route.dataPrepperIps == null) {
+                route.dataPrepperIps = new String[getShardCount(route.recordCount)];
+                if (route.dataPrepperIps.length > 1) {
+                    hotKeysSplitCounter.increment();
                 }
             }
-            if (numMissingIdentificationKeys == identificationKeys.size()) {
-                recordsMissingIdentificationKeys.increment(1);
-                identificationKeyValues.clear();
-            }
 
-            final String dataPrepperIp = hashRing.getServerIp(identificationKeyValues).orElse(StaticPeerListProvider.LOCAL_ENDPOINT);
-            groupedRecords.computeIfAbsent(dataPrepperIp, x -> new ArrayList<>()).add(record);
+            final int shard = route.nextShard++ % route.dataPrepperIps.length;
+            if (route.dataPrepperIps[shard] == null) {
+                final int shardRecordCount = route.recordCount / route.dataPrepperIps.length +
+                        (shard < route.recordCount % route.dataPrepperIps.length ? 1 : 0);
+                route.dataPrepperIps[shard] = getServerIp(
+                        getShardIdentificationKeyValues(identificationKeyValues, shard), shardRecordCount, peerLoads, loadBound);
+            }
+            groupedRecords.computeIfAbsent(route.dataPrepperIps[shard], x -> new ArrayList<>()).add(record);
         }
         return groupedRecords;
     }
 
+    private List<String> getIdentificationKeyValues(final Event event, final Set<String> identificationKeys) {
+        final List<String> identificationKeyValues = new ArrayList<>(identificationKeys.size());
+        int numMissingIdentificationKeys = 0;
+        for (final String identificationKey : identificationKeys) {
+            final Object identificationKeyValue = event.get(identificationKey, Object.class);
+            if (identificationKeyValue == null) {
+                identificationKeyValues.add(null);
+                numMissingIdentificationKeys++;
+            } else {
+                identificationKeyValues.add(identificationKeyValue.toString());
+            }
+        }
+        if (numMissingIdentificationKeys == identificationKeys.size()) {
+            recordsMissingIdentificationKeys.increment(1);
+            identificationKeyValues.clear();
+        }
+        return identificationKeyValues;
+    }
+
+    /**
+     * Gets the number of peers to spread the records of one identification key values over. Hot identification key
+     * values, with more records in the batch than the hot key split threshold, are spread over enough peers to keep
+     * each peer's part within the threshold, if the processor allows it.
+     */
+    private int getShardCount(final int recordCount) {
+        if (!splitHotKeys || recordCount <= hotKeySplitThreshold) {
+            return 1;
+        }
+        final int shardsWithinThreshold = (recordCount + hotKeySplitThreshold - 1) / hotKeySplitThreshold;
+        return Math.max(1, Math.min(shardsWithinThreshold, hashRing.getServerIps().size()));
+    }
+
+    private static List<String> getShardIdentificationKeyValues(final List<String> identificationKeyValues, final int shard) {
+        if (shard == 0) {
+            return identificationKeyValues;
+        }
+        final List<String> shardIdentificationKeyValues = new ArrayList<>(identificationKeyValues.size() + 1);
+        shardIdentificationKeyValues.addAll(identificationKeyValues);
+        shardIdentificationKeyValues.add(Integer.toString(shard));
+        return shardIdentificationKeyValues;
+    }
+
+    private String getServerIp(final List<String> identificationKeyValues,
+                               final int recordCount,
+                               final Map<String, Long> peerLoads,
+                               final long loadBound) {
+        final Optional<String> hashedServerIp = hashRing.getServerIp(identificationKeyValues);
+        if (peerLoads == null || hashedServerIp.isEmpty()) {
+            return hashedServerIp.orElse(StaticPeerListProvider.LOCAL_ENDPOINT);
+        }
+
+        String serverIp = hashedServerIp.get();
+        if (peerLoads.getOrDefault(serverIp, 0L) >= loadBound) {
+            serverIp = hashRing.getServerIp(identificationKeyValues, peer -> peerLoads.getOrDefault(peer, 0L) < loadBound)
+                    .orElse(serverIp);
+            if (!serverIp.equals(hashedServerIp.get())) {
+                recordsRoutedForBoundedLoadCounter.increment(recordCount);
+            }
+        }
+        peerLoads.merge(serverIp, (long) recordCount, Long::sum);
+        return serverIp;
+    }
+
+    /**
+     * Gets the load of each peer on the hash ring: the backlog it last reported, or the local backlog for this
+     * node, plus the records queued here for forwarding to it.
+     */
+    private Map<String, Long> getPeerLoads() {
+        final Map<String, Long> peerLoads = new HashMap<>();
+        for (final String serverIp : hashRing.getServerIps()) {
+            if (isAddressDefinedLocally(serverIp)) {
+                peerLoadTracker.recordBacklog(serverIp, peerForwarderReceiveBuffer.getBacklog());
+            }
+            final LinkedBlockingQueue<Record<Event>> peerBatchingQueue = peerBatchingQueueMap.get(serverIp);
+            peerLoads.put(serverIp, peerLoadTracker.getBacklog(serverIp) + (peerBatchingQueue != null ? peerBatchingQueue.size() : 0));
+        }
+        return peerLoads;
+    }
+
+    /**
+     * Gets the load which no peer may exceed by taking more records: the bounded load factor times the average
+     * load of the peers, once the records of this batch are routed.
+     */
+    private long getLoadBound(final Map<String, Long> peerLoads, final int recordCount) {
+        if (peerLoads.isEmpty()) {
+            return Long.MAX_VALUE;
+        }
+        final long totalLoad = peerLoads.values().stream().mapToLong(Long::longValue).sum() + recordCount;
+        return (long) Math.ceil(boundedLoadFactor * totalLoad / peerLoads.size());
+    }
+
     private boolean isAddressDefinedLocally(final String address) {
         final InetAddress inetAddress;
         try {
@@ -265,6 +385,7 @@ class RemotePeerForwarder implements PeerForwarder {
             try {
                 final CompletableFuture<AggregatedHttpResponse> responseFuture =
                         peerForwarderClient.serializeRecordsAndSendHttpRequest(recordsToForward, destinationIp, pluginId, pipelineName);
+                responseFuture.thenAccept(httpResponse -> recordPeerBacklog(destinationIp, httpResponse));
                 forwardingRequestsMap.put(responseFuture, recordsToForward);
             } catch (final Exception e) {
                 LOG.warn("Unable to submit request for forwarding, processing locally.", e);
@@ -298,6 +419,20 @@ class RemotePeerForwarder implements PeerForwarder {
         return shouldFlushDueToTimeout || peerBatchingQueueMap.get(destinationIp).size() >= forwardingBatchSize;
     }
 
+    private void recordPeerBacklog(final String destinationIp, final AggregatedHttpResponse httpResponse) {
+        if (httpResponse == null || httpResponse.status() != HttpStatus.OK) {
+            return;
+        }
+        final String backlog = httpResponse.headers().get(PeerForwarderConfiguration.PEER_BACKLOG_HEADER);
+        if (backlog != null) {
+            try {
+                peerLoadTracker.recordBacklog(destinationIp, Long.parseLong(backlog));
+            } catch (final NumberFormatException e) {
+                LOG.debug("Peer {} reported an invalid backlog: {}", destinationIp, backlog);
+            }
+        }
+    }
+
     void processFailedRequestsLocally(final AggregatedHttpResponse httpResponse, final Collection<Record<Event>> records) {
         if (httpResponse == null || httpResponse.status() != HttpStatus.OK) {
             try {
@@ -314,4 +449,13 @@ class RemotePeerForwarder implements PeerForwarder {
             requestsSuccessfulCounter.increment();
         }
     }
+
+    /**
+     * The peers which the records of one identification key values in a batch are routed to, one per shard.
+     */
+    private static class IdentificationKeyValuesRoute {
+        private int recordCount;
+        private int nextShard;
+        private String[] dataPrepperIps;
+    }
 }
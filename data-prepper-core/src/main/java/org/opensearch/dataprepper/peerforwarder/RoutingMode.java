@@ -0,0 +1,25 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+/**
+ * How Peer Forwarder chooses the Data Prepper node for the identification key values of an Event.
+ *
+ * @since 2.2
+ */
+public enum RoutingMode {
+    /**
+     * Always route identification key values to the node they hash to on the {@link HashRing}.
+     */
+    CONSISTENT_HASH,
+
+    /**
+     * Route identification key values to the node they hash to on the {@link HashRing}, unless the load of that
+     * node exceeds the bounded load factor times the average load of all nodes. Such key values go to the next
+     * node on the ring which is within the bound.
+     */
+    BOUNDED_LOAD
+}
@@ -13,6 +13,7 @@ import com.linecorp.armeria.common.AggregatedHttpRequest;
 import com.linecorp.armeria.common.HttpData;
 import com.linecorp.armeria.common.HttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.ResponseHeaders;
 import com.linecorp.armeria.server.annotation.Post;
 import io.micrometer.core.instrument.Timer;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration;
@@ -85,18 +86,24 @@ public class PeerForwarderHttpService {
             return responseHandler.handleException(e, message);
         }
 
+        final int backlog;
         try {
-            writeEventsToBuffer(events, destinationPluginId, destinationPipelineName);
+            backlog = writeEventsToBuffer(events, destinationPluginId, destinationPipelineName);
         } catch (Exception e) {
             final String message = String.format("Failed to write the request of size %d due to:", content.length());
             LOG.error(message, e);
             return responseHandler.handleException(e, message);
         }
 
-        return HttpResponse.of(HttpStatus.OK);
+        return HttpResponse.of(ResponseHeaders.of(HttpStatus.OK, PeerForwarderConfiguration.PEER_BACKLOG_HEADER, Integer.toString(backlog)));
     }
 
-    private void writeEventsToBuffer(final Collection<Event> events,
+    /**
+     * Writes the Events to the buffer of the destination plugin.
+     *
+     * @return The backlog of the buffer after the write
+     */
+    private int writeEventsToBuffer(final Collection<Event> events,
                                      final String destinationPluginId,
                                      final String destinationPipelineName) throws Exception {
         final PeerForwarderReceiveBuffer<Record<Event>> recordPeerForwarderReceiveBuffer = getPeerForwarderBuffer(
@@ -107,6 +114,7 @@ public class PeerForwarderHttpService {
 
         recordPeerForwarderReceiveBuffer.writeAll(jacksonEvents, getBufferTimeoutMillis());
         recordsReceivedFromPeersCounter.increment(jacksonEvents.size());
+        return recordPeerForwarderReceiveBuffer.getBacklog();
     }
 
     private int getBufferTimeoutMillis() {
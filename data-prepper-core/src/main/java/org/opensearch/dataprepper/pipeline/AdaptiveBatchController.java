@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.parser.model.AdaptiveBatchingConfig;
+
+/**
+ * Tunes the read batch size and the read batch delay of a pipeline from what its workers observe after each batch:
+ * the time the sinks took to output it and how full the buffer is.
+ * <ul>
+ *     <li>When the sinks took longer than the target latency, the batch size halves. With the latency goal the delay
+ *     halves too.</li>
+ *     <li>Otherwise, when the batch was full or the buffer is at least {@link #HIGH_FILL_RATIO} full, the batch size
+ *     doubles. With the latency goal the delay doubles too, up to the read batch delay of the pipeline, so that it
+ *     recovers once records arrive faster again.</li>
+ *     <li>Otherwise the read returned before the batch filled up. With the latency goal the delay halves, so that
+ *     workers stop waiting for records which do not come.</li>
+ * </ul>
+ * The batch size stays between the configured minimum and maximum. The delay starts at the read batch delay of the
+ * pipeline, where it stays with the throughput goal so that batches fill up. Batches read with a batch size which
+ * another worker already changed are not considered, so that all workers do not react to the same condition. The
+ * current values are exported as the gauges {@link #READ_BATCH_SIZE} and {@link #READ_BATCH_DELAY}.
+ *
+ * @since 2.2
+ */
+class AdaptiveBatchController {
+    static final String COMPONENT_ID = "adaptiveBatching";
+    static final String READ_BATCH_SIZE = "readBatchSize";
+    static final String READ_BATCH_DELAY = "readBatchDelay";
+    static final double HIGH_FILL_RATIO = 0.5;
+
+    private final AdaptiveBatchingConfig.Goal goal;
+    private final long targetLatencyNanos;
+    private final int minBatchSize;
+    private final int maxBatchSize;
+    private final int maxDelayMillis;
+    private volatile int batchSize;
+    private volatile int delayMillis;
+
+    AdaptiveBatchController(final String pipelineName, final AdaptiveBatchingConfig config, final int readBatchDelayMillis) {
+        this(PluginMetrics.fromNames(COMPONENT_ID, pipelineName), config, readBatchDelayMillis);
+    }
+
+    AdaptiveBatchController(final PluginMetrics pluginMetrics, final AdaptiveBatchingConfig config, final int readBatchDelayMillis) {
+        goal = config.getGoal();
+        targetLatencyNanos = config.getTargetLatency().toNanos();
+        minBatchSize = config.getMinBatchSize();
+        maxBatchSize = config.getMaxBatchSize();
+        batchSize = minBatchSize;
+        maxDelayMillis = readBatchDelayMillis;
+        delayMillis = readBatchDelayMillis;
+        pluginMetrics.gauge(READ_BATCH_SIZE, this, AdaptiveBatchController::getBatchSize);
+        pluginMetrics.gauge(READ_BATCH_DELAY, this, AdaptiveBatchController::getDelayMillis);
+    }
+
+    /**
+     * @return the maximum number of records for the next read
+     */
+    int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return how long the next read waits for its batch to fill up, in milliseconds
+     */
+    int getDelayMillis() {
+        return delayMillis;
+    }
+
+    /**
+     * Adjusts the batch size and the delay after a worker read a batch and the sinks output it.
+     *
+     * @param readBatchSize the batch size the batch was read with
+     * @param recordsRead   the number of records read from the buffer
+     * @param sinkNanos     how long the sinks took to output the batch, or 0 if it did not reach them
+     * @param fillRatio     how full the buffer is, from 0 to 1
+     */
+    synchronized void onBatch(final int readBatchSize, final int recordsRead, final long sinkNanos, final double fillRatio) {
+        if (readBatchSize != batchSize) {
+            return;
+        }
+        if (sinkNanos > targetLatencyNanos) {
+            batchSize = Math.max(minBatchSize, batchSize / 2);
+            if (goal == AdaptiveBatchingConfig.Goal.LATENCY) {
+                delayMillis = delayMillis / 2;
+            }
+        } else if (recordsRead >= readBatchSize || fillRatio >= HIGH_FILL_RATIO) {
+            batchSize = (int) Math.min(maxBatchSize, (long) batchSize * 2);
+            if (goal == AdaptiveBatchingConfig.Goal.LATENCY) {
+                delayMillis = (int) Math.min(maxDelayMillis, Math.max(1L, (long) delayMillis * 2));
+            }
+        } else if (goal == AdaptiveBatchingConfig.Goal.LATENCY) {
+            delayMillis = delayMillis / 2;
+        }
+    }
+}
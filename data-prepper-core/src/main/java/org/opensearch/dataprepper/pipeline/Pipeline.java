@@ -12,6 +12,7 @@ import org.opensearch.dataprepper.model.sink.Sink;
 import org.opensearch.dataprepper.model.source.Source;
 import com.google.common.base.Preconditions;
 import org.opensearch.dataprepper.parser.DataFlowComponent;
+import org.opensearch.dataprepper.parser.model.AdaptiveBatchingConfig;
 import org.opensearch.dataprepper.pipeline.common.PipelineThreadFactory;
 import org.opensearch.dataprepper.pipeline.common.PipelineThreadPoolExecutor;
 import org.opensearch.dataprepper.pipeline.router.Router;
@@ -55,6 +56,9 @@ public class Pipeline {
     private final Duration peerForwarderDrainTimeout;
     private final ExecutorService processorExecutorService;
     private final ExecutorService sinkExecutorService;
+    private final PipelineLatencyMetrics latencyMetrics;
+    private final AdaptiveBatchController batchController;
+    private final SharedWorkerPool.PipelineShare workerShare;
 
     /**
      * Constructs a {@link Pipeline} object with provided {@link Source}, {@link #name}, {@link Collection} of
@@ -87,6 +91,82 @@ public class Pipeline {
             final Duration processorShutdownTimeout,
             final Duration sinkShutdownTimeout,
             final Duration peerForwarderDrainTimeout) {
+        this(name, source, buffer, processorSets, sinks, router, processorThreads, readBatchTimeoutInMillis,
+                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, 0);
+    }
+
+    /**
+     * Constructs a {@link Pipeline} object which also records the latency of a sample of its events.
+     *
+     * @param latencySamplingRate the rate of events, between 0 and 1, for which buffer dwell time and event age are
+     *                            recorded
+     * @see #Pipeline(String, Source, Buffer, List, List, Router, int, int, Duration, Duration, Duration)
+     */
+    public Pipeline(
+            @Nonnull final String name,
+            @Nonnull final Source source,
+            @Nonnull final Buffer buffer,
+            @Nonnull final List<List<Processor>> processorSets,
+            @Nonnull final List<DataFlowComponent<Sink>> sinks,
+            @Nonnull final Router router,
+            final int processorThreads,
+            final int readBatchTimeoutInMillis,
+            final Duration processorShutdownTimeout,
+            final Duration sinkShutdownTimeout,
+            final Duration peerForwarderDrainTimeout,
+            final double latencySamplingRate) {
+        this(name, source, buffer, processorSets, sinks, router, processorThreads, readBatchTimeoutInMillis,
+                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, latencySamplingRate, null);
+    }
+
+    /**
+     * Constructs a {@link Pipeline} object which also tunes the size of the batches it reads from the buffer and how
+     * long it waits for them, within the read batch timeout.
+     *
+     * @param adaptiveBatchingConfig the configuration for tuning the read batches, or null to read fixed batches
+     * @see #Pipeline(String, Source, Buffer, List, List, Router, int, int, Duration, Duration, Duration, double)
+     */
+    public Pipeline(
+            @Nonnull final String name,
+            @Nonnull final Source source,
+            @Nonnull final Buffer buffer,
+            @Nonnull final List<List<Processor>> processorSets,
+            @Nonnull final List<DataFlowComponent<Sink>> sinks,
+            @Nonnull final Router router,
+            final int processorThreads,
+            final int readBatchTimeoutInMillis,
+            final Duration processorShutdownTimeout,
+            final Duration sinkShutdownTimeout,
+            final Duration peerForwarderDrainTimeout,
+            final double latencySamplingRate,
+            final AdaptiveBatchingConfig adaptiveBatchingConfig) {
+        this(name, source, buffer, processorSets, sinks, router, processorThreads, readBatchTimeoutInMillis,
+                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, latencySamplingRate,
+                adaptiveBatchingConfig, null);
+    }
+
+    /**
+     * Constructs a {@link Pipeline} object which runs its workers and sink outputs on a pool of threads shared with
+     * other pipelines. Its processor threads are then the number of workers it runs at most at the same time.
+     *
+     * @param sharedWorkerPool the pool to run on, or null to run threads of its own
+     * @see #Pipeline(String, Source, Buffer, List, List, Router, int, int, Duration, Duration, Duration, double, AdaptiveBatchingConfig)
+     */
+    public Pipeline(
+            @Nonnull final String name,
+            @Nonnull final Source source,
+            @Nonnull final Buffer buffer,
+            @Nonnull final List<List<Processor>> processorSets,
+            @Nonnull final List<DataFlowComponent<Sink>> sinks,
+            @Nonnull final Router router,
+            final int processorThreads,
+            final int readBatchTimeoutInMillis,
+            final Duration processorShutdownTimeout,
+            final Duration sinkShutdownTimeout,
+            final Duration peerForwarderDrainTimeout,
+            final double latencySamplingRate,
+            final AdaptiveBatchingConfig adaptiveBatchingConfig,
+            final SharedWorkerPool sharedWorkerPool) {
         Preconditions.checkArgument(processorSets.stream().allMatch(
                 processorSet -> Objects.nonNull(processorSet) && (processorSet.size() == 1 || processorSet.size() == processorThreads)));
         this.name = name;
@@ -100,12 +180,24 @@ public class Pipeline {
         this.processorShutdownTimeout = processorShutdownTimeout;
         this.sinkShutdownTimeout = sinkShutdownTimeout;
         this.peerForwarderDrainTimeout = peerForwarderDrainTimeout;
-        this.processorExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads,
-                new PipelineThreadFactory(format("%s-processor-worker", name)), this);
+        if (sharedWorkerPool != null) {
+            this.processorExecutorService = null;
+            this.sinkExecutorService = null;
+            this.workerShare = sharedWorkerPool.register(this);
+        } else {
+            this.processorExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads,
+                    new PipelineThreadFactory(format("%s-processor-worker", name)), this);
+
+            // TODO: allow this to be configurable as well?
+            this.sinkExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads,
+                    new PipelineThreadFactory(format("%s-sink-worker", name)), this);
+            this.workerShare = null;
+        }
 
-        // TODO: allow this to be configurable as well?
-        this.sinkExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads,
-                new PipelineThreadFactory(format("%s-sink-worker", name)), this);
+        this.latencyMetrics = new PipelineLatencyMetrics(name, latencySamplingRate);
+        this.batchController = adaptiveBatchingConfig != null
+                ? new AdaptiveBatchController(name, adaptiveBatchingConfig, readBatchTimeoutInMillis)
+                : null;
 
         stopRequested = false;
     }
@@ -192,7 +284,11 @@ public class Pipeline {
                             }
                         }
                 ).collect(Collectors.toList());
-                processorExecutorService.submit(new ProcessWorker(buffer, processors, this));
+                if (workerShare != null) {
+                    workerShare.start(new ProcessWorker(buffer, processors, this, latencyMetrics, batchController, false));
+                } else {
+                    processorExecutorService.submit(new ProcessWorker(buffer, processors, this, latencyMetrics, batchController));
+                }
             }
         } catch (Exception ex) {
             //source failed to start - Cannot proceed further with the current pipeline, skipping further execution
@@ -221,14 +317,43 @@ public class Pipeline {
                     "proceeding with termination of process workers", name);
         }
 
-        shutdownExecutorService(processorExecutorService, processorShutdownTimeout.toMillis());
+        if (workerShare != null) {
+            awaitWorkerShare(workerShare::awaitWorkers, processorShutdownTimeout.toMillis());
+        } else {
+            shutdownExecutorService(processorExecutorService, processorShutdownTimeout.toMillis());
+        }
 
         processorSets.forEach(processorSet -> processorSet.forEach(Processor::shutdown));
         sinks.stream()
                 .map(DataFlowComponent::getComponent)
                 .forEach(Sink::shutdown);
 
-        shutdownExecutorService(sinkExecutorService, sinkShutdownTimeout.toMillis());
+        if (workerShare != null) {
+            awaitWorkerShare(workerShare::awaitSinkOutputs, sinkShutdownTimeout.toMillis());
+        } else {
+            shutdownExecutorService(sinkExecutorService, sinkShutdownTimeout.toMillis());
+        }
+    }
+
+    private void awaitWorkerShare(final SharedWorkerPoolWait wait, final long timeoutForTerminationInMillis) {
+        LOG.info("Pipeline [{}] - Waiting for process workers on the shared worker pool", name);
+
+        try {
+            if (!wait.await(timeoutForTerminationInMillis)) {
+                LOG.warn("Pipeline [{}] - Workers did not terminate in time, forcing termination", name);
+                workerShare.cancel();
+            }
+        } catch (InterruptedException ex) {
+            LOG.info("Pipeline [{}] - Encountered interruption terminating the pipeline execution, " +
+                    "Attempting to force the termination", name);
+            workerShare.cancel();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface SharedWorkerPoolWait {
+        boolean await(long timeoutMillis) throws InterruptedException;
     }
 
     private void shutdownExecutorService(final ExecutorService executorService, final long timeoutForTerminationInMillis) {
@@ -259,7 +384,9 @@ public class Pipeline {
         final List<Future<Void>> sinkFutures = new ArrayList<>(sinksSize);
         final RouterGetRecordStrategy getRecordStrategy = new RouterCopyRecordStrategy(sinks);
         router.route(records, sinks, getRecordStrategy, (sink, events) ->
-                sinkFutures.add(sinkExecutorService.submit(() -> sink.output(events), null))
+                sinkFutures.add(workerShare != null
+                        ? workerShare.submitSinkOutput(() -> sink.output(events), sink instanceof PipelineConnector)
+                        : sinkExecutorService.submit(() -> sink.output(events), null))
         );
         return sinkFutures;
     }
@@ -6,13 +6,16 @@
 package org.opensearch.dataprepper.pipeline;
 
 import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.sink.Sink;
 import org.opensearch.dataprepper.model.source.Source;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -20,6 +23,11 @@ import static java.lang.String.format;
 
 /**
  * PipelineConnector is a special type of Plugin which connects two pipelines acting both as Sink and Source.
+ * <p>
+ * By default each record is written to the buffer of the connected pipeline on its own. With batch writes, each
+ * batch is written with {@link Buffer#writeAll(Collection, int)}. A batch which does not fit into the buffer is
+ * written in smaller parts, and only the parts which were not accepted are retried. With shared records, the records
+ * are handed to the connected pipeline by reference even when they are also routed to other sinks.
  *
  * @param <T>
  */
@@ -30,14 +38,27 @@ public final class PipelineConnector<T extends Record<?>> implements Source<T>,
     private String sinkPipelineName; //name of the pipeline for which this connector acts as sink
     private Buffer<T> buffer;
     private AtomicBoolean isStopRequested;
+    private final boolean batchWrites;
+    private final boolean shareRecords;
 
     public PipelineConnector() {
-        isStopRequested = new AtomicBoolean(false);
+        this(null, false, false);
     }
 
     public PipelineConnector(final String sinkPipelineName) {
-        this();
+        this(sinkPipelineName, false, false);
+    }
+
+    /**
+     * @param sinkPipelineName the name of the connected pipeline
+     * @param batchWrites      whether to write each batch with {@link Buffer#writeAll(Collection, int)}
+     * @param shareRecords     whether records routed to other sinks as well are handed over without copying them
+     */
+    public PipelineConnector(final String sinkPipelineName, final boolean batchWrites, final boolean shareRecords) {
+        isStopRequested = new AtomicBoolean(false);
         this.sinkPipelineName = sinkPipelineName;
+        this.batchWrites = batchWrites;
+        this.shareRecords = shareRecords;
     }
 
     @Override
@@ -62,17 +83,10 @@ public final class PipelineConnector<T extends Record<?>> implements Source<T>,
     @Override
     public void output(final Collection<T> records) {
         if (buffer != null && !isStopRequested.get()) {
-            for (T record : records) {
-                while (true) {
-                    try {
-                        buffer.write(record, DEFAULT_WRITE_TIMEOUT);
-                        break;
-                    } catch (TimeoutException ex) {
-                        LOG.error("PipelineConnector [{}-{}]: Timed out writing to pipeline [{}]",
-                                sinkPipelineName, sourcePipelineName, sourcePipelineName, ex);
-                    }
-                }
-
+            if (batchWrites) {
+                writeBatch(records);
+            } else {
+                writeRecords(records);
             }
         } else {
             LOG.error("PipelineConnector [{}-{}]: Pipeline [{}] is currently not initialized or has been halted",
@@ -82,6 +96,61 @@ public final class PipelineConnector<T extends Record<?>> implements Source<T>,
         }
     }
 
+    private void writeRecords(final Collection<T> records) {
+        for (T record : records) {
+            while (true) {
+                try {
+                    buffer.write(record, DEFAULT_WRITE_TIMEOUT);
+                    break;
+                } catch (TimeoutException ex) {
+                    LOG.error("PipelineConnector [{}-{}]: Timed out writing to pipeline [{}]",
+                            sinkPipelineName, sourcePipelineName, sourcePipelineName, ex);
+                }
+            }
+
+        }
+    }
+
+    /**
+     * Writes the records in as few calls to {@link Buffer#writeAll(Collection, int)} as the buffer accepts. The parts
+     * are views of the given list, so the records are not copied. When a part is larger than the buffer accepts, it is
+     * halved and only the records which were not yet written are retried. When the buffer is full until the write times
+     * out, the same part is retried, as {@link #writeRecords(Collection)} retries a single record.
+     */
+    private void writeBatch(final Collection<T> records) {
+        final List<T> recordsList = records instanceof List ? (List<T>) records : new ArrayList<>(records);
+        int partSize = recordsList.size();
+        int writtenCount = 0;
+        while (writtenCount < recordsList.size()) {
+            final int partEnd = Math.min(writtenCount + partSize, recordsList.size());
+            final List<T> part = recordsList.subList(writtenCount, partEnd);
+            try {
+                buffer.writeAll(part, DEFAULT_WRITE_TIMEOUT);
+                writtenCount = partEnd;
+            } catch (final TimeoutException ex) {
+                LOG.error("PipelineConnector [{}-{}]: Timed out writing to pipeline [{}]",
+                        sinkPipelineName, sourcePipelineName, sourcePipelineName, ex);
+            } catch (final SizeOverflowException ex) {
+                if (part.size() == 1) {
+                    writeRecords(part);
+                    writtenCount = partEnd;
+                } else {
+                    LOG.debug("PipelineConnector [{}-{}]: Pipeline [{}] cannot accept {} records at once, retrying in smaller parts",
+                            sinkPipelineName, sourcePipelineName, sourcePipelineName, part.size());
+                    partSize = part.size() / 2;
+                }
+            } catch (final UnsupportedOperationException ex) {
+                writeRecords(recordsList.subList(writtenCount, recordsList.size()));
+                writtenCount = recordsList.size();
+            } catch (final RuntimeException ex) {
+                throw ex;
+            } catch (final Exception ex) {
+                throw new RuntimeException(format("PipelineConnector [%s-%s]: Failed writing to pipeline [%s]",
+                        sinkPipelineName, sourcePipelineName, sourcePipelineName), ex);
+            }
+        }
+    }
+
     @Override
     public void shutdown() {
         //TODO: Cleanup resources
@@ -94,4 +163,12 @@ public final class PipelineConnector<T extends Record<?>> implements Source<T>,
     public void setSinkPipelineName(final String sinkPipelineName) {
         this.sinkPipelineName = sinkPipelineName;
     }
+
+    public boolean isBatchWrites() {
+        return batchWrites;
+    }
+
+    public boolean isShareRecords() {
+        return shareRecords;
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import io.micrometer.core.instrument.Timer;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how long the events of a pipeline spend in each stage as histograms:
+ * <ul>
+ *     <li>{@link #BUFFER_DWELL_TIME} - the time from writing an event into the buffer until a worker reads it</li>
+ *     <li>{@link #PROCESSOR_CHAIN_TIME} - the time for all processors to process a batch</li>
+ *     <li>{@link #SINK_TIME} - the time for all sinks to output a batch</li>
+ *     <li>{@link #EVENT_AGE} - the time from receiving an event in the source until the sinks output it</li>
+ * </ul>
+ * The per-event metrics are recorded for a sample of the events, chosen by the sampling rate.
+ *
+ * @since 2.2
+ */
+class PipelineLatencyMetrics {
+    static final String COMPONENT_ID = "latency";
+    static final String BUFFER_DWELL_TIME = "bufferDwellTime";
+    static final String PROCESSOR_CHAIN_TIME = "processorChainTime";
+    static final String SINK_TIME = "sinkTime";
+    static final String EVENT_AGE = "eventAge";
+
+    private final Timer bufferDwellTimer;
+    private final Timer processorChainTimer;
+    private final Timer sinkTimer;
+    private final Timer eventAgeTimer;
+    private final int samplingInterval;
+    private final Clock clock;
+
+    PipelineLatencyMetrics(final String pipelineName, final double samplingRate) {
+        this(PluginMetrics.fromNames(COMPONENT_ID, pipelineName), samplingRate, Clock.systemUTC());
+    }
+
+    PipelineLatencyMetrics(final PluginMetrics pluginMetrics, final double samplingRate, final Clock clock) {
+        if (samplingRate < 0 || samplingRate > 1) {
+            throw new IllegalArgumentException("The latency sampling rate must be between 0 and 1.");
+        }
+        bufferDwellTimer = pluginMetrics.timerWithHistogram(BUFFER_DWELL_TIME);
+        processorChainTimer = pluginMetrics.timerWithHistogram(PROCESSOR_CHAIN_TIME);
+        sinkTimer = pluginMetrics.timerWithHistogram(SINK_TIME);
+        eventAgeTimer = pluginMetrics.timerWithHistogram(EVENT_AGE);
+        samplingInterval = samplingRate > 0 ? (int) Math.max(1, Math.round(1 / samplingRate)) : 0;
+        this.clock = clock;
+    }
+
+    /**
+     * Records the buffer dwell time of the sampled events which were read at the given time.
+     */
+    void recordBufferDwellTime(final Collection<? extends Record> records, final long readTimeNanos) {
+        if (samplingInterval == 0) {
+            return;
+        }
+        int index = ThreadLocalRandom.current().nextInt(samplingInterval);
+        for (final Record record : records) {
+            if (index++ % samplingInterval == 0 && record.getData() instanceof Event) {
+                final long timeWrittenNanos = ((Event) record.getData()).getMetadata().getTimeWrittenToBufferNanos();
+                if (timeWrittenNanos != 0) {
+                    bufferDwellTimer.record(readTimeNanos - timeWrittenNanos, TimeUnit.NANOSECONDS);
+                }
+            }
+        }
+    }
+
+    void recordProcessorChainTime(final long durationNanos) {
+        processorChainTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordSinkTime(final long durationNanos) {
+        sinkTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records the age of the sampled events after the sinks output them.
+     */
+    void recordEventAge(final Collection<? extends Record> records) {
+        if (samplingInterval == 0) {
+            return;
+        }
+        final long nowMillis = clock.millis();
+        int index = ThreadLocalRandom.current().nextInt(samplingInterval);
+        for (final Record record : records) {
+            if (index++ % samplingInterval == 0 && record.getData() instanceof Event) {
+                final Instant timeReceived = ((Event) record.getData()).getMetadata().getTimeReceived();
+                eventAgeTimer.record(Math.max(0, nowMillis - timeReceived.toEpochMilli()), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+}
@@ -17,6 +17,7 @@ import org.slf4j.LoggerFactory;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.Future;
 
 @SuppressWarnings({"rawtypes", "unchecked"})
@@ -26,60 +27,115 @@ public class ProcessWorker implements Runnable {
     private final Buffer readBuffer;
     private final List<Processor> processors;
     private final Pipeline pipeline;
+    private final PipelineLatencyMetrics latencyMetrics;
+    private final AdaptiveBatchController batchController;
+    private final boolean waitsForBatches;
     private boolean isEmptyRecordsLogged = false;
+    private Phase phase = Phase.RUNNING;
+    private long drainTimeoutExpiration;
 
     public ProcessWorker(
             final Buffer readBuffer,
             final List<Processor> processors,
-            final Pipeline pipeline) {
+            final Pipeline pipeline,
+            final PipelineLatencyMetrics latencyMetrics,
+            final AdaptiveBatchController batchController) {
+        this(readBuffer, processors, pipeline, latencyMetrics, batchController, true);
+    }
+
+    /**
+     * @param waitsForBatches false to read whatever the buffer holds instead of waiting for batches to fill up, so that
+     *                        the worker does not hold a thread of a {@link SharedWorkerPool} while it waits
+     */
+    public ProcessWorker(
+            final Buffer readBuffer,
+            final List<Processor> processors,
+            final Pipeline pipeline,
+            final PipelineLatencyMetrics latencyMetrics,
+            final AdaptiveBatchController batchController,
+            final boolean waitsForBatches) {
         this.readBuffer = readBuffer;
         this.processors = processors;
         this.pipeline = pipeline;
+        this.latencyMetrics = latencyMetrics;
+        this.batchController = batchController;
+        this.waitsForBatches = waitsForBatches;
     }
 
     @Override
     public void run() {
         try {
-            // Phase 1 - execute until stop requested
-            while (!pipeline.isStopRequested()) {
-                doRun();
+            while (runIteration() != Iteration.FINISHED) {
+                // Each iteration processes one batch or moves on to the next shutdown phase
             }
-            LOG.info("Processor shutdown phase 1 complete.");
+        } catch (final Exception e) {
+            LOG.error("Encountered exception during pipeline {} processing", pipeline.getName(), e);
+        }
+    }
 
-            // Phase 2 - execute until buffers are empty
-            LOG.info("Beginning processor shutdown phase 2, iterating until buffers empty.");
-            while (!readBuffer.isEmpty()) {
-                doRun();
-            }
-            LOG.info("Processor shutdown phase 2 complete.");
+    /**
+     * Runs one step of the worker: reads, processes and outputs one batch, or moves on to the next shutdown phase.
+     * Calling this repeatedly until it returns {@link Iteration#FINISHED} is the same as {@link #run()}, except for the
+     * handling of exceptions.
+     *
+     * @return what the step did
+     */
+    Iteration runIteration() {
+        switch (phase) {
+            case RUNNING:
+                // Phase 1 - execute until stop requested
+                if (!pipeline.isStopRequested()) {
+                    return doRun();
+                }
+                LOG.info("Processor shutdown phase 1 complete.");
 
-            // Phase 3 - execute until peer forwarder drain period expires (best effort to process all peer forwarder data)
-            final long drainTimeoutExpiration = System.currentTimeMillis() + pipeline.getPeerForwarderDrainTimeout().toMillis();
-            LOG.info("Beginning processor shutdown phase 3, iterating until {}.", drainTimeoutExpiration);
-            while (System.currentTimeMillis() < drainTimeoutExpiration) {
-                doRun();
-            }
-            LOG.info("Processor shutdown phase 3 complete.");
+                // Phase 2 - execute until buffers are empty
+                LOG.info("Beginning processor shutdown phase 2, iterating until buffers empty.");
+                phase = Phase.DRAINING_BUFFER;
+            case DRAINING_BUFFER:
+                if (!readBuffer.isEmpty()) {
+                    return doRun();
+                }
+                LOG.info("Processor shutdown phase 2 complete.");
 
-            // Phase 4 - prepare processors for shutdown
-            LOG.info("Beginning processor shutdown phase 4, preparing processors for shutdown.");
-            processors.forEach(Processor::prepareForShutdown);
-            LOG.info("Processor shutdown phase 4 complete.");
+                // Phase 3 - execute until peer forwarder drain period expires (best effort to process all peer forwarder data)
+                drainTimeoutExpiration = System.currentTimeMillis() + pipeline.getPeerForwarderDrainTimeout().toMillis();
+                LOG.info("Beginning processor shutdown phase 3, iterating until {}.", drainTimeoutExpiration);
+                phase = Phase.DRAINING_PEER_FORWARDER;
+            case DRAINING_PEER_FORWARDER:
+                if (System.currentTimeMillis() < drainTimeoutExpiration) {
+                    return doRun();
+                }
+                LOG.info("Processor shutdown phase 3 complete.");
 
-            // Phase 5 - execute until processors are ready to shutdown
-            LOG.info("Beginning processor shutdown phase 5, iterating until processors are ready to shutdown.");
-            while (!areComponentsReadyForShutdown()) {
-                doRun();
-            }
-            LOG.info("Processor shutdown phase 5 complete.");
-        } catch (final Exception e) {
-            LOG.error("Encountered exception during pipeline {} processing", pipeline.getName(), e);
+                // Phase 4 - prepare processors for shutdown
+                LOG.info("Beginning processor shutdown phase 4, preparing processors for shutdown.");
+                processors.forEach(Processor::prepareForShutdown);
+                LOG.info("Processor shutdown phase 4 complete.");
+
+                // Phase 5 - execute until processors are ready to shutdown
+                LOG.info("Beginning processor shutdown phase 5, iterating until processors are ready to shutdown.");
+                phase = Phase.AWAITING_PROCESSORS;
+            case AWAITING_PROCESSORS:
+                if (!areComponentsReadyForShutdown()) {
+                    return doRun();
+                }
+                LOG.info("Processor shutdown phase 5 complete.");
+                phase = Phase.FINISHED;
+            default:
+                return Iteration.FINISHED;
         }
     }
 
-    private void doRun() {
-        final Map.Entry<Collection, CheckpointState> readResult = readBuffer.read(pipeline.getReadBatchTimeoutInMillis());
+    private Iteration doRun() {
+        final int readBatchSize = batchController != null ? batchController.getBatchSize() : 0;
+        final int readDelayMillis = !waitsForBatches ? 0
+                : batchController != null ? batchController.getDelayMillis() : pipeline.getReadBatchTimeoutInMillis();
+        final Map.Entry<Collection, CheckpointState> readResult = batchController != null
+                ? readBuffer.read(readDelayMillis, readBatchSize)
+                : readBuffer.read(readDelayMillis);
         Collection records = readResult.getKey();
+        final int recordsRead = records.size();
         final CheckpointState checkpointState = readResult.getValue();
         //TODO Hacky way to avoid logging continuously - Will be removed as part of metrics implementation
         if (records.isEmpty()) {
@@ -90,15 +146,33 @@ public class ProcessWorker implements Runnable {
         } else {
             LOG.debug(" {} Worker: Processing {} records from buffer", pipeline.getName(), records.size());
         }
+        final boolean isBatchRead = !records.isEmpty();
+        final long processorStartTime = System.nanoTime();
+        if (isBatchRead) {
+            latencyMetrics.recordBufferDwellTime(records, processorStartTime);
+        }
         //Should Empty list from buffer should be sent to the processors? For now sending as the Stateful processors expects it.
         for (final Processor processor : processors) {
             records = processor.execute(records);
         }
+        final long sinkStartTime = System.nanoTime();
+        if (isBatchRead) {
+            latencyMetrics.recordProcessorChainTime(sinkStartTime - processorStartTime);
+        }
+        long sinkNanos = 0;
         if (!records.isEmpty()) {
             postToSink(records);
+            sinkNanos = System.nanoTime() - sinkStartTime;
+            latencyMetrics.recordSinkTime(sinkNanos);
+            latencyMetrics.recordEventAge(records);
+        }
+        if (batchController != null) {
+            final Optional<Double> fillRatio = readBuffer.getFillRatio();
+            batchController.onBatch(readBatchSize, recordsRead, sinkNanos, fillRatio.orElse(0.0));
         }
         // Checkpoint the current batch read from the buffer after being processed by processors and sinks.
         readBuffer.checkpoint(checkpointState);
+        return isBatchRead ? Iteration.PROCESSED : Iteration.IDLE;
     }
 
     private boolean areComponentsReadyForShutdown() {
@@ -118,4 +192,32 @@ public class ProcessWorker implements Runnable {
         final FutureHelperResult<Void> futureResults = FutureHelper.awaitFuturesIndefinitely(sinkFutures);
         return futureResults.getFailedReasons().size() == 0;
     }
+
+    /**
+     * What one step of a worker did.
+     */
+    enum Iteration {
+        /**
+         * The worker processed a batch, or moved on to the next shutdown phase.
+         */
+        PROCESSED,
+
+        /**
+         * The worker read no records from the buffer.
+         */
+        IDLE,
+
+        /**
+         * The worker completed all shutdown phases and has nothing left to do.
+         */
+        FINISHED
+    }
+
+    private enum Phase {
+        RUNNING,
+        DRAINING_BUFFER,
+        DRAINING_PEER_FORWARDER,
+        AWAITING_PROCESSORS,
+        FINISHED
+    }
 }
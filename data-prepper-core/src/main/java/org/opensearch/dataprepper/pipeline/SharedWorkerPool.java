@@ -0,0 +1,434 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.parser.model.SharedWorkerPoolConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+
+/**
+ * A process-wide, work-stealing pool of threads which runs the workers and sink outputs of the pipelines which use it,
+ * instead of each pipeline running threads of its own.
+ * <p>
+ * Workers run one iteration at a time: an iteration reads, processes, outputs and checkpoints one batch, so batches
+ * are still checkpointed in order after their sinks complete. Once an iteration completes the worker queues up for its
+ * next one, so no worker ever runs two iterations at once and a processor instance of a worker, including a
+ * {@link org.opensearch.dataprepper.model.annotations.SingleThread} one, is never used by two threads at the same time.
+ * Successive iterations can run on different threads of the pool.
+ * <p>
+ * While more workers are queued up than the pool has threads, the next iteration goes to the pipeline which used the
+ * least CPU time in proportion to its weight. Pipelines which have nothing to do leave their share to the others. An
+ * idle worker does not hold a thread while it waits for records: it backs off, from 1 ms up to the read batch delay of
+ * its pipeline, before its next iteration.
+ * <p>
+ * An output to a connected pipeline waits until the buffer of that pipeline has room, which only the workers of that
+ * pipeline make. While such an output runs, its iteration does not count towards the threads of the pool, and the
+ * pool adds a thread for it, so that the workers of the connected pipeline can always run.
+ * <p>
+ * The CPU time of each pipeline, in seconds, and its share of the CPU time of the pool over the last second are
+ * exported as the gauges {@link #CPU_TIME} and {@link #CPU_SHARE}, next to its {@link #WEIGHT}.
+ *
+ * @since 2.2
+ */
+public class SharedWorkerPool {
+    private static final Logger LOG = LoggerFactory.getLogger(SharedWorkerPool.class);
+    static final String COMPONENT_ID = "sharedWorkerPool";
+    static final String CPU_TIME = "cpuTime";
+    static final String CPU_SHARE = "cpuShare";
+    static final String WEIGHT = "weight";
+    static final long CPU_SHARE_INTERVAL_MILLIS = 1_000;
+    static final long MIN_IDLE_DELAY_MILLIS = 1;
+
+    private final int threads;
+    private final SharedWorkerPoolConfig config;
+    private final LongSupplier cpuClock;
+    private final Function<String, PluginMetrics> pluginMetricsFactory;
+    private final ForkJoinPool forkJoinPool;
+    private final ScheduledExecutorService scheduler;
+    private final ThreadLocal<Measurement> currentMeasurement = new ThreadLocal<>();
+    private final List<PipelineShare> shares = new ArrayList<>();
+    private int runningIterations;
+    private int blockingSinkOutputs;
+    private long virtualClock;
+
+    public SharedWorkerPool(final SharedWorkerPoolConfig config) {
+        this(config, createCpuClock(), pipelineName -> PluginMetrics.fromNames(COMPONENT_ID, pipelineName));
+        scheduler.scheduleAtFixedRate(this::updateCpuShares,
+                CPU_SHARE_INTERVAL_MILLIS, CPU_SHARE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    SharedWorkerPool(
+            final SharedWorkerPoolConfig config,
+            final LongSupplier cpuClock,
+            final Function<String, PluginMetrics> pluginMetricsFactory) {
+        this.threads = config.getThreads();
+        this.config = config;
+        this.cpuClock = cpuClock;
+        this.pluginMetricsFactory = pluginMetricsFactory;
+        this.forkJoinPool = new ForkJoinPool(threads, pool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(format("shared-worker-pool-thread-%d", thread.getPoolIndex()));
+            return thread;
+        }, null, true);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "shared-worker-pool-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static LongSupplier createCpuClock() {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!threadMXBean.isCurrentThreadCpuTimeSupported()) {
+            LOG.warn("Thread CPU time is not supported, the shared worker pool measures the elapsed time instead");
+            return System::nanoTime;
+        }
+        if (!threadMXBean.isThreadCpuTimeEnabled()) {
+            threadMXBean.setThreadCpuTimeEnabled(true);
+        }
+        return threadMXBean::getCurrentThreadCpuTime;
+    }
+
+    /**
+     * Adds a pipeline to the pool, with the weight configured for it.
+     *
+     * @param pipeline the pipeline
+     * @return the share of the pipeline, through which it runs its workers and sink outputs
+     */
+    synchronized PipelineShare register(final Pipeline pipeline) {
+        final PipelineShare share = new PipelineShare(pipeline, config.getWeight(pipeline.getName()));
+        shares.add(share);
+        return share;
+    }
+
+    /**
+     * Sets the share of the CPU time of the pool each pipeline used since the last update.
+     */
+    void updateCpuShares() {
+        final List<PipelineShare> currentShares;
+        synchronized (this) {
+            currentShares = new ArrayList<>(shares);
+        }
+        final long[] cpuNanosDeltas = new long[currentShares.size()];
+        long totalCpuNanos = 0;
+        for (int i = 0; i < currentShares.size(); i++) {
+            final PipelineShare share = currentShares.get(i);
+            final long cpuNanos = share.cpuNanos.get();
+            cpuNanosDeltas[i] = cpuNanos - share.lastCpuNanos;
+            share.lastCpuNanos = cpuNanos;
+            totalCpuNanos += cpuNanosDeltas[i];
+        }
+        for (int i = 0; i < currentShares.size(); i++) {
+            currentShares.get(i).cpuShare = totalCpuNanos > 0 ? (double) cpuNanosDeltas[i] / totalCpuNanos : 0;
+        }
+    }
+
+    private void enqueue(final Worker worker) {
+        final PipelineShare share = worker.share;
+        // A pipeline does not bank the share it left to others while it had nothing to do.
+        share.virtualTimeNanos = Math.max(share.virtualTimeNanos, virtualClock);
+        share.readyWorkers.add(worker);
+    }
+
+    private void dispatch() {
+        while (runningIterations - blockingSinkOutputs < threads) {
+            PipelineShare next = null;
+            for (final PipelineShare share : shares) {
+                if (!share.readyWorkers.isEmpty() && (next == null || share.virtualTimeNanos < next.virtualTimeNanos)) {
+                    next = share;
+                }
+            }
+            if (next == null) {
+                return;
+            }
+            final Worker worker = next.readyWorkers.poll();
+            virtualClock = Math.max(virtualClock, next.virtualTimeNanos);
+            runningIterations++;
+            forkJoinPool.execute(worker::runIteration);
+        }
+    }
+
+    private synchronized void schedule(final Worker worker) {
+        enqueue(worker);
+        dispatch();
+    }
+
+    private synchronized void onIterationComplete(final Worker worker, final ProcessWorker.Iteration iteration) {
+        runningIterations--;
+        if (iteration == ProcessWorker.Iteration.PROCESSED) {
+            worker.idleDelayMillis = 0;
+            enqueue(worker);
+        } else if (iteration == ProcessWorker.Iteration.IDLE) {
+            final long maxIdleDelayMillis = Math.max(MIN_IDLE_DELAY_MILLIS, worker.share.pipeline.getReadBatchTimeoutInMillis());
+            worker.idleDelayMillis = Math.min(maxIdleDelayMillis, Math.max(MIN_IDLE_DELAY_MILLIS, worker.idleDelayMillis * 2));
+            scheduler.schedule(() -> schedule(worker), worker.idleDelayMillis, TimeUnit.MILLISECONDS);
+        } else {
+            worker.share.activeWorkers--;
+            notifyAll();
+        }
+        dispatch();
+    }
+
+    /**
+     * Runs an output which may wait for another pipeline as a {@link ForkJoinPool.ManagedBlocker}, so that the pool
+     * makes up for the thread it blocks, and releases the dispatch slot of its iteration while it runs.
+     */
+    private void runBlockingSinkOutput(final Runnable output) {
+        synchronized (this) {
+            blockingSinkOutputs++;
+            dispatch();
+        }
+        try {
+            ForkJoinPool.managedBlock(new SinkOutputBlocker(output));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            synchronized (this) {
+                blockingSinkOutputs--;
+            }
+        }
+    }
+
+    private static class SinkOutputBlocker implements ForkJoinPool.ManagedBlocker {
+        private final Runnable output;
+        private boolean done;
+
+        private SinkOutputBlocker(final Runnable output) {
+            this.output = output;
+        }
+
+        @Override
+        public boolean block() {
+            output.run();
+            done = true;
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return done;
+        }
+    }
+
+    private <T> T measure(final PipelineShare share, final Supplier<T> work) {
+        final Measurement outerMeasurement = currentMeasurement.get();
+        final long startCpuNanos = cpuClock.getAsLong();
+        if (outerMeasurement != null) {
+            outerMeasurement.share.addCpuTime(startCpuNanos - outerMeasurement.startCpuNanos);
+        }
+        final Measurement measurement = new Measurement(share, startCpuNanos);
+        currentMeasurement.set(measurement);
+        try {
+            return work.get();
+        } finally {
+            final long endCpuNanos = cpuClock.getAsLong();
+            share.addCpuTime(endCpuNanos - measurement.startCpuNanos);
+            if (outerMeasurement != null) {
+                // Work of another pipeline which ran inside this measurement, e.g. while joining a sink output, does
+                // not count towards it.
+                outerMeasurement.startCpuNanos = endCpuNanos;
+                currentMeasurement.set(outerMeasurement);
+            } else {
+                currentMeasurement.remove();
+            }
+        }
+    }
+
+    private static class Measurement {
+        private final PipelineShare share;
+        private long startCpuNanos;
+
+        private Measurement(final PipelineShare share, final long startCpuNanos) {
+            this.share = share;
+            this.startCpuNanos = startCpuNanos;
+        }
+    }
+
+    private class Worker {
+        private final PipelineShare share;
+        private final ProcessWorker processWorker;
+        private long idleDelayMillis;
+
+        private Worker(final PipelineShare share, final ProcessWorker processWorker) {
+            this.share = share;
+            this.processWorker = processWorker;
+        }
+
+        private void runIteration() {
+            ProcessWorker.Iteration iteration = ProcessWorker.Iteration.FINISHED;
+            try {
+                if (!share.cancelled) {
+                    iteration = measure(share, processWorker::runIteration);
+                }
+            } catch (final Exception e) {
+                LOG.error("Encountered exception during pipeline {} processing", share.pipeline.getName(), e);
+            } finally {
+                onIterationComplete(this, iteration);
+            }
+        }
+    }
+
+    /**
+     * The part of the pool which belongs to one pipeline.
+     */
+    class PipelineShare {
+        private final Pipeline pipeline;
+        private final int weight;
+        private final Deque<Worker> readyWorkers = new ArrayDeque<>();
+        private final AtomicLong cpuNanos = new AtomicLong();
+        private int activeWorkers;
+        private int pendingSinkOutputs;
+        private long virtualTimeNanos;
+        private long lastCpuNanos;
+        private volatile double cpuShare;
+        private volatile boolean cancelled;
+
+        private PipelineShare(final Pipeline pipeline, final int weight) {
+            this.pipeline = pipeline;
+            this.weight = weight;
+            final PluginMetrics pluginMetrics = pluginMetricsFactory.apply(pipeline.getName());
+            pluginMetrics.gauge(CPU_TIME, this, share -> share.cpuNanos.get() / 1_000_000_000.0);
+            pluginMetrics.gauge(CPU_SHARE, this, share -> share.cpuShare);
+            pluginMetrics.gauge(WEIGHT, this, share -> share.weight);
+        }
+
+        /**
+         * Starts running the iterations of a worker, until it finishes or the share is cancelled.
+         *
+         * @param processWorker the worker
+         */
+        void start(final ProcessWorker processWorker) {
+            synchronized (SharedWorkerPool.this) {
+                activeWorkers++;
+                schedule(new Worker(this, processWorker));
+            }
+        }
+
+        /**
+         * Outputs records to a sink on the pool. If the output fails, the pipeline shuts down.
+         *
+         * @param output the output of the records to the sink
+         * @return the future of the output
+         */
+        Future<Void> submitSinkOutput(final Runnable output) {
+            return submitSinkOutput(output, false);
+        }
+
+        /**
+         * Outputs records to a sink on the pool. If the output fails, the pipeline shuts down.
+         *
+         * @param output   the output of the records to the sink
+         * @param blocking whether the output may wait for another pipeline of the pool, as outputs to connected
+         *                 pipelines do
+         * @return the future of the output
+         */
+        Future<Void> submitSinkOutput(final Runnable output, final boolean blocking) {
+            synchronized (SharedWorkerPool.this) {
+                pendingSinkOutputs++;
+            }
+            return forkJoinPool.submit(() -> {
+                try {
+                    measure(this, () -> {
+                        if (blocking) {
+                            runBlockingSinkOutput(output);
+                        } else {
+                            output.run();
+                        }
+                        return null;
+                    });
+                } catch (final RuntimeException | Error e) {
+                    LOG.error("Pipeline [{}] sink encountered a fatal exception, cannot proceed further", pipeline.getName(), e);
+                    // The shutdown waits for the workers, which may need this thread of the pool.
+                    new Thread(pipeline::shutdown, format("%s-shutdown", pipeline.getName())).start();
+                    throw e;
+                } finally {
+                    synchronized (SharedWorkerPool.this) {
+                        pendingSinkOutputs--;
+                        SharedWorkerPool.this.notifyAll();
+                    }
+                }
+            }, null);
+        }
+
+        /**
+         * Waits for all workers to finish.
+         *
+         * @param timeoutMillis how long to wait
+         * @return true if all workers finished in time
+         * @throws InterruptedException if interrupted while waiting
+         */
+        boolean awaitWorkers(final long timeoutMillis) throws InterruptedException {
+            return await(() -> activeWorkers == 0, timeoutMillis);
+        }
+
+        /**
+         * Waits for all sink outputs to complete.
+         *
+         * @param timeoutMillis how long to wait
+         * @return true if all sink outputs completed in time
+         * @throws InterruptedException if interrupted while waiting
+         */
+        boolean awaitSinkOutputs(final long timeoutMillis) throws InterruptedException {
+            return await(() -> pendingSinkOutputs == 0, timeoutMillis);
+        }
+
+        /**
+         * Stops the workers from running any further iteration. An iteration which is running completes.
+         */
+        void cancel() {
+            cancelled = true;
+        }
+
+        private boolean await(final Supplier<Boolean> condition, final long timeoutMillis) throws InterruptedException {
+            final long deadline = System.currentTimeMillis() + timeoutMillis;
+            synchronized (SharedWorkerPool.this) {
+                while (!condition.get()) {
+                    final long remainingMillis = deadline - System.currentTimeMillis();
+                    if (remainingMillis <= 0) {
+                        return false;
+                    }
+                    SharedWorkerPool.this.wait(remainingMillis);
+                }
+                return true;
+            }
+        }
+
+        private void addCpuTime(final long nanos) {
+            cpuNanos.addAndGet(nanos);
+            synchronized (SharedWorkerPool.this) {
+                virtualTimeNanos += nanos / weight;
+            }
+        }
+
+        double getCpuShare() {
+            return cpuShare;
+        }
+
+        long getCpuNanos() {
+            return cpuNanos.get();
+        }
+    }
+}
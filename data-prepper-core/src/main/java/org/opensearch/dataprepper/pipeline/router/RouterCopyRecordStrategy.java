@@ -31,10 +31,13 @@ public class RouterCopyRecordStrategy implements RouterGetRecordStrategy {
          * pipeline connector, then we should make a copy of every
          * record that is routed to more than one sink, so, to keep
          * track of already routed records, initialize the set.
+         * Pipeline connectors which share records are handed the
+         * records by reference and do not need copies.
          */
         if (dataFlowComponents.size() > 1) {
             for (DataFlowComponent<C> dataFlowComponent : dataFlowComponents) {
-                if (dataFlowComponent.getComponent() instanceof PipelineConnector) {
+                if (dataFlowComponent.getComponent() instanceof PipelineConnector &&
+                        !((PipelineConnector) dataFlowComponent.getComponent()).isShareRecords()) {
                     routedRecords = new HashSet<Record>();
                     break;
                 }
@@ -5,27 +5,60 @@
 
 package org.opensearch.dataprepper.pipeline.server;
 
+import com.sun.net.httpserver.Headers;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.prometheus.client.exporter.common.TextFormat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.ws.rs.HttpMethod;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.HttpURLConnection;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
 /**
- * HttpHandler to handle requests for Prometheus metrics
+ * HttpHandler to handle requests for Prometheus metrics.
+ * <p>
+ * The registry is scraped straight into a buffer, without building the exposition as a String first. Each scrape is
+ * kept as a snapshot for {@link #DEFAULT_SNAPSHOT_TTL}, which concurrent and repeated requests share instead of
+ * scraping the registry again. Requests which accept gzip get the snapshot compressed, once per snapshot. Requests
+ * which accept OpenMetrics get the OpenMetrics text format, others the Prometheus text format.
  */
 public class PrometheusMetricsHandler implements HttpHandler {
+    static final Duration DEFAULT_SNAPSHOT_TTL = Duration.ofSeconds(1);
+    static final String PROMETHEUS_CONTENT_TYPE = "text/plain; charset=UTF-8";
+    private static final String GZIP = "gzip";
 
     private final PrometheusMeterRegistry prometheusMeterRegistry;
+    private final long snapshotTtlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Snapshot> snapshots = new HashMap<>();
     private final Logger LOG = LoggerFactory.getLogger(PrometheusMetricsHandler.class);
 
     public PrometheusMetricsHandler(final PrometheusMeterRegistry prometheusMeterRegistry) {
+        this(prometheusMeterRegistry, DEFAULT_SNAPSHOT_TTL, System::nanoTime);
+    }
+
+    PrometheusMetricsHandler(
+            final PrometheusMeterRegistry prometheusMeterRegistry,
+            final Duration snapshotTtl,
+            final LongSupplier nanoClock) {
         this.prometheusMeterRegistry = prometheusMeterRegistry;
+        this.snapshotTtlNanos = snapshotTtl.toNanos();
+        this.nanoClock = nanoClock;
     }
 
     @Override
@@ -38,8 +71,19 @@ public class PrometheusMetricsHandler implements HttpHandler {
         }
 
         try {
-            final byte[] response = prometheusMeterRegistry.scrape().getBytes(StandardCharsets.UTF_8);
-            exchange.getResponseHeaders().add("Content-Type", "text/plain; charset=UTF-8");
+            final Headers requestHeaders = exchange.getRequestHeaders();
+            final String contentType = TextFormat.chooseContentType(requestHeaders.getFirst("Accept"));
+            final boolean isGzipAccepted = acceptsGzip(requestHeaders.getFirst("Accept-Encoding"));
+            final Snapshot snapshot = getSnapshot(contentType);
+            final byte[] response = isGzipAccepted ? snapshot.getGzippedBody() : snapshot.body;
+
+            final Headers responseHeaders = exchange.getResponseHeaders();
+            responseHeaders.add("Content-Type",
+                    TextFormat.CONTENT_TYPE_004.equals(contentType) ? PROMETHEUS_CONTENT_TYPE : contentType);
+            responseHeaders.add("Vary", "Accept, Accept-Encoding");
+            if (isGzipAccepted) {
+                responseHeaders.add("Content-Encoding", GZIP);
+            }
             exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, response.length);
             exchange.getResponseBody().write(response);
         } catch (final Exception e) {
@@ -49,4 +93,81 @@ public class PrometheusMetricsHandler implements HttpHandler {
             exchange.getResponseBody().close();
         }
     }
+
+    /**
+     * Gets the current snapshot of the registry in a format, scraping the registry if there is none or it expired.
+     * Requests which arrive during a scrape wait for it and share its snapshot.
+     */
+    private synchronized Snapshot getSnapshot(final String contentType) throws IOException {
+        final long now = nanoClock.getAsLong();
+        final Snapshot snapshot = snapshots.get(contentType);
+        if (snapshot != null && now - snapshot.createdNanos < snapshotTtlNanos) {
+            return snapshot;
+        }
+
+        // Sizing the buffer from the previous scrape avoids growing it, and copying it, while scraping.
+        final ByteArrayOutputStream body = new ByteArrayOutputStream(snapshot != null ? snapshot.body.length + 1024 : 8192);
+        try (final Writer writer = new BufferedWriter(new OutputStreamWriter(body, StandardCharsets.UTF_8))) {
+            prometheusMeterRegistry.scrape(writer, contentType);
+        }
+        final Snapshot newSnapshot = new Snapshot(body.toByteArray(), now);
+        snapshots.put(contentType, newSnapshot);
+        return newSnapshot;
+    }
+
+    static boolean acceptsGzip(final String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (final String coding : acceptEncoding.split(",")) {
+            final String[] codingAndParameters = coding.split(";");
+            if (!GZIP.equalsIgnoreCase(codingAndParameters[0].trim())) {
+                continue;
+            }
+            for (int i = 1; i < codingAndParameters.length; i++) {
+                final String parameter = codingAndParameters[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(parameter.substring(2)) > 0;
+                    } catch (final NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static class Snapshot {
+        private final byte[] body;
+        private final long createdNanos;
+        private byte[] gzippedBody;
+
+        private Snapshot(final byte[] body, final long createdNanos) {
+            this.body = body;
+            this.createdNanos = createdNanos;
+        }
+
+        private synchronized byte[] getGzippedBody() throws IOException {
+            if (gzippedBody == null) {
+                final ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4 + 64);
+                try (final OutputStream gzipStream = new FastGZIPOutputStream(compressed)) {
+                    gzipStream.write(body);
+                }
+                gzippedBody = compressed.toByteArray();
+            }
+            return gzippedBody;
+        }
+    }
+
+    /**
+     * Compresses for speed: the exposition is repetitive text which compresses well even so.
+     */
+    private static class FastGZIPOutputStream extends GZIPOutputStream {
+        private FastGZIPOutputStream(final OutputStream outputStream) throws IOException {
+            super(outputStream, 8192);
+            def.setLevel(Deflater.BEST_SPEED);
+        }
+    }
 }
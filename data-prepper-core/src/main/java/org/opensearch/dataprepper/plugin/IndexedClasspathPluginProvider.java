@@ -0,0 +1,133 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugin;
+
+import org.opensearch.dataprepper.model.plugin.PluginIndexEntry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * The implementation of {@link PluginProvider} which loads plugins from the plugin indexes on the current Java
+ * classpath. The indexes are written into the plugin jars at build time by the
+ * {@link org.opensearch.dataprepper.model.plugin.PluginIndexProcessor}, so finding a plugin only reads the indexes and
+ * loads the plugin class.
+ * <p>
+ * A plugin which is not in any index, for example from a jar built without the annotation processor, is found by
+ * scanning the classpath with a {@link ClasspathPluginProvider}. The scan runs only when such a plugin is requested.
+ *
+ * @since 2.2
+ */
+public class IndexedClasspathPluginProvider implements PluginProvider {
+    private static final Logger LOG = LoggerFactory.getLogger(IndexedClasspathPluginProvider.class);
+
+    private final ClassLoader classLoader;
+    private final String[] pluginPackages;
+    private final Supplier<PluginProvider> fallbackPluginProviderSupplier;
+    private Map<String, Map<String, String>> nameToSupportedTypeToPluginClassName;
+    private PluginProvider fallbackPluginProvider;
+
+    public IndexedClasspathPluginProvider() {
+        this(IndexedClasspathPluginProvider.class.getClassLoader(), new PluginPackagesSupplier().get(), ClasspathPluginProvider::new);
+    }
+
+    /**
+     * For testing only
+     */
+    IndexedClasspathPluginProvider(final ClassLoader classLoader, final String[] pluginPackages,
+                                   final Supplier<PluginProvider> fallbackPluginProviderSupplier) {
+        this.classLoader = classLoader;
+        this.pluginPackages = pluginPackages;
+        this.fallbackPluginProviderSupplier = fallbackPluginProviderSupplier;
+    }
+
+    @Override
+    public <T> Optional<Class<? extends T>> findPluginClass(final Class<T> pluginType, final String pluginName) {
+        if (nameToSupportedTypeToPluginClassName == null) {
+            nameToSupportedTypeToPluginClassName = readPluginIndexes();
+        }
+
+        final Map<String, String> supportedTypesMap = nameToSupportedTypeToPluginClassName.get(pluginName);
+        final String pluginClassName = supportedTypesMap != null ? supportedTypesMap.get(pluginType.getName()) : null;
+        if (pluginClassName != null) {
+            try {
+                return Optional.of((Class<? extends T>) Class.forName(pluginClassName, false, classLoader));
+            } catch (final ClassNotFoundException ex) {
+                LOG.warn("Plugin class {} from a plugin index was not found, scanning the classpath for plugin {}.", pluginClassName, pluginName);
+            }
+        }
+
+        return getFallbackPluginProvider().findPluginClass(pluginType, pluginName);
+    }
+
+    private PluginProvider getFallbackPluginProvider() {
+        if (fallbackPluginProvider == null) {
+            LOG.info("Scanning the classpath for plugins which are not in a plugin index.");
+            fallbackPluginProvider = fallbackPluginProviderSupplier.get();
+        }
+        return fallbackPluginProvider;
+    }
+
+    private Map<String, Map<String, String>> readPluginIndexes() {
+        final Map<String, Map<String, String>> pluginsMap = new HashMap<>();
+        final Enumeration<URL> indexUrls;
+        try {
+            indexUrls = classLoader.getResources(PluginIndexEntry.RESOURCE_NAME);
+        } catch (final IOException ex) {
+            LOG.warn("Unable to find the plugin indexes.", ex);
+            return pluginsMap;
+        }
+
+        int indexCount = 0;
+        while (indexUrls.hasMoreElements()) {
+            final URL indexUrl = indexUrls.nextElement();
+            try (final BufferedReader reader = new BufferedReader(new InputStreamReader(indexUrl.openStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isEmpty()) {
+                        addEntry(pluginsMap, PluginIndexEntry.fromLine(line));
+                    }
+                }
+                indexCount++;
+            } catch (final IOException | IllegalArgumentException ex) {
+                LOG.warn("Unable to read the plugin index {}.", indexUrl, ex);
+            }
+        }
+
+        LOG.debug("Read {} plugin indexes.", indexCount);
+        return pluginsMap;
+    }
+
+    private void addEntry(final Map<String, Map<String, String>> pluginsMap, final PluginIndexEntry entry) {
+        if (!isInPluginPackage(entry.getPluginClass())) {
+            return;
+        }
+        pluginsMap.computeIfAbsent(entry.getName(), k -> new HashMap<>())
+                .put(entry.getPluginType(), entry.getPluginClass());
+    }
+
+    /**
+     * Plugins are only loaded from the plugin packages, as when scanning the classpath.
+     */
+    private boolean isInPluginPackage(final String className) {
+        for (final String pluginPackage : pluginPackages) {
+            if (className.startsWith(pluginPackage + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
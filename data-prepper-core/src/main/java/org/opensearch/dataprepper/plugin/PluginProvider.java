@@ -12,6 +12,7 @@ import java.util.Optional;
  * system.
  *
  * @see ClasspathPluginProvider
+ * @see IndexedClasspathPluginProvider
  * @since 1.2
  */
 public interface PluginProvider {
@@ -12,6 +12,7 @@ import org.opensearch.dataprepper.model.record.Record;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -44,6 +45,11 @@ public class MultiBufferDecorator<T extends Record<?>> implements Buffer<T> {
         return primaryBuffer.read(timeoutInMillis);
     }
 
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> read(final int timeoutInMillis, final int maxBatchSize) {
+        return primaryBuffer.read(timeoutInMillis, maxBatchSize);
+    }
+
     @Override
     public void checkpoint(final CheckpointState checkpointState) {
         primaryBuffer.checkpoint(checkpointState);
@@ -55,4 +61,9 @@ public class MultiBufferDecorator<T extends Record<?>> implements Buffer<T> {
                 .map(Buffer::isEmpty)
                 .allMatch(result -> result == true);
     }
-}
\ No newline at end of file
+
+    @Override
+    public Optional<Double> getFillRatio() {
+        return primaryBuffer.getFillRatio();
+    }
+}
@@ -68,6 +68,15 @@ public class TestDataProvider {
     public static final String INVALID_DATA_PREPPER_CONFIG_FILE_WITH_BAD_PROCESSOR_SHUTDOWN_TIMEOUT = "src/test/resources/invalid_data_prepper_config_with_bad_processor_shutdown_timeout.yml";
     public static final String INVALID_DATA_PREPPER_CONFIG_FILE_WITH_BAD_SINK_SHUTDOWN_TIMEOUT = "src/test/resources/invalid_data_prepper_config_with_bad_sink_shutdown_timeout.yml";
     public static final String INVALID_DATA_PREPPER_CONFIG_FILE_WITH_NEGATIVE_PROCESSOR_SHUTDOWN_TIMEOUT = "src/test/resources/invalid_data_prepper_config_with_negative_processor_shutdown_timeout.yml";
+    public static final String VALID_DATA_PREPPER_CONFIG_FILE_WITH_LATENCY_SAMPLING_RATE = "src/test/resources/valid_data_prepper_config_with_latency_sampling_rate.yml";
+    public static final String VALID_DATA_PREPPER_CONFIG_FILE_WITH_LOW_OVERHEAD_METRICS_MODE = "src/test/resources/valid_data_prepper_config_with_low_overhead_metrics_mode.yml";
+    public static final String INVALID_DATA_PREPPER_CONFIG_FILE_WITH_METRICS_MODE = "src/test/resources/invalid_data_prepper_config_with_metrics_mode.yml";
+    public static final String VALID_DATA_PREPPER_CONFIG_FILE_WITH_PROCESSOR_FUSION = "src/test/resources/valid_data_prepper_config_with_processor_fusion.yml";
+    public static final String VALID_DATA_PREPPER_CONFIG_FILE_WITH_ADAPTIVE_BATCHING = "src/test/resources/valid_data_prepper_config_with_adaptive_batching.yml";
+    public static final String INVALID_DATA_PREPPER_CONFIG_FILE_WITH_ADAPTIVE_BATCHING = "src/test/resources/invalid_data_prepper_config_with_adaptive_batching.yml";
+    public static final String VALID_DATA_PREPPER_CONFIG_FILE_WITH_SHARED_WORKER_POOL = "src/test/resources/valid_data_prepper_config_with_shared_worker_pool.yml";
+    public static final String INVALID_DATA_PREPPER_CONFIG_FILE_WITH_SHARED_WORKER_POOL = "src/test/resources/invalid_data_prepper_config_with_shared_worker_pool.yml";
+    public static final String INVALID_DATA_PREPPER_CONFIG_FILE_WITH_LATENCY_SAMPLING_RATE = "src/test/resources/invalid_data_prepper_config_with_latency_sampling_rate.yml";
     public static final String INVALID_DATA_PREPPER_CONFIG_FILE_WITH_NEGATIVE_SINK_SHUTDOWN_TIMEOUT = "src/test/resources/invalid_data_prepper_config_with_negative_sink_shutdown_timeout.yml";
     public static final String INVALID_PORT_DATA_PREPPER_CONFIG_FILE = "src/test/resources/invalid_port_data_prepper_config.yml";
     public static final String INVALID_KEYSTORE_PASSWORD_DATA_PREPPER_CONFIG_FILE = "src/test/resources/invalid_data_prepper_config_with_bad_keystore_password.yml";
@@ -76,13 +85,17 @@ public class TestDataProvider {
     public static final String VALID_PEER_FORWARDER_CONFIG_FILE = "src/test/resources/valid_peer_forwarder_config.yml";
     public static final String VALID_PEER_FORWARDER_CONFIG_WITH_DRAIN_TIMEOUT_FILE = "src/test/resources/valid_peer_forwarder_config_with_drain_timeout.yml";
     public static final String VALID_PEER_FORWARDER_CONFIG_WITH_ISO8601_DRAIN_TIMEOUT_FILE = "src/test/resources/valid_peer_forwarder_config_with_iso8601_drain_timeout.yml";
+    public static final String VALID_PEER_FORWARDER_CONFIG_WITH_BOUNDED_LOAD_FILE = "src/test/resources/valid_peer_forwarder_config_with_bounded_load.yml";
     public static final String INVALID_PEER_FORWARDER_WITH_PORT_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_port_config.yml";
     public static final String INVALID_PEER_FORWARDER_WITH_THREAD_COUNT_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_thread_count_config.yml";
     public static final String INVALID_PEER_FORWARDER_WITH_CONNECTION_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_connection_config.yml";
     public static final String INVALID_PEER_FORWARDER_WITH_SSL_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_ssl_config.yml";
     public static final String INVALID_PEER_FORWARDER_WITH_DISCOVERY_MODE_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_discovery_mode_config.yml";
     public static final String INVALID_PEER_FORWARDER_WITH_BUFFER_SIZE_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_buffer_size_config.yml";
+    public static final String INVALID_PEER_FORWARDER_WITH_MAX_BUFFER_BYTES_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_max_buffer_bytes_config.yml";
     public static final String INVALID_PEER_FORWARDER_WITH_BATCH_SIZE_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_batch_size_config.yml";
+    public static final String INVALID_PEER_FORWARDER_WITH_BOUNDED_LOAD_FACTOR_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_bounded_load_factor_config.yml";
+    public static final String INVALID_PEER_FORWARDER_WITH_HOT_KEY_SPLIT_THRESHOLD_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_hot_key_split_threshold_config.yml";
     public static final String INVALID_PEER_FORWARDER_WITH_ACM_WITHOUT_ARN_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_acm_without_arn_config.yml";
     public static final String INVALID_PEER_FORWARDER_WITH_ACM_WITHOUT_REGION_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_acm_without_region_config.yml";
     public static final String INVALID_PEER_FORWARDER_WITH_CLOUD_MAP_WITHOUT_SERVICE_NAME_CONFIG_FILE = "src/test/resources/invalid_peer_forwarder_with_cloud_map_without_service_name_config.yml";
@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -78,6 +79,20 @@ class CircuitBreakingBufferTest {
             createObjectUnderTest().read(timeoutMillis);
         }
 
+        @Test
+        void read_with_maxBatchSize_should_return_inner_read() {
+            final Map.Entry<Collection<Record<?>>, CheckpointState> readResponse = mock(Map.Entry.class);
+            when(buffer.read(timeoutMillis, 10)).thenReturn(readResponse);
+            assertThat(createObjectUnderTest().read(timeoutMillis, 10), equalTo(readResponse));
+        }
+
+        @Test
+        void getFillRatio_should_return_inner_getFillRatio() {
+            when(buffer.getFillRatio()).thenReturn(Optional.of(0.5));
+
+            assertThat(createObjectUnderTest().getFillRatio(), equalTo(Optional.of(0.5)));
+        }
+
         @Test
         void checkpoint_should_call_inner_checkpoint() {
             final CheckpointState checkpointState = mock(CheckpointState.class);
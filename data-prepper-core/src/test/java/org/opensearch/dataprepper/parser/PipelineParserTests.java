@@ -18,16 +18,20 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.TestDataProvider;
 import org.opensearch.dataprepper.breaker.CircuitBreaker;
 import org.opensearch.dataprepper.breaker.CircuitBreakerManager;
+import org.opensearch.dataprepper.metrics.MetricsMode;
 import org.opensearch.dataprepper.model.buffer.Buffer;
 import org.opensearch.dataprepper.model.configuration.DataPrepperVersion;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.plugin.PluginFactory;
 import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.parser.model.AdaptiveBatchingConfig;
 import org.opensearch.dataprepper.parser.model.DataPrepperConfiguration;
+import org.opensearch.dataprepper.parser.model.SharedWorkerPoolConfig;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderProvider;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderReceiveBuffer;
 import org.opensearch.dataprepper.pipeline.Pipeline;
+import org.opensearch.dataprepper.pipeline.SharedWorkerPool;
 import org.opensearch.dataprepper.pipeline.router.RouterFactory;
 import org.opensearch.dataprepper.plugin.DefaultPluginFactory;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
@@ -172,6 +176,7 @@ class PipelineParserTests {
         verify(dataPrepperConfiguration).getProcessorShutdownTimeout();
         verify(dataPrepperConfiguration).getSinkShutdownTimeout();
         verify(dataPrepperConfiguration).getPeerForwarderConfiguration();
+        verifyPipelineSettingsAccesses(1);
     }
 
     @Test
@@ -203,6 +208,28 @@ class PipelineParserTests {
         verifyDataPrepperConfigurationAccesses(pipelineMap.keySet().size());
     }
 
+    @Test
+    void parseConfiguration_with_a_shared_worker_pool_builds_pipelines() {
+        mockDataPrepperConfigurationAccesses();
+        final PipelineParser pipelineParser = new PipelineParser(TestDataProvider.VALID_MULTIPLE_PIPELINE_CONFIG_FILE,
+                pluginFactory, peerForwarderProvider, routerFactory, dataPrepperConfiguration, circuitBreakerManager,
+                new SharedWorkerPool(new SharedWorkerPoolConfig(2, null)), MetricsMode.STANDARD);
+        final Map<String, Pipeline> pipelineMap = pipelineParser.parseConfiguration();
+        assertThat(pipelineMap.keySet(), equalTo(TestDataProvider.VALID_MULTIPLE_PIPELINE_NAMES));
+        verifyDataPrepperConfigurationAccesses(pipelineMap.keySet().size());
+    }
+
+    @Test
+    void parseConfiguration_with_low_overhead_metrics_mode_builds_pipelines() {
+        mockDataPrepperConfigurationAccesses();
+        final PipelineParser pipelineParser = new PipelineParser(TestDataProvider.VALID_MULTIPLE_PIPELINE_CONFIG_FILE,
+                pluginFactory, peerForwarderProvider, routerFactory, dataPrepperConfiguration, circuitBreakerManager,
+                null, MetricsMode.LOW_OVERHEAD);
+        final Map<String, Pipeline> pipelineMap = pipelineParser.parseConfiguration();
+        assertThat(pipelineMap.keySet(), equalTo(TestDataProvider.VALID_MULTIPLE_PIPELINE_NAMES));
+        verifyDataPrepperConfigurationAccesses(pipelineMap.keySet().size());
+    }
+
     @Test
     void testMultipleProcessors() {
         mockDataPrepperConfigurationAccesses();
@@ -213,6 +240,28 @@ class PipelineParserTests {
         verifyDataPrepperConfigurationAccesses(pipelineMap.keySet().size());
     }
 
+    @Test
+    void parseConfiguration_with_processor_fusion_enabled_builds_pipelines_with_processors_which_are_not_fusible() {
+        mockDataPrepperConfigurationAccesses();
+        when(dataPrepperConfiguration.isProcessorFusionEnabled()).thenReturn(true);
+        final PipelineParser pipelineParser =
+                createObjectUnderTest(TestDataProvider.VALID_MULTIPLE_PROCESSERS_CONFIG_FILE);
+        final Map<String, Pipeline> pipelineMap = pipelineParser.parseConfiguration();
+        assertThat(pipelineMap.keySet().size(), equalTo(3));
+        verifyDataPrepperConfigurationAccesses(pipelineMap.keySet().size());
+    }
+
+    @Test
+    void parseConfiguration_with_adaptive_batching_builds_pipelines() {
+        mockDataPrepperConfigurationAccesses();
+        when(dataPrepperConfiguration.getAdaptiveBatchingConfig()).thenReturn(new AdaptiveBatchingConfig(null, null, null, null));
+        final PipelineParser pipelineParser =
+                createObjectUnderTest(TestDataProvider.VALID_MULTIPLE_PIPELINE_CONFIG_FILE);
+        final Map<String, Pipeline> pipelineMap = pipelineParser.parseConfiguration();
+        assertThat(pipelineMap.keySet(), equalTo(TestDataProvider.VALID_MULTIPLE_PIPELINE_NAMES));
+        verifyDataPrepperConfigurationAccesses(pipelineMap.keySet().size());
+    }
+
     @Test
     void parseConfiguration_with_a_configuration_file_which_does_not_exist_should_throw() {
         final PipelineParser pipelineParser = createObjectUnderTest("file_does_no_exist.yml");
@@ -305,6 +354,7 @@ class PipelineParserTests {
         verify(dataPrepperConfiguration).getProcessorShutdownTimeout();
         verify(dataPrepperConfiguration).getSinkShutdownTimeout();
         verify(dataPrepperConfiguration).getPeerForwarderConfiguration();
+        verifyPipelineSettingsAccesses(1);
     }
 
     @Test
@@ -326,6 +376,7 @@ class PipelineParserTests {
         verify(dataPrepperConfiguration).getProcessorShutdownTimeout();
         verify(dataPrepperConfiguration).getSinkShutdownTimeout();
         verify(dataPrepperConfiguration).getPeerForwarderConfiguration();
+        verifyPipelineSettingsAccesses(1);
     }
 
     @Test
@@ -352,6 +403,7 @@ class PipelineParserTests {
         verify(dataPrepperConfiguration, times(3)).getProcessorShutdownTimeout();
         verify(dataPrepperConfiguration, times(3)).getSinkShutdownTimeout();
         verify(dataPrepperConfiguration, times(3)).getPeerForwarderConfiguration();
+        verifyPipelineSettingsAccesses(3);
     }
 
     private void mockDataPrepperConfigurationAccesses() {
@@ -370,6 +422,13 @@ class PipelineParserTests {
         verify(dataPrepperConfiguration, times(times)).getSinkShutdownTimeout();
         verify(dataPrepperConfiguration, times(times)).getPeerForwarderConfiguration();
         verify(peerForwarderConfiguration, times(times)).getDrainTimeout();
+        verifyPipelineSettingsAccesses(times);
+    }
+
+    private void verifyPipelineSettingsAccesses(final int times) {
+        verify(dataPrepperConfiguration, times(times)).getLatencySamplingRate();
+        verify(dataPrepperConfiguration, times(times)).isProcessorFusionEnabled();
+        verify(dataPrepperConfiguration, times(times)).getAdaptiveBatchingConfig();
     }
 
     @ParameterizedTest
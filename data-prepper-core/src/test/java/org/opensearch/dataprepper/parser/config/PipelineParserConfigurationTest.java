@@ -6,8 +6,10 @@
 package org.opensearch.dataprepper.parser.config;
 
 import org.opensearch.dataprepper.breaker.CircuitBreakerManager;
+import org.opensearch.dataprepper.metrics.MetricsMode;
 import org.opensearch.dataprepper.model.plugin.PluginFactory;
 import org.opensearch.dataprepper.parser.model.DataPrepperConfiguration;
+import org.opensearch.dataprepper.parser.model.SharedWorkerPoolConfig;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -19,6 +21,7 @@ import org.opensearch.dataprepper.pipeline.router.RouterFactory;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -56,4 +59,26 @@ class PipelineParserConfigurationTest {
         assertThat(pipelineParser, is(notNullValue()));
         verify(fileStructurePathProvider).getPipelineConfigFileLocation();
     }
+
+    @Test
+    void pipelineParser_passes_the_metrics_mode_to_the_parser() {
+        when(dataPrepperConfiguration.getMetricsMode()).thenReturn(MetricsMode.LOW_OVERHEAD);
+
+        final PipelineParser pipelineParser = pipelineParserConfiguration.pipelineParser(
+                fileStructurePathProvider, pluginFactory, peerForwarderProvider, routerFactory, dataPrepperConfiguration, circuitBreakerManager);
+
+        assertThat(pipelineParser, is(notNullValue()));
+        verify(dataPrepperConfiguration).getMetricsMode();
+    }
+
+    @Test
+    void pipelineParser_with_a_shared_worker_pool() {
+        when(dataPrepperConfiguration.getSharedWorkerPoolConfig()).thenReturn(new SharedWorkerPoolConfig(2, null));
+
+        final PipelineParser pipelineParser = pipelineParserConfiguration.pipelineParser(
+                fileStructurePathProvider, pluginFactory, peerForwarderProvider, routerFactory, dataPrepperConfiguration, circuitBreakerManager);
+
+        assertThat(pipelineParser, is(notNullValue()));
+        verify(dataPrepperConfiguration, times(2)).getSharedWorkerPoolConfig();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.parser.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdaptiveBatchingConfigTest {
+    @Test
+    void defaults_are_used_for_missing_settings() {
+        final AdaptiveBatchingConfig config = new AdaptiveBatchingConfig(null, null, null, null);
+
+        assertThat(config.getGoal(), equalTo(AdaptiveBatchingConfig.Goal.LATENCY));
+        assertThat(config.getTargetLatency(), equalTo(AdaptiveBatchingConfig.DEFAULT_TARGET_LATENCY));
+        assertThat(config.getMinBatchSize(), equalTo(AdaptiveBatchingConfig.DEFAULT_MIN_BATCH_SIZE));
+        assertThat(config.getMaxBatchSize(), equalTo(AdaptiveBatchingConfig.DEFAULT_MAX_BATCH_SIZE));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, -1})
+    void constructor_throws_for_a_target_latency_which_is_not_positive(final long targetLatencyMillis) {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveBatchingConfig(null, Duration.ofMillis(targetLatencyMillis), null, null));
+    }
+
+    @Test
+    void constructor_throws_for_a_min_batch_size_which_is_not_positive() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveBatchingConfig(null, null, 0, null));
+    }
+
+    @Test
+    void constructor_throws_for_a_max_batch_size_below_the_min_batch_size() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveBatchingConfig(null, null, 10, 9));
+    }
+
+    @ParameterizedTest
+    @EnumSource(AdaptiveBatchingConfig.Goal.class)
+    void goal_fromOptionValue_returns_the_goal_of_its_name(final AdaptiveBatchingConfig.Goal goal) {
+        assertThat(AdaptiveBatchingConfig.Goal.fromOptionValue(goal.toString()), equalTo(goal));
+        assertThat(AdaptiveBatchingConfig.Goal.fromOptionValue(goal.toString().toUpperCase()), equalTo(goal));
+    }
+
+    @Test
+    void goal_fromOptionValue_throws_for_an_unknown_goal() {
+        assertThrows(IllegalArgumentException.class, () -> AdaptiveBatchingConfig.Goal.fromOptionValue("fastest"));
+    }
+}
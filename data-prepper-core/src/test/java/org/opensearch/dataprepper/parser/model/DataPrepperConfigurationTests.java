@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.parser.model;
 
 import org.opensearch.dataprepper.TestDataProvider;
+import org.opensearch.dataprepper.metrics.MetricsMode;
 import org.opensearch.dataprepper.model.types.ByteCount;
 import org.opensearch.dataprepper.parser.ByteCountDeserializer;
 import org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration;
@@ -180,6 +181,122 @@ public class DataPrepperConfigurationTests {
         assertThat(processorShutdownTimeout, equalTo(Duration.ofSeconds(45)));
     }
 
+    @Test
+    void testConfigWithValidLatencySamplingRate() throws IOException {
+        final DataPrepperConfiguration dataPrepperConfiguration = makeConfig(
+                TestDataProvider.VALID_DATA_PREPPER_CONFIG_FILE_WITH_LATENCY_SAMPLING_RATE);
+
+        assertThat(dataPrepperConfiguration, notNullValue());
+        assertThat(dataPrepperConfiguration.getLatencySamplingRate(), equalTo(0.5));
+    }
+
+    @Test
+    void testConfigWithDefaultLatencySamplingRate() throws IOException {
+        final DataPrepperConfiguration dataPrepperConfiguration = makeConfig(
+                TestDataProvider.VALID_DATA_PREPPER_CONFIG_FILE_WITH_SINK_SHUTDOWN_TIMEOUT);
+
+        assertThat(dataPrepperConfiguration.getLatencySamplingRate(),
+                equalTo(DataPrepperConfiguration.DEFAULT_LATENCY_SAMPLING_RATE));
+    }
+
+    @Test
+    void testConfigWithInvalidLatencySamplingRate() {
+        assertThrows(ValueInstantiationException.class, () ->
+                makeConfig(TestDataProvider.INVALID_DATA_PREPPER_CONFIG_FILE_WITH_LATENCY_SAMPLING_RATE));
+    }
+
+    @Test
+    void testConfigWithLowOverheadMetricsMode() throws IOException {
+        final DataPrepperConfiguration dataPrepperConfiguration = makeConfig(
+                TestDataProvider.VALID_DATA_PREPPER_CONFIG_FILE_WITH_LOW_OVERHEAD_METRICS_MODE);
+
+        assertThat(dataPrepperConfiguration.getMetricsMode(), equalTo(MetricsMode.LOW_OVERHEAD));
+    }
+
+    @Test
+    void testConfigWithDefaultMetricsMode() throws IOException {
+        final DataPrepperConfiguration dataPrepperConfiguration = makeConfig(
+                TestDataProvider.VALID_DATA_PREPPER_CONFIG_FILE_WITH_SINK_SHUTDOWN_TIMEOUT);
+
+        assertThat(dataPrepperConfiguration.getMetricsMode(), equalTo(MetricsMode.STANDARD));
+    }
+
+    @Test
+    void testConfigWithInvalidMetricsMode() {
+        assertThrows(JsonMappingException.class, () ->
+                makeConfig(TestDataProvider.INVALID_DATA_PREPPER_CONFIG_FILE_WITH_METRICS_MODE));
+    }
+
+    @Test
+    void testConfigWithProcessorFusion() throws IOException {
+        final DataPrepperConfiguration dataPrepperConfiguration = makeConfig(
+                TestDataProvider.VALID_DATA_PREPPER_CONFIG_FILE_WITH_PROCESSOR_FUSION);
+
+        assertThat(dataPrepperConfiguration.isProcessorFusionEnabled(), equalTo(true));
+    }
+
+    @Test
+    void testConfigWithProcessorFusionDisabledByDefault() throws IOException {
+        final DataPrepperConfiguration dataPrepperConfiguration = makeConfig(
+                TestDataProvider.VALID_DATA_PREPPER_CONFIG_FILE_WITH_SINK_SHUTDOWN_TIMEOUT);
+
+        assertThat(dataPrepperConfiguration.isProcessorFusionEnabled(), equalTo(false));
+    }
+
+    @Test
+    void testConfigWithAdaptiveBatching() throws IOException {
+        final DataPrepperConfiguration dataPrepperConfiguration = makeConfig(
+                TestDataProvider.VALID_DATA_PREPPER_CONFIG_FILE_WITH_ADAPTIVE_BATCHING);
+
+        final AdaptiveBatchingConfig adaptiveBatchingConfig = dataPrepperConfiguration.getAdaptiveBatchingConfig();
+        assertThat(adaptiveBatchingConfig, notNullValue());
+        assertThat(adaptiveBatchingConfig.getGoal(), equalTo(AdaptiveBatchingConfig.Goal.THROUGHPUT));
+        assertThat(adaptiveBatchingConfig.getTargetLatency(), equalTo(Duration.ofMillis(500)));
+        assertThat(adaptiveBatchingConfig.getMinBatchSize(), equalTo(16));
+        assertThat(adaptiveBatchingConfig.getMaxBatchSize(), equalTo(2000));
+    }
+
+    @Test
+    void testConfigWithoutAdaptiveBatching() throws IOException {
+        final DataPrepperConfiguration dataPrepperConfiguration = makeConfig(
+                TestDataProvider.VALID_DATA_PREPPER_CONFIG_FILE_WITH_SINK_SHUTDOWN_TIMEOUT);
+
+        assertThat(dataPrepperConfiguration.getAdaptiveBatchingConfig(), equalTo(null));
+    }
+
+    @Test
+    void testConfigWithInvalidAdaptiveBatching() {
+        assertThrows(ValueInstantiationException.class, () ->
+                makeConfig(TestDataProvider.INVALID_DATA_PREPPER_CONFIG_FILE_WITH_ADAPTIVE_BATCHING));
+    }
+
+    @Test
+    void testConfigWithSharedWorkerPool() throws IOException {
+        final DataPrepperConfiguration dataPrepperConfiguration = makeConfig(
+                TestDataProvider.VALID_DATA_PREPPER_CONFIG_FILE_WITH_SHARED_WORKER_POOL);
+
+        final SharedWorkerPoolConfig sharedWorkerPoolConfig = dataPrepperConfiguration.getSharedWorkerPoolConfig();
+        assertThat(sharedWorkerPoolConfig, notNullValue());
+        assertThat(sharedWorkerPoolConfig.getThreads(), equalTo(8));
+        assertThat(sharedWorkerPoolConfig.getWeight("raw-pipeline"), equalTo(3));
+        assertThat(sharedWorkerPoolConfig.getWeight("service-map-pipeline"), equalTo(1));
+        assertThat(sharedWorkerPoolConfig.getWeight("entry-pipeline"), equalTo(1));
+    }
+
+    @Test
+    void testConfigWithoutSharedWorkerPool() throws IOException {
+        final DataPrepperConfiguration dataPrepperConfiguration = makeConfig(
+                TestDataProvider.VALID_DATA_PREPPER_CONFIG_FILE_WITH_SINK_SHUTDOWN_TIMEOUT);
+
+        assertThat(dataPrepperConfiguration.getSharedWorkerPoolConfig(), equalTo(null));
+    }
+
+    @Test
+    void testConfigWithInvalidSharedWorkerPool() {
+        assertThrows(ValueInstantiationException.class, () ->
+                makeConfig(TestDataProvider.INVALID_DATA_PREPPER_CONFIG_FILE_WITH_SHARED_WORKER_POOL));
+    }
+
     @Test
     void testPeerForwarderConfig() throws IOException {
         final DataPrepperConfiguration dataPrepperConfiguration = makeConfig(TestDataProvider.VALID_PEER_FORWARDER_DATA_PREPPER_CONFIG_FILE);
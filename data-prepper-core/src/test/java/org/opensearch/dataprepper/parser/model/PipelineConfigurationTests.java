@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.parser.model;
 
+import org.opensearch.dataprepper.metrics.MetricsMode;
 import org.opensearch.dataprepper.model.configuration.PipelineModel;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
@@ -71,18 +72,22 @@ class PipelineConfigurationTests {
         assertThat(pipelineConfiguration.getWorkers(), CoreMatchers.is(TestDataProvider.TEST_WORKERS));
         assertThat(pipelineConfiguration.getReadBatchDelay(), CoreMatchers.is(TestDataProvider.TEST_DELAY));
 
-        pipelineConfiguration.updateCommonPipelineConfiguration(TestDataProvider.TEST_PIPELINE_NAME);
+        pipelineConfiguration.updateCommonPipelineConfiguration(TestDataProvider.TEST_PIPELINE_NAME, MetricsMode.LOW_OVERHEAD);
         assertThat(actualSourcePluginSetting.getPipelineName(), is(equalTo(TestDataProvider.TEST_PIPELINE_NAME)));
         assertThat(actualSourcePluginSetting.getNumberOfProcessWorkers(), is(equalTo(TestDataProvider.TEST_WORKERS)));
+        assertThat(actualSourcePluginSetting.getMetricsMode(), is(equalTo(MetricsMode.LOW_OVERHEAD)));
         assertThat(actualBufferPluginSetting.getPipelineName(), is(equalTo(TestDataProvider.TEST_PIPELINE_NAME)));
         assertThat(actualBufferPluginSetting.getNumberOfProcessWorkers(), is(equalTo(TestDataProvider.TEST_WORKERS)));
+        assertThat(actualBufferPluginSetting.getMetricsMode(), is(equalTo(MetricsMode.LOW_OVERHEAD)));
         actualProcesserPluginSettings.forEach(processorPluginSetting -> {
             assertThat(processorPluginSetting.getPipelineName(), is(equalTo(TestDataProvider.TEST_PIPELINE_NAME)));
             assertThat(processorPluginSetting.getNumberOfProcessWorkers(), is(equalTo(TestDataProvider.TEST_WORKERS)));
+            assertThat(processorPluginSetting.getMetricsMode(), is(equalTo(MetricsMode.LOW_OVERHEAD)));
         });
         actualSinkPluginSettings.forEach(sinkPluginSetting -> {
             assertThat(sinkPluginSetting.getPipelineName(), is(equalTo(TestDataProvider.TEST_PIPELINE_NAME)));
             assertThat(sinkPluginSetting.getNumberOfProcessWorkers(), is(equalTo(TestDataProvider.TEST_WORKERS)));
+            assertThat(sinkPluginSetting.getMetricsMode(), is(equalTo(MetricsMode.LOW_OVERHEAD)));
         });
     }
 
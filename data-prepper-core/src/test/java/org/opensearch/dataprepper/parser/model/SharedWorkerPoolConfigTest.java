@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.parser.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SharedWorkerPoolConfigTest {
+    @Test
+    void defaults_are_used_for_missing_settings() {
+        final SharedWorkerPoolConfig config = new SharedWorkerPoolConfig(null, null);
+
+        assertThat(config.getThreads(), equalTo(Runtime.getRuntime().availableProcessors()));
+        assertThat(config.getWeight("pipeline"), equalTo(SharedWorkerPoolConfig.DEFAULT_WEIGHT));
+    }
+
+    @Test
+    void getWeight_returns_the_configured_weight_of_a_pipeline() {
+        final SharedWorkerPoolConfig config = new SharedWorkerPoolConfig(4, Collections.singletonMap("pipeline", 3));
+
+        assertThat(config.getThreads(), equalTo(4));
+        assertThat(config.getWeight("pipeline"), equalTo(3));
+        assertThat(config.getWeight("other-pipeline"), equalTo(SharedWorkerPoolConfig.DEFAULT_WEIGHT));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void constructor_throws_for_threads_which_are_not_positive(final int threads) {
+        assertThrows(IllegalArgumentException.class, () -> new SharedWorkerPoolConfig(threads, null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void constructor_throws_for_a_weight_which_is_not_positive(final int weight) {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SharedWorkerPoolConfig(null, Collections.singletonMap("pipeline", weight)));
+    }
+
+    @Test
+    void constructor_throws_for_a_missing_weight() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SharedWorkerPoolConfig(null, Collections.singletonMap("pipeline", null)));
+    }
+}
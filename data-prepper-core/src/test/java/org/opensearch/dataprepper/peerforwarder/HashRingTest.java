@@ -121,6 +121,58 @@ class HashRingTest {
         Assertions.assertEquals(result1.get(), result2.get());
     }
 
+    @Test
+    void testGetServerIpsReturnsDistinctServers() {
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT);
+
+        final List<String> serverIps = hashRing.getServerIps();
+
+        Assertions.assertEquals(SERVER_IPS.size(), serverIps.size());
+        Assertions.assertTrue(serverIps.containsAll(SERVER_IPS));
+    }
+
+    @Test
+    void testGetServerIpWithPredicateEmptyMap() {
+        when(peerListProvider.getPeerList()).thenReturn(Collections.emptyList());
+        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT);
+
+        Assertions.assertFalse(hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1, serverIp -> true).isPresent());
+    }
+
+    @Test
+    void testGetServerIpWithPredicateAcceptingHashedServer() {
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT);
+
+        final Optional<String> hashedServerIp = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
+        final Optional<String> result = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1, serverIp -> true);
+
+        Assertions.assertTrue(result.isPresent());
+        Assertions.assertEquals(hashedServerIp.get(), result.get());
+    }
+
+    @Test
+    void testGetServerIpWithPredicateRejectingHashedServer() {
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT);
+
+        final String hashedServerIp = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1).get();
+        final Optional<String> result = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1, serverIp -> !serverIp.equals(hashedServerIp));
+
+        Assertions.assertTrue(result.isPresent());
+        Assertions.assertNotEquals(hashedServerIp, result.get());
+        Assertions.assertTrue(SERVER_IPS.contains(result.get()));
+        Assertions.assertEquals(result, hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1, serverIp -> !serverIp.equals(hashedServerIp)));
+    }
+
+    @Test
+    void testGetServerIpWithPredicateRejectingAllServersReturnsHashedServer() {
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT);
+
+        final Optional<String> hashedServerIp = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_2);
+        final Optional<String> result = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_2, serverIp -> false);
+
+        Assertions.assertEquals(hashedServerIp, result);
+    }
+
     @Test
     void testEndpointChangeRebuildsMap() {
         hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT);
@@ -60,6 +60,7 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getBatchSize(), equalTo(48));
         assertThat(peerForwarderConfiguration.getBatchDelay(), equalTo(3_000));
         assertThat(peerForwarderConfiguration.getBufferSize(), equalTo(512));
+        assertThat(peerForwarderConfiguration.getMaxBufferBytes(), equalTo(0L));
         assertThat(peerForwarderConfiguration.getAuthentication(), equalTo(ForwardingAuthentication.UNAUTHENTICATED));
         assertThat(peerForwarderConfiguration.getDrainTimeout(), equalTo(DEFAULT_DRAIN_TIMEOUT));
         assertThat(peerForwarderConfiguration.getFailedForwardingRequestLocalWriteTimeout(), equalTo(500));
@@ -67,6 +68,9 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getForwardingBatchQueueDepth(), equalTo(1));
         assertThat(peerForwarderConfiguration.getForwardingBatchTimeout(), equalTo(DEFAULT_FORWARDING_BATCH_TIMEOUT));
         assertThat(peerForwarderConfiguration.getBinaryCodec(), equalTo(true));
+        assertThat(peerForwarderConfiguration.getRoutingMode(), equalTo(RoutingMode.CONSISTENT_HASH));
+        assertThat(peerForwarderConfiguration.getBoundedLoadFactor(), equalTo(1.25));
+        assertThat(peerForwarderConfiguration.getHotKeySplitThreshold(), equalTo(1000));
     }
 
     @Test
@@ -93,6 +97,7 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getBatchSize(), equalTo(100));
         assertThat(peerForwarderConfiguration.getBatchDelay(), equalTo(10));
         assertThat(peerForwarderConfiguration.getBufferSize(), equalTo(100));
+        assertThat(peerForwarderConfiguration.getMaxBufferBytes(), equalTo(10_485_760L));
         assertThat(peerForwarderConfiguration.getAuthentication(), equalTo(ForwardingAuthentication.UNAUTHENTICATED));
         assertThat(peerForwarderConfiguration.getDrainTimeout(), equalTo(DEFAULT_DRAIN_TIMEOUT));
         assertThat(peerForwarderConfiguration.getFailedForwardingRequestLocalWriteTimeout(), equalTo(15));
@@ -141,6 +146,15 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getDrainTimeout(), equalTo(Duration.ofSeconds(60)));
     }
 
+    @Test
+    void testValidPeerForwarderConfig_with_BoundedLoad() throws IOException {
+        final PeerForwarderConfiguration peerForwarderConfiguration = makeConfig(TestDataProvider.VALID_PEER_FORWARDER_CONFIG_WITH_BOUNDED_LOAD_FILE);
+
+        assertThat(peerForwarderConfiguration.getRoutingMode(), equalTo(RoutingMode.BOUNDED_LOAD));
+        assertThat(peerForwarderConfiguration.getBoundedLoadFactor(), equalTo(1.5));
+        assertThat(peerForwarderConfiguration.getHotKeySplitThreshold(), equalTo(200));
+    }
+
     @Test
     void testValidPeerForwarderConfig_with_iso8601_DrainTimeout() throws IOException {
         final PeerForwarderConfiguration peerForwarderConfiguration = makeConfig(TestDataProvider.VALID_PEER_FORWARDER_CONFIG_WITH_ISO8601_DRAIN_TIMEOUT_FILE);
@@ -177,7 +191,10 @@ class PeerForwarderConfigurationTest {
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_CONNECTION_CONFIG_FILE,
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_DISCOVERY_MODE_CONFIG_FILE,
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_BUFFER_SIZE_CONFIG_FILE,
+            TestDataProvider.INVALID_PEER_FORWARDER_WITH_MAX_BUFFER_BYTES_CONFIG_FILE,
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_BATCH_SIZE_CONFIG_FILE,
+            TestDataProvider.INVALID_PEER_FORWARDER_WITH_BOUNDED_LOAD_FACTOR_CONFIG_FILE,
+            TestDataProvider.INVALID_PEER_FORWARDER_WITH_HOT_KEY_SPLIT_THRESHOLD_CONFIG_FILE,
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_ACM_WITHOUT_ARN_CONFIG_FILE,
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_ACM_WITHOUT_REGION_CONFIG_FILE,
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_CLOUD_MAP_WITHOUT_SERVICE_NAME_CONFIG_FILE,
@@ -30,6 +30,7 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -91,6 +92,31 @@ class PeerForwarderProviderTest {
         assertThat(peerForwarder, instanceOf(RemotePeerForwarder.class));
     }
 
+    @Test
+    void register_uses_the_configured_routing_mode_for_processors_which_allow_bounded_load_routing() {
+        when(peerForwarderConfiguration.getDiscoveryMode()).thenReturn(DiscoveryMode.STATIC);
+        when(peerForwarderConfiguration.getStaticEndpoints()).thenReturn(List.of("endpoint1", "endpoint2"));
+        when(peerForwarderConfiguration.getRoutingMode()).thenReturn(RoutingMode.BOUNDED_LOAD);
+
+        final PeerForwarder peerForwarder = createObjectUnderTest()
+                .register(pipelineName, pluginId, identificationKeys, PIPELINE_WORKER_THREADS, false, true);
+
+        assertThat(peerForwarder, instanceOf(RemotePeerForwarder.class));
+        verify(peerForwarderConfiguration).getRoutingMode();
+    }
+
+    @Test
+    void register_uses_consistent_hashing_for_processors_which_do_not_allow_bounded_load_routing() {
+        when(peerForwarderConfiguration.getDiscoveryMode()).thenReturn(DiscoveryMode.STATIC);
+        when(peerForwarderConfiguration.getStaticEndpoints()).thenReturn(List.of("endpoint1", "endpoint2"));
+
+        final PeerForwarder peerForwarder = createObjectUnderTest()
+                .register(pipelineName, pluginId, identificationKeys, PIPELINE_WORKER_THREADS, true, false);
+
+        assertThat(peerForwarder, instanceOf(RemotePeerForwarder.class));
+        verify(peerForwarderConfiguration, never()).getRoutingMode();
+    }
+
     @Test
     void register_creates_a_new_RemotePeerForwarder_with_static_discovery_mode_of_size_one() {
         when(peerForwarderConfiguration.getDiscoveryMode()).thenReturn(DiscoveryMode.STATIC);
@@ -5,8 +5,12 @@
 
 package org.opensearch.dataprepper.peerforwarder;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Metrics;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.dataprepper.metrics.MetricNames;
+import org.opensearch.dataprepper.metrics.MetricsMode;
 import org.opensearch.dataprepper.model.CheckpointState;
 import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
 import org.opensearch.dataprepper.model.record.Record;
@@ -17,10 +21,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.StringJoiner;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
@@ -47,6 +53,21 @@ class PeerForwarderReceiveBufferTest {
         assertThat(peerForwarderReceiveBuffer, notNullValue());
     }
 
+    @Test
+    void PeerForwarderReceiveBuffer_with_low_overhead_metrics_mode_creates_striped_meters() throws TimeoutException {
+        final String pluginId = UUID.randomUUID().toString();
+        final PeerForwarderReceiveBuffer<Record<String>> peerForwarderReceiveBuffer = new PeerForwarderReceiveBuffer<>(
+                TEST_BUFFER_SIZE, TEST_BATCH_SIZE, 0, PIPELINE_NAME, pluginId, MetricsMode.LOW_OVERHEAD);
+
+        peerForwarderReceiveBuffer.write(new Record<>(UUID.randomUUID().toString()), TEST_WRITE_TIMEOUT);
+
+        final String recordsWritten = new StringJoiner(MetricNames.DELIMITER).add("core.peerForwarder")
+                .add(PIPELINE_NAME).add(pluginId).add(MetricNames.RECORDS_WRITTEN).toString();
+        final FunctionCounter recordsWrittenCounter = Metrics.globalRegistry.find(recordsWritten).functionCounter();
+        assertThat(recordsWrittenCounter, notNullValue());
+        assertThat(recordsWrittenCounter.count(), equalTo(1.0));
+    }
+
     @Test
     void insert_null_should_throw_NullPointerException_test() {
         final PeerForwarderReceiveBuffer<Record<String>> peerForwarderReceiveBuffer = createObjectUnderTest(TEST_BUFFER_SIZE);
@@ -79,6 +100,60 @@ class PeerForwarderReceiveBufferTest {
         assertThrows(TimeoutException.class, () -> peerForwarderReceiveBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT));
     }
 
+    @Test
+    void testWriteAllBytesOverflow() {
+        final String record = UUID.randomUUID().toString();
+        final PeerForwarderReceiveBuffer<Record<String>> peerForwarderReceiveBuffer = new PeerForwarderReceiveBuffer<>(
+                TEST_BUFFER_SIZE, TEST_BATCH_SIZE, 2L * record.length(), PIPELINE_NAME, PLUGIN_ID);
+        final Collection<Record<String>> testRecords = generateBatchRecords(3);
+        assertThrows(SizeOverflowException.class, () -> peerForwarderReceiveBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    void testNoAvailBytesWriteTimesOutUntilCheckedRead() throws Exception {
+        final String record = UUID.randomUUID().toString();
+        final PeerForwarderReceiveBuffer<Record<String>> peerForwarderReceiveBuffer = new PeerForwarderReceiveBuffer<>(
+                TEST_BUFFER_SIZE, TEST_BATCH_SIZE, 2L * record.length(), PIPELINE_NAME, PLUGIN_ID);
+        peerForwarderReceiveBuffer.writeAll(generateBatchRecords(2), TEST_WRITE_TIMEOUT);
+        assertThrows(TimeoutException.class, () -> peerForwarderReceiveBuffer.write(new Record<>(record), TEST_WRITE_TIMEOUT));
+        assertThrows(TimeoutException.class, () -> peerForwarderReceiveBuffer.writeAll(generateBatchRecords(1), TEST_WRITE_TIMEOUT));
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = peerForwarderReceiveBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(readResult.getValue().getNumBytesToBeChecked(), equalTo(2L * record.length()));
+        peerForwarderReceiveBuffer.checkpoint(readResult.getValue());
+
+        peerForwarderReceiveBuffer.write(new Record<>(record), TEST_WRITE_TIMEOUT);
+        peerForwarderReceiveBuffer.writeAll(generateBatchRecords(1), TEST_WRITE_TIMEOUT);
+        assertThat(peerForwarderReceiveBuffer.isEmpty(), is(false));
+    }
+
+    @Test
+    void testInterruptedWriteWaitingForBytesReleasesItsSlot() throws Exception {
+        final String record = UUID.randomUUID().toString();
+        final PeerForwarderReceiveBuffer<Record<Object>> peerForwarderReceiveBuffer = new PeerForwarderReceiveBuffer<>(
+                2, TEST_BATCH_SIZE, record.length(), PIPELINE_NAME, PLUGIN_ID);
+        peerForwarderReceiveBuffer.write(new Record<>(record), TEST_WRITE_TIMEOUT);
+
+        final AtomicReference<Exception> writeException = new AtomicReference<>();
+        final Thread writer = new Thread(() -> {
+            try {
+                peerForwarderReceiveBuffer.write(new Record<>(record), 60_000);
+            } catch (final Exception e) {
+                writeException.set(e);
+            }
+        });
+        writer.start();
+        while (writer.getState() != Thread.State.TIMED_WAITING) {
+            Thread.sleep(10);
+        }
+        writer.interrupt();
+        writer.join(10_000);
+        assertThat(writeException.get() instanceof TimeoutException, is(true));
+
+        // A record without bytes only needs the slot which the interrupted write released
+        peerForwarderReceiveBuffer.write(new Record<>(42), TEST_WRITE_TIMEOUT);
+    }
+
     @Test
     void testNoEmptySpaceAfterUncheckedRead() throws TimeoutException {
         // Given
@@ -538,7 +538,11 @@ class PeerForwarder_ClientServerIT {
                 null,
                 null,
                 null,
-                binaryCodec
+                null,
+                binaryCodec,
+                null,
+                null,
+                null
         );
     }
 }
@@ -32,6 +32,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -85,6 +86,16 @@ class PeerForwardingProcessingDecoratorTest {
         assertThrows(EmptyPeerForwarderPluginIdentificationKeysException.class, () -> createObjectUnderTesDecoratedProcessors(Collections.singletonList((Processor) requiresPeerForwarding)));
     }
 
+    @Test
+    void decorateProcessors_with_peer_forwarding_disabled_should_return_processors_without_peer_forwarding() {
+        when(requiresPeerForwarding.isPeerForwardingDisabled()).thenReturn(true);
+
+        final List<Processor> processors = createObjectUnderTesDecoratedProcessors(Collections.singletonList((Processor) requiresPeerForwarding));
+
+        assertThat(processors, equalTo(Collections.singletonList((Processor) requiresPeerForwarding)));
+        verifyNoInteractions(peerForwarderProvider);
+    }
+
     @Test
     void decorateProcessors_with_different_identification_key_should_throw() {
         List<Processor> processorList = new ArrayList<>();
@@ -115,7 +126,7 @@ class PeerForwardingProcessingDecoratorTest {
         void setUp() {
             identificationKeys = Set.of(TEST_IDENTIFICATION_KEY);
 
-            when(peerForwarderProvider.register(pipelineName, pluginId, identificationKeys, PIPELINE_WORKER_THREADS)).thenReturn(peerForwarder);
+            lenient().when(peerForwarderProvider.register(pipelineName, pluginId, identificationKeys, PIPELINE_WORKER_THREADS, false, false)).thenReturn(peerForwarder);
             when(requiresPeerForwarding.getIdentificationKeys()).thenReturn(identificationKeys);
             processor = (Processor) requiresPeerForwarding;
         }
@@ -124,7 +135,25 @@ class PeerForwardingProcessingDecoratorTest {
         void PeerForwardingProcessingDecorator_should_have_interaction_with_getIdentificationKeys() {
             createObjectUnderTesDecoratedProcessors(Collections.singletonList(processor));
             verify(requiresPeerForwarding, times(2)).getIdentificationKeys();
-            verify(peerForwarderProvider).register(pipelineName, pluginId, identificationKeys, PIPELINE_WORKER_THREADS);
+            verify(peerForwarderProvider).register(pipelineName, pluginId, identificationKeys, PIPELINE_WORKER_THREADS, false, false);
+        }
+
+        @Test
+        void PeerForwardingProcessingDecorator_should_register_with_hot_key_splitting_if_processor_allows_it() {
+            when(requiresPeerForwarding.allowsHotKeySplitting()).thenReturn(true);
+            when(peerForwarderProvider.register(pipelineName, pluginId, identificationKeys, PIPELINE_WORKER_THREADS, true, false)).thenReturn(peerForwarder);
+
+            createObjectUnderTesDecoratedProcessors(Collections.singletonList(processor));
+            verify(peerForwarderProvider).register(pipelineName, pluginId, identificationKeys, PIPELINE_WORKER_THREADS, true, false);
+        }
+
+        @Test
+        void PeerForwardingProcessingDecorator_should_register_with_bounded_load_routing_if_processor_allows_it() {
+            when(requiresPeerForwarding.allowsBoundedLoadRouting()).thenReturn(true);
+            when(peerForwarderProvider.register(pipelineName, pluginId, identificationKeys, PIPELINE_WORKER_THREADS, false, true)).thenReturn(peerForwarder);
+
+            createObjectUnderTesDecoratedProcessors(Collections.singletonList(processor));
+            verify(peerForwarderProvider).register(pipelineName, pluginId, identificationKeys, PIPELINE_WORKER_THREADS, false, true);
         }
 
         @Test
@@ -0,0 +1,92 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+import io.micrometer.core.instrument.Tags;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.ToDoubleFunction;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PeerLoadTrackerTest {
+    private static final Duration REPORT_TTL = Duration.ofSeconds(5);
+    private static final String PEER = "10.10.0.1";
+
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    private String pipelineName;
+    private String pluginId;
+    private long nanoTime;
+
+    @BeforeEach
+    void setUp() {
+        pipelineName = UUID.randomUUID().toString();
+        pluginId = UUID.randomUUID().toString();
+    }
+
+    private PeerLoadTracker createObjectUnderTest() {
+        return new PeerLoadTracker(pluginMetrics, pipelineName, pluginId, REPORT_TTL, () -> nanoTime);
+    }
+
+    @Test
+    void getBacklog_returns_zero_for_peer_without_report() {
+        assertThat(createObjectUnderTest().getBacklog(PEER), equalTo(0L));
+    }
+
+    @Test
+    void getBacklog_returns_last_reported_backlog() {
+        final PeerLoadTracker objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.recordBacklog(PEER, 10);
+        objectUnderTest.recordBacklog(PEER, 25);
+
+        assertThat(objectUnderTest.getBacklog(PEER), equalTo(25L));
+        assertThat(objectUnderTest.getBacklog(UUID.randomUUID().toString()), equalTo(0L));
+    }
+
+    @Test
+    void getBacklog_returns_zero_once_report_expires() {
+        final PeerLoadTracker objectUnderTest = createObjectUnderTest();
+        objectUnderTest.recordBacklog(PEER, 10);
+
+        nanoTime += REPORT_TTL.toNanos() - 1;
+        assertThat(objectUnderTest.getBacklog(PEER), equalTo(10L));
+
+        nanoTime += 1;
+        assertThat(objectUnderTest.getBacklog(PEER), equalTo(0L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void recordBacklog_registers_one_gauge_per_peer() {
+        final PeerLoadTracker objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.recordBacklog(PEER, 10);
+        objectUnderTest.recordBacklog(PEER, 20);
+
+        final ArgumentCaptor<ToDoubleFunction<PeerLoadTracker>> valueFunctionCaptor = ArgumentCaptor.forClass(ToDoubleFunction.class);
+        verify(pluginMetrics, times(1)).gaugeWithTags(eq(PeerLoadTracker.PEER_BACKLOG),
+                eq(Tags.of("peer", PEER, "pipeline", pipelineName, "pluginId", pluginId)),
+                same(objectUnderTest), valueFunctionCaptor.capture());
+        assertThat(valueFunctionCaptor.getValue().applyAsDouble(objectUnderTest), equalTo(20.0));
+    }
+}
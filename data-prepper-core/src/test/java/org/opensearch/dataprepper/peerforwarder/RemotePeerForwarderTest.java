@@ -7,12 +7,14 @@ package org.opensearch.dataprepper.peerforwarder;
 
 import com.linecorp.armeria.common.AggregatedHttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
+import com.linecorp.armeria.common.ResponseHeaders;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.log.JacksonLog;
 import org.opensearch.dataprepper.model.record.Record;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.peerforwarder.client.PeerForwarderClient;
+import org.opensearch.dataprepper.peerforwarder.discovery.StaticPeerListProvider;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
@@ -42,22 +45,27 @@ import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static org.opensearch.dataprepper.peerforwarder.RemotePeerForwarder.HOT_KEYS_SPLIT;
 import static org.opensearch.dataprepper.peerforwarder.RemotePeerForwarder.RECORDS_ACTUALLY_PROCESSED_LOCALLY;
 import static org.opensearch.dataprepper.peerforwarder.RemotePeerForwarder.RECORDS_FAILED_FORWARDING;
 import static org.opensearch.dataprepper.peerforwarder.RemotePeerForwarder.RECORDS_SUCCESSFULLY_FORWARDED;
 import static org.opensearch.dataprepper.peerforwarder.RemotePeerForwarder.RECORDS_TO_BE_FORWARDED;
 import static org.opensearch.dataprepper.peerforwarder.RemotePeerForwarder.RECORDS_TO_BE_PROCESSED_LOCALLY;
 import static org.opensearch.dataprepper.peerforwarder.RemotePeerForwarder.RECORDS_MISSING_IDENTIFICATION_KEYS;
+import static org.opensearch.dataprepper.peerforwarder.RemotePeerForwarder.RECORDS_ROUTED_FOR_BOUNDED_LOAD;
 import static org.opensearch.dataprepper.peerforwarder.RemotePeerForwarder.REQUESTS_FAILED;
 import static org.opensearch.dataprepper.peerforwarder.RemotePeerForwarder.REQUESTS_SUCCESSFUL;
 import org.apache.commons.lang3.RandomStringUtils;
@@ -73,6 +81,9 @@ class RemotePeerForwarderTest {
     private static final int FORWARDING_BATCH_QUEUE_DEPTH = 1;
     private static final Duration FORWARDING_BATCH_TIMEOUT = Duration.of(3, ChronoUnit.SECONDS);
     private static final int PIPELINE_WORKER_THREADS = 3;
+    private static final double TEST_BOUNDED_LOAD_FACTOR = 1.25;
+    private static final int TEST_HOT_KEY_SPLIT_THRESHOLD = 1000;
+    private static final String REMOTE_IP = "8.8.8.8";
     private static final String PIPELINE_NAME = UUID.randomUUID().toString();
     private static final String PLUGIN_ID = UUID.randomUUID().toString();
 
@@ -109,6 +120,12 @@ class RemotePeerForwarderTest {
     @Mock
     private Counter requestsSuccessfulCounter;
 
+    @Mock
+    private Counter recordsRoutedForBoundedLoadCounter;
+
+    @Mock
+    private Counter hotKeysSplitCounter;
+
     private String pipelineName;
     private String pluginId;
     private Set<String> identificationKeys;
@@ -129,6 +146,8 @@ class RemotePeerForwarderTest {
         when(pluginMetrics.counter(RECORDS_MISSING_IDENTIFICATION_KEYS)).thenReturn(recordsMissingIdentificationKeys);
         when(pluginMetrics.counter(REQUESTS_FAILED)).thenReturn(requestsFailedCounter);
         when(pluginMetrics.counter(REQUESTS_SUCCESSFUL)).thenReturn(requestsSuccessfulCounter);
+        when(pluginMetrics.counter(RECORDS_ROUTED_FOR_BOUNDED_LOAD)).thenReturn(recordsRoutedForBoundedLoadCounter);
+        when(pluginMetrics.counter(HOT_KEYS_SPLIT)).thenReturn(hotKeysSplitCounter);
     }
 
     @AfterEach
@@ -140,13 +159,20 @@ class RemotePeerForwarderTest {
                 recordsSuccessfullyForwardedCounter,
                 recordsFailedForwardingCounter,
                 requestsFailedCounter,
-                requestsSuccessfulCounter
+                requestsSuccessfulCounter,
+                recordsRoutedForBoundedLoadCounter,
+                hotKeysSplitCounter
         );
     }
 
     private RemotePeerForwarder createObjectUnderTest() {
+        return createObjectUnderTest(RoutingMode.CONSISTENT_HASH, TEST_HOT_KEY_SPLIT_THRESHOLD, false);
+    }
+
+    private RemotePeerForwarder createObjectUnderTest(final RoutingMode routingMode, final int hotKeySplitThreshold, final boolean splitHotKeys) {
         return new RemotePeerForwarder(peerForwarderClient, hashRing, peerForwarderReceiveBuffer, pipelineName, pluginId, identificationKeys, pluginMetrics,
-                TEST_BATCH_DELAY, TEST_LOCAL_WRITE_TIMEOUT, FORWARDING_BATCH_SIZE, FORWARDING_BATCH_QUEUE_DEPTH, FORWARDING_BATCH_TIMEOUT, PIPELINE_WORKER_THREADS);
+                TEST_BATCH_DELAY, TEST_LOCAL_WRITE_TIMEOUT, FORWARDING_BATCH_SIZE, FORWARDING_BATCH_QUEUE_DEPTH, FORWARDING_BATCH_TIMEOUT, PIPELINE_WORKER_THREADS,
+                routingMode, TEST_BOUNDED_LOAD_FACTOR, hotKeySplitThreshold, splitHotKeys);
     }
 
     @Test
@@ -190,6 +216,85 @@ class RemotePeerForwarderTest {
         verify(recordsSuccessfullyForwardedCounter).increment(recordsSetsToGenerate);
     }
 
+    @Test
+    void forwardRecords_records_backlog_reported_by_peer() {
+        mockPeerForwarderClientResponse();
+        when(hashRing.getServerIp(List.of("value0", "value0"))).thenReturn(Optional.of(REMOTE_IP));
+
+        final RemotePeerForwarder peerForwarder = createObjectUnderTest();
+        peerForwarder.forwardRecords(generateSetsofBatchRecords(FORWARDING_BATCH_SIZE, 1));
+
+        verify(pluginMetrics).gaugeWithTags(eq(PeerLoadTracker.PEER_BACKLOG),
+                eq(Tags.of("peer", REMOTE_IP, "pipeline", pipelineName, "pluginId", pluginId)),
+                any(PeerLoadTracker.class), any());
+        verify(recordsToBeForwardedCounter).increment(FORWARDING_BATCH_SIZE);
+        verify(recordsActuallyProcessedLocallyCounter).increment(0);
+        verify(requestsSuccessfulCounter).increment();
+        verify(recordsSuccessfullyForwardedCounter).increment(FORWARDING_BATCH_SIZE);
+    }
+
+    @Test
+    void forwardRecords_with_bounded_load_keeps_records_on_hashed_peer_within_bound() {
+        when(hashRing.getServerIps()).thenReturn(List.of(StaticPeerListProvider.LOCAL_ENDPOINT, REMOTE_IP));
+        when(hashRing.getServerIp(List.of("value0", "value0"))).thenReturn(Optional.of(StaticPeerListProvider.LOCAL_ENDPOINT));
+
+        final RemotePeerForwarder peerForwarder = createObjectUnderTest(RoutingMode.BOUNDED_LOAD, TEST_HOT_KEY_SPLIT_THRESHOLD, false);
+        final Collection<Record<Event>> testRecords = generateBatchRecords(1);
+        final Collection<Record<Event>> records = peerForwarder.forwardRecords(testRecords);
+
+        assertThat(records, equalTo(testRecords));
+        verify(hashRing, never()).getServerIp(anyList(), any());
+        verify(recordsToBeProcessedLocallyCounter).increment(1);
+        verify(recordsActuallyProcessedLocallyCounter).increment(1);
+    }
+
+    @Test
+    void forwardRecords_with_bounded_load_routes_records_of_overloaded_peer_to_next_peer() throws Exception {
+        peerForwarderReceiveBuffer.writeAll(generateBatchRecords(10), TEST_TIMEOUT_IN_MILLIS);
+        when(hashRing.getServerIps()).thenReturn(List.of(StaticPeerListProvider.LOCAL_ENDPOINT, REMOTE_IP));
+        when(hashRing.getServerIp(List.of("value0", "value0"))).thenReturn(Optional.of(StaticPeerListProvider.LOCAL_ENDPOINT));
+        when(hashRing.getServerIp(eq(List.of("value0", "value0")), any())).thenReturn(Optional.of(REMOTE_IP));
+
+        final RemotePeerForwarder peerForwarder = createObjectUnderTest(RoutingMode.BOUNDED_LOAD, TEST_HOT_KEY_SPLIT_THRESHOLD, false);
+        final Collection<Record<Event>> records = peerForwarder.forwardRecords(generateBatchRecords(1));
+
+        assertThat(records.size(), equalTo(0));
+        assertThat(peerForwarder.peerBatchingQueueMap.get(REMOTE_IP).size(), equalTo(1));
+        verify(recordsRoutedForBoundedLoadCounter).increment(1);
+        verify(recordsToBeForwardedCounter).increment(1);
+        verify(recordsActuallyProcessedLocallyCounter).increment(0);
+    }
+
+    @Test
+    void forwardRecords_with_hot_key_splitting_spreads_hot_key_over_peers() {
+        when(hashRing.getServerIps()).thenReturn(List.of(StaticPeerListProvider.LOCAL_ENDPOINT, REMOTE_IP));
+        when(hashRing.getServerIp(List.of("value0", "value0"))).thenReturn(Optional.of(StaticPeerListProvider.LOCAL_ENDPOINT));
+        when(hashRing.getServerIp(List.of("value0", "value0", "1"))).thenReturn(Optional.of(REMOTE_IP));
+
+        final RemotePeerForwarder peerForwarder = createObjectUnderTest(RoutingMode.CONSISTENT_HASH, 2, true);
+        final Collection<Record<Event>> records = peerForwarder.forwardRecords(generateSetsofBatchRecords(4, 1));
+
+        assertThat(records.size(), equalTo(2));
+        assertThat(peerForwarder.peerBatchingQueueMap.get(REMOTE_IP).size(), equalTo(2));
+        verify(hotKeysSplitCounter).increment();
+        verify(recordsToBeProcessedLocallyCounter).increment(2);
+        verify(recordsToBeForwardedCounter).increment(2);
+        verify(recordsActuallyProcessedLocallyCounter).increment(2);
+    }
+
+    @Test
+    void forwardRecords_without_hot_key_splitting_keeps_hot_key_on_one_peer() {
+        when(hashRing.getServerIp(List.of("value0", "value0"))).thenReturn(Optional.of(StaticPeerListProvider.LOCAL_ENDPOINT));
+
+        final RemotePeerForwarder peerForwarder = createObjectUnderTest(RoutingMode.CONSISTENT_HASH, 2, false);
+        final Collection<Record<Event>> records = peerForwarder.forwardRecords(generateSetsofBatchRecords(4, 1));
+
+        assertThat(records.size(), equalTo(4));
+        verify(hashRing, never()).getServerIps();
+        verify(recordsToBeProcessedLocallyCounter).increment(4);
+        verify(recordsActuallyProcessedLocallyCounter).increment(4);
+    }
+
     @Test
     void forwardRecords_should_process_all_input_events_locally_when_client_throws() {
         when(peerForwarderClient.serializeRecordsAndSendHttpRequest(anyCollection(), anyString(), anyString(), anyString())).thenThrow(RuntimeException.class);
@@ -548,6 +653,8 @@ class RemotePeerForwarderTest {
                         .mapToObj(i -> {
                             final AggregatedHttpResponse aggregatedHttpResponse = mock(AggregatedHttpResponse.class);
                             when(aggregatedHttpResponse.status()).thenReturn(HttpStatus.OK);
+                            lenient().when(aggregatedHttpResponse.headers())
+                                    .thenReturn(ResponseHeaders.of(HttpStatus.OK, PeerForwarderConfiguration.PEER_BACKLOG_HEADER, "7"));
                             return aggregatedHttpResponse;
                         }).iterator();
 
@@ -127,6 +127,7 @@ class PeerForwarderHttpServiceTest {
         final AggregatedHttpResponse aggregatedHttpResponse = objectUnderTest.doPost(aggregatedHttpRequest).aggregate().get();
 
         assertThat(aggregatedHttpResponse.status(), equalTo(HttpStatus.OK));
+        assertThat(aggregatedHttpResponse.headers().get(PeerForwarderConfiguration.PEER_BACKLOG_HEADER), equalTo("1"));
 
         verify(recordsReceivedFromPeersCounter).increment(1);
     }
@@ -0,0 +1,183 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.parser.model.AdaptiveBatchingConfig;
+
+import java.time.Duration;
+import java.util.function.ToDoubleFunction;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AdaptiveBatchControllerTest {
+    private static final Duration TARGET_LATENCY = Duration.ofMillis(100);
+    private static final long SLOW_SINK_NANOS = TARGET_LATENCY.toNanos() + 1;
+    private static final long FAST_SINK_NANOS = TARGET_LATENCY.toNanos() / 2;
+    private static final int MIN_BATCH_SIZE = 8;
+    private static final int MAX_BATCH_SIZE = 64;
+    private static final int READ_BATCH_DELAY_MILLIS = 1_000;
+
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    private AdaptiveBatchController createObjectUnderTest(final AdaptiveBatchingConfig.Goal goal) {
+        return new AdaptiveBatchController(pluginMetrics,
+                new AdaptiveBatchingConfig(goal, TARGET_LATENCY, MIN_BATCH_SIZE, MAX_BATCH_SIZE), READ_BATCH_DELAY_MILLIS);
+    }
+
+    @Test
+    void starts_with_the_minimum_batch_size_and_the_read_batch_delay_and_exports_them_as_gauges() {
+        final AdaptiveBatchController objectUnderTest = createObjectUnderTest(AdaptiveBatchingConfig.Goal.LATENCY);
+
+        assertThat(objectUnderTest.getBatchSize(), equalTo(MIN_BATCH_SIZE));
+        assertThat(objectUnderTest.getDelayMillis(), equalTo(READ_BATCH_DELAY_MILLIS));
+
+        final ArgumentCaptor<ToDoubleFunction<AdaptiveBatchController>> batchSizeCaptor = ArgumentCaptor.forClass(ToDoubleFunction.class);
+        final ArgumentCaptor<ToDoubleFunction<AdaptiveBatchController>> delayCaptor = ArgumentCaptor.forClass(ToDoubleFunction.class);
+        verify(pluginMetrics).gauge(eq(AdaptiveBatchController.READ_BATCH_SIZE), same(objectUnderTest), batchSizeCaptor.capture());
+        verify(pluginMetrics).gauge(eq(AdaptiveBatchController.READ_BATCH_DELAY), same(objectUnderTest), delayCaptor.capture());
+        assertThat(batchSizeCaptor.getValue().applyAsDouble(objectUnderTest), equalTo((double) MIN_BATCH_SIZE));
+        assertThat(delayCaptor.getValue().applyAsDouble(objectUnderTest), equalTo((double) READ_BATCH_DELAY_MILLIS));
+    }
+
+    @ParameterizedTest
+    @EnumSource(AdaptiveBatchingConfig.Goal.class)
+    void full_batches_double_the_batch_size_up_to_the_maximum(final AdaptiveBatchingConfig.Goal goal) {
+        final AdaptiveBatchController objectUnderTest = createObjectUnderTest(goal);
+
+        objectUnderTest.onBatch(MIN_BATCH_SIZE, MIN_BATCH_SIZE, FAST_SINK_NANOS, 0);
+        assertThat(objectUnderTest.getBatchSize(), equalTo(MIN_BATCH_SIZE * 2));
+
+        for (int i = 0; i < 10; i++) {
+            final int batchSize = objectUnderTest.getBatchSize();
+            objectUnderTest.onBatch(batchSize, batchSize, FAST_SINK_NANOS, 0);
+        }
+        assertThat(objectUnderTest.getBatchSize(), equalTo(MAX_BATCH_SIZE));
+        assertThat(objectUnderTest.getDelayMillis(), equalTo(READ_BATCH_DELAY_MILLIS));
+    }
+
+    @ParameterizedTest
+    @EnumSource(AdaptiveBatchingConfig.Goal.class)
+    void a_filling_buffer_doubles_the_batch_size(final AdaptiveBatchingConfig.Goal goal) {
+        final AdaptiveBatchController objectUnderTest = createObjectUnderTest(goal);
+
+        objectUnderTest.onBatch(MIN_BATCH_SIZE, 1, FAST_SINK_NANOS, AdaptiveBatchController.HIGH_FILL_RATIO);
+
+        assertThat(objectUnderTest.getBatchSize(), equalTo(MIN_BATCH_SIZE * 2));
+    }
+
+    @Test
+    void slow_sinks_halve_the_batch_size_and_the_delay_with_the_latency_goal() {
+        final AdaptiveBatchController objectUnderTest = createObjectUnderTest(AdaptiveBatchingConfig.Goal.LATENCY);
+        objectUnderTest.onBatch(MIN_BATCH_SIZE, MIN_BATCH_SIZE, FAST_SINK_NANOS, 0);
+        objectUnderTest.onBatch(MIN_BATCH_SIZE * 2, MIN_BATCH_SIZE * 2, FAST_SINK_NANOS, 0);
+
+        objectUnderTest.onBatch(MIN_BATCH_SIZE * 4, MIN_BATCH_SIZE * 4, SLOW_SINK_NANOS, 1);
+
+        assertThat(objectUnderTest.getBatchSize(), equalTo(MIN_BATCH_SIZE * 2));
+        assertThat(objectUnderTest.getDelayMillis(), equalTo(READ_BATCH_DELAY_MILLIS / 2));
+    }
+
+    @Test
+    void slow_sinks_halve_only_the_batch_size_with_the_throughput_goal() {
+        final AdaptiveBatchController objectUnderTest = createObjectUnderTest(AdaptiveBatchingConfig.Goal.THROUGHPUT);
+        objectUnderTest.onBatch(MIN_BATCH_SIZE, MIN_BATCH_SIZE, FAST_SINK_NANOS, 0);
+
+        objectUnderTest.onBatch(MIN_BATCH_SIZE * 2, MIN_BATCH_SIZE * 2, SLOW_SINK_NANOS, 1);
+
+        assertThat(objectUnderTest.getBatchSize(), equalTo(MIN_BATCH_SIZE));
+        assertThat(objectUnderTest.getDelayMillis(), equalTo(READ_BATCH_DELAY_MILLIS));
+    }
+
+    @Test
+    void slow_sinks_do_not_shrink_the_batch_size_below_the_minimum() {
+        final AdaptiveBatchController objectUnderTest = createObjectUnderTest(AdaptiveBatchingConfig.Goal.THROUGHPUT);
+
+        objectUnderTest.onBatch(MIN_BATCH_SIZE, MIN_BATCH_SIZE, SLOW_SINK_NANOS, 0);
+
+        assertThat(objectUnderTest.getBatchSize(), equalTo(MIN_BATCH_SIZE));
+    }
+
+    @Test
+    void partial_batches_halve_the_delay_down_to_zero_with_the_latency_goal() {
+        final AdaptiveBatchController objectUnderTest = createObjectUnderTest(AdaptiveBatchingConfig.Goal.LATENCY);
+
+        objectUnderTest.onBatch(MIN_BATCH_SIZE, 1, FAST_SINK_NANOS, 0);
+        assertThat(objectUnderTest.getDelayMillis(), equalTo(READ_BATCH_DELAY_MILLIS / 2));
+
+        for (int i = 0; i < 20; i++) {
+            objectUnderTest.onBatch(MIN_BATCH_SIZE, 0, 0, 0);
+        }
+        assertThat(objectUnderTest.getDelayMillis(), equalTo(0));
+        assertThat(objectUnderTest.getBatchSize(), equalTo(MIN_BATCH_SIZE));
+    }
+
+    @Test
+    void full_batches_double_the_delay_up_to_the_read_batch_delay_with_the_latency_goal() {
+        final AdaptiveBatchController objectUnderTest = createObjectUnderTest(AdaptiveBatchingConfig.Goal.LATENCY);
+        for (int i = 0; i < 20; i++) {
+            objectUnderTest.onBatch(MIN_BATCH_SIZE, 0, 0, 0);
+        }
+        assertThat(objectUnderTest.getDelayMillis(), equalTo(0));
+
+        objectUnderTest.onBatch(MIN_BATCH_SIZE, MIN_BATCH_SIZE, FAST_SINK_NANOS, 0);
+        assertThat(objectUnderTest.getDelayMillis(), equalTo(1));
+        objectUnderTest.onBatch(MIN_BATCH_SIZE * 2, MIN_BATCH_SIZE * 2, FAST_SINK_NANOS, 0);
+        assertThat(objectUnderTest.getDelayMillis(), equalTo(2));
+
+        for (int i = 0; i < 20; i++) {
+            final int batchSize = objectUnderTest.getBatchSize();
+            objectUnderTest.onBatch(batchSize, batchSize, FAST_SINK_NANOS, 0);
+        }
+        assertThat(objectUnderTest.getDelayMillis(), equalTo(READ_BATCH_DELAY_MILLIS));
+        assertThat(objectUnderTest.getBatchSize(), equalTo(MAX_BATCH_SIZE));
+    }
+
+    @Test
+    void full_batches_do_not_raise_the_delay_when_the_sinks_are_slow() {
+        final AdaptiveBatchController objectUnderTest = createObjectUnderTest(AdaptiveBatchingConfig.Goal.LATENCY);
+        objectUnderTest.onBatch(MIN_BATCH_SIZE, 1, FAST_SINK_NANOS, 0);
+
+        objectUnderTest.onBatch(MIN_BATCH_SIZE, MIN_BATCH_SIZE, SLOW_SINK_NANOS, 0);
+
+        assertThat(objectUnderTest.getDelayMillis(), equalTo(READ_BATCH_DELAY_MILLIS / 4));
+    }
+
+    @Test
+    void partial_batches_keep_the_delay_with_the_throughput_goal() {
+        final AdaptiveBatchController objectUnderTest = createObjectUnderTest(AdaptiveBatchingConfig.Goal.THROUGHPUT);
+
+        objectUnderTest.onBatch(MIN_BATCH_SIZE, 1, FAST_SINK_NANOS, 0);
+
+        assertThat(objectUnderTest.getDelayMillis(), equalTo(READ_BATCH_DELAY_MILLIS));
+        assertThat(objectUnderTest.getBatchSize(), equalTo(MIN_BATCH_SIZE));
+    }
+
+    @Test
+    void batches_read_with_an_outdated_batch_size_are_not_considered() {
+        final AdaptiveBatchController objectUnderTest = createObjectUnderTest(AdaptiveBatchingConfig.Goal.LATENCY);
+        objectUnderTest.onBatch(MIN_BATCH_SIZE, MIN_BATCH_SIZE, FAST_SINK_NANOS, 0);
+
+        objectUnderTest.onBatch(MIN_BATCH_SIZE, MIN_BATCH_SIZE, FAST_SINK_NANOS, 0);
+        objectUnderTest.onBatch(MIN_BATCH_SIZE, 0, SLOW_SINK_NANOS, 0);
+
+        assertThat(objectUnderTest.getBatchSize(), equalTo(MIN_BATCH_SIZE * 2));
+        assertThat(objectUnderTest.getDelayMillis(), equalTo(READ_BATCH_DELAY_MILLIS));
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.processor.FusibleProcessor;
+import org.opensearch.dataprepper.model.processor.Processor;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FusedProcessorTest {
+    @Mock
+    private FusibleProcessor firstProcessor;
+
+    @Mock
+    private FusibleProcessor secondProcessor;
+
+    @Mock
+    private Processor otherProcessor;
+
+    private static List<Record<Event>> createRecords(final int count) {
+        final List<Record<Event>> records = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            records.add(new Record<>(mock(Event.class)));
+        }
+        return records;
+    }
+
+    private FusedProcessor createObjectUnderTest() {
+        return new FusedProcessor(Arrays.asList(firstProcessor, secondProcessor), Arrays.asList(firstProcessor, secondProcessor));
+    }
+
+    @Test
+    void execute_passes_each_event_through_all_processors_in_order() {
+        final List<Record<Event>> records = createRecords(2);
+
+        final Collection<Record<Event>> result = createObjectUnderTest().execute(records);
+
+        assertThat(result, sameInstance(records));
+        final InOrder inOrder = inOrder(firstProcessor, secondProcessor);
+        for (final Record<Event> record : records) {
+            inOrder.verify(firstProcessor).processEvent(record.getData());
+            inOrder.verify(secondProcessor).processEvent(record.getData());
+        }
+        inOrder.verify(firstProcessor).recordFusedExecution(eq(2), anyLong());
+        inOrder.verify(secondProcessor).recordFusedExecution(eq(2), anyLong());
+    }
+
+    @Test
+    void execute_processes_events_which_are_not_timed() {
+        final List<Record<Event>> records = createRecords(FusedProcessor.TIMING_INTERVAL * 2 + 1);
+
+        createObjectUnderTest().execute(records);
+
+        verify(firstProcessor, times(records.size())).processEvent(any(Event.class));
+        verify(secondProcessor, times(records.size())).processEvent(any(Event.class));
+        verify(firstProcessor).recordFusedExecution(eq(records.size()), anyLong());
+        verify(secondProcessor).recordFusedExecution(eq(records.size()), anyLong());
+    }
+
+    @Test
+    void execute_with_an_empty_batch_records_no_time() {
+        createObjectUnderTest().execute(Collections.emptyList());
+
+        verify(firstProcessor).recordFusedExecution(0, 0);
+        verify(secondProcessor).recordFusedExecution(0, 0);
+    }
+
+    @Test
+    void prepareForShutdown_and_isReadyForShutdown_delegate_to_all_processors() {
+        when(firstProcessor.isReadyForShutdown()).thenReturn(true);
+        when(secondProcessor.isReadyForShutdown()).thenReturn(false);
+        final FusedProcessor objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.prepareForShutdown();
+
+        verify(firstProcessor).prepareForShutdown();
+        verify(secondProcessor).prepareForShutdown();
+        assertThat(objectUnderTest.isReadyForShutdown(), equalTo(false));
+
+        when(secondProcessor.isReadyForShutdown()).thenReturn(true);
+        assertThat(objectUnderTest.isReadyForShutdown(), equalTo(true));
+    }
+
+    @Test
+    void fuseProcessorSets_fuses_runs_of_fusible_processor_sets() {
+        final List<List<Processor>> processorSets = Arrays.asList(
+                Collections.singletonList(firstProcessor),
+                Collections.singletonList(secondProcessor),
+                Collections.singletonList(otherProcessor),
+                Collections.singletonList(firstProcessor));
+
+        final List<List<Processor>> result = FusedProcessor.fuseProcessorSets(processorSets, Arrays.asList(true, true, true, true));
+
+        assertThat(result.size(), equalTo(3));
+        assertThat(result.get(0).size(), equalTo(1));
+        assertThat(result.get(0).get(0), instanceOf(FusedProcessor.class));
+        assertThat(result.get(1), sameInstance(processorSets.get(2)));
+        assertThat(result.get(2), sameInstance(processorSets.get(3)));
+
+        result.get(0).get(0).shutdown();
+        verify(firstProcessor).shutdown();
+        verify(secondProcessor).shutdown();
+    }
+
+    @Test
+    void fuseProcessorSets_does_not_fuse_processor_sets_which_opted_out() {
+        final List<List<Processor>> processorSets = Arrays.asList(
+                Collections.singletonList(firstProcessor),
+                Collections.singletonList(secondProcessor),
+                Collections.emptyList());
+
+        final List<List<Processor>> result = FusedProcessor.fuseProcessorSets(processorSets, Arrays.asList(true, false, true));
+
+        assertThat(result, equalTo(processorSets));
+    }
+
+    @Test
+    void fuseProcessorSets_creates_a_fused_processor_per_worker_and_shuts_down_shared_processors_once() {
+        final FusibleProcessor secondProcessorOfSecondWorker = mock(FusibleProcessor.class);
+        final List<List<Processor>> processorSets = Arrays.asList(
+                Collections.singletonList(firstProcessor),
+                Arrays.asList(secondProcessor, secondProcessorOfSecondWorker));
+
+        final List<List<Processor>> result = FusedProcessor.fuseProcessorSets(processorSets, Arrays.asList(true, true));
+
+        assertThat(result.size(), equalTo(1));
+        assertThat(result.get(0).size(), equalTo(2));
+
+        final List<Record<Event>> records = createRecords(1);
+        result.get(0).get(1).execute(records);
+        verify(firstProcessor).processEvent(records.get(0).getData());
+        verify(secondProcessorOfSecondWorker).processEvent(records.get(0).getData());
+        verify(secondProcessor, never()).processEvent(any(Event.class));
+
+        result.get(0).forEach(Processor::shutdown);
+        verify(firstProcessor).shutdown();
+        verify(secondProcessor).shutdown();
+        verify(secondProcessorOfSecondWorker).shutdown();
+    }
+
+    @Test
+    void removeFusionSetting_returns_true_without_the_setting() {
+        assertThat(FusedProcessor.removeFusionSetting(new PluginSetting("processor", Collections.emptyMap())), equalTo(true));
+        assertThat(FusedProcessor.removeFusionSetting(new PluginSetting("processor", null)), equalTo(true));
+    }
+
+    @Test
+    void removeFusionSetting_removes_the_setting_and_returns_its_value() {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(FusedProcessor.FUSION_SETTING, false);
+        settings.put("key", "value");
+        final PluginSetting pluginSetting = new PluginSetting("processor", settings);
+
+        assertThat(FusedProcessor.removeFusionSetting(pluginSetting), equalTo(false));
+        assertThat(pluginSetting.getSettings(), equalTo(Collections.singletonMap("key", "value")));
+    }
+
+    @Test
+    void removeFusionSetting_throws_for_a_setting_which_is_not_a_boolean() {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(FusedProcessor.FUSION_SETTING, "no");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> FusedProcessor.removeFusionSetting(new PluginSetting("processor", settings)));
+    }
+}
@@ -7,6 +7,7 @@ package org.opensearch.dataprepper.pipeline;
 
 import org.opensearch.dataprepper.model.CheckpointState;
 import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
@@ -16,6 +17,7 @@ import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
 import org.opensearch.dataprepper.model.trace.DefaultLink;
 import org.opensearch.dataprepper.model.trace.DefaultSpanEvent;
 
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
@@ -37,19 +39,23 @@ import java.util.Queue;
 import java.util.Map;
 import java.util.Date;
 import java.util.LinkedList;
+import java.util.HashSet;
 import java.util.concurrent.TimeoutException;
 
 import com.google.common.collect.ImmutableMap;
 
 
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.assertFalse;
 
 import org.junit.jupiter.api.Assertions;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -236,4 +242,123 @@ public class PipelineConnectorTest {
             assertTrue(e.getMessage().contains(SINK_PIPELINE_NAME));
         }
     }
+
+    @Test
+    public void testBatchWritesWriteTheRecordsInOneCall() throws Exception {
+        final List<Record<String>> records = createRecords(5);
+        final PipelineConnector<Record<String>> objectUnderTest = new PipelineConnector<>(SINK_PIPELINE_NAME, true, false);
+        objectUnderTest.start(buffer);
+
+        objectUnderTest.output(records);
+
+        verify(buffer).writeAll(records, Integer.MAX_VALUE);
+        verify(buffer, never()).write(any(), anyInt());
+    }
+
+    @Test
+    public void testBatchWritesRetryOnlyTheRecordsWhichDidNotFit() throws Exception {
+        final List<Record<String>> records = createRecords(5);
+        doAnswer(invocation -> {
+            final Collection<Record<String>> part = invocation.getArgument(0);
+            if (part.size() > 2) {
+                throw new SizeOverflowException("test");
+            }
+            return null;
+        }).when(buffer).writeAll(any(), anyInt());
+        final PipelineConnector<Record<String>> objectUnderTest = new PipelineConnector<>(SINK_PIPELINE_NAME, true, false);
+        objectUnderTest.start(buffer);
+
+        objectUnderTest.output(records);
+
+        verify(buffer).writeAll(records.subList(0, 2), Integer.MAX_VALUE);
+        verify(buffer).writeAll(records.subList(2, 4), Integer.MAX_VALUE);
+        verify(buffer).writeAll(records.subList(4, 5), Integer.MAX_VALUE);
+        verify(buffer, times(4)).writeAll(any(), anyInt());
+    }
+
+    @Test
+    public void testBatchWritesRetryThePartWhichTimesOutWithoutSplittingIt() throws Exception {
+        final List<Record<String>> records = createRecords(5);
+        doThrow(new TimeoutException()).doThrow(new TimeoutException()).doNothing().when(buffer).writeAll(any(), anyInt());
+        final PipelineConnector<Record<String>> objectUnderTest = new PipelineConnector<>(SINK_PIPELINE_NAME, true, false);
+        objectUnderTest.start(buffer);
+
+        objectUnderTest.output(records);
+
+        verify(buffer, times(3)).writeAll(records, Integer.MAX_VALUE);
+        verify(buffer, times(3)).writeAll(any(), anyInt());
+        verify(buffer, never()).write(any(), anyInt());
+    }
+
+    @Test
+    public void testBatchWritesKeepThePartSizeWhenASmallerPartTimesOut() throws Exception {
+        final List<Record<String>> records = createRecords(4);
+        doAnswer(invocation -> {
+            final Collection<Record<String>> part = invocation.getArgument(0);
+            if (part.size() > 2) {
+                throw new SizeOverflowException("test");
+            }
+            return null;
+        }).doThrow(new TimeoutException()).doAnswer(invocation -> null).when(buffer).writeAll(any(), anyInt());
+        final PipelineConnector<Record<String>> objectUnderTest = new PipelineConnector<>(SINK_PIPELINE_NAME, true, false);
+        objectUnderTest.start(buffer);
+
+        objectUnderTest.output(records);
+
+        verify(buffer, times(2)).writeAll(records.subList(0, 2), Integer.MAX_VALUE);
+        verify(buffer).writeAll(records.subList(2, 4), Integer.MAX_VALUE);
+        verify(buffer, times(4)).writeAll(any(), anyInt());
+    }
+
+    @Test
+    public void testBatchWritesRetryASingleRecordWhichDoesNotFit() throws Exception {
+        doThrow(new SizeOverflowException("test")).when(buffer).writeAll(any(), anyInt());
+        doThrow(new TimeoutException()).doNothing().when(buffer).write(any(), anyInt());
+        final PipelineConnector<Record<String>> objectUnderTest = new PipelineConnector<>(SINK_PIPELINE_NAME, true, false);
+        objectUnderTest.start(buffer);
+
+        objectUnderTest.output(new HashSet<>(recordList));
+
+        verify(buffer).writeAll(recordList, Integer.MAX_VALUE);
+        verify(buffer, times(2)).write(RECORD, Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void testBatchWritesFallBackToSingleWritesWithoutWriteAll() {
+        final List<Record<Event>> records = Arrays.asList(EVENT_RECORD, new Record<>(EVENT_RECORD.getData()));
+        final PipelineConnector<Record<Event>> objectUnderTest = new PipelineConnector<>(SINK_PIPELINE_NAME, true, false);
+        objectUnderTest.start(eventBuffer);
+
+        objectUnderTest.output(records);
+
+        assertThat(eventBuffer.read(1).getKey(), equalTo(Collections.singletonList(records.get(0))));
+        assertThat(eventBuffer.read(1).getKey(), equalTo(Collections.singletonList(records.get(1))));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testBatchWritesThrowWhenTheBufferFails() throws Exception {
+        doThrow(new Exception("test")).when(buffer).writeAll(any(), anyInt());
+        final PipelineConnector<Record<String>> objectUnderTest = new PipelineConnector<>(SINK_PIPELINE_NAME, true, false);
+        objectUnderTest.start(buffer);
+
+        objectUnderTest.output(recordList);
+    }
+
+    @Test
+    public void testConnectorOptions() {
+        assertFalse(sut.isBatchWrites());
+        assertFalse(sut.isShareRecords());
+
+        final PipelineConnector<Record<String>> objectUnderTest = new PipelineConnector<>(SINK_PIPELINE_NAME, true, true);
+        assertTrue(objectUnderTest.isBatchWrites());
+        assertTrue(objectUnderTest.isShareRecords());
+    }
+
+    private static List<Record<String>> createRecords(final int count) {
+        final List<Record<String>> records = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            records.add(new Record<>(UUID.randomUUID().toString()));
+        }
+        return records;
+    }
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PipelineLatencyMetricsTest {
+    private static final Instant NOW = Instant.parse("2022-10-01T00:00:10Z");
+
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    @Mock
+    private Timer bufferDwellTimer;
+
+    @Mock
+    private Timer processorChainTimer;
+
+    @Mock
+    private Timer sinkTimer;
+
+    @Mock
+    private Timer eventAgeTimer;
+
+    private Clock clock;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(pluginMetrics.timerWithHistogram(PipelineLatencyMetrics.BUFFER_DWELL_TIME)).thenReturn(bufferDwellTimer);
+        lenient().when(pluginMetrics.timerWithHistogram(PipelineLatencyMetrics.PROCESSOR_CHAIN_TIME)).thenReturn(processorChainTimer);
+        lenient().when(pluginMetrics.timerWithHistogram(PipelineLatencyMetrics.SINK_TIME)).thenReturn(sinkTimer);
+        lenient().when(pluginMetrics.timerWithHistogram(PipelineLatencyMetrics.EVENT_AGE)).thenReturn(eventAgeTimer);
+        clock = Clock.fixed(NOW, ZoneOffset.UTC);
+    }
+
+    private PipelineLatencyMetrics createObjectUnderTest(final double samplingRate) {
+        return new PipelineLatencyMetrics(pluginMetrics, samplingRate, clock);
+    }
+
+    private static Record<Event> createEventRecord(final Instant timeReceived, final long timeWrittenToBufferNanos) {
+        final Event event = JacksonEvent.builder()
+                .withEventType("event")
+                .withTimeReceived(timeReceived)
+                .build();
+        event.getMetadata().setTimeWrittenToBufferNanos(timeWrittenToBufferNanos);
+        return new Record<>(event);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {-0.1, 1.1})
+    void constructor_throws_for_sampling_rate_outside_of_zero_and_one(final double samplingRate) {
+        assertThrows(IllegalArgumentException.class, () -> createObjectUnderTest(samplingRate));
+    }
+
+    @Test
+    void recordProcessorChainTime_and_recordSinkTime_record_the_durations() {
+        final PipelineLatencyMetrics objectUnderTest = createObjectUnderTest(0);
+
+        objectUnderTest.recordProcessorChainTime(100);
+        objectUnderTest.recordSinkTime(200);
+
+        verify(processorChainTimer).record(100, TimeUnit.NANOSECONDS);
+        verify(sinkTimer).record(200, TimeUnit.NANOSECONDS);
+    }
+
+    @Test
+    void per_event_metrics_are_not_recorded_with_a_sampling_rate_of_zero() {
+        final PipelineLatencyMetrics objectUnderTest = createObjectUnderTest(0);
+        final List<Record<Event>> records = Collections.singletonList(createEventRecord(NOW, 10));
+
+        objectUnderTest.recordBufferDwellTime(records, 20);
+        objectUnderTest.recordEventAge(records);
+
+        verify(bufferDwellTimer, never()).record(anyLong(), any(TimeUnit.class));
+        verify(eventAgeTimer, never()).record(anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    void recordBufferDwellTime_records_every_event_with_a_sampling_rate_of_one() {
+        final PipelineLatencyMetrics objectUnderTest = createObjectUnderTest(1);
+        final List<Record<?>> records = Arrays.asList(
+                createEventRecord(NOW, 1_000),
+                createEventRecord(NOW, 4_000),
+                createEventRecord(NOW, 0),
+                new Record<>("not an event"));
+
+        objectUnderTest.recordBufferDwellTime(records, 5_000);
+
+        verify(bufferDwellTimer).record(4_000, TimeUnit.NANOSECONDS);
+        verify(bufferDwellTimer).record(1_000, TimeUnit.NANOSECONDS);
+        verify(bufferDwellTimer, times(2)).record(anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    void recordEventAge_records_the_time_since_the_events_were_received() {
+        final PipelineLatencyMetrics objectUnderTest = createObjectUnderTest(1);
+        final List<Record<?>> records = Arrays.asList(
+                createEventRecord(NOW.minusSeconds(3), 0),
+                createEventRecord(NOW.plusSeconds(1), 0),
+                new Record<>("not an event"));
+
+        objectUnderTest.recordEventAge(records);
+
+        verify(eventAgeTimer).record(3_000, TimeUnit.MILLISECONDS);
+        verify(eventAgeTimer).record(0, TimeUnit.MILLISECONDS);
+        verify(eventAgeTimer, times(2)).record(anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    void per_event_metrics_are_recorded_for_a_sample_of_the_events() {
+        final PipelineLatencyMetrics objectUnderTest = createObjectUnderTest(0.1);
+        final List<Record<Event>> records = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            records.add(createEventRecord(NOW.minusSeconds(1), 1));
+        }
+
+        objectUnderTest.recordBufferDwellTime(records, 2);
+        objectUnderTest.recordEventAge(records);
+
+        verify(bufferDwellTimer, times(10)).record(1, TimeUnit.NANOSECONDS);
+        verify(eventAgeTimer, times(10)).record(1_000, TimeUnit.MILLISECONDS);
+    }
+}
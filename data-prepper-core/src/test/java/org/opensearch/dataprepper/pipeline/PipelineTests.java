@@ -16,6 +16,8 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.sink.Sink;
 import org.opensearch.dataprepper.model.source.Source;
 import org.opensearch.dataprepper.parser.DataFlowComponent;
+import org.opensearch.dataprepper.parser.model.AdaptiveBatchingConfig;
+import org.opensearch.dataprepper.parser.model.SharedWorkerPoolConfig;
 import org.opensearch.dataprepper.pipeline.common.FutureHelper;
 import org.opensearch.dataprepper.pipeline.common.TestProcessor;
 import org.opensearch.dataprepper.pipeline.router.Router;
@@ -95,6 +97,43 @@ class PipelineTests {
         assertThat("Sink shutdown should be called", testSink.isShutdown, is(true));
     }
 
+    @Test
+    void testPipelineStateWithAdaptiveBatching() {
+        final Source<Record<String>> testSource = new TestSource();
+        final TestSink testSink = new TestSink();
+        final DataFlowComponent<Sink> sinkDataFlowComponent = mock(DataFlowComponent.class);
+        when(sinkDataFlowComponent.getComponent()).thenReturn(testSink);
+        final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
+                Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
+                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, 0,
+                new AdaptiveBatchingConfig(null, null, null, null));
+        testPipeline.execute();
+        assertThat("Pipeline isStopRequested is expected to be false", testPipeline.isStopRequested(), is(false));
+        testPipeline.shutdown();
+        assertThat("Pipeline isStopRequested is expected to be true", testPipeline.isStopRequested(), is(true));
+        assertThat("Sink shutdown should be called", testSink.isShutdown, is(true));
+    }
+
+    @Test
+    void testPipelineStateWithSharedWorkerPool() {
+        final Source<Record<String>> testSource = new TestSource();
+        final TestSink testSink = new TestSink();
+        final DataFlowComponent<Sink> sinkDataFlowComponent = mock(DataFlowComponent.class);
+        when(sinkDataFlowComponent.getComponent()).thenReturn(testSink);
+        final TestProcessor testProcessor = new TestProcessor(new PluginSetting("test_processor", new HashMap<>()));
+        final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
+                Collections.singletonList(Collections.singletonList(testProcessor)),
+                Collections.singletonList(sinkDataFlowComponent), router, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
+                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, 0, null,
+                new SharedWorkerPool(new SharedWorkerPoolConfig(2, null)));
+        testPipeline.execute();
+        assertThat("Pipeline isStopRequested is expected to be false", testPipeline.isStopRequested(), is(false));
+        testPipeline.shutdown();
+        assertThat("Pipeline isStopRequested is expected to be true", testPipeline.isStopRequested(), is(true));
+        assertThat("Sink shutdown should be called", testSink.isShutdown, is(true));
+        assertThat("Processor shutdown should be called", testProcessor.isShutdown, is(true));
+    }
+
     @Test
     void testPipelineStateWithPrepper() {
         final Source<Record<String>> testSource = new TestSource();
@@ -328,6 +367,23 @@ class PipelineTests {
                 }
             }
 
+            @Test
+            void publishToSinks_writes_Events_to_Sinks_on_a_shared_worker_pool() {
+                final Pipeline objectUnderTest = new Pipeline(TEST_PIPELINE_NAME, mock(Source.class), mock(Buffer.class),
+                        Collections.emptyList(), dataFlowComponents, router,
+                        TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout,
+                        peerForwarderDrainTimeout, 0, null, new SharedWorkerPool(new SharedWorkerPoolConfig(2, null)));
+
+                final List<Future<Void>> futures = objectUnderTest.publishToSinks(records);
+
+                assertThat(futures.size(), equalTo(sinks.size()));
+                FutureHelper.awaitFuturesIndefinitely(futures);
+
+                for (Sink sink : sinks) {
+                    verify(sink).output(records);
+                }
+            }
+
         }
 
         @Nested
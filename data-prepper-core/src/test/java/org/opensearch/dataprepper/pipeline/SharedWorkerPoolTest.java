@@ -0,0 +1,304 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.parser.model.SharedWorkerPoolConfig;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SharedWorkerPoolTest {
+    private static final long AWAIT_MILLIS = 10_000;
+    private static final long ITERATION_CPU_NANOS = 1_000_000;
+
+    private final ThreadLocal<long[]> threadCpuNanos = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    private SharedWorkerPool createObjectUnderTest(final int threads, final Map<String, Integer> pipelineWeights) {
+        return new SharedWorkerPool(new SharedWorkerPoolConfig(threads, pipelineWeights),
+                () -> threadCpuNanos.get()[0], pipelineName -> pluginMetrics);
+    }
+
+    private void useCpu(final long nanos) {
+        threadCpuNanos.get()[0] += nanos;
+    }
+
+    private static Pipeline createPipeline(final String name) {
+        final Pipeline pipeline = mock(Pipeline.class);
+        when(pipeline.getName()).thenReturn(name);
+        return pipeline;
+    }
+
+    @Test
+    void start_runs_the_iterations_of_a_worker_until_it_finishes() throws InterruptedException {
+        final ProcessWorker processWorker = mock(ProcessWorker.class);
+        when(processWorker.runIteration()).thenReturn(
+                ProcessWorker.Iteration.PROCESSED, ProcessWorker.Iteration.PROCESSED, ProcessWorker.Iteration.FINISHED);
+        final SharedWorkerPool.PipelineShare share = createObjectUnderTest(2, null).register(createPipeline("pipeline"));
+
+        share.start(processWorker);
+
+        assertThat(share.awaitWorkers(AWAIT_MILLIS), equalTo(true));
+        verify(processWorker, times(3)).runIteration();
+    }
+
+    @Test
+    void idle_workers_run_again_after_backing_off() throws InterruptedException {
+        final Pipeline pipeline = createPipeline("pipeline");
+        when(pipeline.getReadBatchTimeoutInMillis()).thenReturn(10);
+        final ProcessWorker processWorker = mock(ProcessWorker.class);
+        when(processWorker.runIteration()).thenReturn(
+                ProcessWorker.Iteration.IDLE, ProcessWorker.Iteration.IDLE, ProcessWorker.Iteration.IDLE, ProcessWorker.Iteration.FINISHED);
+        final SharedWorkerPool.PipelineShare share = createObjectUnderTest(1, null).register(pipeline);
+
+        share.start(processWorker);
+
+        assertThat(share.awaitWorkers(AWAIT_MILLIS), equalTo(true));
+        verify(processWorker, times(4)).runIteration();
+    }
+
+    @Test
+    void a_worker_which_throws_finishes() throws InterruptedException {
+        final ProcessWorker processWorker = mock(ProcessWorker.class);
+        when(processWorker.runIteration()).thenThrow(RuntimeException.class);
+        final SharedWorkerPool.PipelineShare share = createObjectUnderTest(1, null).register(createPipeline("pipeline"));
+
+        share.start(processWorker);
+
+        assertThat(share.awaitWorkers(AWAIT_MILLIS), equalTo(true));
+        verify(processWorker).runIteration();
+    }
+
+    @Test
+    void iterations_of_a_worker_never_run_at_the_same_time() throws InterruptedException {
+        final int workers = 4;
+        final int iterationsPerWorker = 200;
+        final AtomicBoolean overlapped = new AtomicBoolean();
+        final SharedWorkerPool.PipelineShare share = createObjectUnderTest(workers, null).register(createPipeline("pipeline"));
+
+        for (int i = 0; i < workers; i++) {
+            final AtomicBoolean running = new AtomicBoolean();
+            final AtomicInteger iterations = new AtomicInteger();
+            final ProcessWorker processWorker = mock(ProcessWorker.class);
+            when(processWorker.runIteration()).thenAnswer(invocation -> {
+                if (!running.compareAndSet(false, true)) {
+                    overlapped.set(true);
+                }
+                Thread.yield();
+                running.set(false);
+                return iterations.incrementAndGet() < iterationsPerWorker
+                        ? ProcessWorker.Iteration.PROCESSED
+                        : ProcessWorker.Iteration.FINISHED;
+            });
+            share.start(processWorker);
+        }
+
+        assertThat(share.awaitWorkers(AWAIT_MILLIS), equalTo(true));
+        assertThat(overlapped.get(), equalTo(false));
+    }
+
+    @Test
+    void pipelines_get_iterations_in_proportion_to_their_weights() throws InterruptedException {
+        final int totalIterations = 400;
+        final SharedWorkerPool objectUnderTest = createObjectUnderTest(1, Collections.singletonMap("heavy", 3));
+        final SharedWorkerPool.PipelineShare lightShare = objectUnderTest.register(createPipeline("light"));
+        final SharedWorkerPool.PipelineShare heavyShare = objectUnderTest.register(createPipeline("heavy"));
+        final AtomicInteger iterations = new AtomicInteger();
+        // The first iteration waits for all workers to start, so that they all compete from the start.
+        final CountDownLatch started = new CountDownLatch(1);
+        final Map<SharedWorkerPool.PipelineShare, AtomicInteger> iterationsByShare = new HashMap<>();
+        final List<SharedWorkerPool.PipelineShare> shares = new ArrayList<>();
+        shares.add(lightShare);
+        shares.add(heavyShare);
+
+        for (final SharedWorkerPool.PipelineShare share : shares) {
+            final AtomicInteger shareIterations = new AtomicInteger();
+            iterationsByShare.put(share, shareIterations);
+            final ProcessWorker processWorker = mock(ProcessWorker.class);
+            when(processWorker.runIteration()).thenAnswer(invocation -> {
+                started.await();
+                if (iterations.incrementAndGet() > totalIterations) {
+                    return ProcessWorker.Iteration.FINISHED;
+                }
+                useCpu(ITERATION_CPU_NANOS);
+                shareIterations.incrementAndGet();
+                return ProcessWorker.Iteration.PROCESSED;
+            });
+            share.start(processWorker);
+        }
+        started.countDown();
+
+        assertThat(lightShare.awaitWorkers(AWAIT_MILLIS), equalTo(true));
+        assertThat(heavyShare.awaitWorkers(AWAIT_MILLIS), equalTo(true));
+        assertThat((double) iterationsByShare.get(lightShare).get(), closeTo(totalIterations / 4.0, 2));
+        assertThat((double) iterationsByShare.get(heavyShare).get(), closeTo(totalIterations * 3 / 4.0, 2));
+
+        objectUnderTest.updateCpuShares();
+        assertThat(lightShare.getCpuShare(), closeTo(0.25, 0.01));
+        assertThat(heavyShare.getCpuShare(), closeTo(0.75, 0.01));
+        assertThat(lightShare.getCpuNanos() + heavyShare.getCpuNanos(), equalTo(totalIterations * ITERATION_CPU_NANOS));
+
+        objectUnderTest.updateCpuShares();
+        assertThat(lightShare.getCpuShare(), equalTo(0.0));
+        assertThat(heavyShare.getCpuShare(), equalTo(0.0));
+    }
+
+    @Test
+    void register_exports_the_cpu_time_cpu_share_and_weight_of_the_pipeline() {
+        final SharedWorkerPool.PipelineShare share = createObjectUnderTest(1, Collections.singletonMap("pipeline", 2))
+                .register(createPipeline("pipeline"));
+
+        final ArgumentCaptor<ToDoubleFunction<SharedWorkerPool.PipelineShare>> cpuTimeCaptor = ArgumentCaptor.forClass(ToDoubleFunction.class);
+        final ArgumentCaptor<ToDoubleFunction<SharedWorkerPool.PipelineShare>> cpuShareCaptor = ArgumentCaptor.forClass(ToDoubleFunction.class);
+        final ArgumentCaptor<ToDoubleFunction<SharedWorkerPool.PipelineShare>> weightCaptor = ArgumentCaptor.forClass(ToDoubleFunction.class);
+        verify(pluginMetrics).gauge(eq(SharedWorkerPool.CPU_TIME), eq(share), cpuTimeCaptor.capture());
+        verify(pluginMetrics).gauge(eq(SharedWorkerPool.CPU_SHARE), eq(share), cpuShareCaptor.capture());
+        verify(pluginMetrics).gauge(eq(SharedWorkerPool.WEIGHT), eq(share), weightCaptor.capture());
+        assertThat(cpuTimeCaptor.getValue().applyAsDouble(share), equalTo(0.0));
+        assertThat(cpuShareCaptor.getValue().applyAsDouble(share), equalTo(0.0));
+        assertThat(weightCaptor.getValue().applyAsDouble(share), equalTo(2.0));
+    }
+
+    @Test
+    void submitSinkOutput_runs_the_output_on_the_pool_and_counts_its_cpu_time()
+            throws InterruptedException, ExecutionException {
+        final SharedWorkerPool.PipelineShare share = createObjectUnderTest(1, null).register(createPipeline("pipeline"));
+
+        final Future<Void> future = share.submitSinkOutput(() -> useCpu(ITERATION_CPU_NANOS));
+
+        assertThat(future.get(), equalTo(null));
+        assertThat(share.awaitSinkOutputs(AWAIT_MILLIS), equalTo(true));
+        assertThat(share.getCpuNanos(), equalTo(ITERATION_CPU_NANOS));
+    }
+
+    @Test
+    void sink_outputs_which_a_worker_waits_for_count_towards_their_own_pipeline() throws InterruptedException {
+        final SharedWorkerPool objectUnderTest = createObjectUnderTest(1, null);
+        final SharedWorkerPool.PipelineShare workerShare = objectUnderTest.register(createPipeline("worker"));
+        final SharedWorkerPool.PipelineShare sinkShare = objectUnderTest.register(createPipeline("sink"));
+        final ProcessWorker processWorker = mock(ProcessWorker.class);
+        when(processWorker.runIteration()).thenAnswer(invocation -> {
+            useCpu(ITERATION_CPU_NANOS);
+            sinkShare.submitSinkOutput(() -> useCpu(2 * ITERATION_CPU_NANOS)).get();
+            useCpu(ITERATION_CPU_NANOS);
+            return ProcessWorker.Iteration.FINISHED;
+        });
+
+        workerShare.start(processWorker);
+
+        assertThat(workerShare.awaitWorkers(AWAIT_MILLIS), equalTo(true));
+        assertThat(workerShare.getCpuNanos(), equalTo(2 * ITERATION_CPU_NANOS));
+        assertThat(sinkShare.getCpuNanos(), equalTo(2 * ITERATION_CPU_NANOS));
+    }
+
+    @Test
+    void outputs_to_a_connected_pipeline_with_a_full_buffer_do_not_keep_the_connected_pipeline_from_running()
+            throws InterruptedException {
+        final int batches = 10;
+        final SharedWorkerPool objectUnderTest = createObjectUnderTest(1, null);
+        final SharedWorkerPool.PipelineShare upstreamShare = objectUnderTest.register(createPipeline("upstream"));
+        final SharedWorkerPool.PipelineShare downstreamShare = objectUnderTest.register(createPipeline("downstream"));
+        final BlockingQueue<Integer> downstreamBuffer = new ArrayBlockingQueue<>(1);
+        downstreamBuffer.add(0);
+
+        final AtomicInteger writtenBatches = new AtomicInteger();
+        final ProcessWorker upstreamWorker = mock(ProcessWorker.class);
+        when(upstreamWorker.runIteration()).thenAnswer(invocation -> {
+            final int batch = writtenBatches.incrementAndGet();
+            upstreamShare.submitSinkOutput(() -> {
+                try {
+                    downstreamBuffer.put(batch);
+                } catch (final InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }, true).get();
+            return batch < batches ? ProcessWorker.Iteration.PROCESSED : ProcessWorker.Iteration.FINISHED;
+        });
+        final AtomicInteger readBatches = new AtomicInteger();
+        final ProcessWorker downstreamWorker = mock(ProcessWorker.class);
+        when(downstreamWorker.runIteration()).thenAnswer(invocation -> {
+            if (downstreamBuffer.poll() == null) {
+                return ProcessWorker.Iteration.IDLE;
+            }
+            return readBatches.incrementAndGet() <= batches
+                    ? ProcessWorker.Iteration.PROCESSED
+                    : ProcessWorker.Iteration.FINISHED;
+        });
+
+        upstreamShare.start(upstreamWorker);
+        downstreamShare.start(downstreamWorker);
+
+        assertThat(upstreamShare.awaitWorkers(AWAIT_MILLIS), equalTo(true));
+        assertThat(downstreamShare.awaitWorkers(AWAIT_MILLIS), equalTo(true));
+        assertThat(readBatches.get(), equalTo(batches + 1));
+        assertThat(upstreamShare.awaitSinkOutputs(AWAIT_MILLIS), equalTo(true));
+    }
+
+    @Test
+    void submitSinkOutput_shuts_down_the_pipeline_when_the_output_fails() throws InterruptedException {
+        final Pipeline pipeline = createPipeline("pipeline");
+        final SharedWorkerPool.PipelineShare share = createObjectUnderTest(1, null).register(pipeline);
+
+        final Future<Void> future = share.submitSinkOutput(() -> {
+            throw new RuntimeException("Sink is expected to fail");
+        });
+
+        assertThrows(ExecutionException.class, future::get);
+        assertThat(share.awaitSinkOutputs(AWAIT_MILLIS), equalTo(true));
+        verify(pipeline, timeout(AWAIT_MILLIS)).shutdown();
+    }
+
+    @Test
+    void awaitWorkers_returns_false_until_the_workers_are_cancelled() throws InterruptedException {
+        final ProcessWorker processWorker = mock(ProcessWorker.class);
+        when(processWorker.runIteration()).thenReturn(ProcessWorker.Iteration.PROCESSED);
+        final SharedWorkerPool.PipelineShare share = createObjectUnderTest(1, null).register(createPipeline("pipeline"));
+        share.start(processWorker);
+
+        assertThat(share.awaitWorkers(50), equalTo(false));
+
+        share.cancel();
+        assertThat(share.awaitWorkers(AWAIT_MILLIS), equalTo(true));
+    }
+
+    @Test
+    void awaitSinkOutputs_returns_true_without_sink_outputs() throws InterruptedException {
+        final SharedWorkerPool.PipelineShare share = createObjectUnderTest(1, null).register(createPipeline("pipeline"));
+
+        assertThat(share.awaitSinkOutputs(0), equalTo(true));
+    }
+}
@@ -132,4 +132,19 @@ public class RouterCopyRecordStrategyTests {
         recordsIn.forEach(recordIn -> assertFalse(recordsOutSet.contains(recordIn)));
     }
 
+    @Test
+    void test_with_multiple_data_flow_components_and_sharing_pipeline_connectors() {
+        Collection<DataFlowComponent<PipelineConnector>> dataFlowComponents = new ArrayList<>();
+        when(pipelineDataFlowComponent.getComponent()).thenReturn(new PipelineConnector(UUID.randomUUID().toString(), false, true));
+        for (int i = 0; i < 3; i++) {
+            dataFlowComponents.add(pipelineDataFlowComponent);
+        }
+
+        final RouterGetRecordStrategy getRecordStrategy = createObjectUnderTest(dataFlowComponents);
+        Record firstRecord = recordsIn.iterator().next();
+        assertThat(getRecordStrategy.getRecord(firstRecord), sameInstance(firstRecord));
+        assertThat(getRecordStrategy.getRecord(firstRecord), sameInstance(firstRecord));
+        assertThat(getRecordStrategy.getAllRecords(recordsIn), sameInstance(recordsIn));
+        assertThat(getRecordStrategy.getAllRecords(recordsIn), sameInstance(recordsIn));
+    }
 }
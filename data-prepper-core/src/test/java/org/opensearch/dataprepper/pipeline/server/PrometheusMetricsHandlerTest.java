@@ -8,21 +8,32 @@ package org.opensearch.dataprepper.pipeline.server;
 import com.sun.net.httpserver.Headers;
 import com.sun.net.httpserver.HttpExchange;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.prometheus.client.exporter.common.TextFormat;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import javax.ws.rs.HttpMethod;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.Writer;
 import java.net.HttpURLConnection;
 import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
 
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -30,11 +41,11 @@ import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class PrometheusMetricsHandlerTest {
+    private static final String TEST_STRING = "I am a string used in a test";
 
     @Mock
     PrometheusMeterRegistry meterRegistry;
 
-    @InjectMocks
     PrometheusMetricsHandler metricsHandler;
 
     @Mock
@@ -43,10 +54,24 @@ class PrometheusMetricsHandlerTest {
     @Mock
     OutputStream responseBody;
 
+    private Headers requestHeaders;
+    private long nanoTime;
+
     @BeforeEach
     public void beforeEach() {
         when(exchange.getResponseBody())
                 .thenReturn(responseBody);
+        requestHeaders = new Headers();
+        metricsHandler = new PrometheusMetricsHandler(meterRegistry, PrometheusMetricsHandler.DEFAULT_SNAPSHOT_TTL, () -> nanoTime);
+    }
+
+    private void mockScrape(final String contentType) throws IOException {
+        when(exchange.getRequestHeaders())
+                .thenReturn(requestHeaders);
+        doAnswer(invocation -> {
+            invocation.<Writer>getArgument(0).write(TEST_STRING);
+            return null;
+        }).when(meterRegistry).scrape(any(Writer.class), eq(contentType));
     }
 
     @ParameterizedTest
@@ -56,9 +81,7 @@ class PrometheusMetricsHandlerTest {
         when(exchange.getResponseHeaders())
                 .thenReturn(headers);
 
-        final String testString = "I am a string used in a test";
-        when(meterRegistry.scrape())
-                .thenReturn(testString);
+        mockScrape(TextFormat.CONTENT_TYPE_004);
 
         when(exchange.getRequestMethod())
                 .thenReturn(httpMethod);
@@ -69,7 +92,7 @@ class PrometheusMetricsHandlerTest {
         verify(headers, times(1))
                 .add(eq("Content-Type"), eq("text/plain; charset=UTF-8"));
 
-        final byte[] response = testString.getBytes(StandardCharsets.UTF_8);
+        final byte[] response = TEST_STRING.getBytes(StandardCharsets.UTF_8);
         verify(exchange, times(1))
                 .sendResponseHeaders(eq(HttpURLConnection.HTTP_OK), eq((long) response.length));
         verify(responseBody, times(1))
@@ -94,6 +117,10 @@ class PrometheusMetricsHandlerTest {
     @ParameterizedTest
     @ValueSource(strings = { HttpMethod.GET, HttpMethod.POST })
     public void testHandleException(String httpMethod) throws IOException {
+        when(exchange.getRequestHeaders())
+                .thenReturn(requestHeaders);
+        doThrow(IOException.class)
+                .when(meterRegistry).scrape(any(Writer.class), eq(TextFormat.CONTENT_TYPE_004));
         when(exchange.getRequestMethod())
                 .thenReturn(httpMethod);
         metricsHandler.handle(exchange);
@@ -104,4 +131,88 @@ class PrometheusMetricsHandlerTest {
                 .close();
     }
 
+    @Test
+    public void testWhenOpenMetricsAcceptedThenOpenMetricsWritten() throws IOException {
+        final Headers headers = mock(Headers.class);
+        when(exchange.getResponseHeaders())
+                .thenReturn(headers);
+        requestHeaders.add("Accept", "application/openmetrics-text; version=1.0.0,text/plain;version=0.0.4;q=0.5");
+        mockScrape(TextFormat.CONTENT_TYPE_OPENMETRICS_100);
+        when(exchange.getRequestMethod())
+                .thenReturn(HttpMethod.GET);
+
+        metricsHandler.handle(exchange);
+
+        verify(headers, times(1))
+                .add(eq("Content-Type"), eq(TextFormat.CONTENT_TYPE_OPENMETRICS_100));
+        verify(responseBody, times(1))
+                .write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testWhenGzipAcceptedThenCompressedResponseWritten() throws IOException {
+        final Headers headers = mock(Headers.class);
+        when(exchange.getResponseHeaders())
+                .thenReturn(headers);
+        requestHeaders.add("Accept-Encoding", "gzip, deflate");
+        mockScrape(TextFormat.CONTENT_TYPE_004);
+        when(exchange.getRequestMethod())
+                .thenReturn(HttpMethod.GET);
+
+        metricsHandler.handle(exchange);
+
+        verify(headers, times(1))
+                .add(eq("Content-Encoding"), eq("gzip"));
+        final ArgumentCaptor<byte[]> responseCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(responseBody, times(1))
+                .write(responseCaptor.capture());
+        verify(exchange, times(1))
+                .sendResponseHeaders(eq(HttpURLConnection.HTTP_OK), eq((long) responseCaptor.getValue().length));
+        try (final GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(responseCaptor.getValue()))) {
+            assertThat(new String(gzipInputStream.readAllBytes(), StandardCharsets.UTF_8), equalTo(TEST_STRING));
+        }
+    }
+
+    @Test
+    public void testWhenSnapshotIsFreshThenRegistryIsNotScrapedAgain() throws IOException {
+        when(exchange.getResponseHeaders())
+                .thenReturn(mock(Headers.class));
+        mockScrape(TextFormat.CONTENT_TYPE_004);
+        when(exchange.getRequestMethod())
+                .thenReturn(HttpMethod.GET);
+
+        metricsHandler.handle(exchange);
+        nanoTime += PrometheusMetricsHandler.DEFAULT_SNAPSHOT_TTL.toNanos() - 1;
+        metricsHandler.handle(exchange);
+
+        verify(meterRegistry, times(1))
+                .scrape(any(Writer.class), eq(TextFormat.CONTENT_TYPE_004));
+
+        nanoTime += 1;
+        metricsHandler.handle(exchange);
+
+        verify(meterRegistry, times(2))
+                .scrape(any(Writer.class), eq(TextFormat.CONTENT_TYPE_004));
+        verify(responseBody, times(3))
+                .write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "gzip,true",
+            "GZIP,true",
+            "'deflate, gzip;q=0.5',true",
+            "gzip;q=0,false",
+            "gzip;q=invalid,false",
+            "deflate,false",
+            "'',false",
+    })
+    public void testAcceptsGzip(final String acceptEncoding, final boolean expected) {
+        assertThat(PrometheusMetricsHandler.acceptsGzip(acceptEncoding), equalTo(expected));
+    }
+
+    @Test
+    public void testAcceptsGzipWithoutHeader() {
+        assertThat(PrometheusMetricsHandler.acceptsGzip(null), equalTo(false));
+    }
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugin;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.plugin.PluginIndexEntry;
+import org.opensearch.dataprepper.model.sink.Sink;
+import org.opensearch.dataprepper.model.source.Source;
+import org.opensearch.dataprepper.plugins.TestSink;
+import org.opensearch.dataprepper.plugins.TestSource;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+class IndexedClasspathPluginProviderTest {
+    private static final String[] PLUGIN_PACKAGES = {"org.opensearch.dataprepper.plugins"};
+
+    @TempDir
+    Path indexDirectory;
+
+    private List<URL> indexUrls;
+    private Supplier<PluginProvider> fallbackPluginProviderSupplier;
+    private PluginProvider fallbackPluginProvider;
+
+    @BeforeEach
+    void setUp() {
+        indexUrls = new ArrayList<>();
+        fallbackPluginProvider = mock(PluginProvider.class);
+        fallbackPluginProviderSupplier = mock(Supplier.class);
+        given(fallbackPluginProviderSupplier.get()).willReturn(fallbackPluginProvider);
+    }
+
+    private IndexedClasspathPluginProvider createObjectUnderTest() {
+        final ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            public Enumeration<URL> getResources(final String name) throws IOException {
+                assertThat(name, equalTo(PluginIndexEntry.RESOURCE_NAME));
+                return Collections.enumeration(indexUrls);
+            }
+        };
+        return new IndexedClasspathPluginProvider(classLoader, PLUGIN_PACKAGES, fallbackPluginProviderSupplier);
+    }
+
+    private void addIndex(final String... lines) throws IOException {
+        final Path indexPath = indexDirectory.resolve(UUID.randomUUID() + ".index");
+        Files.write(indexPath, String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+        indexUrls.add(indexPath.toUri().toURL());
+    }
+
+    private static String indexLine(final String name, final Class<?> pluginType, final String pluginClass) {
+        return new PluginIndexEntry(name, pluginType.getName(), pluginClass, PluginSetting.class.getName()).toLine();
+    }
+
+    @Test
+    void findPluginClass_returns_plugins_from_all_indexes_without_scanning() throws IOException {
+        addIndex(indexLine("test_sink", Sink.class, TestSink.class.getName()), "");
+        addIndex(indexLine("test_source", Source.class, TestSource.class.getName()));
+
+        final IndexedClasspathPluginProvider objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.findPluginClass(Sink.class, "test_sink"), equalTo(Optional.of(TestSink.class)));
+        assertThat(objectUnderTest.findPluginClass(Source.class, "test_source"), equalTo(Optional.of(TestSource.class)));
+        then(fallbackPluginProviderSupplier).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void findPluginClass_scans_once_for_plugins_which_are_not_indexed() throws IOException {
+        addIndex(indexLine("test_sink", Sink.class, TestSink.class.getName()));
+        given(fallbackPluginProvider.findPluginClass(any(), anyString())).willReturn(Optional.empty());
+
+        final IndexedClasspathPluginProvider objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.findPluginClass(Sink.class, "unknown"), equalTo(Optional.empty()));
+        assertThat(objectUnderTest.findPluginClass(Source.class, "test_sink"), equalTo(Optional.empty()));
+
+        then(fallbackPluginProviderSupplier).should(times(1)).get();
+        then(fallbackPluginProvider).should().findPluginClass(Sink.class, "unknown");
+        then(fallbackPluginProvider).should().findPluginClass(Source.class, "test_sink");
+    }
+
+    @Test
+    void findPluginClass_scans_when_the_indexed_class_is_missing() throws IOException {
+        addIndex(indexLine("test_sink", Sink.class, "org.opensearch.dataprepper.plugins.MissingSink"));
+        given(fallbackPluginProvider.findPluginClass(Sink.class, "test_sink")).willReturn(Optional.of(TestSink.class));
+
+        assertThat(createObjectUnderTest().findPluginClass(Sink.class, "test_sink"), equalTo(Optional.of(TestSink.class)));
+    }
+
+    @Test
+    void findPluginClass_ignores_plugins_outside_of_the_plugin_packages() throws IOException {
+        addIndex(indexLine("test_sink", Sink.class, TestSink.class.getName()),
+                indexLine("other_sink", Sink.class, IndexedClasspathPluginProviderTest.class.getName()));
+        given(fallbackPluginProvider.findPluginClass(Sink.class, "other_sink")).willReturn(Optional.empty());
+
+        final IndexedClasspathPluginProvider objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.findPluginClass(Sink.class, "other_sink"), equalTo(Optional.empty()));
+        assertThat(objectUnderTest.findPluginClass(Sink.class, "test_sink"), equalTo(Optional.of(TestSink.class)));
+    }
+
+    @Test
+    void findPluginClass_skips_invalid_indexes() throws IOException {
+        addIndex("not an index entry");
+        indexUrls.add(indexDirectory.resolve("missing.index").toUri().toURL());
+        addIndex(indexLine("test_sink", Sink.class, TestSink.class.getName()));
+
+        assertThat(createObjectUnderTest().findPluginClass(Sink.class, "test_sink"), equalTo(Optional.of(TestSink.class)));
+        then(fallbackPluginProviderSupplier).should(never()).get();
+    }
+
+    @Test
+    void findPluginClass_scans_when_the_indexes_cannot_be_listed() {
+        final ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            public Enumeration<URL> getResources(final String name) throws IOException {
+                throw new IOException("test");
+            }
+        };
+        given(fallbackPluginProvider.findPluginClass(Sink.class, "test_sink")).willReturn(Optional.of(TestSink.class));
+
+        final IndexedClasspathPluginProvider objectUnderTest =
+                new IndexedClasspathPluginProvider(classLoader, PLUGIN_PACKAGES, fallbackPluginProviderSupplier);
+
+        assertThat(objectUnderTest.findPluginClass(Sink.class, "test_sink"), equalTo(Optional.of(TestSink.class)));
+    }
+
+    @Test
+    void default_constructor_finds_plugins() {
+        final Optional<Class<? extends Sink>> pluginClass = new IndexedClasspathPluginProvider().findPluginClass(Sink.class, "test_sink");
+
+        assertThat(pluginClass, equalTo(Optional.of(TestSink.class)));
+    }
+}
@@ -20,6 +20,7 @@ import java.util.AbstractMap;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
@@ -82,6 +83,29 @@ public class MultiBufferDecoratorTest {
         verify(primaryBuffer).read(TIMEOUT_MILLIS);
     }
 
+    @Test
+    void read_with_maxBatchSize_should_call_primary_buffer_read() {
+        final Map.Entry<Collection<Record>, CheckpointState> entry =
+                new AbstractMap.SimpleEntry<Collection<Record>, CheckpointState>(List.of(record), checkpointState);
+        when(primaryBuffer.read(TIMEOUT_MILLIS, 10)).thenReturn(entry);
+        final MultiBufferDecorator multiBufferDecorator = createObjectUnderTest(new Random().nextInt(10) + 1);
+
+        final Map.Entry<Collection<Record>, CheckpointState> result = multiBufferDecorator.read(TIMEOUT_MILLIS, 10);
+        assertThat(result, equalTo(entry));
+
+        verify(primaryBuffer).read(TIMEOUT_MILLIS, 10);
+    }
+
+    @Test
+    void getFillRatio_should_return_primary_buffer_fill_ratio() {
+        when(primaryBuffer.getFillRatio()).thenReturn(Optional.of(0.25));
+        final MultiBufferDecorator multiBufferDecorator = createObjectUnderTest(new Random().nextInt(10) + 1);
+
+        assertThat(multiBufferDecorator.getFillRatio(), equalTo(Optional.of(0.25)));
+
+        verify(primaryBuffer).getFillRatio();
+    }
+
     @Test
     void checkpoint_should_call_primary_buffer_checkpoint() {
         final MultiBufferDecorator multiBufferDecorator = createObjectUnderTest(new Random().nextInt(10) + 1);
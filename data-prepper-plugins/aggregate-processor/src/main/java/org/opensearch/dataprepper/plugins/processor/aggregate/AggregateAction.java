@@ -40,4 +40,16 @@ public interface AggregateAction {
     default Optional<Event> concludeGroup(final AggregateActionInput aggregateActionInput) {
         return Optional.empty();
     }
+
+    /**
+     * Whether groups of this action can be aggregated in parts. When true, the Events of a single group may be spread
+     * over several Data Prepper nodes, each concluding its own part of the group, and the downstream consumer merges the
+     * parts. This lets peer forwarding split hot keys across peers.
+     *
+     * @return True if the concluded Events of a group can be merged downstream
+     * @since 2.2
+     */
+    default boolean supportsPartialAggregation() {
+        return false;
+    }
 }
@@ -8,28 +8,73 @@ package org.opensearch.dataprepper.plugins.processor.aggregate;
 import com.google.common.collect.Maps;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
 
+/**
+ * Keeps the groups of the {@link AggregateProcessor}.
+ * <p>
+ * Alongside the groups, this keeps an index of identification keys by the time bucket in which their group expires.
+ * Finding the groups to conclude only visits the buckets which have started, rather than every group. The index is
+ * split into stripes by identification keys, each with its own lock, so that threads creating groups at the same time
+ * rarely wait for each other.
+ */
 class AggregateGroupManager {
+    private static final long MAXIMUM_EXPIRY_BUCKET_MILLIS = 1000;
+    private static final int EXPIRY_BUCKETS_PER_GROUP_DURATION = 64;
+    private static final int EXPIRY_INDEX_STRIPES = 16;
 
     private final Map<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> allGroups = Maps.newConcurrentMap();
+    private final ExpiryIndex[] expiryIndexes = new ExpiryIndex[EXPIRY_INDEX_STRIPES];
     private final Duration groupDuration;
+    private final long expiryBucketMillis;
 
     AggregateGroupManager(final Duration groupDuration) {
         this.groupDuration = groupDuration;
+        this.expiryBucketMillis = Math.max(1, Math.min(MAXIMUM_EXPIRY_BUCKET_MILLIS, groupDuration.toMillis() / EXPIRY_BUCKETS_PER_GROUP_DURATION));
+        for (int i = 0; i < EXPIRY_INDEX_STRIPES; i++) {
+            expiryIndexes[i] = new ExpiryIndex();
+        }
     }
 
     AggregateGroup getAggregateGroup(final AggregateIdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
-        return allGroups.computeIfAbsent(identificationKeysMap, (hash) -> new AggregateGroup(identificationKeysMap.getKeyMap()));
+        return allGroups.computeIfAbsent(identificationKeysMap, (hash) -> {
+            final AggregateGroup aggregateGroup = new AggregateGroup(identificationKeysMap.getKeyMap());
+            scheduleExpiry(identificationKeysMap, aggregateGroup.getGroupStart().plus(groupDuration));
+            return aggregateGroup;
+        });
     }
 
+    /**
+     * Finds the groups which should be concluded. Without forceConclude, only groups indexed in expiry buckets which
+     * have started are visited, so the cost is proportional to the number of expiring groups rather than all groups.
+     */
     List<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> getGroupsToConclude(final boolean forceConclude) {
         final List<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = new ArrayList<>();
-        for (final Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry : allGroups.entrySet()) {
-            if (groupEntry.getValue().shouldConcludeGroup(groupDuration) || forceConclude) {
-                groupsToConclude.add(groupEntry);
+        if (forceConclude) {
+            groupsToConclude.addAll(allGroups.entrySet());
+            return groupsToConclude;
+        }
+
+        final Instant now = Instant.now();
+        for (final AggregateIdentificationKeysHasher.IdentificationKeysMap identificationKeysMap : removeStartedExpiryBuckets(now)) {
+            final AggregateGroup aggregateGroup = allGroups.get(identificationKeysMap);
+            if (aggregateGroup == null) {
+                continue;
+            }
+            if (aggregateGroup.shouldConcludeGroup(groupDuration)) {
+                groupsToConclude.add(new AbstractMap.SimpleImmutableEntry<>(identificationKeysMap, aggregateGroup));
+                // Checked again on a later call in case the group could not be concluded this time
+                scheduleExpiry(identificationKeysMap, now.plusMillis(expiryBucketMillis));
+            } else {
+                scheduleExpiry(identificationKeysMap, aggregateGroup.getGroupStart().plus(groupDuration));
             }
         }
         return groupsToConclude;
@@ -41,7 +86,9 @@ class AggregateGroupManager {
     }
 
     void putGroupWithHash(final AggregateIdentificationKeysHasher.IdentificationKeysMap hashKeyMap, final AggregateGroup group) {
-        allGroups.put(hashKeyMap, group);
+        if (allGroups.put(hashKeyMap, group) != group) {
+            scheduleExpiry(hashKeyMap, group.getGroupStart().plus(groupDuration));
+        }
     }
 
     long getAllGroupsSize() {
@@ -51,4 +98,43 @@ class AggregateGroupManager {
     Duration getGroupDuration() {
         return this.groupDuration;
     }
+
+    private void scheduleExpiry(final AggregateIdentificationKeysHasher.IdentificationKeysMap identificationKeysMap, final Instant expiry) {
+        final int stripe = (identificationKeysMap.hashCode() & Integer.MAX_VALUE) % EXPIRY_INDEX_STRIPES;
+        expiryIndexes[stripe].add(expiryBucketFor(expiry), identificationKeysMap);
+    }
+
+    private Set<AggregateIdentificationKeysHasher.IdentificationKeysMap> removeStartedExpiryBuckets(final Instant now) {
+        final long lastStartedBucket = expiryBucketFor(now);
+        final Set<AggregateIdentificationKeysHasher.IdentificationKeysMap> identificationKeysMaps = new HashSet<>();
+        for (final ExpiryIndex expiryIndex : expiryIndexes) {
+            expiryIndex.removeStartedBuckets(lastStartedBucket, identificationKeysMaps);
+        }
+        return identificationKeysMaps;
+    }
+
+    private long expiryBucketFor(final Instant time) {
+        return Math.floorDiv(time.toEpochMilli(), expiryBucketMillis);
+    }
+
+    /**
+     * One stripe of the index of identification keys by expiry bucket.
+     */
+    private static class ExpiryIndex {
+        private final NavigableMap<Long, Set<AggregateIdentificationKeysHasher.IdentificationKeysMap>> expiryBuckets = new TreeMap<>();
+
+        synchronized void add(final long expiryBucket, final AggregateIdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
+            expiryBuckets.computeIfAbsent(expiryBucket, bucket -> new HashSet<>()).add(identificationKeysMap);
+        }
+
+        synchronized void removeStartedBuckets(final long lastStartedBucket,
+                                               final Set<AggregateIdentificationKeysHasher.IdentificationKeysMap> identificationKeysMaps) {
+            if (expiryBuckets.isEmpty() || expiryBuckets.firstKey() > lastStartedBucket) {
+                return;
+            }
+            final NavigableMap<Long, Set<AggregateIdentificationKeysHasher.IdentificationKeysMap>> startedBuckets = expiryBuckets.headMap(lastStartedBucket, true);
+            startedBuckets.values().forEach(identificationKeysMaps::addAll);
+            startedBuckets.clear();
+        }
+    }
 }
@@ -13,6 +13,11 @@ import java.util.Map;
 import java.util.Objects;
 
 class AggregateIdentificationKeysHasher {
+    private static final long HASH_SEED = 0x9E3779B97F4A7C15L;
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+    private static final long NULL_HASH = 0x5BD1E9955BD1E995L;
+
     private final List<String> identificationKeys;
     AggregateIdentificationKeysHasher(final List<String> identificationKeys) {
         this.identificationKeys = identificationKeys;
@@ -26,6 +31,70 @@ class AggregateIdentificationKeysHasher {
         return new IdentificationKeysMap(identificationKeysMap);
     }
 
+    int getIdentificationKeysSize() {
+        return identificationKeys.size();
+    }
+
+    /**
+     * Reads the identification key values of the Event into the given array and hashes them into a 64-bit group id.
+     * Unlike {@link #createIdentificationKeysMapFromEvent(Event)}, this does not allocate a map for each Event.
+     *
+     * @param event The Event to read identification key values from
+     * @param identificationKeyValues An array with room for one value per identification key
+     * @return The 64-bit hash of the identification key values
+     */
+    long hashIdentificationKeys(final Event event, final Object[] identificationKeyValues) {
+        long hash = HASH_SEED;
+        for (int i = 0; i < identificationKeys.size(); i++) {
+            final Object value = event.get(identificationKeys.get(i), Object.class);
+            identificationKeyValues[i] = value;
+            hash = (Long.rotateLeft(hash, 31) ^ hashValue(value)) * HASH_SEED;
+        }
+        return finalizeHash(hash);
+    }
+
+    /**
+     * @param identificationKeyValues Values in the order of the identification keys
+     * @return A map of the identification keys to the given values
+     */
+    Map<Object, Object> createIdentificationKeysMap(final Object[] identificationKeyValues) {
+        final Map<Object, Object> identificationKeysMap = new HashMap<>();
+        for (int i = 0; i < identificationKeys.size(); i++) {
+            identificationKeysMap.put(identificationKeys.get(i), identificationKeyValues[i]);
+        }
+        return identificationKeysMap;
+    }
+
+    static long hashValue(final Object value) {
+        if (value == null) {
+            return NULL_HASH;
+        }
+        if (value instanceof String) {
+            final String stringValue = (String) value;
+            long hash = FNV_OFFSET_BASIS;
+            for (int i = 0; i < stringValue.length(); i++) {
+                hash = (hash ^ stringValue.charAt(i)) * FNV_PRIME;
+            }
+            return hash;
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return Double.doubleToLongBits(((Number) value).doubleValue());
+        }
+        return value.hashCode();
+    }
+
+    private static long finalizeHash(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
     public static class IdentificationKeysMap {
         private final Map<Object, Object> keyMap;
 
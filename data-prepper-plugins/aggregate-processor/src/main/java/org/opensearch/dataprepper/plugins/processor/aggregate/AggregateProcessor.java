@@ -13,17 +13,22 @@ import org.opensearch.dataprepper.model.configuration.PluginModel;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.peerforwarder.RequiresPeerForwarding;
+import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationException;
 import org.opensearch.dataprepper.model.plugin.PluginFactory;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.time.Instant;
 
 @DataPrepperPlugin(name = "aggregate", pluginType = Processor.class, pluginConfigurationType = AggregateProcessorConfig.class)
@@ -32,18 +37,23 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
     static final String ACTION_HANDLE_EVENTS_DROPPED = "actionHandleEventsDropped";
     static final String ACTION_CONCLUDE_GROUP_EVENTS_OUT = "actionConcludeGroupEventsOut";
     static final String ACTION_CONCLUDE_GROUP_EVENTS_DROPPED = "actionConcludeGroupEventsDropped";
+    static final String CONCLUDE_GROUPS_LATENCY = "concludeGroupsLatency";
     static final String CURRENT_AGGREGATE_GROUPS = "currentAggregateGroups";
 
+    private static final Logger LOG = LoggerFactory.getLogger(AggregateProcessor.class);
+
     private final Counter actionHandleEventsOutCounter;
     private final Counter actionHandleEventsDroppedCounter;
     private final Counter actionConcludeGroupEventsDroppedCounter;
     private final Counter actionConcludeGroupEventsOutCounter;
+    private final Timer concludeGroupsLatencyTimer;
 
     private final AggregateProcessorConfig aggregateProcessorConfig;
     private final AggregateGroupManager aggregateGroupManager;
     private final AggregateActionSynchronizer aggregateActionSynchronizer;
     private final AggregateIdentificationKeysHasher aggregateIdentificationKeysHasher;
     private final AggregateAction aggregateAction;
+    private final PrimitiveAggregateGroupManager primitiveAggregateGroupManager;
 
     private boolean forceConclude = false;
     private final String whenCondition;
@@ -68,9 +78,26 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
         this.actionConcludeGroupEventsDroppedCounter = pluginMetrics.counter(ACTION_CONCLUDE_GROUP_EVENTS_DROPPED);
         this.actionHandleEventsOutCounter = pluginMetrics.counter(ACTION_HANDLE_EVENTS_OUT);
         this.actionHandleEventsDroppedCounter = pluginMetrics.counter(ACTION_HANDLE_EVENTS_DROPPED);
+        this.concludeGroupsLatencyTimer = pluginMetrics.timer(CONCLUDE_GROUPS_LATENCY);
         this.whenCondition = aggregateProcessorConfig.getWhenCondition();
+        this.primitiveAggregateGroupManager = aggregateProcessorConfig.getHighCardinalityMode() ?
+                createPrimitiveAggregateGroupManager() : null;
+
+        if (aggregateProcessorConfig.getSplitHotKeys() && !aggregateAction.supportsPartialAggregation()) {
+            throw new InvalidPluginConfigurationException(String.format(
+                    "The aggregate action %s does not support split_hot_keys.", aggregateProcessorConfig.getAggregateAction().getPluginName()));
+        }
 
-        pluginMetrics.gauge(CURRENT_AGGREGATE_GROUPS, aggregateGroupManager, AggregateGroupManager::getAllGroupsSize);
+        pluginMetrics.gauge(CURRENT_AGGREGATE_GROUPS, this, AggregateProcessor::getAllGroupsSize);
+    }
+
+    private PrimitiveAggregateGroupManager createPrimitiveAggregateGroupManager() {
+        if (!(aggregateAction instanceof PrimitiveAggregateAction)) {
+            throw new InvalidPluginConfigurationException(String.format(
+                    "The aggregate action %s does not support high_cardinality_mode.", aggregateProcessorConfig.getAggregateAction().getPluginName()));
+        }
+        return new PrimitiveAggregateGroupManager(aggregateProcessorConfig.getGroupDuration(), aggregateIdentificationKeysHasher,
+                (PrimitiveAggregateAction) aggregateAction, PrimitiveAggregateGroupManager.DEFAULT_LOCK_STRIPES);
     }
 
     private AggregateAction loadAggregateAction(final PluginFactory pluginFactory) {
@@ -81,8 +108,13 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
 
     @Override
     public Collection<Record<Event>> doExecute(Collection<Record<Event>> records) {
+        if (primitiveAggregateGroupManager != null) {
+            return doExecuteWithPrimitiveGroups(records);
+        }
+
         final List<Record<Event>> recordsOut = new LinkedList<>();
 
+        final long concludeGroupsStartNanos = System.nanoTime();
         final List<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(forceConclude);
         for (final Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry : groupsToConclude) {
             final Optional<Event> concludeGroupEvent = aggregateActionSynchronizer.concludeGroup(groupEntry.getKey(), groupEntry.getValue(), forceConclude);
@@ -94,6 +126,7 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
                 actionConcludeGroupEventsDroppedCounter.increment();
             }
         }
+        concludeGroupsLatencyTimer.record(System.nanoTime() - concludeGroupsStartNanos, TimeUnit.NANOSECONDS);
 
         int handleEventsOut = 0;
         int handleEventsDropped = 0;
@@ -123,6 +156,51 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
         return recordsOut;
     }
 
+    private Collection<Record<Event>> doExecuteWithPrimitiveGroups(final Collection<Record<Event>> records) {
+        final List<Record<Event>> recordsOut = new LinkedList<>();
+        final long nowNanos = getTimeNanos(Instant.now());
+        final PrimitiveAggregateAction primitiveAggregateAction = (PrimitiveAggregateAction) aggregateAction;
+
+        final long concludeGroupsStartNanos = System.nanoTime();
+        for (final PrimitiveGroupState groupState : primitiveAggregateGroupManager.getGroupsToConclude(nowNanos, forceConclude)) {
+            Optional<Event> concludeGroupEvent;
+            try {
+                concludeGroupEvent = primitiveAggregateAction.concludeGroup(groupState);
+            } catch (final Exception e) {
+                LOG.debug("Error while concluding group: ", e);
+                concludeGroupEvent = Optional.empty();
+            }
+
+            if (concludeGroupEvent.isPresent()) {
+                recordsOut.add(new Record<>(concludeGroupEvent.get()));
+                actionConcludeGroupEventsOutCounter.increment();
+            } else {
+                actionConcludeGroupEventsDroppedCounter.increment();
+            }
+        }
+        concludeGroupsLatencyTimer.record(System.nanoTime() - concludeGroupsStartNanos, TimeUnit.NANOSECONDS);
+
+        int handleEventsOut = 0;
+        int handleEventsDropped = 0;
+        for (final Record<Event> record : records) {
+            final Event event = record.getData();
+            if (whenCondition != null && !expressionEvaluator.evaluate(whenCondition, event)) {
+                handleEventsDropped++;
+                continue;
+            }
+            if (primitiveAggregateGroupManager.handleEvent(event, nowNanos)) {
+                handleEventsDropped++;
+            } else {
+                recordsOut.add(record);
+                handleEventsOut++;
+            }
+        }
+
+        actionHandleEventsOutCounter.increment(handleEventsOut);
+        actionHandleEventsDroppedCounter.increment(handleEventsDropped);
+        return recordsOut;
+    }
+
     public static long getTimeNanos(final Instant time) {
         final long NANO_MULTIPLIER = 1_000 * 1_000 * 1_000;
         long currentTimeNanos = time.getEpochSecond() * NANO_MULTIPLIER + time.getNano();
@@ -137,7 +215,7 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
 
     @Override
     public boolean isReadyForShutdown() {
-        return aggregateGroupManager.getAllGroupsSize() == 0;
+        return getAllGroupsSize() == 0;
     }
 
     @Override
@@ -145,8 +223,23 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
 
     }
 
+    private long getAllGroupsSize() {
+        final long primitiveGroupsSize = primitiveAggregateGroupManager != null ? primitiveAggregateGroupManager.getAllGroupsSize() : 0;
+        return aggregateGroupManager.getAllGroupsSize() + primitiveGroupsSize;
+    }
+
     @Override
     public Collection<String> getIdentificationKeys() {
         return aggregateProcessorConfig.getIdentificationKeys();
     }
+
+    @Override
+    public boolean allowsHotKeySplitting() {
+        return aggregateProcessorConfig.getSplitHotKeys();
+    }
+
+    @Override
+    public boolean allowsBoundedLoadRouting() {
+        return aggregateProcessorConfig.getSplitHotKeys();
+    }
 }
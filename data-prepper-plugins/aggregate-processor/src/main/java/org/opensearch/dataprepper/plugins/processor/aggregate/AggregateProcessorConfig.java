@@ -31,6 +31,12 @@ public class AggregateProcessorConfig {
     @JsonProperty("aggregate_when")
     private String whenCondition;
 
+    @JsonProperty("high_cardinality_mode")
+    private boolean highCardinalityMode = false;
+
+    @JsonProperty("split_hot_keys")
+    private boolean splitHotKeys = false;
+
     public List<String> getIdentificationKeys() {
         return identificationKeys;
     }
@@ -45,4 +51,12 @@ public class AggregateProcessorConfig {
 
     public PluginModel getAggregateAction() { return aggregateAction; }
 
+    public boolean getHighCardinalityMode() {
+        return highCardinalityMode;
+    }
+
+    public boolean getSplitHotKeys() {
+        return splitHotKeys;
+    }
+
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.util.Optional;
+
+/**
+ * An {@link AggregateAction} whose group state can be kept as a count, a sum, a minimum, a maximum and histogram
+ * bucket counts. Such actions can run in the high cardinality mode of the {@link AggregateProcessor}, which keeps
+ * this state in primitive arrays instead of a {@link GroupState} per group.
+ * @since 2.2
+ */
+public interface PrimitiveAggregateAction extends AggregateAction {
+    /**
+     * @return The key of the numeric Event value to sum and to count into histogram buckets, or null if the action
+     * only counts Events
+     * @since 2.2
+     */
+    String getValueKey();
+
+    /**
+     * @return The sorted histogram bucket boundaries, including the lowest and highest boundaries. An Event value
+     * belongs to bucket i if it is between boundary i and boundary i + 1. Empty if the action does not keep a histogram.
+     * @since 2.2
+     */
+    double[] getBucketBoundaries();
+
+    /**
+     * Concludes a group of Events from its primitive state
+     *
+     * @param groupState The state accumulated for the group
+     * @return The final Event to return. Return empty if the aggregate processor should not pass an event
+     * @since 2.2
+     */
+    Optional<Event> concludeGroup(PrimitiveGroupState groupState);
+}
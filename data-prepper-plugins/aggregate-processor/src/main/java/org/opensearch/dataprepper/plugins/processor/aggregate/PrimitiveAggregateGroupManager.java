@@ -0,0 +1,165 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Manages the groups of the high cardinality mode of the {@link AggregateProcessor}.
+ * <p>
+ * Identification key values are hashed into 64-bit group ids without allocating a map per Event, and the state of
+ * each group is kept in the primitive arrays of a {@link PrimitiveGroupTable}. Groups are spread over a fixed number
+ * of tables by group id, and each table is guarded by its own lock, instead of a pair of locks per group. Each table
+ * indexes its groups by start time, so that concluding groups only visits the groups old enough to be concluded.
+ * @since 2.2
+ */
+class PrimitiveAggregateGroupManager {
+    static final int DEFAULT_LOCK_STRIPES = 64;
+    private static final long MAXIMUM_START_TIME_BUCKET_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int START_TIME_BUCKETS_PER_GROUP_DURATION = 64;
+
+    private final AggregateIdentificationKeysHasher aggregateIdentificationKeysHasher;
+    private final long groupDurationNanos;
+    private final String valueKey;
+    private final double[] bucketBoundaries;
+    private final PrimitiveGroupTable[] groupTables;
+    private final Lock[] groupTableLocks;
+    private final int stripeShift;
+    private final ThreadLocal<Object[]> identificationKeyValues;
+
+    PrimitiveAggregateGroupManager(final Duration groupDuration,
+                                   final AggregateIdentificationKeysHasher aggregateIdentificationKeysHasher,
+                                   final PrimitiveAggregateAction primitiveAggregateAction,
+                                   final int lockStripes) {
+        if (Integer.bitCount(lockStripes) != 1) {
+            throw new IllegalArgumentException("The number of lock stripes must be a power of two.");
+        }
+        this.aggregateIdentificationKeysHasher = aggregateIdentificationKeysHasher;
+        this.groupDurationNanos = groupDuration.toNanos();
+        this.valueKey = primitiveAggregateAction.getValueKey();
+        this.bucketBoundaries = primitiveAggregateAction.getBucketBoundaries();
+        this.stripeShift = Long.SIZE - Integer.numberOfTrailingZeros(lockStripes);
+
+        final int bucketCount = Math.max(bucketBoundaries.length - 1, 0);
+        final long startTimeBucketNanos = Math.max(1, Math.min(MAXIMUM_START_TIME_BUCKET_NANOS,
+                groupDurationNanos / START_TIME_BUCKETS_PER_GROUP_DURATION));
+        this.groupTables = new PrimitiveGroupTable[lockStripes];
+        this.groupTableLocks = new Lock[lockStripes];
+        for (int i = 0; i < lockStripes; i++) {
+            groupTables[i] = new PrimitiveGroupTable(bucketCount, startTimeBucketNanos);
+            groupTableLocks[i] = new ReentrantLock();
+        }
+
+        final int identificationKeysSize = aggregateIdentificationKeysHasher.getIdentificationKeysSize();
+        this.identificationKeyValues = ThreadLocal.withInitial(() -> new Object[identificationKeysSize]);
+    }
+
+    /**
+     * Adds the Event to its group.
+     *
+     * @param event The Event to aggregate
+     * @param nowNanos The current time in nanoseconds since the epoch
+     * @return false if the value of the Event could not be read, in which case the Event should continue through
+     * the pipeline, true otherwise
+     */
+    boolean handleEvent(final Event event, final long nowNanos) {
+        final Number value;
+        try {
+            value = valueKey != null ? event.get(valueKey, Number.class) : null;
+        } catch (final Exception e) {
+            return false;
+        }
+        if (valueKey != null && value == null) {
+            return true;
+        }
+
+        final Object[] keyValues = identificationKeyValues.get();
+        final long groupId = aggregateIdentificationKeysHasher.hashIdentificationKeys(event, keyValues);
+        final int stripe = stripeFor(groupId);
+        final PrimitiveGroupTable groupTable = groupTables[stripe];
+        final Lock lock = groupTableLocks[stripe];
+
+        lock.lock();
+        try {
+            final int slot = groupTable.findOrCreateGroup(groupId, keyValues, nowNanos);
+            if (value == null) {
+                groupTable.recordEvent(slot, nowNanos);
+            } else {
+                final double doubleValue = value.doubleValue();
+                groupTable.recordValue(slot, doubleValue, bucketFor(doubleValue), nowNanos);
+            }
+        } finally {
+            lock.unlock();
+        }
+        Arrays.fill(keyValues, null);
+        return true;
+    }
+
+    /**
+     * Removes the groups which have existed for at least the group duration.
+     *
+     * @param nowNanos The current time in nanoseconds since the epoch
+     * @param forceConclude Whether to remove all groups regardless of their age
+     * @return The state of the removed groups
+     */
+    List<PrimitiveGroupState> getGroupsToConclude(final long nowNanos, final boolean forceConclude) {
+        final long startedAtOrBeforeNanos = forceConclude ? Long.MAX_VALUE : nowNanos - groupDurationNanos;
+        final List<PrimitiveGroupState> groupsToConclude = new ArrayList<>();
+        for (int stripe = 0; stripe < groupTables.length; stripe++) {
+            final Lock lock = groupTableLocks[stripe];
+            lock.lock();
+            try {
+                groupsToConclude.addAll(groupTables[stripe].removeGroupsStartedBefore(startedAtOrBeforeNanos, this::createGroupState));
+            } finally {
+                lock.unlock();
+            }
+        }
+        return groupsToConclude;
+    }
+
+    long getAllGroupsSize() {
+        long size = 0;
+        for (final PrimitiveGroupTable groupTable : groupTables) {
+            size += groupTable.size();
+        }
+        return size;
+    }
+
+    private PrimitiveGroupState createGroupState(final Object[] keyValues, final long count, final double sum, final double min,
+                                                 final double max, final long[] bucketCounts, final long startTimeNanos,
+                                                 final long endTimeNanos) {
+        return new PrimitiveGroupState(aggregateIdentificationKeysHasher.createIdentificationKeysMap(keyValues),
+                count, sum, min, max, bucketCounts, toInstant(startTimeNanos), toInstant(endTimeNanos));
+    }
+
+    private int stripeFor(final long groupId) {
+        return stripeShift == Long.SIZE ? 0 : (int) (groupId >>> stripeShift);
+    }
+
+    private int bucketFor(final double value) {
+        if (bucketBoundaries.length < 2) {
+            return -1;
+        }
+        int bucket = Arrays.binarySearch(bucketBoundaries, value);
+        if (bucket < 0) {
+            bucket = -bucket - 2;
+        }
+        return Math.max(0, Math.min(bucket, bucketBoundaries.length - 2));
+    }
+
+    private static Instant toInstant(final long epochNanos) {
+        return Instant.ofEpochSecond(0, epochNanos);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * The state of a concluded group in the high cardinality mode of the {@link AggregateProcessor}.
+ * @see PrimitiveAggregateAction
+ * @since 2.2
+ */
+public class PrimitiveGroupState {
+    private final Map<Object, Object> identificationKeys;
+    private final long count;
+    private final double sum;
+    private final double min;
+    private final double max;
+    private final long[] bucketCounts;
+    private final Instant startTime;
+    private final Instant endTime;
+
+    public PrimitiveGroupState(final Map<Object, Object> identificationKeys,
+                               final long count,
+                               final double sum,
+                               final double min,
+                               final double max,
+                               final long[] bucketCounts,
+                               final Instant startTime,
+                               final Instant endTime) {
+        this.identificationKeys = identificationKeys;
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+        this.bucketCounts = bucketCounts;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    /**
+     * @return The identification keys and their values for the group
+     */
+    public Map<Object, Object> getIdentificationKeys() {
+        return identificationKeys;
+    }
+
+    /**
+     * @return The number of Events in the group
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return The sum of the values of the Events in the group
+     */
+    public double getSum() {
+        return sum;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * @return The number of values in each histogram bucket
+     */
+    public long[] getBucketCounts() {
+        return bucketCounts;
+    }
+
+    /**
+     * @return The time the first Event of the group was handled
+     */
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * @return The time the last Event of the group was handled
+     */
+    public Instant getEndTime() {
+        return endTime;
+    }
+}
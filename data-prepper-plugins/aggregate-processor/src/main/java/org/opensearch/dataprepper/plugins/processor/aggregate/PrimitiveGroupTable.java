@@ -0,0 +1,280 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * An open-addressing table of aggregate groups keyed by 64-bit group id, which keeps the state of each group in
+ * primitive arrays. Groups whose ids collide are told apart by their identification key values. This class is not
+ * thread-safe; {@link PrimitiveAggregateGroupManager} guards each table with a lock.
+ * <p>
+ * Alongside the slots, the groups are indexed by the time bucket in which they started, so that removing the old
+ * groups only visits the buckets which started before the given time, rather than every slot.
+ */
+class PrimitiveGroupTable {
+    private static final int MINIMUM_CAPACITY = 16;
+
+    private final int bucketCount;
+    private final long startTimeBucketNanos;
+    private final NavigableMap<Long, GroupKeys> startTimeBuckets = new TreeMap<>();
+
+    private long[] groupIds;
+    private Object[][] identificationKeyValues;
+    private long[] counts;
+    private double[] sums;
+    private double[] mins;
+    private double[] maxs;
+    private long[] startTimeNanos;
+    private long[] endTimeNanos;
+    private long[] bucketCounts;
+    private int mask;
+    private int size;
+
+    /**
+     * @param bucketCount The number of histogram buckets of each group
+     * @param startTimeBucketNanos The width of the time buckets by which groups are indexed by their start time
+     */
+    PrimitiveGroupTable(final int bucketCount, final long startTimeBucketNanos) {
+        this.bucketCount = bucketCount;
+        this.startTimeBucketNanos = startTimeBucketNanos;
+        allocate(MINIMUM_CAPACITY);
+    }
+
+    /**
+     * Finds the group with the given id and identification key values, creating it if it does not exist.
+     *
+     * @return The slot of the group, which stays valid until the table is modified again
+     */
+    int findOrCreateGroup(final long groupId, final Object[] keyValues, final long nowNanos) {
+        int slot = indexFor(groupId);
+        while (identificationKeyValues[slot] != null) {
+            if (groupIds[slot] == groupId && Arrays.equals(identificationKeyValues[slot], keyValues)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        final Object[] groupKeyValues = keyValues.clone();
+        groupIds[slot] = groupId;
+        identificationKeyValues[slot] = groupKeyValues;
+        counts[slot] = 0;
+        sums[slot] = 0;
+        mins[slot] = Double.POSITIVE_INFINITY;
+        maxs[slot] = Double.NEGATIVE_INFINITY;
+        startTimeNanos[slot] = nowNanos;
+        endTimeNanos[slot] = nowNanos;
+        startTimeBuckets.computeIfAbsent(startTimeBucketFor(nowNanos), bucket -> new GroupKeys()).add(groupId, groupKeyValues);
+        size++;
+
+        if (size * 2 > groupIds.length) {
+            resize(groupIds.length * 2);
+            return findOrCreateGroup(groupId, keyValues, nowNanos);
+        }
+        return slot;
+    }
+
+    void recordEvent(final int slot, final long nowNanos) {
+        counts[slot]++;
+        endTimeNanos[slot] = nowNanos;
+    }
+
+    void recordValue(final int slot, final double value, final int bucket, final long nowNanos) {
+        recordEvent(slot, nowNanos);
+        sums[slot] += value;
+        mins[slot] = Math.min(mins[slot], value);
+        maxs[slot] = Math.max(maxs[slot], value);
+        if (bucket >= 0) {
+            bucketCounts[slot * bucketCount + bucket]++;
+        }
+    }
+
+    /**
+     * Removes the groups which started at or before the given time. Only the start time buckets up to the one holding
+     * the given time are visited, and only the last of them can hold groups which are kept.
+     *
+     * @param startedAtOrBeforeNanos Groups which started at or before this time are removed
+     * @param groupStateFactory Creates the state returned for each removed group
+     * @return The state of the removed groups
+     */
+    List<PrimitiveGroupState> removeGroupsStartedBefore(final long startedAtOrBeforeNanos, final GroupStateFactory groupStateFactory) {
+        final long lastStartTimeBucket = startTimeBucketFor(startedAtOrBeforeNanos);
+        if (startTimeBuckets.isEmpty() || startTimeBuckets.firstKey() > lastStartTimeBucket) {
+            return Collections.emptyList();
+        }
+
+        final List<PrimitiveGroupState> removedGroups = new ArrayList<>();
+        Map.Entry<Long, GroupKeys> startTimeBucket;
+        while ((startTimeBucket = startTimeBuckets.firstEntry()) != null && startTimeBucket.getKey() <= lastStartTimeBucket) {
+            final GroupKeys groupKeys = startTimeBucket.getValue();
+            int keptGroups = 0;
+            for (int i = 0; i < groupKeys.size; i++) {
+                final int slot = findSlot(groupKeys.groupIds[i], groupKeys.keyValues[i]);
+                if (slot < 0) {
+                    continue;
+                }
+                if (startTimeNanos[slot] <= startedAtOrBeforeNanos) {
+                    removedGroups.add(groupStateFactory.create(identificationKeyValues[slot], counts[slot], sums[slot], mins[slot], maxs[slot],
+                            Arrays.copyOfRange(bucketCounts, slot * bucketCount, (slot + 1) * bucketCount),
+                            startTimeNanos[slot], endTimeNanos[slot]));
+                    removeSlot(slot);
+                } else {
+                    groupKeys.set(keptGroups++, groupKeys.groupIds[i], groupKeys.keyValues[i]);
+                }
+            }
+            if (keptGroups > 0) {
+                // Only the bucket holding the given time has groups which started after it
+                groupKeys.truncate(keptGroups);
+                break;
+            }
+            startTimeBuckets.pollFirstEntry();
+        }
+        return removedGroups;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int findSlot(final long groupId, final Object[] keyValues) {
+        int slot = indexFor(groupId);
+        while (identificationKeyValues[slot] != null) {
+            if (groupIds[slot] == groupId && Arrays.equals(identificationKeyValues[slot], keyValues)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void removeSlot(int slot) {
+        // Shift following entries of the probe sequence back so that lookups do not stop at the freed slot
+        int next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            if (identificationKeyValues[next] == null) {
+                break;
+            }
+            final int home = indexFor(groupIds[next]);
+            final boolean homeIsBetweenSlotAndNext = slot <= next ? (slot < home && home <= next) : (slot < home || home <= next);
+            if (!homeIsBetweenSlotAndNext) {
+                moveSlot(next, slot);
+                slot = next;
+            }
+        }
+        clearSlot(slot);
+        size--;
+    }
+
+    private void moveSlot(final int from, final int to) {
+        groupIds[to] = groupIds[from];
+        identificationKeyValues[to] = identificationKeyValues[from];
+        counts[to] = counts[from];
+        sums[to] = sums[from];
+        mins[to] = mins[from];
+        maxs[to] = maxs[from];
+        startTimeNanos[to] = startTimeNanos[from];
+        endTimeNanos[to] = endTimeNanos[from];
+        System.arraycopy(bucketCounts, from * bucketCount, bucketCounts, to * bucketCount, bucketCount);
+    }
+
+    private void clearSlot(final int slot) {
+        identificationKeyValues[slot] = null;
+        Arrays.fill(bucketCounts, slot * bucketCount, (slot + 1) * bucketCount, 0L);
+    }
+
+    private void resize(final int capacity) {
+        final long[] oldGroupIds = groupIds;
+        final Object[][] oldIdentificationKeyValues = identificationKeyValues;
+        final long[] oldCounts = counts;
+        final double[] oldSums = sums;
+        final double[] oldMins = mins;
+        final double[] oldMaxs = maxs;
+        final long[] oldStartTimeNanos = startTimeNanos;
+        final long[] oldEndTimeNanos = endTimeNanos;
+        final long[] oldBucketCounts = bucketCounts;
+
+        allocate(capacity);
+        for (int oldSlot = 0; oldSlot < oldGroupIds.length; oldSlot++) {
+            if (oldIdentificationKeyValues[oldSlot] == null) {
+                continue;
+            }
+            int slot = indexFor(oldGroupIds[oldSlot]);
+            while (identificationKeyValues[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            groupIds[slot] = oldGroupIds[oldSlot];
+            identificationKeyValues[slot] = oldIdentificationKeyValues[oldSlot];
+            counts[slot] = oldCounts[oldSlot];
+            sums[slot] = oldSums[oldSlot];
+            mins[slot] = oldMins[oldSlot];
+            maxs[slot] = oldMaxs[oldSlot];
+            startTimeNanos[slot] = oldStartTimeNanos[oldSlot];
+            endTimeNanos[slot] = oldEndTimeNanos[oldSlot];
+            System.arraycopy(oldBucketCounts, oldSlot * bucketCount, bucketCounts, slot * bucketCount, bucketCount);
+        }
+    }
+
+    private void allocate(final int capacity) {
+        groupIds = new long[capacity];
+        identificationKeyValues = new Object[capacity][];
+        counts = new long[capacity];
+        sums = new double[capacity];
+        mins = new double[capacity];
+        maxs = new double[capacity];
+        startTimeNanos = new long[capacity];
+        endTimeNanos = new long[capacity];
+        bucketCounts = new long[capacity * bucketCount];
+        mask = capacity - 1;
+    }
+
+    private int indexFor(final long groupId) {
+        return (int) groupId & mask;
+    }
+
+    private long startTimeBucketFor(final long timeNanos) {
+        return Math.floorDiv(timeNanos, startTimeBucketNanos);
+    }
+
+    /**
+     * The ids and identification key values of the groups which started in one time bucket.
+     */
+    private static class GroupKeys {
+        private long[] groupIds = new long[4];
+        private Object[][] keyValues = new Object[4][];
+        private int size;
+
+        void add(final long groupId, final Object[] groupKeyValues) {
+            if (size == groupIds.length) {
+                groupIds = Arrays.copyOf(groupIds, size * 2);
+                keyValues = Arrays.copyOf(keyValues, size * 2);
+            }
+            set(size++, groupId, groupKeyValues);
+        }
+
+        void set(final int index, final long groupId, final Object[] groupKeyValues) {
+            groupIds[index] = groupId;
+            keyValues[index] = groupKeyValues;
+        }
+
+        void truncate(final int newSize) {
+            Arrays.fill(keyValues, newSize, size, null);
+            size = newSize;
+        }
+    }
+
+    @FunctionalInterface
+    interface GroupStateFactory {
+        PrimitiveGroupState create(Object[] identificationKeyValues, long count, double sum, double min, double max,
+                                   long[] bucketCounts, long startTimeNanos, long endTimeNanos);
+    }
+}
@@ -15,6 +15,8 @@ import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateAction;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionInput;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionResponse;
 import org.opensearch.dataprepper.plugins.processor.aggregate.GroupState;
+import org.opensearch.dataprepper.plugins.processor.aggregate.PrimitiveAggregateAction;
+import org.opensearch.dataprepper.plugins.processor.aggregate.PrimitiveGroupState;
 import io.opentelemetry.proto.metrics.v1.AggregationTemporality;
 
 import java.time.Instant;
@@ -30,7 +32,7 @@ import java.util.Optional;
  * @since 2.1
  */
 @DataPrepperPlugin(name = "count", pluginType = AggregateAction.class, pluginConfigurationType = CountAggregateActionConfig.class)
-public class CountAggregateAction implements AggregateAction {
+public class CountAggregateAction implements PrimitiveAggregateAction {
     private static final String DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
     static final String EVENT_TYPE = "event";
     static final String SUM_METRIC_NAME = "count";
@@ -71,7 +73,33 @@ public class CountAggregateAction implements AggregateAction {
 
     @Override
     public Optional<Event> concludeGroup(final AggregateActionInput aggregateActionInput) {
-        GroupState groupState = aggregateActionInput.getGroupState();
+        return Optional.of(createEvent(aggregateActionInput.getGroupState()));
+    }
+
+    @Override
+    public boolean supportsPartialAggregation() {
+        return true;
+    }
+
+    @Override
+    public String getValueKey() {
+        return null;
+    }
+
+    @Override
+    public double[] getBucketBoundaries() {
+        return new double[0];
+    }
+
+    @Override
+    public Optional<Event> concludeGroup(final PrimitiveGroupState primitiveGroupState) {
+        final Map<Object, Object> groupState = new HashMap<>(primitiveGroupState.getIdentificationKeys());
+        groupState.put(startTimeKey, primitiveGroupState.getStartTime());
+        groupState.put(countKey, (int) primitiveGroupState.getCount());
+        return Optional.of(createEvent(groupState));
+    }
+
+    private Event createEvent(final Map<Object, Object> groupState) {
         Event event;
         Instant startTime = (Instant)groupState.get(startTimeKey);
         if (outputFormat.equals(OutputFormat.RAW.toString())) {
@@ -102,6 +130,6 @@ public class CountAggregateAction implements AggregateAction {
             event = (Event)sum;
         }
         
-        return Optional.of(event);
+        return event;
     }
 }
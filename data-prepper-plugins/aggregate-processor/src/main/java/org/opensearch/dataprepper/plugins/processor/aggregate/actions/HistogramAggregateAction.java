@@ -16,6 +16,8 @@ import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateAction;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionInput;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionResponse;
 import org.opensearch.dataprepper.plugins.processor.aggregate.GroupState;
+import org.opensearch.dataprepper.plugins.processor.aggregate.PrimitiveAggregateAction;
+import org.opensearch.dataprepper.plugins.processor.aggregate.PrimitiveGroupState;
 import static org.opensearch.dataprepper.plugins.processor.aggregate.AggregateProcessor.getTimeNanos;
 import io.opentelemetry.proto.metrics.v1.AggregationTemporality;
 import static org.opensearch.dataprepper.plugins.processor.otelmetrics.OTelMetricsProtoHelper.createBuckets;
@@ -36,7 +38,7 @@ import java.util.Optional;
  * @since 2.1
  */
 @DataPrepperPlugin(name = "histogram", pluginType = AggregateAction.class, pluginConfigurationType = HistogramAggregateActionConfig.class)
-public class HistogramAggregateAction implements AggregateAction {
+public class HistogramAggregateAction implements PrimitiveAggregateAction {
     private static final String DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
     private static final String EVENT_TYPE = "event";
     public static final String HISTOGRAM_METRIC_NAME = "histogram";
@@ -152,7 +154,45 @@ public class HistogramAggregateAction implements AggregateAction {
 
     @Override
     public Optional<Event> concludeGroup(final AggregateActionInput aggregateActionInput) {
-        GroupState groupState = aggregateActionInput.getGroupState();
+        return Optional.of(createEvent(aggregateActionInput.getGroupState(), aggregateActionInput.getIdentificationKeys()));
+    }
+
+    @Override
+    public boolean supportsPartialAggregation() {
+        return true;
+    }
+
+    @Override
+    public String getValueKey() {
+        return key;
+    }
+
+    @Override
+    public double[] getBucketBoundaries() {
+        return Arrays.copyOf(buckets, buckets.length);
+    }
+
+    @Override
+    public Optional<Event> concludeGroup(final PrimitiveGroupState primitiveGroupState) {
+        final Map<Object, Object> groupState = new HashMap<>(primitiveGroupState.getIdentificationKeys());
+        final long[] primitiveBucketCounts = primitiveGroupState.getBucketCounts();
+        final Long[] bucketCountsList = new Long[primitiveBucketCounts.length];
+        for (int i = 0; i < primitiveBucketCounts.length; i++) {
+            bucketCountsList[i] = primitiveBucketCounts[i];
+        }
+        groupState.put(startTimeKey, primitiveGroupState.getStartTime());
+        groupState.put(endTimeKey, primitiveGroupState.getEndTime());
+        groupState.put(sumKey, primitiveGroupState.getSum());
+        groupState.put(countKey, (int) primitiveGroupState.getCount());
+        groupState.put(bucketCountsKey, bucketCountsList);
+        if (this.recordMinMax) {
+            groupState.put(minKey, primitiveGroupState.getMin());
+            groupState.put(maxKey, primitiveGroupState.getMax());
+        }
+        return Optional.of(createEvent(groupState, primitiveGroupState.getIdentificationKeys()));
+    }
+
+    private Event createEvent(final Map<Object, Object> groupState, final Map<Object, Object> identificationKeys) {
         Event event;
         Instant startTime = (Instant)groupState.get(startTimeKey);
         Instant endTime = (Instant)groupState.get(endTimeKey);
@@ -177,7 +217,7 @@ public class HistogramAggregateAction implements AggregateAction {
             List<Bucket> buckets = createBuckets(bucketCounts, explicitBoundsList);
             Integer countValue = (Integer)groupState.get(countKey);
             Map<String, Object> attr = new HashMap<String, Object>();
-            aggregateActionInput.getIdentificationKeys().forEach((k, v) -> {
+            identificationKeys.forEach((k, v) -> {
                 attr.put((String)k, v);
             });
             attr.put(histogramKey, key);
@@ -208,6 +248,6 @@ public class HistogramAggregateAction implements AggregateAction {
             event = (Event)histogram;
         }
         
-        return Optional.of(event);
+        return event;
     }
 }
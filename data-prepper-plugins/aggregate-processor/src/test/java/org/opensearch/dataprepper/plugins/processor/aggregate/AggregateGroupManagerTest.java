@@ -9,19 +9,28 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.awaitility.Awaitility.await;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class AggregateGroupManagerTest {
@@ -76,11 +85,13 @@ public class AggregateGroupManagerTest {
         aggregateGroupManager = createObjectUnderTest();
 
         final AggregateGroup expectedOldGroup = mock(AggregateGroup.class);
+        when(expectedOldGroup.getGroupStart()).thenReturn(Instant.now());
         aggregateGroupManager.putGroupWithHash(identificationKeysMap, expectedOldGroup);
         final AggregateGroup oldGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
         assertThat(oldGroup, equalTo(expectedOldGroup));
 
         final AggregateGroup expectedNewGroup = mock(AggregateGroup.class);
+        when(expectedNewGroup.getGroupStart()).thenReturn(Instant.now());
         aggregateGroupManager.putGroupWithHash(identificationKeysMap, expectedNewGroup);
         final AggregateGroup newGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
         assertThat(newGroup, equalTo(expectedNewGroup));
@@ -91,11 +102,12 @@ public class AggregateGroupManagerTest {
         aggregateGroupManager = createObjectUnderTest();
 
         final AggregateGroup groupToConclude = mock(AggregateGroup.class);
+        when(groupToConclude.getGroupStart()).thenReturn(Instant.now().minus(TEST_GROUP_DURATION));
         when(groupToConclude.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(true);
         final AggregateIdentificationKeysHasher.IdentificationKeysMap hashForGroupToConclude = mock(AggregateIdentificationKeysHasher.IdentificationKeysMap.class);
 
         final AggregateGroup groupToNotConclude = mock(AggregateGroup.class);
-        when(groupToNotConclude.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(false);
+        when(groupToNotConclude.getGroupStart()).thenReturn(Instant.now());
         final AggregateIdentificationKeysHasher.IdentificationKeysMap hashForGroupToNotConclude = mock(AggregateIdentificationKeysHasher.IdentificationKeysMap.class);
 
         aggregateGroupManager.putGroupWithHash(hashForGroupToConclude, groupToConclude);
@@ -107,6 +119,89 @@ public class AggregateGroupManagerTest {
         assertThat(groupsToConclude.get(0), notNullValue());
         assertThat(groupsToConclude.get(0).getKey(), equalTo(hashForGroupToConclude));
         assertThat(groupsToConclude.get(0).getValue(), equalTo(groupToConclude));
+        verify(groupToNotConclude, never()).shouldConcludeGroup(TEST_GROUP_DURATION);
+    }
+
+    @Test
+    void getGroupsToConclude_returns_group_again_until_it_is_closed() {
+        aggregateGroupManager = createObjectUnderTest();
+
+        final AggregateGroup groupToConclude = mock(AggregateGroup.class);
+        when(groupToConclude.getGroupStart()).thenReturn(Instant.now().minus(TEST_GROUP_DURATION));
+        when(groupToConclude.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(true);
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, groupToConclude);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false).size(), equalTo(1));
+
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() ->
+                assertThat(aggregateGroupManager.getGroupsToConclude(false).size(), equalTo(1)));
+
+        aggregateGroupManager.closeGroup(identificationKeysMap, groupToConclude);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false).size(), equalTo(0));
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(0L));
+    }
+
+    @Test
+    void getGroupsToConclude_reschedules_group_which_was_reset_before_it_expired() {
+        aggregateGroupManager = createObjectUnderTest();
+
+        final AggregateGroup aggregateGroup = mock(AggregateGroup.class);
+        when(aggregateGroup.getGroupStart())
+                .thenReturn(Instant.now().minus(TEST_GROUP_DURATION))
+                .thenReturn(Instant.now());
+        when(aggregateGroup.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(false);
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, aggregateGroup);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false).size(), equalTo(0));
+        verify(aggregateGroup).shouldConcludeGroup(TEST_GROUP_DURATION);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false).size(), equalTo(0));
+        verify(aggregateGroup).shouldConcludeGroup(TEST_GROUP_DURATION);
+    }
+
+    @Test
+    void getAggregateGroup_schedules_new_group_to_expire_after_group_duration() {
+        aggregateGroupManager = new AggregateGroupManager(Duration.ofMillis(50));
+
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false).size(), equalTo(0));
+
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> {
+            final List<Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
+            assertThat(groupsToConclude.size(), equalTo(1));
+            assertThat(groupsToConclude.get(0).getValue(), is(sameInstance(aggregateGroup)));
+        });
+    }
+
+    @Test
+    void getGroupsToConclude_returns_every_group_created_concurrently_once_it_expires() throws InterruptedException {
+        aggregateGroupManager = new AggregateGroupManager(Duration.ofMillis(50));
+        final int threadCount = 8;
+        final int groupsPerThread = 500;
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        for (int thread = 0; thread < threadCount; thread++) {
+            final int threadNumber = thread;
+            executorService.submit(() -> {
+                for (int i = 0; i < groupsPerThread; i++) {
+                    aggregateGroupManager.getAggregateGroup(new AggregateIdentificationKeysHasher.IdentificationKeysMap(
+                            Collections.singletonMap("key", threadNumber + "-" + i)));
+                }
+            });
+        }
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS), equalTo(true));
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo((long) threadCount * groupsPerThread));
+
+        final Set<AggregateIdentificationKeysHasher.IdentificationKeysMap> concludedGroups = new HashSet<>();
+        await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> {
+            for (final Map.Entry<AggregateIdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> group : aggregateGroupManager.getGroupsToConclude(false)) {
+                concludedGroups.add(group.getKey());
+                aggregateGroupManager.closeGroup(group.getKey(), group.getValue());
+            }
+            assertThat(concludedGroups.size(), equalTo(threadCount * groupsPerThread));
+        });
     }
 
     @Test
@@ -114,9 +209,11 @@ public class AggregateGroupManagerTest {
         aggregateGroupManager = createObjectUnderTest();
 
         final AggregateGroup groupToConclude1 = mock(AggregateGroup.class);
+        when(groupToConclude1.getGroupStart()).thenReturn(Instant.now());
         final AggregateIdentificationKeysHasher.IdentificationKeysMap hashForGroupToConclude1 = mock(AggregateIdentificationKeysHasher.IdentificationKeysMap.class);
 
         final AggregateGroup groupToConclude2 = mock(AggregateGroup.class);
+        when(groupToConclude2.getGroupStart()).thenReturn(Instant.now());
         final AggregateIdentificationKeysHasher.IdentificationKeysMap hashForGroupToConclude2 = mock(AggregateIdentificationKeysHasher.IdentificationKeysMap.class);
 
         aggregateGroupManager.putGroupWithHash(hashForGroupToConclude1, groupToConclude1);
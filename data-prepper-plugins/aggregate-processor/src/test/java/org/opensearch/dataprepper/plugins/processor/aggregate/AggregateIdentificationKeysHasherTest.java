@@ -9,16 +9,21 @@ import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 public class AggregateIdentificationKeysHasherTest {
@@ -124,4 +129,74 @@ public class AggregateIdentificationKeysHasherTest {
 
         assertThat(result, is(not(equalTo(secondResult))));
     }
+
+    @Test
+    void hashIdentificationKeys_fills_values_and_returns_same_hash_for_same_values() {
+        aggregateIdentificationKeysHasher = createObjectUnderTest();
+        final String firstValue = UUID.randomUUID().toString();
+        final Map<String, Object> eventMap = new HashMap<>();
+        eventMap.put("firstIdentificationKey", firstValue);
+        eventMap.put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+
+        event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(eventMap)
+                .build();
+
+        final Object[] values = new Object[aggregateIdentificationKeysHasher.getIdentificationKeysSize()];
+        final long hash = aggregateIdentificationKeysHasher.hashIdentificationKeys(event, values);
+
+        assertThat(values.length, equalTo(2));
+        assertThat(values[0], equalTo(firstValue));
+        assertThat(values[1], nullValue());
+        assertThat(aggregateIdentificationKeysHasher.hashIdentificationKeys(event, new Object[2]), equalTo(hash));
+
+        final Map<Object, Object> expectedMap = new HashMap<>();
+        expectedMap.put("firstIdentificationKey", firstValue);
+        expectedMap.put("secondIdentificationKey", null);
+        assertThat(aggregateIdentificationKeysHasher.createIdentificationKeysMap(values), equalTo(expectedMap));
+    }
+
+    @Test
+    void hashIdentificationKeys_returns_different_hashes_for_different_values() {
+        aggregateIdentificationKeysHasher = createObjectUnderTest();
+        final Map<String, Object> eventMap = new HashMap<>();
+        eventMap.put("firstIdentificationKey", UUID.randomUUID().toString());
+        eventMap.put("secondIdentificationKey", UUID.randomUUID().toString());
+        final Map<String, Object> secondEventMap = new HashMap<>(eventMap);
+        secondEventMap.put("secondIdentificationKey", UUID.randomUUID().toString());
+
+        event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(eventMap)
+                .build();
+        final Event secondEvent = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(secondEventMap)
+                .build();
+
+        assertThat(aggregateIdentificationKeysHasher.hashIdentificationKeys(event, new Object[2]),
+                not(equalTo(aggregateIdentificationKeysHasher.hashIdentificationKeys(secondEvent, new Object[2]))));
+    }
+
+    @ParameterizedTest
+    @MethodSource("hashValueArgs")
+    void hashValue_is_consistent_and_distinguishes_values(final Object value, final Object otherValue) {
+        assertThat(AggregateIdentificationKeysHasher.hashValue(value), equalTo(AggregateIdentificationKeysHasher.hashValue(value)));
+        assertThat(AggregateIdentificationKeysHasher.hashValue(value), not(equalTo(AggregateIdentificationKeysHasher.hashValue(otherValue))));
+    }
+
+    private static Stream<Arguments> hashValueArgs() {
+        return Stream.of(
+                Arguments.of(null, "value"),
+                Arguments.of("value", "other"),
+                Arguments.of(1L, 2L),
+                Arguments.of(1, 2),
+                Arguments.of((short) 1, (short) 2),
+                Arguments.of((byte) 1, (byte) 2),
+                Arguments.of(1.5d, 2.5d),
+                Arguments.of(1.5f, 2.5f),
+                Arguments.of(true, false)
+        );
+    }
 }
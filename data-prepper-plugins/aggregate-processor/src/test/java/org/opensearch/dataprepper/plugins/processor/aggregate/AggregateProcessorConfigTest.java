@@ -18,5 +18,7 @@ public class AggregateProcessorConfigTest {
         final AggregateProcessorConfig aggregateConfig = new AggregateProcessorConfig();
 
         assertThat(aggregateConfig.getGroupDuration(), equalTo(Duration.ofSeconds(AggregateProcessorConfig.DEFAULT_GROUP_DURATION_SECONDS)));
+        assertThat(aggregateConfig.getHighCardinalityMode(), equalTo(false));
+        assertThat(aggregateConfig.getSplitHotKeys(), equalTo(false));
     }
 }
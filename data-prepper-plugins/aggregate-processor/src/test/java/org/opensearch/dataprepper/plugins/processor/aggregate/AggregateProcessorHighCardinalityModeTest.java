@@ -0,0 +1,193 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.configuration.PluginModel;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationException;
+import org.opensearch.dataprepper.model.plugin.PluginFactory;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AggregateProcessorHighCardinalityModeTest {
+    private static final String IDENTIFICATION_KEY = "identificationKey";
+
+    @Mock
+    private PluginFactory pluginFactory;
+
+    @Mock
+    private AggregateProcessorConfig aggregateProcessorConfig;
+
+    @Mock
+    private PrimitiveAggregateAction primitiveAggregateAction;
+
+    @Mock
+    private AggregateAction aggregateAction;
+
+    @Mock
+    private PluginModel actionConfiguration;
+
+    @Mock
+    private AggregateGroupManager aggregateGroupManager;
+
+    @Mock
+    private AggregateActionSynchronizer.AggregateActionSynchronizerProvider aggregateActionSynchronizerProvider;
+
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    @Mock
+    private Counter actionHandleEventsOutCounter;
+
+    @Mock
+    private Counter actionHandleEventsDroppedCounter;
+
+    @Mock
+    private Counter actionConcludeGroupEventsOutCounter;
+
+    @Mock
+    private Counter actionConcludeGroupEventsDroppedCounter;
+
+    @Mock
+    private Timer concludeGroupsLatencyTimer;
+
+    @Mock
+    private ExpressionEvaluator<Boolean> expressionEvaluator;
+
+    @BeforeEach
+    void setUp() {
+        when(aggregateProcessorConfig.getAggregateAction()).thenReturn(actionConfiguration);
+        when(actionConfiguration.getPluginName()).thenReturn(UUID.randomUUID().toString());
+        when(actionConfiguration.getPluginSettings()).thenReturn(Collections.emptyMap());
+        when(aggregateProcessorConfig.getHighCardinalityMode()).thenReturn(true);
+
+        when(pluginMetrics.counter(AggregateProcessor.ACTION_HANDLE_EVENTS_OUT)).thenReturn(actionHandleEventsOutCounter);
+        when(pluginMetrics.counter(AggregateProcessor.ACTION_HANDLE_EVENTS_DROPPED)).thenReturn(actionHandleEventsDroppedCounter);
+        when(pluginMetrics.counter(AggregateProcessor.ACTION_CONCLUDE_GROUP_EVENTS_OUT)).thenReturn(actionConcludeGroupEventsOutCounter);
+        when(pluginMetrics.counter(AggregateProcessor.ACTION_CONCLUDE_GROUP_EVENTS_DROPPED)).thenReturn(actionConcludeGroupEventsDroppedCounter);
+        when(pluginMetrics.timer(AggregateProcessor.CONCLUDE_GROUPS_LATENCY)).thenReturn(concludeGroupsLatencyTimer);
+    }
+
+    private AggregateProcessor createObjectUnderTest() {
+        return new AggregateProcessor(aggregateProcessorConfig, pluginMetrics, pluginFactory, aggregateGroupManager,
+                new AggregateIdentificationKeysHasher(Collections.singletonList(IDENTIFICATION_KEY)), aggregateActionSynchronizerProvider, expressionEvaluator);
+    }
+
+    private void setUpPrimitiveAggregateAction(final Duration groupDuration, final String valueKey) {
+        when(pluginFactory.loadPlugin(eq(AggregateAction.class), any(PluginSetting.class))).thenReturn(primitiveAggregateAction);
+        when(aggregateProcessorConfig.getGroupDuration()).thenReturn(groupDuration);
+        when(primitiveAggregateAction.getValueKey()).thenReturn(valueKey);
+        when(primitiveAggregateAction.getBucketBoundaries()).thenReturn(new double[0]);
+    }
+
+    private static Record<Event> createRecord(final String identificationValue) {
+        return new Record<>(JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Collections.singletonMap(IDENTIFICATION_KEY, identificationValue))
+                .build());
+    }
+
+    @Test
+    void constructor_throws_if_action_does_not_support_high_cardinality_mode() {
+        when(pluginFactory.loadPlugin(eq(AggregateAction.class), any(PluginSetting.class))).thenReturn(aggregateAction);
+
+        assertThrows(InvalidPluginConfigurationException.class, this::createObjectUnderTest);
+    }
+
+    @Test
+    void doExecute_aggregates_events_into_primitive_groups() {
+        setUpPrimitiveAggregateAction(Duration.ofHours(1), null);
+        final AggregateProcessor objectUnderTest = createObjectUnderTest();
+
+        final List<Record<Event>> recordsOut = (List<Record<Event>>) objectUnderTest.doExecute(
+                Arrays.asList(createRecord("a"), createRecord("a"), createRecord("b")));
+
+        assertThat(recordsOut.size(), equalTo(0));
+        assertThat(objectUnderTest.isReadyForShutdown(), equalTo(false));
+        verify(actionHandleEventsDroppedCounter).increment(3);
+        verify(actionHandleEventsOutCounter).increment(0);
+        verifyNoInteractions(actionConcludeGroupEventsOutCounter);
+    }
+
+    @Test
+    void doExecute_concludes_groups_after_prepare_for_shutdown() {
+        setUpPrimitiveAggregateAction(Duration.ofHours(1), null);
+        final Event concludedEvent = createRecord("concluded").getData();
+        when(primitiveAggregateAction.concludeGroup(any(PrimitiveGroupState.class)))
+                .thenReturn(Optional.of(concludedEvent))
+                .thenReturn(Optional.empty());
+        final AggregateProcessor objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.doExecute(Arrays.asList(createRecord("a"), createRecord("b")));
+        objectUnderTest.prepareForShutdown();
+        final List<Record<Event>> recordsOut = (List<Record<Event>>) objectUnderTest.doExecute(Collections.emptyList());
+
+        assertThat(recordsOut.size(), equalTo(1));
+        assertThat(recordsOut.get(0).getData(), equalTo(concludedEvent));
+        assertThat(objectUnderTest.isReadyForShutdown(), equalTo(true));
+        verify(actionConcludeGroupEventsOutCounter).increment();
+        verify(actionConcludeGroupEventsDroppedCounter).increment();
+    }
+
+    @Test
+    void doExecute_drops_concluded_group_if_action_throws() {
+        setUpPrimitiveAggregateAction(Duration.ZERO, null);
+        when(primitiveAggregateAction.concludeGroup(any(PrimitiveGroupState.class))).thenThrow(RuntimeException.class);
+        final AggregateProcessor objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.doExecute(Collections.singletonList(createRecord("a")));
+        final List<Record<Event>> recordsOut = (List<Record<Event>>) objectUnderTest.doExecute(Collections.emptyList());
+
+        assertThat(recordsOut.size(), equalTo(0));
+        verify(actionConcludeGroupEventsDroppedCounter).increment();
+    }
+
+    @Test
+    void doExecute_drops_events_not_matching_condition_and_passes_through_events_which_cannot_be_aggregated() {
+        final String condition = UUID.randomUUID().toString();
+        when(aggregateProcessorConfig.getWhenCondition()).thenReturn(condition);
+        setUpPrimitiveAggregateAction(Duration.ofHours(1), IDENTIFICATION_KEY);
+        final Record<Event> notMatchingRecord = createRecord("a");
+        final Record<Event> notNumericRecord = createRecord("b");
+        when(expressionEvaluator.evaluate(condition, notMatchingRecord.getData())).thenReturn(false);
+        when(expressionEvaluator.evaluate(condition, notNumericRecord.getData())).thenReturn(true);
+        final AggregateProcessor objectUnderTest = createObjectUnderTest();
+
+        final List<Record<Event>> recordsOut = (List<Record<Event>>) objectUnderTest.doExecute(Arrays.asList(notMatchingRecord, notNumericRecord));
+
+        assertThat(recordsOut.size(), equalTo(1));
+        assertThat(recordsOut.get(0), equalTo(notNumericRecord));
+        verify(actionHandleEventsOutCounter).increment(1);
+        verify(actionHandleEventsDroppedCounter).increment(1);
+    }
+}
@@ -12,6 +12,7 @@ import org.opensearch.dataprepper.model.configuration.PluginModel;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationException;
 import org.opensearch.dataprepper.model.plugin.PluginFactory;
 import org.opensearch.dataprepper.model.record.Record;
 import io.micrometer.core.instrument.Counter;
@@ -36,12 +37,15 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -101,6 +105,9 @@ public class AggregateProcessorTest {
     @Mock
     private Counter actionConcludeGroupEventsDroppedCounter;
 
+    @Mock
+    private Timer concludeGroupsLatencyTimer;
+
     @Mock
     private Counter recordsIn;
 
@@ -141,6 +148,7 @@ public class AggregateProcessorTest {
         when(pluginMetrics.counter(AggregateProcessor.ACTION_HANDLE_EVENTS_DROPPED)).thenReturn(actionHandleEventsDroppedCounter);
         when(pluginMetrics.counter(AggregateProcessor.ACTION_CONCLUDE_GROUP_EVENTS_OUT)).thenReturn(actionConcludeGroupEventsOutCounter);
         when(pluginMetrics.counter(AggregateProcessor.ACTION_CONCLUDE_GROUP_EVENTS_DROPPED)).thenReturn(actionConcludeGroupEventsDroppedCounter);
+        when(pluginMetrics.timer(AggregateProcessor.CONCLUDE_GROUPS_LATENCY)).thenReturn(concludeGroupsLatencyTimer);
 
         when(pluginMetrics.counter(MetricNames.RECORDS_IN)).thenReturn(recordsIn);
         when(pluginMetrics.counter(MetricNames.RECORDS_OUT)).thenReturn(recordsOut);
@@ -157,6 +165,40 @@ public class AggregateProcessorTest {
         assertThat(expectedIdentificationKeys, equalTo(keys));
     }
 
+    @Test
+    void allowsHotKeySplitting_is_false_by_default() {
+        assertThat(createObjectUnderTest().allowsHotKeySplitting(), equalTo(false));
+    }
+
+    @Test
+    void allowsHotKeySplitting_is_true_when_split_hot_keys_is_configured_for_an_action_supporting_partial_aggregation() {
+        when(aggregateProcessorConfig.getSplitHotKeys()).thenReturn(true);
+        when(aggregateAction.supportsPartialAggregation()).thenReturn(true);
+
+        assertThat(createObjectUnderTest().allowsHotKeySplitting(), equalTo(true));
+    }
+
+    @Test
+    void allowsBoundedLoadRouting_is_false_by_default() {
+        assertThat(createObjectUnderTest().allowsBoundedLoadRouting(), equalTo(false));
+    }
+
+    @Test
+    void allowsBoundedLoadRouting_is_true_when_split_hot_keys_is_configured_for_an_action_supporting_partial_aggregation() {
+        when(aggregateProcessorConfig.getSplitHotKeys()).thenReturn(true);
+        when(aggregateAction.supportsPartialAggregation()).thenReturn(true);
+
+        assertThat(createObjectUnderTest().allowsBoundedLoadRouting(), equalTo(true));
+    }
+
+    @Test
+    void constructor_throws_if_split_hot_keys_is_configured_for_an_action_not_supporting_partial_aggregation() {
+        when(aggregateProcessorConfig.getSplitHotKeys()).thenReturn(true);
+        when(aggregateAction.supportsPartialAggregation()).thenReturn(false);
+
+        assertThrows(InvalidPluginConfigurationException.class, this::createObjectUnderTest);
+    }
+
     @Nested
     class TestDoExecute {
         @BeforeEach
@@ -310,6 +352,17 @@ public class AggregateProcessorTest {
             verify(aggregateActionSynchronizer).concludeGroup(identificationKeysMap, aggregateGroup, false);
         }
 
+        @Test
+        void doExecute_records_conclude_groups_latency() {
+            final AggregateProcessor objectUnderTest = createObjectUnderTest();
+            when(aggregateGroupManager.getGroupsToConclude(eq(false))).thenReturn(Collections.emptyList());
+            when(aggregateActionResponse.getEvent()).thenReturn(event);
+
+            objectUnderTest.doExecute(Collections.singletonList(new Record<>(event)));
+
+            verify(concludeGroupsLatencyTimer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        }
+
         @Test
         void concludeGroup_after_prepare_for_shutdown() {
             final AggregateProcessor objectUnderTest = createObjectUnderTest();
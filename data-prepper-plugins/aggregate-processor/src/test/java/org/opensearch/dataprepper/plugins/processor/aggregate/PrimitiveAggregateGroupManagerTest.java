@@ -0,0 +1,156 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PrimitiveAggregateGroupManagerTest {
+    private static final Duration GROUP_DURATION = Duration.ofSeconds(10);
+    private static final long NOW_NANOS = 1_000_000_000_000L;
+
+    @Mock
+    private PrimitiveAggregateAction primitiveAggregateAction;
+
+    private String identificationKey;
+    private String valueKey;
+
+    @BeforeEach
+    void setUp() {
+        identificationKey = UUID.randomUUID().toString();
+        valueKey = UUID.randomUUID().toString();
+    }
+
+    private PrimitiveAggregateGroupManager createObjectUnderTest(final int lockStripes) {
+        return new PrimitiveAggregateGroupManager(GROUP_DURATION, new AggregateIdentificationKeysHasher(Collections.singletonList(identificationKey)),
+                primitiveAggregateAction, lockStripes);
+    }
+
+    private Event createEvent(final Object identificationValue, final Object value) {
+        final Map<String, Object> eventMap = new HashMap<>();
+        eventMap.put(identificationKey, identificationValue);
+        eventMap.put(valueKey, value);
+        return JacksonEvent.builder()
+                .withEventType("event")
+                .withData(eventMap)
+                .build();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 3, 12})
+    void constructor_throws_if_lock_stripes_is_not_a_power_of_two(final int lockStripes) {
+        final AggregateIdentificationKeysHasher hasher = new AggregateIdentificationKeysHasher(Collections.singletonList(identificationKey));
+        assertThrows(IllegalArgumentException.class, () ->
+                new PrimitiveAggregateGroupManager(GROUP_DURATION, hasher, primitiveAggregateAction, lockStripes));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, PrimitiveAggregateGroupManager.DEFAULT_LOCK_STRIPES})
+    void handleEvent_without_value_key_counts_events_per_group(final int lockStripes) {
+        when(primitiveAggregateAction.getValueKey()).thenReturn(null);
+        when(primitiveAggregateAction.getBucketBoundaries()).thenReturn(new double[0]);
+        final PrimitiveAggregateGroupManager objectUnderTest = createObjectUnderTest(lockStripes);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(objectUnderTest.handleEvent(createEvent("a", null), NOW_NANOS + i), equalTo(true));
+        }
+        assertThat(objectUnderTest.handleEvent(createEvent("b", null), NOW_NANOS), equalTo(true));
+
+        assertThat(objectUnderTest.getAllGroupsSize(), equalTo(2L));
+
+        final List<PrimitiveGroupState> groupStates = objectUnderTest.getGroupsToConclude(NOW_NANOS, true);
+        assertThat(groupStates.size(), equalTo(2));
+        for (final PrimitiveGroupState groupState : groupStates) {
+            final Object identificationValue = groupState.getIdentificationKeys().get(identificationKey);
+            assertThat(groupState.getCount(), equalTo(identificationValue.equals("a") ? 3L : 1L));
+            assertThat(groupState.getBucketCounts().length, equalTo(0));
+        }
+        assertThat(objectUnderTest.getAllGroupsSize(), equalTo(0L));
+    }
+
+    @Test
+    void handleEvent_with_value_key_records_values_into_buckets() {
+        when(primitiveAggregateAction.getValueKey()).thenReturn(valueKey);
+        when(primitiveAggregateAction.getBucketBoundaries()).thenReturn(new double[] {-Float.MAX_VALUE, 0.0, 10.0, Float.MAX_VALUE});
+        final PrimitiveAggregateGroupManager objectUnderTest = createObjectUnderTest(PrimitiveAggregateGroupManager.DEFAULT_LOCK_STRIPES);
+
+        objectUnderTest.handleEvent(createEvent("a", -5), NOW_NANOS);
+        objectUnderTest.handleEvent(createEvent("a", 0), NOW_NANOS);
+        objectUnderTest.handleEvent(createEvent("a", 5.5), NOW_NANOS);
+        objectUnderTest.handleEvent(createEvent("a", 20L), NOW_NANOS + 1);
+        objectUnderTest.handleEvent(createEvent("a", Double.MAX_VALUE), NOW_NANOS + 2);
+
+        final List<PrimitiveGroupState> groupStates = objectUnderTest.getGroupsToConclude(NOW_NANOS, true);
+
+        assertThat(groupStates.size(), equalTo(1));
+        final PrimitiveGroupState groupState = groupStates.get(0);
+        assertThat(groupState.getIdentificationKeys(), equalTo(Collections.singletonMap(identificationKey, "a")));
+        assertThat(groupState.getCount(), equalTo(5L));
+        assertThat(groupState.getMin(), equalTo(-5.0));
+        assertThat(groupState.getMax(), equalTo(Double.MAX_VALUE));
+        assertThat(groupState.getBucketCounts(), equalTo(new long[] {1L, 2L, 2L}));
+        assertThat(groupState.getEndTime().getNano() - groupState.getStartTime().getNano(), equalTo(2));
+    }
+
+    @Test
+    void handleEvent_with_missing_value_drops_event() {
+        when(primitiveAggregateAction.getValueKey()).thenReturn(valueKey);
+        when(primitiveAggregateAction.getBucketBoundaries()).thenReturn(new double[0]);
+        final PrimitiveAggregateGroupManager objectUnderTest = createObjectUnderTest(PrimitiveAggregateGroupManager.DEFAULT_LOCK_STRIPES);
+
+        assertThat(objectUnderTest.handleEvent(createEvent("a", null), NOW_NANOS), equalTo(true));
+        assertThat(objectUnderTest.getAllGroupsSize(), equalTo(0L));
+    }
+
+    @Test
+    void handleEvent_with_value_that_is_not_a_number_returns_false() {
+        when(primitiveAggregateAction.getValueKey()).thenReturn(valueKey);
+        when(primitiveAggregateAction.getBucketBoundaries()).thenReturn(new double[0]);
+        final PrimitiveAggregateGroupManager objectUnderTest = createObjectUnderTest(PrimitiveAggregateGroupManager.DEFAULT_LOCK_STRIPES);
+
+        assertThat(objectUnderTest.handleEvent(createEvent("a", UUID.randomUUID().toString()), NOW_NANOS), equalTo(false));
+        assertThat(objectUnderTest.getAllGroupsSize(), equalTo(0L));
+    }
+
+    @Test
+    void getGroupsToConclude_only_returns_groups_older_than_group_duration() {
+        when(primitiveAggregateAction.getValueKey()).thenReturn(null);
+        when(primitiveAggregateAction.getBucketBoundaries()).thenReturn(new double[0]);
+        final PrimitiveAggregateGroupManager objectUnderTest = createObjectUnderTest(PrimitiveAggregateGroupManager.DEFAULT_LOCK_STRIPES);
+        final long groupDurationNanos = GROUP_DURATION.toNanos();
+
+        objectUnderTest.handleEvent(createEvent("old", null), NOW_NANOS);
+        objectUnderTest.handleEvent(createEvent("new", null), NOW_NANOS + groupDurationNanos);
+
+        assertThat(objectUnderTest.getGroupsToConclude(NOW_NANOS + groupDurationNanos - 1, false), empty());
+
+        final List<PrimitiveGroupState> groupStates = objectUnderTest.getGroupsToConclude(NOW_NANOS + groupDurationNanos, false);
+        assertThat(groupStates.size(), equalTo(1));
+        assertThat(groupStates.get(0).getIdentificationKeys().get(identificationKey), equalTo("old"));
+        assertThat(objectUnderTest.getAllGroupsSize(), equalTo(1L));
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+
+class PrimitiveGroupTableTest {
+    private static final long START_TIME_BUCKET_NANOS = 20L;
+    private static final PrimitiveGroupTable.GroupStateFactory GROUP_STATE_FACTORY =
+            (keyValues, count, sum, min, max, bucketCounts, startTimeNanos, endTimeNanos) ->
+                    new PrimitiveGroupState(Collections.singletonMap("key", keyValues[0]), count, sum, min, max, bucketCounts,
+                            Instant.ofEpochSecond(0, startTimeNanos), Instant.ofEpochSecond(0, endTimeNanos));
+
+    private static Object[] keyValues(final Object value) {
+        return new Object[] {value};
+    }
+
+    private static List<Object> removedKeys(final List<PrimitiveGroupState> groupStates) {
+        return groupStates.stream().map(groupState -> groupState.getIdentificationKeys().get("key")).collect(Collectors.toList());
+    }
+
+    @Test
+    void findOrCreateGroup_returns_the_same_slot_for_the_same_group() {
+        final PrimitiveGroupTable objectUnderTest = new PrimitiveGroupTable(0, START_TIME_BUCKET_NANOS);
+
+        final int slot = objectUnderTest.findOrCreateGroup(1L, keyValues("a"), 10L);
+
+        assertThat(objectUnderTest.findOrCreateGroup(1L, keyValues("a"), 20L), equalTo(slot));
+        assertThat(objectUnderTest.size(), equalTo(1));
+    }
+
+    @Test
+    void findOrCreateGroup_with_colliding_ids_but_different_values_creates_separate_groups() {
+        final PrimitiveGroupTable objectUnderTest = new PrimitiveGroupTable(0, START_TIME_BUCKET_NANOS);
+
+        final int firstSlot = objectUnderTest.findOrCreateGroup(1L, keyValues("a"), 10L);
+        final int secondSlot = objectUnderTest.findOrCreateGroup(1L, keyValues("b"), 10L);
+
+        assertThat(secondSlot, not(equalTo(firstSlot)));
+        assertThat(objectUnderTest.size(), equalTo(2));
+    }
+
+    @Test
+    void recordValue_accumulates_group_state() {
+        final PrimitiveGroupTable objectUnderTest = new PrimitiveGroupTable(2, START_TIME_BUCKET_NANOS);
+
+        int slot = objectUnderTest.findOrCreateGroup(1L, keyValues("a"), 10L);
+        objectUnderTest.recordValue(slot, 5.0, 0, 10L);
+        slot = objectUnderTest.findOrCreateGroup(1L, keyValues("a"), 30L);
+        objectUnderTest.recordValue(slot, 1.0, 1, 30L);
+        slot = objectUnderTest.findOrCreateGroup(1L, keyValues("a"), 40L);
+        objectUnderTest.recordValue(slot, 3.0, -1, 40L);
+
+        final List<PrimitiveGroupState> groupStates = objectUnderTest.removeGroupsStartedBefore(Long.MAX_VALUE, GROUP_STATE_FACTORY);
+
+        assertThat(groupStates.size(), equalTo(1));
+        final PrimitiveGroupState groupState = groupStates.get(0);
+        assertThat(groupState.getIdentificationKeys(), equalTo(Map.of("key", "a")));
+        assertThat(groupState.getCount(), equalTo(3L));
+        assertThat(groupState.getSum(), equalTo(9.0));
+        assertThat(groupState.getMin(), equalTo(1.0));
+        assertThat(groupState.getMax(), equalTo(5.0));
+        assertThat(groupState.getBucketCounts(), equalTo(new long[] {1L, 1L}));
+        assertThat(groupState.getStartTime(), equalTo(Instant.ofEpochSecond(0, 10L)));
+        assertThat(groupState.getEndTime(), equalTo(Instant.ofEpochSecond(0, 40L)));
+        assertThat(objectUnderTest.size(), equalTo(0));
+    }
+
+    @Test
+    void table_grows_and_keeps_all_groups() {
+        final PrimitiveGroupTable objectUnderTest = new PrimitiveGroupTable(1, START_TIME_BUCKET_NANOS);
+        final int groups = 1000;
+
+        for (int i = 0; i < groups; i++) {
+            final int slot = objectUnderTest.findOrCreateGroup(i * 16L, keyValues(i), i);
+            objectUnderTest.recordValue(slot, i, 0, i);
+        }
+
+        assertThat(objectUnderTest.size(), equalTo(groups));
+        for (int i = 0; i < groups; i++) {
+            objectUnderTest.recordEvent(objectUnderTest.findOrCreateGroup(i * 16L, keyValues(i), groups), groups);
+        }
+        assertThat(objectUnderTest.size(), equalTo(groups));
+
+        final List<PrimitiveGroupState> groupStates = objectUnderTest.removeGroupsStartedBefore(Long.MAX_VALUE, GROUP_STATE_FACTORY);
+        assertThat(groupStates.size(), equalTo(groups));
+        for (final PrimitiveGroupState groupState : groupStates) {
+            final int key = (Integer) groupState.getIdentificationKeys().get("key");
+            assertThat(groupState.getCount(), equalTo(2L));
+            assertThat(groupState.getSum(), equalTo((double) key));
+            assertThat(groupState.getBucketCounts(), equalTo(new long[] {1L}));
+        }
+    }
+
+    @Test
+    void removeGroupsStartedBefore_only_removes_old_groups_and_keeps_colliding_groups_reachable() {
+        final PrimitiveGroupTable objectUnderTest = new PrimitiveGroupTable(0, START_TIME_BUCKET_NANOS);
+
+        objectUnderTest.findOrCreateGroup(15L, keyValues("old-15"), 10L);
+        objectUnderTest.findOrCreateGroup(31L, keyValues("new-31"), 100L);
+        objectUnderTest.findOrCreateGroup(47L, keyValues("old-47"), 10L);
+        objectUnderTest.findOrCreateGroup(0L, keyValues("new-0"), 100L);
+        objectUnderTest.findOrCreateGroup(1L, keyValues("new-1"), 100L);
+        objectUnderTest.findOrCreateGroup(4L, keyValues("new-4"), 100L);
+
+        final List<PrimitiveGroupState> removedGroups = objectUnderTest.removeGroupsStartedBefore(50L, GROUP_STATE_FACTORY);
+
+        assertThat(removedKeys(removedGroups), containsInAnyOrder("old-15", "old-47"));
+        assertThat(objectUnderTest.size(), equalTo(4));
+
+        final int sizeBefore = objectUnderTest.size();
+        objectUnderTest.findOrCreateGroup(31L, keyValues("new-31"), 200L);
+        objectUnderTest.findOrCreateGroup(0L, keyValues("new-0"), 200L);
+        objectUnderTest.findOrCreateGroup(1L, keyValues("new-1"), 200L);
+        objectUnderTest.findOrCreateGroup(4L, keyValues("new-4"), 200L);
+        assertThat(objectUnderTest.size(), equalTo(sizeBefore));
+
+        assertThat(removedKeys(objectUnderTest.removeGroupsStartedBefore(150L, GROUP_STATE_FACTORY)),
+                containsInAnyOrder("new-31", "new-0", "new-1", "new-4"));
+        assertThat(objectUnderTest.size(), equalTo(0));
+    }
+
+    @Test
+    void removeGroupsStartedBefore_keeps_groups_which_started_later_in_the_same_start_time_bucket() {
+        final PrimitiveGroupTable objectUnderTest = new PrimitiveGroupTable(0, START_TIME_BUCKET_NANOS);
+
+        objectUnderTest.findOrCreateGroup(1L, keyValues("a"), 41L);
+        objectUnderTest.findOrCreateGroup(2L, keyValues("b"), 45L);
+        objectUnderTest.findOrCreateGroup(3L, keyValues("c"), 48L);
+        objectUnderTest.findOrCreateGroup(4L, keyValues("d"), 65L);
+
+        assertThat(removedKeys(objectUnderTest.removeGroupsStartedBefore(45L, GROUP_STATE_FACTORY)), containsInAnyOrder("a", "b"));
+        assertThat(objectUnderTest.size(), equalTo(2));
+
+        assertThat(removedKeys(objectUnderTest.removeGroupsStartedBefore(50L, GROUP_STATE_FACTORY)), containsInAnyOrder("c"));
+        assertThat(removedKeys(objectUnderTest.removeGroupsStartedBefore(70L, GROUP_STATE_FACTORY)), containsInAnyOrder("d"));
+        assertThat(objectUnderTest.size(), equalTo(0));
+    }
+
+    @Test
+    void removeGroupsStartedBefore_removes_a_group_created_again_after_it_was_removed() {
+        final PrimitiveGroupTable objectUnderTest = new PrimitiveGroupTable(0, START_TIME_BUCKET_NANOS);
+
+        objectUnderTest.findOrCreateGroup(1L, keyValues("a"), 10L);
+        assertThat(removedKeys(objectUnderTest.removeGroupsStartedBefore(10L, GROUP_STATE_FACTORY)), containsInAnyOrder("a"));
+
+        objectUnderTest.findOrCreateGroup(1L, keyValues("a"), 100L);
+        assertThat(objectUnderTest.removeGroupsStartedBefore(90L, GROUP_STATE_FACTORY), empty());
+
+        final List<PrimitiveGroupState> removedGroups = objectUnderTest.removeGroupsStartedBefore(100L, GROUP_STATE_FACTORY);
+        assertThat(removedKeys(removedGroups), containsInAnyOrder("a"));
+        assertThat(removedGroups.get(0).getStartTime(), equalTo(Instant.ofEpochSecond(0, 100L)));
+        assertThat(objectUnderTest.size(), equalTo(0));
+    }
+
+    @Test
+    void removeGroupsStartedBefore_returns_empty_when_no_group_is_old_enough() {
+        final PrimitiveGroupTable objectUnderTest = new PrimitiveGroupTable(0, START_TIME_BUCKET_NANOS);
+
+        assertThat(objectUnderTest.removeGroupsStartedBefore(Long.MAX_VALUE, GROUP_STATE_FACTORY), empty());
+
+        objectUnderTest.findOrCreateGroup(1L, keyValues("a"), 100L);
+
+        assertThat(objectUnderTest.removeGroupsStartedBefore(50L, GROUP_STATE_FACTORY), empty());
+        assertThat(objectUnderTest.size(), equalTo(1));
+    }
+}
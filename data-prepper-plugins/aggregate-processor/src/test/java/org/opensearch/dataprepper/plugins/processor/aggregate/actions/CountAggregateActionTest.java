@@ -9,6 +9,7 @@ import static org.opensearch.dataprepper.test.helper.ReflectivelySetField.setFie
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.metric.JacksonMetric;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith; 
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -16,9 +17,11 @@ import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateAction;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionInput;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionResponse;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionTestUtils;
+import org.opensearch.dataprepper.plugins.processor.aggregate.PrimitiveGroupState;
 
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -27,6 +30,7 @@ import java.util.UUID;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasKey;
@@ -106,4 +110,43 @@ public class CountAggregateActionTest {
         assertThat(result.get().toMap(), hasKey("startTime"));
         assertThat(result.get().toMap(), hasKey("time"));
     }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 10, 100})
+    void testCountAggregateFromPrimitiveGroupState(int testCount) throws NoSuchFieldException, IllegalAccessException {
+        CountAggregateActionConfig countAggregateActionConfig = new CountAggregateActionConfig();
+        setField(CountAggregateActionConfig.class, countAggregateActionConfig, "outputFormat", OutputFormat.RAW.toString());
+        final CountAggregateAction objectUnderTest = new CountAggregateAction(countAggregateActionConfig);
+        final String key = UUID.randomUUID().toString();
+        final String value = UUID.randomUUID().toString();
+        final Map<Object, Object> identificationKeys = Collections.singletonMap(key, value);
+        final PrimitiveGroupState groupState = new PrimitiveGroupState(identificationKeys, testCount, 0, 0, 0, new long[0], Instant.now(), Instant.now());
+
+        assertThat(objectUnderTest.getValueKey(), nullValue());
+        assertThat(objectUnderTest.getBucketBoundaries().length, equalTo(0));
+
+        final Optional<Event> result = objectUnderTest.concludeGroup(groupState);
+        assertThat(result.isPresent(), equalTo(true));
+        assertThat(result.get().toMap(), hasEntry(key, (Object) value));
+        assertThat(result.get().toMap(), hasEntry(CountAggregateActionConfig.DEFAULT_COUNT_KEY, (Object) testCount));
+        assertThat(result.get().toMap(), hasKey(CountAggregateActionConfig.DEFAULT_START_TIME_KEY));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 10, 100})
+    void testCountAggregateOTelFormatFromPrimitiveGroupState(int testCount) {
+        final CountAggregateAction objectUnderTest = new CountAggregateAction(new CountAggregateActionConfig());
+        final Map<Object, Object> identificationKeys = Collections.singletonMap(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        final PrimitiveGroupState groupState = new PrimitiveGroupState(identificationKeys, testCount, 0, 0, 0, new long[0], Instant.now(), Instant.now());
+
+        final Optional<Event> result = objectUnderTest.concludeGroup(groupState);
+        assertThat(result.isPresent(), equalTo(true));
+        assertThat(result.get().toMap(), hasEntry("value", (Object) (double) testCount));
+        assertThat(result.get().toMap().get("attributes"), equalTo(identificationKeys));
+    }
+
+    @Test
+    void supportsPartialAggregation_returns_true() {
+        assertThat(createObjectUnderTest(new CountAggregateActionConfig()).supportsPartialAggregation(), equalTo(true));
+    }
 }
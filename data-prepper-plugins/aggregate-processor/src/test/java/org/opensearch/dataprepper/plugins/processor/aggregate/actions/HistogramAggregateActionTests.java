@@ -16,10 +16,12 @@ import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateAction;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionInput;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionResponse;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionTestUtils;
+import org.opensearch.dataprepper.plugins.processor.aggregate.PrimitiveGroupState;
 
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.apache.commons.lang3.RandomStringUtils;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -230,4 +232,40 @@ public class HistogramAggregateActionTests {
             }
         }
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"raw", "otel_metrics"})
+    void testHistogramAggregateFromPrimitiveGroupState(final String outputFormat) throws NoSuchFieldException, IllegalAccessException {
+        HistogramAggregateActionConfig histogramAggregateActionConfig = new HistogramAggregateActionConfig();
+        setField(HistogramAggregateActionConfig.class, histogramAggregateActionConfig, "outputFormat", outputFormat);
+        setField(HistogramAggregateActionConfig.class, histogramAggregateActionConfig, "recordMinMax", true);
+        setField(HistogramAggregateActionConfig.class, histogramAggregateActionConfig, "buckets", Arrays.asList(0.0, 2.0));
+        final String testKey = RandomStringUtils.randomAlphabetic(10);
+        setField(HistogramAggregateActionConfig.class, histogramAggregateActionConfig, "key", testKey);
+        final HistogramAggregateAction objectUnderTest = new HistogramAggregateAction(histogramAggregateActionConfig);
+
+        assertThat(objectUnderTest.getValueKey(), equalTo(testKey));
+        assertThat(objectUnderTest.getBucketBoundaries(), equalTo(new double[] {-Float.MAX_VALUE, 0.0, 2.0, Float.MAX_VALUE}));
+
+        final Map<Object, Object> identificationKeys = Collections.singletonMap(RandomStringUtils.randomAlphabetic(5), RandomStringUtils.randomAlphabetic(5));
+        final Instant startTime = Instant.now();
+        final PrimitiveGroupState groupState = new PrimitiveGroupState(identificationKeys, 4, 5.0, -1.0, 3.0,
+                new long[] {1L, 2L, 1L}, startTime, startTime.plusSeconds(1));
+
+        final Optional<Event> result = objectUnderTest.concludeGroup(groupState);
+        assertThat(result.isPresent(), equalTo(true));
+        final Map<String, Object> resultMap = result.get().toMap();
+        if (outputFormat.equals(OutputFormat.RAW.toString())) {
+            assertThat(resultMap, hasEntry(histogramAggregateActionConfig.getCountKey(), (Object) 4));
+            assertThat(resultMap, hasEntry(histogramAggregateActionConfig.getSumKey(), (Object) 5.0));
+            assertThat(resultMap, hasEntry(histogramAggregateActionConfig.getMinKey(), (Object) -1.0));
+            assertThat(resultMap, hasEntry(histogramAggregateActionConfig.getMaxKey(), (Object) 3.0));
+            assertThat(resultMap.get(histogramAggregateActionConfig.getBucketCountsKey()), equalTo(Arrays.asList(1L, 2L, 1L)));
+        } else {
+            assertThat(resultMap, hasEntry("count", (Object) 4L));
+            assertThat(resultMap, hasEntry("sum", (Object) 5.0));
+            assertThat(resultMap, hasEntry("min", (Object) -1.0));
+            assertThat(resultMap, hasEntry("max", (Object) 3.0));
+        }
+    }
 }
@@ -101,4 +101,9 @@ public class PutAllAggregateActionTest {
         assertThat(result.get().getMetadata().getEventType(), equalTo(PutAllAggregateAction.EVENT_TYPE));
         assertThat(result.get().toMap(), equalTo(groupState));
     }
+
+    @Test
+    void supportsPartialAggregation_returns_false() {
+        assertThat(createObjectUnderTest().supportsPartialAggregation(), equalTo(false));
+    }
 }
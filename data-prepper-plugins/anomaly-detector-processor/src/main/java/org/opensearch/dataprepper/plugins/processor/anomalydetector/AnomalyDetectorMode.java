@@ -8,6 +8,7 @@ package org.opensearch.dataprepper.plugins.processor.anomalydetector;
 import java.util.List;
 import java.util.Collection;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationException;
 import org.opensearch.dataprepper.model.record.Record;
 
 /**
@@ -23,6 +24,22 @@ public interface AnomalyDetectorMode {
      */
     void initialize(List<String> keys);
 
+    /**
+     * Initializes the mode with the keys provided, keeping a separate model for each combination of values of the
+     * identification keys. Modes which do not support separate models only accept empty identification keys.
+     *
+     * @param keys List of keys which are used as dimensions in the anomaly detector
+     * @param identificationKeys List of keys whose values identify the entity an Event belongs to
+     * @since 2.2
+     */
+    default void initialize(List<String> keys, List<String> identificationKeys) {
+        if (!identificationKeys.isEmpty()) {
+            throw new InvalidPluginConfigurationException(
+                    String.format("The anomaly detector mode %s does not support identification_keys.", getClass().getSimpleName()));
+        }
+        initialize(keys);
+    }
+
     /**
      * handles a collection of records
      *
@@ -11,6 +11,7 @@ import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor
 import org.opensearch.dataprepper.model.configuration.PluginModel;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.peerforwarder.RequiresPeerForwarding;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
@@ -20,11 +21,12 @@ import java.util.Collection;
 import java.util.List;
 
 @DataPrepperPlugin(name = "anomaly_detector", pluginType = Processor.class, pluginConfigurationType = AnomalyDetectorProcessorConfig.class)
-public class AnomalyDetectorProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
+public class AnomalyDetectorProcessor extends AbstractProcessor<Record<Event>, Record<Event>> implements RequiresPeerForwarding {
     public static final String DEVIATION_KEY = "deviation_from_expected";
     public static final String GRADE_KEY = "grade";
 
     private final List<String> keys;
+    private final List<String> identificationKeys;
     private final AnomalyDetectorMode mode;
     private final AnomalyDetectorProcessorConfig anomalyDetectorProcessorConfig;
 
@@ -33,8 +35,9 @@ public class AnomalyDetectorProcessor extends AbstractProcessor<Record<Event>, R
         super(pluginMetrics);
         this.anomalyDetectorProcessorConfig = anomalyDetectorProcessorConfig;
         keys = anomalyDetectorProcessorConfig.getKeys();
+        identificationKeys = anomalyDetectorProcessorConfig.getIdentificationKeys();
         mode = loadAnomalyDetectorMode(pluginFactory);
-        mode.initialize(keys);
+        mode.initialize(keys, identificationKeys);
     }
 
     private AnomalyDetectorMode loadAnomalyDetectorMode(final PluginFactory pluginFactory) {
@@ -63,4 +66,14 @@ public class AnomalyDetectorProcessor extends AbstractProcessor<Record<Event>, R
     public void shutdown() {
 
     }
+
+    @Override
+    public Collection<String> getIdentificationKeys() {
+        return identificationKeys;
+    }
+
+    @Override
+    public boolean isPeerForwardingDisabled() {
+        return identificationKeys.isEmpty();
+    }
 }
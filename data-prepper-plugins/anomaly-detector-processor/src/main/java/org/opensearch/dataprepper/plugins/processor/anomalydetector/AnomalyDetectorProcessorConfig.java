@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 
+import java.util.Collections;
 import java.util.List;
 
 public class AnomalyDetectorProcessorConfig {
@@ -21,6 +22,9 @@ public class AnomalyDetectorProcessorConfig {
     @NotEmpty
     private List<String> keys;
 
+    @JsonProperty("identification_keys")
+    private List<String> identificationKeys = Collections.emptyList();
+
     public PluginModel getDetectorMode() { 
         return detectorMode;
     }
@@ -34,4 +38,8 @@ public class AnomalyDetectorProcessorConfig {
         return keys;
     }
 
+    public List<String> getIdentificationKeys() {
+        return identificationKeys;
+    }
+
 }
@@ -18,14 +18,20 @@ import com.amazon.randomcutforest.config.Precision;
 import com.amazon.randomcutforest.config.TransformMethod;
 import com.amazon.randomcutforest.parkservices.AnomalyDescriptor;
 import com.amazon.randomcutforest.parkservices.ThresholdedRandomCutForest;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.opensearch.dataprepper.plugins.processor.anomalydetector.AnomalyDetectorMode;
 import static org.opensearch.dataprepper.plugins.processor.anomalydetector.AnomalyDetectorProcessor.DEVIATION_KEY;
 import static org.opensearch.dataprepper.plugins.processor.anomalydetector.AnomalyDetectorProcessor.GRADE_KEY;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.ArrayList;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -39,11 +45,15 @@ public class RandomCutForestMode implements AnomalyDetectorMode {
     private static final double HORIZON_VALUE = 0.75;
     
     private ThresholdedRandomCutForest forest;
+    private Cache<List<Object>, EntityForest> entityForests;
     private int baseDimensions;
     private int sampleSize;
     private int shingleSize;
     private double timeDecay;
+    private final int maxEntities;
+    private final Duration entityIdleTimeout;
     private List<String> keys;
+    private List<String> identificationKeys;
     private final Lock processLock;
 
     private static final Logger LOG = LoggerFactory.getLogger(RandomCutForestMode.class);
@@ -53,6 +63,8 @@ public class RandomCutForestMode implements AnomalyDetectorMode {
         this.sampleSize = randomCutForestModeConfig.getSampleSize();
         this.shingleSize = randomCutForestModeConfig.getShingleSize();
         this.timeDecay = randomCutForestModeConfig.getTimeDecay();
+        this.maxEntities = randomCutForestModeConfig.getMaxEntities();
+        this.entityIdleTimeout = randomCutForestModeConfig.getEntityIdleTimeout();
         this.processLock = new ReentrantLock();
     }
     
@@ -60,11 +72,39 @@ public class RandomCutForestMode implements AnomalyDetectorMode {
     public void initialize(List<String> keys) {
         this.keys = keys;
         baseDimensions = keys.size();
+        forest = createForest();
+    }
+
+    /**
+     * Keeps one forest for each combination of identification key values. Forests are created on the first Event of
+     * an entity, and are evicted when they have been idle for the entity idle timeout or when max_entities is exceeded,
+     * least recently used first. Each forest has its own lock, so Events of different entities are scored in parallel.
+     */
+    @Override
+    public void initialize(List<String> keys, List<String> identificationKeys) {
+        if (identificationKeys.isEmpty()) {
+            initialize(keys);
+            return;
+        }
+        this.keys = keys;
+        this.identificationKeys = identificationKeys;
+        baseDimensions = keys.size();
+        entityForests = CacheBuilder.newBuilder()
+                .maximumSize(maxEntities)
+                .expireAfterAccess(entityIdleTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    long getEntityCount() {
+        return entityForests == null ? 0 : entityForests.size();
+    }
+
+    private ThresholdedRandomCutForest createForest() {
 	    Precision precision = Precision.FLOAT_32;
 	    int dimensions = baseDimensions * shingleSize;
 	    TransformMethod transformMethod = TransformMethod.NORMALIZE;
 
-	    forest = ThresholdedRandomCutForest.builder()
+	    ThresholdedRandomCutForest randomCutForest = ThresholdedRandomCutForest.builder()
                     .compact(true)
                     .dimensions(dimensions)
 			        .randomSeed(0)
@@ -78,8 +118,9 @@ public class RandomCutForestMode implements AnomalyDetectorMode {
 			        .transformMethod(transformMethod).outputAfter(TRANSFORM_OUTPUT_AFTER)
                     .timeDecay(timeDecay / sampleSize)
 			        .initialAcceptFraction(INITIAL_ACCEPT_FRACTION).build();
-	    forest.setLowerThreshold(LOWER_THRESHOLD);
-	    forest.setHorizon(HORIZON_VALUE);
+	    randomCutForest.setLowerThreshold(LOWER_THRESHOLD);
+	    randomCutForest.setHorizon(HORIZON_VALUE);
+	    return randomCutForest;
     }
     
     @Override
@@ -115,16 +156,8 @@ public class RandomCutForestMode implements AnomalyDetectorMode {
             if (notFound) {
                 continue;
             }
-            AnomalyDescriptor result = null;
-
-            processLock.lock();
-            try {
-                result = forest.process(points, timeStamp);
-            } catch (final Exception e) {
-                LOG.debug("Error while processing the event in RCF: ", e);
-            } finally {
-                processLock.unlock();
-            }
+            final AnomalyDescriptor result = identificationKeys == null ?
+                    process(forest, processLock, points, timeStamp) : processForEntity(event, points, timeStamp);
             if ((result != null) && (result.getAnomalyGrade() != 0) && (result.isExpectedValuesPresent())) {
                 double deviations[] = new double[keys.size()];
                 if (result.getRelativeIndex() != 0 && result.isStartOfAnomaly()) {
@@ -143,5 +176,41 @@ public class RandomCutForestMode implements AnomalyDetectorMode {
         }
         return recordsOut;
     }
+
+    private AnomalyDescriptor process(final ThresholdedRandomCutForest forest, final Lock lock, final double[] points, final int timeStamp) {
+        lock.lock();
+        try {
+            return forest.process(points, timeStamp);
+        } catch (final Exception e) {
+            LOG.debug("Error while processing the event in RCF: ", e);
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private AnomalyDescriptor processForEntity(final Event event, final double[] points, final int timeStamp) {
+        final Object[] entity = new Object[identificationKeys.size()];
+        for (int i = 0; i < entity.length; i++) {
+            entity[i] = event.get(identificationKeys.get(i), Object.class);
+        }
+        final EntityForest entityForest;
+        try {
+            entityForest = entityForests.get(Arrays.asList(entity), () -> new EntityForest(createForest()));
+        } catch (final ExecutionException | RuntimeException e) {
+            LOG.debug("Error while processing the event in RCF: ", e);
+            return null;
+        }
+        return process(entityForest.forest, entityForest.lock, points, timeStamp);
+    }
+
+    private static class EntityForest {
+        private final ThresholdedRandomCutForest forest;
+        private final Lock lock = new ReentrantLock();
+
+        private EntityForest(final ThresholdedRandomCutForest forest) {
+            this.forest = forest;
+        }
+    }
 }
 
@@ -7,6 +7,7 @@ package org.opensearch.dataprepper.plugins.processor.anomalydetector.modes;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.time.Duration;
 import java.util.Set;
 import java.util.HashSet;
 
@@ -20,6 +21,9 @@ public class RandomCutForestModeConfig {
     public static final double DEFAULT_TIME_DECAY = 0.1;
     private static final double MIN_TIME_DECAY = 0.0;
     public static final double MAX_TIME_DECAY = 1.0;
+    public static final int DEFAULT_MAX_ENTITIES = 1000;
+    private static final int MIN_MAX_ENTITIES = 1;
+    public static final Duration DEFAULT_ENTITY_IDLE_TIMEOUT = Duration.ofMinutes(30);
 
     public static final String VERSION_1_0 = "1.0";
 
@@ -42,6 +46,12 @@ public class RandomCutForestModeConfig {
     @JsonProperty("time_decay")
     private double timeDecay = DEFAULT_TIME_DECAY;
 
+    @JsonProperty("max_entities")
+    private int maxEntities = DEFAULT_MAX_ENTITIES;
+
+    @JsonProperty("entity_idle_timeout")
+    private Duration entityIdleTimeout = DEFAULT_ENTITY_IDLE_TIMEOUT;
+
     public int getShingleSize() {
         if (shingleSize < MIN_SHINGLE_SIZE || shingleSize > MAX_SHINGLE_SIZE) {
             throw new IllegalArgumentException(String.format("Shingle size of %d is not valid, valid range is %d - %d", shingleSize, MIN_SHINGLE_SIZE, MAX_SHINGLE_SIZE));
@@ -63,6 +73,20 @@ public class RandomCutForestModeConfig {
         return timeDecay;
     }
 
+    public int getMaxEntities() {
+        if (maxEntities < MIN_MAX_ENTITIES) {
+            throw new IllegalArgumentException(String.format("Max entities of %d is not valid, it must be at least %d", maxEntities, MIN_MAX_ENTITIES));
+        }
+        return maxEntities;
+    }
+
+    public Duration getEntityIdleTimeout() {
+        if (entityIdleTimeout.isNegative() || entityIdleTimeout.isZero()) {
+            throw new IllegalArgumentException(String.format("Entity idle timeout of %s is not valid, it must be positive", entityIdleTimeout));
+        }
+        return entityIdleTimeout;
+    }
+
     public String getType() {
         if (!validTypes.contains(type)) {
             throw new IllegalArgumentException("Unknown type " + type);
@@ -14,6 +14,7 @@ import java.util.UUID;
 import static org.opensearch.dataprepper.test.helper.ReflectivelySetField.setField;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
 import static org.junit.Assert.assertThrows;
 
 public class AnomalyDetectorProcessorConfigTests {
@@ -49,4 +50,9 @@ public class AnomalyDetectorProcessorConfigTests {
         assertThrows(IllegalArgumentException.class, () -> anomalyDetectorProcessorConfig.getKeys());
     }
 
+    @Test
+    public void testDefaultIdentificationKeys() {
+        final AnomalyDetectorProcessorConfig anomalyDetectorProcessorConfig = new AnomalyDetectorProcessorConfig();
+        assertThat(anomalyDetectorProcessorConfig.getIdentificationKeys(), empty());
+    }
 }
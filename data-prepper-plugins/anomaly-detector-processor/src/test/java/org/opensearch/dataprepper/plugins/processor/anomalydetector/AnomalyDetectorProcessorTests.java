@@ -11,6 +11,7 @@ import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationException;
 import org.opensearch.dataprepper.model.plugin.PluginFactory;
 
 import org.junit.jupiter.api.Test;
@@ -21,6 +22,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -32,6 +34,7 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertThrows;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.Mockito.when;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -221,4 +224,67 @@ public class AnomalyDetectorProcessorTests {
         }
         assertThrows(RuntimeException.class, () -> anomalyDetectorProcessor.doExecute(records));
     }
+
+    @Test
+    void testAnomalyDetectorProcessorIdentificationKeys() {
+        final List<String> identificationKeys = Collections.singletonList("host");
+        when(mockConfig.getKeys()).thenReturn(new ArrayList<String>(Collections.singleton("latency")));
+        when(mockConfig.getIdentificationKeys()).thenReturn(identificationKeys);
+        RandomCutForestModeConfig randomCutForestModeConfig = new RandomCutForestModeConfig();
+        AnomalyDetectorMode anomalyDetectorMode = new RandomCutForestMode(randomCutForestModeConfig);
+
+        when(mockConfig.getDetectorMode()).thenReturn(modeConfiguration);
+        when(modeConfiguration.getPluginName()).thenReturn(UUID.randomUUID().toString());
+        when(modeConfiguration.getPluginSettings()).thenReturn(Collections.emptyMap());
+
+        when(pluginFactory.loadPlugin(eq(AnomalyDetectorMode.class), any(PluginSetting.class)))
+                .thenReturn(anomalyDetectorMode);
+        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory);
+
+        assertThat(anomalyDetectorProcessor.getIdentificationKeys(), sameInstance(identificationKeys));
+        assertThat(anomalyDetectorProcessor.isPeerForwardingDisabled(), equalTo(false));
+    }
+
+    @Test
+    void testAnomalyDetectorProcessorWithoutIdentificationKeysDisablesPeerForwarding() {
+        when(mockConfig.getKeys()).thenReturn(new ArrayList<String>(Collections.singleton("latency")));
+        when(mockConfig.getIdentificationKeys()).thenReturn(Collections.emptyList());
+        RandomCutForestModeConfig randomCutForestModeConfig = new RandomCutForestModeConfig();
+        AnomalyDetectorMode anomalyDetectorMode = new RandomCutForestMode(randomCutForestModeConfig);
+
+        when(mockConfig.getDetectorMode()).thenReturn(modeConfiguration);
+        when(modeConfiguration.getPluginName()).thenReturn(UUID.randomUUID().toString());
+        when(modeConfiguration.getPluginSettings()).thenReturn(Collections.emptyMap());
+
+        when(pluginFactory.loadPlugin(eq(AnomalyDetectorMode.class), any(PluginSetting.class)))
+                .thenReturn(anomalyDetectorMode);
+        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory);
+
+        assertThat(anomalyDetectorProcessor.isPeerForwardingDisabled(), equalTo(true));
+    }
+
+    @Test
+    void testAnomalyDetectorProcessorIdentificationKeysWithUnsupportedMode() {
+        when(mockConfig.getKeys()).thenReturn(new ArrayList<String>(Collections.singleton("latency")));
+        when(mockConfig.getIdentificationKeys()).thenReturn(Collections.singletonList("host"));
+        AnomalyDetectorMode anomalyDetectorMode = new AnomalyDetectorMode() {
+            @Override
+            public void initialize(List<String> keys) {
+            }
+
+            @Override
+            public Collection<Record<Event>> handleEvents(Collection<Record<Event>> records) {
+                return records;
+            }
+        };
+
+        when(mockConfig.getDetectorMode()).thenReturn(modeConfiguration);
+        when(modeConfiguration.getPluginName()).thenReturn(UUID.randomUUID().toString());
+        when(modeConfiguration.getPluginSettings()).thenReturn(Collections.emptyMap());
+
+        when(pluginFactory.loadPlugin(eq(AnomalyDetectorMode.class), any(PluginSetting.class)))
+                .thenReturn(anomalyDetectorMode);
+
+        assertThrows(InvalidPluginConfigurationException.class, () -> new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory));
+    }
 }
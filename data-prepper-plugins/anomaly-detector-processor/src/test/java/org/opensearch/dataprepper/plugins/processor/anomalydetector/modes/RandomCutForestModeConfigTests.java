@@ -7,6 +7,7 @@ package org.opensearch.dataprepper.plugins.processor.anomalydetector.modes;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.UUID;
 
 import static org.opensearch.dataprepper.test.helper.ReflectivelySetField.setField;
@@ -30,6 +31,22 @@ public class RandomCutForestModeConfigTests {
         assertThat(randomCutForestModeConfig.getTimeDecay(), equalTo(DEFAULT_TIME_DECAY));
         assertThat(randomCutForestModeConfig.getType(), equalTo(RandomCutForestType.METRICS.toString()));
         assertThat(randomCutForestModeConfig.getVersion(), equalTo(VERSION_1_0));
+        assertThat(randomCutForestModeConfig.getMaxEntities(), equalTo(RandomCutForestModeConfig.DEFAULT_MAX_ENTITIES));
+        assertThat(randomCutForestModeConfig.getEntityIdleTimeout(), equalTo(RandomCutForestModeConfig.DEFAULT_ENTITY_IDLE_TIMEOUT));
+    }
+
+    @Test
+    public void testInvalidConfigMaxEntities() throws NoSuchFieldException, IllegalAccessException {
+        final RandomCutForestModeConfig randomCutForestModeConfig = new RandomCutForestModeConfig();
+        setField(RandomCutForestModeConfig.class, randomCutForestModeConfig, "maxEntities", 0);
+        assertThrows(IllegalArgumentException.class, () -> randomCutForestModeConfig.getMaxEntities());
+    }
+
+    @Test
+    public void testInvalidConfigEntityIdleTimeout() throws NoSuchFieldException, IllegalAccessException {
+        final RandomCutForestModeConfig randomCutForestModeConfig = new RandomCutForestModeConfig();
+        setField(RandomCutForestModeConfig.class, randomCutForestModeConfig, "entityIdleTimeout", Duration.ZERO);
+        assertThrows(IllegalArgumentException.class, () -> randomCutForestModeConfig.getEntityIdleTimeout());
     }
 
     @Test
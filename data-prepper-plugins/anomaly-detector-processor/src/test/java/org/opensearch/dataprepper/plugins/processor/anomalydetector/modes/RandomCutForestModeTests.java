@@ -21,6 +21,7 @@ import static java.util.stream.Collectors.toList;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.opensearch.dataprepper.test.helper.ReflectivelySetField.setField;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
@@ -108,4 +109,55 @@ public class RandomCutForestModeTests {
         double grade = (double)event.get(GRADE_KEY, Double.class);
         assertThat(grade, equalTo(1.0));
     }
+
+    private Record<Event> getHostLatencyMessage(String host, double latency) {
+        final Map<String, Object> testData = new HashMap();
+        testData.put("host", host);
+        testData.put("latency", latency);
+        return buildRecordWithEvent(testData);
+    }
+
+    @Test
+    void testRandomCutForestModeWithIdentificationKeysKeepsForestPerEntity() {
+        randomCutForestMode.initialize(Collections.singletonList("latency"), Collections.singletonList("host"));
+        final int numSamples = 1024;
+        List<Record<Event>> records = new ArrayList<Record<Event>>();
+        for (int i = 0; i < numSamples; i++) {
+            records.add(getHostLatencyMessage("low", ThreadLocalRandom.current().nextDouble(0.5, 0.6)));
+            records.add(getHostLatencyMessage("high", ThreadLocalRandom.current().nextDouble(10.4, 10.8)));
+        }
+        randomCutForestMode.handleEvents(records);
+        assertThat(randomCutForestMode.getEntityCount(), equalTo(2L));
+
+        final Record<Event> normalRecord = getHostLatencyMessage("high", ThreadLocalRandom.current().nextDouble(10.4, 10.8));
+        final Record<Event> anomalyRecord = getHostLatencyMessage("low", ThreadLocalRandom.current().nextDouble(10.4, 10.8));
+        final List<Record<Event>> anomalyRecords = randomCutForestMode.handleEvents(List.of(normalRecord, anomalyRecord)).stream().collect(toList());
+
+        assertThat(anomalyRecords.size(), equalTo(1));
+        assertThat(anomalyRecords.get(0), equalTo(anomalyRecord));
+        List<Double> deviation = anomalyRecords.get(0).getData().get(DEVIATION_KEY, List.class);
+        assertThat((double)deviation.get(0), greaterThan(9.0));
+    }
+
+    @Test
+    void testRandomCutForestModeWithIdentificationKeysEvictsLeastRecentlyUsedEntities() throws NoSuchFieldException, IllegalAccessException {
+        setField(RandomCutForestModeConfig.class, randomCutForestModeConfig, "maxEntities", 2);
+        randomCutForestMode = new RandomCutForestMode(randomCutForestModeConfig);
+        randomCutForestMode.initialize(Collections.singletonList("latency"), Collections.singletonList("host"));
+
+        for (int i = 0; i < 10; i++) {
+            randomCutForestMode.handleEvents(Collections.singletonList(getHostLatencyMessage(UUID.randomUUID().toString(), 0.5)));
+        }
+
+        assertThat(randomCutForestMode.getEntityCount(), equalTo(2L));
+    }
+
+    @Test
+    void testRandomCutForestModeWithEmptyIdentificationKeysUsesSingleForest() {
+        randomCutForestMode.initialize(Collections.singletonList("latency"), Collections.emptyList());
+
+        randomCutForestMode.handleEvents(Collections.singletonList(getHostLatencyMessage(UUID.randomUUID().toString(), 0.5)));
+
+        assertThat(randomCutForestMode.getEntityCount(), equalTo(0L));
+    }
 }
@@ -5,10 +5,12 @@
 
 package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
 
+import org.opensearch.dataprepper.metrics.MetricsMode;
 import org.opensearch.dataprepper.model.CheckpointState;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.buffer.AbstractBuffer;
 import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.buffer.BufferByteCapacity;
 import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.record.Record;
@@ -23,12 +25,14 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static java.lang.String.format;
 
@@ -38,7 +42,9 @@ import static java.lang.String.format;
  * not provided); {@link #write(Record, int)} inserts specified non-null record into this buffer, waiting up to the
  * specified timeout in milliseconds if necessary for space to become available; and throws an exception if the
  * record is null. {@link #read(int)} retrieves and removes the batch of records from the head of the queue. The
- * batch size is defined/determined by the configuration attribute {@link #ATTRIBUTE_BATCH_SIZE} or the timeout parameter
+ * batch size is defined/determined by the configuration attribute {@link #ATTRIBUTE_BATCH_SIZE} or the timeout parameter.
+ * If {@link #ATTRIBUTE_MAX_BUFFER_BYTES} is provided, the buffer is also bounded by the estimated size of its records in
+ * bytes, see {@link BufferByteCapacity}.
  */
 @DataPrepperPlugin(name = "bounded_blocking", pluginType = Buffer.class)
 public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
@@ -48,8 +54,11 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
     private static final String PLUGIN_NAME = "bounded_blocking";
     private static final String ATTRIBUTE_BUFFER_CAPACITY = "buffer_size";
     private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+    private static final String ATTRIBUTE_MAX_BUFFER_BYTES = "max_buffer_bytes";
     private static final String BLOCKING_BUFFER = "BlockingBuffer";
     private static final String BUFFER_USAGE_METRIC = "bufferUsage";
+    private static final String BYTES_IN_BUFFER_METRIC = "bytesInBuffer";
+    private static final String BUFFER_BYTES_USAGE_METRIC = "bufferBytesUsage";
     private final int bufferCapacity;
     private final int batchSize;
     private final AtomicDouble bufferUsage;
@@ -57,6 +66,7 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
     private final String pipelineName;
 
     private final Semaphore capacitySemaphore;
+    private final BufferByteCapacity byteCapacity;
 
     /**
      * Creates a BlockingBuffer with the given (fixed) capacity.
@@ -66,13 +76,40 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
      * @param pipelineName   the name of the associated Pipeline
      */
     public BlockingBuffer(final int bufferCapacity, final int batchSize, final String pipelineName) {
-        super(BLOCKING_BUFFER, pipelineName);
+        this(bufferCapacity, batchSize, 0, pipelineName);
+    }
+
+    /**
+     * Creates a BlockingBuffer with the given (fixed) capacity in records and in bytes.
+     *
+     * @param bufferCapacity the capacity of the buffer
+     * @param batchSize      the batch size for {@link #read(int)}
+     * @param maxBufferBytes the capacity of the buffer in estimated bytes, or 0 for no limit
+     * @param pipelineName   the name of the associated Pipeline
+     */
+    public BlockingBuffer(final int bufferCapacity, final int batchSize, final long maxBufferBytes, final String pipelineName) {
+        this(bufferCapacity, batchSize, maxBufferBytes, pipelineName, MetricsMode.STANDARD);
+    }
+
+    private BlockingBuffer(final int bufferCapacity, final int batchSize, final long maxBufferBytes,
+                           final String pipelineName, final MetricsMode metricsMode) {
+        super(BLOCKING_BUFFER, pipelineName, metricsMode);
         bufferUsage = pluginMetrics.gauge(BUFFER_USAGE_METRIC, new AtomicDouble());
         this.bufferCapacity = bufferCapacity;
         this.batchSize = batchSize;
         this.blockingQueue = new LinkedBlockingQueue<>(bufferCapacity);
         this.capacitySemaphore = new Semaphore(bufferCapacity);
         this.pipelineName = pipelineName;
+        if (maxBufferBytes < 0) {
+            throw new IllegalArgumentException(format("%s must be a non-negative number", ATTRIBUTE_MAX_BUFFER_BYTES));
+        }
+        if (maxBufferBytes > 0) {
+            byteCapacity = new BufferByteCapacity(maxBufferBytes);
+            pluginMetrics.gauge(BYTES_IN_BUFFER_METRIC, byteCapacity, BufferByteCapacity::getBytesInUse);
+            pluginMetrics.gauge(BUFFER_BYTES_USAGE_METRIC, byteCapacity, BufferByteCapacity::getUsage);
+        } else {
+            byteCapacity = null;
+        }
     }
 
     /**
@@ -88,7 +125,9 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
         this(checkNotNull(pluginSetting, "PluginSetting cannot be null")
                         .getIntegerOrDefault(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY),
                 pluginSetting.getIntegerOrDefault(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE),
-                pluginSetting.getPipelineName());
+                pluginSetting.getLongOrDefault(ATTRIBUTE_MAX_BUFFER_BYTES, 0),
+                pluginSetting.getPipelineName(),
+                pluginSetting.getMetricsMode());
     }
 
     public BlockingBuffer(final String pipelineName) {
@@ -97,12 +136,17 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
 
     @Override
     public void doWrite(T record, int timeoutInMillis) throws TimeoutException {
+        final long startNanos = System.nanoTime();
         try {
             final boolean permitAcquired = capacitySemaphore.tryAcquire(timeoutInMillis, TimeUnit.MILLISECONDS);
             if (!permitAcquired) {
                 throw new TimeoutException(format("Pipeline [%s] - Buffer is full, timed out waiting for a slot",
                         pipelineName));
             }
+            if (byteCapacity != null && !tryAcquireBytes(BufferByteCapacity.estimateSize(record), 1, startNanos, timeoutInMillis)) {
+                throw new TimeoutException(format("Pipeline [%s] - Buffer is full, timed out waiting for bytes",
+                        pipelineName));
+            }
             blockingQueue.offer(record);
         } catch (InterruptedException ex) {
             LOG.error("Pipeline [{}] - Buffer is full, interrupted while waiting to write the record", pipelineName, ex);
@@ -116,6 +160,11 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
         if (size > bufferCapacity) {
             throw new SizeOverflowException(format("Buffer capacity too small for the size of records: %d", size));
         }
+        final long bytes = byteCapacity != null ? BufferByteCapacity.estimateSize(records) : 0;
+        if (byteCapacity != null && !byteCapacity.fits(bytes)) {
+            throw new SizeOverflowException(format("Buffer capacity too small for the bytes of records: %d", bytes));
+        }
+        final long startNanos = System.nanoTime();
         try {
             final boolean permitAcquired = capacitySemaphore.tryAcquire(size, timeoutInMillis, TimeUnit.MILLISECONDS);
             if (!permitAcquired) {
@@ -124,6 +173,12 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
                                         "timed out waiting for slots.",
                         pipelineName, size));
             }
+            if (byteCapacity != null && !tryAcquireBytes(bytes, size, startNanos, timeoutInMillis)) {
+                throw new TimeoutException(
+                        format("Pipeline [%s] - Buffer does not have enough capacity left for the bytes of records: %d, " +
+                                        "timed out waiting for bytes.",
+                        pipelineName, bytes));
+            }
             blockingQueue.addAll(records);
         } catch (InterruptedException ex) {
             LOG.error("Pipeline [{}] - Buffer does not have enough capacity left for the size of records: {}, " +
@@ -136,6 +191,24 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
         }
     }
 
+    /**
+     * Acquires the bytes of records whose slots were acquired, waiting for what is left of the timeout of the write.
+     * The slots are released if the bytes are not acquired, also when the thread is interrupted.
+     */
+    private boolean tryAcquireBytes(final long bytes, final int slots, final long startNanos, final int timeoutInMillis)
+            throws InterruptedException {
+        boolean bytesAcquired = false;
+        try {
+            final long remainingMillis = timeoutInMillis - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            bytesAcquired = byteCapacity.tryAcquire(bytes, remainingMillis);
+            return bytesAcquired;
+        } finally {
+            if (!bytesAcquired) {
+                capacitySemaphore.release(slots);
+            }
+        }
+    }
+
     /**
      * Retrieves and removes the batch of records from the head of the queue. The batch size is defined/determined by
      * the configuration attribute {@link #ATTRIBUTE_BATCH_SIZE} or the @param timeoutInMillis. The timeoutInMillis
@@ -146,6 +219,22 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
      */
     @Override
     public Map.Entry<Collection<T>, CheckpointState> doRead(int timeoutInMillis) {
+        return doRead(timeoutInMillis, batchSize);
+    }
+
+    /**
+     * Retrieves and removes a batch of at most maxBatchSize records from the head of the queue, which replaces the
+     * configured {@link #ATTRIBUTE_BATCH_SIZE} for this read.
+     *
+     * @param timeoutInMillis how long to wait before giving up
+     * @param maxBatchSize    the maximum number of records to read
+     * @return The earliest batch of records in the buffer which are still not read.
+     */
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> doRead(final int timeoutInMillis, final int maxBatchSize) {
+        checkArgument(maxBatchSize > 0, "maxBatchSize must be a positive number");
+        // A batch can never hold more records than the buffer.
+        final int batchSize = Math.min(maxBatchSize, bufferCapacity);
         final List<T> records = new ArrayList<>(batchSize);
         int recordsRead = 0;
 
@@ -172,7 +261,9 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
             }
         }
 
-        final CheckpointState checkpointState = new CheckpointState(recordsRead);
+        final CheckpointState checkpointState = byteCapacity != null
+                ? new CheckpointState(recordsRead, BufferByteCapacity.estimateSize(records))
+                : new CheckpointState(recordsRead);
         return new AbstractMap.SimpleEntry<>(records, checkpointState);
     }
 
@@ -209,10 +300,27 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
     public void doCheckpoint(final CheckpointState checkpointState) {
         final int numCheckedRecords = checkpointState.getNumRecordsToBeChecked();
         capacitySemaphore.release(numCheckedRecords);
+        if (byteCapacity != null) {
+            byteCapacity.release(checkpointState.getNumBytesToBeChecked(),
+                    () -> capacitySemaphore.availablePermits() == bufferCapacity);
+        }
     }
 
     @Override
     public boolean isEmpty() {
         return blockingQueue.isEmpty() && getRecordsInFlight() == 0;
     }
+
+    /**
+     * Gets how full the buffer is, by the records waiting to be read or by the estimated bytes it holds if it is
+     * bounded by {@link #ATTRIBUTE_MAX_BUFFER_BYTES}, whichever is fuller.
+     *
+     * @return the fraction of the capacity of the buffer in use, from 0 to 1
+     */
+    @Override
+    public Optional<Double> getFillRatio() {
+        final double recordsRatio = (double) blockingQueue.size() / bufferCapacity;
+        final double bytesRatio = byteCapacity != null ? Math.min(1.0, byteCapacity.getUsage() / 100) : 0;
+        return Optional.of(Math.max(recordsRatio, bytesRatio));
+    }
 }
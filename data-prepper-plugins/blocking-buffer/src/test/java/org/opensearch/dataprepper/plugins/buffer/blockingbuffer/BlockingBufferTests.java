@@ -11,6 +11,8 @@ import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.metrics.MetricNames;
+import org.opensearch.dataprepper.metrics.MetricsMode;
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
@@ -27,17 +29,20 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Random;
 import java.util.StringJoiner;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -47,12 +52,14 @@ import static org.junit.Assert.assertTrue;
 public class BlockingBufferTests {
     private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
     private static final String ATTRIBUTE_BUFFER_SIZE = "buffer_size";
+    private static final String ATTRIBUTE_MAX_BUFFER_BYTES = "max_buffer_bytes";
     private static final String TEST_PIPELINE_NAME = "test-pipeline";
     private static final String PLUGIN_NAME = "BlockingBuffer";
     private static final int TEST_BATCH_SIZE = 3;
     private static final int TEST_BUFFER_SIZE = 13;
     private static final int TEST_WRITE_TIMEOUT = 1_00;
     private static final int TEST_BATCH_READ_TIMEOUT = 5_000;
+    private static final int TEST_RECORD_BYTES = UUID.randomUUID().toString().length();
     private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor();
 
     @BeforeEach
@@ -69,6 +76,30 @@ public class BlockingBufferTests {
         assertThat(blockingBuffer, notNullValue());
     }
 
+    @Test
+    public void testLowOverheadMetricsModeFromPluginSetting() throws TimeoutException {
+        final String pipelineName = UUID.randomUUID().toString();
+        final PluginSetting pluginSetting = completePluginSettingForBlockingBuffer();
+        pluginSetting.setPipelineName(pipelineName);
+        pluginSetting.setMetricsMode(MetricsMode.LOW_OVERHEAD);
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(pluginSetting);
+
+        blockingBuffer.write(new Record<>(UUID.randomUUID().toString()), TEST_WRITE_TIMEOUT);
+        blockingBuffer.write(new Record<>(UUID.randomUUID().toString()), TEST_WRITE_TIMEOUT);
+        blockingBuffer.checkpoint(blockingBuffer.read(TEST_BATCH_READ_TIMEOUT).getValue());
+
+        final String recordsWritten = new StringJoiner(MetricNames.DELIMITER)
+                .add(pipelineName).add(PLUGIN_NAME).add(MetricNames.RECORDS_WRITTEN).toString();
+        final String writeTimeElapsed = new StringJoiner(MetricNames.DELIMITER)
+                .add(pipelineName).add(PLUGIN_NAME).add(MetricNames.WRITE_TIME_ELAPSED).toString();
+        final FunctionCounter recordsWrittenCounter = Metrics.globalRegistry.find(recordsWritten).functionCounter();
+        assertThat(recordsWrittenCounter, is(notNullValue()));
+        assertThat(recordsWrittenCounter.count(), is(2.0));
+        assertThat(Metrics.globalRegistry.find(recordsWritten).counter(), is(nullValue()));
+        assertThat(Metrics.globalRegistry.find(writeTimeElapsed).functionTimer(), is(notNullValue()));
+        assertThat(Metrics.globalRegistry.find(writeTimeElapsed).timer(), is(nullValue()));
+    }
+
     @Test
     public void testCreationUsingNullPluginSetting() {
         try {
@@ -230,6 +261,64 @@ public class BlockingBufferTests {
         verifyBufferUsageMetric(0.0);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {0, TEST_BATCH_READ_TIMEOUT})
+    public void testBatchReadWithMaxBatchSize(final int readTimeout) throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        blockingBuffer.writeAll(generateBatchRecords(5), TEST_WRITE_TIMEOUT);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> smallerReadResult = blockingBuffer.read(readTimeout, 1);
+        assertThat(smallerReadResult.getKey().size(), is(1));
+        assertThat(smallerReadResult.getValue().getNumRecordsToBeChecked(), is(1));
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> largerReadResult = blockingBuffer.read(readTimeout, 4);
+        assertThat(largerReadResult.getKey().size(), is(4));
+        assertThat(largerReadResult.getValue().getNumRecordsToBeChecked(), is(4));
+        verifyBufferUsageMetric(0.0);
+    }
+
+    @Test
+    public void testBatchReadWithMaxBatchSizeLargerThanTheBuffer() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        blockingBuffer.writeAll(generateBatchRecords(TEST_BUFFER_SIZE), TEST_WRITE_TIMEOUT);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult =
+                blockingBuffer.read(TEST_BATCH_READ_TIMEOUT, Integer.MAX_VALUE);
+        assertThat(readResult.getKey().size(), is(TEST_BUFFER_SIZE));
+    }
+
+    @Test
+    public void testBatchReadWithInvalidMaxBatchSize() {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        assertThrows(IllegalArgumentException.class, () -> blockingBuffer.read(TEST_BATCH_READ_TIMEOUT, 0));
+    }
+
+    @Test
+    public void testFillRatio() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        assertThat(blockingBuffer.getFillRatio(), equalTo(Optional.of(0.0)));
+
+        blockingBuffer.writeAll(generateBatchRecords(5), TEST_WRITE_TIMEOUT);
+        assertThat(blockingBuffer.getFillRatio(), equalTo(Optional.of(5.0 / TEST_BUFFER_SIZE)));
+
+        blockingBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(blockingBuffer.getFillRatio(), equalTo(Optional.of(2.0 / TEST_BUFFER_SIZE)));
+    }
+
+    @Test
+    public void testFillRatioWithMaxBufferBytes() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE,
+                4L * TEST_RECORD_BYTES, TEST_PIPELINE_NAME);
+        blockingBuffer.writeAll(generateBatchRecords(2), TEST_WRITE_TIMEOUT);
+        assertThat(blockingBuffer.getFillRatio(), equalTo(Optional.of(0.5)));
+
+        blockingBuffer.checkpoint(blockingBuffer.read(TEST_BATCH_READ_TIMEOUT).getValue());
+        final String largeRecord = UUID.randomUUID().toString() + UUID.randomUUID() + UUID.randomUUID() +
+                UUID.randomUUID() + UUID.randomUUID();
+        blockingBuffer.write(new Record<>(largeRecord), TEST_WRITE_TIMEOUT);
+        assertThat(blockingBuffer.getFillRatio(), equalTo(Optional.of(1.0)));
+    }
+
     @Test
     public void testBufferIsEmpty() {
         final PluginSetting completePluginSetting = completePluginSettingForBlockingBuffer();
@@ -303,6 +392,96 @@ public class BlockingBufferTests {
         assertThat(checkpointState.getNumRecordsToBeChecked(), is(1));
     }
 
+    @Test
+    public void testCreationUsingPluginSettingWithMaxBufferBytes() {
+        final PluginSetting pluginSetting = completePluginSettingForBlockingBuffer();
+        pluginSetting.getSettings().put(ATTRIBUTE_MAX_BUFFER_BYTES, 1024L);
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(pluginSetting);
+        verifyBufferBytesMetrics(0, 0.0);
+        assertThat(blockingBuffer.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testCreationWithNegativeMaxBufferBytes() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BlockingBuffer<Record<String>>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, -1, TEST_PIPELINE_NAME));
+    }
+
+    @Test
+    public void testWriteAllBytesOverflow() {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE,
+                2L * TEST_RECORD_BYTES, TEST_PIPELINE_NAME);
+        final Collection<Record<String>> testRecords = generateBatchRecords(3);
+        assertThrows(SizeOverflowException.class, () -> blockingBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT));
+        verifyBufferBytesMetrics(0, 0.0);
+    }
+
+    @Test
+    public void testWriteTimesOutWhenBytesAreFull() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE,
+                2L * TEST_RECORD_BYTES, TEST_PIPELINE_NAME);
+        blockingBuffer.writeAll(generateBatchRecords(2), TEST_WRITE_TIMEOUT);
+        verifyBufferBytesMetrics(2 * TEST_RECORD_BYTES, 100.0);
+
+        assertThrows(TimeoutException.class, () -> blockingBuffer.write(new Record<>("TIMEOUT"), TEST_WRITE_TIMEOUT));
+        assertThrows(TimeoutException.class, () -> blockingBuffer.writeAll(generateBatchRecords(1), TEST_WRITE_TIMEOUT));
+        verifyBufferBytesMetrics(2 * TEST_RECORD_BYTES, 100.0);
+        verifyBufferUsageMetric((double) 2 / TEST_BUFFER_SIZE * 100);
+    }
+
+    @Test
+    public void testWriteIntoFreedBytesAfterCheckedRead() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE,
+                2L * TEST_RECORD_BYTES, TEST_PIPELINE_NAME);
+        blockingBuffer.writeAll(generateBatchRecords(2), TEST_WRITE_TIMEOUT);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = blockingBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(readResult.getKey().size(), is(2));
+        assertThat(readResult.getValue().getNumBytesToBeChecked(), is(2L * TEST_RECORD_BYTES));
+        verifyBufferBytesMetrics(2 * TEST_RECORD_BYTES, 100.0);
+
+        blockingBuffer.checkpoint(readResult.getValue());
+        verifyBufferBytesMetrics(0, 0.0);
+        blockingBuffer.write(new Record<>(UUID.randomUUID().toString()), TEST_WRITE_TIMEOUT);
+        verifyBufferBytesMetrics(TEST_RECORD_BYTES, 50.0);
+    }
+
+    @Test
+    public void testInterruptedWriteWaitingForBytesReleasesItsSlot() throws Exception {
+        final BlockingBuffer<Record<Object>> blockingBuffer = new BlockingBuffer<>(2, TEST_BATCH_SIZE,
+                TEST_RECORD_BYTES, TEST_PIPELINE_NAME);
+        blockingBuffer.write(new Record<>(UUID.randomUUID().toString()), TEST_WRITE_TIMEOUT);
+
+        final AtomicReference<Exception> writeException = new AtomicReference<>();
+        final Thread writer = new Thread(() -> {
+            try {
+                blockingBuffer.write(new Record<>(UUID.randomUUID().toString()), 60_000);
+            } catch (final Exception e) {
+                writeException.set(e);
+            }
+        });
+        writer.start();
+        while (writer.getState() != Thread.State.TIMED_WAITING) {
+            Thread.sleep(10);
+        }
+        writer.interrupt();
+        writer.join(10_000);
+        assertThat(writeException.get() instanceof TimeoutException, is(true));
+
+        // A record without bytes only needs the slot which the interrupted write released
+        blockingBuffer.write(new Record<>(42), TEST_WRITE_TIMEOUT);
+        verifyBufferBytesMetrics(TEST_RECORD_BYTES, 100.0);
+    }
+
+    @Test
+    public void testWriteOfARecordLargerThanTheBytesIntoAnEmptyBuffer() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE,
+                TEST_RECORD_BYTES, TEST_PIPELINE_NAME);
+        final String largeRecord = UUID.randomUUID().toString() + UUID.randomUUID();
+        blockingBuffer.write(new Record<>(largeRecord), TEST_WRITE_TIMEOUT);
+        verifyBufferBytesMetrics(largeRecord.length(), 200.0);
+    }
+
     @ParameterizedTest
     @ArgumentsSource(BufferValuesArgumentProvider.class)
     public void testBufferUsage(final int recordsInBuffer, final int bufferSize, final double expectedValue) throws Exception {
@@ -358,4 +537,16 @@ public class BlockingBufferTests {
         assertThat(bufferUsage, is(notNullValue()));
         assertThat(bufferUsage.value(), is(expectedBufferUsage));
     }
+
+    private void verifyBufferBytesMetrics(final double expectedBytesInBuffer, final double expectedBufferBytesUsage) {
+        final Gauge bytesInBuffer = Metrics.globalRegistry.get(new StringJoiner(MetricNames.DELIMITER)
+                        .add(TEST_PIPELINE_NAME).add(PLUGIN_NAME)
+                        .add("bytesInBuffer").toString()).gauge();
+        final Gauge bufferBytesUsage = Metrics.globalRegistry.get(new StringJoiner(MetricNames.DELIMITER)
+                        .add(TEST_PIPELINE_NAME).add(PLUGIN_NAME)
+                        .add("bufferBytesUsage").toString()).gauge();
+
+        assertThat(bytesInBuffer.value(), is(expectedBytesInBuffer));
+        assertThat(bufferBytesUsage.value(), is(expectedBufferBytesUsage));
+    }
 }
@@ -0,0 +1,285 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Writes bytes to a {@link RollingFileWriter} from a dedicated thread, so that a slow disk does not block the callers.
+ * <p>
+ * Callers append to the active buffer while the writer thread writes the other one to the file. When the writer thread
+ * finishes, it swaps the buffers. Callers wait while the active buffer holds the maximum number of bytes.
+ * <p>
+ * When a write fails, the writer thread opens the file again and rewrites the same bytes, backing off between attempts.
+ * If every attempt fails, the bytes are dropped and the next call to {@link #write(byte[])} or {@link #close()} throws,
+ * so that the loss is reported to the sink.
+ */
+class AsyncFileWriter {
+    static final String BYTES_WRITTEN = "bytesWritten";
+    static final String FILES_ROLLED = "filesRolled";
+    static final String WRITE_ERRORS = "writeErrors";
+    static final String WRITE_LATENCY = "writeLatency";
+    static final String BUFFER_WAIT_TIME = "bufferWaitTime";
+    static final String BUFFERED_BYTES = "bufferedBytes";
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncFileWriter.class);
+    private static final long CLOSE_TIMEOUT_MILLIS = 30_000;
+    static final int MAX_WRITE_ATTEMPTS = 5;
+    private static final long INITIAL_RETRY_DELAY_MILLIS = 100;
+
+    private final RollingFileWriter rollingFileWriter;
+    private final int maxBufferedBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Thread writerThread;
+    private final Counter bytesWrittenCounter;
+    private final Counter filesRolledCounter;
+    private final Counter writeErrorsCounter;
+    private final Timer writeLatencyTimer;
+    private final Timer bufferWaitTimer;
+    private final AtomicLong bufferedBytes;
+
+    private ByteArrayOutputStream activeBuffer;
+    private ByteArrayOutputStream writingBuffer;
+    private boolean closed;
+    private IOException writeFailure;
+    private int countedRolledFiles;
+
+    /**
+     * Creates the writer and starts its thread.
+     *
+     * @param rollingFileWriter The file writer, which is used only by the writer thread
+     * @param maxBufferedBytes The number of bytes in the active buffer at which callers wait
+     * @param threadName The name of the writer thread
+     * @param pluginMetrics The metrics of the sink
+     */
+    AsyncFileWriter(final RollingFileWriter rollingFileWriter, final int maxBufferedBytes, final String threadName,
+                    final PluginMetrics pluginMetrics) {
+        this.rollingFileWriter = rollingFileWriter;
+        this.maxBufferedBytes = maxBufferedBytes;
+        this.activeBuffer = new ByteArrayOutputStream(maxBufferedBytes);
+        this.writingBuffer = new ByteArrayOutputStream(maxBufferedBytes);
+        this.bytesWrittenCounter = pluginMetrics.counter(BYTES_WRITTEN);
+        this.filesRolledCounter = pluginMetrics.counter(FILES_ROLLED);
+        this.writeErrorsCounter = pluginMetrics.counter(WRITE_ERRORS);
+        this.writeLatencyTimer = pluginMetrics.timer(WRITE_LATENCY);
+        this.bufferWaitTimer = pluginMetrics.timer(BUFFER_WAIT_TIME);
+        this.bufferedBytes = pluginMetrics.gauge(BUFFERED_BYTES, new AtomicLong());
+
+        writerThread = new Thread(this::runWriter, threadName);
+        writerThread.start();
+    }
+
+    /**
+     * Appends bytes to be written to the file, waiting while the buffer is full. The bytes are appended whole, even if
+     * they are more than the maximum buffered bytes, so that a record is never split between writes.
+     *
+     * @param bytes The bytes to write
+     * @return false if the writer was closed and the bytes were not appended
+     * @throws InterruptedException if interrupted while waiting for space in the buffer
+     * @throws IOException if earlier bytes could not be written and were dropped, in which case these bytes are not
+     * appended
+     */
+    boolean write(final byte[] bytes) throws InterruptedException, IOException {
+        lock.lock();
+        try {
+            throwWriteFailure();
+            if (activeBuffer.size() > 0 && activeBuffer.size() + bytes.length > maxBufferedBytes) {
+                final long waitStart = System.nanoTime();
+                while (!closed && activeBuffer.size() > 0 && activeBuffer.size() + bytes.length > maxBufferedBytes) {
+                    notFull.await();
+                }
+                bufferWaitTimer.record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+            }
+            if (closed) {
+                return false;
+            }
+            throwWriteFailure();
+            activeBuffer.write(bytes, 0, bytes.length);
+            bufferedBytes.set(activeBuffer.size());
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the buffered bytes, stops the writer thread and closes the file.
+     *
+     * @throws IOException if bytes could not be written and were dropped since the last failed call to
+     * {@link #write(byte[])}
+     */
+    void close() throws IOException {
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signal();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writerThread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            LOG.warn("The file writer thread did not finish writing within {} ms", CLOSE_TIMEOUT_MILLIS);
+        }
+        lock.lock();
+        try {
+            throwWriteFailure();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Throws the failure of a write which dropped bytes once, so that each loss is reported a single time.
+     */
+    private void throwWriteFailure() throws IOException {
+        if (writeFailure != null) {
+            final IOException failure = writeFailure;
+            writeFailure = null;
+            throw new IOException("Bytes buffered for the file were dropped after a failed write", failure);
+        }
+    }
+
+    private void runWriter() {
+        while (true) {
+            final boolean isClosed;
+            lock.lock();
+            try {
+                awaitBytesOrRoll();
+                isClosed = closed;
+                final ByteArrayOutputStream filledBuffer = activeBuffer;
+                activeBuffer = writingBuffer;
+                writingBuffer = filledBuffer;
+                bufferedBytes.set(0);
+                notFull.signalAll();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                lock.unlock();
+            }
+
+            if (writingBuffer.size() > 0) {
+                writeBuffer();
+            }
+            try {
+                rollingFileWriter.rollIfExpired();
+            } catch (final IOException e) {
+                writeErrorsCounter.increment();
+                LOG.error("Unable to roll the file", e);
+            }
+            updateRolledFiles();
+            if (isClosed) {
+                break;
+            }
+        }
+        try {
+            rollingFileWriter.close();
+        } catch (final IOException e) {
+            LOG.error("Unable to close the file", e);
+        }
+    }
+
+    /**
+     * Waits until there are bytes to write, the current file must be rolled, or the writer is closed.
+     */
+    private void awaitBytesOrRoll() throws InterruptedException {
+        while (activeBuffer.size() == 0 && !closed) {
+            final Duration timeUntilRoll = rollingFileWriter.getTimeUntilRoll();
+            if (timeUntilRoll == null) {
+                notEmpty.await();
+            } else if (timeUntilRoll.isZero() || notEmpty.awaitNanos(timeUntilRoll.toNanos()) <= 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Writes the writing buffer, keeping its bytes to be written again to a reopened file until a write succeeds or
+     * the attempts run out.
+     */
+    private void writeBuffer() {
+        final int size = writingBuffer.size();
+        long retryDelayMillis = INITIAL_RETRY_DELAY_MILLIS;
+        for (int attempt = 1; ; attempt++) {
+            final long writeStart = System.nanoTime();
+            try {
+                rollingFileWriter.write(writingBuffer);
+                bytesWrittenCounter.increment(size);
+                writingBuffer.reset();
+                return;
+            } catch (final IOException e) {
+                writeErrorsCounter.increment();
+                try {
+                    // The next write opens the file again
+                    rollingFileWriter.close();
+                } catch (final IOException closeException) {
+                    LOG.error("Unable to close the file after a failed write", closeException);
+                }
+                if (attempt == MAX_WRITE_ATTEMPTS || !sleep(retryDelayMillis)) {
+                    LOG.error("Unable to write {} bytes to the file after {} attempts, dropping them", size, attempt, e);
+                    dropWritingBuffer(e);
+                    return;
+                }
+                LOG.warn("Unable to write {} bytes to the file, retrying in {} ms", size, retryDelayMillis, e);
+                retryDelayMillis *= 2;
+            } finally {
+                writeLatencyTimer.record(System.nanoTime() - writeStart, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private boolean sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void dropWritingBuffer(final IOException failure) {
+        writingBuffer.reset();
+        lock.lock();
+        try {
+            if (writeFailure == null) {
+                writeFailure = failure;
+            } else {
+                writeFailure.addSuppressed(failure);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void updateRolledFiles() {
+        final int rolledFiles = rollingFileWriter.getRolledFiles();
+        if (rolledFiles > countedRolledFiles) {
+            filesRolledCounter.increment(rolledFiles - countedRolledFiles);
+            countedRolledFiles = rolledFiles;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The compression of the files written by the asynchronous mode of the {@link FileSink}.
+ * @since 2.2
+ */
+enum FileCompression {
+    NONE("none") {
+        @Override
+        OutputStream wrap(final OutputStream outputStream) {
+            return outputStream;
+        }
+    },
+    GZIP("gzip") {
+        @Override
+        OutputStream wrap(final OutputStream outputStream) throws IOException {
+            // A sync flush makes every flushed batch readable without closing the file
+            return new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE, true);
+        }
+    };
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+    private static final Map<String, FileCompression> NAMES_MAP = Arrays.stream(FileCompression.values())
+            .collect(Collectors.toMap(FileCompression::toString, Function.identity()));
+
+    private final String name;
+
+    FileCompression(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Wraps the stream of a file so that what is written to it is compressed.
+     */
+    abstract OutputStream wrap(OutputStream outputStream) throws IOException;
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    static FileCompression getByName(final String name) {
+        final FileCompression fileCompression = NAMES_MAP.get(name.toLowerCase());
+        if (fileCompression == null) {
+            throw new IllegalArgumentException("Invalid compression: must be one of " + NAMES_MAP.keySet());
+        }
+        return fileCompression;
+    }
+}
@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.plugins.sink;
 
+import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
@@ -14,10 +15,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -29,11 +33,20 @@ public class FileSink implements Sink<Record<Object>> {
     private static final String SAMPLE_FILE_PATH = "src/resources/file-test-sample-output.txt";
 
     public static final String FILE_PATH = "path";
+    public static final String ASYNC = "async";
+    public static final String MAX_FILE_SIZE = "max_file_size";
+    public static final String MAX_FILE_AGE_SECONDS = "max_file_age_seconds";
+    public static final String COMPRESSION = "compression";
+    public static final String FSYNC = "fsync";
+    public static final String MAX_BUFFERED_BYTES = "max_buffered_bytes";
+    static final int DEFAULT_MAX_BUFFERED_BYTES = 4 * 1024 * 1024;
+    private static final String WRITER_THREAD_NAME = "file-sink-writer";
 
     private final String outputFilePath;
+    private final AsyncFileWriter asyncFileWriter;
     private BufferedWriter writer;
     private final ReentrantLock lock;
-    private boolean isStopRequested;
+    private volatile boolean isStopRequested;
     private boolean initialized;
 
     /**
@@ -45,7 +58,8 @@ public class FileSink implements Sink<Record<Object>> {
      * @param pluginSetting instance with metadata information from pipeline pluginSetting file.
      */
     public FileSink(final PluginSetting pluginSetting) {
-        this((String) pluginSetting.getAttributeFromSettings(FILE_PATH));
+        this(outputFilePath((String) pluginSetting.getAttributeFromSettings(FILE_PATH)),
+                pluginSetting.getBooleanOrDefault(ASYNC, false) ? createAsyncFileWriter(pluginSetting) : null);
     }
 
     public FileSink() {
@@ -53,15 +67,58 @@ public class FileSink implements Sink<Record<Object>> {
     }
 
     public FileSink(final String outputFile) {
-        this.outputFilePath = outputFile == null ? SAMPLE_FILE_PATH : outputFile;
+        this(outputFilePath(outputFile), null);
+    }
+
+    private FileSink(final String outputFilePath, final AsyncFileWriter asyncFileWriter) {
+        this.outputFilePath = outputFilePath;
+        this.asyncFileWriter = asyncFileWriter;
         isStopRequested = false;
         initialized = false;
         lock = new ReentrantLock(true);
         initialize();
     }
 
+    private static String outputFilePath(final String outputFile) {
+        return outputFile == null ? SAMPLE_FILE_PATH : outputFile;
+    }
+
+    /**
+     * Creates the writer of the asynchronous mode, in which records are written to the file from a dedicated thread and
+     * the file is rolled by size or age.
+     */
+    private static AsyncFileWriter createAsyncFileWriter(final PluginSetting pluginSetting) {
+        final String outputFilePath = outputFilePath((String) pluginSetting.getAttributeFromSettings(FILE_PATH));
+        final long maxFileSize = pluginSetting.getLongOrDefault(MAX_FILE_SIZE, 0);
+        final long maxFileAgeSeconds = pluginSetting.getLongOrDefault(MAX_FILE_AGE_SECONDS, 0);
+        final int maxBufferedBytes = pluginSetting.getIntegerOrDefault(MAX_BUFFERED_BYTES, DEFAULT_MAX_BUFFERED_BYTES);
+        if (maxFileSize < 0 || maxFileAgeSeconds < 0 || maxBufferedBytes < 1) {
+            throw new IllegalArgumentException(format("%s and %s must not be negative and %s must be positive",
+                    MAX_FILE_SIZE, MAX_FILE_AGE_SECONDS, MAX_BUFFERED_BYTES));
+        }
+
+        final RollingFileWriter rollingFileWriter = new RollingFileWriter(
+                Paths.get(outputFilePath),
+                maxFileSize,
+                maxFileAgeSeconds > 0 ? Duration.ofSeconds(maxFileAgeSeconds) : null,
+                FileCompression.getByName(pluginSetting.getStringOrDefault(COMPRESSION, FileCompression.NONE.toString())),
+                FsyncPolicy.getByName(pluginSetting.getStringOrDefault(FSYNC, FsyncPolicy.NONE.toString())),
+                Clock.systemUTC());
+        try {
+            rollingFileWriter.open();
+        } catch (final IOException ex) {
+            throw new RuntimeException(format("Encountered exception opening/creating file %s", outputFilePath), ex);
+        }
+        return new AsyncFileWriter(rollingFileWriter, maxBufferedBytes, WRITER_THREAD_NAME,
+                PluginMetrics.fromPluginSetting(pluginSetting));
+    }
+
     @Override
     public void output(final Collection<Record<Object>> records) {
+        if (asyncFileWriter != null) {
+            outputAsync(records);
+            return;
+        }
 
         lock.lock();
         try {
@@ -86,6 +143,31 @@ public class FileSink implements Sink<Record<Object>> {
         }
     }
 
+    /**
+     * Serializes the records outside of any lock and hands them to the writer thread as a single write.
+     */
+    private void outputAsync(final Collection<Record<Object>> records) {
+        if (isStopRequested) {
+            return;
+        }
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        for (final Record<Object> record : records) {
+            final Object object = record.getData();
+            final String line = object instanceof Event ? ((Event) object).toJsonString() : object.toString();
+            final byte[] lineBytes = line.getBytes(StandardCharsets.UTF_8);
+            bytes.write(lineBytes, 0, lineBytes.length);
+            bytes.write('\n');
+        }
+        try {
+            asyncFileWriter.write(bytes.toByteArray());
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(format("Interrupted while writing to file %s", outputFilePath), ex);
+        } catch (final IOException ex) {
+            throw new RuntimeException(format("Encountered exception writing to file %s", outputFilePath), ex);
+        }
+    }
+
     // Temporary function to support both trace and log ingestion pipelines.
     // TODO: This function should be removed with the completion of: https://github.com/opensearch-project/data-prepper/issues/546
     private void checkTypeAndWriteObject(final Object object, final BufferedWriter writer) throws IOException {
@@ -101,6 +183,14 @@ public class FileSink implements Sink<Record<Object>> {
     @Override
     public void shutdown() {
         isStopRequested = true;
+        if (asyncFileWriter != null) {
+            try {
+                asyncFileWriter.close();
+            } catch (final IOException ex) {
+                throw new RuntimeException(format("Encountered exception writing to file %s", outputFilePath), ex);
+            }
+            return;
+        }
         lock.lock();
         try {
             writer.close();
@@ -113,6 +203,11 @@ public class FileSink implements Sink<Record<Object>> {
 
     @Override
     public void initialize() {
+        if (asyncFileWriter != null) {
+            // The asynchronous writer opened the file when it was created
+            initialized = true;
+            return;
+        }
         try {
             writer = Files.newBufferedWriter(Paths.get(outputFilePath), StandardCharsets.UTF_8);
         } catch (final IOException ex) {
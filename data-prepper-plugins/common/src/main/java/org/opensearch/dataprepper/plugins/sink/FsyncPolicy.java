@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * When the asynchronous mode of the {@link FileSink} forces written data to the disk.
+ * @since 2.2
+ */
+enum FsyncPolicy {
+    /**
+     * Leave it to the operating system.
+     */
+    NONE("none"),
+    /**
+     * After a file is rolled and closed.
+     */
+    ROLL("roll"),
+    /**
+     * After every write of buffered records, and after a file is rolled.
+     */
+    BATCH("batch");
+
+    private static final Map<String, FsyncPolicy> NAMES_MAP = Arrays.stream(FsyncPolicy.values())
+            .collect(Collectors.toMap(FsyncPolicy::toString, Function.identity()));
+
+    private final String name;
+
+    FsyncPolicy(final String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    static FsyncPolicy getByName(final String name) {
+        final FsyncPolicy fsyncPolicy = NAMES_MAP.get(name.toLowerCase());
+        if (fsyncPolicy == null) {
+            throw new IllegalArgumentException("Invalid fsync policy: must be one of " + NAMES_MAP.keySet());
+        }
+        return fsyncPolicy;
+    }
+}
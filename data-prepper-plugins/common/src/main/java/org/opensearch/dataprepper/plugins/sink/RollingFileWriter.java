@@ -0,0 +1,177 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink;
+
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.apache.commons.io.output.CountingOutputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes to a file, which is rolled once it reaches a maximum size or age.
+ * <p>
+ * The current file is always written at the configured path. Rolling closes it and renames it with the time of the
+ * roll inserted before the extension, for example {@code events.json.gz} becomes
+ * {@code events-20230101T120000.000-0.json.gz}, and the next write creates a new file at the path. An existing file at
+ * the path is appended to. This class is not thread-safe; the {@link AsyncFileWriter} uses it from a single thread.
+ */
+class RollingFileWriter implements Closeable {
+    private static final DateTimeFormatter ROLLED_FILE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss.SSS")
+            .withZone(ZoneOffset.UTC);
+
+    private final Path path;
+    private final long maxFileSize;
+    private final Duration maxFileAge;
+    private final FileCompression compression;
+    private final FsyncPolicy fsyncPolicy;
+    private final Clock clock;
+
+    private FileOutputStream fileOutputStream;
+    private CountingOutputStream countingOutputStream;
+    private OutputStream outputStream;
+    private long sizeAtOpen;
+    private Instant openedAt;
+    private boolean hasWrittenSinceOpen;
+    private int rolledFiles;
+
+    /**
+     * @param path The path of the current file
+     * @param maxFileSize The size in bytes on disk at which a file is rolled, or 0 to not roll by size
+     * @param maxFileAge The time after which a file is rolled, or null to not roll by time
+     * @param compression The compression of the files
+     * @param fsyncPolicy When to force written data to the disk
+     * @param clock The clock for the age of the files
+     */
+    RollingFileWriter(final Path path, final long maxFileSize, final Duration maxFileAge, final FileCompression compression,
+                      final FsyncPolicy fsyncPolicy, final Clock clock) {
+        this.path = path;
+        this.maxFileSize = maxFileSize;
+        this.maxFileAge = maxFileAge;
+        this.compression = compression;
+        this.fsyncPolicy = fsyncPolicy;
+        this.clock = clock;
+    }
+
+    /**
+     * Creates or opens the current file, so that a path which cannot be written is reported before any records arrive.
+     *
+     * @throws IOException if the file cannot be opened
+     */
+    void open() throws IOException {
+        if (outputStream != null) {
+            return;
+        }
+        fileOutputStream = new FileOutputStream(path.toFile(), true);
+        sizeAtOpen = fileOutputStream.getChannel().size();
+        countingOutputStream = new CountingOutputStream(fileOutputStream);
+        try {
+            // Closing the compressed stream finishes it, but the file stays open to be synced
+            outputStream = compression.wrap(CloseShieldOutputStream.wrap(countingOutputStream));
+        } catch (final IOException e) {
+            fileOutputStream.close();
+            throw e;
+        }
+        openedAt = clock.instant();
+        hasWrittenSinceOpen = false;
+    }
+
+    /**
+     * Writes the bytes to the current file and flushes them, rolling the file afterwards if it reached the maximum size.
+     *
+     * @param bytes The bytes to write
+     * @throws IOException if the bytes cannot be written
+     */
+    void write(final ByteArrayOutputStream bytes) throws IOException {
+        open();
+        bytes.writeTo(outputStream);
+        outputStream.flush();
+        hasWrittenSinceOpen = true;
+        if (fsyncPolicy == FsyncPolicy.BATCH) {
+            fileOutputStream.getFD().sync();
+        }
+        if (maxFileSize > 0 && sizeAtOpen + countingOutputStream.getByteCount() >= maxFileSize) {
+            roll();
+        }
+    }
+
+    /**
+     * @return The time until the current file reaches its maximum age, or null if it will not be rolled by time
+     */
+    Duration getTimeUntilRoll() {
+        if (maxFileAge == null || outputStream == null || !hasWrittenSinceOpen) {
+            return null;
+        }
+        final Duration timeUntilRoll = maxFileAge.minus(Duration.between(openedAt, clock.instant()));
+        return timeUntilRoll.isNegative() ? Duration.ZERO : timeUntilRoll;
+    }
+
+    /**
+     * Rolls the current file if it reached its maximum age.
+     *
+     * @throws IOException if the file cannot be rolled
+     */
+    void rollIfExpired() throws IOException {
+        final Duration timeUntilRoll = getTimeUntilRoll();
+        if (timeUntilRoll != null && timeUntilRoll.isZero()) {
+            roll();
+        }
+    }
+
+    /**
+     * @return The number of files rolled since this writer was created
+     */
+    int getRolledFiles() {
+        return rolledFiles;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (outputStream == null) {
+            return;
+        }
+        try {
+            outputStream.close();
+            if (fsyncPolicy != FsyncPolicy.NONE) {
+                fileOutputStream.getFD().sync();
+            }
+        } finally {
+            fileOutputStream.close();
+            outputStream = null;
+            countingOutputStream = null;
+            fileOutputStream = null;
+        }
+    }
+
+    private void roll() throws IOException {
+        final Instant rolledAt = clock.instant();
+        close();
+        Path rolledPath = rolledPath(rolledAt, 0);
+        for (int sequence = 1; Files.exists(rolledPath); sequence++) {
+            rolledPath = rolledPath(rolledAt, sequence);
+        }
+        Files.move(path, rolledPath);
+        rolledFiles++;
+    }
+
+    private Path rolledPath(final Instant rolledAt, final int sequence) {
+        final String fileName = path.getFileName().toString();
+        final int extensionStart = fileName.indexOf('.', 1);
+        final String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        final String extension = extensionStart > 0 ? fileName.substring(extensionStart) : "";
+        return path.resolveSibling(baseName + "-" + ROLLED_FILE_TIME_FORMATTER.format(rolledAt) + "-" + sequence + extension);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.file;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The read offsets of the tailed files, keyed by file key so that an offset still applies after the file is renamed.
+ * <p>
+ * The offsets are persisted as JSON to the checkpoint path, when there is one. The file is replaced atomically so that a
+ * crash while saving leaves the previous checkpoints. This class is not thread-safe.
+ */
+class FileCheckpointStore {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<FileCheckpoint>> CHECKPOINTS_TYPE_REFERENCE = new TypeReference<List<FileCheckpoint>>() {};
+
+    private final Path checkpointPath;
+    private final Map<String, FileCheckpoint> checkpoints = new HashMap<>();
+    private boolean modified;
+
+    /**
+     * @param checkpointPath The file to persist the offsets to, or null to keep them in memory only
+     */
+    FileCheckpointStore(final Path checkpointPath) {
+        this.checkpointPath = checkpointPath;
+    }
+
+    /**
+     * Loads the persisted offsets, if the checkpoint file exists.
+     *
+     * @throws IOException if the checkpoint file cannot be read
+     */
+    void load() throws IOException {
+        if (checkpointPath == null || !Files.exists(checkpointPath)) {
+            return;
+        }
+        final List<FileCheckpoint> loadedCheckpoints = OBJECT_MAPPER.readValue(checkpointPath.toFile(), CHECKPOINTS_TYPE_REFERENCE);
+        for (final FileCheckpoint checkpoint : loadedCheckpoints) {
+            checkpoints.put(checkpoint.getFileKey(), checkpoint);
+        }
+    }
+
+    /**
+     * @param fileKey The key of the file
+     * @return The offset to resume reading the file from, or 0 if there is no checkpoint for the file
+     */
+    long getOffset(final String fileKey) {
+        final FileCheckpoint checkpoint = checkpoints.get(fileKey);
+        return checkpoint != null ? checkpoint.getOffset() : 0;
+    }
+
+    void setOffset(final String fileKey, final Path path, final long offset) {
+        checkpoints.put(fileKey, new FileCheckpoint(fileKey, path.toString(), offset));
+        modified = true;
+    }
+
+    void remove(final String fileKey) {
+        if (checkpoints.remove(fileKey) != null) {
+            modified = true;
+        }
+    }
+
+    /**
+     * Persists the offsets if they changed since they were last saved.
+     *
+     * @throws IOException if the checkpoint file cannot be written
+     */
+    void save() throws IOException {
+        if (checkpointPath == null || !modified) {
+            return;
+        }
+        final Path temporaryPath = checkpointPath.resolveSibling(checkpointPath.getFileName() + ".tmp");
+        OBJECT_MAPPER.writeValue(temporaryPath.toFile(), new ArrayList<>(checkpoints.values()));
+        Files.move(temporaryPath, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        modified = false;
+    }
+
+    static class FileCheckpoint {
+        private final String fileKey;
+        private final String path;
+        private final long offset;
+
+        @JsonCreator
+        FileCheckpoint(@JsonProperty("file_key") final String fileKey,
+                       @JsonProperty("path") final String path,
+                       @JsonProperty("offset") final long offset) {
+            this.fileKey = fileKey;
+            this.path = path;
+            this.offset = offset;
+        }
+
+        @JsonProperty("file_key")
+        String getFileKey() {
+            return fileKey;
+        }
+
+        @JsonProperty("path")
+        String getPath() {
+            return path;
+        }
+
+        @JsonProperty("offset")
+        long getOffset() {
+            return offset;
+        }
+    }
+}
@@ -16,6 +16,7 @@ import org.opensearch.dataprepper.model.source.Source;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,6 +27,9 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -41,14 +45,18 @@ public class FileSource implements Source<Record<Object>> {
 
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private final FileSourceConfig fileSourceConfig;
+    private final PluginMetrics pluginMetrics;
 
-    private boolean isStopRequested;
+    private volatile boolean isStopRequested;
     private final int writeTimeout;
+    private FileTailer fileTailer;
+    private ExecutorService executorService;
 
     @DataPrepperPluginConstructor
     public FileSource(final FileSourceConfig fileSourceConfig, final PluginMetrics pluginMetrics, final PluginFactory pluginFactory) {
         fileSourceConfig.validate();
         this.fileSourceConfig = fileSourceConfig;
+        this.pluginMetrics = pluginMetrics;
         this.isStopRequested = false;
         this.writeTimeout = FileSourceConfig.DEFAULT_TIMEOUT;
     }
@@ -57,6 +65,10 @@ public class FileSource implements Source<Record<Object>> {
     @Override
     public void start(final Buffer<Record<Object>> buffer) {
         checkNotNull(buffer, "Buffer cannot be null for file source to start");
+        if (fileSourceConfig.isTail()) {
+            startTailing(buffer);
+            return;
+        }
         try (BufferedReader reader = Files.newBufferedReader(Paths.get(fileSourceConfig.getFilePathToRead()), StandardCharsets.UTF_8)) {
             String line;
             while ((line = reader.readLine()) != null && !isStopRequested) {
@@ -72,6 +84,32 @@ public class FileSource implements Source<Record<Object>> {
     @Override
     public void stop() {
         isStopRequested = true;
+        if (fileTailer != null) {
+            fileTailer.stop();
+            executorService.shutdown();
+            try {
+                if (!executorService.awaitTermination(writeTimeout, TimeUnit.MILLISECONDS)) {
+                    executorService.shutdownNow();
+                }
+            } catch (final InterruptedException ex) {
+                executorService.shutdownNow();
+            }
+        }
+    }
+
+    private void startTailing(final Buffer<Record<Object>> buffer) {
+        final String checkpointPath = fileSourceConfig.getCheckpointPath();
+        final FileCheckpointStore checkpointStore = new FileCheckpointStore(checkpointPath != null ? Paths.get(checkpointPath) : null);
+        try {
+            fileTailer = new FileTailer(fileSourceConfig, buffer, this::createRecord, checkpointStore, pluginMetrics);
+        } catch (final IOException | RuntimeException ex) {
+            LOG.error("Error tailing the input file path [{}]", fileSourceConfig.getFilePathToRead(), ex);
+            throw new RuntimeException(format("Error tailing the input file path %s",
+                    fileSourceConfig.getFilePathToRead()), ex);
+        }
+        executorService = Executors.newSingleThreadExecutor(
+                new ThreadFactoryBuilder().setDaemon(false).setNameFormat("file-source-tailer-%d").build());
+        executorService.execute(fileTailer);
     }
 
     private Record<Object> getEventRecordFromLine(final String line) {
@@ -107,10 +145,18 @@ public class FileSource implements Source<Record<Object>> {
     // Temporary function to support both trace and log ingestion pipelines.
     // TODO: This function should be removed with the completion of: https://github.com/opensearch-project/data-prepper/issues/546
     private void writeLineAsEventOrString(final String line, final Buffer<Record<Object>> buffer) throws TimeoutException, IllegalArgumentException {
+        final Record<Object> record = createRecord(line);
+        if (record != null) {
+            buffer.write(record, writeTimeout);
+        }
+    }
+
+    private Record<Object> createRecord(final String line) {
         if (fileSourceConfig.getRecordType().equals(FileSourceConfig.EVENT_TYPE)) {
-            buffer.write(getEventRecordFromLine(line), writeTimeout);
+            return getEventRecordFromLine(line);
         } else if (fileSourceConfig.getRecordType().equals(FileSourceConfig.DEFAULT_TYPE)) {
-            buffer.write(new Record<>(line), writeTimeout);
+            return new Record<>(line);
         }
+        return null;
     }
 }
\ No newline at end of file
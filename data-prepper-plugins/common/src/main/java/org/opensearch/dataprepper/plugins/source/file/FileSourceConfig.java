@@ -9,17 +9,28 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.base.Preconditions;
 
+import java.time.Duration;
 import java.util.Objects;
 
 public class FileSourceConfig {
     static final String ATTRIBUTE_PATH = "path";
     static final String ATTRIBUTE_TYPE = "record_type";
     static final String ATTRIBUTE_FORMAT = "format";
+    static final String ATTRIBUTE_TAIL = "tail";
+    static final String ATTRIBUTE_CHECKPOINT_PATH = "checkpoint_path";
+    static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+    static final String ATTRIBUTE_READ_BUFFER_SIZE = "read_buffer_size";
+    static final String ATTRIBUTE_POLL_INTERVAL = "poll_interval";
+    static final String ATTRIBUTE_MAX_LINE_LENGTH = "max_line_length";
     static final int DEFAULT_TIMEOUT = 5_000;
     static final String DEFAULT_TYPE = "string";
     static final String DEFAULT_FORMAT = "plain";
     static final String EVENT_TYPE = "event";
-
+    static final int DEFAULT_BATCH_SIZE = 500;
+    static final int DEFAULT_READ_BUFFER_SIZE = 1024 * 1024;
+    static final int MINIMUM_READ_BUFFER_SIZE = 1024;
+    static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(1);
+    static final int DEFAULT_MAX_LINE_LENGTH = 1024 * 1024;
 
     @JsonProperty(ATTRIBUTE_PATH)
     private String filePathToRead;
@@ -30,10 +41,73 @@ public class FileSourceConfig {
     @JsonProperty(ATTRIBUTE_TYPE)
     private String recordType = DEFAULT_TYPE;
 
+    @JsonProperty(ATTRIBUTE_TAIL)
+    private boolean tail = false;
+
+    @JsonProperty(ATTRIBUTE_CHECKPOINT_PATH)
+    private String checkpointPath;
+
+    @JsonProperty(ATTRIBUTE_BATCH_SIZE)
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    @JsonProperty(ATTRIBUTE_READ_BUFFER_SIZE)
+    private int readBufferSize = DEFAULT_READ_BUFFER_SIZE;
+
+    @JsonProperty(ATTRIBUTE_POLL_INTERVAL)
+    private Duration pollInterval = DEFAULT_POLL_INTERVAL;
+
+    @JsonProperty(ATTRIBUTE_MAX_LINE_LENGTH)
+    private int maxLineLength = DEFAULT_MAX_LINE_LENGTH;
+
     public String getFilePathToRead() {
         return filePathToRead;
     }
 
+    /**
+     * Whether to follow the files matching the path as they are written and rotated instead of reading a single file once.
+     * In this mode, the file name of the path may contain glob wildcards.
+     */
+    public boolean isTail() {
+        return tail;
+    }
+
+    /**
+     * The file where the read offset of each tailed file is persisted, or null to start from the beginning of the
+     * files on every start.
+     */
+    public String getCheckpointPath() {
+        return checkpointPath;
+    }
+
+    /**
+     * The maximum number of lines which are written to the buffer at once when tailing.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The size in bytes of the buffer which tailed files are read through.
+     */
+    public int getReadBufferSize() {
+        return readBufferSize;
+    }
+
+    /**
+     * How long to wait for changes to the tailed files before checking them again, for file systems which do not
+     * report changes.
+     */
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    /**
+     * The maximum number of bytes of a tailed line. Longer lines are truncated to this length.
+     */
+    public int getMaxLineLength() {
+        return maxLineLength;
+    }
+
     @JsonIgnore
     public FileFormat getFormat() {
         return FileFormat.getByName(format);
@@ -47,5 +121,11 @@ public class FileSourceConfig {
         Objects.requireNonNull(filePathToRead, "File path is required");
         Preconditions.checkArgument(recordType.equals(EVENT_TYPE) || recordType.equals(DEFAULT_TYPE), "Invalid type: must be either [event] or [string]");
         Preconditions.checkArgument(format.equals(DEFAULT_FORMAT) || format.equals("json"), "Invalid file format. Options are [json] and [plain]");
+        Preconditions.checkArgument(checkpointPath == null || tail, "checkpoint_path is only supported when tail is true");
+        Preconditions.checkArgument(batchSize > 0, "batch_size must be greater than 0");
+        Preconditions.checkArgument(readBufferSize >= MINIMUM_READ_BUFFER_SIZE, "read_buffer_size must be at least " + MINIMUM_READ_BUFFER_SIZE);
+        Preconditions.checkArgument(pollInterval != null && !pollInterval.isNegative() && !pollInterval.isZero(),
+                "poll_interval must be positive");
+        Preconditions.checkArgument(maxLineLength > 0, "max_line_length must be greater than 0");
     }
 }
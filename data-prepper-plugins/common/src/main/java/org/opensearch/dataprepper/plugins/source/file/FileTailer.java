@@ -0,0 +1,326 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.file;
+
+import io.micrometer.core.instrument.Counter;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.opensearch.dataprepper.model.record.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Follows the files in a directory whose names match a glob, as they are written, rotated and truncated.
+ * <p>
+ * The tailer wakes up when the directory reports a change through a {@link WatchService}, which uses inotify on Linux,
+ * or after the poll interval. Files are read through a single direct buffer and up to a batch of lines of each file is
+ * written to the buffer at once. The offset of a file is checkpointed only after its lines have been written.
+ * <p>
+ * A file which is renamed to a name which no longer matches the glob, or deleted, is read to its end once it stops
+ * growing and then closed.
+ */
+class FileTailer implements Runnable {
+    static final String LINES_READ = "linesRead";
+    static final String FILES_ROTATED = "filesRotated";
+    static final String FILES_TRUNCATED = "filesTruncated";
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileTailer.class);
+    private static final long INITIAL_RETRY_DELAY_MILLIS = 100;
+    private static final long MAX_RETRY_DELAY_MILLIS = 10_000;
+
+    private final Path directory;
+    private final String fileNameGlob;
+    private final Buffer<Record<Object>> buffer;
+    private final Function<String, Record<Object>> recordFactory;
+    private final FileCheckpointStore checkpointStore;
+    private final int batchSize;
+    private final int writeTimeout;
+    private final long pollIntervalMillis;
+    private final int maxLineLength;
+    private final ByteBuffer readBuffer;
+    private final WatchService watchService;
+    private final Map<String, TailedFile> tailedFiles = new HashMap<>();
+    private final Counter linesReadCounter;
+    private final Counter filesRotatedCounter;
+    private final Counter filesTruncatedCounter;
+
+    private volatile boolean isStopRequested;
+
+    /**
+     * Creates a tailer and starts watching the directory of the path.
+     *
+     * @throws IOException if the directory cannot be watched or the checkpoints cannot be loaded
+     */
+    FileTailer(final FileSourceConfig fileSourceConfig, final Buffer<Record<Object>> buffer,
+               final Function<String, Record<Object>> recordFactory, final FileCheckpointStore checkpointStore,
+               final PluginMetrics pluginMetrics) throws IOException {
+        final Path path = Paths.get(fileSourceConfig.getFilePathToRead()).toAbsolutePath();
+        this.directory = path.getParent();
+        this.fileNameGlob = path.getFileName().toString();
+        this.buffer = buffer;
+        this.recordFactory = recordFactory;
+        this.checkpointStore = checkpointStore;
+        this.batchSize = fileSourceConfig.getBatchSize();
+        this.writeTimeout = FileSourceConfig.DEFAULT_TIMEOUT;
+        this.pollIntervalMillis = fileSourceConfig.getPollInterval().toMillis();
+        this.maxLineLength = fileSourceConfig.getMaxLineLength();
+        this.readBuffer = ByteBuffer.allocateDirect(fileSourceConfig.getReadBufferSize());
+        this.linesReadCounter = pluginMetrics.counter(LINES_READ);
+        this.filesRotatedCounter = pluginMetrics.counter(FILES_ROTATED);
+        this.filesTruncatedCounter = pluginMetrics.counter(FILES_TRUNCATED);
+
+        checkpointStore.load();
+        watchService = directory.getFileSystem().newWatchService();
+        try {
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (final IOException e) {
+            watchService.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!isStopRequested) {
+                discoverFiles();
+                final boolean caughtUp = readFiles();
+                saveCheckpoints();
+                if (caughtUp && !isStopRequested) {
+                    awaitChanges();
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ClosedWatchServiceException e) {
+            // The tailer was stopped while waiting for changes
+        } finally {
+            saveCheckpoints();
+            tailedFiles.values().forEach(this::closeQuietly);
+            tailedFiles.clear();
+        }
+    }
+
+    /**
+     * Stops the tailer. Lines which were read but not yet written to the buffer are read again after a restart.
+     */
+    void stop() {
+        isStopRequested = true;
+        try {
+            watchService.close();
+        } catch (final IOException e) {
+            LOG.warn("Unable to close the watch service of directory [{}]", directory, e);
+        }
+    }
+
+    private void awaitChanges() throws InterruptedException {
+        final WatchKey watchKey = watchService.poll(pollIntervalMillis, TimeUnit.MILLISECONDS);
+        if (watchKey != null) {
+            // The files are checked again regardless of which changed
+            watchKey.pollEvents();
+            watchKey.reset();
+        }
+    }
+
+    private void discoverFiles() {
+        final Set<String> matchedFileKeys = new HashSet<>();
+        try (final DirectoryStream<Path> paths = Files.newDirectoryStream(directory, fileNameGlob)) {
+            for (final Path path : paths) {
+                final BasicFileAttributes attributes;
+                try {
+                    attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                } catch (final IOException e) {
+                    // The file was removed after it was listed
+                    continue;
+                }
+                if (!attributes.isRegularFile()) {
+                    continue;
+                }
+                final String fileKey = attributes.fileKey() != null ? attributes.fileKey().toString() : path.toString();
+                matchedFileKeys.add(fileKey);
+                final TailedFile tailedFile = tailedFiles.get(fileKey);
+                if (tailedFile != null) {
+                    tailedFile.setPath(path);
+                    tailedFile.setRotated(false);
+                } else {
+                    openFile(path, fileKey);
+                }
+            }
+        } catch (final IOException e) {
+            LOG.error("Unable to list the files of directory [{}]", directory, e);
+            return;
+        }
+
+        for (final TailedFile tailedFile : tailedFiles.values()) {
+            if (!tailedFile.isRotated() && !matchedFileKeys.contains(tailedFile.getFileKey())) {
+                LOG.info("File [{}] was rotated, reading it to the end", tailedFile.getPath());
+                tailedFile.setRotated(true);
+                filesRotatedCounter.increment();
+            }
+        }
+    }
+
+    private void openFile(final Path path, final String fileKey) {
+        try {
+            final TailedFile tailedFile = TailedFile.open(path, fileKey, checkpointStore.getOffset(fileKey), maxLineLength);
+            LOG.info("Tailing file [{}] from offset {}", path, tailedFile.getLineOffset());
+            tailedFiles.put(fileKey, tailedFile);
+        } catch (final IOException e) {
+            LOG.warn("Unable to open file [{}]", path, e);
+        }
+    }
+
+    /**
+     * Reads up to a batch of lines of each file and writes them to the buffer.
+     *
+     * @return true if all files were read to their end
+     */
+    private boolean readFiles() {
+        boolean caughtUp = true;
+        final List<String> lines = new ArrayList<>(batchSize);
+        for (final TailedFile tailedFile : new ArrayList<>(tailedFiles.values())) {
+            if (isStopRequested) {
+                return false;
+            }
+            lines.clear();
+            final boolean reachedEnd;
+            try {
+                if (tailedFile.resetIfTruncated()) {
+                    LOG.info("File [{}] was truncated, reading it from the beginning", tailedFile.getPath());
+                    filesTruncatedCounter.increment();
+                }
+                reachedEnd = tailedFile.readLines(readBuffer, batchSize, tailedFile.isRotated(), lines);
+            } catch (final IOException e) {
+                LOG.error("Unable to read file [{}]", tailedFile.getPath(), e);
+                continue;
+            }
+
+            if (!lines.isEmpty()) {
+                if (!writeLines(lines)) {
+                    return false;
+                }
+                linesReadCounter.increment(lines.size());
+                checkpointStore.setOffset(tailedFile.getFileKey(), tailedFile.getPath(), tailedFile.getLineOffset());
+            }
+
+            if (!reachedEnd) {
+                caughtUp = false;
+            } else if (tailedFile.isRotated() && lines.isEmpty()) {
+                LOG.info("Finished reading rotated file [{}]", tailedFile.getPath());
+                tailedFiles.remove(tailedFile.getFileKey());
+                checkpointStore.remove(tailedFile.getFileKey());
+                closeQuietly(tailedFile);
+            }
+        }
+        return caughtUp;
+    }
+
+    /**
+     * Writes the lines to the buffer, waiting for space in the buffer until the tailer is stopped. Other failures are
+     * retried with an exponential backoff.
+     *
+     * @return true if the lines were written, false if the tailer was stopped first
+     */
+    private boolean writeLines(final List<String> lines) {
+        final List<Record<Object>> records = lines.stream().map(recordFactory).collect(Collectors.toList());
+        long retryDelayMillis = INITIAL_RETRY_DELAY_MILLIS;
+        while (!isStopRequested) {
+            try {
+                buffer.writeAll(records, writeTimeout);
+                return true;
+            } catch (final TimeoutException e) {
+                LOG.debug("Timed out writing {} lines to the buffer, retrying", records.size());
+            } catch (final SizeOverflowException e) {
+                LOG.debug("The batch of {} lines is larger than the buffer, writing them one at a time", records.size());
+                return writeRecordsIndividually(records);
+            } catch (final Exception e) {
+                LOG.error("Unable to write {} lines to the buffer, retrying in {} ms", records.size(), retryDelayMillis, e);
+                if (!sleepBeforeRetry(retryDelayMillis)) {
+                    return false;
+                }
+                retryDelayMillis = Math.min(retryDelayMillis * 2, MAX_RETRY_DELAY_MILLIS);
+            }
+        }
+        return false;
+    }
+
+    private boolean writeRecordsIndividually(final List<Record<Object>> records) {
+        for (final Record<Object> record : records) {
+            long retryDelayMillis = INITIAL_RETRY_DELAY_MILLIS;
+            boolean written = false;
+            while (!written) {
+                if (isStopRequested) {
+                    return false;
+                }
+                try {
+                    buffer.write(record, writeTimeout);
+                    written = true;
+                } catch (final TimeoutException e) {
+                    LOG.debug("Timed out writing a line to the buffer, retrying");
+                } catch (final Exception e) {
+                    LOG.error("Unable to write a line to the buffer, retrying in {} ms", retryDelayMillis, e);
+                    if (!sleepBeforeRetry(retryDelayMillis)) {
+                        return false;
+                    }
+                    retryDelayMillis = Math.min(retryDelayMillis * 2, MAX_RETRY_DELAY_MILLIS);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return false if the tailer was interrupted while waiting
+     */
+    private boolean sleepBeforeRetry(final long delayMillis) {
+        try {
+            Thread.sleep(delayMillis);
+            return true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void saveCheckpoints() {
+        try {
+            checkpointStore.save();
+        } catch (final IOException e) {
+            LOG.error("Unable to save the file checkpoints", e);
+        }
+    }
+
+    private void closeQuietly(final TailedFile tailedFile) {
+        try {
+            tailedFile.close();
+        } catch (final IOException e) {
+            LOG.warn("Unable to close file [{}]", tailedFile.getPath(), e);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.file;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A file which is read line by line as it grows. The file is identified by its file key, the inode on Unix, so that
+ * it can still be read after it is renamed by a rotation.
+ * <p>
+ * Bytes after the last newline are kept until the rest of the line is written. The offset returned by
+ * {@link #getLineOffset()} is the offset after the last complete line, which is where reading resumes from a checkpoint.
+ * Only the first bytes of a line up to the maximum line length are kept, so a line is truncated rather than growing
+ * without limit when a file has no newlines. When a call stops at the maximum number of lines, the rest of the bytes
+ * it read are kept and read by the next call, rather than read from the file again. This class is not thread-safe.
+ */
+class TailedFile implements Closeable {
+    private static final int INITIAL_PARTIAL_LINE_CAPACITY = 256;
+
+    private final String fileKey;
+    private final FileChannel fileChannel;
+    private final int maxLineLength;
+    private Path path;
+    private long readPosition;
+    private byte[] partialLine = new byte[INITIAL_PARTIAL_LINE_CAPACITY];
+    private int partialLineLength;
+    private long partialLineBytesRead;
+    private ByteBuffer unreadBytes;
+    private boolean rotated;
+
+    private TailedFile(final Path path, final String fileKey, final FileChannel fileChannel, final long offset,
+                       final int maxLineLength) {
+        this.path = path;
+        this.fileKey = fileKey;
+        this.fileChannel = fileChannel;
+        this.readPosition = offset;
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * Opens a file for reading.
+     *
+     * @param path The path of the file
+     * @param fileKey The key which identifies the file
+     * @param offset The offset to start reading from. The file is read from the beginning if it is shorter.
+     * @param maxLineLength The maximum number of bytes of a line which are kept
+     * @return The opened file
+     * @throws IOException if the file cannot be opened
+     */
+    static TailedFile open(final Path path, final String fileKey, final long offset, final int maxLineLength) throws IOException {
+        final FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new TailedFile(path, fileKey, fileChannel, offset <= fileChannel.size() ? offset : 0, maxLineLength);
+        } catch (final IOException e) {
+            fileChannel.close();
+            throw e;
+        }
+    }
+
+    String getFileKey() {
+        return fileKey;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    void setPath(final Path path) {
+        this.path = path;
+    }
+
+    /**
+     * @return Whether the file no longer matches the path of the source, so that nothing more is expected to be
+     * written to it
+     */
+    boolean isRotated() {
+        return rotated;
+    }
+
+    void setRotated(final boolean rotated) {
+        this.rotated = rotated;
+    }
+
+    /**
+     * @return The offset after the last complete line which was read
+     */
+    long getLineOffset() {
+        final int unreadByteCount = unreadBytes != null ? unreadBytes.remaining() : 0;
+        return readPosition - unreadByteCount - partialLineBytesRead;
+    }
+
+    /**
+     * Starts reading from the beginning of the file again if it is shorter than what has been read, as happens when a
+     * file is truncated by a copy-and-truncate rotation.
+     *
+     * @return true if the file was truncated
+     * @throws IOException if the size of the file cannot be read
+     */
+    boolean resetIfTruncated() throws IOException {
+        if (fileChannel.size() >= readPosition) {
+            return false;
+        }
+        readPosition = 0;
+        unreadBytes = null;
+        clearPartialLine();
+        return true;
+    }
+
+    /**
+     * Reads complete lines, without their line terminators, until the end of the file or the maximum number of lines.
+     *
+     * @param readBuffer The buffer to read through
+     * @param maxLines The maximum number of lines to read
+     * @param includeLastLine Whether to also return a last line which is not terminated by a newline
+     * @param lines The list to add the lines to
+     * @return true if the end of the file was reached
+     * @throws IOException if the file cannot be read
+     */
+    boolean readLines(final ByteBuffer readBuffer, final int maxLines, final boolean includeLastLine, final List<String> lines) throws IOException {
+        int linesRead = 0;
+        if (unreadBytes != null) {
+            linesRead = readChunk(unreadBytes, maxLines, lines);
+            if (unreadBytes.hasRemaining()) {
+                return false;
+            }
+            unreadBytes = null;
+        }
+        while (linesRead < maxLines) {
+            readBuffer.clear();
+            final int bytesRead = fileChannel.read(readBuffer, readPosition);
+            if (bytesRead <= 0) {
+                if (includeLastLine && partialLineLength > 0) {
+                    lines.add(decodeLine(partialLine, 0, partialLineLength));
+                    clearPartialLine();
+                }
+                return true;
+            }
+            readBuffer.flip();
+            readPosition += bytesRead;
+
+            linesRead += readChunk(readBuffer, maxLines - linesRead, lines);
+            if (readBuffer.hasRemaining()) {
+                // The read buffer is shared with other files, so the rest of the chunk is copied for the next call
+                unreadBytes = ByteBuffer.allocate(readBuffer.remaining());
+                unreadBytes.put(readBuffer).flip();
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        fileChannel.close();
+    }
+
+    /**
+     * Reads the lines of the chunk between its position and limit, and adds the bytes after the last line to the
+     * partial line. If the maximum number of lines is reached first, the position of the chunk is left at the start of
+     * the bytes which were not read.
+     *
+     * @return The number of lines read
+     */
+    private int readChunk(final ByteBuffer chunk, final int maxLines, final List<String> lines) {
+        final int end = chunk.limit();
+        int lineStart = chunk.position();
+        int linesRead = 0;
+        for (int index = lineStart; index < end; index++) {
+            if (chunk.get(index) != '\n') {
+                continue;
+            }
+            lines.add(completeLine(chunk, lineStart, index));
+            lineStart = index + 1;
+            linesRead++;
+            if (linesRead == maxLines) {
+                chunk.position(lineStart);
+                return linesRead;
+            }
+        }
+        appendToPartialLine(chunk, lineStart, end);
+        chunk.position(end);
+        return linesRead;
+    }
+
+    private String completeLine(final ByteBuffer readBuffer, final int lineStart, final int lineEnd) {
+        appendToPartialLine(readBuffer, lineStart, lineEnd);
+        final String line = decodeLine(partialLine, 0, partialLineLength);
+        clearPartialLine();
+        return line;
+    }
+
+    private void clearPartialLine() {
+        partialLineLength = 0;
+        partialLineBytesRead = 0;
+    }
+
+    private void appendToPartialLine(final ByteBuffer readBuffer, final int start, final int end) {
+        partialLineBytesRead += end - start;
+        final int length = Math.min(end - start, maxLineLength - partialLineLength);
+        if (length <= 0) {
+            // The rest of a line longer than the maximum line length is skipped
+            return;
+        }
+        if (partialLineLength + length > partialLine.length) {
+            final int capacity = Math.min(Math.max(partialLine.length * 2, partialLineLength + length), maxLineLength);
+            partialLine = Arrays.copyOf(partialLine, capacity);
+        }
+        readBuffer.position(start);
+        readBuffer.get(partialLine, partialLineLength, length);
+        partialLineLength += length;
+    }
+
+    private static String decodeLine(final byte[] bytes, final int offset, final int length) {
+        final int lineLength = length > 0 && bytes[offset + length - 1] == '\r' ? length - 1 : length;
+        return new String(bytes, offset, lineLength, StandardCharsets.UTF_8);
+    }
+}
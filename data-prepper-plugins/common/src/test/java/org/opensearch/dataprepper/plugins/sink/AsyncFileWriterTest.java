@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncFileWriterTest {
+    private static final long VERIFY_TIMEOUT_MILLIS = 10_000;
+
+    @Mock
+    private RollingFileWriter rollingFileWriter;
+
+    private AsyncFileWriter createObjectUnderTest() {
+        return new AsyncFileWriter(rollingFileWriter, 1024, "test-file-writer",
+                PluginMetrics.fromNames(UUID.randomUUID().toString(), "pipeline"));
+    }
+
+    @Test
+    void write_writes_the_same_bytes_to_the_reopened_file_after_a_failed_write() throws Exception {
+        final AtomicInteger attempts = new AtomicInteger();
+        final List<String> writtenBytes = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            final ByteArrayOutputStream bytes = invocation.getArgument(0);
+            if (attempts.incrementAndGet() == 1) {
+                throw new IOException("disk full");
+            }
+            writtenBytes.add(bytes.toString(StandardCharsets.UTF_8));
+            return null;
+        }).when(rollingFileWriter).write(any(ByteArrayOutputStream.class));
+
+        final AsyncFileWriter objectUnderTest = createObjectUnderTest();
+        assertThat(objectUnderTest.write(bytes("a\n")), equalTo(true));
+        objectUnderTest.close();
+
+        assertThat(writtenBytes, equalTo(Collections.singletonList("a\n")));
+        verify(rollingFileWriter, times(2)).write(any(ByteArrayOutputStream.class));
+        verify(rollingFileWriter, times(2)).close();
+    }
+
+    @Test
+    void close_throws_when_every_write_attempt_failed() throws Exception {
+        doThrow(new IOException("disk full")).when(rollingFileWriter).write(any(ByteArrayOutputStream.class));
+
+        final AsyncFileWriter objectUnderTest = createObjectUnderTest();
+        objectUnderTest.write(bytes("a\n"));
+
+        assertThrows(IOException.class, objectUnderTest::close);
+        verify(rollingFileWriter, times(AsyncFileWriter.MAX_WRITE_ATTEMPTS)).write(any(ByteArrayOutputStream.class));
+    }
+
+    @Test
+    void write_throws_once_after_every_write_attempt_failed() throws Exception {
+        doThrow(new IOException("disk full")).when(rollingFileWriter).write(any(ByteArrayOutputStream.class));
+
+        final AsyncFileWriter objectUnderTest = createObjectUnderTest();
+        objectUnderTest.write(bytes("a\n"));
+        // The writer thread checks the file for rolling only after it finished with the bytes
+        verify(rollingFileWriter, timeout(VERIFY_TIMEOUT_MILLIS).atLeast(1)).rollIfExpired();
+
+        assertThrows(IOException.class, () -> objectUnderTest.write(bytes("b\n")));
+        verify(rollingFileWriter, times(AsyncFileWriter.MAX_WRITE_ATTEMPTS)).write(any(ByteArrayOutputStream.class));
+
+        doAnswer(invocation -> null).when(rollingFileWriter).write(any(ByteArrayOutputStream.class));
+        assertThat(objectUnderTest.write(bytes("c\n")), equalTo(true));
+        objectUnderTest.close();
+        verify(rollingFileWriter, atLeast(AsyncFileWriter.MAX_WRITE_ATTEMPTS + 1)).write(any(ByteArrayOutputStream.class));
+    }
+
+    private static byte[] bytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
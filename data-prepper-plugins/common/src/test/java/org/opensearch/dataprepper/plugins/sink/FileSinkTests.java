@@ -16,8 +16,11 @@ import org.apache.commons.io.FileUtils;
 
 import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -25,8 +28,11 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -140,6 +146,98 @@ class FileSinkTests {
         assertThrows(RuntimeException.class, () -> new FileSink((String)null));
     }
 
+    @Test
+    void testAsyncOutputIsWrittenOnShutdown() throws IOException {
+        final PluginSetting pluginSetting = completeAsyncPluginSettingForFileSink(TEST_OUTPUT_FILE.getPath());
+        final FileSink fileSink = new FileSink(pluginSetting);
+        Assertions.assertTrue(fileSink.isReady());
+        fileSink.output(TEST_RECORDS);
+        fileSink.output(TEST_STRING_RECORDS);
+        fileSink.shutdown();
+
+        final List<String> lines = Files.readAllLines(TEST_OUTPUT_FILE.toPath());
+        assertThat(lines.size(), equalTo(4));
+        assertThat(lines.get(0), containsString(TEST_DATA_1));
+        assertThat(lines.get(1), containsString(TEST_DATA_2));
+        assertThat(lines.get(2), equalTo(TEST_DATA_1));
+        assertThat(lines.get(3), equalTo(TEST_DATA_2));
+    }
+
+    @Test
+    void testAsyncOutputAfterShutdownDoesNotWrite() throws IOException {
+        final FileSink fileSink = new FileSink(completeAsyncPluginSettingForFileSink(TEST_OUTPUT_FILE.getPath()));
+        fileSink.output(TEST_STRING_RECORDS);
+        fileSink.shutdown();
+        fileSink.output(Collections.singletonList(TEST_RECORDS.get(0)));
+
+        assertThat(Files.readAllLines(TEST_OUTPUT_FILE.toPath()), equalTo(Arrays.asList(TEST_DATA_1, TEST_DATA_2)));
+    }
+
+    @Test
+    void testAsyncOutputIsCompressed() throws IOException {
+        final PluginSetting pluginSetting = completeAsyncPluginSettingForFileSink(TEST_OUTPUT_FILE.getPath());
+        pluginSetting.getSettings().put(FileSink.COMPRESSION, "gzip");
+        final FileSink fileSink = new FileSink(pluginSetting);
+        fileSink.output(TEST_STRING_RECORDS);
+        fileSink.shutdown();
+
+        try (final BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new FileInputStream(TEST_OUTPUT_FILE)), StandardCharsets.UTF_8))) {
+            assertThat(bufferedReader.lines().collect(Collectors.toList()), equalTo(Arrays.asList(TEST_DATA_1, TEST_DATA_2)));
+        }
+    }
+
+    @Test
+    void testAsyncOutputIsRolledBySize() throws IOException {
+        final PluginSetting pluginSetting = completeAsyncPluginSettingForFileSink(TEST_OUTPUT_FILE.getPath());
+        pluginSetting.getSettings().put(FileSink.MAX_FILE_SIZE, 1);
+        pluginSetting.getSettings().put(FileSink.FSYNC, "roll");
+        final FileSink fileSink = new FileSink(pluginSetting);
+        fileSink.output(TEST_STRING_RECORDS);
+        fileSink.shutdown();
+
+        final File[] rolledFiles = TEST_OUTPUT_FILE.getParentFile().listFiles((directory, name) ->
+                !name.equals(TEST_OUTPUT_FILE.getName()) && name.startsWith(getBaseName(TEST_OUTPUT_FILE)));
+        try {
+            assertThat(rolledFiles.length, equalTo(1));
+            assertThat(Files.readAllLines(rolledFiles[0].toPath()), equalTo(Arrays.asList(TEST_DATA_1, TEST_DATA_2)));
+        } finally {
+            Arrays.stream(rolledFiles).forEach(FileUtils::deleteQuietly);
+        }
+    }
+
+    @Test
+    void testAsyncWithInvalidCompression() {
+        final PluginSetting pluginSetting = completeAsyncPluginSettingForFileSink(TEST_OUTPUT_FILE.getPath());
+        pluginSetting.getSettings().put(FileSink.COMPRESSION, "unknown");
+        assertThrows(IllegalArgumentException.class, () -> new FileSink(pluginSetting));
+    }
+
+    @Test
+    void testAsyncWithNegativeMaxFileSize() {
+        final PluginSetting pluginSetting = completeAsyncPluginSettingForFileSink(TEST_OUTPUT_FILE.getPath());
+        pluginSetting.getSettings().put(FileSink.MAX_FILE_SIZE, -1);
+        assertThrows(IllegalArgumentException.class, () -> new FileSink(pluginSetting));
+    }
+
+    @Test
+    void testAsyncWithInvalidFilePath() {
+        assertThrows(RuntimeException.class, () -> new FileSink(completeAsyncPluginSettingForFileSink("")));
+    }
+
+    private PluginSetting completeAsyncPluginSettingForFileSink(final String filepath) {
+        final PluginSetting pluginSetting = completePluginSettingForFileSink(filepath);
+        pluginSetting.getSettings().put(FileSink.ASYNC, true);
+        pluginSetting.setPipelineName("pipeline");
+        return pluginSetting;
+    }
+
+    private static String getBaseName(final File file) {
+        final String fileName = file.getName();
+        final int extensionStart = fileName.indexOf('.', 1);
+        return extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+    }
+
     private PluginSetting completePluginSettingForFileSink(final String filepath) {
         final Map<String, Object> settings = new HashMap<>();
         settings.put(FileSink.FILE_PATH, filepath);
@@ -0,0 +1,214 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+
+class RollingFileWriterTest {
+    private static final Instant START = Instant.parse("2023-01-01T12:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    private Path path;
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        path = directory.resolve("events.log");
+        clock = new MutableClock(START);
+    }
+
+    private RollingFileWriter createObjectUnderTest(final long maxFileSize, final Duration maxFileAge,
+                                                    final FileCompression compression, final FsyncPolicy fsyncPolicy) {
+        return new RollingFileWriter(path, maxFileSize, maxFileAge, compression, fsyncPolicy, clock);
+    }
+
+    @ParameterizedTest
+    @EnumSource(FsyncPolicy.class)
+    void write_writes_the_bytes_to_the_file(final FsyncPolicy fsyncPolicy) throws IOException {
+        try (final RollingFileWriter objectUnderTest = createObjectUnderTest(0, null, FileCompression.NONE, fsyncPolicy)) {
+            objectUnderTest.write(bytes("a\n"));
+            objectUnderTest.write(bytes("b\n"));
+        }
+
+        assertThat(Files.readString(path), equalTo("a\nb\n"));
+    }
+
+    @Test
+    void write_appends_to_an_existing_file() throws IOException {
+        Files.writeString(path, "existing\n");
+
+        try (final RollingFileWriter objectUnderTest = createObjectUnderTest(0, null, FileCompression.NONE, FsyncPolicy.NONE)) {
+            objectUnderTest.write(bytes("new\n"));
+        }
+
+        assertThat(Files.readString(path), equalTo("existing\nnew\n"));
+    }
+
+    @Test
+    void write_rolls_the_file_when_it_reaches_the_maximum_size() throws IOException {
+        try (final RollingFileWriter objectUnderTest = createObjectUnderTest(4, null, FileCompression.NONE, FsyncPolicy.ROLL)) {
+            objectUnderTest.write(bytes("a\n"));
+            assertThat(objectUnderTest.getRolledFiles(), equalTo(0));
+            objectUnderTest.write(bytes("b\n"));
+            assertThat(objectUnderTest.getRolledFiles(), equalTo(1));
+            objectUnderTest.write(bytes("c\n"));
+        }
+
+        assertThat(Files.exists(path), equalTo(true));
+        assertThat(Files.readString(path), equalTo("c\n"));
+        assertThat(Files.readString(directory.resolve("events-20230101T120000.000-0.log")), equalTo("a\nb\n"));
+    }
+
+    @Test
+    void write_counts_the_size_of_an_existing_file() throws IOException {
+        Files.writeString(path, "existing\n");
+
+        try (final RollingFileWriter objectUnderTest = createObjectUnderTest(10, null, FileCompression.NONE, FsyncPolicy.NONE)) {
+            objectUnderTest.write(bytes("a\n"));
+            assertThat(objectUnderTest.getRolledFiles(), equalTo(1));
+        }
+
+        assertThat(Files.exists(path), equalTo(false));
+    }
+
+    @Test
+    void rolled_files_with_the_same_time_have_different_names() throws IOException {
+        try (final RollingFileWriter objectUnderTest = createObjectUnderTest(1, null, FileCompression.NONE, FsyncPolicy.NONE)) {
+            objectUnderTest.write(bytes("a\n"));
+            objectUnderTest.write(bytes("b\n"));
+            assertThat(objectUnderTest.getRolledFiles(), equalTo(2));
+        }
+
+        assertThat(listFileNames(), containsInAnyOrder("events-20230101T120000.000-0.log", "events-20230101T120000.000-1.log"));
+    }
+
+    @Test
+    void rollIfExpired_rolls_the_file_when_it_reaches_the_maximum_age() throws IOException {
+        try (final RollingFileWriter objectUnderTest = createObjectUnderTest(0, Duration.ofMinutes(1), FileCompression.NONE, FsyncPolicy.NONE)) {
+            assertThat(objectUnderTest.getTimeUntilRoll(), nullValue());
+            objectUnderTest.write(bytes("a\n"));
+            assertThat(objectUnderTest.getTimeUntilRoll(), equalTo(Duration.ofMinutes(1)));
+
+            clock.advance(Duration.ofSeconds(59));
+            objectUnderTest.rollIfExpired();
+            assertThat(objectUnderTest.getRolledFiles(), equalTo(0));
+            assertThat(objectUnderTest.getTimeUntilRoll(), equalTo(Duration.ofSeconds(1)));
+
+            clock.advance(Duration.ofSeconds(2));
+            assertThat(objectUnderTest.getTimeUntilRoll(), equalTo(Duration.ZERO));
+            objectUnderTest.rollIfExpired();
+            assertThat(objectUnderTest.getRolledFiles(), equalTo(1));
+            assertThat(objectUnderTest.getTimeUntilRoll(), nullValue());
+        }
+
+        assertThat(Files.exists(path), equalTo(false));
+        assertThat(Files.readString(directory.resolve("events-20230101T120101.000-0.log")), equalTo("a\n"));
+    }
+
+    @Test
+    void rollIfExpired_does_not_roll_a_file_which_was_not_written() throws IOException {
+        try (final RollingFileWriter objectUnderTest = createObjectUnderTest(0, Duration.ofMinutes(1), FileCompression.NONE, FsyncPolicy.NONE)) {
+            objectUnderTest.open();
+            clock.advance(Duration.ofMinutes(2));
+            objectUnderTest.rollIfExpired();
+            assertThat(objectUnderTest.getRolledFiles(), equalTo(0));
+        }
+    }
+
+    @Test
+    void gzip_files_can_be_read_after_each_roll() throws IOException {
+        path = directory.resolve("events.log.gz");
+        try (final RollingFileWriter objectUnderTest = createObjectUnderTest(0, Duration.ofMinutes(1), FileCompression.GZIP, FsyncPolicy.NONE)) {
+            objectUnderTest.write(bytes("a\n"));
+            objectUnderTest.write(bytes("b\n"));
+            clock.advance(Duration.ofMinutes(1));
+            objectUnderTest.rollIfExpired();
+            objectUnderTest.write(bytes("c\n"));
+        }
+
+        assertThat(readGzip(directory.resolve("events-20230101T120100.000-0.log.gz")), equalTo("a\nb\n"));
+        assertThat(readGzip(path), equalTo("c\n"));
+    }
+
+    @Test
+    void close_without_writing_does_not_create_a_file() throws IOException {
+        createObjectUnderTest(0, null, FileCompression.NONE, FsyncPolicy.NONE).close();
+
+        assertThat(Files.exists(path), equalTo(false));
+    }
+
+    private static ByteArrayOutputStream bytes(final String string) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(string.getBytes(StandardCharsets.UTF_8));
+        return bytes;
+    }
+
+    private static String readGzip(final Path gzipPath) throws IOException {
+        try (final InputStream inputStream = new GZIPInputStream(Files.newInputStream(gzipPath))) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private List<String> listFileNames() throws IOException {
+        try (final Stream<Path> paths = Files.list(directory)) {
+            return paths.map(filePath -> filePath.getFileName().toString()).collect(Collectors.toList());
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
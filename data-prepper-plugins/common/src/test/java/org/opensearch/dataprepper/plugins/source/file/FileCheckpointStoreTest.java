@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.file;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class FileCheckpointStoreTest {
+    @TempDir
+    Path tempDirectory;
+
+    @Test
+    void getOffset_without_checkpoint_returns_zero() {
+        assertThat(new FileCheckpointStore(null).getOffset("fileKey"), equalTo(0L));
+    }
+
+    @Test
+    void save_and_load_restores_offsets() throws IOException {
+        final Path checkpointPath = tempDirectory.resolve("checkpoints.json");
+        final FileCheckpointStore objectUnderTest = new FileCheckpointStore(checkpointPath);
+        objectUnderTest.setOffset("first", tempDirectory.resolve("first.log"), 10);
+        objectUnderTest.setOffset("second", tempDirectory.resolve("second.log"), 20);
+        objectUnderTest.setOffset("removed", tempDirectory.resolve("removed.log"), 30);
+        objectUnderTest.remove("removed");
+        objectUnderTest.save();
+
+        final FileCheckpointStore loadedStore = new FileCheckpointStore(checkpointPath);
+        loadedStore.load();
+
+        assertThat(loadedStore.getOffset("first"), equalTo(10L));
+        assertThat(loadedStore.getOffset("second"), equalTo(20L));
+        assertThat(loadedStore.getOffset("removed"), equalTo(0L));
+        assertThat(Files.exists(tempDirectory.resolve("checkpoints.json.tmp")), equalTo(false));
+    }
+
+    @Test
+    void load_without_checkpoint_file_has_no_offsets() throws IOException {
+        final FileCheckpointStore objectUnderTest = new FileCheckpointStore(tempDirectory.resolve("missing.json"));
+        objectUnderTest.load();
+
+        assertThat(objectUnderTest.getOffset("fileKey"), equalTo(0L));
+    }
+
+    @Test
+    void save_without_changes_does_not_write_file() throws IOException {
+        final Path checkpointPath = tempDirectory.resolve("checkpoints.json");
+        new FileCheckpointStore(checkpointPath).save();
+
+        assertThat(Files.exists(checkpointPath), equalTo(false));
+    }
+}
@@ -19,11 +19,21 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import io.micrometer.core.instrument.Counter;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -33,7 +43,10 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class FileSourceTests {
@@ -56,6 +69,12 @@ public class FileSourceTests {
     @Mock
     private PluginFactory pluginFactory;
 
+    @Mock
+    private Counter counter;
+
+    @TempDir
+    Path tempDirectory;
+
     private Buffer<Record<Object>> buffer;
 
     private Map<String, Object> pluginSettings;
@@ -206,6 +225,101 @@ public class FileSourceTests {
         assertThrows(IllegalArgumentException.class, this::createObjectUnderTest);
     }
 
+    @Test
+    public void testTailWithNonexistentDirectoryThrowsRuntimeException() {
+        pluginSettings.put(FileSourceConfig.ATTRIBUTE_PATH, tempDirectory.resolve("missing").resolve("*.log").toString());
+        pluginSettings.put(FileSourceConfig.ATTRIBUTE_TAIL, true);
+        fileSource = createObjectUnderTest();
+        assertThrows(RuntimeException.class, () -> fileSource.start(buffer));
+    }
+
+    @Test
+    public void testCheckpointPathWithoutTailThrowsIllegalArgumentException() {
+        pluginSettings.put(FileSourceConfig.ATTRIBUTE_CHECKPOINT_PATH, tempDirectory.resolve("checkpoints.json").toString());
+        assertThrows(IllegalArgumentException.class, this::createObjectUnderTest);
+    }
+
+    @Test
+    public void testTailReadsAppendedLinesAndRotatedFiles() throws IOException {
+        when(pluginMetrics.counter(anyString())).thenReturn(counter);
+        final Path logPath = tempDirectory.resolve("app.log");
+        append(logPath, "first\n");
+        append(tempDirectory.resolve("other.txt"), "not matched\n");
+        pluginSettings.put(FileSourceConfig.ATTRIBUTE_PATH, tempDirectory.resolve("*.log").toString());
+        pluginSettings.put(FileSourceConfig.ATTRIBUTE_TAIL, true);
+        pluginSettings.put(FileSourceConfig.ATTRIBUTE_TYPE, FileSourceConfig.DEFAULT_TYPE);
+        buffer = getTailBuffer();
+
+        fileSource = createObjectUnderTest();
+        fileSource.start(buffer);
+        try {
+            final List<Object> lines = new ArrayList<>();
+            awaitLines(lines, 1);
+
+            append(logPath, "second\npart");
+            Files.move(logPath, tempDirectory.resolve("app.log.1"));
+            append(logPath, "third\n");
+            awaitLines(lines, 4);
+
+            assertThat(lines.subList(0, 1), equalTo(Collections.singletonList("first")));
+            assertThat(lines.containsAll(Arrays.asList("second", "part", "third")), equalTo(true));
+        } finally {
+            fileSource.stop();
+        }
+    }
+
+    @Test
+    public void testTailResumesFromCheckpoint() throws IOException {
+        when(pluginMetrics.counter(anyString())).thenReturn(counter);
+        final Path logPath = tempDirectory.resolve("app.log");
+        append(logPath, "first\nsecond\n");
+        pluginSettings.put(FileSourceConfig.ATTRIBUTE_PATH, logPath.toString());
+        pluginSettings.put(FileSourceConfig.ATTRIBUTE_TAIL, true);
+        pluginSettings.put(FileSourceConfig.ATTRIBUTE_CHECKPOINT_PATH, tempDirectory.resolve("checkpoints.json").toString());
+        pluginSettings.put(FileSourceConfig.ATTRIBUTE_TYPE, FileSourceConfig.DEFAULT_TYPE);
+        buffer = getTailBuffer();
+
+        fileSource = createObjectUnderTest();
+        fileSource.start(buffer);
+        final List<Object> lines = new ArrayList<>();
+        try {
+            awaitLines(lines, 2);
+        } finally {
+            fileSource.stop();
+        }
+        assertThat(lines, equalTo(Arrays.asList("first", "second")));
+
+        append(logPath, "third\n");
+        fileSource = createObjectUnderTest();
+        fileSource.start(buffer);
+        try {
+            awaitLines(lines, 3);
+        } finally {
+            fileSource.stop();
+        }
+        assertThat(lines, equalTo(Arrays.asList("first", "second", "third")));
+    }
+
+    private BlockingBuffer<Record<Object>> getTailBuffer() {
+        final HashMap<String, Object> integerHashMap = new HashMap<>();
+        integerHashMap.put("buffer_size", 100);
+        integerHashMap.put("batch_size", 100);
+        final PluginSetting pluginSetting = new PluginSetting("blocking_buffer", integerHashMap);
+        pluginSetting.setPipelineName(TEST_PIPELINE_NAME);
+        return new BlockingBuffer<>(pluginSetting);
+    }
+
+    private void awaitLines(final List<Object> lines, final int expectedLines) {
+        await().atMost(Duration.ofSeconds(10)).until(() -> {
+            buffer.read(100).getKey().forEach(record -> lines.add(record.getData()));
+            return lines.size() >= expectedLines;
+        });
+    }
+
+    private static void append(final Path path, final String content) throws IOException {
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
     static void assertExpectedRecordsAreEqual(final List<Record<Object>> expectedEvents, final List<Record<Object>> actualEvents) {
         for (int i = 0; i < expectedEvents.size(); i++) {
             assertThat(actualEvents.get(i), notNullValue());
@@ -0,0 +1,200 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.file;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class TailedFileTest {
+    private static final String FILE_KEY = "fileKey";
+
+    @TempDir
+    Path tempDirectory;
+
+    private Path path;
+    private ByteBuffer readBuffer;
+
+    @BeforeEach
+    void setUp() {
+        path = tempDirectory.resolve("test.log");
+        readBuffer = ByteBuffer.allocateDirect(FileSourceConfig.MINIMUM_READ_BUFFER_SIZE);
+    }
+
+    @Test
+    void readLines_returns_complete_lines_and_keeps_partial_line() throws IOException {
+        append("first\nsecond\r\nthi");
+
+        try (final TailedFile tailedFile = TailedFile.open(path, FILE_KEY, 0, FileSourceConfig.DEFAULT_MAX_LINE_LENGTH)) {
+            final List<String> lines = new ArrayList<>();
+            assertThat(tailedFile.readLines(readBuffer, 10, false, lines), equalTo(true));
+            assertThat(lines, equalTo(Arrays.asList("first", "second")));
+            assertThat(tailedFile.getLineOffset(), equalTo(15L));
+
+            append("rd\n");
+            lines.clear();
+            assertThat(tailedFile.readLines(readBuffer, 10, false, lines), equalTo(true));
+            assertThat(lines, equalTo(Collections.singletonList("third")));
+            assertThat(tailedFile.getLineOffset(), equalTo(21L));
+        }
+    }
+
+    @Test
+    void readLines_with_includeLastLine_returns_unterminated_line() throws IOException {
+        append("first\nlast");
+
+        try (final TailedFile tailedFile = TailedFile.open(path, FILE_KEY, 0, FileSourceConfig.DEFAULT_MAX_LINE_LENGTH)) {
+            final List<String> lines = new ArrayList<>();
+            tailedFile.readLines(readBuffer, 10, true, lines);
+            assertThat(lines, equalTo(Arrays.asList("first", "last")));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    void readLines_stops_at_maxLines(final int maxLines) throws IOException {
+        append("a\nb\nc\nd\n");
+
+        try (final TailedFile tailedFile = TailedFile.open(path, FILE_KEY, 0, FileSourceConfig.DEFAULT_MAX_LINE_LENGTH)) {
+            final List<String> lines = new ArrayList<>();
+            assertThat(tailedFile.readLines(readBuffer, maxLines, false, lines), equalTo(false));
+            assertThat(lines.size(), equalTo(maxLines));
+            assertThat(tailedFile.getLineOffset(), equalTo(2L * maxLines));
+
+            while (!tailedFile.readLines(readBuffer, maxLines, false, lines)) {
+            }
+            assertThat(lines, equalTo(Arrays.asList("a", "b", "c", "d")));
+        }
+    }
+
+    @Test
+    void readLines_after_maxLines_continues_from_the_bytes_already_read() throws IOException {
+        append("a\nb\nc\n");
+
+        try (final TailedFile tailedFile = TailedFile.open(path, FILE_KEY, 0, FileSourceConfig.DEFAULT_MAX_LINE_LENGTH)) {
+            final List<String> lines = new ArrayList<>();
+            assertThat(tailedFile.readLines(readBuffer, 1, false, lines), equalTo(false));
+            assertThat(lines, equalTo(Collections.singletonList("a")));
+
+            // Bytes which were already read are not read from the file again
+            Files.write(path, "a\nx\ny\nd\n".getBytes(StandardCharsets.UTF_8));
+            lines.clear();
+            assertThat(tailedFile.readLines(readBuffer, 1, false, lines), equalTo(false));
+            assertThat(lines, equalTo(Collections.singletonList("b")));
+            assertThat(tailedFile.getLineOffset(), equalTo(4L));
+
+            lines.clear();
+            assertThat(tailedFile.readLines(readBuffer, 10, false, lines), equalTo(true));
+            assertThat(lines, equalTo(Arrays.asList("c", "d")));
+            assertThat(tailedFile.getLineOffset(), equalTo(8L));
+        }
+    }
+
+    @Test
+    void readLines_of_files_sharing_a_readBuffer_keeps_the_bytes_of_each_file() throws IOException {
+        append("a\nb\nc\n");
+        final Path otherPath = tempDirectory.resolve("other.log");
+        Files.write(otherPath, "1\n2\n3\n".getBytes(StandardCharsets.UTF_8));
+
+        try (final TailedFile tailedFile = TailedFile.open(path, FILE_KEY, 0, FileSourceConfig.DEFAULT_MAX_LINE_LENGTH);
+             final TailedFile otherTailedFile = TailedFile.open(otherPath, "otherFileKey", 0, FileSourceConfig.DEFAULT_MAX_LINE_LENGTH)) {
+            final List<String> lines = new ArrayList<>();
+            while (!tailedFile.readLines(readBuffer, 2, false, lines) | !otherTailedFile.readLines(readBuffer, 2, false, lines)) {
+            }
+            assertThat(lines, equalTo(Arrays.asList("a", "b", "1", "2", "c", "3")));
+        }
+    }
+
+    @Test
+    void readLines_with_lines_longer_than_readBuffer() throws IOException {
+        final String longLine = "x".repeat(FileSourceConfig.MINIMUM_READ_BUFFER_SIZE * 3);
+        append(longLine + "\n\u00e9\n");
+
+        try (final TailedFile tailedFile = TailedFile.open(path, FILE_KEY, 0, FileSourceConfig.DEFAULT_MAX_LINE_LENGTH)) {
+            final List<String> lines = new ArrayList<>();
+            tailedFile.readLines(readBuffer, 10, false, lines);
+            assertThat(lines, equalTo(Arrays.asList(longLine, "\u00e9")));
+        }
+    }
+
+    @Test
+    void readLines_truncates_lines_longer_than_maxLineLength() throws IOException {
+        final int maxLineLength = 10;
+        final String longLine = "x".repeat(FileSourceConfig.MINIMUM_READ_BUFFER_SIZE * 3);
+        append("short\n" + longLine);
+
+        try (final TailedFile tailedFile = TailedFile.open(path, FILE_KEY, 0, maxLineLength)) {
+            final List<String> lines = new ArrayList<>();
+            assertThat(tailedFile.readLines(readBuffer, 10, false, lines), equalTo(true));
+            assertThat(lines, equalTo(Collections.singletonList("short")));
+            assertThat(tailedFile.getLineOffset(), equalTo(6L));
+
+            append("\nnext\n");
+            lines.clear();
+            tailedFile.readLines(readBuffer, 10, false, lines);
+            assertThat(lines, equalTo(Arrays.asList(longLine.substring(0, maxLineLength), "next")));
+            assertThat(tailedFile.getLineOffset(), equalTo(6L + longLine.length() + 6));
+        }
+    }
+
+    @Test
+    void open_resumes_from_offset() throws IOException {
+        append("first\nsecond\n");
+
+        try (final TailedFile tailedFile = TailedFile.open(path, FILE_KEY, 6, FileSourceConfig.DEFAULT_MAX_LINE_LENGTH)) {
+            final List<String> lines = new ArrayList<>();
+            tailedFile.readLines(readBuffer, 10, false, lines);
+            assertThat(lines, equalTo(Collections.singletonList("second")));
+        }
+    }
+
+    @Test
+    void open_with_offset_beyond_end_reads_from_beginning() throws IOException {
+        append("first\n");
+
+        try (final TailedFile tailedFile = TailedFile.open(path, FILE_KEY, 100, FileSourceConfig.DEFAULT_MAX_LINE_LENGTH)) {
+            assertThat(tailedFile.getLineOffset(), equalTo(0L));
+        }
+    }
+
+    @Test
+    void resetIfTruncated_reads_truncated_file_from_beginning() throws IOException {
+        append("a long first line\n");
+
+        try (final TailedFile tailedFile = TailedFile.open(path, FILE_KEY, 0, FileSourceConfig.DEFAULT_MAX_LINE_LENGTH)) {
+            final List<String> lines = new ArrayList<>();
+            tailedFile.readLines(readBuffer, 10, false, lines);
+            assertThat(tailedFile.resetIfTruncated(), equalTo(false));
+
+            Files.write(path, "new\n".getBytes(StandardCharsets.UTF_8));
+            assertThat(tailedFile.resetIfTruncated(), equalTo(true));
+
+            lines.clear();
+            tailedFile.readLines(readBuffer, 10, false, lines);
+            assertThat(lines, equalTo(Collections.singletonList("new")));
+        }
+    }
+
+    private void append(final String content) throws IOException {
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
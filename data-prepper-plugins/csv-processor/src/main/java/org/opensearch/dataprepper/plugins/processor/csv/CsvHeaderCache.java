@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.csv;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A least recently used cache of parsed headers keyed by the header string. Events from the same source usually
+ * repeat the same header, which then only needs to be parsed once.
+ */
+class CsvHeaderCache {
+    private final Map<String, List<String>> parsedHeaders;
+
+    CsvHeaderCache(final int maximumSize) {
+        parsedHeaders = new LinkedHashMap<String, List<String>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, List<String>> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * @param header The header string
+     * @param headerParser Parses the header if it is not cached
+     * @return The parsed header
+     */
+    List<String> getParsedHeader(final String header, final Function<String, List<String>> headerParser) {
+        synchronized (parsedHeaders) {
+            final List<String> parsedHeader = parsedHeaders.get(header);
+            if (parsedHeader != null) {
+                return parsedHeader;
+            }
+        }
+
+        final List<String> parsedHeader = headerParser.apply(header);
+        synchronized (parsedHeaders) {
+            parsedHeaders.put(header, parsedHeader);
+        }
+        return parsedHeader;
+    }
+
+    int size() {
+        synchronized (parsedHeaders) {
+            return parsedHeaders.size();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.csv;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses the first row of CSV data with a configured delimiter and quote character.
+ * <p>
+ * A single line is split directly, creating only the column values. Fields are either unquoted, without the quote
+ * character, or quoted, with the closing quote followed by the delimiter or the end of the line, and two quote
+ * characters in a quoted field standing for one. Any other data, such as multiple lines or an unclosed quote, is
+ * parsed by a Jackson {@link ObjectReader} which is created once and shared by all threads.
+ */
+class CsvLineParser {
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final char delimiter;
+    private final char quoteCharacter;
+    private final ObjectReader objectReader;
+
+    CsvLineParser(final char delimiter, final char quoteCharacter) {
+        this.delimiter = delimiter;
+        this.quoteCharacter = quoteCharacter;
+
+        final CsvMapper mapper = new CsvMapper();
+        mapper.enable(CsvParser.Feature.WRAP_AS_ARRAY); // allows mapper to read with empty schema
+        final CsvSchema schema = CsvSchema.emptySchema().withColumnSeparator(delimiter).withQuoteChar(quoteCharacter);
+        objectReader = mapper.readerFor(List.class).with(schema);
+    }
+
+    /**
+     * @param data The CSV data
+     * @return The columns of the first row, or null if the data has no rows
+     * @throws IOException if the data is not valid CSV
+     */
+    List<String> parseFirstRow(final String data) throws IOException {
+        final List<String> row = data != null ? split(data) : null;
+        if (row != null) {
+            return row;
+        }
+
+        final MappingIterator<List<String>> rowIterator = objectReader.readValues(data);
+        return rowIterator.hasNextValue() ? rowIterator.nextValue() : null;
+    }
+
+    /**
+     * Splits a single line of CSV data into its columns.
+     *
+     * @param line The CSV data
+     * @return The columns, or null if the data is not a single line which can be split directly
+     */
+    List<String> split(final String line) {
+        final int length = line.length();
+        if (length == 0 || line.charAt(0) == BYTE_ORDER_MARK || line.indexOf('\n') >= 0 || line.indexOf('\r') >= 0) {
+            return null;
+        }
+
+        final List<String> columns = new ArrayList<>();
+        int index = 0;
+        while (true) {
+            final int end;
+            if (line.charAt(index) == quoteCharacter) {
+                end = splitQuotedColumn(line, index, columns);
+            } else {
+                end = splitUnquotedColumn(line, index, columns);
+            }
+            if (end < 0) {
+                return null;
+            }
+            if (end == length) {
+                return columns;
+            }
+            index = end + 1;
+            if (index == length) {
+                // Leaves the handling of a trailing delimiter to the reader
+                return null;
+            }
+        }
+    }
+
+    /**
+     * @return The index of the delimiter or end of line after the column, or -1 if the column cannot be split directly
+     */
+    private int splitUnquotedColumn(final String line, final int start, final List<String> columns) {
+        int end = start;
+        while (end < line.length()) {
+            final char c = line.charAt(end);
+            if (c == delimiter) {
+                break;
+            }
+            if (c == quoteCharacter) {
+                return -1;
+            }
+            end++;
+        }
+        columns.add(line.substring(start, end));
+        return end;
+    }
+
+    /**
+     * @return The index of the delimiter or end of line after the column, or -1 if the column cannot be split directly
+     */
+    private int splitQuotedColumn(final String line, final int start, final List<String> columns) {
+        StringBuilder unescapedColumn = null;
+        int segmentStart = start + 1;
+        int index = segmentStart;
+        while (true) {
+            final int quoteIndex = line.indexOf(quoteCharacter, index);
+            if (quoteIndex < 0) {
+                return -1;
+            }
+            if (quoteIndex + 1 < line.length() && line.charAt(quoteIndex + 1) == quoteCharacter) {
+                if (unescapedColumn == null) {
+                    unescapedColumn = new StringBuilder();
+                }
+                unescapedColumn.append(line, segmentStart, quoteIndex + 1);
+                index = quoteIndex + 2;
+                segmentStart = index;
+                continue;
+            }
+
+            final int end = quoteIndex + 1;
+            if (end < line.length() && line.charAt(end) != delimiter) {
+                return -1;
+            }
+            if (unescapedColumn == null) {
+                columns.add(line.substring(segmentStart, quoteIndex));
+            } else {
+                columns.add(unescapedColumn.append(line, segmentStart, quoteIndex).toString());
+            }
+            return end;
+        }
+    }
+}
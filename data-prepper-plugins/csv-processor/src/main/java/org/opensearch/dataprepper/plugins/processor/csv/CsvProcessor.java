@@ -12,10 +12,6 @@ import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
-import com.fasterxml.jackson.databind.MappingIterator;
-import com.fasterxml.jackson.dataformat.csv.CsvMapper;
-import com.fasterxml.jackson.dataformat.csv.CsvParser;
-import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 import io.micrometer.core.instrument.Counter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,6 +19,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -37,23 +34,30 @@ public class CsvProcessor extends AbstractProcessor<Record<Event>, Record<Event>
     private static final Logger LOG = LoggerFactory.getLogger(CsvProcessor.class);
 
     static final String CSV_INVALID_EVENTS = "csvInvalidEvents";
+    static final int MAXIMUM_CACHED_HEADERS = 128;
 
     private final Counter csvInvalidEventsCounter;
 
     private final CsvProcessorConfig config;
 
+    private final CsvLineParser csvLineParser;
+
+    private final CsvHeaderCache csvHeaderCache;
+
     @DataPrepperPluginConstructor
     public CsvProcessor(final PluginMetrics pluginMetrics, final CsvProcessorConfig config) {
         super(pluginMetrics);
         this.csvInvalidEventsCounter = pluginMetrics.counter(CSV_INVALID_EVENTS);
         this.config = config;
+
+        final char delimiterAsChar = config.getDelimiter().charAt(0); // safe due to config input validations
+        final char quoteCharAsChar = config.getQuoteCharacter().charAt(0); // safe due to config input validations
+        this.csvLineParser = new CsvLineParser(delimiterAsChar, quoteCharAsChar);
+        this.csvHeaderCache = new CsvHeaderCache(MAXIMUM_CACHED_HEADERS);
     }
 
     @Override
     public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
-        final CsvMapper mapper = createCsvMapper();
-        final CsvSchema schema = createCsvSchema();
-
         for (final Record<Event> record : records) {
 
             final Event event = record.getData();
@@ -63,12 +67,11 @@ public class CsvProcessor extends AbstractProcessor<Record<Event>, Record<Event>
             final boolean thisEventHasHeaderSource = userDidSpecifyHeaderEventKey && event.containsKey(config.getColumnNamesSourceKey());
 
             try {
-                final MappingIterator<List<String>> messageIterator = mapper.readerFor(List.class).with(schema).readValues(message);
+                final List<String> row = csvLineParser.parseFirstRow(message);
 
                 // otherwise the message is empty
-                if (messageIterator.hasNextValue()) {
-                    final List<String> row = messageIterator.nextValue();
-                    final List<String> header = parseHeader(event, thisEventHasHeaderSource, mapper, schema);
+                if (row != null) {
+                    final List<String> header = parseHeader(event, thisEventHasHeaderSource);
                     putDataInEvent(event, header, row);
                 }
 
@@ -98,23 +101,10 @@ public class CsvProcessor extends AbstractProcessor<Record<Event>, Record<Event>
 
     }
 
-    private CsvMapper createCsvMapper() {
-        final CsvMapper mapper = new CsvMapper();
-        mapper.enable(CsvParser.Feature.WRAP_AS_ARRAY); // allows mapper to read with empty schema
-        return mapper;
-    }
-
-    private CsvSchema createCsvSchema() {
-        final char delimiterAsChar = config.getDelimiter().charAt(0); // safe due to config input validations
-        final char quoteCharAsChar = config.getQuoteCharacter().charAt(0); // safe due to config input validations
-        final CsvSchema schema = CsvSchema.emptySchema().withColumnSeparator(delimiterAsChar).withQuoteChar(quoteCharAsChar);
-        return schema;
-    }
-
-    private List<String> parseHeader(final Event event, final boolean thisEventHasHeaderSource, final CsvMapper mapper,
-                                     final CsvSchema schema) {
+    private List<String> parseHeader(final Event event, final boolean thisEventHasHeaderSource) {
         if (thisEventHasHeaderSource) {
-            return parseHeaderFromEventSourceKey(event, mapper, schema);
+            final String headerUnprocessed = event.get(config.getColumnNamesSourceKey(), String.class);
+            return csvHeaderCache.getParsedHeader(headerUnprocessed, header -> parseHeaderFromEventSourceKey(event, header));
         }
         else if (Objects.nonNull(config.getColumnNames())) {
             return config.getColumnNames();
@@ -125,19 +115,15 @@ public class CsvProcessor extends AbstractProcessor<Record<Event>, Record<Event>
         }
     }
 
-    private List<String> parseHeaderFromEventSourceKey(final Event event, final CsvMapper mapper, final CsvSchema schema) {
+    private List<String> parseHeaderFromEventSourceKey(final Event event, final String headerUnprocessed) {
         try {
-            final String headerUnprocessed = event.get(config.getColumnNamesSourceKey(), String.class);
-            final MappingIterator<List<String>> headerIterator = mapper.readerFor(List.class).with(schema)
-                    .readValues(headerUnprocessed);
+            final List<String> headerFromEventSource = csvLineParser.parseFirstRow(headerUnprocessed);
             // if header is empty, behaves correctly since columns are autogenerated.
-            final List<String> headerFromEventSource = headerIterator.nextValue();
-            return headerFromEventSource;
+            return headerFromEventSource != null ? Collections.unmodifiableList(headerFromEventSource) : Collections.emptyList();
         }
         catch (final IOException e) {
             LOG.debug("Auto generating header because of IOException on the header of event [{}]", event, e);
-            final List<String> emptyHeader = new ArrayList<>();
-            return emptyHeader;
+            return Collections.emptyList();
         }
     }
 
@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.csv;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class CsvHeaderCacheTest {
+    private final List<String> parsedHeaderStrings = new ArrayList<>();
+
+    private final Function<String, List<String>> headerParser = header -> {
+        parsedHeaderStrings.add(header);
+        return Arrays.asList(header.split(","));
+    };
+
+    @Test
+    void getParsedHeader_parses_each_header_once() {
+        final CsvHeaderCache objectUnderTest = new CsvHeaderCache(2);
+
+        final List<String> parsedHeader = objectUnderTest.getParsedHeader("a,b", headerParser);
+
+        assertThat(parsedHeader, equalTo(Arrays.asList("a", "b")));
+        assertThat(objectUnderTest.getParsedHeader("a,b", headerParser), sameInstance(parsedHeader));
+        assertThat(parsedHeaderStrings, equalTo(Arrays.asList("a,b")));
+        assertThat(objectUnderTest.size(), equalTo(1));
+    }
+
+    @Test
+    void getParsedHeader_evicts_least_recently_used_header() {
+        final CsvHeaderCache objectUnderTest = new CsvHeaderCache(2);
+
+        objectUnderTest.getParsedHeader("a,b", headerParser);
+        objectUnderTest.getParsedHeader("c,d", headerParser);
+        objectUnderTest.getParsedHeader("a,b", headerParser);
+        objectUnderTest.getParsedHeader("e,f", headerParser);
+        objectUnderTest.getParsedHeader("a,b", headerParser);
+        objectUnderTest.getParsedHeader("c,d", headerParser);
+
+        assertThat(parsedHeaderStrings, equalTo(Arrays.asList("a,b", "c,d", "e,f", "c,d")));
+        assertThat(objectUnderTest.size(), equalTo(2));
+    }
+}
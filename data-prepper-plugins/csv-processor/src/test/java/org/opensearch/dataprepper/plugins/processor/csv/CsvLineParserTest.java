@@ -0,0 +1,87 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.csv;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class CsvLineParserTest {
+    private CsvLineParser createObjectUnderTest() {
+        return new CsvLineParser(',', '"');
+    }
+
+    private static Stream<Arguments> singleLines() {
+        return Stream.of(
+                arguments("1,2,3", Arrays.asList("1", "2", "3")),
+                arguments("a", Arrays.asList("a")),
+                arguments("a,,b", Arrays.asList("a", "", "b")),
+                arguments(",a", Arrays.asList("", "a")),
+                arguments(" a , b ", Arrays.asList(" a ", " b ")),
+                arguments("\"a,b\",c", Arrays.asList("a,b", "c")),
+                arguments("\"\",a", Arrays.asList("", "a")),
+                arguments("\"a\"\"b\",\"\"\"\"", Arrays.asList("a\"b", "\""))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("singleLines")
+    void split_single_lines(final String line, final List<String> expectedColumns) {
+        assertThat(createObjectUnderTest().split(line), equalTo(expectedColumns));
+    }
+
+    @ParameterizedTest
+    @MethodSource("singleLines")
+    void parseFirstRow_single_lines(final String line, final List<String> expectedColumns) throws IOException {
+        assertThat(createObjectUnderTest().parseFirstRow(line), equalTo(expectedColumns));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "1,2\n3,4", "1,2\r\n", "\"a\nb\",c", "a,b,", "1,2,\"3", "a\"b", "\"a\"b,c", "\"\"\"", "\uFEFFa,b"})
+    void split_returns_null_for_data_left_to_the_reader(final String data) {
+        assertThat(createObjectUnderTest().split(data), nullValue());
+    }
+
+    @Test
+    void split_with_other_delimiter_and_quote_character() {
+        final CsvLineParser objectUnderTest = new CsvLineParser('\t', '\'');
+
+        assertThat(objectUnderTest.split("1\t'2\t3'\t''''\t\"4\""), equalTo(Arrays.asList("1", "2\t3", "'", "\"4\"")));
+    }
+
+    @Test
+    void parseFirstRow_returns_first_row_of_multiple_lines() throws IOException {
+        assertThat(createObjectUnderTest().parseFirstRow("1,2,3\n4,5,6"), equalTo(Arrays.asList("1", "2", "3")));
+    }
+
+    @Test
+    void parseFirstRow_returns_quoted_column_with_line_break() throws IOException {
+        assertThat(createObjectUnderTest().parseFirstRow("\"a\nb\",c"), equalTo(Arrays.asList("a\nb", "c")));
+    }
+
+    @Test
+    void parseFirstRow_returns_null_for_empty_data() throws IOException {
+        assertThat(createObjectUnderTest().parseFirstRow(""), nullValue());
+    }
+
+    @Test
+    void parseFirstRow_throws_for_unclosed_quote() {
+        assertThrows(IOException.class, () -> createObjectUnderTest().parseFirstRow("1,2,\"3"));
+    }
+}
@@ -71,6 +71,7 @@ class CsvProcessorTest {
     @Test
     void test_when_delimiterIsTab_then_parsedCorrectly() {
         when(processorConfig.getDelimiter()).thenReturn("\t");
+        csvProcessor = createObjectUnderTest();
 
         Record<Event> eventUnderTest = createMessageEvent("1\t2\t3");
         final List<Record<Event>> editedEvents = (List<Record<Event>>) csvProcessor.doExecute(Collections.singletonList(eventUnderTest));
@@ -247,6 +248,7 @@ class CsvProcessorTest {
     @Test
     void test_when_differentQuoteCharacter_then_parsesCorrectly() {
         when(processorConfig.getQuoteCharacter()).thenReturn("\'");
+        csvProcessor = createObjectUnderTest();
 
         final Record<Event> eventUnderTest = createMessageEvent("'1','2','3'");
         final List<Record<Event>> editedEvents = (List<Record<Event>>) csvProcessor.doExecute(Collections.singletonList(eventUnderTest));
@@ -315,6 +317,44 @@ class CsvProcessorTest {
         assertThat(parsedEvent.containsKey("column3"), equalTo(false));
     }
 
+    @Test
+    void test_when_eventsShareHeaderSource_then_eachEventUsesItsOwnHeader() {
+        when(processorConfig.getColumnNamesSourceKey()).thenReturn("header");
+
+        final Map<String, Object> firstEventData = new HashMap<>();
+        firstEventData.put("message","1,2,3");
+        firstEventData.put("header","col1,col2,col3");
+        final Map<String, Object> secondEventData = new HashMap<>();
+        secondEventData.put("message","4,5,6");
+        secondEventData.put("header","col1,col2,col3");
+        final Map<String, Object> thirdEventData = new HashMap<>();
+        thirdEventData.put("message","7,8,9");
+        thirdEventData.put("header","other1,other2");
+
+        final List<Record<Event>> editedEvents = (List<Record<Event>>) csvProcessor.doExecute(Arrays.asList(
+                buildRecordWithEvent(firstEventData), buildRecordWithEvent(secondEventData), buildRecordWithEvent(thirdEventData)));
+
+        assertThatKeyEquals(editedEvents.get(0).getData(), "col1", "1");
+        assertThatKeyEquals(editedEvents.get(0).getData(), "col3", "3");
+        assertThatKeyEquals(editedEvents.get(1).getData(), "col1", "4");
+        assertThatKeyEquals(editedEvents.get(1).getData(), "col3", "6");
+        assertThatKeyEquals(editedEvents.get(2).getData(), "other1", "7");
+        assertThatKeyEquals(editedEvents.get(2).getData(), "other2", "8");
+        assertThatKeyEquals(editedEvents.get(2).getData(), "column3", "9");
+    }
+
+    @Test
+    void test_when_quotedFieldsContainDelimiterAndQuotes_then_parsedCorrectly() {
+        final Record<Event> eventUnderTest = createMessageEvent("\"1,2\",\"say \"\"hi\"\"\",,\"\"");
+        final List<Record<Event>> editedEvents = (List<Record<Event>>) csvProcessor.doExecute(Collections.singletonList(eventUnderTest));
+        final Event parsedEvent = getSingleEvent(editedEvents);
+
+        assertThatKeyEquals(parsedEvent, "column1", "1,2");
+        assertThatKeyEquals(parsedEvent, "column2", "say \"hi\"");
+        assertThatKeyEquals(parsedEvent, "column3", "");
+        assertThatKeyEquals(parsedEvent, "column4", "");
+    }
+
     private Record<Event> createMessageEvent(final String message) {
         final Map<String, Object> eventData = new HashMap<>();
         eventData.put("message",message);
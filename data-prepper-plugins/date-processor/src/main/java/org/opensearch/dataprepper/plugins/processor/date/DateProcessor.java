@@ -18,13 +18,12 @@ import org.slf4j.LoggerFactory;
 
 import java.time.Instant;
 import java.time.LocalDate;
-import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.temporal.ChronoField;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @DataPrepperPlugin(name = "date", pluginType = Processor.class, pluginConfigurationType = DateProcessorConfig.class)
 public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
@@ -33,10 +32,14 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
     static final String DATE_PROCESSING_MATCH_SUCCESS = "dateProcessingMatchSuccess";
     static final String DATE_PROCESSING_MATCH_FAILURE = "dateProcessingMatchFailure";
+    static final String DATE_PROCESSING_PATTERN_MATCH = "dateProcessingPatternMatch";
+    static final String PATTERN_TAG = "pattern";
 
     private String keyToParse;
-    private List<DateTimeFormatter> dateTimeFormatters;
+    private List<DatePattern> datePatterns;
     private final DateProcessorConfig dateProcessorConfig;
+    private final DateTimeFormatter outputFormatter;
+    private final PluginMetrics pluginMetrics;
 
     private final Counter dateProcessingMatchSuccessCounter;
     private final Counter dateProcessingMatchFailureCounter;
@@ -45,6 +48,8 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
     public DateProcessor(PluginMetrics pluginMetrics, final DateProcessorConfig dateProcessorConfig) {
         super(pluginMetrics);
         this.dateProcessorConfig = dateProcessorConfig;
+        this.pluginMetrics = pluginMetrics;
+        outputFormatter = DateTimeFormatter.ofPattern(OUTPUT_FORMAT).withZone(dateProcessorConfig.getDestinationZoneId());
 
         dateProcessingMatchSuccessCounter = pluginMetrics.counter(DATE_PROCESSING_MATCH_SUCCESS);
         dateProcessingMatchFailureCounter = pluginMetrics.counter(DATE_PROCESSING_MATCH_FAILURE);
@@ -82,12 +87,38 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
     private void extractKeyAndFormatters() {
         for (DateProcessorConfig.DateMatch entry: dateProcessorConfig.getMatch()) {
             keyToParse = entry.getKey();
-            dateTimeFormatters = entry.getPatterns().stream().map(this::getSourceFormatter).collect(Collectors.toList());
+            datePatterns = new ArrayList<>();
+            for (final String pattern : entry.getPatterns()) {
+                datePatterns.add(new DatePattern(getTimestampParsers(pattern),
+                        pluginMetrics.counterWithTags(DATE_PROCESSING_PATTERN_MATCH, PATTERN_TAG, pattern)));
+            }
         }
     }
 
-    private DateTimeFormatter getSourceFormatter(final String pattern) {
+    /**
+     * Creates the parsers tried in order for a pattern. The epoch patterns have their own parsers. Other patterns are
+     * parsed by a {@link PatternTimestampParser} where the pattern is supported, with the {@link DateTimeFormatter} of
+     * the pattern as the fallback for the timestamps which it does not accept.
+     */
+    private List<TimestampParser> getTimestampParsers(final String pattern) {
+        final List<TimestampParser> timestampParsers = new ArrayList<>();
+        final EpochTimestampParser epochTimestampParser = EpochTimestampParser.forPattern(pattern);
+        if (epochTimestampParser != null) {
+            timestampParsers.add(epochTimestampParser);
+            return timestampParsers;
+        }
+
         final LocalDate localDateForDefaultValues = LocalDate.now(dateProcessorConfig.getSourceZoneId());
+        final PatternTimestampParser patternTimestampParser = PatternTimestampParser.create(pattern,
+                dateProcessorConfig.getSourceZoneId(), dateProcessorConfig.getSourceLocale(), localDateForDefaultValues);
+        if (patternTimestampParser != null) {
+            timestampParsers.add(patternTimestampParser);
+        }
+        timestampParsers.add(new FormatterTimestampParser(getSourceFormatter(pattern, localDateForDefaultValues)));
+        return timestampParsers;
+    }
+
+    private DateTimeFormatter getSourceFormatter(final String pattern, final LocalDate localDateForDefaultValues) {
 
         final DateTimeFormatterBuilder dateTimeFormatterBuilder = new DateTimeFormatterBuilder()
                 .appendPattern(pattern)
@@ -107,7 +138,7 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
     private String getDateTimeFromTimeReceived(final Record<Event> record) {
         final Instant timeReceived = record.getData().getMetadata().getTimeReceived();
-        return timeReceived.atZone(dateProcessorConfig.getDestinationZoneId()).format(getOutputFormatter());
+        return outputFormatter.format(timeReceived);
     }
 
     private String getDateTimeFromMatch(final Record<Event> record) {
@@ -128,11 +159,13 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
     }
 
     private String getFormattedDateTimeString(final String sourceTimestamp) {
-        for (DateTimeFormatter formatter : dateTimeFormatters) {
-            try {
-                return ZonedDateTime.parse(sourceTimestamp, formatter).format(getOutputFormatter().withZone(dateProcessorConfig.getDestinationZoneId()));
-            } catch (Exception ignored) {
-
+        for (final DatePattern datePattern : datePatterns) {
+            for (final TimestampParser timestampParser : datePattern.timestampParsers) {
+                final Instant instant = timestampParser.parse(sourceTimestamp);
+                if (instant != null) {
+                    datePattern.patternMatchCounter.increment();
+                    return outputFormatter.format(instant);
+                }
             }
         }
 
@@ -140,8 +173,14 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
         return null;
     }
 
-    private DateTimeFormatter getOutputFormatter() {
-        return DateTimeFormatter.ofPattern(OUTPUT_FORMAT);
+    private static class DatePattern {
+        private final TimestampParser[] timestampParsers;
+        private final Counter patternMatchCounter;
+
+        private DatePattern(final List<TimestampParser> timestampParsers, final Counter patternMatchCounter) {
+            this.timestampParsers = timestampParsers.toArray(new TimestampParser[0]);
+            this.patternMatchCounter = patternMatchCounter;
+        }
     }
 
     @Override
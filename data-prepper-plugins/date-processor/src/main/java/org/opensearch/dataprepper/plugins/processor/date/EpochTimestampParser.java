@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.date;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+
+/**
+ * Parses timestamps which are a number of seconds, milliseconds or nanoseconds since the epoch.
+ */
+enum EpochTimestampParser implements TimestampParser {
+    EPOCH_SECOND("epoch_second", 1L),
+    EPOCH_MILLI("epoch_milli", 1_000L),
+    EPOCH_NANO("epoch_nano", 1_000_000_000L);
+
+    private static final int MAXIMUM_DIGITS = 19;
+
+    private final String pattern;
+    private final long unitsPerSecond;
+
+    EpochTimestampParser(final String pattern, final long unitsPerSecond) {
+        this.pattern = pattern;
+        this.unitsPerSecond = unitsPerSecond;
+    }
+
+    /**
+     * @param pattern A pattern configured in the {@link DateProcessor}
+     * @return The parser for the pattern, or null if the pattern is not an epoch pattern
+     */
+    static EpochTimestampParser forPattern(final String pattern) {
+        for (final EpochTimestampParser epochTimestampParser : values()) {
+            if (epochTimestampParser.pattern.equals(pattern)) {
+                return epochTimestampParser;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Instant parse(final String timestamp) {
+        final boolean negative = !timestamp.isEmpty() && timestamp.charAt(0) == '-';
+        final int start = negative ? 1 : 0;
+        final int length = timestamp.length() - start;
+        if (length == 0 || length > MAXIMUM_DIGITS) {
+            return null;
+        }
+
+        long value = 0;
+        for (int i = start; i < timestamp.length(); i++) {
+            final char c = timestamp.charAt(i);
+            if (c < '0' || c > '9') {
+                return null;
+            }
+            // Accumulated as a negative number, which has the larger range, and checked for overflow
+            if (value < (Long.MIN_VALUE + (c - '0')) / 10) {
+                return null;
+            }
+            value = value * 10 - (c - '0');
+        }
+        if (!negative) {
+            if (value == Long.MIN_VALUE) {
+                return null;
+            }
+            value = -value;
+        }
+
+        final long seconds = Math.floorDiv(value, unitsPerSecond);
+        final long nanos = Math.floorMod(value, unitsPerSecond) * (1_000_000_000L / unitsPerSecond);
+        try {
+            return Instant.ofEpochSecond(seconds, nanos);
+        } catch (final DateTimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.date;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.text.ParsePosition;
+
+/**
+ * Parses timestamps with a {@link DateTimeFormatter}.
+ * <p>
+ * Timestamps are first probed with {@link DateTimeFormatter#parseUnresolved(CharSequence, ParsePosition)}, which
+ * reports a mismatch through the {@link ParsePosition} instead of throwing, so that trying a timestamp against a
+ * pattern it does not have does not construct an exception.
+ */
+class FormatterTimestampParser implements TimestampParser {
+    private final DateTimeFormatter dateTimeFormatter;
+
+    FormatterTimestampParser(final DateTimeFormatter dateTimeFormatter) {
+        this.dateTimeFormatter = dateTimeFormatter;
+    }
+
+    @Override
+    public Instant parse(final String timestamp) {
+        final ParsePosition parsePosition = new ParsePosition(0);
+        if (dateTimeFormatter.parseUnresolved(timestamp, parsePosition) == null
+                || parsePosition.getErrorIndex() >= 0
+                || parsePosition.getIndex() != timestamp.length()) {
+            return null;
+        }
+
+        try {
+            return ZonedDateTime.parse(timestamp, dateTimeFormatter).toInstant();
+        } catch (final DateTimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.date;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A hand-written parser for the common fixed layout timestamp patterns, such as ISO-8601
+ * ({@code yyyy-MM-dd'T'HH:mm:ss.SSSXXX}), Apache ({@code dd/MMM/yyyy:HH:mm:ss Z}) and syslog ({@code MMM d HH:mm:ss}).
+ * <p>
+ * Only the pattern letters {@code yyyy}, {@code uuuu}, {@code MM}, {@code MMM}, {@code dd}, {@code d}, {@code HH}, {@code mm},
+ * {@code ss}, {@code S} to {@code SSSSSSSSS}, {@code XXX} and {@code Z} to {@code ZZZ} are supported. The parser
+ * resolves timestamps like the {@link DateTimeFormatter} built by the {@link DateProcessor} for the same pattern.
+ * Timestamps which the parser does not accept, including out of range values which the formatter would adjust, are
+ * left to that formatter.
+ */
+class PatternTimestampParser implements TimestampParser {
+    private static final int UNSET = -1;
+
+    private final Element[] elements;
+    private final ZoneId sourceZoneId;
+    private final LocalDate defaultDate;
+    private final boolean hasYear;
+    private final boolean hasMonth;
+    private final boolean hasDay;
+
+    private PatternTimestampParser(final List<Element> elements, final ZoneId sourceZoneId, final LocalDate defaultDate,
+                                   final boolean hasYear, final boolean hasMonth, final boolean hasDay) {
+        this.elements = elements.toArray(new Element[0]);
+        this.sourceZoneId = sourceZoneId;
+        this.defaultDate = defaultDate;
+        this.hasYear = hasYear;
+        this.hasMonth = hasMonth;
+        this.hasDay = hasDay;
+    }
+
+    /**
+     * @param pattern The pattern configured in the {@link DateProcessor}
+     * @param sourceZoneId The zone of timestamps without an offset
+     * @param locale The locale of month names
+     * @param defaultDate The date which provides the fields missing from the pattern
+     * @return The parser for the pattern, or null if the pattern is not supported
+     */
+    static PatternTimestampParser create(final String pattern, final ZoneId sourceZoneId, final Locale locale,
+                                         final LocalDate defaultDate) {
+        final List<Element> elements = new ArrayList<>();
+        boolean hasYear = false;
+        boolean hasMonth = false;
+        boolean hasDay = false;
+        int index = 0;
+        while (index < pattern.length()) {
+            final char c = pattern.charAt(index);
+            if (c >= 'A' && c <= 'Z' || c >= 'a' && c <= 'z') {
+                int end = index + 1;
+                while (end < pattern.length() && pattern.charAt(end) == c) {
+                    end++;
+                }
+                final Element element = createFieldElement(c, end - index, locale);
+                if (element == null) {
+                    return null;
+                }
+                elements.add(element);
+                hasYear |= c == 'y' || c == 'u';
+                hasMonth |= c == 'M';
+                hasDay |= c == 'd';
+                index = end;
+            } else if (c == '\'') {
+                final StringBuilder literal = new StringBuilder();
+                index++;
+                while (true) {
+                    if (index == pattern.length()) {
+                        return null;
+                    }
+                    if (pattern.charAt(index) == '\'') {
+                        if (index + 1 < pattern.length() && pattern.charAt(index + 1) == '\'') {
+                            literal.append('\'');
+                            index += 2;
+                            continue;
+                        }
+                        index++;
+                        break;
+                    }
+                    literal.append(pattern.charAt(index++));
+                }
+                if (literal.length() == 0) {
+                    literal.append('\'');
+                }
+                elements.add(new LiteralElement(literal.toString()));
+            } else if (c == '[' || c == ']' || c == '{' || c == '}' || c == '#') {
+                return null;
+            } else {
+                elements.add(new LiteralElement(String.valueOf(c)));
+                index++;
+            }
+        }
+        return new PatternTimestampParser(elements, sourceZoneId, defaultDate, hasYear, hasMonth, hasDay);
+    }
+
+    private static Element createFieldElement(final char letter, final int count, final Locale locale) {
+        switch (letter) {
+            case 'y':
+            case 'u':
+                return count == 4 ? new NumberElement(Field.YEAR, 4, 4, 1, 9999) : null;
+            case 'M':
+                if (count == 2) {
+                    return new NumberElement(Field.MONTH, 2, 2, 1, 12);
+                }
+                return count == 3 ? new MonthTextElement(locale) : null;
+            case 'd':
+                if (count > 2) {
+                    return null;
+                }
+                return new NumberElement(Field.DAY, count, 2, 1, 31);
+            case 'H':
+                return count == 2 ? new NumberElement(Field.HOUR, 2, 2, 0, 23) : null;
+            case 'm':
+                return count == 2 ? new NumberElement(Field.MINUTE, 2, 2, 0, 59) : null;
+            case 's':
+                return count == 2 ? new NumberElement(Field.SECOND, 2, 2, 0, 59) : null;
+            case 'S':
+                return count <= 9 ? new FractionElement(count) : null;
+            case 'X':
+                return count == 3 ? new OffsetElement(true) : null;
+            case 'Z':
+                return count <= 3 ? new OffsetElement(false) : null;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public Instant parse(final String timestamp) {
+        final ParsedFields parsedFields = new ParsedFields();
+        for (final Element element : elements) {
+            if (!element.parse(timestamp, parsedFields)) {
+                return null;
+            }
+        }
+        if (parsedFields.index != timestamp.length()) {
+            return null;
+        }
+
+        final int year = hasYear ? parsedFields.values[Field.YEAR.ordinal()] : defaultDate.getYear();
+        final int month = hasMonth ? parsedFields.values[Field.MONTH.ordinal()] : defaultDate.getMonthValue();
+        final int day = hasDay ? parsedFields.values[Field.DAY.ordinal()] : defaultDate.getDayOfMonth();
+        if (day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+
+        final LocalDateTime localDateTime = LocalDateTime.of(year, month, day,
+                valueOrZero(parsedFields, Field.HOUR), valueOrZero(parsedFields, Field.MINUTE),
+                valueOrZero(parsedFields, Field.SECOND), valueOrZero(parsedFields, Field.NANO));
+        if (parsedFields.offsetSeconds != null) {
+            return localDateTime.toInstant(ZoneOffset.ofTotalSeconds(parsedFields.offsetSeconds));
+        }
+        return localDateTime.atZone(sourceZoneId).toInstant();
+    }
+
+    private static int valueOrZero(final ParsedFields parsedFields, final Field field) {
+        final int value = parsedFields.values[field.ordinal()];
+        return value == UNSET ? 0 : value;
+    }
+
+    private enum Field {
+        YEAR, MONTH, DAY, HOUR, MINUTE, SECOND, NANO
+    }
+
+    private static class ParsedFields {
+        private final int[] values = new int[Field.values().length];
+        private Integer offsetSeconds;
+        private int index;
+
+        private ParsedFields() {
+            Arrays.fill(values, UNSET);
+        }
+    }
+
+    private interface Element {
+        /**
+         * @return false if the timestamp does not match the element at the current index
+         */
+        boolean parse(String timestamp, ParsedFields parsedFields);
+    }
+
+    private static class LiteralElement implements Element {
+        private final String literal;
+
+        private LiteralElement(final String literal) {
+            this.literal = literal;
+        }
+
+        @Override
+        public boolean parse(final String timestamp, final ParsedFields parsedFields) {
+            if (!timestamp.startsWith(literal, parsedFields.index)) {
+                return false;
+            }
+            parsedFields.index += literal.length();
+            return true;
+        }
+    }
+
+    private static class NumberElement implements Element {
+        private final Field field;
+        private final int minimumWidth;
+        private final int maximumWidth;
+        private final int minimumValue;
+        private final int maximumValue;
+
+        private NumberElement(final Field field, final int minimumWidth, final int maximumWidth,
+                              final int minimumValue, final int maximumValue) {
+            this.field = field;
+            this.minimumWidth = minimumWidth;
+            this.maximumWidth = maximumWidth;
+            this.minimumValue = minimumValue;
+            this.maximumValue = maximumValue;
+        }
+
+        @Override
+        public boolean parse(final String timestamp, final ParsedFields parsedFields) {
+            int index = parsedFields.index;
+            int value = 0;
+            while (index < timestamp.length() && index - parsedFields.index < maximumWidth && isDigit(timestamp.charAt(index))) {
+                value = value * 10 + timestamp.charAt(index) - '0';
+                index++;
+            }
+            if (index - parsedFields.index < minimumWidth || value < minimumValue || value > maximumValue) {
+                return false;
+            }
+            // A variable width field is followed by a digit if the value has more digits than supported
+            if (minimumWidth != maximumWidth && index < timestamp.length() && isDigit(timestamp.charAt(index))) {
+                return false;
+            }
+            parsedFields.values[field.ordinal()] = value;
+            parsedFields.index = index;
+            return true;
+        }
+    }
+
+    private static class FractionElement implements Element {
+        private final int width;
+        private final int multiplier;
+
+        private FractionElement(final int width) {
+            this.width = width;
+            this.multiplier = (int) Math.pow(10, 9 - width);
+        }
+
+        @Override
+        public boolean parse(final String timestamp, final ParsedFields parsedFields) {
+            final int end = parsedFields.index + width;
+            if (end > timestamp.length()) {
+                return false;
+            }
+            int value = 0;
+            for (int index = parsedFields.index; index < end; index++) {
+                if (!isDigit(timestamp.charAt(index))) {
+                    return false;
+                }
+                value = value * 10 + timestamp.charAt(index) - '0';
+            }
+            parsedFields.values[Field.NANO.ordinal()] = value * multiplier;
+            parsedFields.index = end;
+            return true;
+        }
+    }
+
+    private static class MonthTextElement implements Element {
+        private final String[] monthNames;
+        private final int[] monthValues;
+
+        private MonthTextElement(final Locale locale) {
+            final DateTimeFormatter monthFormatter = DateTimeFormatter.ofPattern("MMM", locale);
+            final Integer[] months = new Integer[12];
+            for (int month = 1; month <= 12; month++) {
+                months[month - 1] = month;
+            }
+            // Longer names are tried first so that a name is not matched by a shorter name which is its prefix
+            Arrays.sort(months, Comparator.comparingInt((Integer month) -> monthFormatter.format(Month.of(month)).length()).reversed());
+            monthNames = new String[12];
+            monthValues = new int[12];
+            for (int i = 0; i < 12; i++) {
+                monthNames[i] = monthFormatter.format(Month.of(months[i]));
+                monthValues[i] = months[i];
+            }
+        }
+
+        @Override
+        public boolean parse(final String timestamp, final ParsedFields parsedFields) {
+            for (int i = 0; i < monthNames.length; i++) {
+                if (timestamp.startsWith(monthNames[i], parsedFields.index)) {
+                    parsedFields.values[Field.MONTH.ordinal()] = monthValues[i];
+                    parsedFields.index += monthNames[i].length();
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static class OffsetElement implements Element {
+        private final boolean colonSeparated;
+
+        private OffsetElement(final boolean colonSeparated) {
+            this.colonSeparated = colonSeparated;
+        }
+
+        @Override
+        public boolean parse(final String timestamp, final ParsedFields parsedFields) {
+            final int index = parsedFields.index;
+            if (colonSeparated && index < timestamp.length() && timestamp.charAt(index) == 'Z') {
+                parsedFields.offsetSeconds = 0;
+                parsedFields.index = index + 1;
+                return true;
+            }
+
+            final int end = index + (colonSeparated ? 6 : 5);
+            if (end > timestamp.length()) {
+                return false;
+            }
+            final char sign = timestamp.charAt(index);
+            if (sign != '+' && sign != '-') {
+                return false;
+            }
+            final int minutesIndex = colonSeparated ? index + 4 : index + 3;
+            if (colonSeparated && timestamp.charAt(index + 3) != ':') {
+                return false;
+            }
+            final int hours = parseTwoDigits(timestamp, index + 1);
+            final int minutes = parseTwoDigits(timestamp, minutesIndex);
+            if (hours < 0 || hours > 18 || minutes < 0 || minutes > 59 || hours == 18 && minutes > 0) {
+                return false;
+            }
+            final int offsetSeconds = (hours * 60 + minutes) * 60;
+            parsedFields.offsetSeconds = sign == '-' ? -offsetSeconds : offsetSeconds;
+            parsedFields.index = end;
+            return true;
+        }
+
+        private static int parseTwoDigits(final String timestamp, final int index) {
+            final char tens = timestamp.charAt(index);
+            final char units = timestamp.charAt(index + 1);
+            if (!isDigit(tens) || !isDigit(units)) {
+                return -1;
+            }
+            return (tens - '0') * 10 + units - '0';
+        }
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+}
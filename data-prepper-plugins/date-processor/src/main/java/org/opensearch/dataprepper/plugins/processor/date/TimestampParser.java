@@ -0,0 +1,19 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.date;
+
+import java.time.Instant;
+
+/**
+ * Parses timestamps of one of the patterns configured in the {@link DateProcessor}.
+ */
+interface TimestampParser {
+    /**
+     * @param timestamp The timestamp to parse
+     * @return The instant of the timestamp, or null if the timestamp does not have the pattern of this parser
+     */
+    Instant parse(String timestamp);
+}
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -35,9 +36,13 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -59,6 +64,9 @@ class DateProcessorTests {
     @Mock
     private Counter dateProcessingMatchFailureCounter;
 
+    @Mock
+    private Counter dateProcessingPatternMatchCounter;
+
     private DateProcessor dateProcessor;
     private Map<String, Object> testData;
     private LocalDateTime expectedDateTime;
@@ -76,6 +84,7 @@ class DateProcessorTests {
         lenient().when(mockDateProcessorConfig.getDestination()).thenReturn(dateProcessorConfig.getDestination());
         lenient().when(pluginMetrics.counter(DateProcessor.DATE_PROCESSING_MATCH_SUCCESS)).thenReturn(dateProcessingMatchSuccessCounter);
         lenient().when(pluginMetrics.counter(DateProcessor.DATE_PROCESSING_MATCH_FAILURE)).thenReturn(dateProcessingMatchFailureCounter);
+        lenient().when(pluginMetrics.counterWithTags(eq(DateProcessor.DATE_PROCESSING_PATTERN_MATCH), any())).thenReturn(dateProcessingPatternMatchCounter);
 
         expectedDateTime = LocalDateTime.now();
     }
@@ -361,6 +370,93 @@ class DateProcessorTests {
         verify(dateProcessingMatchSuccessCounter, times(1)).increment();
     }
 
+    @Test
+    void match_increments_pattern_match_counter_of_matching_pattern() {
+        final Counter firstPatternMatchCounter = mock(Counter.class);
+        final Counter secondPatternMatchCounter = mock(Counter.class);
+        when(pluginMetrics.counterWithTags(DateProcessor.DATE_PROCESSING_PATTERN_MATCH, DateProcessor.PATTERN_TAG, pattern3))
+                .thenReturn(firstPatternMatchCounter);
+        when(pluginMetrics.counterWithTags(DateProcessor.DATE_PROCESSING_PATTERN_MATCH, DateProcessor.PATTERN_TAG, pattern2))
+                .thenReturn(secondPatternMatchCounter);
+        when(mockDateMatch.getKey()).thenReturn("logDate");
+        when(mockDateMatch.getPatterns()).thenReturn(List.of(pattern3, pattern2));
+
+        List<DateProcessorConfig.DateMatch> dateMatches = Collections.singletonList(mockDateMatch);
+        when(mockDateProcessorConfig.getMatch()).thenReturn(dateMatches);
+        when(mockDateProcessorConfig.getSourceZoneId()).thenReturn(ZoneId.of("UTC"));
+        when(mockDateProcessorConfig.getDestinationZoneId()).thenReturn(ZoneId.systemDefault());
+        when(mockDateProcessorConfig.getSourceLocale()).thenReturn(Locale.ROOT);
+
+        dateProcessor = createObjectUnderTest();
+
+        testData = getTestData();
+        testData.put("logDate", expectedDateTime.format(DateTimeFormatter.ofPattern(pattern2)));
+
+        final Record<Event> record = buildRecordWithEvent(testData);
+        final List<Record<Event>> processedRecords = (List<Record<Event>>) dateProcessor.doExecute(Collections.singletonList(record));
+
+        assertTimestampsAreEqual(processedRecords.get(0), mockDateProcessorConfig.getSourceZoneId(), TIMESTAMP_KEY);
+        verify(dateProcessingMatchSuccessCounter, times(1)).increment();
+        verify(secondPatternMatchCounter, times(1)).increment();
+        verifyNoInteractions(firstPatternMatchCounter);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "epoch_second, 1690000000, 2023-07-22T04:26:40Z",
+            "epoch_milli, 1690000000123, 2023-07-22T04:26:40.123Z",
+            "epoch_nano, 1690000000123456789, 2023-07-22T04:26:40.123Z"
+    })
+    void match_with_epoch_patterns_test(final String pattern, final String timestamp, final String expectedTimestamp) {
+        when(mockDateMatch.getKey()).thenReturn("logDate");
+        when(mockDateMatch.getPatterns()).thenReturn(Collections.singletonList(pattern));
+
+        List<DateProcessorConfig.DateMatch> dateMatches = Collections.singletonList(mockDateMatch);
+        when(mockDateProcessorConfig.getMatch()).thenReturn(dateMatches);
+        when(mockDateProcessorConfig.getDestinationZoneId()).thenReturn(ZoneId.of("UTC"));
+
+        dateProcessor = createObjectUnderTest();
+
+        testData = getTestData();
+        testData.put("logDate", timestamp);
+
+        final Record<Event> record = buildRecordWithEvent(testData);
+        final List<Record<Event>> processedRecords = (List<Record<Event>>) dateProcessor.doExecute(Collections.singletonList(record));
+
+        ZonedDateTime actualZonedDateTime = processedRecords.get(0).getData().get(TIMESTAMP_KEY, ZonedDateTime.class);
+
+        Assertions.assertEquals(Instant.parse(expectedTimestamp), actualZonedDateTime.toInstant());
+        verify(dateProcessingMatchSuccessCounter, times(1)).increment();
+        verify(dateProcessingPatternMatchCounter, times(1)).increment();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"EEE, dd MMM yyyy HH:mm:ss", "yyyy-MM-dd hh:mm:ss a"})
+    void match_with_patterns_parsed_by_formatter_test(String pattern) {
+        when(mockDateMatch.getKey()).thenReturn("logDate");
+        when(mockDateMatch.getPatterns()).thenReturn(Collections.singletonList(pattern));
+
+        List<DateProcessorConfig.DateMatch> dateMatches = Collections.singletonList(mockDateMatch);
+        when(mockDateProcessorConfig.getMatch()).thenReturn(dateMatches);
+        when(mockDateProcessorConfig.getSourceZoneId()).thenReturn(ZoneId.of("UTC"));
+        when(mockDateProcessorConfig.getDestinationZoneId()).thenReturn(ZoneId.systemDefault());
+        when(mockDateProcessorConfig.getSourceLocale()).thenReturn(Locale.ROOT);
+
+        dateProcessor = createObjectUnderTest();
+
+        testData = getTestData();
+        testData.put("logDate", expectedDateTime.format(DateTimeFormatter.ofPattern(pattern, Locale.ROOT)));
+
+        final Record<Event> record = buildRecordWithEvent(testData);
+        final List<Record<Event>> processedRecords = (List<Record<Event>>) dateProcessor.doExecute(Collections.singletonList(record));
+
+        ZonedDateTime actualZonedDateTime = processedRecords.get(0).getData().get(TIMESTAMP_KEY, ZonedDateTime.class);
+        ZonedDateTime expectedZonedDatetime = expectedDateTime.atZone(ZoneId.of("UTC")).truncatedTo(ChronoUnit.SECONDS);
+
+        Assertions.assertTrue(actualZonedDateTime.isEqual(expectedZonedDatetime));
+        verify(dateProcessingMatchSuccessCounter, times(1)).increment();
+    }
+
     static Record<Event> buildRecordWithEvent(final Map<String, Object> data) {
         return new Record<>(JacksonEvent.builder()
                 .withData(data)
@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.date;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class EpochTimestampParserTest {
+    @Test
+    void forPattern_returns_parser_for_epoch_patterns() {
+        assertThat(EpochTimestampParser.forPattern("epoch_second"), equalTo(EpochTimestampParser.EPOCH_SECOND));
+        assertThat(EpochTimestampParser.forPattern("epoch_milli"), equalTo(EpochTimestampParser.EPOCH_MILLI));
+        assertThat(EpochTimestampParser.forPattern("epoch_nano"), equalTo(EpochTimestampParser.EPOCH_NANO));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"yyyy-MM-dd", "epoch", "EPOCH_SECOND"})
+    void forPattern_returns_null_for_other_patterns(final String pattern) {
+        assertThat(EpochTimestampParser.forPattern(pattern), nullValue());
+    }
+
+    @Test
+    void parse_epoch_second() {
+        assertThat(EpochTimestampParser.EPOCH_SECOND.parse("1690000000"), equalTo(Instant.ofEpochSecond(1690000000L)));
+    }
+
+    @Test
+    void parse_epoch_milli() {
+        assertThat(EpochTimestampParser.EPOCH_MILLI.parse("1690000000123"), equalTo(Instant.ofEpochMilli(1690000000123L)));
+    }
+
+    @Test
+    void parse_epoch_nano() {
+        assertThat(EpochTimestampParser.EPOCH_NANO.parse("1690000000123456789"), equalTo(Instant.ofEpochSecond(1690000000L, 123456789L)));
+    }
+
+    @Test
+    void parse_negative_values_before_the_epoch() {
+        assertThat(EpochTimestampParser.EPOCH_SECOND.parse("-1"), equalTo(Instant.ofEpochSecond(-1L)));
+        assertThat(EpochTimestampParser.EPOCH_MILLI.parse("-1"), equalTo(Instant.ofEpochMilli(-1L)));
+        assertThat(EpochTimestampParser.EPOCH_NANO.parse("-1"), equalTo(Instant.ofEpochSecond(-1L, 999_999_999L)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(EpochTimestampParser.class)
+    void parse_returns_null_for_timestamps_which_are_not_numbers(final EpochTimestampParser epochTimestampParser) {
+        assertThat(epochTimestampParser.parse(""), nullValue());
+        assertThat(epochTimestampParser.parse("-"), nullValue());
+        assertThat(epochTimestampParser.parse("12a"), nullValue());
+        assertThat(epochTimestampParser.parse("1.5"), nullValue());
+        assertThat(epochTimestampParser.parse("+1"), nullValue());
+        assertThat(epochTimestampParser.parse(" 1"), nullValue());
+    }
+
+    @ParameterizedTest
+    @EnumSource(EpochTimestampParser.class)
+    void parse_returns_null_for_values_out_of_range(final EpochTimestampParser epochTimestampParser) {
+        assertThat(epochTimestampParser.parse("9223372036854775808"), nullValue());
+        assertThat(epochTimestampParser.parse("-9223372036854775809"), nullValue());
+        assertThat(epochTimestampParser.parse("12345678901234567890"), nullValue());
+    }
+
+    @Test
+    void parse_epoch_second_returns_null_beyond_the_maximum_instant() {
+        assertThat(EpochTimestampParser.EPOCH_SECOND.parse("999999999999999999"), nullValue());
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.date;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class FormatterTimestampParserTest {
+    private FormatterTimestampParser createObjectUnderTest() {
+        return new FormatterTimestampParser(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.of("UTC")));
+    }
+
+    @Test
+    void parse_returns_instant_of_matching_timestamp() {
+        assertThat(createObjectUnderTest().parse("2023-07-22 04:26:40"), equalTo(Instant.parse("2023-07-22T04:26:40Z")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "2023-07-22", "2023-07-22 04:26:40 ", "2023-07-22T04:26:40", "2023-13-22 04:26:40", "2023-07-22 25:26:40"})
+    void parse_returns_null_for_timestamps_which_do_not_match(final String timestamp) {
+        assertThat(createObjectUnderTest().parse(timestamp), nullValue());
+    }
+}
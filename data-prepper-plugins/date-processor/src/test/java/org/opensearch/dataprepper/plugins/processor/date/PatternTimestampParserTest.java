@@ -0,0 +1,125 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.date;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class PatternTimestampParserTest {
+    private static final ZoneId SOURCE_ZONE_ID = ZoneId.of("America/New_York");
+    private static final LocalDate DEFAULT_DATE = LocalDate.of(2023, 2, 28);
+
+    private static PatternTimestampParser createParser(final String pattern, final Locale locale) {
+        return PatternTimestampParser.create(pattern, SOURCE_ZONE_ID, locale, DEFAULT_DATE);
+    }
+
+    private static Stream<Arguments> supportedPatterns() {
+        return Stream.of(
+                arguments("yyyy-MM-dd'T'HH:mm:ss.SSSXXX", "2023-07-22T04:26:40.123Z", Instant.parse("2023-07-22T04:26:40.123Z")),
+                arguments("yyyy-MM-dd'T'HH:mm:ss.SSSXXX", "2023-07-22T04:26:40.123+05:30", Instant.parse("2023-07-21T22:56:40.123Z")),
+                arguments("dd/MMM/yyyy:HH:mm:ss Z", "10/Feb/2000:13:55:36 -0700", Instant.parse("2000-02-10T20:55:36Z")),
+                arguments("MMM d HH:mm:ss", "Jul 5 04:26:40", Instant.parse("2023-07-05T08:26:40Z")),
+                arguments("MMM d HH:mm:ss", "Jul 15 04:26:40", Instant.parse("2023-07-15T08:26:40Z")),
+                arguments("yyyy-MM-dd", "2023-07-22", Instant.parse("2023-07-22T04:00:00Z")),
+                arguments("uuuu-MM-dd", "2023-07-22", Instant.parse("2023-07-22T04:00:00Z")),
+                arguments("HH:mm:ss", "04:26:40", Instant.parse("2023-02-28T09:26:40Z")),
+                arguments("yyyyMMddHHmmss", "20230722042640", Instant.parse("2023-07-22T08:26:40Z")),
+                arguments("yyyy-MM-dd HH:mm:ss,SSSSSSSSS", "2023-07-22 04:26:40,123456789", Instant.parse("2023-07-22T08:26:40.123456789Z")),
+                arguments("''yyyy'-'MM'-'dd''", "'2023-07-22'", Instant.parse("2023-07-22T04:00:00Z"))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("supportedPatterns")
+    void parse_supported_patterns(final String pattern, final String timestamp, final Instant expectedInstant) {
+        final PatternTimestampParser objectUnderTest = createParser(pattern, Locale.ROOT);
+
+        assertThat(objectUnderTest, notNullValue());
+        assertThat(objectUnderTest.parse(timestamp), equalTo(expectedInstant));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"yy-MM-dd", "yyyy-M-dd", "MMMM dd", "EEE MMM dd", "hh:mm a", "yyyy-MM-dd[ HH:mm]", "yyyy-MM-dd'T",
+            "HH:mm:ss VV", "yyyy-MM-dd'T'HH:mm:ssX", "SSSSSSSSSS", "ddd"})
+    void create_returns_null_for_unsupported_patterns(final String pattern) {
+        assertThat(createParser(pattern, Locale.ROOT), nullValue());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "2023-07-22 ", "2023-7-22", "2023-07-2", "2023/07/22", "2023-13-22", "2023-00-22", "2023-07-32",
+            "2023-02-29", "2023-04-31", "0000-07-22", "+2023-07-22"})
+    void parse_returns_null_for_timestamps_which_are_not_accepted(final String timestamp) {
+        assertThat(createParser("yyyy-MM-dd", Locale.ROOT).parse(timestamp), nullValue());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2023-07-22T04:26:40z", "2023-07-22T04:26:40+18:01", "2023-07-22T04:26:40+0530", "2023-07-22T04:26:40+5:30"})
+    void parse_returns_null_for_invalid_offsets(final String timestamp) {
+        assertThat(createParser("yyyy-MM-dd'T'HH:mm:ssXXX", Locale.ROOT).parse(timestamp), nullValue());
+    }
+
+    @Test
+    void parse_returns_null_if_single_digit_day_is_followed_by_a_digit() {
+        assertThat(createParser("MMMd", Locale.ROOT).parse("Jul123"), nullValue());
+    }
+
+    @Test
+    void parse_leap_day_in_leap_year() {
+        assertThat(createParser("yyyy-MM-dd", Locale.ROOT).parse("2024-02-29"), equalTo(Instant.parse("2024-02-29T05:00:00Z")));
+    }
+
+    @Test
+    void parse_month_names_of_locale() {
+        assertThat(createParser("dd MMM yyyy", Locale.UK).parse("22 Sept 2023"), equalTo(Instant.parse("2023-09-22T04:00:00Z")));
+        assertThat(createParser("dd MMM yyyy", Locale.FRANCE).parse("22 juil. 2023"), equalTo(Instant.parse("2023-07-22T04:00:00Z")));
+        assertThat(createParser("dd MMM yyyy", Locale.FRANCE).parse("22 juin 2023"), equalTo(Instant.parse("2023-06-22T04:00:00Z")));
+    }
+
+    @Test
+    void parse_returns_null_for_month_names_of_other_locales() {
+        assertThat(createParser("dd MMM yyyy", Locale.ROOT).parse("22 jul 2023"), nullValue());
+        assertThat(createParser("dd MMM yyyy", Locale.FRANCE).parse("22 Jul 2023"), nullValue());
+    }
+
+    @Test
+    void parse_returns_same_instant_as_formatter_of_pattern() {
+        final String pattern = "yyyy-MMM-dd HH:mm:ss.SSS";
+        for (final Locale locale : new Locale[] {Locale.ROOT, Locale.US, Locale.FRANCE, Locale.JAPAN, Locale.CHINA}) {
+            final PatternTimestampParser objectUnderTest = createParser(pattern, locale);
+            for (int month = 1; month <= 12; month++) {
+                final ZonedDateTime zonedDateTime = ZonedDateTime.of(2023, month, 9, 18, 5, 7, 123_000_000, SOURCE_ZONE_ID);
+                final String timestamp = DateTimeFormatter.ofPattern(pattern, locale).format(zonedDateTime);
+
+                assertThat(objectUnderTest.parse(timestamp), equalTo(zonedDateTime.toInstant()));
+            }
+        }
+    }
+
+    @Test
+    void parse_uses_offset_instead_of_source_zone() {
+        final Instant instant = createParser("yyyy-MM-dd HH:mm:ss Z", Locale.ROOT).parse("2023-07-22 04:26:40 +0000");
+
+        assertThat(instant, equalTo(ZonedDateTime.of(2023, 7, 22, 4, 26, 40, 0, ZoneOffset.UTC).toInstant()));
+    }
+}
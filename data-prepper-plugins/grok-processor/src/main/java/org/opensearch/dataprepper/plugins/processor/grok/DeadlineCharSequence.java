@@ -0,0 +1,59 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+/**
+ * A {@link CharSequence} which stops a regular expression match reading it once a deadline has passed.
+ * <p>
+ * The regular expression engine reads the input through {@link #charAt(int)} while matching, including while
+ * backtracking, so checking the deadline there bounds the time of a match on the calling thread. The clock is only
+ * read every {@link #CHECK_INTERVAL} characters to keep the overhead of the check low.
+ */
+class DeadlineCharSequence implements CharSequence {
+    static final int CHECK_INTERVAL = 1024;
+
+    private final CharSequence text;
+    private final long deadlineNanos;
+    private int readsUntilCheck;
+
+    DeadlineCharSequence(final CharSequence text, final long deadlineNanos) {
+        this.text = text;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * @throws GrokMatchTimeoutException if the deadline has passed
+     */
+    @Override
+    public char charAt(final int index) {
+        if (--readsUntilCheck <= 0) {
+            readsUntilCheck = CHECK_INTERVAL;
+            if (System.nanoTime() - deadlineNanos > 0) {
+                throw new GrokMatchTimeoutException();
+            }
+        }
+        return text.charAt(index);
+    }
+
+    @Override
+    public int length() {
+        return text.length();
+    }
+
+    /**
+     * Returns the subsequence of the underlying text, which is not checked against the deadline. Subsequences are
+     * only taken to read the captures of a completed match.
+     */
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return text.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return text.toString();
+    }
+}
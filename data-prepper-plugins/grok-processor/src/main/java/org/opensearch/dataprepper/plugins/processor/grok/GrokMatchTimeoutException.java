@@ -0,0 +1,16 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+/**
+ * Thrown by {@link DeadlineCharSequence} when a match runs past its deadline. The stack trace is not filled in
+ * since the exception only unwinds the regular expression engine back to the {@link GrokProcessor}.
+ */
+class GrokMatchTimeoutException extends RuntimeException {
+    GrokMatchTimeoutException() {
+        super("Grok matching timed out", null, false, false);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Finds which of a list of regular expressions can match a text without running them.
+ * <p>
+ * The literals which each expression requires, found by {@link RequiredLiteralExtractor}, are searched for in a
+ * single pass over the text with an Aho-Corasick automaton. An expression is a candidate if the text contains all of
+ * its required literals. Expressions without required literals are always candidates.
+ */
+class GrokPrefilter {
+    private final int[][] patternLiterals;
+    private final int literalCount;
+
+    private final char[][] transitionCharacters;
+    private final int[][] transitionTargets;
+    private final int[] failures;
+    private final int[][] outputs;
+
+    GrokPrefilter(final List<String> regexes) {
+        final Map<String, Integer> literalIds = new LinkedHashMap<>();
+        patternLiterals = new int[regexes.size()][];
+        for (int pattern = 0; pattern < regexes.size(); pattern++) {
+            patternLiterals[pattern] = RequiredLiteralExtractor.extractRequiredLiterals(regexes.get(pattern)).stream()
+                    .mapToInt(literal -> literalIds.computeIfAbsent(literal, l -> literalIds.size()))
+                    .distinct()
+                    .toArray();
+        }
+        literalCount = literalIds.size();
+
+        final List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        final List<List<Integer>> trieOutputs = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        trieOutputs.add(new ArrayList<>());
+        for (final Map.Entry<String, Integer> literal : literalIds.entrySet()) {
+            int state = 0;
+            for (final char c : literal.getKey().toCharArray()) {
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    trieOutputs.add(new ArrayList<>());
+                    trie.get(state).put(c, next);
+                }
+                state = next;
+            }
+            trieOutputs.get(state).add(literal.getValue());
+        }
+
+        final int states = trie.size();
+        transitionCharacters = new char[states][];
+        transitionTargets = new int[states][];
+        for (int state = 0; state < states; state++) {
+            final TreeMap<Character, Integer> transitions = trie.get(state);
+            transitionCharacters[state] = new char[transitions.size()];
+            transitionTargets[state] = new int[transitions.size()];
+            int i = 0;
+            for (final Map.Entry<Character, Integer> transition : transitions.entrySet()) {
+                transitionCharacters[state][i] = transition.getKey();
+                transitionTargets[state][i] = transition.getValue();
+                i++;
+            }
+        }
+
+        failures = new int[states];
+        final Queue<Integer> queue = new ArrayDeque<>(trie.get(0).values());
+        while (!queue.isEmpty()) {
+            final int state = queue.poll();
+            for (final Map.Entry<Character, Integer> transition : trie.get(state).entrySet()) {
+                final int child = transition.getValue();
+                int failure = failures[state];
+                int target = transition(failure, transition.getKey());
+                while (target < 0 && failure != 0) {
+                    failure = failures[failure];
+                    target = transition(failure, transition.getKey());
+                }
+                failures[child] = target < 0 ? 0 : target;
+                trieOutputs.get(child).addAll(trieOutputs.get(failures[child]));
+                queue.add(child);
+            }
+        }
+
+        outputs = new int[states][];
+        for (int state = 0; state < states; state++) {
+            outputs[state] = trieOutputs.get(state).stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * @param text The text to match
+     * @return For each regular expression, whether it can match the text
+     */
+    boolean[] findCandidates(final String text) {
+        final boolean[] candidates = new boolean[patternLiterals.length];
+        if (literalCount == 0) {
+            Arrays.fill(candidates, true);
+            return candidates;
+        }
+
+        final boolean[] foundLiterals = new boolean[literalCount];
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            int target = transition(state, c);
+            while (target < 0 && state != 0) {
+                state = failures[state];
+                target = transition(state, c);
+            }
+            state = target < 0 ? 0 : target;
+            for (final int literal : outputs[state]) {
+                foundLiterals[literal] = true;
+            }
+        }
+
+        for (int pattern = 0; pattern < patternLiterals.length; pattern++) {
+            candidates[pattern] = containsAll(foundLiterals, patternLiterals[pattern]);
+        }
+        return candidates;
+    }
+
+    /**
+     * @return The number of distinct required literals of all regular expressions
+     */
+    int getLiteralCount() {
+        return literalCount;
+    }
+
+    private int transition(final int state, final char c) {
+        final int index = Arrays.binarySearch(transitionCharacters[state], c);
+        return index < 0 ? -1 : transitionTargets[state][index];
+    }
+
+    private static boolean containsAll(final boolean[] foundLiterals, final int[] literals) {
+        for (final int literal : literals) {
+            if (!foundLiterals[literal]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -40,12 +40,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
@@ -55,8 +50,6 @@ import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
 @SingleThread
 @DataPrepperPlugin(name = "grok", pluginType = Processor.class)
 public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
-    static final long EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT = 300L;
-
     private static final Logger LOG = LoggerFactory.getLogger(GrokProcessor.class);
 
     static final String GROK_PROCESSING_MATCH = "grokProcessingMatch";
@@ -64,6 +57,10 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     static final String GROK_PROCESSING_ERRORS = "grokProcessingErrors";
     static final String GROK_PROCESSING_TIMEOUTS = "grokProcessingTimeouts";
     static final String GROK_PROCESSING_TIME = "grokProcessingTime";
+    static final String GROK_PATTERN_MATCH = "grokPatternMatch";
+    static final String GROK_PATTERN_MISMATCH = "grokPatternMismatch";
+    static final String KEY_TAG = "key";
+    static final String PATTERN_TAG = "pattern";
 
     private final Counter grokProcessingMismatchCounter;
     private final Counter grokProcessingMatchCounter;
@@ -73,21 +70,27 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
     private final GrokCompiler grokCompiler;
     private final Map<String, List<Grok>> fieldToGrok;
+    private final Map<String, GrokPrefilter> fieldToPrefilter;
+    private final Map<String, List<Counter>> fieldToPatternMatchCounters;
+    private final Map<String, List<Counter>> fieldToPatternMismatchCounters;
     private final GrokProcessorConfig grokProcessorConfig;
     private final Set<String> keysToOverwrite;
-    private final ExecutorService executorService;
+    private final long timeoutNanos;
 
     public GrokProcessor(final PluginSetting pluginSetting) {
-        this(pluginSetting, GrokCompiler.newInstance(), Executors.newSingleThreadExecutor());
+        this(pluginSetting, GrokCompiler.newInstance());
     }
 
-    GrokProcessor(final PluginSetting pluginSetting, final GrokCompiler grokCompiler, final ExecutorService executorService) {
+    GrokProcessor(final PluginSetting pluginSetting, final GrokCompiler grokCompiler) {
         super(pluginSetting);
         this.grokProcessorConfig = GrokProcessorConfig.buildConfig(pluginSetting);
         this.keysToOverwrite = new HashSet<>(grokProcessorConfig.getkeysToOverwrite());
         this.grokCompiler = grokCompiler;
         this.fieldToGrok = new LinkedHashMap<>();
-        this.executorService = executorService;
+        this.fieldToPrefilter = new HashMap<>();
+        this.fieldToPatternMatchCounters = new HashMap<>();
+        this.fieldToPatternMismatchCounters = new HashMap<>();
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(grokProcessorConfig.getTimeoutMillis());
 
         grokProcessingMatchCounter = pluginMetrics.counter(GROK_PROCESSING_MATCH);
         grokProcessingMismatchCounter = pluginMetrics.counter(GROK_PROCESSING_MISMATCH);
@@ -112,21 +115,11 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
             try {
                 final Event event = record.getData();
 
-                if (grokProcessorConfig.getTimeoutMillis() == 0) {
-                    grokProcessingTime.record(() -> matchAndMerge(event));
-                } else {
-                    runWithTimeout(() -> grokProcessingTime.record(() -> matchAndMerge(event)));
-                }
+                grokProcessingTime.record(() -> matchAndMerge(event));
 
-            } catch (TimeoutException e) {
+            } catch (GrokMatchTimeoutException e) {
                 LOG.error(EVENT, "Matching on record [{}] took longer than [{}] and timed out", record.getData(), grokProcessorConfig.getTimeoutMillis());
                 grokProcessingTimeoutsCounter.increment();
-            } catch (ExecutionException e) {
-                LOG.error(EVENT, "An exception occurred while matching on record [{}]", record.getData(), e);
-                grokProcessingErrorsCounter.increment();
-            } catch (InterruptedException e) {
-                LOG.error(EVENT, "Matching on record [{}] was interrupted", record.getData(), e);
-                grokProcessingErrorsCounter.increment();
             } catch (RuntimeException e) {
                 LOG.error(EVENT, "Unknown exception occurred when matching record [{}]", record.getData(), e);
                 grokProcessingErrorsCounter.increment();
@@ -147,18 +140,7 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
     @Override
     public void shutdown() {
-        executorService.shutdown();
-        try {
-            if (executorService.awaitTermination(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
-                LOG.info("Successfully waited for running task to terminate");
-            } else {
-                LOG.warn("Running task did not terminate in time, forcing termination");
-                executorService.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            LOG.error("Interrupted while waiting for running task to terminate", e);
-            executorService.shutdownNow();
-        }
+
     }
 
     private void registerPatterns() {
@@ -197,29 +179,62 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
     private void compileMatchPatterns() {
         for (final Map.Entry<String, List<String>> entry : grokProcessorConfig.getMatch().entrySet()) {
-            fieldToGrok.put(entry.getKey(), entry.getValue()
+            final List<Grok> groks = entry.getValue()
                             .stream()
                             .map(item -> grokCompiler.compile(item, grokProcessorConfig.isNamedCapturesOnly()))
-                            .collect(Collectors.toList()));
+                            .collect(Collectors.toList());
+            fieldToGrok.put(entry.getKey(), groks);
+
+            fieldToPatternMatchCounters.put(entry.getKey(), entry.getValue().stream()
+                    .map(pattern -> pluginMetrics.counterWithTags(GROK_PATTERN_MATCH, KEY_TAG, entry.getKey(), PATTERN_TAG, pattern))
+                    .collect(Collectors.toList()));
+            fieldToPatternMismatchCounters.put(entry.getKey(), entry.getValue().stream()
+                    .map(pattern -> pluginMetrics.counterWithTags(GROK_PATTERN_MISMATCH, KEY_TAG, entry.getKey(), PATTERN_TAG, pattern))
+                    .collect(Collectors.toList()));
+
+            if (grokProcessorConfig.isPrefilterPatterns()) {
+                final GrokPrefilter grokPrefilter = new GrokPrefilter(groks.stream().map(Grok::getNamedRegex).collect(Collectors.toList()));
+                LOG.info("Prefiltering {} grok patterns for key {} with {} required literals", groks.size(), entry.getKey(),
+                        grokPrefilter.getLiteralCount());
+                fieldToPrefilter.put(entry.getKey(), grokPrefilter);
+            }
         }
     }
 
     private void matchAndMerge(final Event event) {
         final Map<String, Object> grokkedCaptures = new HashMap<>();
+        final long deadlineNanos = System.nanoTime() + timeoutNanos;
 
         for (final Map.Entry<String, List<Grok>> entry : fieldToGrok.entrySet()) {
-            for (final Grok grok : entry.getValue()) {
-                final String value = event.get(entry.getKey(), String.class);
-                if (value != null && !value.isEmpty()) {
-                    final Match match = grok.match(value);
-                    match.setKeepEmptyCaptures(grokProcessorConfig.isKeepEmptyCaptures());
-
-                    final Map<String, Object> captures = match.capture();
-                    mergeCaptures(grokkedCaptures, captures);
-
-                    if (shouldBreakOnMatch(grokkedCaptures)) {
-                        break;
-                    }
+            final String value = event.get(entry.getKey(), String.class);
+            if (value == null || value.isEmpty()) {
+                continue;
+            }
+            final CharSequence text = timeoutNanos == 0 ? value : new DeadlineCharSequence(value, deadlineNanos);
+            final GrokPrefilter grokPrefilter = fieldToPrefilter.get(entry.getKey());
+            final boolean[] candidates = grokPrefilter == null ? null : grokPrefilter.findCandidates(value);
+            final List<Grok> groks = entry.getValue();
+            final List<Counter> patternMatchCounters = fieldToPatternMatchCounters.get(entry.getKey());
+            final List<Counter> patternMismatchCounters = fieldToPatternMismatchCounters.get(entry.getKey());
+
+            for (int i = 0; i < groks.size(); i++) {
+                if (candidates != null && !candidates[i]) {
+                    patternMismatchCounters.get(i).increment();
+                    continue;
+                }
+                final Match match = groks.get(i).match(text);
+                match.setKeepEmptyCaptures(grokProcessorConfig.isKeepEmptyCaptures());
+
+                final Map<String, Object> captures = match.capture();
+                if (captures.isEmpty()) {
+                    patternMismatchCounters.get(i).increment();
+                } else {
+                    patternMatchCounters.get(i).increment();
+                }
+                mergeCaptures(grokkedCaptures, captures);
+
+                if (shouldBreakOnMatch(grokkedCaptures)) {
+                    break;
                 }
             }
             if (shouldBreakOnMatch(grokkedCaptures)) {
@@ -289,9 +304,4 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     private boolean shouldBreakOnMatch(final Map<String, Object> captures) {
         return captures.size() > 0 && grokProcessorConfig.isBreakOnMatch();
     }
-
-    private void runWithTimeout(final Runnable runnable) throws TimeoutException, ExecutionException, InterruptedException {
-        Future<?> task = executorService.submit(runnable);
-        task.get(grokProcessorConfig.getTimeoutMillis(), TimeUnit.MILLISECONDS);
-    }
 }
@@ -21,6 +21,7 @@ public class GrokProcessorConfig {
     static final String PATTERNS_FILES_GLOB = "patterns_files_glob";
     static final String TIMEOUT_MILLIS = "timeout_millis";
     static final String TARGET_KEY = "target_key";
+    static final String PREFILTER_PATTERNS = "prefilter_patterns";
 
     static final boolean DEFAULT_BREAK_ON_MATCH = true;
     static final boolean DEFAULT_KEEP_EMPTY_CAPTURES = false;
@@ -28,6 +29,7 @@ public class GrokProcessorConfig {
     static final String DEFAULT_PATTERNS_FILES_GLOB = "*";
     static final int DEFAULT_TIMEOUT_MILLIS = 30000;
     static final String DEFAULT_TARGET_KEY = null;
+    static final boolean DEFAULT_PREFILTER_PATTERNS = false;
 
     private final boolean breakOnMatch;
     private final boolean keepEmptyCaptures;
@@ -39,6 +41,7 @@ public class GrokProcessorConfig {
     private final Map<String, String> patternDefinitions;
     private final int timeoutMillis;
     private final String targetKey;
+    private final boolean prefilterPatterns;
 
     private GrokProcessorConfig(final boolean breakOnMatch,
                                 final boolean keepEmptyCaptures,
@@ -49,7 +52,8 @@ public class GrokProcessorConfig {
                                 final String patternsFilesGlob,
                                 final Map<String, String> patternDefinitions,
                                 final int timeoutMillis,
-                                final String targetKey) {
+                                final String targetKey,
+                                final boolean prefilterPatterns) {
 
         this.breakOnMatch = breakOnMatch;
         this.keepEmptyCaptures = keepEmptyCaptures;
@@ -61,6 +65,7 @@ public class GrokProcessorConfig {
         this.patternDefinitions = patternDefinitions;
         this.timeoutMillis = timeoutMillis;
         this.targetKey = targetKey;
+        this.prefilterPatterns = prefilterPatterns;
     }
 
     public static GrokProcessorConfig buildConfig(final PluginSetting pluginSetting) {
@@ -73,7 +78,8 @@ public class GrokProcessorConfig {
                 pluginSetting.getStringOrDefault(PATTERNS_FILES_GLOB, DEFAULT_PATTERNS_FILES_GLOB),
                 pluginSetting.getTypedMap(PATTERN_DEFINITIONS, String.class, String.class),
                 pluginSetting.getIntegerOrDefault(TIMEOUT_MILLIS, DEFAULT_TIMEOUT_MILLIS),
-                pluginSetting.getStringOrDefault(TARGET_KEY, DEFAULT_TARGET_KEY));
+                pluginSetting.getStringOrDefault(TARGET_KEY, DEFAULT_TARGET_KEY),
+                pluginSetting.getBooleanOrDefault(PREFILTER_PATTERNS, DEFAULT_PREFILTER_PATTERNS));
     }
 
     public boolean isBreakOnMatch() {
@@ -115,4 +121,8 @@ public class GrokProcessorConfig {
     public String getTargetKey() {
         return targetKey;
     }
+
+    public boolean isPrefilterPatterns() {
+        return prefilterPatterns;
+    }
 }
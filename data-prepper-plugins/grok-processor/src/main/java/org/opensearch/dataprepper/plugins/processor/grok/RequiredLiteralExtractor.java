@@ -0,0 +1,172 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Extracts literal substrings which every match of a regular expression must contain.
+ * <p>
+ * Only literals at the top level of the expression are extracted, outside of groups and character classes and not
+ * followed by a quantifier. An expanded grok pattern keeps the text between its sub-patterns at the top level, for
+ * example the {@code " - - ["} of {@code %{IP:client} - - [%{HTTPDATE:timestamp}]}. The extraction is conservative:
+ * expressions with a top-level alternation, inline flags, quoting, back references or escapes taking arguments have
+ * no required literals.
+ */
+final class RequiredLiteralExtractor {
+    static final int MINIMUM_LITERAL_LENGTH = 3;
+    private static final String ESCAPES_WITH_ARGUMENTS = "xucpPkN";
+
+    private RequiredLiteralExtractor() {
+    }
+
+    /**
+     * @param regex The regular expression
+     * @return The literals of at least {@link #MINIMUM_LITERAL_LENGTH} characters which any text matching the
+     * regular expression contains
+     */
+    static List<String> extractRequiredLiterals(final String regex) {
+        if (hasInlineFlagsOrQuoting(regex)) {
+            return Collections.emptyList();
+        }
+
+        final List<String> literals = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+        int depth = 0;
+        int index = 0;
+        while (index < regex.length()) {
+            final char c = regex.charAt(index);
+            if (c == '\\') {
+                if (index + 1 == regex.length()) {
+                    break;
+                }
+                final char escaped = regex.charAt(index + 1);
+                if (Character.isDigit(escaped) || ESCAPES_WITH_ARGUMENTS.indexOf(escaped) >= 0) {
+                    return Collections.emptyList();
+                }
+                index += 2;
+                if (depth == 0) {
+                    index = appendAtom(regex, index, Character.isLetterOrDigit(escaped) ? null : escaped, literal, literals);
+                }
+            } else if (c == '[') {
+                index = skipCharacterClass(regex, index);
+                if (depth == 0) {
+                    index = appendAtom(regex, index, null, literal, literals);
+                }
+            } else if (c == '(') {
+                depth++;
+                index++;
+                addLiteral(literal, literals);
+            } else if (c == ')') {
+                depth--;
+                index++;
+                if (depth == 0) {
+                    index = appendAtom(regex, index, null, literal, literals);
+                }
+            } else if (depth > 0) {
+                index++;
+            } else if (c == '|') {
+                return Collections.emptyList();
+            } else {
+                index++;
+                index = appendAtom(regex, index, isMetaCharacter(c) ? null : c, literal, literals);
+            }
+        }
+        addLiteral(literal, literals);
+        return literals;
+    }
+
+    /**
+     * Appends the literal character of an atom ending at the given index to the current literal, unless the atom is
+     * quantified or is not a literal character, in which case the current literal ends.
+     *
+     * @return The index after the atom and its quantifier
+     */
+    private static int appendAtom(final String regex, final int atomEnd, final Character literalCharacter,
+                                  final StringBuilder literal, final List<String> literals) {
+        final int quantifierEnd = skipQuantifier(regex, atomEnd);
+        if (literalCharacter != null && quantifierEnd == atomEnd) {
+            literal.append(literalCharacter.charValue());
+        } else {
+            addLiteral(literal, literals);
+        }
+        return quantifierEnd;
+    }
+
+    private static void addLiteral(final StringBuilder literal, final List<String> literals) {
+        if (literal.length() >= MINIMUM_LITERAL_LENGTH) {
+            literals.add(literal.toString());
+        }
+        literal.setLength(0);
+    }
+
+    private static int skipQuantifier(final String regex, final int index) {
+        if (index == regex.length()) {
+            return index;
+        }
+        int end;
+        final char c = regex.charAt(index);
+        if (c == '*' || c == '+' || c == '?') {
+            end = index + 1;
+        } else if (c == '{') {
+            end = regex.indexOf('}', index);
+            if (end < 0) {
+                return regex.length();
+            }
+            end++;
+        } else {
+            return index;
+        }
+        if (end < regex.length() && (regex.charAt(end) == '?' || regex.charAt(end) == '+')) {
+            end++;
+        }
+        return end;
+    }
+
+    private static int skipCharacterClass(final String regex, final int start) {
+        int index = start + 1;
+        if (index < regex.length() && regex.charAt(index) == '^') {
+            index++;
+        }
+        if (index < regex.length() && regex.charAt(index) == ']') {
+            index++;
+        }
+        int depth = 1;
+        while (index < regex.length()) {
+            final char c = regex.charAt(index);
+            if (c == '\\') {
+                index++;
+            } else if (c == '[') {
+                depth++;
+            } else if (c == ']' && --depth == 0) {
+                return index + 1;
+            }
+            index++;
+        }
+        return regex.length();
+    }
+
+    private static boolean isMetaCharacter(final char c) {
+        return c == '.' || c == '^' || c == '$' || c == '*' || c == '+' || c == '?' || c == '{' || c == '}' || c == ']';
+    }
+
+    private static boolean hasInlineFlagsOrQuoting(final String regex) {
+        if (regex.contains("\\Q")) {
+            return true;
+        }
+        int index = regex.indexOf("(?");
+        while (index >= 0 && index + 2 < regex.length()) {
+            final char c = regex.charAt(index + 2);
+            if (Character.isLetter(c) || c == '-') {
+                return true;
+            }
+            index = regex.indexOf("(?", index + 2);
+        }
+        return false;
+    }
+}
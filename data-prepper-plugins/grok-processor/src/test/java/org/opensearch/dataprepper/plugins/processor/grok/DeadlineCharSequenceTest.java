@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeadlineCharSequenceTest {
+    private static final Pattern CATASTROPHIC_BACKTRACKING_PATTERN = Pattern.compile("(.*a){25}x");
+
+    @Test
+    void reads_the_text_before_the_deadline() {
+        final String text = UUID.randomUUID().toString();
+        final DeadlineCharSequence objectUnderTest = new DeadlineCharSequence(text, System.nanoTime() + TimeUnit.MINUTES.toNanos(1));
+
+        for (int i = 0; i < text.length(); i++) {
+            assertThat(objectUnderTest.charAt(i), equalTo(text.charAt(i)));
+        }
+        assertThat(objectUnderTest.length(), equalTo(text.length()));
+        assertThat(objectUnderTest.subSequence(1, 5), equalTo(text.subSequence(1, 5)));
+        assertThat(objectUnderTest.toString(), equalTo(text));
+    }
+
+    @Test
+    void charAt_throws_after_the_deadline() {
+        final DeadlineCharSequence objectUnderTest = new DeadlineCharSequence(UUID.randomUUID().toString(), System.nanoTime() - 1);
+
+        assertThrows(GrokMatchTimeoutException.class, () -> objectUnderTest.charAt(0));
+    }
+
+    @Test
+    void regular_expression_match_stops_at_the_deadline() {
+        final String text = "a".repeat(40);
+        final Matcher matcher = CATASTROPHIC_BACKTRACKING_PATTERN.matcher(
+                new DeadlineCharSequence(text, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50)));
+
+        assertThrows(GrokMatchTimeoutException.class, matcher::find);
+    }
+}
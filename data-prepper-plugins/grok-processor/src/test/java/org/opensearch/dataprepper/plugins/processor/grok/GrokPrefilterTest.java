@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class GrokPrefilterTest {
+    private static final List<String> REGEXES = Arrays.asList(
+            "(?<host>\\S+) sshd\\[(?<pid>\\d+)\\]: Failed password for (?<user>\\S+)",
+            "(?<host>\\S+) sshd\\[(?<pid>\\d+)\\]: Accepted password for (?<user>\\S+)",
+            "(?<client>\\S+) - - \\[(?<timestamp>[^\\]]+)\\] \"GET (?<path>\\S+)",
+            "(?<message>.*)");
+
+    @Test
+    void findCandidates_returns_regexes_whose_required_literals_are_all_present() {
+        final GrokPrefilter objectUnderTest = new GrokPrefilter(REGEXES);
+
+        assertThat(objectUnderTest.getLiteralCount(), equalTo(5));
+        assertCandidates(objectUnderTest, "host1 sshd[42]: Failed password for root", true, false, false, true);
+        assertCandidates(objectUnderTest, "host1 sshd[42]: Accepted password for root", false, true, false, true);
+        assertCandidates(objectUnderTest, "10.0.0.1 - - [10/Oct/2000:13:55:36 -0700] \"GET /index.html", false, false, true, true);
+        assertCandidates(objectUnderTest, "sshd[: Failed password for", false, false, false, true);
+        assertCandidates(objectUnderTest, "", false, false, false, true);
+    }
+
+    @Test
+    void findCandidates_finds_overlapping_literals() {
+        final GrokPrefilter objectUnderTest = new GrokPrefilter(Arrays.asList("abcd(?<a>x)", "bcx(?<a>x)", "(?<a>x)cde", "bcd(?<a>x)"));
+
+        assertCandidates(objectUnderTest, "xxabcde", true, false, true, true);
+        assertCandidates(objectUnderTest, "abcx", false, true, false, false);
+        assertCandidates(objectUnderTest, "abcbcd", false, false, false, true);
+    }
+
+    @Test
+    void findCandidates_never_excludes_a_regex_which_matches() {
+        final GrokPrefilter objectUnderTest = new GrokPrefilter(REGEXES);
+        final List<String> texts = Arrays.asList(
+                "host1 sshd[42]: Failed password for root",
+                "host1 sshd[42]: Accepted password for root",
+                "10.0.0.1 - - [10/Oct/2000:13:55:36 -0700] \"GET /index.html",
+                "unrelated");
+
+        for (final String text : texts) {
+            final boolean[] candidates = objectUnderTest.findCandidates(text);
+            for (int i = 0; i < REGEXES.size(); i++) {
+                if (Pattern.compile(REGEXES.get(i)).matcher(text).find()) {
+                    assertThat(candidates[i], equalTo(true));
+                }
+            }
+        }
+    }
+
+    @Test
+    void findCandidates_returns_all_regexes_without_required_literals() {
+        final GrokPrefilter objectUnderTest = new GrokPrefilter(Arrays.asList("(?<a>.*)", "(?<b>\\d+)|literal"));
+
+        assertThat(objectUnderTest.getLiteralCount(), equalTo(0));
+        assertCandidates(objectUnderTest, "text", true, true);
+    }
+
+    @Test
+    void findCandidates_with_no_regexes_returns_no_candidates() {
+        final GrokPrefilter objectUnderTest = new GrokPrefilter(Collections.emptyList());
+
+        assertThat(objectUnderTest.findCandidates("text").length, equalTo(0));
+    }
+
+    private static void assertCandidates(final GrokPrefilter grokPrefilter, final String text, final boolean... expectedCandidates) {
+        final boolean[] candidates = grokPrefilter.findCandidates(text);
+        assertThat(text, Arrays.toString(candidates), equalTo(Arrays.toString(expectedCandidates)));
+    }
+}
@@ -22,6 +22,7 @@ import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorCon
 import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorConfig.DEFAULT_KEEP_EMPTY_CAPTURES;
 import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorConfig.DEFAULT_NAMED_CAPTURES_ONLY;
 import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorConfig.DEFAULT_PATTERNS_FILES_GLOB;
+import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorConfig.DEFAULT_PREFILTER_PATTERNS;
 import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorConfig.DEFAULT_TARGET_KEY;
 import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS;
 
@@ -71,6 +72,7 @@ public class GrokProcessorConfigTests {
         assertThat(grokProcessorConfig.getPatternsDirectories(), equalTo(Collections.emptyList()));
         assertThat(grokProcessorConfig.getPatternsFilesGlob(), equalTo(DEFAULT_PATTERNS_FILES_GLOB));
         assertThat(grokProcessorConfig.getTargetKey(), equalTo(DEFAULT_TARGET_KEY));
+        assertThat(grokProcessorConfig.isPrefilterPatterns(), equalTo(DEFAULT_PREFILTER_PATTERNS));
         assertThat(grokProcessorConfig.isNamedCapturesOnly(), equalTo(DEFAULT_NAMED_CAPTURES_ONLY));
         assertThat(grokProcessorConfig.getTimeoutMillis(), equalTo(DEFAULT_TIMEOUT_MILLIS));
     }
@@ -88,6 +90,7 @@ public class GrokProcessorConfigTests {
                 TEST_PATTERN_DEFINITIONS,
                 TEST_TIMEOUT_MILLIS,
                 TEST_TARGET_KEY);
+        validPluginSetting.getSettings().put(GrokProcessorConfig.PREFILTER_PATTERNS, true);
 
         final GrokProcessorConfig grokProcessorConfig = GrokProcessorConfig.buildConfig(validPluginSetting);
 
@@ -101,6 +104,7 @@ public class GrokProcessorConfigTests {
         assertThat(grokProcessorConfig.getTargetKey(), equalTo(TEST_TARGET_KEY));
         assertThat(grokProcessorConfig.isNamedCapturesOnly(), equalTo(false));
         assertThat(grokProcessorConfig.getTimeoutMillis(), equalTo(TEST_TIMEOUT_MILLIS));
+        assertThat(grokProcessorConfig.isPrefilterPatterns(), equalTo(true));
     }
 
     @Test
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -143,6 +144,40 @@ public class GrokProcessorIT {
         assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
     }
 
+    @Test
+    public void testSingleMatchMultiplePatternWithPrefilterPatterns() throws JsonProcessingException {
+        final Map<String, List<String>> matchConfig = new HashMap<>();
+        matchConfig.put("message", Arrays.asList("%{SYSLOGBASE}", "%{IP:ip} \\[%{WORD:word}\\] via proxy", "%{COMMONAPACHELOG}"));
+
+        pluginSetting.getSettings().put(GrokProcessorConfig.MATCH, matchConfig);
+        pluginSetting.getSettings().put(GrokProcessorConfig.PREFILTER_PATTERNS, true);
+        grokProcessor = new GrokProcessor(pluginSetting);
+
+        final Map<String, Object> testData = new HashMap();
+        testData.put("message", messageInput);
+        final Record<Event> record = buildRecordWithEvent(testData);
+
+        final Map<String, Object> resultData = new HashMap<>();
+        resultData.put("message", messageInput);
+        resultData.put("clientip", "127.0.0.1");
+        resultData.put("ident", "user-identifier");
+        resultData.put("auth", "frank");
+        resultData.put("timestamp", "10/Oct/2000:13:55:36 -0700");
+        resultData.put("verb", "GET");
+        resultData.put("request", "/apache_pb.gif");
+        resultData.put("httpversion", "1.0");
+        resultData.put("response", "200");
+        resultData.put("bytes", "2326");
+
+        final Record<Event> resultRecord = buildRecordWithEvent(resultData);
+
+        final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokProcessor.doExecute(Collections.singletonList(record));
+
+        assertThat(grokkedRecords.size(), equalTo(1));
+        assertThat(grokkedRecords.get(0), notNullValue());
+        assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
+    }
+
     @Test
     public void testSingleMatchMultiplePatternWithBreakOnMatchFalse() throws JsonProcessingException {
         final Map<String, List<String>> matchConfig = new HashMap<>();
@@ -33,25 +33,22 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
-import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessor.EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT;
 import static org.opensearch.dataprepper.test.matcher.MapEquals.isEqualWithoutTimestamp;
 
 
@@ -62,12 +59,6 @@ public class GrokProcessorTests {
     private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<Map<String, Object>>() {};
     private String messageInput;
 
-    @Mock
-    private ExecutorService executorService;
-
-    @Mock
-    private Future task;
-
     @Mock
     private GrokCompiler grokCompiler;
 
@@ -98,13 +89,19 @@ public class GrokProcessorTests {
     @Mock
     private Timer grokProcessingTime;
 
+    @Mock
+    private Counter grokPatternMatchCounter;
+
+    @Mock
+    private Counter grokPatternMismatchCounter;
+
     private PluginSetting pluginSetting;
     private final String PLUGIN_NAME = "grok";
     private Map<String, Object> capture;
     private final Map<String, List<String>> matchConfig = new HashMap<>();
 
     @BeforeEach
-    public void setup() throws TimeoutException, ExecutionException, InterruptedException {
+    public void setup() {
         pluginSetting = getDefaultPluginSetting();
         pluginSetting.setPipelineName("grokPipeline");
 
@@ -120,6 +117,8 @@ public class GrokProcessorTests {
         lenient().when(pluginMetrics.counter(GrokProcessor.GROK_PROCESSING_TIMEOUTS)).thenReturn(grokProcessingTimeoutsCounter);
         lenient().when(pluginMetrics.counter(GrokProcessor.GROK_PROCESSING_ERRORS)).thenReturn(grokProcessingErrorsCounter);
         lenient().when(pluginMetrics.timer(GrokProcessor.GROK_PROCESSING_TIME)).thenReturn(grokProcessingTime);
+        lenient().when(pluginMetrics.counterWithTags(eq(GrokProcessor.GROK_PATTERN_MATCH), any())).thenReturn(grokPatternMatchCounter);
+        lenient().when(pluginMetrics.counterWithTags(eq(GrokProcessor.GROK_PATTERN_MISMATCH), any())).thenReturn(grokPatternMismatchCounter);
 
         lenient().doAnswer(a -> {
             a.<Runnable>getArgument(0).run();
@@ -133,22 +132,21 @@ public class GrokProcessorTests {
         lenient().when(grokCompiler.compile(eq(matchConfig.get("message").get(0)), anyBoolean())).thenReturn(grok);
         lenient().when(grokCompiler.compile(eq(matchConfig.get("message").get(1)), anyBoolean())).thenReturn(grokSecondMatch);
 
-        lenient().when(grok.match(messageInput)).thenReturn(match);
+        lenient().when(grok.match(textEqualTo(messageInput))).thenReturn(match);
         lenient().when(match.capture()).thenReturn(capture);
-        lenient().when(executorService.submit(any(Runnable.class))).then(a -> {
-            a.<Runnable>getArgument(0).run();
-            return task;
-        });
-        lenient().when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenReturn(null);
     }
 
     private GrokProcessor createObjectUnderTest() {
         try (MockedStatic<PluginMetrics> pluginMetricsMockedStatic = mockStatic(PluginMetrics.class)) {
             pluginMetricsMockedStatic.when(() -> PluginMetrics.fromPluginSetting(pluginSetting)).thenReturn(pluginMetrics);
-            return new GrokProcessor(pluginSetting, grokCompiler, executorService);
+            return new GrokProcessor(pluginSetting, grokCompiler);
         }
     }
 
+    private static CharSequence textEqualTo(final String text) {
+        return argThat(charSequence -> charSequence != null && text.equals(charSequence.toString()));
+    }
+
     @Test
     public void testMatchMerge() throws JsonProcessingException {
         grokProcessor = createObjectUnderTest();
@@ -175,8 +173,10 @@ public class GrokProcessorTests {
         assertThat(grokkedRecords.get(0), notNullValue());
         assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
         verify(grokProcessingMatchCounter, times(1)).increment();
+        verify(grokPatternMatchCounter, times(1)).increment();
         verify(grokProcessingTime, times(1)).record(any(Runnable.class));
-        verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMismatchCounter, grokProcessingTimeoutsCounter);
+        verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMismatchCounter, grokProcessingTimeoutsCounter,
+                grokPatternMismatchCounter);
     }
 
     @Test
@@ -375,8 +375,13 @@ public class GrokProcessorTests {
     }
 
     @Test
-    public void testThatTimeoutExceptionIsCaughtAndProcessingContinues() throws JsonProcessingException, TimeoutException, ExecutionException, InterruptedException {
-        when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenThrow(TimeoutException.class);
+    public void testThatTimeoutExceptionIsCaughtAndProcessingContinues() throws JsonProcessingException {
+        pluginSetting.getSettings().put(GrokProcessorConfig.TIMEOUT_MILLIS, 1);
+        when(grok.match(textEqualTo(messageInput))).then(a -> {
+            Thread.sleep(10);
+            a.<CharSequence>getArgument(0).charAt(0);
+            return match;
+        });
 
         grokProcessor = createObjectUnderTest();
 
@@ -395,10 +400,11 @@ public class GrokProcessorTests {
         assertRecordsAreEqual(grokkedRecords.get(0), record);
         verify(grokProcessingTimeoutsCounter, times(1)).increment();
         verify(grokProcessingTime, times(1)).record(any(Runnable.class));
+        verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMatchCounter, grokProcessingMismatchCounter);
     }
 
     @Test
-    public void testThatProcessingWithTimeoutMillisOfZeroDoesNotInteractWithExecutorServiceAndReturnsCorrectResult() throws JsonProcessingException {
+    public void testThatProcessingWithTimeoutMillisOfZeroMatchesOnTheValueAndReturnsCorrectResult() throws JsonProcessingException {
         pluginSetting.getSettings().put(GrokProcessorConfig.TIMEOUT_MILLIS, 0);
         grokProcessor = createObjectUnderTest();
 
@@ -420,7 +426,7 @@ public class GrokProcessorTests {
         final Record<Event> resultRecord = buildRecordWithEvent(resultData);
 
         final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokProcessor.doExecute(Collections.singletonList(record));
-        verifyNoInteractions(executorService);
+        verify(grok).match(messageInput);
         assertThat(grokkedRecords.size(), equalTo(1));
         assertThat(grokkedRecords.get(0), notNullValue());
         assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
@@ -431,42 +437,55 @@ public class GrokProcessorTests {
 
 
     @Test
-    public void testPrepareForShutdown() {
+    public void testPerPatternCountersAreTaggedWithKeyAndPattern() {
         grokProcessor = createObjectUnderTest();
-        grokProcessor.prepareForShutdown();
+
+        verify(pluginMetrics).counterWithTags(GrokProcessor.GROK_PATTERN_MATCH,
+                GrokProcessor.KEY_TAG, "message", GrokProcessor.PATTERN_TAG, "%{PATTERN1}");
+        verify(pluginMetrics).counterWithTags(GrokProcessor.GROK_PATTERN_MISMATCH,
+                GrokProcessor.KEY_TAG, "message", GrokProcessor.PATTERN_TAG, "%{PATTERN2}");
     }
 
     @Test
-    public void testShutdown_Successful() throws InterruptedException {
+    public void testPrefilterPatternsSkipsPatternsWhoseRequiredLiteralsAreMissing() throws JsonProcessingException {
+        pluginSetting.getSettings().put(GrokProcessorConfig.PREFILTER_PATTERNS, true);
+        when(grok.getNamedRegex()).thenReturn("(?<id>\\w+) not in the message");
+        when(grokSecondMatch.getNamedRegex()).thenReturn("(?<id>.+)");
+        final Match secondMatch = mock(Match.class);
+        when(grokSecondMatch.match(textEqualTo(messageInput))).thenReturn(secondMatch);
+        when(secondMatch.capture()).thenReturn(Collections.singletonMap("id", messageInput));
         grokProcessor = createObjectUnderTest();
-        lenient().when(executorService.awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
 
-        grokProcessor.shutdown();
-        verify(executorService).shutdown();
-        verify(executorService).awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS));
+        final Map<String, Object> testData = new HashMap();
+        testData.put("message", messageInput);
+        final Record<Event> record = buildRecordWithEvent(testData);
+
+        final Map<String, Object> resultData = new HashMap<>();
+        resultData.put("message", messageInput);
+        resultData.put("id", messageInput);
+        final Record<Event> resultRecord = buildRecordWithEvent(resultData);
+
+        final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokProcessor.doExecute(Collections.singletonList(record));
+
+        assertThat(grokkedRecords.size(), equalTo(1));
+        assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
+        verify(grok, never()).match(any());
+        verify(grokPatternMismatchCounter, times(1)).increment();
+        verify(grokPatternMatchCounter, times(1)).increment();
+        verify(grokProcessingMatchCounter, times(1)).increment();
     }
 
     @Test
-    public void testShutdown_Timeout() throws InterruptedException {
+    public void testPrepareForShutdown() {
         grokProcessor = createObjectUnderTest();
-        lenient().when(executorService.awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS))).thenReturn(false);
-
-        grokProcessor.shutdown();
-        verify(executorService).shutdown();
-        verify(executorService).awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS));
-        verify(executorService).shutdownNow();
+        grokProcessor.prepareForShutdown();
     }
 
     @Test
-    public void testShutdown_InterruptedException() throws InterruptedException {
+    public void testShutdown() {
         grokProcessor = createObjectUnderTest();
-        lenient().when(executorService.awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS)))
-                .thenThrow(new InterruptedException());
-
         grokProcessor.shutdown();
-        verify(executorService).shutdown();
-        verify(executorService).awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS));
-        verify(executorService).shutdownNow();
+        assertThat(grokProcessor.isReadyForShutdown(), equalTo(true));
     }
 
     @Nested
@@ -485,7 +504,7 @@ public class GrokProcessorTests {
         public void testNoCaptures() throws JsonProcessingException {
             grokProcessor = createObjectUnderTest();
 
-            lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            lenient().when(grokSecondMatch.match(textEqualTo(messageInput))).thenReturn(secondMatch);
             lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
             final Map<String, Object> testData = new HashMap();
@@ -506,7 +525,7 @@ public class GrokProcessorTests {
         public void testBreakOnMatchTrue() throws JsonProcessingException {
             grokProcessor = createObjectUnderTest();
 
-            lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            lenient().when(grokSecondMatch.match(textEqualTo(messageInput))).thenReturn(secondMatch);
             lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
             capture.put("key_capture_1", "value_capture_1");
@@ -543,7 +562,7 @@ public class GrokProcessorTests {
             pluginSetting.getSettings().put(GrokProcessorConfig.BREAK_ON_MATCH, false);
             grokProcessor = createObjectUnderTest();
 
-            when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            when(grokSecondMatch.match(textEqualTo(messageInput))).thenReturn(secondMatch);
             when(secondMatch.capture()).thenReturn(secondCapture);
 
             capture.put("key_capture_1", "value_capture_1");
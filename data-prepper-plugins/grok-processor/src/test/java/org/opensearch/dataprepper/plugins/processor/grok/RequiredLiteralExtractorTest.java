@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class RequiredLiteralExtractorTest {
+    @ParameterizedTest
+    @MethodSource("regexesWithRequiredLiterals")
+    void extractRequiredLiterals_returns_top_level_literals(final String regex, final List<String> expectedLiterals) {
+        assertThat(RequiredLiteralExtractor.extractRequiredLiterals(regex), equalTo(expectedLiterals));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "(?<a>\\w+) - - \\[(?<b>\\S+)\\]|fallback literal",
+            "(?i)case insensitive",
+            "(?x:extended) literal",
+            "\\Qquoted\\E literal",
+            "(?<a>x) literal \\1",
+            "\\x41 literal",
+            "\\p{Lu} literal",
+            "ab",
+            ""
+    })
+    void extractRequiredLiterals_returns_no_literals_when_none_are_required(final String regex) {
+        assertThat(RequiredLiteralExtractor.extractRequiredLiterals(regex), empty());
+    }
+
+    private static Stream<Arguments> regexesWithRequiredLiterals() {
+        return Stream.of(
+                arguments("(?<clientip>\\S+) - - \\[(?<timestamp>[^\\]]+)\\] \"(?<request>[^\"]*)\"",
+                        Arrays.asList(" - - [", "] \"")),
+                arguments("^GET (?<path>/\\S*) HTTP/1\\.1$", Arrays.asList("GET ", " HTTP/1.1")),
+                arguments("(?:a|b) literal(?:optional)? text", Arrays.asList(" literal", " text")),
+                arguments("abcd?efg", Arrays.asList("abc", "efg")),
+                arguments("abc\\s+def", Arrays.asList("abc", "def")),
+                arguments("abc[xyz]{2,3}def", Arrays.asList("abc", "def")),
+                arguments("abc[]x]*?def", Arrays.asList("abc", "def")),
+                arguments("abc[^\\]x[y]]+def", Arrays.asList("abc", "def")),
+                arguments("abc(?:x)++def", Arrays.asList("abc", "def")),
+                arguments("abc.def", Arrays.asList("abc", "def")),
+                arguments("abcd{", Collections.singletonList("abc")),
+                arguments("abc[unterminated", Collections.singletonList("abc")),
+                arguments("(?<a>\\)|[(])literal", Collections.singletonList("literal")),
+                arguments("literal\\", Collections.singletonList("literal"))
+        );
+    }
+}
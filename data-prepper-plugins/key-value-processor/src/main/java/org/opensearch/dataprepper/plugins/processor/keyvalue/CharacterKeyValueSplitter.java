@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.keyvalue;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Splits a string into key/value pairs on sets of plain delimiter characters in a single pass, without regex.
+ * <p>
+ * The pairs are the same as splitting the string with a regex alternating the field split characters, dropping
+ * trailing empty pairs, and splitting each pair once with a regex alternating the value split characters.
+ */
+class CharacterKeyValueSplitter {
+    private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+    private static final int ASCII_CHARACTERS = 128;
+
+    private final DelimiterSet fieldDelimiters;
+    private final DelimiterSet valueDelimiters;
+
+    /**
+     * @param fieldSplitCharacters The characters between key/value pairs
+     * @param valueSplitCharacters The characters between a key and its value
+     */
+    CharacterKeyValueSplitter(final String fieldSplitCharacters, final String valueSplitCharacters) {
+        this.fieldDelimiters = new DelimiterSet(fieldSplitCharacters);
+        this.valueDelimiters = new DelimiterSet(valueSplitCharacters);
+    }
+
+    /**
+     * @param splitCharacters The split characters of a processor configuration
+     * @return true if every character matches only itself when used as a regex, so that they can be split without regex
+     */
+    static boolean supports(final String splitCharacters) {
+        if (splitCharacters == null || splitCharacters.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < splitCharacters.length(); i++) {
+            final char c = splitCharacters.charAt(i);
+            if (REGEX_METACHARACTERS.indexOf(c) >= 0 || Character.isSurrogate(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Passes each key/value pair of the string to the consumer, in order. The value is null for a pair without a value
+     * split character.
+     *
+     * @param string The string to split
+     * @param pairConsumer The consumer of each key and value
+     */
+    void split(final String string, final BiConsumer<String, String> pairConsumer) {
+        final int length = string.length();
+        int pairStart = 0;
+        int valueStart = -1;
+        int pendingEmptyPairs = 0;
+        boolean foundFieldDelimiter = false;
+        for (int i = 0; i < length; i++) {
+            final char c = string.charAt(i);
+            if (fieldDelimiters.contains(c)) {
+                foundFieldDelimiter = true;
+                if (i == pairStart) {
+                    // Empty pairs are only passed on if a non-empty pair follows them
+                    pendingEmptyPairs++;
+                } else {
+                    acceptEmptyPairs(pendingEmptyPairs, pairConsumer);
+                    pendingEmptyPairs = 0;
+                    acceptPair(string, pairStart, valueStart, i, pairConsumer);
+                }
+                pairStart = i + 1;
+                valueStart = -1;
+            } else if (valueStart < 0 && valueDelimiters.contains(c)) {
+                valueStart = i + 1;
+            }
+        }
+
+        if (pairStart < length || !foundFieldDelimiter) {
+            acceptEmptyPairs(pendingEmptyPairs, pairConsumer);
+            acceptPair(string, pairStart, valueStart, length, pairConsumer);
+        }
+    }
+
+    private static void acceptEmptyPairs(final int emptyPairs, final BiConsumer<String, String> pairConsumer) {
+        for (int i = 0; i < emptyPairs; i++) {
+            pairConsumer.accept("", null);
+        }
+    }
+
+    private static void acceptPair(final String string, final int pairStart, final int valueStart, final int pairEnd,
+                                   final BiConsumer<String, String> pairConsumer) {
+        if (valueStart < 0) {
+            pairConsumer.accept(string.substring(pairStart, pairEnd), null);
+        } else {
+            pairConsumer.accept(string.substring(pairStart, valueStart - 1), string.substring(valueStart, pairEnd));
+        }
+    }
+
+    /**
+     * A set of characters with a table lookup for ASCII characters.
+     */
+    private static class DelimiterSet {
+        private final boolean[] asciiCharacters = new boolean[ASCII_CHARACTERS];
+        private final String otherCharacters;
+
+        private DelimiterSet(final String characters) {
+            final StringBuilder otherCharactersBuilder = new StringBuilder();
+            for (int i = 0; i < characters.length(); i++) {
+                final char c = characters.charAt(i);
+                if (c < ASCII_CHARACTERS) {
+                    asciiCharacters[c] = true;
+                } else {
+                    otherCharactersBuilder.append(c);
+                }
+            }
+            this.otherCharacters = otherCharactersBuilder.toString();
+        }
+
+        private boolean contains(final char c) {
+            return c < ASCII_CHARACTERS ? asciiCharacters[c] : otherCharacters.indexOf(c) >= 0;
+        }
+    }
+}
@@ -32,6 +32,9 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
 
     private final Pattern fieldDelimiterPattern;
     private final Pattern keyValueDelimiterPattern;
+    private final CharacterKeyValueSplitter characterKeyValueSplitter;
+    private final Pattern deleteKeyPattern;
+    private final Pattern deleteValuePattern;
 
     @DataPrepperPluginConstructor
     public KeyValueProcessor(final PluginMetrics pluginMetrics, final KeyValueProcessorConfig keyValueProcessorConfig) {
@@ -87,6 +90,34 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
         if(!validateRegex(keyValueProcessorConfig.getDeleteValueRegex())) {
             throw new PatternSyntaxException("delete_value_regex is not a valid regex string", keyValueProcessorConfig.getDeleteValueRegex(), -1);
         }
+
+        characterKeyValueSplitter = createCharacterKeyValueSplitter(keyValueProcessorConfig);
+        deleteKeyPattern = compileIfNotEmpty(keyValueProcessorConfig.getDeleteKeyRegex());
+        deleteValuePattern = compileIfNotEmpty(keyValueProcessorConfig.getDeleteValueRegex());
+    }
+
+    /**
+     * Creates a splitter which does not use regex when both delimiters are given as plain characters, or returns null.
+     */
+    private static CharacterKeyValueSplitter createCharacterKeyValueSplitter(final KeyValueProcessorConfig keyValueProcessorConfig) {
+        if((keyValueProcessorConfig.getFieldDelimiterRegex() != null && !keyValueProcessorConfig.getFieldDelimiterRegex().isEmpty())
+                || (keyValueProcessorConfig.getKeyValueDelimiterRegex() != null && !keyValueProcessorConfig.getKeyValueDelimiterRegex().isEmpty())) {
+            return null;
+        }
+
+        final String fieldSplitCharacters = keyValueProcessorConfig.getFieldSplitCharacters().isEmpty()
+                ? KeyValueProcessorConfig.DEFAULT_FIELD_SPLIT_CHARACTERS : keyValueProcessorConfig.getFieldSplitCharacters();
+        final String valueSplitCharacters = keyValueProcessorConfig.getValueSplitCharacters().isEmpty()
+                ? KeyValueProcessorConfig.DEFAULT_VALUE_SPLIT_CHARACTERS : keyValueProcessorConfig.getValueSplitCharacters();
+        if(!CharacterKeyValueSplitter.supports(fieldSplitCharacters) || !CharacterKeyValueSplitter.supports(valueSplitCharacters)) {
+            return null;
+        }
+
+        return new CharacterKeyValueSplitter(fieldSplitCharacters, valueSplitCharacters);
+    }
+
+    private static Pattern compileIfNotEmpty(final String regex) {
+        return regex != null && !regex.isEmpty() ? Pattern.compile(regex) : null;
     }
 
     private String buildRegexFromCharacters(String s) {
@@ -125,32 +156,14 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
             final Event recordEvent = record.getData();
 
             final String groupsRaw = recordEvent.get(keyValueProcessorConfig.getSource(), String.class);
-            final String[] groups = fieldDelimiterPattern.split(groupsRaw, 0);
-            for(final String group : groups) {
-                final String[] terms = keyValueDelimiterPattern.split(group, 2);
-                String key = terms[0];
-                Object value;
-
-                if(keyValueProcessorConfig.getDeleteKeyRegex() != null && !Objects.equals(keyValueProcessorConfig.getDeleteKeyRegex(), "")) {
-                    key = key.replaceAll(keyValueProcessorConfig.getDeleteKeyRegex(), "");
-                }
-                key = keyValueProcessorConfig.getPrefix() + key;
-
-                if (terms.length == 2) {
-                    value = terms[1];
-                } else {
-                    LOG.debug(String.format("Unsuccessful match: '%s'", terms[0]));
-                    value = keyValueProcessorConfig.getNonMatchValue();
-                }
-
-                if(value != null
-                        && value instanceof String
-                        && keyValueProcessorConfig.getDeleteValueRegex() != null
-                        && !Objects.equals(keyValueProcessorConfig.getDeleteValueRegex(), "")) {
-                    value = ((String)value).replaceAll(keyValueProcessorConfig.getDeleteValueRegex(), "");
+            if(characterKeyValueSplitter != null) {
+                characterKeyValueSplitter.split(groupsRaw, (key, value) -> addPair(parsedMap, key, value));
+            } else {
+                final String[] groups = fieldDelimiterPattern.split(groupsRaw, 0);
+                for(final String group : groups) {
+                    final String[] terms = keyValueDelimiterPattern.split(group, 2);
+                    addPair(parsedMap, terms[0], terms.length == 2 ? terms[1] : null);
                 }
-
-                addKeyValueToMap(parsedMap, key, value);
             }
 
             recordEvent.put(keyValueProcessorConfig.getDestination(), parsedMap);
@@ -159,6 +172,36 @@ public class KeyValueProcessor extends AbstractProcessor<Record<Event>, Record<E
         return records;
     }
 
+    /**
+     * Applies the configured transformations to a key/value pair and adds it to the parsed map.
+     *
+     * @param parsedMap The map of the record
+     * @param rawKey The key as split from the source
+     * @param rawValue The value as split from the source, or null if the pair has no value delimiter
+     */
+    private void addPair(final Map<String, Object> parsedMap, final String rawKey, final String rawValue) {
+        String key = rawKey;
+        Object value;
+
+        if(deleteKeyPattern != null) {
+            key = deleteKeyPattern.matcher(key).replaceAll("");
+        }
+        key = keyValueProcessorConfig.getPrefix() + key;
+
+        if (rawValue != null) {
+            value = rawValue;
+        } else {
+            LOG.debug("Unsuccessful match: '{}'", rawKey);
+            value = keyValueProcessorConfig.getNonMatchValue();
+        }
+
+        if(value instanceof String && deleteValuePattern != null) {
+            value = deleteValuePattern.matcher((String) value).replaceAll("");
+        }
+
+        addKeyValueToMap(parsedMap, key, value);
+    }
+
     private void addKeyValueToMap(final Map<String, Object> parsedMap, final String key, final Object value) {
         if(!parsedMap.containsKey(key)) {
             parsedMap.put(key, value);
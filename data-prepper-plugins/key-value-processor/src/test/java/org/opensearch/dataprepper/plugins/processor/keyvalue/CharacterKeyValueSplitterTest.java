@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.keyvalue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class CharacterKeyValueSplitterTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"&", "=", "&,; ", ":", "\t", "\u00e9"})
+    void supports_returns_true_for_plain_characters(final String splitCharacters) {
+        assertThat(CharacterKeyValueSplitter.supports(splitCharacters), equalTo(true));
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"\\&", "&|", ".", "&+", "^", "$", "?", "*", "()", "[]", "{}", "\uD83D\uDE00"})
+    void supports_returns_false_for_regex_metacharacters_and_surrogates(final String splitCharacters) {
+        assertThat(CharacterKeyValueSplitter.supports(splitCharacters), equalTo(false));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideStringsToSplit")
+    void split_returns_the_same_pairs_as_regex(final String fieldSplitCharacters, final String valueSplitCharacters,
+                                               final String string) {
+        final List<String> pairs = new ArrayList<>();
+        new CharacterKeyValueSplitter(fieldSplitCharacters, valueSplitCharacters)
+                .split(string, (key, value) -> pairs.add(key + "|" + value));
+
+        assertThat(pairs, equalTo(splitWithRegex(fieldSplitCharacters, valueSplitCharacters, string)));
+    }
+
+    @Test
+    void split_passes_null_value_for_pairs_without_value_split_character() {
+        final List<String> pairs = new ArrayList<>();
+        new CharacterKeyValueSplitter("&", "=").split("key1&key2=", (key, value) -> pairs.add(key + "|" + value));
+
+        assertThat(pairs, equalTo(Arrays.asList("key1|null", "key2|")));
+    }
+
+    private static Stream<Arguments> provideStringsToSplit() {
+        return Stream.of(
+                Arguments.of("&", "=", "key1=value1&key2=value2"),
+                Arguments.of("&", "=", ""),
+                Arguments.of("&", "=", "key1"),
+                Arguments.of("&", "=", "&"),
+                Arguments.of("&", "=", "&&key1=value1"),
+                Arguments.of("&", "=", "key1=value1&&&key2=value2"),
+                Arguments.of("&", "=", "key1=value1&&"),
+                Arguments.of("&", "=", "key1==value1=x&=value2&key3="),
+                Arguments.of("&!", "=:", "key1=value1!key2:value2&key3=a:b"),
+                Arguments.of(" ", "=", "level=info msg=started duration=12ms"),
+                Arguments.of("\u00e9", "\u20ac", "key1\u20acvalue1\u00e9key2\u20acvalue2"),
+                Arguments.of("&", "=", "key\u00e91=value\u20ac1&key2=value2")
+        );
+    }
+
+    private static List<String> splitWithRegex(final String fieldSplitCharacters, final String valueSplitCharacters,
+                                               final String string) {
+        final Pattern fieldPattern = Pattern.compile(alternate(fieldSplitCharacters));
+        final Pattern valuePattern = Pattern.compile(alternate(valueSplitCharacters));
+        final List<String> pairs = new ArrayList<>();
+        for (final String group : fieldPattern.split(string, 0)) {
+            final String[] terms = valuePattern.split(group, 2);
+            pairs.add(terms[0] + "|" + (terms.length == 2 ? terms[1] : null));
+        }
+        return pairs;
+    }
+
+    private static String alternate(final String characters) {
+        final StringBuilder regex = new StringBuilder();
+        for (final char c : characters.toCharArray()) {
+            if (regex.length() > 0) {
+                regex.append('|');
+            }
+            regex.append(c);
+        }
+        return regex.toString();
+    }
+}
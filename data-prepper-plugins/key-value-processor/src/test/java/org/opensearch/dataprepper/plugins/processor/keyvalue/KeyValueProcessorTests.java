@@ -328,6 +328,67 @@ public class KeyValueProcessorTests {
         assertThatKeyEquals(parsed_message, "key2", "value2");
     }
 
+    @Test
+    void testEmptySplitCharactersUseDefaultsKeyValueProcessor() {
+        when(mockConfig.getFieldSplitCharacters()).thenReturn("");
+        when(mockConfig.getValueSplitCharacters()).thenReturn("");
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+
+        final Record<Event> record = getMessage("key1=value1&key2=value2");
+        final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
+        final LinkedHashMap<String, Object> parsed_message = getLinkedHashMap(editedRecords);
+
+        assertThat(parsed_message.size(), equalTo(2));
+        assertThatKeyEquals(parsed_message, "key1", "value1");
+        assertThatKeyEquals(parsed_message, "key2", "value2");
+    }
+
+    @Test
+    void testEscapedValueSplitCharactersKeyValueProcessor() {
+        when(mockConfig.getValueSplitCharacters()).thenReturn("\\=");
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+
+        final Record<Event> record = getMessage("key1=value1&key2=value2");
+        final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
+        final LinkedHashMap<String, Object> parsed_message = getLinkedHashMap(editedRecords);
+
+        assertThat(parsed_message.size(), equalTo(2));
+        assertThatKeyEquals(parsed_message, "key1", "value1");
+        assertThatKeyEquals(parsed_message, "key2", "value2");
+    }
+
+    @Test
+    void testLogfmtKeyValueProcessor() {
+        when(mockConfig.getFieldSplitCharacters()).thenReturn(" ");
+        keyValueProcessor = new KeyValueProcessor(pluginMetrics, mockConfig);
+
+        final Record<Event> record = getMessage("level=info msg=started duration=12ms");
+        final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(Collections.singletonList(record));
+        final LinkedHashMap<String, Object> parsed_message = getLinkedHashMap(editedRecords);
+
+        assertThat(parsed_message.size(), equalTo(3));
+        assertThatKeyEquals(parsed_message, "level", "info");
+        assertThatKeyEquals(parsed_message, "msg", "started");
+        assertThatKeyEquals(parsed_message, "duration", "12ms");
+    }
+
+    @Test
+    void testMultipleRecordsDoNotShareParsedValuesKeyValueProcessor() {
+        final List<Record<Event>> records = new ArrayList<>();
+        records.add(getMessage("key1=value1&key2=value2"));
+        records.add(getMessage("key3=value3"));
+        final List<Record<Event>> editedRecords = (List<Record<Event>>) keyValueProcessor.doExecute(records);
+
+        assertThat(editedRecords.size(), equalTo(2));
+        final LinkedHashMap<String, Object> firstParsedMessage = editedRecords.get(0).getData().get("parsed_message", LinkedHashMap.class);
+        final LinkedHashMap<String, Object> secondParsedMessage = editedRecords.get(1).getData().get("parsed_message", LinkedHashMap.class);
+        assertThat(firstParsedMessage.size(), equalTo(2));
+        assertThatKeyEquals(firstParsedMessage, "key1", "value1");
+        assertThatKeyEquals(firstParsedMessage, "key2", "value2");
+        assertThat(secondParsedMessage.size(), equalTo(1));
+        assertThatKeyEquals(secondParsedMessage, "key3", "value3");
+    }
+
     @Test
     void testShutdownIsReady() {
         assertThat(keyValueProcessor.isReadyForShutdown(), is(true));
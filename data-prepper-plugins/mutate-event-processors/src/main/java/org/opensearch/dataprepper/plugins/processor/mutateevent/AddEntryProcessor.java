@@ -9,15 +9,13 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
-import org.opensearch.dataprepper.model.processor.AbstractProcessor;
+import org.opensearch.dataprepper.model.processor.AbstractFusibleProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
-import org.opensearch.dataprepper.model.record.Record;
 
-import java.util.Collection;
 import java.util.List;
 
 @DataPrepperPlugin(name = "add_entries", pluginType = Processor.class, pluginConfigurationType = AddEntryProcessorConfig.class)
-public class AddEntryProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
+public class AddEntryProcessor extends AbstractFusibleProcessor {
     private final List<AddEntryProcessorConfig.Entry> entries;
 
     @DataPrepperPluginConstructor
@@ -27,18 +25,12 @@ public class AddEntryProcessor extends AbstractProcessor<Record<Event>, Record<E
     }
 
     @Override
-    public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
-        for(final Record<Event> record : records) {
-            final Event recordEvent = record.getData();
-
-            for(AddEntryProcessorConfig.Entry entry : entries) {
-                if (!recordEvent.containsKey(entry.getKey()) || entry.getOverwriteIfKeyExists()) {
-                    recordEvent.put(entry.getKey(), entry.getValue());
-                }
+    public void processEvent(final Event recordEvent) {
+        for(AddEntryProcessorConfig.Entry entry : entries) {
+            if (!recordEvent.containsKey(entry.getKey()) || entry.getOverwriteIfKeyExists()) {
+                recordEvent.put(entry.getKey(), entry.getValue());
             }
         }
-
-        return records;
     }
 
     @Override
@@ -9,15 +9,13 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
-import org.opensearch.dataprepper.model.processor.AbstractProcessor;
+import org.opensearch.dataprepper.model.processor.AbstractFusibleProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
-import org.opensearch.dataprepper.model.record.Record;
 
-import java.util.Collection;
 import java.util.List;
 
 @DataPrepperPlugin(name = "copy_values", pluginType = Processor.class, pluginConfigurationType = CopyValueProcessorConfig.class)
-public class CopyValueProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
+public class CopyValueProcessor extends AbstractFusibleProcessor {
     private final List<CopyValueProcessorConfig.Entry> entries;
 
     @DataPrepperPluginConstructor
@@ -27,22 +25,17 @@ public class CopyValueProcessor extends AbstractProcessor<Record<Event>, Record<
     }
 
     @Override
-    public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
-        for(final Record<Event> record : records) {
-            final Event recordEvent = record.getData();
-            for(CopyValueProcessorConfig.Entry entry : entries) {
-                if (entry.getFromKey().equals(entry.getToKey()) || !recordEvent.containsKey(entry.getFromKey())) {
-                    continue;
-                }
-
-                if (!recordEvent.containsKey(entry.getToKey()) || entry.getOverwriteIfToKeyExists()) {
-                    final Object source = recordEvent.get(entry.getFromKey(), Object.class);
-                    recordEvent.put(entry.getToKey(), source);
-                }
+    public void processEvent(final Event recordEvent) {
+        for(CopyValueProcessorConfig.Entry entry : entries) {
+            if (entry.getFromKey().equals(entry.getToKey()) || !recordEvent.containsKey(entry.getFromKey())) {
+                continue;
             }
-        }
 
-        return records;
+            if (!recordEvent.containsKey(entry.getToKey()) || entry.getOverwriteIfToKeyExists()) {
+                final Object source = recordEvent.get(entry.getFromKey(), Object.class);
+                recordEvent.put(entry.getToKey(), source);
+            }
+        }
     }
 
     @Override
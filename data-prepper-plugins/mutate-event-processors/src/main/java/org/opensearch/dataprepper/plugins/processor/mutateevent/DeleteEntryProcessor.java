@@ -9,14 +9,11 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
-import org.opensearch.dataprepper.model.processor.AbstractProcessor;
+import org.opensearch.dataprepper.model.processor.AbstractFusibleProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
-import org.opensearch.dataprepper.model.record.Record;
-
-import java.util.Collection;
 
 @DataPrepperPlugin(name = "delete_entries", pluginType = Processor.class, pluginConfigurationType = DeleteEntryProcessorConfig.class)
-public class DeleteEntryProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
+public class DeleteEntryProcessor extends AbstractFusibleProcessor {
     private final String[] entries;
 
     @DataPrepperPluginConstructor
@@ -26,16 +23,10 @@ public class DeleteEntryProcessor extends AbstractProcessor<Record<Event>, Recor
     }
 
     @Override
-    public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
-        for(final Record<Event> record : records) {
-            final Event recordEvent = record.getData();
-
-            for(String entry : entries) {
-                recordEvent.delete(entry);
-            }
+    public void processEvent(final Event recordEvent) {
+        for(String entry : entries) {
+            recordEvent.delete(entry);
         }
-
-        return records;
     }
 
     @Override
@@ -9,15 +9,13 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
-import org.opensearch.dataprepper.model.processor.AbstractProcessor;
+import org.opensearch.dataprepper.model.processor.AbstractFusibleProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
-import org.opensearch.dataprepper.model.record.Record;
 
-import java.util.Collection;
 import java.util.List;
 
 @DataPrepperPlugin(name = "rename_keys", pluginType = Processor.class, pluginConfigurationType = RenameKeyProcessorConfig.class)
-public class RenameKeyProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
+public class RenameKeyProcessor extends AbstractFusibleProcessor {
     private final List<RenameKeyProcessorConfig.Entry> entries;
 
     @DataPrepperPluginConstructor
@@ -27,24 +25,18 @@ public class RenameKeyProcessor extends AbstractProcessor<Record<Event>, Record<
     }
 
     @Override
-    public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
-        for(final Record<Event> record : records) {
-            final Event recordEvent = record.getData();
-
-            for(RenameKeyProcessorConfig.Entry entry : entries) {
-                if(entry.getFromKey().equals(entry.getToKey()) || !recordEvent.containsKey(entry.getFromKey())) {
-                    continue;
-                }
-
-                if (!recordEvent.containsKey(entry.getToKey()) || entry.getOverwriteIfToKeyExists()) {
-                    final Object source = recordEvent.get(entry.getFromKey(), Object.class);
-                    recordEvent.put(entry.getToKey(), source);
-                    recordEvent.delete(entry.getFromKey());
-                }
+    public void processEvent(final Event recordEvent) {
+        for(RenameKeyProcessorConfig.Entry entry : entries) {
+            if(entry.getFromKey().equals(entry.getToKey()) || !recordEvent.containsKey(entry.getFromKey())) {
+                continue;
             }
-        }
 
-        return records;
+            if (!recordEvent.containsKey(entry.getToKey()) || entry.getOverwriteIfToKeyExists()) {
+                final Object source = recordEvent.get(entry.getFromKey(), Object.class);
+                recordEvent.put(entry.getToKey(), source);
+                recordEvent.delete(entry.getFromKey());
+            }
+        }
     }
 
     @Override
@@ -8,13 +8,11 @@ package org.opensearch.dataprepper.plugins.processor.mutatestring;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
-import org.opensearch.dataprepper.model.processor.AbstractProcessor;
-import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.processor.AbstractFusibleProcessor;
 
-import java.util.Collection;
 import java.util.List;
 
-public abstract class AbstractStringProcessor<T> extends AbstractProcessor<Record<Event>, Record<Event>> {
+public abstract class AbstractStringProcessor<T> extends AbstractFusibleProcessor {
     private List<T> entries;
 
     @DataPrepperPluginConstructor
@@ -24,17 +22,7 @@ public abstract class AbstractStringProcessor<T> extends AbstractProcessor<Recor
     }
 
     @Override
-    public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
-        for(final Record<Event> record : records) {
-            final Event recordEvent = record.getData();
-            performStringAction(recordEvent);
-        }
-
-        return records;
-    }
-
-    private void performStringAction(final Event recordEvent)
-    {
+    public void processEvent(final Event recordEvent) {
         for(T entry : entries) {
             final String key = getKey(entry);
 
@@ -0,0 +1,156 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.newline;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads UTF-8 lines from an {@link InputStream} by scanning a reusable byte buffer for '\n'.
+ * <p>
+ * Only the bytes of each line are decoded into a String. The newline search compares eight bytes at a time within a
+ * long. Lines end with "\n" or "\r\n", and the last line may have no line terminator. Lines longer than the maximum
+ * line length are skipped, so the buffer never grows beyond the maximum line length. This class is not thread-safe.
+ */
+class ByteLineReader {
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long NEWLINES = 0x0A0A0A0A0A0A0A0AL;
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    private final InputStream inputStream;
+    private final int maxLineLength;
+    private byte[] buffer;
+    private int start;
+    private int end;
+    private boolean endOfStream;
+    private long skippedLines;
+
+    /**
+     * @param inputStream The stream to read
+     * @param maxLineLength The maximum length in bytes of a line, not including its line terminator
+     */
+    ByteLineReader(final InputStream inputStream, final int maxLineLength) {
+        this.inputStream = inputStream;
+        this.maxLineLength = maxLineLength;
+        this.buffer = new byte[(int) Math.min(DEFAULT_BUFFER_SIZE, maxLineLength + 2L)];
+    }
+
+    /**
+     * @return The next line without its line terminator, or null at the end of the stream
+     * @throws IOException if the stream cannot be read
+     */
+    String readLine() throws IOException {
+        int scanFrom = start;
+        boolean skipping = false;
+        while (true) {
+            final int newline = indexOfNewline(buffer, scanFrom, end);
+            if (newline >= 0) {
+                final int lineStart = start;
+                start = newline + 1;
+                if (skipping) {
+                    skipping = false;
+                    skippedLines++;
+                    scanFrom = start;
+                    continue;
+                }
+                final int lineLength = newline > lineStart && buffer[newline - 1] == '\r' ? newline - 1 - lineStart : newline - lineStart;
+                if (lineLength > maxLineLength) {
+                    skippedLines++;
+                    scanFrom = start;
+                    continue;
+                }
+                return new String(buffer, lineStart, lineLength, StandardCharsets.UTF_8);
+            }
+
+            if (!skipping && end - start > maxLineLength + 1) {
+                // Even a "\r\n" terminator could not keep the line within the maximum length
+                skipping = true;
+            }
+            if (skipping) {
+                start = end;
+            }
+
+            if (endOfStream) {
+                if (skipping) {
+                    skippedLines++;
+                    return null;
+                }
+                if (start == end) {
+                    return null;
+                }
+                final int lineStart = start;
+                start = end;
+                final int lineLength = buffer[end - 1] == '\r' ? end - 1 - lineStart : end - lineStart;
+                if (lineLength > maxLineLength) {
+                    skippedLines++;
+                    return null;
+                }
+                return new String(buffer, lineStart, lineLength, StandardCharsets.UTF_8);
+            }
+            scanFrom = end - start;
+            fill();
+        }
+    }
+
+    /**
+     * @return The number of lines which were skipped because they were longer than the maximum line length
+     */
+    long getSkippedLines() {
+        return skippedLines;
+    }
+
+    /**
+     * Moves the unread bytes to the start of the buffer, growing it if it is full, and reads more bytes after them.
+     */
+    private void fill() throws IOException {
+        final int remaining = end - start;
+        if (start > 0) {
+            System.arraycopy(buffer, start, buffer, 0, remaining);
+            start = 0;
+            end = remaining;
+        }
+        if (end == buffer.length) {
+            buffer = Arrays.copyOf(buffer, (int) Math.min((long) maxLineLength + 2, buffer.length * 2L));
+        }
+        final int bytesRead = inputStream.read(buffer, end, buffer.length - end);
+        if (bytesRead < 0) {
+            endOfStream = true;
+        } else {
+            end += bytesRead;
+        }
+    }
+
+    /**
+     * Finds the first '\n' within a range of a byte array, comparing eight bytes at a time.
+     *
+     * @return The index of the first '\n', or -1 if there is none
+     */
+    static int indexOfNewline(final byte[] bytes, final int from, final int to) {
+        int index = from;
+        for (; index + Long.BYTES <= to; index += Long.BYTES) {
+            final long word = (long) LONG_VIEW.get(bytes, index) ^ NEWLINES;
+            final long zeroBytes = (word - LOW_BITS) & ~word & HIGH_BITS;
+            if (zeroBytes != 0) {
+                // The lowest flagged byte is exact; higher ones may be false positives from the borrow
+                return index + (Long.numberOfTrailingZeros(zeroBytes) >>> 3);
+            }
+        }
+        for (; index < to; index++) {
+            if (bytes[index] == '\n') {
+                return index;
+            }
+        }
+        return -1;
+    }
+}
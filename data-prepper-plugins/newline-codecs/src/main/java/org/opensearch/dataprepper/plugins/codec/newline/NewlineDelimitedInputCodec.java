@@ -11,6 +11,8 @@ import org.opensearch.dataprepper.model.codec.InputCodec;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.log.JacksonLog;
 import org.opensearch.dataprepper.model.record.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -23,9 +25,12 @@ import java.util.function.Consumer;
 
 @DataPrepperPlugin(name = "newline", pluginType = InputCodec.class, pluginConfigurationType = NewlineDelimitedInputConfig.class)
 public class NewlineDelimitedInputCodec implements InputCodec {
+    private static final Logger LOG = LoggerFactory.getLogger(NewlineDelimitedInputCodec.class);
     private static final String MESSAGE_FIELD_NAME = "message";
     private final int skipLines;
     private final String headerDestination;
+    private final boolean byteScanning;
+    private final int maxLineLength;
 
     @DataPrepperPluginConstructor
     public NewlineDelimitedInputCodec(final NewlineDelimitedInputConfig config) {
@@ -37,16 +42,32 @@ public class NewlineDelimitedInputCodec implements InputCodec {
         }
 
         headerDestination = config.getHeaderDestination();
+        byteScanning = config.isByteScanning();
+        maxLineLength = config.getMaxLineLength();
+
+        if (byteScanning && maxLineLength < 1) {
+            throw new IllegalArgumentException("maxLineLength must be positive.");
+        }
     }
 
     @Override
     public void parse(final InputStream inputStream, final Consumer<Record<Event>> eventConsumer) throws IOException {
+        if (byteScanning) {
+            try (inputStream) {
+                final ByteLineReader reader = new ByteLineReader(inputStream, maxLineLength);
+                parseLines(reader::readLine, eventConsumer);
+                if (reader.getSkippedLines() > 0) {
+                    LOG.warn("Skipped {} lines which were longer than the maximum line length of {} bytes.", reader.getSkippedLines(), maxLineLength);
+                }
+            }
+            return;
+        }
         try (final BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
-            parseBufferedReader(reader, eventConsumer);
+            parseLines(reader::readLine, eventConsumer);
         }
     }
 
-    private void parseBufferedReader(final BufferedReader reader, final Consumer<Record<Event>> eventConsumer) throws IOException {
+    private void parseLines(final LineReader reader, final Consumer<Record<Event>> eventConsumer) throws IOException {
         final boolean doAddHeaderToOutgoingEvents = Objects.nonNull(headerDestination);
         boolean hasReadHeader = false;
         String header = "";
@@ -78,4 +99,9 @@ public class NewlineDelimitedInputCodec implements InputCodec {
             eventConsumer.accept(new Record<>(event));
         }
     }
+
+    @FunctionalInterface
+    private interface LineReader {
+        String readLine() throws IOException;
+    }
 }
@@ -7,6 +7,7 @@ package org.opensearch.dataprepper.plugins.codec.newline;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
 
 import java.util.Objects;
 
@@ -14,11 +15,20 @@ import java.util.Objects;
  * Configuration class for the newline delimited codec.
  */
 public class NewlineDelimitedInputConfig {
+    static final int DEFAULT_MAX_LINE_LENGTH = 1024 * 1024;
+
     private int skipLines = 0;
 
     @JsonProperty("header_destination")
     private String headerDestination;
 
+    @JsonProperty("byte_scanning")
+    private boolean byteScanning = false;
+
+    @Min(1)
+    @JsonProperty("max_line_length")
+    private int maxLineLength = DEFAULT_MAX_LINE_LENGTH;
+
     /**
      * The number of lines to skip from the start of the S3 object.
      * Use 0 to skip no lines.
@@ -39,6 +49,25 @@ public class NewlineDelimitedInputConfig {
         return headerDestination;
     }
 
+    /**
+     * Whether to split lines by scanning the bytes of the S3 object for newlines, decoding only each line as UTF-8,
+     * instead of decoding the whole object with a reader.
+     *
+     * @return True to split lines by scanning bytes.
+     */
+    public boolean isByteScanning() {
+        return byteScanning;
+    }
+
+    /**
+     * The maximum length in bytes of a line when scanning bytes. Longer lines are skipped.
+     *
+     * @return The maximum line length.
+     */
+    public int getMaxLineLength() {
+        return maxLineLength;
+    }
+
     @AssertTrue(message = "header_destination must be either null or length greater than 0. It cannot be empty. " +
             "To make it null delete header_destination in your configuration YAML file")
     boolean isValidHeaderDestination() {
@@ -0,0 +1,109 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.newline;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ByteLineReaderTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"first\nsecond\nthird\n", "first\r\nsecond\r\nthird", "first\nsecond\r\nthird\r"})
+    void readLine_returns_lines_without_terminators(final String content) throws IOException {
+        assertThat(readAllLines(content, 100), equalTo(Arrays.asList("first", "second", "third")));
+    }
+
+    @Test
+    void readLine_returns_empty_lines() throws IOException {
+        assertThat(readAllLines("\n\na\n", 100), equalTo(Arrays.asList("", "", "a")));
+    }
+
+    @Test
+    void readLine_decodes_utf8() throws IOException {
+        assertThat(readAllLines("\u00e9t\u00e9\n\u20ac\n", 100), equalTo(Arrays.asList("\u00e9t\u00e9", "\u20ac")));
+    }
+
+    @Test
+    void readLine_with_empty_stream_returns_null() throws IOException {
+        assertThat(readAllLines("", 100), equalTo(Collections.emptyList()));
+    }
+
+    @Test
+    void readLine_skips_lines_longer_than_maxLineLength() throws IOException {
+        final ByteLineReader objectUnderTest = createObjectUnderTest("short\nmuch too long\nfits\r\nlast too long", 5);
+
+        final List<String> lines = readAllLines(objectUnderTest);
+
+        assertThat(lines, equalTo(Arrays.asList("short", "fits")));
+        assertThat(objectUnderTest.getSkippedLines(), equalTo(2L));
+    }
+
+    @Test
+    void readLine_with_lines_longer_than_buffer_size() throws IOException {
+        final String longLine = "x".repeat(ByteLineReader.DEFAULT_BUFFER_SIZE * 3 + 5);
+        final String content = "a\n" + longLine + "\nb";
+
+        assertThat(readAllLines(content, ByteLineReader.DEFAULT_BUFFER_SIZE * 4), equalTo(Arrays.asList("a", longLine, "b")));
+    }
+
+    @Test
+    void readLine_reads_streams_which_return_few_bytes_at_a_time() throws IOException {
+        final byte[] bytes = "first\r\nsecond\nthird".getBytes(StandardCharsets.UTF_8);
+        final InputStream inputStream = new ByteArrayInputStream(bytes) {
+            @Override
+            public synchronized int read(final byte[] buffer, final int offset, final int length) {
+                return super.read(buffer, offset, Math.min(length, 3));
+            }
+        };
+
+        final List<String> lines = readAllLines(new ByteLineReader(inputStream, 100));
+
+        assertThat(lines, equalTo(Arrays.asList("first", "second", "third")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 7, 8, 9, 15, 16, 17})
+    void indexOfNewline_finds_first_newline(final int newlineIndex) {
+        final byte[] bytes = new byte[20];
+        Arrays.fill(bytes, (byte) 'a');
+        bytes[newlineIndex] = '\n';
+        bytes[19] = '\n';
+
+        assertThat(ByteLineReader.indexOfNewline(bytes, 0, bytes.length), equalTo(newlineIndex));
+        assertThat(ByteLineReader.indexOfNewline(bytes, newlineIndex + 1, bytes.length), equalTo(19));
+        assertThat(ByteLineReader.indexOfNewline(bytes, 0, newlineIndex), equalTo(-1));
+    }
+
+    private static ByteLineReader createObjectUnderTest(final String content, final int maxLineLength) {
+        return new ByteLineReader(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), maxLineLength);
+    }
+
+    private static List<String> readAllLines(final String content, final int maxLineLength) throws IOException {
+        return readAllLines(createObjectUnderTest(content, maxLineLength));
+    }
+
+    private static List<String> readAllLines(final ByteLineReader byteLineReader) throws IOException {
+        final List<String> lines = new ArrayList<>();
+        String line;
+        while ((line = byteLineReader.readLine()) != null) {
+            lines.add(line);
+        }
+        return lines;
+    }
+}
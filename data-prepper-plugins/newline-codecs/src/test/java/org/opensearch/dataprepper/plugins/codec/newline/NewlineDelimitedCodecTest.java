@@ -198,6 +198,65 @@ class NewlineDelimitedCodecTest {
         }
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 10, 50})
+    void parse_with_byteScanning_calls_Consumer_for_each_line(final int numberOfLines) throws IOException {
+        final List<String> linesList = generateLinesAsList(numberOfLines);
+        final InputStream inputStream = createInputStream(linesList);
+
+        when(config.isByteScanning()).thenReturn(true);
+        when(config.getMaxLineLength()).thenReturn(NewlineDelimitedInputConfig.DEFAULT_MAX_LINE_LENGTH);
+        final List<Record<Event>> actualEvents = new ArrayList<>();
+        createObjectUnderTest().parse(inputStream, actualEvents::add);
+
+        assertThat(actualEvents.size(), equalTo(numberOfLines));
+        for (int i = 0; i < actualEvents.size(); i++) {
+            assertThat(actualEvents.get(i).getData().get("message", String.class), equalTo(linesList.get(i)));
+        }
+    }
+
+    @Test
+    void parse_with_byteScanning_and_header_skips_lines_and_adds_header() throws IOException {
+        final List<String> linesList = generateLinesAsListWithHeaderAfterJunkLines(2, "HeaderOnList", 1);
+        final InputStream inputStream = createInputStream(linesList);
+
+        when(config.isByteScanning()).thenReturn(true);
+        when(config.getMaxLineLength()).thenReturn(NewlineDelimitedInputConfig.DEFAULT_MAX_LINE_LENGTH);
+        when(config.getHeaderDestination()).thenReturn("event_header");
+        when(config.getSkipLines()).thenReturn(1);
+        final List<Record<Event>> actualEvents = new ArrayList<>();
+        createObjectUnderTest().parse(inputStream, actualEvents::add);
+
+        assertThat(actualEvents.size(), equalTo(2));
+        for (int i = 0; i < actualEvents.size(); i++) {
+            assertThat(actualEvents.get(i).getData().get("event_header", String.class), equalTo("HeaderOnList"));
+            assertThat(actualEvents.get(i).getData().get("message", String.class), equalTo(linesList.get(i + 2)));
+        }
+    }
+
+    @Test
+    void parse_with_byteScanning_skips_lines_longer_than_maxLineLength() throws IOException {
+        final InputStream inputStream = new ByteArrayInputStream("short\nthis line is too long\nok\n".getBytes(StandardCharsets.UTF_8));
+
+        when(config.isByteScanning()).thenReturn(true);
+        when(config.getMaxLineLength()).thenReturn(5);
+        final List<Record<Event>> actualEvents = new ArrayList<>();
+        createObjectUnderTest().parse(inputStream, actualEvents::add);
+
+        assertThat(actualEvents.size(), equalTo(2));
+        assertThat(actualEvents.get(0).getData().get("message", String.class), equalTo("short"));
+        assertThat(actualEvents.get(1).getData().get("message", String.class), equalTo("ok"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void constructor_throws_if_byteScanning_and_maxLineLength_is_not_positive(final int maxLineLength) {
+        when(config.isByteScanning()).thenReturn(true);
+        when(config.getMaxLineLength()).thenReturn(maxLineLength);
+
+        assertThrows(IllegalArgumentException.class, this::createObjectUnderTest);
+    }
+
     private List<String> generateLinesAsListWithHeaderAfterJunkLines(int numberOfLines, String headerMessage, int numJunkLines) {
         final int headerOffset = 1;
 //        final int SKIP_OFFSET = 1;
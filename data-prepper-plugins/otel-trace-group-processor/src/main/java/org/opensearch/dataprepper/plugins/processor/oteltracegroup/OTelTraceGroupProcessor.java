@@ -15,6 +15,7 @@ import org.opensearch.dataprepper.model.trace.Span;
 import org.opensearch.dataprepper.model.trace.TraceGroupFields;
 import com.google.common.base.Strings;
 import io.micrometer.core.instrument.Counter;
+import org.opensearch.action.ActionListener;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.RequestOptions;
@@ -32,6 +33,7 @@ import java.time.Instant;
 import java.util.AbstractMap;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -40,6 +42,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
@@ -50,24 +53,51 @@ public class OTelTraceGroupProcessor extends AbstractProcessor<Record<Span>, Rec
     public static final String RECORDS_IN_MISSING_TRACE_GROUP = "recordsInMissingTraceGroup";
     public static final String RECORDS_OUT_FIXED_TRACE_GROUP = "recordsOutFixedTraceGroup";
     public static final String RECORDS_OUT_MISSING_TRACE_GROUP = "recordsOutMissingTraceGroup";
+    public static final String TRACE_GROUP_CACHE_HITS = "traceGroupCacheHits";
+    public static final String TRACE_GROUP_CACHE_MISSES = "traceGroupCacheMisses";
+    public static final String TRACE_GROUP_CACHE_SIZE = "traceGroupCacheSize";
 
     private static final Logger LOG = LoggerFactory.getLogger(OTelTraceGroupProcessor.class);
 
+    /**
+     * Trace group caches by pipeline name, plugin name and plugin settings, so that all workers of a processor share
+     * cached and in flight lookups, while another processor of the pipeline with other settings has a cache of its own.
+     */
+    private static final Map<List<Object>, TraceGroupCache> TRACE_GROUP_CACHES = new ConcurrentHashMap<>();
+
     private final OTelTraceGroupProcessorConfig otelTraceGroupProcessorConfig;
     private final RestHighLevelClient restHighLevelClient;
+    private final List<Object> traceGroupCacheKey;
+    private final TraceGroupCache traceGroupCache;
 
     private final Counter recordsInMissingTraceGroupCounter;
     private final Counter recordsOutFixedTraceGroupCounter;
     private final Counter recordsOutMissingTraceGroupCounter;
+    private final Counter traceGroupCacheHitsCounter;
+    private final Counter traceGroupCacheMissesCounter;
 
     public OTelTraceGroupProcessor(final PluginSetting pluginSetting) {
         super(pluginSetting);
         otelTraceGroupProcessorConfig = OTelTraceGroupProcessorConfig.buildConfig(pluginSetting);
         restHighLevelClient = otelTraceGroupProcessorConfig.getEsConnectionConfig().createClient();
+        traceGroupCacheKey = traceGroupCacheKey(pluginSetting);
+        traceGroupCache = TRACE_GROUP_CACHES.computeIfAbsent(traceGroupCacheKey, key -> new TraceGroupCache(
+                otelTraceGroupProcessorConfig.getCacheMaxSize(),
+                otelTraceGroupProcessorConfig.getCacheTtl(),
+                otelTraceGroupProcessorConfig.getNegativeCacheTtl()));
 
         recordsInMissingTraceGroupCounter = pluginMetrics.counter(RECORDS_IN_MISSING_TRACE_GROUP);
         recordsOutFixedTraceGroupCounter = pluginMetrics.counter(RECORDS_OUT_FIXED_TRACE_GROUP);
         recordsOutMissingTraceGroupCounter = pluginMetrics.counter(RECORDS_OUT_MISSING_TRACE_GROUP);
+        traceGroupCacheHitsCounter = pluginMetrics.counter(TRACE_GROUP_CACHE_HITS);
+        traceGroupCacheMissesCounter = pluginMetrics.counter(TRACE_GROUP_CACHE_MISSES);
+        pluginMetrics.gauge(TRACE_GROUP_CACHE_SIZE, traceGroupCache, TraceGroupCache::size);
+    }
+
+    private static List<Object> traceGroupCacheKey(final PluginSetting pluginSetting) {
+        final Map<String, Object> settings = pluginSetting.getSettings();
+        return Arrays.asList(pluginSetting.getPipelineName(), pluginSetting.getName(),
+                settings == null ? null : new HashMap<>(settings));
     }
 
     @Override
@@ -88,7 +118,7 @@ public class OTelTraceGroupProcessor extends AbstractProcessor<Record<Span>, Rec
             }
         }
 
-        final Map<String, TraceGroup> traceIdToTraceGroup = searchTraceGroupByTraceIds(traceIdsToLookUp);
+        final Map<String, TraceGroup> traceIdToTraceGroup = lookUpTraceGroups(traceIdsToLookUp);
         for (final Record<Span> record: recordsMissingTraceGroupInfo) {
             final Span span = record.getData();
             final String traceId = span.getTraceId();
@@ -119,22 +149,95 @@ public class OTelTraceGroupProcessor extends AbstractProcessor<Record<Span>, Rec
         span.setTraceGroupFields(traceGroup.getTraceGroupFields());
     }
 
-    private Map<String, TraceGroup> searchTraceGroupByTraceIds(final Collection<String> traceIds) {
-        final Map<String, TraceGroup> traceIdToTraceGroup = new HashMap<>();
-        final SearchRequest searchRequest = createSearchRequest(traceIds);
+    /**
+     * Resolves trace groups through the shared cache, searching the backend only for trace ids which are neither
+     * cached nor already being searched by another worker. In async lookup mode the search does not block this
+     * thread, so spans whose trace group is not cached yet are returned without it.
+     */
+    private Map<String, TraceGroup> lookUpTraceGroups(final Collection<String> traceIds) {
+        if (traceIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
 
+        final TraceGroupCache.Lookup lookup = traceGroupCache.lookup(traceIds);
+        traceGroupCacheHitsCounter.increment(lookup.getCacheHits());
+        traceGroupCacheMissesCounter.increment(lookup.getCacheMisses());
+
+        final List<String> traceIdsToLoad = lookup.getTraceIdsToLoad();
+        if (otelTraceGroupProcessorConfig.isAsyncLookup()) {
+            if (!traceIdsToLoad.isEmpty()) {
+                searchTraceGroupByTraceIdsAsync(traceIdsToLoad);
+            }
+            return lookup.availableTraceGroups();
+        }
+
+        if (!traceIdsToLoad.isEmpty()) {
+            searchTraceGroupByTraceIds(traceIdsToLoad);
+        }
+        return lookup.awaitTraceGroups();
+    }
+
+    private void searchTraceGroupByTraceIds(final Collection<String> traceIds) {
+        boolean isCompleted = false;
         try {
-            final SearchResponse searchResponse = restHighLevelClient.search(searchRequest, RequestOptions.DEFAULT);
-            final SearchHit[] searchHits = searchResponse.getHits().getHits();
-            Arrays.asList(searchHits).forEach(searchHit -> {
-                final Optional<Map.Entry<String, TraceGroup>> optionalStringTraceGroupEntry = fromSearchHitToMapEntry(searchHit);
-                optionalStringTraceGroupEntry.ifPresent(entry -> traceIdToTraceGroup.put(entry.getKey(), entry.getValue()));
-            });
+            final SearchResponse searchResponse = restHighLevelClient.search(createSearchRequest(traceIds), RequestOptions.DEFAULT);
+            traceGroupCache.complete(traceIds, fromSearchResponse(searchResponse));
+            isCompleted = true;
         } catch (Exception e) {
             // TODO: retry for status code 429 of OpenSearchException?
             LOG.error("Search request for traceGroup failed for traceIds: {} due to {}", traceIds, e.getMessage());
+        } finally {
+            // Also releases the waiting workers when an Error is thrown, so that none of them waits forever
+            if (!isCompleted) {
+                traceGroupCache.fail(traceIds);
+            }
         }
+    }
+
+    private void searchTraceGroupByTraceIdsAsync(final Collection<String> traceIds) {
+        final ActionListener<SearchResponse> searchResponseListener = new ActionListener<SearchResponse>() {
+            @Override
+            public void onResponse(final SearchResponse searchResponse) {
+                boolean isCompleted = false;
+                try {
+                    traceGroupCache.complete(traceIds, fromSearchResponse(searchResponse));
+                    isCompleted = true;
+                } catch (Exception e) {
+                    LOG.error("Search request for traceGroup failed for traceIds: {} due to {}", traceIds, e.getMessage());
+                } finally {
+                    if (!isCompleted) {
+                        traceGroupCache.fail(traceIds);
+                    }
+                }
+            }
+
+            @Override
+            public void onFailure(final Exception e) {
+                LOG.error("Search request for traceGroup failed for traceIds: {} due to {}", traceIds, e.getMessage());
+                traceGroupCache.fail(traceIds);
+            }
+        };
 
+        boolean isSubmitted = false;
+        try {
+            restHighLevelClient.searchAsync(createSearchRequest(traceIds), RequestOptions.DEFAULT, searchResponseListener);
+            isSubmitted = true;
+        } catch (Exception e) {
+            LOG.error("Search request for traceGroup failed for traceIds: {} due to {}", traceIds, e.getMessage());
+        } finally {
+            if (!isSubmitted) {
+                traceGroupCache.fail(traceIds);
+            }
+        }
+    }
+
+    private Map<String, TraceGroup> fromSearchResponse(final SearchResponse searchResponse) {
+        final Map<String, TraceGroup> traceIdToTraceGroup = new HashMap<>();
+        final SearchHit[] searchHits = searchResponse.getHits().getHits();
+        Arrays.asList(searchHits).forEach(searchHit -> {
+            final Optional<Map.Entry<String, TraceGroup>> optionalStringTraceGroupEntry = fromSearchHitToMapEntry(searchHit);
+            optionalStringTraceGroupEntry.ifPresent(entry -> traceIdToTraceGroup.put(entry.getKey(), entry.getValue()));
+        });
         return traceIdToTraceGroup;
     }
 
@@ -152,6 +255,7 @@ public class OTelTraceGroupProcessor extends AbstractProcessor<Record<Span>, Rec
         searchSourceBuilder.docValueField(TraceGroup.TRACE_GROUP_DURATION_IN_NANOS_FIELD);
         searchSourceBuilder.docValueField(TraceGroup.TRACE_GROUP_STATUS_CODE_FIELD);
         searchSourceBuilder.fetchSource(false);
+        searchSourceBuilder.size(traceIds.size());
         searchRequest.source(searchSourceBuilder);
 
         return searchRequest;
@@ -203,6 +307,7 @@ public class OTelTraceGroupProcessor extends AbstractProcessor<Record<Span>, Rec
 
     @Override
     public void shutdown() {
+        TRACE_GROUP_CACHES.remove(traceGroupCacheKey, traceGroupCache);
         try {
             restHighLevelClient.close();
         } catch (IOException e) {
@@ -10,25 +10,68 @@ import org.opensearch.dataprepper.plugins.sink.opensearch.ConnectionConfiguratio
 import org.opensearch.dataprepper.plugins.sink.opensearch.index.IndexConstants;
 import org.opensearch.dataprepper.plugins.sink.opensearch.index.IndexType;
 
+import java.time.Duration;
+
 public class OTelTraceGroupProcessorConfig {
     protected static final String TRACE_ID_FIELD = "traceId";
     protected static final String SPAN_ID_FIELD = "spanId";
     protected static final String PARENT_SPAN_ID_FIELD = "parentSpanId";
     protected static final String RAW_INDEX_ALIAS = IndexConstants.TYPE_TO_DEFAULT_ALIAS.get(IndexType.TRACE_ANALYTICS_RAW);
     protected static final String STRICT_DATE_TIME = "strict_date_time";
+    static final String CACHE_MAX_SIZE = "cache_max_size";
+    static final int DEFAULT_CACHE_MAX_SIZE = 100_000;
+    static final String CACHE_TTL = "cache_ttl";
+    static final int DEFAULT_CACHE_TTL = 300;
+    static final String NEGATIVE_CACHE_TTL = "negative_cache_ttl";
+    static final int DEFAULT_NEGATIVE_CACHE_TTL = 10;
+    static final String ASYNC_LOOKUP = "async_lookup";
+    static final boolean DEFAULT_ASYNC_LOOKUP = false;
 
     private final ConnectionConfiguration esConnectionConfig;
+    private final int cacheMaxSize;
+    private final Duration cacheTtl;
+    private final Duration negativeCacheTtl;
+    private final boolean asyncLookup;
 
     public ConnectionConfiguration getEsConnectionConfig() {
         return esConnectionConfig;
     }
 
-    private OTelTraceGroupProcessorConfig(final ConnectionConfiguration esConnectionConfig) {
+    public int getCacheMaxSize() {
+        return cacheMaxSize;
+    }
+
+    public Duration getCacheTtl() {
+        return cacheTtl;
+    }
+
+    public Duration getNegativeCacheTtl() {
+        return negativeCacheTtl;
+    }
+
+    public boolean isAsyncLookup() {
+        return asyncLookup;
+    }
+
+    private OTelTraceGroupProcessorConfig(final ConnectionConfiguration esConnectionConfig,
+                                          final int cacheMaxSize,
+                                          final Duration cacheTtl,
+                                          final Duration negativeCacheTtl,
+                                          final boolean asyncLookup) {
         this.esConnectionConfig = esConnectionConfig;
+        this.cacheMaxSize = cacheMaxSize;
+        this.cacheTtl = cacheTtl;
+        this.negativeCacheTtl = negativeCacheTtl;
+        this.asyncLookup = asyncLookup;
     }
 
     public static OTelTraceGroupProcessorConfig buildConfig(final PluginSetting pluginSetting) {
         final ConnectionConfiguration esConnectionConfig = ConnectionConfiguration.readConnectionConfiguration(pluginSetting);
-        return new OTelTraceGroupProcessorConfig(esConnectionConfig);
+        final int cacheMaxSize = pluginSetting.getIntegerOrDefault(CACHE_MAX_SIZE, DEFAULT_CACHE_MAX_SIZE);
+        final Duration cacheTtl = Duration.ofSeconds(pluginSetting.getIntegerOrDefault(CACHE_TTL, DEFAULT_CACHE_TTL));
+        final Duration negativeCacheTtl = Duration.ofSeconds(
+                pluginSetting.getIntegerOrDefault(NEGATIVE_CACHE_TTL, DEFAULT_NEGATIVE_CACHE_TTL));
+        final boolean asyncLookup = pluginSetting.getBooleanOrDefault(ASYNC_LOOKUP, DEFAULT_ASYNC_LOOKUP);
+        return new OTelTraceGroupProcessorConfig(esConnectionConfig, cacheMaxSize, cacheTtl, negativeCacheTtl, asyncLookup);
     }
 }
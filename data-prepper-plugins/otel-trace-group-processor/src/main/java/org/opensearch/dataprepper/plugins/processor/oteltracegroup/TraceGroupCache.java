@@ -0,0 +1,177 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltracegroup;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.opensearch.dataprepper.plugins.processor.oteltracegroup.model.TraceGroup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches trace groups by trace id, shared between the workers of a pipeline.
+ * <p>
+ * Found trace groups are cached for the configured TTL. Trace ids which the backend returned no root span for are
+ * negatively cached for a shorter TTL, since the root span may still be indexed later. Concurrent lookups of the
+ * same trace id are coalesced so that only one worker sends it to the backend while others wait on its result.
+ */
+class TraceGroupCache {
+    private final Cache<String, TraceGroup> traceGroups;
+    private final Cache<String, Boolean> missingTraceIds;
+    private final Map<String, CompletableFuture<Optional<TraceGroup>>> inFlightLookups = new ConcurrentHashMap<>();
+
+    TraceGroupCache(final int maximumSize, final Duration ttl, final Duration negativeTtl) {
+        traceGroups = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl.toMillis(), TimeUnit.MILLISECONDS)
+                .build();
+        missingTraceIds = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(negativeTtl.toMillis(), TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * Resolves the trace ids against the cache and the lookups in flight. Trace ids which are neither cached nor
+     * being looked up are claimed by the caller, which must report their result through {@link #complete} or
+     * {@link #fail}.
+     *
+     * @param traceIds trace ids to resolve
+     * @return the lookup state of the trace ids
+     */
+    Lookup lookup(final Collection<String> traceIds) {
+        final Map<String, TraceGroup> cachedTraceGroups = new HashMap<>();
+        final Map<String, CompletableFuture<Optional<TraceGroup>>> pendingTraceGroups = new HashMap<>();
+        final List<String> traceIdsToLoad = new ArrayList<>();
+        int cacheHits = 0;
+
+        for (final String traceId : traceIds) {
+            final TraceGroup traceGroup = traceGroups.getIfPresent(traceId);
+            if (traceGroup != null) {
+                cachedTraceGroups.put(traceId, traceGroup);
+                cacheHits++;
+            } else if (missingTraceIds.getIfPresent(traceId) != null) {
+                cacheHits++;
+            } else {
+                final CompletableFuture<Optional<TraceGroup>> newLookup = new CompletableFuture<>();
+                final CompletableFuture<Optional<TraceGroup>> existingLookup = inFlightLookups.putIfAbsent(traceId, newLookup);
+                if (existingLookup == null) {
+                    traceIdsToLoad.add(traceId);
+                    pendingTraceGroups.put(traceId, newLookup);
+                } else {
+                    pendingTraceGroups.put(traceId, existingLookup);
+                }
+            }
+        }
+
+        return new Lookup(cachedTraceGroups, pendingTraceGroups, traceIdsToLoad, cacheHits);
+    }
+
+    /**
+     * Caches the result of a successful lookup and releases the callers waiting on it.
+     *
+     * @param loadedTraceIds trace ids which were looked up
+     * @param foundTraceGroups trace groups returned by the backend
+     */
+    void complete(final Collection<String> loadedTraceIds, final Map<String, TraceGroup> foundTraceGroups) {
+        for (final String traceId : loadedTraceIds) {
+            final TraceGroup traceGroup = foundTraceGroups.get(traceId);
+            if (traceGroup != null) {
+                traceGroups.put(traceId, traceGroup);
+            } else {
+                missingTraceIds.put(traceId, Boolean.TRUE);
+            }
+            final CompletableFuture<Optional<TraceGroup>> lookup = inFlightLookups.remove(traceId);
+            if (lookup != null) {
+                lookup.complete(Optional.ofNullable(traceGroup));
+            }
+        }
+    }
+
+    /**
+     * Releases the callers waiting on a failed lookup without caching anything, so the trace ids are retried. Trace
+     * ids already released by {@link #complete} are skipped, so this also releases a partially completed lookup.
+     *
+     * @param loadedTraceIds trace ids which were looked up
+     */
+    void fail(final Collection<String> loadedTraceIds) {
+        for (final String traceId : loadedTraceIds) {
+            final CompletableFuture<Optional<TraceGroup>> lookup = inFlightLookups.remove(traceId);
+            if (lookup != null) {
+                lookup.complete(Optional.empty());
+            }
+        }
+    }
+
+    long size() {
+        return traceGroups.size() + missingTraceIds.size();
+    }
+
+    static class Lookup {
+        private final Map<String, TraceGroup> cachedTraceGroups;
+        private final Map<String, CompletableFuture<Optional<TraceGroup>>> pendingTraceGroups;
+        private final List<String> traceIdsToLoad;
+        private final int cacheHits;
+
+        private Lookup(final Map<String, TraceGroup> cachedTraceGroups,
+                       final Map<String, CompletableFuture<Optional<TraceGroup>>> pendingTraceGroups,
+                       final List<String> traceIdsToLoad,
+                       final int cacheHits) {
+            this.cachedTraceGroups = cachedTraceGroups;
+            this.pendingTraceGroups = pendingTraceGroups;
+            this.traceIdsToLoad = Collections.unmodifiableList(traceIdsToLoad);
+            this.cacheHits = cacheHits;
+        }
+
+        /**
+         * @return trace ids which the caller has to look up in the backend
+         */
+        List<String> getTraceIdsToLoad() {
+            return traceIdsToLoad;
+        }
+
+        int getCacheHits() {
+            return cacheHits;
+        }
+
+        int getCacheMisses() {
+            return pendingTraceGroups.size();
+        }
+
+        /**
+         * Waits for all pending lookups, including those owned by other workers.
+         *
+         * @return trace groups found for the requested trace ids
+         */
+        Map<String, TraceGroup> awaitTraceGroups() {
+            final Map<String, TraceGroup> traceGroups = new HashMap<>(cachedTraceGroups);
+            pendingTraceGroups.forEach((traceId, lookup) -> lookup.join().ifPresent(traceGroup -> traceGroups.put(traceId, traceGroup)));
+            return traceGroups;
+        }
+
+        /**
+         * @return trace groups found for the requested trace ids, without waiting for pending lookups
+         */
+        Map<String, TraceGroup> availableTraceGroups() {
+            final Map<String, TraceGroup> traceGroups = new HashMap<>(cachedTraceGroups);
+            pendingTraceGroups.forEach((traceId, lookup) -> {
+                final Optional<TraceGroup> traceGroup = lookup.getNow(Optional.empty());
+                traceGroup.ifPresent(group -> traceGroups.put(traceId, group));
+            });
+            return traceGroups;
+        }
+    }
+}
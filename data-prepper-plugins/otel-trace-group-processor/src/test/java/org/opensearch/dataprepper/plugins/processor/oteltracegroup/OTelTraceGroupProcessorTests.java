@@ -17,6 +17,7 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.OpenSearchException;
+import org.opensearch.action.ActionListener;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.RequestOptions;
@@ -36,25 +37,35 @@ import org.opensearch.search.SearchHits;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.StringJoiner;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import static org.awaitility.Awaitility.await;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -93,6 +104,7 @@ public class OTelTraceGroupProcessorTests {
 
     private OTelTraceGroupProcessor otelTraceGroupProcessor;
     private ExecutorService executorService;
+    private List<OTelTraceGroupProcessor> processorsWithCache;
 
     @Mock
     private ConnectionConfiguration connectionConfigurationMock;
@@ -153,11 +165,13 @@ public class OTelTraceGroupProcessorTests {
         when(testPluginSetting.getPipelineName()).thenReturn(TEST_PIPELINE_NAME);
         otelTraceGroupProcessor = new OTelTraceGroupProcessor(testPluginSetting);
         executorService = Executors.newFixedThreadPool(TEST_NUM_WORKERS);
+        processorsWithCache = new ArrayList<>();
     }
 
     @AfterEach
     public void tearDown() {
         otelTraceGroupProcessor.shutdown();
+        processorsWithCache.forEach(OTelTraceGroupProcessor::shutdown);
         connectionConfigurationMockedStatic.close();
         executorService.shutdown();
     }
@@ -209,6 +223,25 @@ public class OTelTraceGroupProcessorTests {
         checkMeasurementValue(OTelTraceGroupProcessor.RECORDS_OUT_MISSING_TRACE_GROUP, 1.0);
     }
 
+    @Test
+    public void testTraceGroupLookupIsReleasedWhenSearchThrowsError() throws IOException {
+        // Arrange
+        Record<Span> testRecord = buildSpanRecordFromJsonFile(TEST_RAW_SPAN_MISSING_TRACE_GROUP_JSON_FILE_1);
+        List<Record<Span>> testRecords = Collections.singletonList(testRecord);
+        when(restHighLevelClient.search(any(SearchRequest.class), any(RequestOptions.class)))
+                .thenThrow(new AssertionError("Error during search request"))
+                .thenReturn(testSearchResponse);
+
+        // Act
+        assertThrows(AssertionError.class, () -> otelTraceGroupProcessor.doExecute(testRecords));
+        List<Record<Span>> recordsOut = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> (List<Record<Span>>) otelTraceGroupProcessor.doExecute(testRecords));
+
+        // Assert
+        assertEquals(1, recordsOut.size());
+        assertEquals(TEST_TRACE_GROUP_1, extractTraceGroupFromRecord(recordsOut.get(0)));
+    }
+
     @Test
     public void testTraceGroupFillFailDueToNoHits() throws IOException {
         // Arrange
@@ -277,6 +310,134 @@ public class OTelTraceGroupProcessorTests {
         }
     }
 
+    @Test
+    public void testTraceGroupIsSearchedOncePerTraceIdWithCache() throws IOException {
+        // Arrange
+        final OTelTraceGroupProcessor processor = createProcessorWithCache(Collections.emptyMap());
+
+        // Act
+        final List<Record<Span>> firstRecordsOut = (List<Record<Span>>) processor.doExecute(
+                Collections.singletonList(buildSpanRecordFromJsonFile(TEST_RAW_SPAN_MISSING_TRACE_GROUP_JSON_FILE_1)));
+        final List<Record<Span>> secondRecordsOut = (List<Record<Span>>) processor.doExecute(
+                Collections.singletonList(buildSpanRecordFromJsonFile(TEST_RAW_SPAN_MISSING_TRACE_GROUP_JSON_FILE_1)));
+
+        // Assert
+        assertEquals(TEST_TRACE_GROUP_1, extractTraceGroupFromRecord(firstRecordsOut.get(0)));
+        assertEquals(TEST_TRACE_GROUP_1, extractTraceGroupFromRecord(secondRecordsOut.get(0)));
+        verify(restHighLevelClient, times(1)).search(any(SearchRequest.class), any(RequestOptions.class));
+        checkMeasurementValue(OTelTraceGroupProcessor.TRACE_GROUP_CACHE_HITS, 1.0);
+        checkMeasurementValue(OTelTraceGroupProcessor.TRACE_GROUP_CACHE_MISSES, 1.0);
+    }
+
+    @Test
+    public void testTraceIdWithoutTraceGroupIsNegativelyCached() throws IOException {
+        // Arrange
+        when(testSearchHits.getHits()).thenReturn(new SearchHit[] {});
+        final OTelTraceGroupProcessor processor = createProcessorWithCache(Collections.emptyMap());
+        final Record<Span> testRecord = buildSpanRecordFromJsonFile(TEST_RAW_SPAN_MISSING_TRACE_GROUP_JSON_FILE_1);
+
+        // Act
+        processor.doExecute(Collections.singletonList(testRecord));
+        final List<Record<Span>> recordsOut = (List<Record<Span>>) processor.doExecute(Collections.singletonList(testRecord));
+
+        // Assert
+        assertEquals(testRecord, recordsOut.get(0));
+        verify(restHighLevelClient, times(1)).search(any(SearchRequest.class), any(RequestOptions.class));
+        checkMeasurementValue(OTelTraceGroupProcessor.RECORDS_OUT_MISSING_TRACE_GROUP, 2.0);
+    }
+
+    @Test
+    public void testFailedSearchIsNotCached() throws IOException {
+        // Arrange
+        when(restHighLevelClient.search(any(SearchRequest.class), any(RequestOptions.class)))
+                .thenThrow(new OpenSearchException("Failure due to search request"))
+                .thenReturn(testSearchResponse);
+        final OTelTraceGroupProcessor processor = createProcessorWithCache(Collections.emptyMap());
+
+        // Act
+        processor.doExecute(Collections.singletonList(buildSpanRecordFromJsonFile(TEST_RAW_SPAN_MISSING_TRACE_GROUP_JSON_FILE_1)));
+        final List<Record<Span>> recordsOut = (List<Record<Span>>) processor.doExecute(
+                Collections.singletonList(buildSpanRecordFromJsonFile(TEST_RAW_SPAN_MISSING_TRACE_GROUP_JSON_FILE_1)));
+
+        // Assert
+        assertEquals(TEST_TRACE_GROUP_1, extractTraceGroupFromRecord(recordsOut.get(0)));
+        verify(restHighLevelClient, times(2)).search(any(SearchRequest.class), any(RequestOptions.class));
+    }
+
+    @Test
+    public void testConcurrentLookupsOfTraceIdShareOneSearch() throws Exception {
+        // Arrange
+        final CountDownLatch searchStarted = new CountDownLatch(1);
+        final CountDownLatch searchReleased = new CountDownLatch(1);
+        when(restHighLevelClient.search(any(SearchRequest.class), any(RequestOptions.class))).thenAnswer(invocation -> {
+            searchStarted.countDown();
+            searchReleased.await();
+            return testSearchResponse;
+        });
+        final OTelTraceGroupProcessor processor = createProcessorWithCache(Collections.emptyMap());
+        final Record<Span> testRecord1 = buildSpanRecordFromJsonFile(TEST_RAW_SPAN_MISSING_TRACE_GROUP_JSON_FILE_1);
+        final Record<Span> testRecord2 = buildSpanRecordFromJsonFile(TEST_RAW_SPAN_MISSING_TRACE_GROUP_JSON_FILE_1);
+
+        // Act
+        final Future<Collection<Record<Span>>> firstFuture = executorService.submit(() -> processor.doExecute(Collections.singletonList(testRecord1)));
+        assertTrue(searchStarted.await(5, TimeUnit.SECONDS));
+        final Future<Collection<Record<Span>>> secondFuture = executorService.submit(() -> processor.doExecute(Collections.singletonList(testRecord2)));
+        // The second worker counts a miss once it waits for the search of the first worker
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> checkMeasurementValue(OTelTraceGroupProcessor.TRACE_GROUP_CACHE_MISSES, 2.0));
+        searchReleased.countDown();
+
+        // Assert
+        assertEquals(TEST_TRACE_GROUP_1, extractTraceGroupFromRecord(firstFuture.get(5, TimeUnit.SECONDS).iterator().next()));
+        assertEquals(TEST_TRACE_GROUP_1, extractTraceGroupFromRecord(secondFuture.get(5, TimeUnit.SECONDS).iterator().next()));
+        verify(restHighLevelClient, times(1)).search(any(SearchRequest.class), any(RequestOptions.class));
+    }
+
+    @Test
+    public void testAsyncLookupReturnsSpansWithoutWaitingAndFillsThemOnceCached() throws IOException {
+        // Arrange
+        final List<ActionListener<SearchResponse>> searchListeners = new ArrayList<>();
+        doAnswer(invocation -> {
+            searchListeners.add(invocation.getArgument(2));
+            return null;
+        }).when(restHighLevelClient).searchAsync(any(SearchRequest.class), any(RequestOptions.class), any());
+        final OTelTraceGroupProcessor processor = createProcessorWithCache(
+                Collections.singletonMap(OTelTraceGroupProcessorConfig.ASYNC_LOOKUP, true));
+        final Record<Span> testRecord = buildSpanRecordFromJsonFile(TEST_RAW_SPAN_MISSING_TRACE_GROUP_JSON_FILE_1);
+
+        // Act
+        final List<Record<Span>> firstRecordsOut = (List<Record<Span>>) processor.doExecute(Collections.singletonList(testRecord));
+        assertEquals(1, searchListeners.size());
+        searchListeners.get(0).onResponse(testSearchResponse);
+        final List<Record<Span>> secondRecordsOut = (List<Record<Span>>) processor.doExecute(
+                Collections.singletonList(buildSpanRecordFromJsonFile(TEST_RAW_SPAN_MISSING_TRACE_GROUP_JSON_FILE_1)));
+
+        // Assert
+        assertEquals(testRecord, firstRecordsOut.get(0));
+        assertNull(firstRecordsOut.get(0).getData().getTraceGroup());
+        assertEquals(TEST_TRACE_GROUP_1, extractTraceGroupFromRecord(secondRecordsOut.get(0)));
+        assertEquals(1, searchListeners.size());
+        verify(restHighLevelClient, never()).search(any(SearchRequest.class), any(RequestOptions.class));
+    }
+
+    @Test
+    public void testProcessorsWithSameSettingsShareCacheAndOthersDoNot() throws IOException {
+        // Arrange
+        final OTelTraceGroupProcessor processor = createProcessorWithCache(Collections.emptyMap());
+        final OTelTraceGroupProcessor otherWorker = createProcessorWithCache(Collections.emptyMap());
+        final OTelTraceGroupProcessor processorWithOtherSettings = createProcessorWithCache(
+                Collections.singletonMap(OTelTraceGroupProcessorConfig.CACHE_TTL, 60));
+
+        // Act
+        processor.doExecute(Collections.singletonList(buildSpanRecordFromJsonFile(TEST_RAW_SPAN_MISSING_TRACE_GROUP_JSON_FILE_1)));
+        otherWorker.doExecute(Collections.singletonList(buildSpanRecordFromJsonFile(TEST_RAW_SPAN_MISSING_TRACE_GROUP_JSON_FILE_1)));
+        verify(restHighLevelClient, times(1)).search(any(SearchRequest.class), any(RequestOptions.class));
+        processorWithOtherSettings.doExecute(Collections.singletonList(buildSpanRecordFromJsonFile(TEST_RAW_SPAN_MISSING_TRACE_GROUP_JSON_FILE_1)));
+
+        // Assert
+        verify(restHighLevelClient, times(2)).search(any(SearchRequest.class), any(RequestOptions.class));
+    }
+
     @Test
     public void testPrepareForShutdown() {
         otelTraceGroupProcessor.prepareForShutdown();
@@ -284,6 +445,19 @@ public class OTelTraceGroupProcessorTests {
         assertTrue(otelTraceGroupProcessor.isReadyForShutdown());
     }
 
+    private OTelTraceGroupProcessor createProcessorWithCache(final Map<String, Object> additionalSettings) {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(OTelTraceGroupProcessorConfig.CACHE_MAX_SIZE, 100);
+        settings.put(OTelTraceGroupProcessorConfig.CACHE_TTL, 300);
+        settings.put(OTelTraceGroupProcessorConfig.NEGATIVE_CACHE_TTL, 300);
+        settings.putAll(additionalSettings);
+        final PluginSetting pluginSetting = new PluginSetting(PLUGIN_NAME, settings);
+        pluginSetting.setPipelineName(TEST_PIPELINE_NAME);
+        final OTelTraceGroupProcessor processor = new OTelTraceGroupProcessor(pluginSetting);
+        processorsWithCache.add(processor);
+        return processor;
+    }
+
     private Record<Span> buildSpanRecordFromJsonFile(final String jsonFileName) throws IOException {
         JacksonSpan.Builder spanBuilder = JacksonSpan.builder();
         try (final InputStream inputStream = Objects.requireNonNull(
@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltracegroup;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
+import org.opensearch.dataprepper.plugins.processor.oteltracegroup.model.TraceGroup;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+class TraceGroupCacheTest {
+    private static final String TRACE_ID_1 = UUID.randomUUID().toString();
+    private static final String TRACE_ID_2 = UUID.randomUUID().toString();
+    private static final TraceGroup TRACE_GROUP = new TraceGroup.TraceGroupBuilder()
+            .setTraceGroup("/test_trace_group")
+            .setTraceGroupFields(DefaultTraceGroupFields.builder()
+                    .withEndTime("2020-08-19T05:30:46.089556800Z")
+                    .withStatusCode(1)
+                    .withDurationInNanos(48545100L)
+                    .build())
+            .build();
+
+    private TraceGroupCache createObjectUnderTest() {
+        return new TraceGroupCache(100, Duration.ofMinutes(5), Duration.ofMinutes(1));
+    }
+
+    @Test
+    void lookup_claims_uncached_trace_ids() {
+        final TraceGroupCache.Lookup lookup = createObjectUnderTest().lookup(Arrays.asList(TRACE_ID_1, TRACE_ID_2));
+
+        assertThat(lookup.getTraceIdsToLoad(), contains(TRACE_ID_1, TRACE_ID_2));
+        assertThat(lookup.getCacheHits(), equalTo(0));
+        assertThat(lookup.getCacheMisses(), equalTo(2));
+        assertThat(lookup.availableTraceGroups(), anEmptyMap());
+    }
+
+    @Test
+    void completed_lookups_are_served_from_cache() {
+        final TraceGroupCache objectUnderTest = createObjectUnderTest();
+        final TraceGroupCache.Lookup firstLookup = objectUnderTest.lookup(Arrays.asList(TRACE_ID_1, TRACE_ID_2));
+        objectUnderTest.complete(firstLookup.getTraceIdsToLoad(), Collections.singletonMap(TRACE_ID_1, TRACE_GROUP));
+
+        assertThat(firstLookup.awaitTraceGroups(), equalTo(Collections.singletonMap(TRACE_ID_1, TRACE_GROUP)));
+
+        final TraceGroupCache.Lookup secondLookup = objectUnderTest.lookup(Arrays.asList(TRACE_ID_1, TRACE_ID_2));
+        assertThat(secondLookup.getTraceIdsToLoad(), empty());
+        assertThat(secondLookup.getCacheHits(), equalTo(2));
+        assertThat(secondLookup.availableTraceGroups(), equalTo(Collections.singletonMap(TRACE_ID_1, TRACE_GROUP)));
+        assertThat(objectUnderTest.size(), equalTo(2L));
+    }
+
+    @Test
+    void concurrent_lookups_of_the_same_trace_id_are_coalesced() {
+        final TraceGroupCache objectUnderTest = createObjectUnderTest();
+        final TraceGroupCache.Lookup firstLookup = objectUnderTest.lookup(Collections.singletonList(TRACE_ID_1));
+        final TraceGroupCache.Lookup secondLookup = objectUnderTest.lookup(Collections.singletonList(TRACE_ID_1));
+
+        assertThat(firstLookup.getTraceIdsToLoad(), contains(TRACE_ID_1));
+        assertThat(secondLookup.getTraceIdsToLoad(), empty());
+        assertThat(secondLookup.getCacheMisses(), equalTo(1));
+
+        objectUnderTest.complete(firstLookup.getTraceIdsToLoad(), Collections.singletonMap(TRACE_ID_1, TRACE_GROUP));
+
+        final Map<String, TraceGroup> traceGroups = secondLookup.awaitTraceGroups();
+        assertThat(traceGroups, equalTo(Collections.singletonMap(TRACE_ID_1, TRACE_GROUP)));
+    }
+
+    @Test
+    void failed_lookups_are_not_cached() {
+        final TraceGroupCache objectUnderTest = createObjectUnderTest();
+        final TraceGroupCache.Lookup firstLookup = objectUnderTest.lookup(Collections.singletonList(TRACE_ID_1));
+
+        objectUnderTest.fail(firstLookup.getTraceIdsToLoad());
+
+        assertThat(firstLookup.awaitTraceGroups(), anEmptyMap());
+        assertThat(objectUnderTest.size(), equalTo(0L));
+        assertThat(objectUnderTest.lookup(Collections.singletonList(TRACE_ID_1)).getTraceIdsToLoad(), contains(TRACE_ID_1));
+    }
+
+    @Test
+    void negative_cache_entries_expire_independently() {
+        final TraceGroupCache objectUnderTest = new TraceGroupCache(100, Duration.ofMinutes(5), Duration.ZERO);
+        final TraceGroupCache.Lookup firstLookup = objectUnderTest.lookup(Collections.singletonList(TRACE_ID_1));
+        objectUnderTest.complete(firstLookup.getTraceIdsToLoad(), Collections.emptyMap());
+
+        assertThat(objectUnderTest.lookup(Collections.singletonList(TRACE_ID_1)).getTraceIdsToLoad(), contains(TRACE_ID_1));
+    }
+}
@@ -9,22 +9,17 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
-import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.event.InvalidJsonException;
+import org.opensearch.dataprepper.model.event.JsonParseOptions;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 
 import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
@@ -36,6 +31,11 @@ public class ParseJsonProcessor extends AbstractProcessor<Record<Event>, Record<
     private final String source;
     private final String destination;
     private final String pointer;
+    private final boolean doWriteToRoot;
+    private final JsonParseOptions jsonParseOptions;
+    private final JsonParseOptions pointerJsonParseOptions;
+    private final String trimmedPointer;
+    private final String endOfPointer;
 
     @DataPrepperPluginConstructor
     public ParseJsonProcessor(final PluginMetrics pluginMetrics, final ParseJsonProcessorConfig parseJsonProcessorConfig) {
@@ -44,31 +44,40 @@ public class ParseJsonProcessor extends AbstractProcessor<Record<Event>, Record<
         source = parseJsonProcessorConfig.getSource();
         destination = parseJsonProcessorConfig.getDestination();
         pointer = parseJsonProcessorConfig.getPointer();
+        doWriteToRoot = Objects.isNull(destination);
+
+        final JsonParseOptions.Builder jsonParseOptionsBuilder = JsonParseOptions.builder()
+                .withMaxDepth(parseJsonProcessorConfig.getMaxDepth());
+        if (parseJsonProcessorConfig.getMaxLength() != null) {
+            jsonParseOptionsBuilder.withMaxLength(parseJsonProcessorConfig.getMaxLength());
+        }
+        jsonParseOptions = jsonParseOptionsBuilder.build();
+
+        if (Objects.nonNull(pointer)) {
+            trimmedPointer = trimPointer(pointer);
+            endOfPointer = getEndOfPointer(trimmedPointer);
+            pointerJsonParseOptions = jsonParseOptionsBuilder.withPointer("/" + trimmedPointer).build();
+        } else {
+            trimmedPointer = null;
+            endOfPointer = null;
+            pointerJsonParseOptions = null;
+        }
     }
 
     @Override
     public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
-        final ObjectMapper objectMapper = new ObjectMapper();
-        final boolean doWriteToRoot = Objects.isNull(destination);
-        final boolean doUsePointer = Objects.nonNull(pointer);
-
         for (final Record<Event> record : records) {
             final Event event = record.getData();
             final String message = event.get(source, String.class);
+            if (message == null) {
+                continue;
+            }
             try {
-                final TypeReference<HashMap<String, Object>> hashMapTypeReference = new TypeReference<HashMap<String, Object>>() {};
-                Map<String, Object> parsedJson = objectMapper.readValue(message, hashMapTypeReference);
-
-                if (doUsePointer) {
-                    parsedJson = parseUsingPointer(event, parsedJson, pointer, doWriteToRoot);
-                }
-
-                if (doWriteToRoot) {
-                    writeToRoot(event, parsedJson);
-                } else {
-                    event.put(destination, parsedJson);
+                final boolean parsedUsingPointer = pointerJsonParseOptions != null && parseUsingPointer(event, message);
+                if (!parsedUsingPointer) {
+                    event.putJson(destination, message, jsonParseOptions);
                 }
-            } catch (final JsonProcessingException jsonException) {
+            } catch (final InvalidJsonException jsonException) {
                 LOG.error(EVENT, "An exception occurred due to invalid JSON while reading event [{}]", event, jsonException);
             }
         }
@@ -90,29 +99,21 @@ public class ParseJsonProcessor extends AbstractProcessor<Record<Event>, Record<
 
     }
 
-    private Map<String, Object> parseUsingPointer(final Event event, final Map<String, Object> parsedJson, final String pointer,
-                                                  final boolean doWriteToRoot) {
-        final Event temporaryEvent = JacksonEvent.builder().withEventType("event").build();
-        temporaryEvent.put(source, parsedJson);
-
-        final String trimmedPointer = trimPointer(pointer);
-        final String actualPointer = source + "/" + trimmedPointer;
+    /**
+     * Parses only the value at the pointer into the Event.
+     *
+     * @return false if the pointer is not found in the JSON, in which case the Event is unchanged
+     */
+    private boolean parseUsingPointer(final Event event, final String message) {
+        final boolean shouldUseEntirePointerAsKey = doWriteToRoot && event.containsKey(endOfPointer);
+        final String pointerKey = normalizePointerStructure(shouldUseEntirePointerAsKey ? trimmedPointer : endOfPointer);
+        final String key = doWriteToRoot ? pointerKey : destination + "/" + pointerKey;
 
-        final boolean pointerIsValid = temporaryEvent.containsKey(actualPointer);
+        final boolean pointerIsValid = event.putJson(key, message, pointerJsonParseOptions);
         if (!pointerIsValid) {
             LOG.error(EVENT, "Writing entire JSON because the pointer {} is invalid on Event {}", pointer, event);
-            return parsedJson;
-        }
-
-        final Object valueAtPointer = temporaryEvent.get(actualPointer, Object.class);
-        final String endOfPointer = getEndOfPointer(trimmedPointer);
-
-        final boolean shouldUseEntirePointerAsKey = event.containsKey(endOfPointer) && doWriteToRoot;
-        if (shouldUseEntirePointerAsKey) {
-            return Collections.singletonMap(normalizePointerStructure(trimmedPointer), valueAtPointer);
         }
-
-        return Collections.singletonMap(normalizePointerStructure(endOfPointer), valueAtPointer);
+        return pointerIsValid;
     }
 
     private String getEndOfPointer(final String trimmedPointer) {
@@ -142,10 +143,4 @@ public class ParseJsonProcessor extends AbstractProcessor<Record<Event>, Record<
         final String trimmedLeadingSlash = pointer.startsWith("/") ? pointer.substring(1) : pointer;
         return trimmedLeadingSlash.endsWith("/") ? trimmedLeadingSlash.substring(0, trimmedLeadingSlash.length() - 1) : trimmedLeadingSlash;
     }
-
-    private void writeToRoot(final Event event, final Map<String, Object> parsedJson) {
-        for (Map.Entry<String, Object> entry : parsedJson.entrySet()) {
-            event.put(entry.getKey(), entry.getValue());
-        }
-    }
 }
\ No newline at end of file
@@ -7,12 +7,15 @@ package org.opensearch.dataprepper.plugins.processor.parsejson;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import org.opensearch.dataprepper.model.event.JsonParseOptions;
 
 import java.util.Objects;
 
 public class ParseJsonProcessorConfig {
     static final String DEFAULT_SOURCE = "message";
+    static final int DEFAULT_MAX_DEPTH = JsonParseOptions.DEFAULT_MAX_DEPTH;
 
     @NotBlank
     @JsonProperty("source")
@@ -24,6 +27,14 @@ public class ParseJsonProcessorConfig {
     @JsonProperty("pointer")
     private String pointer;
 
+    @Min(1)
+    @JsonProperty("max_depth")
+    private int maxDepth = DEFAULT_MAX_DEPTH;
+
+    @Min(1)
+    @JsonProperty("max_length")
+    private Integer maxLength;
+
     /**
      * The field of the Event that contains the JSON data.
      *
@@ -55,6 +66,24 @@ public class ParseJsonProcessorConfig {
         return pointer;
     }
 
+    /**
+     * The maximum nesting depth of objects and arrays in the JSON. JSON which is nested deeper is not parsed.
+     *
+     * @return The maximum depth.
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * The maximum length in characters of the JSON. Longer JSON is not parsed. There is no maximum length by default.
+     *
+     * @return The maximum length, or null if there is no maximum length.
+     */
+    public Integer getMaxLength() {
+        return maxLength;
+    }
+
     @AssertTrue(message = "destination cannot be empty, whitespace, or a front slash (/)")
     boolean isValidDestination() {
         if (Objects.isNull(destination)) return true;
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.opensearch.dataprepper.plugins.processor.parsejson.ParseJsonProcessorConfig.DEFAULT_MAX_DEPTH;
 import static org.opensearch.dataprepper.plugins.processor.parsejson.ParseJsonProcessorConfig.DEFAULT_SOURCE;
 import static org.opensearch.dataprepper.test.helper.ReflectivelySetField.setField;
 
@@ -26,6 +27,8 @@ public class ParseJsonProcessorConfigTest {
         assertThat(objectUnderTest.getSource(), equalTo(DEFAULT_SOURCE));
         assertThat(objectUnderTest.getDestination(), equalTo(null));
         assertThat(objectUnderTest.getPointer(), equalTo(null));
+        assertThat(objectUnderTest.getMaxDepth(), equalTo(DEFAULT_MAX_DEPTH));
+        assertThat(objectUnderTest.getMaxLength(), equalTo(null));
     }
 
     @Nested
@@ -45,6 +45,7 @@ class ParseJsonProcessorTest {
         when(processorConfig.getSource()).thenReturn(defaultConfig.getSource());
         when(processorConfig.getDestination()).thenReturn(defaultConfig.getDestination());
         when(processorConfig.getPointer()).thenReturn(defaultConfig.getPointer());
+        when(processorConfig.getMaxDepth()).thenReturn(defaultConfig.getMaxDepth());
 
         parseJsonProcessor = createObjectUnderTest();
     }
@@ -244,6 +245,67 @@ class ParseJsonProcessorTest {
 
 
 
+    @Test
+    void test_when_nestedDestinationAndPointer_then_keepsOtherFieldsOfDestination() {
+        final String destination = "destination";
+        when(processorConfig.getDestination()).thenReturn(destination);
+        when(processorConfig.getPointer()).thenReturn("/key/inner");
+        parseJsonProcessor = createObjectUnderTest();
+
+        final Map<String, Object> eventData = new HashMap<>();
+        eventData.put(processorConfig.getSource(), "{\"key\":{\"inner\":\"value\",\"other\":\"skipped\"}}");
+        eventData.put(destination, Collections.singletonMap("existing", "kept"));
+        final Record<Event> record = buildRecordWithEvent(eventData);
+
+        final Event parsedEvent = parseJsonProcessor.doExecute(Collections.singletonList(record)).iterator().next().getData();
+
+        assertThatKeyEquals(parsedEvent, destination + "/inner", "value");
+        assertThatKeyEquals(parsedEvent, destination + "/existing", "kept");
+        assertThat(parsedEvent.containsKey(destination + "/other"), equalTo(false));
+    }
+
+    @Test
+    void test_when_deeperThanMaxDepth_then_notParsed() {
+        when(processorConfig.getMaxDepth()).thenReturn(10);
+        parseJsonProcessor = createObjectUnderTest();
+
+        final String serializedMessage = convertMapToJSONString(constructArbitrarilyDeepJsonMap(10));
+        final Event parsedEvent = createAndParseMessageEvent(serializedMessage);
+
+        assertThatKeyEquals(parsedEvent, processorConfig.getSource(), serializedMessage);
+        assertThat(parsedEvent.toMap().size(), equalTo(1));
+    }
+
+    @Test
+    void test_when_longerThanMaxLength_then_notParsed() {
+        when(processorConfig.getMaxLength()).thenReturn(10);
+        parseJsonProcessor = createObjectUnderTest();
+
+        final String serializedMessage = "{\"key\":\"value\"}";
+        final Event parsedEvent = createAndParseMessageEvent(serializedMessage);
+
+        assertThatKeyEquals(parsedEvent, processorConfig.getSource(), serializedMessage);
+        assertThat(parsedEvent.toMap().size(), equalTo(1));
+    }
+
+    @Test
+    void test_when_sourceIsMissing_then_eventIsUnchanged() {
+        final Record<Event> record = buildRecordWithEvent(Collections.singletonMap("key", "value"));
+
+        final Event parsedEvent = parseJsonProcessor.doExecute(Collections.singletonList(record)).iterator().next().getData();
+
+        assertThat(parsedEvent.toMap(), equalTo(Collections.singletonMap("key", "value")));
+    }
+
+    @Test
+    void test_when_jsonIsNotAnObject_then_notParsed() {
+        final String serializedMessage = "[1,2]";
+        final Event parsedEvent = createAndParseMessageEvent(serializedMessage);
+
+        assertThatKeyEquals(parsedEvent, processorConfig.getSource(), serializedMessage);
+        assertThat(parsedEvent.toMap().size(), equalTo(1));
+    }
+
     @Test
     void test_when_multipleChildren_then_allAreParsedOut() {
         final Map<String, Object> data = Collections.singletonMap("key", "{inner1:value1,inner2:value2}");
@@ -0,0 +1,203 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remembers which service map relationships have already been emitted, keyed by their 64-bit fingerprint.
+ * <p>
+ * Fingerprints are kept in two generations of primitive open-addressing tables. The generations rotate every
+ * time-to-live, so a fingerprint is forgotten between one and two time-to-lives after it was first recorded and
+ * the relationship will be emitted again the next time it is seen. This bounds the memory held for
+ * high-cardinality trace group names to the relationships seen within the last two time-to-lives.
+ */
+class RelationshipFingerprintCache {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final Clock clock;
+    private final long ttlMillis;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private LongHashSet currentGeneration;
+    private LongHashSet previousGeneration;
+    private long generationStartMillis;
+
+    RelationshipFingerprintCache(final Duration ttl, final Clock clock) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Relationship TTL must be positive.");
+        }
+        this.clock = clock;
+        this.ttlMillis = ttl.toMillis();
+        this.currentGeneration = new LongHashSet(INITIAL_CAPACITY);
+        this.previousGeneration = new LongHashSet(INITIAL_CAPACITY);
+        this.generationStartMillis = clock.millis();
+    }
+
+    /**
+     * Records the fingerprint if it has not been seen within the time-to-live.
+     *
+     * @param fingerprint 64-bit relationship fingerprint
+     * @return true if the fingerprint was not already present and was recorded, false otherwise
+     */
+    boolean add(final long fingerprint) {
+        return add(fingerprint, () -> { });
+    }
+
+    /**
+     * Runs an action for a fingerprint not seen within the time-to-live, and records the fingerprint once the action
+     * completes. If the action throws, the fingerprint is not recorded, so a later occurrence runs the action again.
+     *
+     * @param fingerprint 64-bit relationship fingerprint
+     * @param onFirstOccurrence action to run if the fingerprint is not already present
+     * @return true if the fingerprint was not already present and was recorded, false otherwise
+     */
+    synchronized boolean add(final long fingerprint, final Runnable onFirstOccurrence) {
+        rotateIfExpired();
+        if (currentGeneration.contains(fingerprint) || previousGeneration.contains(fingerprint)) {
+            hits.incrementAndGet();
+            return false;
+        }
+        misses.incrementAndGet();
+        onFirstOccurrence.run();
+        currentGeneration.add(fingerprint);
+        return true;
+    }
+
+    synchronized boolean contains(final long fingerprint) {
+        rotateIfExpired();
+        return currentGeneration.contains(fingerprint) || previousGeneration.contains(fingerprint);
+    }
+
+    /**
+     * @return Number of fingerprints currently held
+     */
+    synchronized int size() {
+        return currentGeneration.size() + previousGeneration.size();
+    }
+
+    /**
+     * @return Bytes allocated for the fingerprint tables
+     */
+    synchronized long sizeInBytes() {
+        return currentGeneration.sizeInBytes() + previousGeneration.sizeInBytes();
+    }
+
+    /**
+     * @return Ratio of lookups that found an already emitted relationship, or 0 if there were no lookups
+     */
+    double hitRate() {
+        final long currentHits = hits.get();
+        final long total = currentHits + misses.get();
+        return total == 0 ? 0.0 : (double) currentHits / total;
+    }
+
+    private void rotateIfExpired() {
+        final long now = clock.millis();
+        if (now - generationStartMillis < ttlMillis) {
+            return;
+        }
+        if (now - generationStartMillis >= 2 * ttlMillis) {
+            previousGeneration = new LongHashSet(INITIAL_CAPACITY);
+        } else {
+            previousGeneration = currentGeneration;
+        }
+        currentGeneration = new LongHashSet(INITIAL_CAPACITY);
+        generationStartMillis = now;
+    }
+
+    /**
+     * Open-addressing set of longs with linear probing. Zero marks an empty slot, so a zero fingerprint
+     * is tracked by a separate flag.
+     */
+    private static class LongHashSet {
+        private static final long EMPTY = 0L;
+
+        private long[] table;
+        private int mask;
+        private int size;
+        private boolean containsEmptyKey;
+
+        LongHashSet(final int capacity) {
+            table = new long[capacity];
+            mask = capacity - 1;
+        }
+
+        boolean contains(final long key) {
+            if (key == EMPTY) {
+                return containsEmptyKey;
+            }
+            int index = indexFor(key);
+            while (table[index] != EMPTY) {
+                if (table[index] == key) {
+                    return true;
+                }
+                index = (index + 1) & mask;
+            }
+            return false;
+        }
+
+        void add(final long key) {
+            if (key == EMPTY) {
+                if (!containsEmptyKey) {
+                    containsEmptyKey = true;
+                    size++;
+                }
+                return;
+            }
+            if (insert(table, mask, key)) {
+                size++;
+                if (size * 2 > table.length) {
+                    resize();
+                }
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        long sizeInBytes() {
+            return (long) table.length * Long.BYTES;
+        }
+
+        private int indexFor(final long key) {
+            return indexFor(key, mask);
+        }
+
+        private void resize() {
+            final long[] newTable = new long[table.length * 2];
+            final int newMask = newTable.length - 1;
+            for (final long key : table) {
+                if (key != EMPTY) {
+                    insert(newTable, newMask, key);
+                }
+            }
+            table = newTable;
+            mask = newMask;
+        }
+
+        private static boolean insert(final long[] table, final int mask, final long key) {
+            int index = indexFor(key, mask);
+            while (table[index] != EMPTY) {
+                if (table[index] == key) {
+                    return false;
+                }
+                index = (index + 1) & mask;
+            }
+            table[index] = key;
+            return true;
+        }
+
+        private static int indexFor(final long key, final int mask) {
+            final long mixed = key * 0x9E3779B97F4A7C15L;
+            return (int) (mixed ^ (mixed >>> 32)) & mask;
+        }
+    }
+}
@@ -9,4 +9,6 @@ public class ServiceMapProcessorConfig {
     static final String WINDOW_DURATION = "window_duration";
     static final int DEFAULT_WINDOW_DURATION = 180;
     static final String DEFAULT_DB_PATH = "data/service-map/";
+    static final String RELATIONSHIP_TTL = "relationship_ttl";
+    static final int DEFAULT_RELATIONSHIP_TTL = 86_400;
 }
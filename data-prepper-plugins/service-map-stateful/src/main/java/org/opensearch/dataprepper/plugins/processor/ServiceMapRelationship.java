@@ -8,6 +8,7 @@ package org.opensearch.dataprepper.plugins.processor;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
@@ -120,6 +121,13 @@ public class ServiceMapRelationship {
         return hashId;
     }
 
+    /**
+     * @return 64-bit fingerprint of this relationship, taken from the leading bytes of its hash id
+     */
+    long fingerprint() {
+        return ByteBuffer.wrap(Base64.getDecoder().decode(hashId)).getLong();
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
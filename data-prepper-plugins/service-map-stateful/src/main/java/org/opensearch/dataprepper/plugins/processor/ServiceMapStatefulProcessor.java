@@ -27,6 +27,7 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.Serializable;
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -48,6 +49,8 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
     static final String SPANS_DB_COUNT = "spansDbCount";
     static final String TRACE_GROUP_DB_COUNT = "traceGroupDbCount";
     static final String RELATIONSHIP_COUNT = "relationshipCount";
+    static final String RELATIONSHIP_STATE_BYTES = "relationshipStateBytes";
+    static final String RELATIONSHIP_STATE_HIT_RATE = "relationshipStateHitRate";
 
     private static final Logger LOG = LoggerFactory.getLogger(ServiceMapStatefulProcessor.class);
     private static final String EMPTY_SUFFIX = "-empty";
@@ -68,8 +71,7 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
     private static volatile MapDbProcessorState<String> currentTraceGroupWindow;
     private static volatile Set<ServiceNodeData> previousIsolatedServiceNodes;
     private static volatile Set<ServiceNodeData> currentIsolatedServiceNodes;
-    //TODO: Consider keeping this state in a db
-    private static final Set<ServiceMapRelationship> RELATIONSHIP_STATE = Sets.newConcurrentHashSet();
+    private static volatile RelationshipFingerprintCache relationshipState;
     private static File dbPath;
     private static Clock clock;
 
@@ -80,6 +82,7 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
                 new File(ServiceMapProcessorConfig.DEFAULT_DB_PATH),
                 Clock.systemUTC(),
                 pluginSetting.getNumberOfProcessWorkers(),
+                Duration.ofSeconds(pluginSetting.getIntegerOrDefault(ServiceMapProcessorConfig.RELATIONSHIP_TTL, ServiceMapProcessorConfig.DEFAULT_RELATIONSHIP_TTL)),
                 pluginSetting);
     }
 
@@ -88,6 +91,16 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
                                        final Clock clock,
                                        final int processWorkers,
                                        final PluginSetting pluginSetting) {
+        this(windowDurationMillis, databasePath, clock, processWorkers,
+                Duration.ofSeconds(ServiceMapProcessorConfig.DEFAULT_RELATIONSHIP_TTL), pluginSetting);
+    }
+
+    public ServiceMapStatefulProcessor(final long windowDurationMillis,
+                                       final File databasePath,
+                                       final Clock clock,
+                                       final int processWorkers,
+                                       final Duration relationshipTtl,
+                                       final PluginSetting pluginSetting) {
         super(pluginSetting);
 
         ServiceMapStatefulProcessor.clock = clock;
@@ -104,6 +117,7 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
             previousTraceGroupWindow = new MapDbProcessorState<>(dbPath, getNewTraceDbName() + EMPTY_SUFFIX, processWorkers);
             currentIsolatedServiceNodes = Sets.newConcurrentHashSet();
             previousIsolatedServiceNodes = Sets.newConcurrentHashSet();
+            relationshipState = new RelationshipFingerprintCache(relationshipTtl, clock);
 
             allThreadsCyclicBarrier = new CyclicBarrier(processWorkers);
         }
@@ -113,6 +127,8 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
         pluginMetrics.gauge(SPANS_DB_COUNT, this, serviceMapStateful -> serviceMapStateful.getSpansDbCount());
         pluginMetrics.gauge(TRACE_GROUP_DB_COUNT, this, serviceMapStateful -> serviceMapStateful.getTraceGroupDbCount());
         pluginMetrics.gauge(RELATIONSHIP_COUNT, this, serviceMapStateful -> serviceMapStateful.getRelationshipCount());
+        pluginMetrics.gauge(RELATIONSHIP_STATE_BYTES, this, serviceMapStateful -> serviceMapStateful.getRelationshipStateBytes());
+        pluginMetrics.gauge(RELATIONSHIP_STATE_HIT_RATE, this, serviceMapStateful -> serviceMapStateful.getRelationshipStateHitRate());
     }
 
     /**
@@ -262,18 +278,17 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
 
     private void addServiceMapRelationship(
             final Collection<Record<Event>> serviceDependencyRecords, final ServiceMapRelationship serviceMapRelationship) {
-        if (!RELATIONSHIP_STATE.contains(serviceMapRelationship)) {
+        relationshipState.add(serviceMapRelationship.fingerprint(), () -> {
             try {
                 final Event destinationRelationshipEvent = JacksonEvent.builder()
                         .withEventType(EVENT_TYPE)
                         .withData(serviceMapRelationship)
                         .build();
                 serviceDependencyRecords.add(new Record<>(destinationRelationshipEvent));
-                RELATIONSHIP_STATE.add(serviceMapRelationship);
             } catch (Exception e) {
                 throw new RuntimeException(e);
             }
-        }
+        });
     }
 
     /**
@@ -374,7 +389,18 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
         return currentTraceGroupWindow.size() + previousTraceGroupWindow.size();
     }
     public double getRelationshipCount() {
-        return RELATIONSHIP_STATE.size();
+        return relationshipState.size();
+    }
+
+    /**
+     * @return Relationship deduplication state size in bytes
+     */
+    public double getRelationshipStateBytes() {
+        return relationshipState.sizeInBytes();
+    }
+
+    public double getRelationshipStateHitRate() {
+        return relationshipState.hitRate();
     }
 
     /**
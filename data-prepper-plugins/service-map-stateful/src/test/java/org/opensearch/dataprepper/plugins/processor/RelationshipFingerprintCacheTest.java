@@ -0,0 +1,115 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RelationshipFingerprintCacheTest {
+    private static final Duration TTL = Duration.ofMillis(1000);
+
+    @Mock
+    private Clock clock;
+
+    private RelationshipFingerprintCache createObjectUnderTest() {
+        when(clock.millis()).thenReturn(0L);
+        return new RelationshipFingerprintCache(TTL, clock);
+    }
+
+    @Test
+    void constructor_throws_for_non_positive_ttl() {
+        assertThrows(IllegalArgumentException.class, () -> new RelationshipFingerprintCache(Duration.ZERO, clock));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 1L, -1L, Long.MIN_VALUE, Long.MAX_VALUE})
+    void add_returns_true_only_for_first_occurrence(final long fingerprint) {
+        final RelationshipFingerprintCache objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.add(fingerprint), equalTo(true));
+        assertThat(objectUnderTest.add(fingerprint), equalTo(false));
+        assertThat(objectUnderTest.contains(fingerprint), equalTo(true));
+        assertThat(objectUnderTest.size(), equalTo(1));
+        assertThat(objectUnderTest.hitRate(), equalTo(0.5));
+    }
+
+    @Test
+    void add_with_action_records_fingerprint_only_after_action_completes() {
+        final RelationshipFingerprintCache objectUnderTest = createObjectUnderTest();
+        final AtomicInteger actionCount = new AtomicInteger();
+
+        assertThrows(RuntimeException.class, () -> objectUnderTest.add(1L, () -> {
+            throw new RuntimeException("failed to build relationship");
+        }));
+        assertThat(objectUnderTest.contains(1L), equalTo(false));
+
+        assertThat(objectUnderTest.add(1L, actionCount::incrementAndGet), equalTo(true));
+        assertThat(objectUnderTest.add(1L, actionCount::incrementAndGet), equalTo(false));
+        assertThat(objectUnderTest.contains(1L), equalTo(true));
+        assertThat(actionCount.get(), equalTo(1));
+    }
+
+    @Test
+    void add_retains_many_fingerprints_across_resizes() {
+        final RelationshipFingerprintCache objectUnderTest = createObjectUnderTest();
+        final long initialSizeInBytes = objectUnderTest.sizeInBytes();
+        final long[] fingerprints = new Random(42).longs(10_000).toArray();
+
+        for (final long fingerprint : fingerprints) {
+            objectUnderTest.add(fingerprint);
+        }
+
+        for (final long fingerprint : fingerprints) {
+            assertThat(objectUnderTest.contains(fingerprint), equalTo(true));
+        }
+        assertThat(objectUnderTest.size(), equalTo(fingerprints.length));
+        assertThat(objectUnderTest.sizeInBytes(), greaterThan(initialSizeInBytes));
+    }
+
+    @Test
+    void fingerprints_expire_after_two_ttls() {
+        final RelationshipFingerprintCache objectUnderTest = createObjectUnderTest();
+        objectUnderTest.add(1L);
+
+        when(clock.millis()).thenReturn(TTL.toMillis());
+        assertThat(objectUnderTest.contains(1L), equalTo(true));
+
+        when(clock.millis()).thenReturn(2 * TTL.toMillis());
+        assertThat(objectUnderTest.contains(1L), equalTo(false));
+        assertThat(objectUnderTest.add(1L), equalTo(true));
+    }
+
+    @Test
+    void fingerprints_expire_when_no_lookups_happen_for_two_ttls() {
+        final RelationshipFingerprintCache objectUnderTest = createObjectUnderTest();
+        objectUnderTest.add(1L);
+
+        when(clock.millis()).thenReturn(3 * TTL.toMillis());
+        assertThat(objectUnderTest.contains(1L), equalTo(false));
+        assertThat(objectUnderTest.size(), equalTo(0));
+    }
+
+    @Test
+    void hitRate_is_zero_without_lookups() {
+        assertThat(createObjectUnderTest().hitRate(), equalTo(0.0));
+    }
+}
@@ -5,7 +5,6 @@
 
 package org.opensearch.dataprepper.plugins.processor;
 
-import com.google.common.collect.Sets;
 import io.micrometer.core.instrument.Measurement;
 import org.apache.commons.codec.binary.Hex;
 import org.junit.jupiter.api.Assertions;
@@ -65,7 +64,7 @@ public class ServiceMapStatefulProcessorTest {
     }
 
     public void resetServiceMapStatefulProcessorStatic() throws NoSuchFieldException, IllegalAccessException {
-        reflectivelySetField(ServiceMapStatefulProcessor.class, "RELATIONSHIP_STATE", Sets.newConcurrentHashSet());
+        reflectivelySetField(ServiceMapStatefulProcessor.class, "relationshipState", null);
         reflectivelySetField(ServiceMapStatefulProcessor.class, "processorsCreated", new AtomicInteger(0));
         reflectivelySetField(ServiceMapStatefulProcessor.class, "previousTimestamp", 0);
         reflectivelySetField(ServiceMapStatefulProcessor.class, "windowDurationMillis", 0);
@@ -291,6 +290,11 @@ public class ServiceMapStatefulProcessorTest {
         final Measurement relationshipCountMeasurement = relationshipCountMeasurementList.get(0);
         assertThat(relationshipCountMeasurement.getValue(), equalTo((double)relationshipsFound.size()));
 
+        final List<Measurement> relationshipStateBytesMeasurementList = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add("testPipelineName").add("testServiceMapProcessor")
+                        .add(ServiceMapStatefulProcessor.RELATIONSHIP_STATE_BYTES).toString());
+        assertThat(relationshipStateBytesMeasurementList.size(), equalTo(1));
+
 
         //Make sure that future relationships that are equivalent are caught by cache
         final byte[] rootSpanId3Bytes = ServiceMapTestUtils.getRandomBytes(8);